@@ -14,7 +14,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @SpringBootApplication
 public class BackTestApplication {
     public static void main(String[] args) {
-        SpringApplication.run(BackTestApplication.class);
+        SpringApplication.run(BackTestApplication.class, args);
         log.info("open your browser and visit http://localhost:9989/index.html");
     }
 
@@ -0,0 +1,101 @@
+package finance.universe.backtest.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * serving of the frontend bundle under classpath:/static.
+ * the .br / .gz variants written by the build are picked by Accept-Encoding, resolutions are cached.
+ * the content-hashed files listed in asset-manifest.json never change under their name and are cached for a year,
+ * index.html is revalidated on every load and the other files are cached for backtest.web.static-max-age-s.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String MANIFEST = "static/asset-manifest.json";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${backtest.web.static-max-age-s:3600}")
+    private long staticMaxAge;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/**")
+                .addResourceLocations("classpath:/static/")
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        Set<String> hashed = hashedAssets();
+        String other = "public, max-age=" + staticMaxAge;
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof ResourceHttpRequestHandler) {
+                    String path = request.getRequestURI().substring(request.getContextPath().length());
+                    String cacheControl = hashed.contains(path) ? IMMUTABLE : path.equals("/") || path.endsWith(".html") ? REVALIDATE : other;
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+                    // also on identity responses, so shared caches keep the encodings apart
+                    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                }
+                return true;
+            }
+        });
+    }
+
+    /**
+     * request paths of the files in asset-manifest.json, index.html excluded
+     */
+    private Set<String> hashedAssets() {
+        ClassPathResource manifest = new ClassPathResource(MANIFEST);
+        if (!manifest.exists()) {
+            return Collections.emptySet();
+        }
+        Set<String> paths = new HashSet<>();
+        try (InputStream in = manifest.getInputStream()) {
+            JsonNode files = objectMapper.readTree(in).path("files");
+            for (Iterator<JsonNode> it = files.elements(); it.hasNext(); ) {
+                String path = it.next().asText();
+                if (!path.endsWith(".html")) {
+                    paths.add(path);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("read {} failed, no asset is cached as immutable", MANIFEST, e);
+        }
+        log.info("static assets, hashed: {}", paths.size());
+        return paths;
+    }
+}
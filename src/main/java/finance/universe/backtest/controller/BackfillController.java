@@ -0,0 +1,62 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.BackfillService;
+import finance.universe.backtest.vo.BackfillParams;
+import finance.universe.backtest.vo.BackfillResult;
+import finance.universe.backtest.vo.JsonResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class BackfillController {
+    @Autowired
+    BackfillService backfillService;
+
+    /**
+     * queue a backfill, the job is returned at once and followed through GET /backfill/{id}
+     */
+    @PostMapping(value = {"/backfill"})
+    public JsonResult backfill(@RequestBody BackfillParams params) {
+        try {
+            BackfillResult result = backfillService.submit(params);
+            return JsonResult.success(result);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("backfill error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    @GetMapping(value = {"/backfill"})
+    public JsonResult list() {
+        try {
+            List<BackfillResult> results = backfillService.list();
+            return JsonResult.success(results);
+        } catch (Exception e) {
+            log.error("backfill list error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    @GetMapping(value = {"/backfill/{id}"})
+    public JsonResult status(@PathVariable String id) {
+        try {
+            BackfillResult result = backfillService.status(id);
+            return JsonResult.success(result);
+        } catch (IllegalArgumentException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("backfill status error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+}
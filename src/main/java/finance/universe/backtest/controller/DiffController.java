@@ -0,0 +1,76 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.AdmissionService;
+import finance.universe.backtest.service.DiffService;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.DiffResult;
+import finance.universe.backtest.vo.JsonResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * differential verification of the fast engine against the exact one
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class DiffController {
+    @Autowired
+    DiffService diffService;
+    @Autowired
+    AdmissionService admissionService;
+
+    /**
+     * run the params on the exact engine and on the alternative, report the first divergence
+     */
+    @PostMapping(value = {"/backtest/diff"})
+    public ResponseEntity<JsonResult> diff(@RequestBody BackTestTickParams params,
+                                           @RequestParam(required = false) String alternative,
+                                           @RequestParam(required = false) Double relTolerance,
+                                           @RequestParam(required = false) Double absTolerance,
+                                           HttpServletRequest request) {
+        try {
+            // both engines hold their window at the same time, the exact one dominates
+            long cost = 2 * admissionService.estimateCost(params);
+            AdmissionService.Permit permit = admissionService.acquire(IndexController.clientOf(request), cost);
+            try {
+                DiffResult result = diffService.diff(params, alternative, relTolerance, absTolerance);
+                return ResponseEntity.ok(JsonResult.success(result));
+            } finally {
+                permit.close();
+            }
+        } catch (AdmissionService.TooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(JsonResult.error(413, e.getMessage()));
+        } catch (AdmissionService.RejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(JsonResult.error(429, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(JsonResult.error(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("backtest diff error", e);
+            return ResponseEntity.ok(JsonResult.error(500, "Server Error!"));
+        }
+    }
+
+    /**
+     * counters of the sampled /backtest replays
+     */
+    @GetMapping(value = {"/backtest/diff/stats"})
+    public JsonResult stats() {
+        try {
+            return JsonResult.success(diffService.stats());
+        } catch (Exception e) {
+            log.error("backtest diff stats error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+}
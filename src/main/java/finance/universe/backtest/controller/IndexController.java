@@ -1,15 +1,23 @@
 package finance.universe.backtest.controller;
 
 import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.service.AdmissionService;
 import finance.universe.backtest.service.BackTestService;
+import finance.universe.backtest.service.DiffService;
+import finance.universe.backtest.service.ReportStore;
 import finance.universe.backtest.vo.BackTestTickParams;
 import finance.universe.backtest.vo.JsonResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.Map;
 
 /**
@@ -23,15 +31,52 @@ public class IndexController {
     BackTestService service;
     @Autowired
     PoolRepository repository;
+    @Autowired
+    AdmissionService admissionService;
+    @Autowired
+    DiffService diffService;
+    @Autowired
+    ReportStore reportStore;
 
+    /**
+     * back test, a repeat of stored params is answered from the report
+     */
     @PostMapping(value = {"/backtest"})
-    public JsonResult backtest(@RequestBody BackTestTickParams params) {
+    public ResponseEntity<JsonResult> backtest(@RequestBody BackTestTickParams params, HttpServletRequest request) {
+        Map<String, Object> stored = params.getPair() == null ? null : reportStore.find(params);
+        if (stored != null) {
+            return ResponseEntity.ok(JsonResult.success(stored));
+        }
         try {
-            Map<String, Object> result = service.doBackTest(params);
-            return JsonResult.success(result);
+            AdmissionService.Permit permit = admissionService.acquire(clientOf(request), admissionService.estimateCost(params));
+            try {
+                long ranAt = System.currentTimeMillis();
+                Map<String, Object> result = service.runBackTest(params);
+                reportStore.save(params, result, ranAt);
+                diffService.sample(params, result);
+                return ResponseEntity.ok(JsonResult.success(result));
+            } finally {
+                permit.close();
+            }
+        } catch (AdmissionService.TooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(JsonResult.error(413, e.getMessage()));
+        } catch (AdmissionService.RejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(JsonResult.error(429, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(JsonResult.error(400, e.getMessage()));
         } catch (Exception e) {
             log.error("backTest error", e);
-            return JsonResult.error(500, "Server Error!");
+            return ResponseEntity.ok(JsonResult.error(500, "Server Error!"));
         }
     }
+
+    /**
+     * X-Client-Id when the caller sets one, the remote address otherwise
+     */
+    static String clientOf(HttpServletRequest request) {
+        String client = request.getHeader("X-Client-Id");
+        return StringUtils.hasText(client) ? client : request.getRemoteAddr();
+    }
 }
@@ -0,0 +1,48 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.IngestService;
+import finance.universe.backtest.vo.IngestParams;
+import finance.universe.backtest.vo.IngestResult;
+import finance.universe.backtest.vo.JsonResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class IngestController {
+    @Autowired
+    IngestService ingestService;
+
+    @PostMapping(value = {"/ingest/swaps"})
+    public JsonResult swaps(@RequestBody IngestParams params) {
+        try {
+            IngestResult result = ingestService.ingestSwaps(params);
+            return JsonResult.success(result);
+        } catch (IllegalArgumentException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("ingest swaps error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    @PostMapping(value = {"/ingest/klines"})
+    public JsonResult klines(@RequestBody IngestParams params) {
+        try {
+            IngestResult result = ingestService.ingestKlines(params);
+            return JsonResult.success(result);
+        } catch (IllegalArgumentException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("ingest klines error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.AdmissionService;
+import finance.universe.backtest.service.LiveService;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.JsonResult;
+import finance.universe.backtest.vo.LiveInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * live strategies that follow appended swaps, metrics are streamed over SSE
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class LiveController {
+    @Autowired
+    LiveService liveService;
+    @Autowired
+    AdmissionService admissionService;
+
+    /**
+     * register a strategy, its catch-up run from startTs is admitted like a /backtest
+     */
+    @PostMapping(value = {"/live"})
+    public ResponseEntity<JsonResult> register(@RequestBody BackTestTickParams params, HttpServletRequest request) {
+        try {
+            liveService.validate(params);
+            AdmissionService.Permit permit = admissionService.acquire(IndexController.clientOf(request), admissionService.estimateCost(params));
+            try {
+                LiveInfo info = liveService.register(params);
+                return ResponseEntity.ok(JsonResult.success(info));
+            } finally {
+                permit.close();
+            }
+        } catch (AdmissionService.TooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(JsonResult.error(413, e.getMessage()));
+        } catch (AdmissionService.RejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(JsonResult.error(429, e.getMessage()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.ok(JsonResult.error(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("live register error", e);
+            return ResponseEntity.ok(JsonResult.error(500, "Server Error!"));
+        }
+    }
+
+    @GetMapping(value = {"/live"})
+    public JsonResult list() {
+        try {
+            List<LiveInfo> strategies = liveService.list();
+            return JsonResult.success(strategies);
+        } catch (Exception e) {
+            log.error("live list error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    /**
+     * the full result so far, shaped like the /backtest response plus live_info
+     */
+    @GetMapping(value = {"/live/{id}"})
+    public JsonResult result(@PathVariable String id) {
+        try {
+            Map<String, Object> result = liveService.result(id);
+            return JsonResult.success(result);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("live result error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    /**
+     * "update" events with the metrics of the strategy, without ts_list, im_list and trade_info
+     */
+    @GetMapping(value = {"/live/{id}/stream"})
+    public ResponseEntity<SseEmitter> stream(@PathVariable String id) {
+        try {
+            return ResponseEntity.ok(liveService.subscribe(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            log.error("live stream error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping(value = {"/live/{id}"})
+    public JsonResult remove(@PathVariable String id) {
+        try {
+            liveService.remove(id);
+            return JsonResult.success(null);
+        } catch (IllegalArgumentException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("live remove error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+}
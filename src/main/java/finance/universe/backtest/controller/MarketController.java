@@ -0,0 +1,45 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.MarketService;
+import finance.universe.backtest.vo.Candle;
+import finance.universe.backtest.vo.JsonResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class MarketController {
+    @Autowired
+    MarketService marketService;
+
+    /**
+     * OHLC candles of a pool. medianGas is exact for candles of up to 256 swaps and approximate (1 gwei buckets)
+     * beyond that
+     * @param resolution 1m, 1h or 1d
+     */
+    @GetMapping(value = {"/market/candles"})
+    public JsonResult candles(@RequestParam String pair,
+                              @RequestParam(defaultValue = "1h") String resolution,
+                              @RequestParam(required = false) Long startTs,
+                              @RequestParam(required = false) Long endTs,
+                              @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            List<Candle> candles = marketService.candles(pair, resolution, startTs, endTs, limit);
+            return JsonResult.success(candles);
+        } catch (IllegalArgumentException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("market candles error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+}
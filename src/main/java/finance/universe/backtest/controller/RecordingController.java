@@ -0,0 +1,85 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.RecordingService;
+import finance.universe.backtest.vo.JsonResult;
+import finance.universe.backtest.vo.RecordingInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+
+/**
+ * start / stop a bounded flight recording and download the .jfr
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class RecordingController {
+    @Autowired
+    RecordingService recordingService;
+
+    @PostMapping(value = {"/jfr/start"})
+    public JsonResult start(@RequestParam(required = false) Long durationSeconds, @RequestParam(required = false) Long maxSizeMb,
+                            @RequestParam(required = false) String settings) {
+        try {
+            RecordingInfo info = recordingService.start(durationSeconds, maxSizeMb, settings);
+            return JsonResult.success(info);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("jfr start error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    @PostMapping(value = {"/jfr/stop"})
+    public JsonResult stop() {
+        try {
+            RecordingInfo info = recordingService.stop();
+            return JsonResult.success(info);
+        } catch (IllegalStateException e) {
+            return JsonResult.error(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("jfr stop error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    @GetMapping(value = {"/jfr/status"})
+    public JsonResult status() {
+        try {
+            return JsonResult.success(recordingService.info());
+        } catch (Exception e) {
+            log.error("jfr status error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    @GetMapping(value = {"/jfr/download"})
+    public ResponseEntity<Resource> download() {
+        try {
+            Path file = recordingService.download();
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(new FileSystemResource(file));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            log.error("jfr download error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.ReportStore;
+import finance.universe.backtest.vo.JsonResult;
+import finance.universe.backtest.vo.ReportInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * stored backtest reports, served as the gzip file written by the backtest
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class ReportController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    ReportStore reportStore;
+
+    /**
+     * newest first, optionally filtered by pair and params hash
+     */
+    @GetMapping(value = {"/reports"})
+    public JsonResult list(@RequestParam(required = false) String pair,
+                           @RequestParam(required = false) String paramsHash,
+                           @RequestParam(defaultValue = "100") int limit) {
+        try {
+            List<ReportInfo> reports = reportStore.list(pair, paramsHash, limit);
+            return JsonResult.success(reports);
+        } catch (Exception e) {
+            log.error("reports list error", e);
+            return JsonResult.error(500, "Server Error!");
+        }
+    }
+
+    /**
+     * the stored /backtest response of a report_name. gzip clients get the file bytes as they are, through
+     * tomcat sendfile where the connector supports it, other clients get it inflated on the fly
+     */
+    @GetMapping(value = {"/reports/{name}"})
+    public void get(@PathVariable String name, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        Path file = reportStore.get(name);
+        if (file == null || !Files.isReadable(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        try {
+            if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+                try (InputStream in = new GZIPInputStream(Files.newInputStream(file), 1 << 16)) {
+                    StreamUtils.copy(in, response.getOutputStream());
+                }
+                return;
+            }
+            long length = Files.size(file);
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLengthLong(length);
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, length);
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                long position = 0;
+                while (position < length) {
+                    position += channel.transferTo(position, length - position, out);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // deleted by retention in between
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.service.AdmissionService;
+import finance.universe.backtest.vo.JsonResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@RestController
+public class StatusController {
+    @Autowired
+    ApplicationAvailability availability;
+    @Autowired
+    AdmissionService admissionService;
+    @Autowired
+    SwapSeriesStore swapSeriesStore;
+
+    /**
+     * 200 once startup warm-up is done, 503 before
+     */
+    @GetMapping(value = {"/ready"})
+    public ResponseEntity<JsonResult> ready() {
+        ReadinessState state = availability.getReadinessState();
+        if (state == ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.ok(JsonResult.success(state.name()));
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(JsonResult.error(503, state.name()));
+    }
+
+    /**
+     * backtest admission: running, queue depth and rejections
+     */
+    @GetMapping(value = {"/admission/stats"})
+    public JsonResult admissionStats() {
+        return JsonResult.success(admissionService.getStats());
+    }
+
+    /**
+     * monthly swap segments: resident bytes against the budget, loads, hits and evictions
+     */
+    @GetMapping(value = {"/series/segments"})
+    public JsonResult segmentStats() {
+        return JsonResult.success(swapSeriesStore.getSegmentStats());
+    }
+}
@@ -0,0 +1,84 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.AdmissionService;
+import finance.universe.backtest.service.SweepService;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.JsonResult;
+import finance.universe.backtest.vo.SweepParams;
+import finance.universe.backtest.vo.SweepResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class SweepController {
+    @Autowired
+    SweepService sweepService;
+    @Autowired
+    AdmissionService admissionService;
+
+    @PostMapping(value = {"/sweep"})
+    public ResponseEntity<JsonResult> sweep(@RequestBody SweepParams params, HttpServletRequest request) {
+        try {
+            long cost = sweepService.estimateCost(params);
+            AdmissionService.Permit permit = admissionService.acquire(IndexController.clientOf(request), cost);
+            try {
+                List<SweepResult> result = sweepService.sweep(params);
+                return ResponseEntity.ok(JsonResult.success(result));
+            } finally {
+                permit.close();
+            }
+        } catch (AdmissionService.RejectedException e) {
+            return tooManyRequests(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(JsonResult.error(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("sweep error", e);
+            return ResponseEntity.ok(JsonResult.error(500, "Server Error!"));
+        }
+    }
+
+    /**
+     * worker side of a distributed sweep, a rejected shard moves on to the next worker
+     */
+    @PostMapping(value = {"/sweep/shard"})
+    public ResponseEntity<JsonResult> shard(@RequestBody List<BackTestTickParams> shard, HttpServletRequest request) {
+        try {
+            long cost = sweepService.estimateCost(shard);
+            AdmissionService.Permit permit = admissionService.acquire(IndexController.clientOf(request), cost);
+            try {
+                List<SweepResult> result = sweepService.runShard(shard);
+                return ResponseEntity.ok(JsonResult.success(result));
+            } finally {
+                permit.close();
+            }
+        } catch (AdmissionService.RejectedException e) {
+            return tooManyRequests(e);
+        } catch (Exception e) {
+            log.error("sweep shard error", e);
+            return ResponseEntity.ok(JsonResult.error(500, "Server Error!"));
+        }
+    }
+
+    private static ResponseEntity<JsonResult> tooManyRequests(AdmissionService.RejectedException e) {
+        if (e instanceof AdmissionService.TooLargeException) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(JsonResult.error(413, e.getMessage()));
+        }
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(JsonResult.error(429, e.getMessage()));
+    }
+}
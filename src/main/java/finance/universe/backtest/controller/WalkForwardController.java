@@ -0,0 +1,58 @@
+package finance.universe.backtest.controller;
+
+import finance.universe.backtest.service.AdmissionService;
+import finance.universe.backtest.service.WalkForwardService;
+import finance.universe.backtest.vo.JsonResult;
+import finance.universe.backtest.vo.WalkForwardParams;
+import finance.universe.backtest.vo.WalkForwardResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@RestController
+public class WalkForwardController {
+    @Autowired
+    WalkForwardService walkForwardService;
+    @Autowired
+    AdmissionService admissionService;
+
+    /**
+     * rolling walk-forward: sweep every training window, run its winner on the next test window
+     */
+    @PostMapping(value = {"/backtest/walkforward"})
+    public ResponseEntity<JsonResult> walkForward(@RequestBody WalkForwardParams params, HttpServletRequest request) {
+        try {
+            long cost = walkForwardService.estimateCost(params);
+            AdmissionService.Permit permit = admissionService.acquire(IndexController.clientOf(request), cost);
+            try {
+                WalkForwardResult result = walkForwardService.walkForward(params);
+                return ResponseEntity.ok(JsonResult.success(result));
+            } finally {
+                permit.close();
+            }
+        } catch (AdmissionService.TooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(JsonResult.error(413, e.getMessage()));
+        } catch (AdmissionService.RejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(JsonResult.error(429, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(JsonResult.error(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("walk-forward error", e);
+            return ResponseEntity.ok(JsonResult.error(500, "Server Error!"));
+        }
+    }
+}
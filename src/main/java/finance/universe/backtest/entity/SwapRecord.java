@@ -21,6 +21,7 @@ public class SwapRecord {
     private BigDecimal amount1;
     private Long tick;
     private Long blockNumber;
+    private Integer logIndex;
     @Transient
     private BigDecimal price;
     @Transient
@@ -0,0 +1,31 @@
+package finance.universe.backtest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * a sample of the backtest loop, committed every backtest.jfr.loop-sample-blocks blocks
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Name("finance.universe.backtest.Loop")
+@Label("Backtest Loop Sample")
+@Category("Backtest")
+@StackTrace(false)
+public class BackTestLoopEvent extends jdk.jfr.Event {
+    @Label("Pair")
+    public String pair;
+    @Label("First Block")
+    public long fromBlock;
+    @Label("Last Block")
+    public long toBlock;
+    @Label("Blocks")
+    @Description("blocks simulated during the sample")
+    public int blocks;
+    @Label("Rebalances")
+    public int rebalances;
+}
@@ -0,0 +1,49 @@
+package finance.universe.backtest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * one stage of a backtest, from loading klines to building the result
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Name("finance.universe.backtest.Stage")
+@Label("Backtest Stage")
+@Category("Backtest")
+@StackTrace(false)
+public class BackTestStageEvent extends jdk.jfr.Event {
+    @Label("Pair")
+    public String pair;
+    @Label("Stage")
+    public String stage;
+    @Label("Mode")
+    public String mode;
+    @Label("Window Start")
+    @Description("startTs of the request, seconds")
+    public long startTs;
+    @Label("Window End")
+    @Description("endTs of the request, seconds")
+    public long endTs;
+    @Label("Rows")
+    @Description("klines, swap rows or blocks handled by the stage")
+    public long rows;
+
+    public BackTestStageEvent(String pair, String stage, String mode, long startTs, long endTs) {
+        this.pair = pair;
+        this.stage = stage;
+        this.mode = mode;
+        this.startTs = startTs;
+        this.endTs = endTs;
+        begin();
+    }
+
+    public void finish(long rows) {
+        this.rows = rows;
+        commit();
+    }
+}
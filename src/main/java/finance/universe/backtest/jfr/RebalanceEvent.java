@@ -0,0 +1,39 @@
+package finance.universe.backtest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * a rebalance inside the backtest loop
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Name("finance.universe.backtest.Rebalance")
+@Label("Backtest Rebalance")
+@Category("Backtest")
+@StackTrace(false)
+public class RebalanceEvent extends jdk.jfr.Event {
+    @Label("Pair")
+    public String pair;
+    @Label("Block")
+    public long blockNumber;
+    @Label("Tick")
+    public long tick;
+    @Label("Old Lower Tick")
+    public long oldLowerTick;
+    @Label("Old Upper Tick")
+    public long oldUpperTick;
+    @Label("Lower Tick")
+    public long lowerTick;
+    @Label("Upper Tick")
+    public long upperTick;
+    @Label("Gas Price")
+    public long gasPrice;
+    @Label("Liquidity")
+    public double liquidity;
+    @Label("Impermanent Loss")
+    public double im;
+}
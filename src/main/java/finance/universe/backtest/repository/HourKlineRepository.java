@@ -14,6 +14,13 @@ public interface HourKlineRepository extends CrudRepository<HourKline, Long> {
 
     List<HourKline> findByPairAndTsLessThanEqualOrderByTs(String lastName,Long ts);
 
+    List<HourKline> findByPairAndTsGreaterThanEqualOrderByTs(String pair, Long ts);
+
+    List<HourKline> findByPairAndTsBetweenOrderByTs(String pair, Long fromTs, Long toTs);
+
+    @Query("select min(ts) from HourKline where pair = ?1")
+    Long getMinTsByPair(String pair);
+
     @Query("select max(ts) from HourKline where pair = ?1")
     Long getMaxTsByPair(String pair);
 }
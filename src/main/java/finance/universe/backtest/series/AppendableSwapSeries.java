@@ -0,0 +1,22 @@
+package finance.universe.backtest.series;
+
+import java.math.BigDecimal;
+
+/**
+ * swap series that can be filled row by row, rows must arrive in block order
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public interface AppendableSwapSeries extends SwapSeries {
+
+    /**
+     * @param gasPrice gas price in wei
+     */
+    void append(long ts, long blockNumber, int tick, BigDecimal amount0, BigDecimal amount1, long gasPrice);
+
+    /**
+     * release the memory held by this series
+     */
+    void close();
+}
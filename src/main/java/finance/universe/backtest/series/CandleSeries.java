@@ -0,0 +1,254 @@
+package finance.universe.backtest.series;
+
+import java.util.Arrays;
+
+/**
+ * OHLC candles of one pool at a fixed width, one entry per bucket that has swaps, kept in parallel primitive
+ * arrays ordered by ts. prices are block-closing ticks, volumes are summed absolute amounts in token units.
+ *
+ * written by a single {@link Rollups} update at a time, readers only see candles below the published size. a
+ * candle is published with the closing tick of its first block, so open / high / low / close are always set; the
+ * last published candle may still grow while it is read.
+ * an indexed series also keeps a sparse table over the low / high ticks of its closed candles, so the
+ * tick range of any run of candles is answered in O(1).
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class CandleSeries {
+
+    // ts, open / high / low / close, volumes, count and median gas of one candle
+    private static final long CANDLE_BYTES = 8 + 4 * 4 + 2 * 8 + 4 + 8;
+
+    private final long width;
+    private final boolean indexed;
+
+    private volatile int size;
+    // writer side: candles opened, the last one is published once it has a tick
+    private int opened;
+    // closed candles covered by the sparse table
+    private volatile int closed;
+
+    private long[] ts = new long[64];
+    private int[] open = new int[64];
+    private int[] high = new int[64];
+    private int[] low = new int[64];
+    private int[] close = new int[64];
+    private double[] volume0 = new double[64];
+    private double[] volume1 = new double[64];
+    private int[] count = new int[64];
+    private long[] medianGas = new long[64];
+
+    // lowTable[k][i] / highTable[k][i]: min low / max high of the candles [i, i + 2^k)
+    private int[][] lowTable = new int[0][];
+    private int[][] highTable = new int[0][];
+    // allocated bytes of the arrays, for readers on other threads
+    private volatile long bytes = 64 * CANDLE_BYTES;
+
+    public CandleSeries(long width, boolean indexed) {
+        this.width = width;
+        this.indexed = indexed;
+    }
+
+    /**
+     * bucket width in seconds
+     */
+    public long getWidth() {
+        return width;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * heap bytes of the candles and the sparse table
+     */
+    public long memoryBytes() {
+        return bytes;
+    }
+
+    public long bucketOf(long ts) {
+        return ts - Math.floorMod(ts, width);
+    }
+
+    public long ts(int i) {
+        return ts[i];
+    }
+
+    public int open(int i) {
+        return open[i];
+    }
+
+    public int high(int i) {
+        return high[i];
+    }
+
+    public int low(int i) {
+        return low[i];
+    }
+
+    public int close(int i) {
+        return close[i];
+    }
+
+    public double volume0(int i) {
+        return volume0[i];
+    }
+
+    public double volume1(int i) {
+        return volume1[i];
+    }
+
+    public int count(int i) {
+        return count[i];
+    }
+
+    /**
+     * nearest-rank median gas price in wei of the swaps in the candle. exact up to 256 swaps, above that the
+     * midpoint of its 1 gwei bucket (capped at the highest price seen), anything above 4096 gwei falls into one bucket
+     */
+    public long medianGas(int i) {
+        return medianGas[i];
+    }
+
+    /**
+     * index of the first candle with ts >= the given ts, or size() if none
+     */
+    public int lowerBound(long t) {
+        int lo = 0, hi = size;
+        long[] a = ts;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < t) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * widen range = {minTick, maxTick} by the candles [from, to), through the sparse table where it covers them
+     */
+    public void tickRange(int from, int to, int[] range) {
+        int n = indexed ? Math.min(to, closed) : from;
+        if (from < n) {
+            int k = 31 - Integer.numberOfLeadingZeros(n - from);
+            int[] lows = lowTable[k];
+            int[] highs = highTable[k];
+            range[0] = Math.min(range[0], Math.min(lows[from], lows[n - (1 << k)]));
+            range[1] = Math.max(range[1], Math.max(highs[from], highs[n - (1 << k)]));
+            from = n;
+        }
+        for (int i = from; i < to; i++) {
+            range[0] = Math.min(range[0], low[i]);
+            range[1] = Math.max(range[1], high[i]);
+        }
+    }
+
+    // ---- writer side, called by Rollups only
+
+    /**
+     * make the candle of the given bucket the open one, closing the previous candle
+     */
+    boolean openIfNew(long bucket) {
+        int n = opened;
+        if (n > 0 && ts[n - 1] == bucket) {
+            return false;
+        }
+        if (n == ts.length) {
+            grow(n * 2);
+        }
+        ts[n] = bucket;
+        high[n] = Integer.MIN_VALUE;
+        low[n] = Integer.MAX_VALUE;
+        volume0[n] = 0;
+        volume1[n] = 0;
+        count[n] = 0;
+        medianGas[n] = 0;
+        if (indexed && n > 0) {
+            index(n - 1);
+        }
+        opened = n + 1;
+        return true;
+    }
+
+    /**
+     * index of the open candle, -1 before the first
+     */
+    int last() {
+        return opened - 1;
+    }
+
+    /**
+     * a swap of the open candle
+     */
+    void addSwap(double abs0, double abs1) {
+        int i = opened - 1;
+        volume0[i] += abs0;
+        volume1[i] += abs1;
+        count[i]++;
+    }
+
+    /**
+     * the closing tick of a block inside the open candle
+     */
+    void addTick(int tick) {
+        int i = opened - 1;
+        if (low[i] == Integer.MAX_VALUE) {
+            open[i] = tick;
+        }
+        high[i] = Math.max(high[i], tick);
+        low[i] = Math.min(low[i], tick);
+        close[i] = tick;
+        // publish only now, a reader never sees the sentinels of a candle without a tick
+        size = opened;
+    }
+
+    void setMedianGas(int i, long wei) {
+        medianGas[i] = wei;
+    }
+
+    /**
+     * append the closed candle i to the sparse table, only the entries ending at i change
+     */
+    private void index(int i) {
+        int levels = 32 - Integer.numberOfLeadingZeros(i + 1);
+        if (levels > lowTable.length || lowTable[0].length <= i) {
+            int capacity = Math.max(ts.length, i + 1);
+            int[][] lows = new int[Math.max(levels, lowTable.length)][];
+            int[][] highs = new int[lows.length][];
+            for (int k = 0; k < lows.length; k++) {
+                lows[k] = k < lowTable.length ? Arrays.copyOf(lowTable[k], capacity) : new int[capacity];
+                highs[k] = k < highTable.length ? Arrays.copyOf(highTable[k], capacity) : new int[capacity];
+            }
+            lowTable = lows;
+            highTable = highs;
+            bytes = ts.length * CANDLE_BYTES + 2L * lows.length * capacity * Integer.BYTES;
+        }
+        lowTable[0][i] = low[i];
+        highTable[0][i] = high[i];
+        for (int k = 1; k < levels; k++) {
+            int j = i - (1 << k) + 1;
+            int half = j + (1 << (k - 1));
+            lowTable[k][j] = Math.min(lowTable[k - 1][j], lowTable[k - 1][half]);
+            highTable[k][j] = Math.max(highTable[k - 1][j], highTable[k - 1][half]);
+        }
+        closed = i + 1;
+    }
+
+    private void grow(int capacity) {
+        ts = Arrays.copyOf(ts, capacity);
+        open = Arrays.copyOf(open, capacity);
+        high = Arrays.copyOf(high, capacity);
+        low = Arrays.copyOf(low, capacity);
+        close = Arrays.copyOf(close, capacity);
+        volume0 = Arrays.copyOf(volume0, capacity);
+        volume1 = Arrays.copyOf(volume1, capacity);
+        count = Arrays.copyOf(count, capacity);
+        medianGas = Arrays.copyOf(medianGas, capacity);
+        bytes = capacity * CANDLE_BYTES + 2L * lowTable.length * (lowTable.length == 0 ? 0 : lowTable[0].length) * Integer.BYTES;
+    }
+}
@@ -0,0 +1,270 @@
+package finance.universe.backtest.series;
+
+import finance.universe.backtest.util.BaseUtil;
+import finance.universe.backtest.util.GasHistogram;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * "next cheap block" of one pool for one gas percentile: for every block of the swap series the first block at or
+ * after it whose median gas price is at most the pool's percentile of the previous hour (the same test as the
+ * rebalance gas gate), so a deferred rebalance finds its block with one array read instead of testing every
+ * following block. a segmented series gets one table per month, built from the month's rows on first lookup and
+ * released with them by the {@link SegmentCache}; other series get one table for all rows. tables are extended as
+ * rows are appended.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class CheapBlockIndex {
+
+    private static final int NONE = -1;
+
+    private static final class Blocks {
+        final int size;
+        final long[] block;
+        // ordinal of the next cheap block, NONE while no cheap block follows within the table
+        final int[] next;
+
+        Blocks(int size, long[] block, int[] next) {
+            this.size = size;
+            this.block = block;
+            this.next = next;
+        }
+    }
+
+    /**
+     * blocks of one run of rows, a month or a whole series
+     */
+    static final class Table {
+        private static final Blocks EMPTY = new Blocks(0, new long[0], new int[0]);
+
+        final SwapSeries rows;
+        private volatile Blocks blocks = EMPTY;
+
+        // builder state, guarded by this
+        private int scannedRows;
+        // the blocks of the last hour are scanned again by the next update, the hour may have been open
+        private int recheckRow;
+        private int recheckFrom;
+
+        Table(SwapSeries rows) {
+            this.rows = rows;
+        }
+
+        long memoryBytes() {
+            return (long) blocks.size * (Long.BYTES + Integer.BYTES);
+        }
+
+        /**
+         * consume the rows appended since the last call, gasIndex must already include them
+         * @return whether the table changed
+         */
+        synchronized boolean update(GasIndex gasIndex, int percentile) {
+            if (scannedRows >= rows.size()) {
+                return false;
+            }
+            Blocks b = blocks;
+            int from = recheckFrom;
+            int size = from;
+            long[] block = Arrays.copyOf(b.block, Math.max(b.size, 64));
+            boolean[] cheap = new boolean[block.length];
+            GasHistogram blockHistogram = new GasHistogram();
+            long lastHour = -1;
+            SwapCursor cursor = rows.cursor();
+            cursor.seek(recheckRow);
+            boolean hasNext = cursor.next();
+            while (hasNext) {
+                int firstRow = cursor.index();
+                long blockNumber = cursor.blockNumber();
+                long ts;
+                blockHistogram.clear();
+                do {
+                    ts = cursor.ts();
+                    blockHistogram.add(cursor.gasPrice());
+                    hasNext = cursor.next();
+                } while (hasNext && cursor.blockNumber() == blockNumber);
+                long hour = BaseUtil.alignedToHour(ts * 1000) / 1000;
+                if (hour != lastHour) {
+                    recheckRow = firstRow;
+                    recheckFrom = size;
+                    lastHour = hour;
+                }
+                if (size == block.length) {
+                    block = Arrays.copyOf(block, size * 2);
+                    cheap = Arrays.copyOf(cheap, size * 2);
+                }
+                block[size] = blockNumber;
+                long limit = gasIndex.percentile(hour, percentile);
+                // the mean of two longs below 2^52 is exact in a double
+                cheap[size] = limit >= 0 && blockHistogram.median().doubleValue() <= limit;
+                size++;
+            }
+            scannedRows = cursor.index();
+
+            int[] next = Arrays.copyOf(b.next, size);
+            int following = NONE;
+            for (int i = size - 1; i >= from; i--) {
+                next[i] = cheap[i] ? i : following;
+                following = next[i];
+            }
+            // next is non-decreasing, only the earlier blocks that pointed into the rescanned hour or nowhere follow
+            for (int i = from - 1; i >= 0 && (next[i] == NONE || next[i] >= from); i--) {
+                next[i] = following;
+            }
+            blocks = new Blocks(size, Arrays.copyOf(block, size), next);
+            return true;
+        }
+    }
+
+    private final String pair;
+    private final int percentile;
+    private final GasIndex gasIndex;
+    // null unless the series is not segmented
+    private final Table whole;
+    private final SegmentedSwapSeries segmented;
+
+    public CheapBlockIndex(String pair, int percentile, SwapSeries series, GasIndex gasIndex) {
+        GasIndex.checkPercentile(percentile);
+        this.pair = pair;
+        this.percentile = percentile;
+        this.gasIndex = gasIndex;
+        if (series instanceof SegmentedSwapSeries) {
+            this.segmented = (SegmentedSwapSeries) series;
+            this.whole = null;
+        } else {
+            this.segmented = null;
+            this.whole = new Table(series);
+            whole.update(gasIndex, percentile);
+        }
+    }
+
+    public String getPair() {
+        return pair;
+    }
+
+    public int getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * extend the built tables to the rows appended since the last call, gasIndex must already include them
+     */
+    public void update() {
+        if (whole != null) {
+            whole.update(gasIndex, percentile);
+            return;
+        }
+        for (SwapSegment segment : segmented.segments()) {
+            AppendableSwapSeries rows = segment.resident;
+            Table table = segment.cheapBlocks.get(percentile);
+            if (rows != null && table != null && table.rows == rows && table.update(gasIndex, percentile)) {
+                segmented.cache().resized(segment, rows);
+            }
+        }
+    }
+
+    /**
+     * a reader for non-decreasing block numbers, it only ever moves forward so every lookup is amortized O(1).
+     * it follows later updates of the index.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public final class Cursor {
+        // month of a segmented series
+        private int part = -1;
+        private Table table;
+        private int ordinal;
+
+        /**
+         * @return the first cheap block at or after blockNumber, -1 while the series has none
+         */
+        public long nextCheap(long blockNumber) {
+            if (table == null && !open(blockNumber)) {
+                return -1;
+            }
+            while (true) {
+                Blocks b = table.blocks;
+                while (ordinal < b.size && b.block[ordinal] < blockNumber) {
+                    ordinal++;
+                }
+                if (ordinal < b.size && b.next[ordinal] != NONE) {
+                    return b.block[b.next[ordinal]];
+                }
+                if (!advance(b)) {
+                    return -1;
+                }
+            }
+        }
+
+        private boolean open(long blockNumber) {
+            if (whole != null) {
+                table = whole;
+            } else {
+                List<SwapSegment> segments = segmented.segments();
+                int found = 0;
+                while (found < segments.size() && segments.get(found).lastBlock < blockNumber) {
+                    found++;
+                }
+                if (found == segments.size()) {
+                    return false;
+                }
+                part = found;
+                table = tableOf(segments.get(found));
+            }
+            Blocks b = table.blocks;
+            int found = Arrays.binarySearch(b.block, 0, b.size, blockNumber);
+            ordinal = found >= 0 ? found : -found - 1;
+            return true;
+        }
+
+        /**
+         * move on to the next month, or to a newer table of the last one
+         * @param examined blocks of the current table that hold no cheap block at or after the lookup
+         */
+        private boolean advance(Blocks examined) {
+            if (whole != null) {
+                return table.blocks != examined;
+            }
+            List<SwapSegment> segments = segmented.segments();
+            if (part + 1 < segments.size()) {
+                part++;
+                table = tableOf(segments.get(part));
+                ordinal = 0;
+                return true;
+            }
+            if (part >= segments.size()) {
+                // the series was invalidated
+                return false;
+            }
+            Table current = tableOf(segments.get(part));
+            if (current != table) {
+                // rebuilt after an eviction, the earlier blocks are skipped again
+                table = current;
+                ordinal = 0;
+                return true;
+            }
+            return table.blocks != examined;
+        }
+    }
+
+    /**
+     * the month's table, loading its rows and building or extending it as needed
+     */
+    private Table tableOf(SwapSegment segment) {
+        SegmentCache cache = segmented.cache();
+        AppendableSwapSeries rows = cache.get(segment);
+        Table table = segment.cheapBlocks.compute(percentile, (key, it) -> it != null && it.rows == rows ? it : new Table(rows));
+        if (table.update(gasIndex, percentile)) {
+            cache.resized(segment, rows);
+        }
+        if (segment.resident != rows) {
+            // evicted meanwhile, the table lives as long as the cursor
+            segment.cheapBlocks.remove(percentile, table);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,461 @@
+package finance.universe.backtest.series;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * swap series encoded in blocks of {@link #BLOCK_ROWS} rows, every block restarts the delta state so it
+ * can be decoded on its own. a sparse index keeps the first ts / block number of every block for seeking.
+ *
+ * row encoding, all varints are LEB128:
+ * ts and blockNumber: zig-zag delta-of-delta
+ * tick: zig-zag delta
+ * gasPrice: (mantissa << 4 | trailing decimal zeros)
+ * amount0 / amount1: (zig-zag 128 bit mantissa << 4 | trailing decimal zeros), scale = token decimals
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class CompressedSwapSeries implements AppendableSwapSeries {
+
+    static final int BLOCK_SHIFT = 12;
+    static final int BLOCK_ROWS = 1 << BLOCK_SHIFT;
+    static final int BLOCK_MASK = BLOCK_ROWS - 1;
+
+    private static final int MAX_TZ = 15;
+    private static final long[] POW10 = new long[MAX_TZ + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i <= MAX_TZ; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private final String pair;
+    private final int decimal0;
+    private final int decimal1;
+
+    // sealed blocks plus the open one, the open block's array is replaced when it grows
+    private volatile byte[][] blocks = new byte[0][];
+    private volatile long[] firstTs = new long[0];
+    private volatile long[] firstBlock = new long[0];
+    private volatile int size = 0;
+
+    // encoder state, guarded by this
+    private int openLength;
+    private long lastTs, lastDts, lastBlock, lastDblock;
+    private int lastTick;
+    private long sealedBytes;
+
+    public CompressedSwapSeries(String pair, int decimal0, int decimal1) {
+        this.pair = pair;
+        this.decimal0 = decimal0;
+        this.decimal1 = decimal1;
+    }
+
+    @Override
+    public String getPair() {
+        return pair;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized long memoryBytes() {
+        long index = (long) firstTs.length * 16;
+        // the open block is allocated ahead of its rows
+        long open = blocks.length == 0 ? 0 : blocks[blocks.length - 1].length;
+        return sealedBytes + open + index;
+    }
+
+    @Override
+    public synchronized void append(long ts, long blockNumber, int tick, BigDecimal amount0, BigDecimal amount1, long gasPrice) {
+        int index = size;
+        if (index > 0 && blockNumber < lastBlock) {
+            throw new IllegalArgumentException("swap out of order, block: " + blockNumber + ", last: " + lastBlock);
+        }
+        if ((index & BLOCK_MASK) == 0) {
+            openBlock(index >>> BLOCK_SHIFT, ts, blockNumber);
+        }
+
+        // the first row of a block carries absolute values
+        boolean first = (index & BLOCK_MASK) == 0;
+        long dts = first ? 0 : ts - lastTs;
+        long dblock = first ? 0 : blockNumber - lastBlock;
+        writeVarLong(zigZag(first ? ts : dts - lastDts));
+        writeVarLong(zigZag(first ? blockNumber : dblock - lastDblock));
+        writeVarLong(zigZag(tick - lastTick));
+        writeVarLong(scaledGas(gasPrice));
+        writeVarInteger(scaledAmount(Int128.unscaled(amount0, decimal0)));
+        writeVarInteger(scaledAmount(Int128.unscaled(amount1, decimal1)));
+        lastTs = ts;
+        lastDts = dts;
+        lastBlock = blockNumber;
+        lastDblock = dblock;
+        lastTick = tick;
+
+        // volatile write publishes the row to cursors created afterwards
+        size = index + 1;
+    }
+
+    @Override
+    public synchronized void close() {
+        blocks = new byte[0][];
+        firstTs = new long[0];
+        firstBlock = new long[0];
+        size = 0;
+        openLength = 0;
+        sealedBytes = 0;
+    }
+
+    @Override
+    public SwapCursor cursor() {
+        int limit = size;
+        return new Cursor(blocks, limit);
+    }
+
+    @Override
+    public int lowerBoundTs(long ts) {
+        int limit = size;
+        // last block starting strictly before ts, the answer is in it or at the start of the next one
+        int b = lastBlockBefore(firstTs, limit, ts, false);
+        if (b < 0) {
+            return 0;
+        }
+        Cursor cursor = new Cursor(blocks, limit);
+        cursor.seek(b << BLOCK_SHIFT);
+        while (cursor.next()) {
+            if (cursor.ts >= ts) {
+                return cursor.index;
+            }
+        }
+        return limit;
+    }
+
+    @Override
+    public int upperBoundTs(long ts) {
+        int limit = size;
+        int b = lastBlockBefore(firstTs, limit, ts, true);
+        if (b < 0) {
+            return 0;
+        }
+        Cursor cursor = new Cursor(blocks, limit);
+        cursor.seek(b << BLOCK_SHIFT);
+        while (cursor.next()) {
+            if (cursor.ts > ts) {
+                return cursor.index;
+            }
+        }
+        return limit;
+    }
+
+    @Override
+    public int lowerBoundBlock(long blockNumber) {
+        int limit = size;
+        int b = lastBlockBefore(firstBlock, limit, blockNumber, false);
+        if (b < 0) {
+            return 0;
+        }
+        Cursor cursor = new Cursor(blocks, limit);
+        cursor.seek(b << BLOCK_SHIFT);
+        while (cursor.next()) {
+            if (cursor.blockNumber >= blockNumber) {
+                return cursor.index;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * index of the last encoded block whose first key is < key (or <= key when inclusive), -1 if none
+     */
+    private static int lastBlockBefore(long[] firstKeys, int limit, long key, boolean inclusive) {
+        int lo = 0, hi = (limit + BLOCK_MASK) >>> BLOCK_SHIFT;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            long first = firstKeys[mid];
+            if (first < key || inclusive && first == key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+
+    private void openBlock(int blockIndex, long ts, long blockNumber) {
+        byte[][] grown = Arrays.copyOf(blocks, blockIndex + 1);
+        if (blockIndex > 0) {
+            // seal the previous block, trimmed to its encoded length
+            grown[blockIndex - 1] = Arrays.copyOf(grown[blockIndex - 1], openLength);
+            sealedBytes += openLength;
+        }
+        grown[blockIndex] = new byte[BLOCK_ROWS * 8];
+        long[] ts0 = Arrays.copyOf(firstTs, blockIndex + 1);
+        long[] block0 = Arrays.copyOf(firstBlock, blockIndex + 1);
+        ts0[blockIndex] = ts;
+        block0[blockIndex] = blockNumber;
+        firstTs = ts0;
+        firstBlock = block0;
+        blocks = grown;
+        openLength = 0;
+        lastTs = lastDts = lastBlock = lastDblock = 0;
+        lastTick = 0;
+    }
+
+    private void ensureCapacity(int extra) {
+        byte[][] current = blocks;
+        int last = current.length - 1;
+        if (openLength + extra > current[last].length) {
+            // readers keep the old array, its prefix is identical
+            byte[][] replaced = Arrays.copyOf(current, current.length);
+            replaced[last] = Arrays.copyOf(current[last], Math.max(current[last].length * 2, openLength + extra));
+            blocks = replaced;
+        }
+    }
+
+    private void writeVarLong(long v) {
+        ensureCapacity(10);
+        byte[] buf = blocks[blocks.length - 1];
+        while ((v & ~0x7FL) != 0) {
+            buf[openLength++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[openLength++] = (byte) v;
+    }
+
+    private void writeVarInteger(BigInteger v) {
+        ensureCapacity(19);
+        byte[] buf = blocks[blocks.length - 1];
+        long hi = Int128.hi(v), lo = Int128.lo(v);
+        while (hi != 0 || (lo & ~0x7FL) != 0) {
+            buf[openLength++] = (byte) ((lo & 0x7F) | 0x80);
+            lo = (lo >>> 7) | (hi << 57);
+            hi >>>= 7;
+        }
+        buf[openLength++] = (byte) lo;
+    }
+
+    private static long zigZag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long scaledGas(long gasPrice) {
+        int tz = 0;
+        while (tz < MAX_TZ && gasPrice != 0 && gasPrice % 10 == 0) {
+            gasPrice /= 10;
+            tz++;
+        }
+        return gasPrice << 4 | tz;
+    }
+
+    /**
+     * zig-zag mantissa << 4 | trailing zeros as an unsigned 128 bit value
+     */
+    private static BigInteger scaledAmount(BigInteger unscaled) {
+        int tz = 0;
+        while (tz < MAX_TZ && unscaled.signum() != 0) {
+            BigInteger[] qr = unscaled.divideAndRemainder(BigInteger.TEN);
+            if (qr[1].signum() != 0) {
+                break;
+            }
+            unscaled = qr[0];
+            tz++;
+        }
+        if (unscaled.bitLength() > 122) {
+            throw new IllegalArgumentException("amount overflow: " + unscaled);
+        }
+        BigInteger zz = unscaled.signum() >= 0 ? unscaled.shiftLeft(1) : unscaled.negate().shiftLeft(1).subtract(BigInteger.ONE);
+        return zz.shiftLeft(4).or(BigInteger.valueOf(tz));
+    }
+
+    private final class Cursor implements SwapCursor {
+        private final byte[][] blocks;
+        private final int limit;
+        private int index = -1;
+        private byte[] buf;
+        private int pos;
+        private int rowInBlock;
+
+        private long ts, dts, blockNumber, dblock, gasPrice;
+        private int tick;
+        private long amount0Hi, amount0Lo, amount1Hi, amount1Lo;
+        // scratch for the 128 bit varint reader and the scaled low word
+        private long vHi, vLo, scaledLo;
+
+        Cursor(byte[][] blocks, int limit) {
+            this.blocks = blocks;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean next() {
+            if (index + 1 >= limit) {
+                index = limit;
+                return false;
+            }
+            index++;
+            if ((index & BLOCK_MASK) == 0) {
+                loadBlock(index >>> BLOCK_SHIFT);
+            }
+            decodeRow();
+            return true;
+        }
+
+        @Override
+        public void seek(int target) {
+            target = Math.min(target, limit);
+            index = target - 1;
+            int offset = target & BLOCK_MASK;
+            if (offset != 0) {
+                // replay the block up to the row before target so the delta state is in place
+                loadBlock(target >>> BLOCK_SHIFT);
+                for (int i = 0; i < offset; i++) {
+                    decodeRow();
+                }
+            }
+        }
+
+        private void loadBlock(int blockIndex) {
+            buf = blocks[blockIndex];
+            pos = 0;
+            rowInBlock = 0;
+            ts = dts = blockNumber = dblock = 0;
+            tick = 0;
+        }
+
+        private void decodeRow() {
+            if (rowInBlock++ == 0) {
+                ts = unZigZag(readVarLong());
+                blockNumber = unZigZag(readVarLong());
+            } else {
+                dts += unZigZag(readVarLong());
+                ts += dts;
+                dblock += unZigZag(readVarLong());
+                blockNumber += dblock;
+            }
+            tick += (int) unZigZag(readVarLong());
+
+            long g = readVarLong();
+            gasPrice = (g >>> 4) * POW10[(int) (g & 0xF)];
+
+            readVarInteger();
+            amount0Hi = scaledHi();
+            amount0Lo = scaledLo;
+            readVarInteger();
+            amount1Hi = scaledHi();
+            amount1Lo = scaledLo;
+        }
+
+        /**
+         * decode (vHi, vLo) = zigzag(m) << 4 | tz into m * 10^tz, returns the high word and leaves the low one in scaledLo
+         */
+        private long scaledHi() {
+            long p = POW10[(int) (vLo & 0xF)];
+            long zLo = (vLo >>> 4) | (vHi << 60);
+            long zHi = vHi >>> 4;
+            long sign = -(zLo & 1);
+            long mLo = ((zLo >>> 1) | (zHi << 63)) ^ sign;
+            long mHi = (zHi >>> 1) ^ sign;
+            scaledLo = mLo * p;
+            return Int128.multiplyHighUnsigned(mLo, p) + mHi * p;
+        }
+
+        private long readVarLong() {
+            long v = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buf[pos++];
+                v |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return v;
+        }
+
+        private void readVarInteger() {
+            long lo = 0, hi = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buf[pos++];
+                long bits = b & 0x7F;
+                if (shift < 64) {
+                    lo |= bits << shift;
+                    if (shift > 57) {
+                        hi |= bits >>> (64 - shift);
+                    }
+                } else {
+                    hi |= bits << (shift - 64);
+                }
+                shift += 7;
+            } while (b < 0);
+            vHi = hi;
+            vLo = lo;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public long ts() {
+            return ts;
+        }
+
+        @Override
+        public long blockNumber() {
+            return blockNumber;
+        }
+
+        @Override
+        public int tick() {
+            return tick;
+        }
+
+        @Override
+        public long gasPrice() {
+            return gasPrice;
+        }
+
+        @Override
+        public long amount0Hi() {
+            return amount0Hi;
+        }
+
+        @Override
+        public long amount0Lo() {
+            return amount0Lo;
+        }
+
+        @Override
+        public long amount1Hi() {
+            return amount1Hi;
+        }
+
+        @Override
+        public long amount1Lo() {
+            return amount1Lo;
+        }
+
+        @Override
+        public BigDecimal amount0() {
+            return Int128.toBigDecimal(amount0Hi, amount0Lo, decimal0);
+        }
+
+        @Override
+        public BigDecimal amount1() {
+            return Int128.toBigDecimal(amount1Hi, amount1Lo, decimal1);
+        }
+    }
+
+    private static long unZigZag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
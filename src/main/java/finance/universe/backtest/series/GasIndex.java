@@ -0,0 +1,240 @@
+package finance.universe.backtest.series;
+
+import finance.universe.backtest.util.BaseUtil;
+import finance.universe.backtest.util.GasHistogram;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * hourly p50 / p90 gas prices of one pool, extended as rows are appended. lookups by ts are O(1) and answer with
+ * the hour before the one containing ts, so a swap is never compared with gas paid after it.
+ * a segmented series gets one table per month, built from the month's rows on first lookup and released with them by
+ * the {@link SegmentCache}; other series get one table for all rows, built up front. hours without swaps keep the
+ * percentiles of the last hour with swaps, across months as well.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class GasIndex {
+
+    private static final long HOUR = 3600;
+
+    private static final class Slots {
+        static final Slots EMPTY = new Slots(0, 0, new long[0], new long[0]);
+
+        final long firstHour;
+        final int hours;
+        final long[] p50;
+        final long[] p90;
+
+        Slots(long firstHour, int hours, long[] p50, long[] p90) {
+            this.firstHour = firstHour;
+            this.hours = hours;
+            this.p50 = p50;
+            this.p90 = p90;
+        }
+    }
+
+    /**
+     * hours of one run of rows, a month or a whole series
+     */
+    static final class Table {
+        final SwapSeries rows;
+        private volatile Slots slots = Slots.EMPTY;
+        private volatile long bytes;
+
+        // builder state, guarded by this
+        private final GasHistogram hourHistogram = new GasHistogram();
+        private int processedRows;
+        private long firstHour = -1;
+        private long openHour = -1;
+        private long[] p50 = new long[64];
+        private long[] p90 = new long[64];
+
+        Table(SwapSeries rows) {
+            this.rows = rows;
+        }
+
+        long memoryBytes() {
+            return bytes;
+        }
+
+        /**
+         * consume the rows appended since the last call, the still open hour is published with the percentiles seen
+         * so far
+         * @return whether the table changed
+         */
+        synchronized boolean update() {
+            int size = rows.size();
+            if (processedRows >= size) {
+                return false;
+            }
+            SwapCursor cursor = rows.cursor();
+            cursor.seek(processedRows);
+            while (cursor.next()) {
+                long hour = BaseUtil.alignedToHour(cursor.ts() * 1000) / 1000;
+                if (firstHour < 0) {
+                    firstHour = hour;
+                    openHour = hour;
+                }
+                if (hour != openHour) {
+                    publishOpenHour();
+                    hourHistogram.clear();
+                    // hours without swaps keep the last known percentiles
+                    int from = slotOf(openHour) + 1;
+                    int to = slotOf(hour);
+                    ensureCapacity(to + 1);
+                    for (int i = from; i < to; i++) {
+                        p50[i] = p50[i - 1];
+                        p90[i] = p90[i - 1];
+                    }
+                    openHour = hour;
+                }
+                hourHistogram.add(cursor.gasPrice());
+            }
+            processedRows = cursor.index();
+            // the open hour keeps its samples, later rows of the same hour are added on the next update
+            publishOpenHour();
+            int hours = slotOf(openHour) + 1;
+            slots = new Slots(firstHour, hours, Arrays.copyOf(p50, hours), Arrays.copyOf(p90, hours));
+            bytes = 2L * (p50.length + hours) * Long.BYTES;
+            return true;
+        }
+
+        /**
+         * @return gas price in wei of the hour starting at hour, -1 when the table does not cover it
+         */
+        long percentile(long hour, int percentile) {
+            Slots s = slots;
+            long offset = hour - s.firstHour;
+            if (s.hours == 0 || offset < 0 || offset / HOUR >= s.hours) {
+                return -1;
+            }
+            int slot = (int) (offset / HOUR);
+            return percentile == 50 ? s.p50[slot] : s.p90[slot];
+        }
+
+        /**
+         * start of the last hour with swaps, -1 while the table is empty
+         */
+        long lastHour() {
+            Slots s = slots;
+            return s.hours == 0 ? -1 : s.firstHour + (s.hours - 1) * HOUR;
+        }
+
+        private void publishOpenHour() {
+            if (hourHistogram.count() == 0) {
+                return;
+            }
+            int slot = slotOf(openHour);
+            ensureCapacity(slot + 1);
+            p50[slot] = hourHistogram.quantile(0.5);
+            p90[slot] = hourHistogram.quantile(0.9);
+        }
+
+        private int slotOf(long hour) {
+            return (int) ((hour - firstHour) / HOUR);
+        }
+
+        private void ensureCapacity(int n) {
+            if (n > p50.length) {
+                int capacity = Math.max(n, p50.length * 2);
+                p50 = Arrays.copyOf(p50, capacity);
+                p90 = Arrays.copyOf(p90, capacity);
+            }
+        }
+    }
+
+    private final String pair;
+    // null unless the series is not segmented
+    private final Table whole;
+    private final SegmentedSwapSeries segmented;
+
+    public GasIndex(String pair, SwapSeries series) {
+        this.pair = pair;
+        if (series instanceof SegmentedSwapSeries) {
+            this.segmented = (SegmentedSwapSeries) series;
+            this.whole = null;
+        } else {
+            this.segmented = null;
+            this.whole = new Table(series);
+            whole.update();
+        }
+    }
+
+    public String getPair() {
+        return pair;
+    }
+
+    /**
+     * extend the built tables to the rows appended since the last call
+     */
+    public void update() {
+        if (whole != null) {
+            whole.update();
+            return;
+        }
+        for (SwapSegment segment : segmented.segments()) {
+            AppendableSwapSeries rows = segment.resident;
+            Table table = segment.gasIndex.get();
+            if (rows != null && table != null && table.rows == rows && table.update()) {
+                segmented.cache().resized(segment, rows);
+            }
+        }
+    }
+
+    /**
+     * @param percentile 50 or 90
+     * @return gas price in wei of the last completed hour before ts, -1 when that hour is not covered
+     */
+    public long percentile(long ts, int percentile) {
+        checkPercentile(percentile);
+        // the hour containing ts is still open at ts, its percentiles include later swaps
+        long hour = BaseUtil.alignedToHour(ts * 1000) / 1000 - HOUR;
+        if (whole != null) {
+            return whole.percentile(hour, percentile);
+        }
+        List<SwapSegment> segments = segmented.segments();
+        // the last month with swaps at or before the hour
+        int found = segments.size() - 1;
+        while (found >= 0 && segments.get(found).firstTs >= hour + HOUR) {
+            found--;
+        }
+        if (found < 0) {
+            return -1;
+        }
+        Table table = tableOf(segments.get(found));
+        if (found + 1 < segments.size()) {
+            // an hour after the month's last swap carries its percentiles into the next month
+            hour = Math.min(hour, table.lastHour());
+        }
+        return table.percentile(hour, percentile);
+    }
+
+    /**
+     * @param percentile 50 or 90, or null for none
+     */
+    public static void checkPercentile(Integer percentile) {
+        if (percentile != null && percentile != 50 && percentile != 90) {
+            throw new IllegalArgumentException("unsupported gas percentile: " + percentile);
+        }
+    }
+
+    /**
+     * the month's table, loading its rows and building or extending it as needed
+     */
+    private Table tableOf(SwapSegment segment) {
+        SegmentCache cache = segmented.cache();
+        AppendableSwapSeries rows = cache.get(segment);
+        Table table = segment.gasIndex.updateAndGet(it -> it != null && it.rows == rows ? it : new Table(rows));
+        if (table.update()) {
+            cache.resized(segment, rows);
+        }
+        if (segment.resident != rows) {
+            // evicted meanwhile, the table lives as long as the lookup
+            segment.gasIndex.compareAndSet(table, null);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,78 @@
+package finance.universe.backtest.series;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * signed 128 bit integers kept as (hi, lo) long pairs, used to store token amounts in base units
+ * without BigInteger on the hot path.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class Int128 {
+
+    private static final BigInteger TWO_64 = BigInteger.ONE.shiftLeft(64);
+
+    public static BigInteger unscaled(BigDecimal amount, int decimal) {
+        BigInteger unscaled = amount.setScale(decimal, RoundingMode.DOWN).unscaledValue();
+        if (unscaled.bitLength() > 127) {
+            throw new IllegalArgumentException("amount overflow: " + amount.toPlainString());
+        }
+        return unscaled;
+    }
+
+    public static long hi(BigInteger v) {
+        return v.shiftRight(64).longValue();
+    }
+
+    public static long lo(BigInteger v) {
+        return v.longValue();
+    }
+
+    public static BigInteger toBigInteger(long hi, long lo) {
+        BigInteger low = BigInteger.valueOf(lo);
+        if (lo < 0) {
+            low = low.add(TWO_64);
+        }
+        return BigInteger.valueOf(hi).shiftLeft(64).add(low);
+    }
+
+    public static BigDecimal toBigDecimal(long hi, long lo, int decimal) {
+        return new BigDecimal(toBigInteger(hi, lo), decimal);
+    }
+
+    /**
+     * nearest double of the unscaled value
+     */
+    public static double toDouble(long hi, long lo) {
+        return hi * 18446744073709551616.0 + (double) (lo >>> 1) * 2 + (lo & 1);
+    }
+
+    public static int signum(long hi, long lo) {
+        if (hi < 0) {
+            return -1;
+        }
+        return hi == 0 && lo == 0 ? 0 : 1;
+    }
+
+    /**
+     * carry out of the low word after sumLo = a + b
+     */
+    public static long carry(long sumLo, long a) {
+        return Long.compareUnsigned(sumLo, a) < 0 ? 1 : 0;
+    }
+
+    /**
+     * high 64 bits of the unsigned 128 bit product x * y
+     */
+    public static long multiplyHighUnsigned(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL, x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL, y1 = y >>> 32;
+        long w0 = x0 * y0;
+        long t = x1 * y0 + (w0 >>> 32);
+        long w1 = (t & 0xFFFFFFFFL) + x0 * y1;
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+}
@@ -0,0 +1,33 @@
+package finance.universe.backtest.series;
+
+import finance.universe.backtest.entity.HourKline;
+
+import java.util.List;
+
+/**
+ * hourly klines of one pool in one calendar month (utc), resident only while the {@link SegmentCache} keeps them
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class KlineMonth {
+
+    // estimated heap of one HourKline entity with its boxed fields and its list slot
+    static final long KLINE_BYTES = 256;
+
+    final String pair;
+    final long monthStart;
+
+    // null while evicted
+    volatile List<HourKline> klines;
+    // klines of the pool were written, a load in flight is not kept
+    volatile boolean dropped;
+
+    // guarded by the cache
+    long bytes;
+
+    KlineMonth(String pair, long monthStart) {
+        this.pair = pair;
+        this.monthStart = monthStart;
+    }
+}
@@ -0,0 +1,349 @@
+package finance.universe.backtest.series;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * swap series stored outside the java heap as fixed width records in direct or memory-mapped segments.
+ *
+ * record layout (64 bytes):
+ * ts(8) | blockNumber(8) | tick(4) | reserved(4) | gasPrice(8) | amount0 hi/lo(16) | amount1 hi/lo(16)
+ *
+ * amounts are kept as signed 128 bit integers of token base units (scale = token decimals).
+ * rows must be appended in block order, readers only see rows appended before their cursor was created.
+ * a segment starts sized for the expected rows and doubles up to SEGMENT_RECORDS, a mapped segment is one file that
+ * is remapped when it grows and deleted on close.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class OffHeapSwapSeries implements AppendableSwapSeries {
+
+    static final int RECORD_BYTES = 64;
+    static final int SEGMENT_SHIFT = 16;
+    static final int SEGMENT_RECORDS = 1 << SEGMENT_SHIFT;
+    static final int SEGMENT_MASK = SEGMENT_RECORDS - 1;
+    static final int MIN_SEGMENT_RECORDS = 1 << 10;
+
+    private static final int TS = 0;
+    private static final int BLOCK = 8;
+    private static final int TICK = 16;
+    private static final int GAS = 24;
+    private static final int AMOUNT0_HI = 32;
+    private static final int AMOUNT0_LO = 40;
+    private static final int AMOUNT1_HI = 48;
+    private static final int AMOUNT1_LO = 56;
+
+    private final String pair;
+    private final int decimal0;
+    private final int decimal1;
+    // null means direct buffers, otherwise every segment is a file mapped under this directory
+    private final Path mapDir;
+    // rows the series is expected to hold, 0 when unknown
+    private final int expectedRows;
+
+    private volatile ByteBuffer[] segments = new ByteBuffer[0];
+    private volatile int size = 0;
+    // backing file of every mapped segment, guarded by this
+    private final List<Path> files = new ArrayList<>();
+
+    public OffHeapSwapSeries(String pair, int decimal0, int decimal1) {
+        this(pair, decimal0, decimal1, null, 0);
+    }
+
+    public OffHeapSwapSeries(String pair, int decimal0, int decimal1, Path mapDir) {
+        this(pair, decimal0, decimal1, mapDir, 0);
+    }
+
+    public OffHeapSwapSeries(String pair, int decimal0, int decimal1, Path mapDir, int expectedRows) {
+        this.pair = pair;
+        this.decimal0 = decimal0;
+        this.decimal1 = decimal1;
+        this.mapDir = mapDir;
+        this.expectedRows = expectedRows;
+    }
+
+    @Override
+    public String getPair() {
+        return pair;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long memoryBytes() {
+        long bytes = 0;
+        for (ByteBuffer segment : segments) {
+            bytes += segment.capacity();
+        }
+        return bytes;
+    }
+
+    @Override
+    public synchronized void append(long ts, long blockNumber, int tick, BigDecimal amount0, BigDecimal amount1, long gasPrice) {
+        int index = size;
+        if (index > 0 && blockNumber < blockAt(index - 1)) {
+            throw new IllegalArgumentException("swap out of order, block: " + blockNumber + ", last: " + blockAt(index - 1));
+        }
+        int seg = index >>> SEGMENT_SHIFT;
+        int off = (index & SEGMENT_MASK) * RECORD_BYTES;
+        if (seg == segments.length) {
+            ByteBuffer[] grown = Arrays.copyOf(segments, seg + 1);
+            grown[seg] = allocateSegment(seg, initialRecords(seg));
+            segments = grown;
+        } else if (off == segments[seg].capacity()) {
+            // cursors keep reading the old buffer, which holds every row they can see
+            ByteBuffer[] grown = segments.clone();
+            grown[seg] = growSegment(seg, segments[seg]);
+            segments = grown;
+        }
+        ByteBuffer buf = segments[seg];
+        BigInteger a0 = Int128.unscaled(amount0, decimal0);
+        BigInteger a1 = Int128.unscaled(amount1, decimal1);
+        buf.putLong(off + TS, ts);
+        buf.putLong(off + BLOCK, blockNumber);
+        buf.putInt(off + TICK, tick);
+        buf.putLong(off + GAS, gasPrice);
+        buf.putLong(off + AMOUNT0_HI, Int128.hi(a0));
+        buf.putLong(off + AMOUNT0_LO, Int128.lo(a0));
+        buf.putLong(off + AMOUNT1_HI, Int128.hi(a1));
+        buf.putLong(off + AMOUNT1_LO, Int128.lo(a1));
+        // volatile write publishes the record to cursors created afterwards
+        size = index + 1;
+    }
+
+    /**
+     * drop all segments, direct memory is returned once the buffers are collected. mapped files are deleted, the
+     * mappings of running cursors stay readable until they are collected
+     */
+    @Override
+    public synchronized void close() {
+        segments = new ByteBuffer[0];
+        size = 0;
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // a file left behind is removed on the next start
+            }
+        }
+        files.clear();
+    }
+
+    @Override
+    public SwapCursor cursor() {
+        int limit = size;
+        return new Cursor(segments, limit);
+    }
+
+    @Override
+    public int lowerBoundTs(long ts) {
+        int lo = 0, hi = size;
+        ByteBuffer[] segs = segments;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (longAt(segs, mid, TS) < ts) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public int upperBoundTs(long ts) {
+        int lo = 0, hi = size;
+        ByteBuffer[] segs = segments;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (longAt(segs, mid, TS) <= ts) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public int lowerBoundBlock(long blockNumber) {
+        int lo = 0, hi = size;
+        ByteBuffer[] segs = segments;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (longAt(segs, mid, BLOCK) < blockNumber) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private long blockAt(int index) {
+        return longAt(segments, index, BLOCK);
+    }
+
+    private static long longAt(ByteBuffer[] segs, int index, int field) {
+        return segs[index >>> SEGMENT_SHIFT].getLong((index & SEGMENT_MASK) * RECORD_BYTES + field);
+    }
+
+    /**
+     * records of a new segment: what is left of the expected rows, at least MIN_SEGMENT_RECORDS
+     */
+    private int initialRecords(int seg) {
+        long left = (long) expectedRows - ((long) seg << SEGMENT_SHIFT);
+        return (int) Math.min(SEGMENT_RECORDS, Math.max(MIN_SEGMENT_RECORDS, left));
+    }
+
+    private ByteBuffer allocateSegment(int seg, int records) {
+        int bytes = records * RECORD_BYTES;
+        if (mapDir == null) {
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+        try {
+            Files.createDirectories(mapDir);
+            Path file = mapDir.resolve(String.format("%s_%05d.seg", pair, seg));
+            files.add(file);
+            return map(file, bytes, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("map segment failed, pair: " + pair, e);
+        }
+    }
+
+    /**
+     * the segment with twice the records, the rows written so far are kept
+     */
+    private ByteBuffer growSegment(int seg, ByteBuffer old) {
+        int bytes = Math.min(SEGMENT_RECORDS * RECORD_BYTES, old.capacity() * 2);
+        if (mapDir == null) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+            ByteBuffer rows = old.duplicate();
+            rows.clear();
+            grown.put(rows);
+            grown.clear();
+            return grown;
+        }
+        try {
+            // the file extends in place, the old mapping shares its pages
+            return map(files.get(seg), bytes, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("map segment failed, pair: " + pair, e);
+        }
+    }
+
+    private static ByteBuffer map(Path file, int bytes, boolean truncate) throws IOException {
+        Set<StandardOpenOption> options = EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (truncate) {
+            options.add(StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            mapped.order(ByteOrder.nativeOrder());
+            return mapped;
+        }
+    }
+
+    private final class Cursor implements SwapCursor {
+        private final ByteBuffer[] segs;
+        private final int limit;
+        private int index = -1;
+        private ByteBuffer buf;
+        private int off;
+
+        Cursor(ByteBuffer[] segs, int limit) {
+            this.segs = segs;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean next() {
+            if (index + 1 >= limit) {
+                index = limit;
+                return false;
+            }
+            index++;
+            buf = segs[index >>> SEGMENT_SHIFT];
+            off = (index & SEGMENT_MASK) * RECORD_BYTES;
+            return true;
+        }
+
+        @Override
+        public void seek(int index) {
+            this.index = Math.min(index, limit) - 1;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public long ts() {
+            return buf.getLong(off + TS);
+        }
+
+        @Override
+        public long blockNumber() {
+            return buf.getLong(off + BLOCK);
+        }
+
+        @Override
+        public int tick() {
+            return buf.getInt(off + TICK);
+        }
+
+        @Override
+        public long gasPrice() {
+            return buf.getLong(off + GAS);
+        }
+
+        @Override
+        public long amount0Hi() {
+            return buf.getLong(off + AMOUNT0_HI);
+        }
+
+        @Override
+        public long amount0Lo() {
+            return buf.getLong(off + AMOUNT0_LO);
+        }
+
+        @Override
+        public long amount1Hi() {
+            return buf.getLong(off + AMOUNT1_HI);
+        }
+
+        @Override
+        public long amount1Lo() {
+            return buf.getLong(off + AMOUNT1_LO);
+        }
+
+        @Override
+        public BigDecimal amount0() {
+            return Int128.toBigDecimal(amount0Hi(), amount0Lo(), decimal0);
+        }
+
+        @Override
+        public BigDecimal amount1() {
+            return Int128.toBigDecimal(amount1Hi(), amount1Lo(), decimal1);
+        }
+    }
+}
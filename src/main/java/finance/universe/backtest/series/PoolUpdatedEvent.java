@@ -0,0 +1,53 @@
+package finance.universe.backtest.series;
+
+/**
+ * published by {@link SwapSeriesStore} after swaps or hourly klines of a pool were written
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class PoolUpdatedEvent {
+
+    private final String pair;
+    private final int rows;
+    private final boolean reloaded;
+
+    private PoolUpdatedEvent(String pair, int rows, boolean reloaded) {
+        this.pair = pair;
+        this.rows = rows;
+        this.reloaded = reloaded;
+    }
+
+    /**
+     * rows were appended to the loaded series, which now holds the given number of complete blocks' rows
+     */
+    static PoolUpdatedEvent appended(String pair, int rows) {
+        return new PoolUpdatedEvent(pair, rows, false);
+    }
+
+    /**
+     * older blocks were written, the series was dropped and is reloaded on next use
+     */
+    static PoolUpdatedEvent reloaded(String pair) {
+        return new PoolUpdatedEvent(pair, -1, true);
+    }
+
+    static PoolUpdatedEvent klines(String pair) {
+        return new PoolUpdatedEvent(pair, -1, false);
+    }
+
+    public String getPair() {
+        return pair;
+    }
+
+    /**
+     * series size after an append, -1 otherwise
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    public boolean isReloaded() {
+        return reloaded;
+    }
+}
@@ -0,0 +1,300 @@
+package finance.universe.backtest.series;
+
+import finance.universe.backtest.util.GasHistogram;
+import finance.universe.backtest.util.PoolContext;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 1m / 1h / 1d candles of one pool, extended as rows are appended. a segmented series gets one set of candles per
+ * month, built from the month's rows on first access and released with them by the {@link SegmentCache}; other
+ * series get one set for all rows, built up front. buckets never span two months.
+ * the tick range of any [fromTs, toTs] window is answered from the hourly sparse tables, the minute candles
+ * at both ends of the window and the raw rows of at most two partial minutes.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class Rollups {
+
+    public static final long MINUTE = 60;
+    public static final long HOUR = 3600;
+    public static final long DAY = 86400;
+
+    /**
+     * candles of one run of rows, a month or a whole series
+     */
+    static final class Table {
+        final SwapSeries rows;
+        private final double unit0;
+        private final double unit1;
+        private final CandleSeries minutes = new CandleSeries(MINUTE, false);
+        private final CandleSeries hours = new CandleSeries(HOUR, true);
+        private final CandleSeries days = new CandleSeries(DAY, false);
+        private final CandleSeries[] levels = {minutes, hours, days};
+
+        private volatile int processedRows;
+
+        // builder state, guarded by this
+        private final GasHistogram[] histograms = {new GasHistogram(), new GasHistogram(), new GasHistogram()};
+
+        Table(SwapSeries rows, double unit0, double unit1) {
+            this.rows = rows;
+            this.unit0 = unit0;
+            this.unit1 = unit1;
+        }
+
+        long memoryBytes() {
+            return minutes.memoryBytes() + hours.memoryBytes() + days.memoryBytes();
+        }
+
+        int rows() {
+            return processedRows;
+        }
+
+        CandleSeries get(String resolution) {
+            switch (resolution) {
+                case "1m":
+                    return minutes;
+                case "1h":
+                    return hours;
+                case "1d":
+                    return days;
+                default:
+                    throw new IllegalArgumentException("unsupported resolution: " + resolution);
+            }
+        }
+
+        /**
+         * consume the rows appended since the last call. rows are only ever appended for later blocks, so the last
+         * block seen is complete and its closing tick is final
+         * @return whether the candles changed
+         */
+        synchronized boolean update() {
+            int size = rows.size();
+            if (processedRows >= size) {
+                return false;
+            }
+            SwapCursor cursor = rows.cursor();
+            cursor.seek(processedRows);
+            long block = -1;
+            int tick = 0;
+            while (cursor.next()) {
+                if (cursor.blockNumber() != block) {
+                    if (block >= 0) {
+                        addTick(tick);
+                    }
+                    block = cursor.blockNumber();
+                }
+                tick = cursor.tick();
+                double abs0 = Math.abs(Int128.toDouble(cursor.amount0Hi(), cursor.amount0Lo())) * unit0;
+                double abs1 = Math.abs(Int128.toDouble(cursor.amount1Hi(), cursor.amount1Lo())) * unit1;
+                for (int i = 0; i < levels.length; i++) {
+                    CandleSeries level = levels[i];
+                    int open = level.last();
+                    if (level.openIfNew(level.bucketOf(cursor.ts()))) {
+                        if (open >= 0) {
+                            level.setMedianGas(open, histograms[i].quantile(0.5));
+                        }
+                        histograms[i].clear();
+                    }
+                    level.addSwap(abs0, abs1);
+                    histograms[i].add(cursor.gasPrice());
+                }
+            }
+            addTick(tick);
+            for (int i = 0; i < levels.length; i++) {
+                levels[i].setMedianGas(levels[i].last(), histograms[i].quantile(0.5));
+            }
+            processedRows = cursor.index();
+            return true;
+        }
+
+        /**
+         * widen range by the block-closing ticks of the blocks with ts in [fromTs, toTs]
+         */
+        void closeTickRange(long fromTs, long toTs, int[] range) {
+            long end = toTs + 1;
+            long minuteFrom = ceil(fromTs, MINUTE);
+            long minuteTo = end - Math.floorMod(end, MINUTE);
+            if (minuteFrom >= minuteTo) {
+                scanRows(fromTs, end, range);
+                return;
+            }
+            scanRows(fromTs, minuteFrom, range);
+            scanRows(minuteTo, end, range);
+            long hourFrom = ceil(minuteFrom, HOUR);
+            long hourTo = minuteTo - Math.floorMod(minuteTo, HOUR);
+            if (hourFrom >= hourTo) {
+                scanCandles(minutes, minuteFrom, minuteTo, range);
+            } else {
+                scanCandles(minutes, minuteFrom, hourFrom, range);
+                scanCandles(minutes, hourTo, minuteTo, range);
+                scanCandles(hours, hourFrom, hourTo, range);
+            }
+        }
+
+        /**
+         * block-closing ticks of the rows with ts in [fromTs, toTs), a block never spans two timestamps
+         */
+        private void scanRows(long fromTs, long toTs, int[] range) {
+            int to = Math.min(rows.lowerBoundTs(toTs), processedRows);
+            int from = rows.lowerBoundTs(fromTs);
+            if (from >= to) {
+                return;
+            }
+            SwapCursor cursor = rows.cursor();
+            cursor.seek(from);
+            cursor.next();
+            while (true) {
+                long block = cursor.blockNumber();
+                int tick = cursor.tick();
+                boolean hasNext = cursor.next() && cursor.index() < to;
+                if (!hasNext || cursor.blockNumber() != block) {
+                    range[0] = Math.min(range[0], tick);
+                    range[1] = Math.max(range[1], tick);
+                }
+                if (!hasNext) {
+                    return;
+                }
+            }
+        }
+
+        private void addTick(int tick) {
+            for (CandleSeries level : levels) {
+                level.addTick(tick);
+            }
+        }
+    }
+
+    private final String pair;
+    private final double unit0;
+    private final double unit1;
+    private final SwapSeries series;
+    // null unless the series is not segmented
+    private final Table whole;
+    private final SegmentedSwapSeries segmented;
+
+    public Rollups(PoolContext poolContext, SwapSeries series) {
+        this.pair = poolContext.getPair();
+        this.unit0 = poolContext.getUnit0();
+        this.unit1 = poolContext.getUnit1();
+        this.series = series;
+        if (series instanceof SegmentedSwapSeries) {
+            this.segmented = (SegmentedSwapSeries) series;
+            this.whole = null;
+        } else {
+            this.segmented = null;
+            this.whole = new Table(series, unit0, unit1);
+            whole.update();
+        }
+    }
+
+    public String getPair() {
+        return pair;
+    }
+
+    /**
+     * number of series rows folded into the candles. the months of a segmented series are brought up to date
+     * whenever they are read, so they cover every row
+     */
+    public int rows() {
+        return whole != null ? whole.rows() : series.size();
+    }
+
+    /**
+     * extend the built candles to the rows appended since the last call
+     */
+    public void update() {
+        if (whole != null) {
+            whole.update();
+            return;
+        }
+        for (SwapSegment segment : segmented.segments()) {
+            AppendableSwapSeries rows = segment.resident;
+            Table table = segment.rollups.get();
+            if (rows != null && table != null && table.rows == rows && table.update()) {
+                segmented.cache().resized(segment, rows);
+            }
+        }
+    }
+
+    /**
+     * candles of the buckets in [fromTs, toTs] in runs oldest first, a month of a segmented series is loaded only
+     * once the iteration reaches it
+     * @param resolution 1m, 1h or 1d
+     */
+    public Iterable<CandleSeries> get(String resolution, long fromTs, long toTs) {
+        checkResolution(resolution);
+        if (whole != null) {
+            return Collections.singletonList(whole.get(resolution));
+        }
+        List<SwapSegment> segments = segmented.segments(fromTs, toTs);
+        return () -> new Iterator<CandleSeries>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < segments.size();
+            }
+
+            @Override
+            public CandleSeries next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tableOf(segments.get(next++)).get(resolution);
+            }
+        };
+    }
+
+    /**
+     * lowest and highest block-closing tick of the blocks with ts in [fromTs, toTs]
+     * @return {minTick, maxTick}, null when there is no swap in the window
+     */
+    public int[] closeTickRange(long fromTs, long toTs) {
+        int[] range = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+        if (whole != null) {
+            whole.closeTickRange(fromTs, toTs, range);
+        } else {
+            for (SwapSegment segment : segmented.segments(fromTs, toTs)) {
+                tableOf(segment).closeTickRange(Math.max(fromTs, segment.monthStart), Math.min(toTs, segment.monthEnd - 1), range);
+            }
+        }
+        return range[0] > range[1] ? null : range;
+    }
+
+    /**
+     * the month's candles, loading its rows and building or extending them as needed
+     */
+    private Table tableOf(SwapSegment segment) {
+        SegmentCache cache = segmented.cache();
+        AppendableSwapSeries rows = cache.get(segment);
+        Table table = segment.rollups.updateAndGet(it -> it != null && it.rows == rows ? it : new Table(rows, unit0, unit1));
+        if (table.update()) {
+            cache.resized(segment, rows);
+        }
+        if (segment.resident != rows) {
+            // evicted meanwhile, the candles live as long as the reader
+            segment.rollups.compareAndSet(table, null);
+        }
+        return table;
+    }
+
+    private static void checkResolution(String resolution) {
+        if (!"1m".equals(resolution) && !"1h".equals(resolution) && !"1d".equals(resolution)) {
+            throw new IllegalArgumentException("unsupported resolution: " + resolution);
+        }
+    }
+
+    private static void scanCandles(CandleSeries candles, long fromTs, long toTs, int[] range) {
+        candles.tickRange(candles.lowerBound(fromTs), candles.lowerBound(toTs), range);
+    }
+
+    private static long ceil(long ts, long width) {
+        return Math.floorMod(ts, width) == 0 ? ts : ts - Math.floorMod(ts, width) + width;
+    }
+}
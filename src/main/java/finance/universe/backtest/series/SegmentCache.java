@@ -0,0 +1,345 @@
+package finance.universe.backtest.series;
+
+import finance.universe.backtest.entity.HourKline;
+import finance.universe.backtest.vo.SegmentStats;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * resident rows of the swap segments of all pools, with the tables built from them (gas percentiles, candles and next
+ * cheap blocks of the month), and the monthly klines under one memory budget. both are loaded on first access, the
+ * least recently used unpinned ones are dropped once the resident bytes pass the budget, a month's tables with its rows.
+ * dropping only releases the references, cursors that still read the rows keep them alive until they are done.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class SegmentCache {
+
+    interface Loader {
+
+        /**
+         * empty rows for a segment that is filled by appends
+         */
+        AppendableSwapSeries create(SwapSegment segment);
+
+        /**
+         * the rows of the segment, from a snapshot or swap_record
+         */
+        AppendableSwapSeries load(SwapSegment segment);
+
+        /**
+         * called outside of the cache lock after the rows left the cache
+         * @param dropped the segment's pool was invalidated, the rows are stale
+         */
+        void unloaded(SwapSegment segment, AppendableSwapSeries rows, Path mapDir, boolean dropped);
+
+        /**
+         * the klines of the month from hour_kline
+         */
+        List<HourKline> load(KlineMonth month);
+    }
+
+    private static final class Unloaded {
+        final SwapSegment segment;
+        final AppendableSwapSeries rows;
+        final Path mapDir;
+        final boolean dropped;
+
+        Unloaded(SwapSegment segment, AppendableSwapSeries rows, Path mapDir, boolean dropped) {
+            this.segment = segment;
+            this.rows = rows;
+            this.mapDir = mapDir;
+            this.dropped = dropped;
+        }
+    }
+
+    private final long budget;
+    private final Loader loader;
+
+    // guarded by this, swap segments and kline months in access order: least recently used first
+    private final LinkedHashMap<Object, Boolean> lru = new LinkedHashMap<>(16, 0.75f, true);
+    private long residentBytes;
+    private int residentSegments;
+    private int pinned;
+    private long hits;
+    private long loads;
+    private long loadMs;
+    private long evictions;
+    private long klineBytes;
+    private int klineMonths;
+    private long klineHits;
+    private long klineLoads;
+
+    SegmentCache(long budget, Loader loader) {
+        this.budget = budget;
+        this.loader = loader;
+    }
+
+    /**
+     * the rows of the segment, loaded when not resident
+     */
+    AppendableSwapSeries get(SwapSegment segment) {
+        AppendableSwapSeries rows = segment.resident;
+        if (rows != null && touch(segment, rows)) {
+            return rows;
+        }
+        List<Unloaded> unloaded;
+        synchronized (segment) {
+            rows = segment.resident;
+            if (rows != null && touch(segment, rows)) {
+                return rows;
+            }
+            long start = System.currentTimeMillis();
+            rows = loader.load(segment);
+            synchronized (this) {
+                loads++;
+                loadMs += System.currentTimeMillis() - start;
+            }
+            unloaded = admit(segment, rows);
+        }
+        unload(unloaded);
+        return rows;
+    }
+
+    /**
+     * the klines of the month, loaded when not resident
+     */
+    List<HourKline> get(KlineMonth month) {
+        List<HourKline> klines = month.klines;
+        if (klines != null && touch(month, klines)) {
+            return klines;
+        }
+        List<Unloaded> unloaded;
+        synchronized (month) {
+            klines = month.klines;
+            if (klines != null && touch(month, klines)) {
+                return klines;
+            }
+            klines = loader.load(month);
+            unloaded = admit(month, klines);
+        }
+        unload(unloaded);
+        return klines;
+    }
+
+    /**
+     * empty rows for a new tail segment, resident from the start
+     */
+    AppendableSwapSeries create(SwapSegment segment) {
+        AppendableSwapSeries rows = loader.create(segment);
+        unload(admit(segment, rows));
+        return rows;
+    }
+
+    /**
+     * account for rows appended to a resident segment, or tables built from its rows
+     */
+    void resized(SwapSegment segment, AppendableSwapSeries rows) {
+        List<Unloaded> unloaded;
+        synchronized (this) {
+            if (segment.resident != rows || !lru.containsKey(segment)) {
+                return;
+            }
+            long bytes = segment.memoryBytes(rows);
+            if (bytes == segment.bytes) {
+                return;
+            }
+            residentBytes += bytes - segment.bytes;
+            segment.bytes = bytes;
+            unloaded = overBudget(segment);
+        }
+        unload(unloaded);
+    }
+
+    /**
+     * keep the segments resident once loaded until unpin
+     */
+    synchronized void pin(Collection<SwapSegment> segments) {
+        for (SwapSegment segment : segments) {
+            if (segment.pins++ == 0) {
+                pinned++;
+            }
+        }
+    }
+
+    void unpin(Collection<SwapSegment> segments) {
+        List<Unloaded> unloaded;
+        synchronized (this) {
+            for (SwapSegment segment : segments) {
+                if (--segment.pins == 0) {
+                    pinned--;
+                }
+            }
+            unloaded = overBudget(null);
+        }
+        unload(unloaded);
+    }
+
+    /**
+     * forget the segments of an invalidated pool
+     */
+    void drop(Collection<SwapSegment> segments) {
+        List<Unloaded> unloaded = new ArrayList<>();
+        synchronized (this) {
+            for (SwapSegment segment : segments) {
+                AppendableSwapSeries rows = segment.resident;
+                segment.resident = null;
+                segment.releaseTables();
+                if (lru.remove(segment) != null) {
+                    residentBytes -= segment.bytes;
+                    residentSegments--;
+                    unloaded.add(new Unloaded(segment, rows, segment.mapDir, true));
+                    segment.mapDir = null;
+                }
+            }
+        }
+        unload(unloaded);
+    }
+
+    /**
+     * forget the kline months of a pool whose klines were written
+     */
+    synchronized void dropKlines(Collection<KlineMonth> months) {
+        for (KlineMonth month : months) {
+            month.dropped = true;
+            if (lru.remove(month) != null) {
+                releaseKlines(month);
+            }
+        }
+    }
+
+    synchronized void fill(SegmentStats stats) {
+        stats.setBudget(budget);
+        stats.setResidentBytes(residentBytes);
+        stats.setResidentSegments(residentSegments);
+        stats.setPinnedSegments(pinned);
+        stats.setHits(hits);
+        stats.setLoads(loads);
+        stats.setAvgLoadMs(loads == 0 ? 0 : loadMs / loads);
+        stats.setEvictions(evictions);
+        stats.setKlineMonths(klineMonths);
+        stats.setKlineBytes(klineBytes);
+        stats.setKlineLoads(klineLoads);
+        stats.setKlineHits(klineHits);
+        Map<String, Long> byPair = new TreeMap<>();
+        long tableBytes = 0;
+        for (Object entry : lru.keySet()) {
+            if (entry instanceof SwapSegment) {
+                SwapSegment segment = (SwapSegment) entry;
+                byPair.merge(segment.owner.getPair(), segment.bytes, Long::sum);
+                tableBytes += segment.tableBytes();
+            } else {
+                KlineMonth month = (KlineMonth) entry;
+                byPair.merge(month.pair, month.bytes, Long::sum);
+            }
+        }
+        stats.setTableBytes(tableBytes);
+        stats.setResidentBytesByPair(byPair);
+    }
+
+    private synchronized boolean touch(SwapSegment segment, AppendableSwapSeries rows) {
+        if (segment.resident != rows) {
+            return false;
+        }
+        hits++;
+        lru.get(segment);
+        return true;
+    }
+
+    private synchronized boolean touch(KlineMonth month, List<HourKline> klines) {
+        if (month.klines != klines) {
+            return false;
+        }
+        klineHits++;
+        lru.get(month);
+        return true;
+    }
+
+    private synchronized List<Unloaded> admit(SwapSegment segment, AppendableSwapSeries rows) {
+        if (segment.owner.isClosed()) {
+            // a cursor of an invalidated series, the rows live as long as the cursor
+            Path mapDir = segment.mapDir;
+            segment.mapDir = null;
+            return Collections.singletonList(new Unloaded(segment, rows, mapDir, true));
+        }
+        segment.resident = rows;
+        segment.releaseTables();
+        segment.bytes = segment.memoryBytes(rows);
+        residentBytes += segment.bytes;
+        residentSegments++;
+        lru.put(segment, Boolean.TRUE);
+        return overBudget(segment);
+    }
+
+    private synchronized List<Unloaded> admit(KlineMonth month, List<HourKline> klines) {
+        klineLoads++;
+        if (month.dropped) {
+            // loaded while the klines were written, the caller reads them once
+            return Collections.emptyList();
+        }
+        month.klines = klines;
+        month.bytes = klines.size() * KlineMonth.KLINE_BYTES;
+        residentBytes += month.bytes;
+        klineBytes += month.bytes;
+        klineMonths++;
+        lru.put(month, Boolean.TRUE);
+        return overBudget(month);
+    }
+
+    /**
+     * unlink least recently used unpinned segments and kline months until the budget holds, keep is never chosen
+     */
+    private List<Unloaded> overBudget(Object keep) {
+        if (residentBytes <= budget) {
+            return Collections.emptyList();
+        }
+        List<Unloaded> unloaded = new ArrayList<>();
+        for (Iterator<Object> it = lru.keySet().iterator(); it.hasNext() && residentBytes > budget; ) {
+            Object entry = it.next();
+            if (entry == keep) {
+                continue;
+            }
+            if (entry instanceof KlineMonth) {
+                it.remove();
+                evictions++;
+                releaseKlines((KlineMonth) entry);
+                continue;
+            }
+            SwapSegment segment = (SwapSegment) entry;
+            if (segment.pins > 0) {
+                continue;
+            }
+            it.remove();
+            residentBytes -= segment.bytes;
+            residentSegments--;
+            evictions++;
+            unloaded.add(new Unloaded(segment, segment.resident, segment.mapDir, false));
+            segment.resident = null;
+            segment.releaseTables();
+            segment.mapDir = null;
+        }
+        return unloaded;
+    }
+
+    private void releaseKlines(KlineMonth month) {
+        residentBytes -= month.bytes;
+        klineBytes -= month.bytes;
+        klineMonths--;
+        month.klines = null;
+    }
+
+    private void unload(List<Unloaded> unloaded) {
+        for (Unloaded it : unloaded) {
+            loader.unloaded(it.segment, it.rows, it.mapDir, it.dropped);
+        }
+    }
+}
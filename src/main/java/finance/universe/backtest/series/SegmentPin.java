@@ -0,0 +1,37 @@
+package finance.universe.backtest.series;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * keeps the swap segments of a backtest window resident once loaded, released by close
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public final class SegmentPin implements AutoCloseable {
+
+    static final SegmentPin NONE = new SegmentPin(null, Collections.emptyList());
+
+    private final SegmentCache cache;
+    private final List<SwapSegment> segments;
+    private boolean closed;
+
+    SegmentPin(SegmentCache cache, List<SwapSegment> segments) {
+        this.cache = cache;
+        this.segments = segments;
+    }
+
+    public int size() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed || cache == null) {
+            return;
+        }
+        closed = true;
+        cache.unpin(segments);
+    }
+}
@@ -0,0 +1,336 @@
+package finance.universe.backtest.series;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * swap series of one pool split into calendar months (utc). the months are cataloged up front (rows, ts and block
+ * range), their rows are loaded through the {@link SegmentCache} on first access and may be evicted again.
+ * bound lookups answer from the catalog when the bound falls between months and load at most one month otherwise.
+ * rows are appended to the last month or open a new one.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class SegmentedSwapSeries implements AppendableSwapSeries {
+
+    private final String pair;
+    private final int decimal0;
+    private final int decimal1;
+    private final SegmentCache cache;
+
+    private volatile SwapSegment[] segments = new SwapSegment[0];
+    private volatile int size = 0;
+    private volatile boolean closed;
+
+    SegmentedSwapSeries(String pair, int decimal0, int decimal1, SegmentCache cache) {
+        this.pair = pair;
+        this.decimal0 = decimal0;
+        this.decimal1 = decimal1;
+        this.cache = cache;
+    }
+
+    @Override
+    public String getPair() {
+        return pair;
+    }
+
+    int getDecimal0() {
+        return decimal0;
+    }
+
+    int getDecimal1() {
+        return decimal1;
+    }
+
+    SegmentCache cache() {
+        return cache;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * resident bytes of the months currently loaded
+     */
+    @Override
+    public long memoryBytes() {
+        long bytes = 0;
+        for (SwapSegment segment : segments) {
+            AppendableSwapSeries rows = segment.resident;
+            if (rows != null) {
+                bytes += rows.memoryBytes();
+            }
+        }
+        return bytes;
+    }
+
+    List<SwapSegment> segments() {
+        return Collections.unmodifiableList(Arrays.asList(segments));
+    }
+
+    /**
+     * months that hold rows with ts in [fromTs, toTs]
+     */
+    List<SwapSegment> segments(long fromTs, long toTs) {
+        List<SwapSegment> found = new ArrayList<>();
+        for (SwapSegment segment : segments) {
+            if (segment.lastTs >= fromTs && segment.firstTs <= toTs) {
+                found.add(segment);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * rows with ts in [fromTs, toTs] from the catalog alone, a month the range covers in part counts by its share of
+     * the month's ts span
+     */
+    long estimateRows(long fromTs, long toTs) {
+        long rows = 0;
+        for (SwapSegment segment : segments(fromTs, toTs)) {
+            long first = segment.firstTs, last = segment.lastTs;
+            if (fromTs <= first && toTs >= last) {
+                rows += segment.rows;
+            } else {
+                double share = (double) (Math.min(toTs, last) - Math.max(fromTs, first) + 1) / (last - first + 1);
+                rows += (long) Math.ceil(segment.rows * share);
+            }
+        }
+        return rows;
+    }
+
+    long lastBlockNumber() {
+        SwapSegment[] segs = segments;
+        return segs.length == 0 ? Long.MIN_VALUE : segs[segs.length - 1].lastBlock;
+    }
+
+    /**
+     * add a cataloged month, in order, before the series is published
+     */
+    void addSegment(long monthStart, int rows, long firstTs, long lastTs, long firstBlock, long lastBlock, SwapFingerprint fingerprint) {
+        SwapSegment segment = new SwapSegment(this, monthStart, size);
+        segment.fingerprint = fingerprint;
+        segment.rows = rows;
+        segment.firstTs = firstTs;
+        segment.lastTs = lastTs;
+        segment.firstBlock = firstBlock;
+        segment.lastBlock = lastBlock;
+        SwapSegment[] grown = Arrays.copyOf(segments, segments.length + 1);
+        grown[grown.length - 1] = segment;
+        segments = grown;
+        size += rows;
+    }
+
+    @Override
+    public synchronized void append(long ts, long blockNumber, int tick, BigDecimal amount0, BigDecimal amount1, long gasPrice) {
+        SwapSegment[] segs = segments;
+        SwapSegment tail = segs.length == 0 ? null : segs[segs.length - 1];
+        if (tail != null && blockNumber < tail.lastBlock) {
+            throw new IllegalArgumentException("swap out of order, block: " + blockNumber + ", last: " + tail.lastBlock);
+        }
+        if (tail == null || ts >= tail.monthEnd) {
+            tail = new SwapSegment(this, SwapSegment.monthStart(ts), size);
+            tail.firstTs = ts;
+            tail.firstBlock = blockNumber;
+            SwapSegment[] grown = Arrays.copyOf(segs, segs.length + 1);
+            grown[segs.length] = tail;
+            synchronized (tail) {
+                cache.create(tail);
+            }
+            segments = grown;
+        }
+        AppendableSwapSeries rows;
+        synchronized (tail) {
+            // an evicted month is not loaded for the append, it reads the new rows from swap_record when it is loaded
+            rows = tail.resident;
+            if (rows != null) {
+                rows.append(ts, blockNumber, tick, amount0, amount1, gasPrice);
+            }
+            tail.lastTs = ts;
+            tail.lastBlock = blockNumber;
+            tail.rows++;
+            tail.fingerprint.add(ts, blockNumber, tick, amount0, amount1, gasPrice);
+        }
+        if (rows != null) {
+            cache.resized(tail, rows);
+        }
+        // volatile write publishes the row to cursors created afterwards
+        size++;
+    }
+
+    /**
+     * forget all months, their rows are dropped from the cache
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        SwapSegment[] segs = segments;
+        segments = new SwapSegment[0];
+        size = 0;
+        cache.drop(Arrays.asList(segs));
+    }
+
+    @Override
+    public SwapCursor cursor() {
+        int limit = size;
+        return new Cursor(segments, limit);
+    }
+
+    @Override
+    public int lowerBoundTs(long ts) {
+        SwapSegment[] segs = segments;
+        for (SwapSegment segment : segs) {
+            if (segment.lastTs >= ts) {
+                return segment.firstTs >= ts ? segment.offset : segment.offset + cache.get(segment).lowerBoundTs(ts);
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int upperBoundTs(long ts) {
+        SwapSegment[] segs = segments;
+        for (SwapSegment segment : segs) {
+            if (segment.lastTs > ts) {
+                return segment.firstTs > ts ? segment.offset : segment.offset + cache.get(segment).upperBoundTs(ts);
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int lowerBoundBlock(long blockNumber) {
+        SwapSegment[] segs = segments;
+        for (SwapSegment segment : segs) {
+            if (segment.lastBlock >= blockNumber) {
+                return segment.firstBlock >= blockNumber ? segment.offset : segment.offset + cache.get(segment).lowerBoundBlock(blockNumber);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * reads the month of the current row through that month's own cursor, and opens the next month's cursor when
+     * it runs out
+     */
+    private final class Cursor implements SwapCursor {
+        private final SwapSegment[] segs;
+        private final int limit;
+        private int index = -1;
+        private int seg = -1;
+        // positioned on index while not null
+        private SwapCursor local;
+
+        Cursor(SwapSegment[] segs, int limit) {
+            this.segs = segs;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean next() {
+            if (index + 1 >= limit) {
+                index = limit;
+                return false;
+            }
+            index++;
+            if (local == null || !local.next()) {
+                open();
+            }
+            return true;
+        }
+
+        @Override
+        public void seek(int index) {
+            this.index = Math.min(index, limit) - 1;
+            local = null;
+        }
+
+        private void open() {
+            if (seg < 0 || index < segs[seg].offset || seg + 1 < segs.length && index >= segs[seg + 1].offset) {
+                seg = segmentOf(index);
+            }
+            SwapSegment segment = segs[seg];
+            local = cache.get(segment).cursor();
+            local.seek(index - segment.offset);
+            local.next();
+        }
+
+        private int segmentOf(int index) {
+            int lo = 0, hi = segs.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (segs[mid].offset <= index) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public long ts() {
+            return local.ts();
+        }
+
+        @Override
+        public long blockNumber() {
+            return local.blockNumber();
+        }
+
+        @Override
+        public int tick() {
+            return local.tick();
+        }
+
+        @Override
+        public long gasPrice() {
+            return local.gasPrice();
+        }
+
+        @Override
+        public long amount0Hi() {
+            return local.amount0Hi();
+        }
+
+        @Override
+        public long amount0Lo() {
+            return local.amount0Lo();
+        }
+
+        @Override
+        public long amount1Hi() {
+            return local.amount1Hi();
+        }
+
+        @Override
+        public long amount1Lo() {
+            return local.amount1Lo();
+        }
+
+        @Override
+        public BigDecimal amount0() {
+            return local.amount0();
+        }
+
+        @Override
+        public BigDecimal amount1() {
+            return local.amount1();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package finance.universe.backtest.series;
+
+import java.math.BigDecimal;
+
+/**
+ * flyweight view over one row of a {@link SwapSeries}, the same instance is reused for every row.
+ * primitive getters never allocate, amount0()/amount1() build a BigDecimal on demand.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public interface SwapCursor {
+
+    /**
+     * move to the next row
+     * @return false when the cursor has passed the last row
+     */
+    boolean next();
+
+    /**
+     * position the cursor so that the following next() lands on the given index
+     */
+    void seek(int index);
+
+    int index();
+
+    long ts();
+
+    long blockNumber();
+
+    int tick();
+
+    /**
+     * gas price in wei
+     */
+    long gasPrice();
+
+    /**
+     * amount0 as a signed 128 bit integer of token0 base units, high word
+     */
+    long amount0Hi();
+
+    long amount0Lo();
+
+    long amount1Hi();
+
+    long amount1Lo();
+
+    BigDecimal amount0();
+
+    BigDecimal amount1();
+}
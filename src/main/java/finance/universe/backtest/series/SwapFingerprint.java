@@ -0,0 +1,48 @@
+package finance.universe.backtest.series;
+
+import java.math.BigDecimal;
+
+/**
+ * content sums of a run of swaps. the same value comes out of a swap_record aggregate and out of the loaded rows,
+ * so a snapshot can be checked against the table without reading the rows. long sums wrap like
+ * {@link BigDecimal#longValue()} does.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class SwapFingerprint {
+
+    private BigDecimal amount0 = BigDecimal.ZERO;
+    private BigDecimal amount1 = BigDecimal.ZERO;
+    private long ts;
+    private long blockNumber;
+    private long tick;
+    private long gasPrice;
+
+    void add(long ts, long blockNumber, long tick, BigDecimal amount0, BigDecimal amount1, long gasPrice) {
+        this.amount0 = this.amount0.add(amount0);
+        this.amount1 = this.amount1.add(amount1);
+        this.ts += ts;
+        this.blockNumber += blockNumber;
+        this.tick += tick;
+        this.gasPrice += gasPrice;
+    }
+
+    static SwapFingerprint of(SwapSeries rows) {
+        SwapFingerprint fingerprint = new SwapFingerprint();
+        SwapCursor cursor = rows.cursor();
+        while (cursor.next()) {
+            fingerprint.add(cursor.ts(), cursor.blockNumber(), cursor.tick(), cursor.amount0(), cursor.amount1(), cursor.gasPrice());
+        }
+        return fingerprint;
+    }
+
+    long value() {
+        long h = amount0.signum() == 0 ? 0 : amount0.stripTrailingZeros().hashCode();
+        h = h * 1_000_003 + (amount1.signum() == 0 ? 0 : amount1.stripTrailingZeros().hashCode());
+        h = h * 1_000_003 + ts;
+        h = h * 1_000_003 + blockNumber;
+        h = h * 1_000_003 + tick;
+        return h * 1_000_003 + gasPrice;
+    }
+}
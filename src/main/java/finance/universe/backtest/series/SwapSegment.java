@@ -0,0 +1,105 @@
+package finance.universe.backtest.series;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * one calendar month (utc) of a {@link SegmentedSwapSeries}. the catalog fields are known without loading the rows,
+ * the rows themselves are resident only while the {@link SegmentCache} keeps them.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class SwapSegment {
+
+    final SegmentedSwapSeries owner;
+    // [monthStart, monthEnd) in epoch seconds
+    final long monthStart;
+    final long monthEnd;
+    // series index of the first row
+    final int offset;
+
+    // catalog, only the tail segment grows and only under the segment's lock
+    volatile int rows;
+    volatile long firstTs;
+    volatile long lastTs;
+    volatile long firstBlock;
+    volatile long lastBlock;
+    // content sums of the cataloged and appended rows, guarded by the segment's lock
+    SwapFingerprint fingerprint = new SwapFingerprint();
+
+    // null while evicted
+    volatile AppendableSwapSeries resident;
+    // tables built from the resident rows, released with the rows: next cheap blocks by gas percentile, hourly gas
+    // percentiles and candles
+    final Map<Integer, CheapBlockIndex.Table> cheapBlocks = new ConcurrentHashMap<>();
+    final AtomicReference<GasIndex.Table> gasIndex = new AtomicReference<>();
+    final AtomicReference<Rollups.Table> rollups = new AtomicReference<>();
+
+    // guarded by the cache
+    int pins;
+    long bytes;
+    // memory-mapped files of the resident rows, null for direct buffers and the compressed encoding
+    Path mapDir;
+
+    SwapSegment(SegmentedSwapSeries owner, long monthStart, int offset) {
+        this.owner = owner;
+        this.monthStart = monthStart;
+        this.monthEnd = nextMonth(monthStart);
+        this.offset = offset;
+    }
+
+    /**
+     * resident bytes of the rows and the tables built from them
+     */
+    long memoryBytes(AppendableSwapSeries rows) {
+        return rows.memoryBytes() + tableBytes();
+    }
+
+    /**
+     * bytes of the tables built from the resident rows
+     */
+    long tableBytes() {
+        long bytes = 0;
+        for (CheapBlockIndex.Table table : cheapBlocks.values()) {
+            bytes += table.memoryBytes();
+        }
+        GasIndex.Table gas = gasIndex.get();
+        if (gas != null) {
+            bytes += gas.memoryBytes();
+        }
+        Rollups.Table candles = rollups.get();
+        if (candles != null) {
+            bytes += candles.memoryBytes();
+        }
+        return bytes;
+    }
+
+    void releaseTables() {
+        cheapBlocks.clear();
+        gasIndex.set(null);
+        rollups.set(null);
+    }
+
+    /**
+     * yyyyMM of the month, used in file names
+     */
+    String month() {
+        YearMonth month = YearMonth.from(Instant.ofEpochSecond(monthStart).atZone(ZoneOffset.UTC));
+        return String.format("%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    static long monthStart(long ts) {
+        YearMonth month = YearMonth.from(Instant.ofEpochSecond(ts).atZone(ZoneOffset.UTC));
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+    }
+
+    static long nextMonth(long monthStart) {
+        return Instant.ofEpochSecond(monthStart).atZone(ZoneOffset.UTC).plusMonths(1).toEpochSecond();
+    }
+}
@@ -0,0 +1,39 @@
+package finance.universe.backtest.series;
+
+/**
+ * per-pool swap history, ordered by block number
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public interface SwapSeries {
+
+    String getPair();
+
+    int size();
+
+    /**
+     * a fresh flyweight cursor positioned before the first row
+     */
+    SwapCursor cursor();
+
+    /**
+     * index of the first row with ts >= the given ts, or size() if none
+     */
+    int lowerBoundTs(long ts);
+
+    /**
+     * index of the first row with ts > the given ts, or size() if none
+     */
+    int upperBoundTs(long ts);
+
+    /**
+     * index of the first row with blockNumber >= the given block, or size() if none
+     */
+    int lowerBoundBlock(long blockNumber);
+
+    /**
+     * approximate number of off-heap / encoded bytes held by this series
+     */
+    long memoryBytes();
+}
@@ -0,0 +1,599 @@
+package finance.universe.backtest.series;
+
+import finance.universe.backtest.entity.HourKline;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.repository.HourKlineRepository;
+import finance.universe.backtest.util.PoolContext;
+import finance.universe.backtest.vo.SegmentStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * per-pool swap series cache, kept off heap (encoding = offheap) or block compressed on heap (encoding = compressed),
+ * together with the indexes derived from it. the indexes of a segmented series are built per month and live with
+ * the month's rows.
+ * with segments enabled a pool is cataloged by calendar month and every month is loaded on first access, from its
+ * snapshot file or swap_record, and evicted again under a shared memory budget. hourly klines are cached by month
+ * as well. otherwise every pool is streamed from swap_record once and kept whole.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Component
+public class SwapSeriesStore {
+
+    private static final String LOAD_SQL = "select ts, block_number, tick, amount0, amount1, gas_price from swap_record where pair = ? and block_number > ? order by block_number, log_index";
+    private static final String SEGMENT_SQL = "select ts, block_number, tick, amount0, amount1, gas_price from swap_record where pair = ? and block_number >= ? and block_number <= ? order by block_number, log_index";
+    // per utc day: rows, ts range, block range and the content sums of SwapFingerprint
+    private static final String CATALOG_SQL = "select ts / 86400, count(*), min(ts), max(ts), min(block_number), max(block_number),"
+            + " sum(ts), sum(block_number), sum(tick), sum(amount0), sum(amount1), sum(gas_price) from swap_record where pair = ? group by ts / 86400 order by 1";
+    private static final String COUNT_SQL = "select count(*) from swap_record where pair = ? and ts >= ? and ts <= ?";
+    private static final long DAY = 86400;
+    // "SWF1": header with the content fingerprint
+    private static final int SNAPSHOT_MAGIC = 0x53574631;
+    private static final String SNAPSHOT_SUFFIX = ".swaps";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+    @Autowired
+    HourKlineRepository klineRepository;
+
+    @Value("${backtest.series.encoding:offheap}")
+    private String encoding;
+
+    @Value("${backtest.series.mmap-dir:}")
+    private String mmapDir;
+
+    @Value("${backtest.series.fetch-size:10000}")
+    private int fetchSize;
+
+    @Value("${backtest.series.segments.enabled:true}")
+    private boolean segmented;
+
+    @Value("${backtest.series.segments.memory-budget-mb:512}")
+    private long memoryBudgetMb;
+
+    @Value("${backtest.series.segments.snapshot-dir:}")
+    private String snapshotDir;
+
+    private SegmentCache segmentCache;
+    private Path snapshotRoot;
+    private final AtomicLong segmentSeq = new AtomicLong();
+    private final AtomicLong snapshotLoads = new AtomicLong();
+    private final AtomicLong snapshotWrites = new AtomicLong();
+
+    private final Map<String, AppendableSwapSeries> seriesMap = new ConcurrentHashMap<>();
+    // by pair and month start
+    private final Map<String, Map<Long, KlineMonth>> klineMonths = new ConcurrentHashMap<>();
+    private final Map<String, GasIndex> gasIndexMap = new ConcurrentHashMap<>();
+    private final Map<String, Rollups> rollupsMap = new ConcurrentHashMap<>();
+    // by pair and percentile
+    private final Map<String, Map<Integer, CheapBlockIndex>> cheapBlockMap = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (StringUtils.hasText(mmapDir)) {
+            deleteMappedFiles(Paths.get(mmapDir));
+        }
+        if (!segmented) {
+            return;
+        }
+        segmentCache = new SegmentCache(memoryBudgetMb * 1024 * 1024, new SegmentCache.Loader() {
+            @Override
+            public AppendableSwapSeries create(SwapSegment segment) {
+                return newSegmentRows(segment);
+            }
+
+            @Override
+            public AppendableSwapSeries load(SwapSegment segment) {
+                return loadSegment(segment);
+            }
+
+            @Override
+            public void unloaded(SwapSegment segment, AppendableSwapSeries rows, Path mapDir, boolean dropped) {
+                segmentUnloaded(segment, rows, mapDir, dropped);
+            }
+
+            @Override
+            public List<HourKline> load(KlineMonth month) {
+                return klineRepository.findByPairAndTsBetweenOrderByTs(month.pair, month.monthStart, SwapSegment.nextMonth(month.monthStart) - 1);
+            }
+        });
+        if (StringUtils.hasText(snapshotDir)) {
+            snapshotRoot = Paths.get(snapshotDir);
+            Files.createDirectories(snapshotRoot);
+        }
+        log.info("swap segments, budget mb: {}, snapshot dir: {}", memoryBudgetMb, snapshotRoot);
+    }
+
+    public SwapSeries getSeries(Pool poolInfo) {
+        return seriesMap.computeIfAbsent(poolInfo.getPair(), pair -> segmented ? catalog(poolInfo) : load(poolInfo));
+    }
+
+    /**
+     * swaps of the pool with ts in [fromTs, toTs] without loading any: from the month catalog with segments enabled,
+     * from the series once it is loaded whole, otherwise counted in swap_record
+     */
+    public long estimateRows(Pool poolInfo, long fromTs, long toTs) {
+        SwapSeries series = segmented ? getSeries(poolInfo) : seriesMap.get(poolInfo.getPair());
+        if (series instanceof SegmentedSwapSeries) {
+            return ((SegmentedSwapSeries) series).estimateRows(fromTs, toTs);
+        }
+        if (series != null) {
+            return Math.max(0, series.upperBoundTs(toTs) - series.lowerBoundTs(fromTs));
+        }
+        Long rows = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, poolInfo.getPair(), fromTs, toTs);
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * keep the months holding the pool's swaps in [fromTs, toTs] resident once loaded, until the pin is closed
+     */
+    public SegmentPin pin(Pool poolInfo, long fromTs, long toTs) {
+        SwapSeries series = getSeries(poolInfo);
+        if (!(series instanceof SegmentedSwapSeries)) {
+            return SegmentPin.NONE;
+        }
+        List<SwapSegment> segments = ((SegmentedSwapSeries) series).segments(fromTs, toTs);
+        segmentCache.pin(segments);
+        return new SegmentPin(segmentCache, segments);
+    }
+
+    /**
+     * hourly klines of the pool with ts in [fromTs, toTs], ordered by ts.
+     * with segments enabled they are read by calendar month and kept under the segment budget until klines of the
+     * pool are written
+     */
+    public List<HourKline> getKlines(Pool poolInfo, long fromTs, long toTs) {
+        String pair = poolInfo.getPair();
+        if (!segmented) {
+            return klineRepository.findByPairAndTsBetweenOrderByTs(pair, fromTs, toTs);
+        }
+        List<HourKline> klines = new ArrayList<>();
+        Long minTs = klineRepository.getMinTsByPair(pair);
+        Long maxTs = klineRepository.getMaxTsByPair(pair);
+        if (minTs == null || maxTs == null) {
+            return klines;
+        }
+        Map<Long, KlineMonth> months = klineMonths.computeIfAbsent(pair, it -> new ConcurrentHashMap<>());
+        long to = Math.min(toTs, maxTs);
+        for (long month = SwapSegment.monthStart(Math.max(fromTs, minTs)); month <= to; month = SwapSegment.nextMonth(month)) {
+            List<HourKline> monthKlines = segmentCache.get(months.computeIfAbsent(month, it -> new KlineMonth(pair, it)));
+            for (HourKline kline : monthKlines) {
+                if (kline.getTs() >= fromTs && kline.getTs() <= toTs) {
+                    klines.add(kline);
+                }
+            }
+        }
+        return klines;
+    }
+
+    public SegmentStats getSegmentStats() {
+        SegmentStats stats = new SegmentStats();
+        if (segmentCache != null) {
+            segmentCache.fill(stats);
+        }
+        int segments = 0;
+        for (SwapSeries series : seriesMap.values()) {
+            if (series instanceof SegmentedSwapSeries) {
+                segments += ((SegmentedSwapSeries) series).segments().size();
+            }
+        }
+        stats.setSegments(segments);
+        stats.setSnapshotLoads(snapshotLoads.get());
+        stats.setSnapshotWrites(snapshotWrites.get());
+        return stats;
+    }
+
+    /**
+     * hourly gas percentiles of the pool. with segments enabled they are built per month on first lookup and kept
+     * with the month's rows, otherwise over the whole series here
+     */
+    public GasIndex getGasIndex(Pool poolInfo) {
+        return gasIndexMap.computeIfAbsent(poolInfo.getPair(), pair -> {
+            long start = System.currentTimeMillis();
+            GasIndex index = new GasIndex(pair, getSeries(poolInfo));
+            log.info("build gas index, pair: {}, consume: {}", pair, System.currentTimeMillis() - start);
+            return index;
+        });
+    }
+
+    /**
+     * @param percentile 50 or 90
+     */
+    public CheapBlockIndex getCheapBlockIndex(Pool poolInfo, int percentile) {
+        GasIndex gasIndex = getGasIndex(poolInfo);
+        return cheapBlockMap.computeIfAbsent(poolInfo.getPair(), pair -> new ConcurrentHashMap<>()).computeIfAbsent(percentile, it -> {
+            long start = System.currentTimeMillis();
+            CheapBlockIndex index = new CheapBlockIndex(poolInfo.getPair(), percentile, getSeries(poolInfo), gasIndex);
+            log.info("build cheap block index, pair: {}, percentile: {}, consume: {}", poolInfo.getPair(), percentile, System.currentTimeMillis() - start);
+            return index;
+        });
+    }
+
+    /**
+     * candles of the pool, per month on first access with segments enabled like the gas index
+     */
+    public Rollups getRollups(Pool poolInfo) {
+        return rollupsMap.computeIfAbsent(poolInfo.getPair(), pair -> {
+            long start = System.currentTimeMillis();
+            Rollups rollups = new Rollups(PoolContext.of(poolInfo), getSeries(poolInfo));
+            log.info("build rollups, pair: {}, rows: {}, consume: {}", pair, rollups.rows(), System.currentTimeMillis() - start);
+            return rollups;
+        });
+    }
+
+    /**
+     * bring a loaded pool up to date after swaps were written to swap_record. blocks after the series' last
+     * block are appended in place and the gas index and rollups extended, anything older drops the pool so it is
+     * reloaded on next use. either way, and for a pool that is not loaded, the pool's snapshot files are deleted and a
+     * {@link PoolUpdatedEvent} is published.
+     * @param minBlock lowest block number among the written rows
+     */
+    public synchronized void onSwapsWritten(Pool poolInfo, long minBlock) {
+        deleteSnapshots(poolInfo.getPair());
+        AppendableSwapSeries series = seriesMap.get(poolInfo.getPair());
+        if (series == null) {
+            // nothing to extend, results computed earlier are still stale
+            eventPublisher.publishEvent(PoolUpdatedEvent.reloaded(poolInfo.getPair()));
+            return;
+        }
+        long lastBlock = lastBlockNumber(series);
+        if (minBlock <= lastBlock) {
+            log.info("swap series invalidated, pair: {}, minBlock: {}, lastBlock: {}", poolInfo.getPair(), minBlock, lastBlock);
+            evict(poolInfo.getPair());
+            eventPublisher.publishEvent(PoolUpdatedEvent.reloaded(poolInfo.getPair()));
+            return;
+        }
+        int before = series.size();
+        stream(series, poolInfo.getPair(), lastBlock);
+        GasIndex gasIndex = gasIndexMap.get(poolInfo.getPair());
+        if (gasIndex != null) {
+            gasIndex.update();
+            Map<Integer, CheapBlockIndex> cheapBlocks = cheapBlockMap.get(poolInfo.getPair());
+            if (cheapBlocks != null) {
+                cheapBlocks.values().forEach(CheapBlockIndex::update);
+            }
+        }
+        Rollups rollups = rollupsMap.get(poolInfo.getPair());
+        if (rollups != null) {
+            rollups.update();
+        }
+        log.info("swap series extended, pair: {}, rows: {}", poolInfo.getPair(), series.size() - before);
+        eventPublisher.publishEvent(PoolUpdatedEvent.appended(poolInfo.getPair(), series.size()));
+    }
+
+    /**
+     * hourly klines of the pool were written
+     */
+    public void onKlinesWritten(Pool poolInfo) {
+        Map<Long, KlineMonth> months = klineMonths.remove(poolInfo.getPair());
+        if (months != null) {
+            segmentCache.dropKlines(months.values());
+        }
+        eventPublisher.publishEvent(PoolUpdatedEvent.klines(poolInfo.getPair()));
+    }
+
+    public void evict(String pair) {
+        gasIndexMap.remove(pair);
+        cheapBlockMap.remove(pair);
+        rollupsMap.remove(pair);
+        AppendableSwapSeries series = seriesMap.remove(pair);
+        if (series != null) {
+            series.close();
+        }
+        deleteSnapshots(pair);
+    }
+
+    private void deleteSnapshots(String pair) {
+        if (snapshotRoot != null) {
+            deleteQuietly(snapshotRoot.resolve(pair));
+        }
+    }
+
+    /**
+     * segment files left behind by an earlier run, the series are rebuilt from swap_record and snapshots
+     */
+    private static void deleteMappedFiles(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(root)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        int deleted = 0;
+        for (Path path : paths) {
+            if (path.getFileName().toString().endsWith(".seg")) {
+                Files.deleteIfExists(path);
+                deleted++;
+            } else if (!path.equals(root) && Files.isDirectory(path)) {
+                try (Stream<Path> entries = Files.list(path)) {
+                    if (!entries.findAny().isPresent()) {
+                        Files.delete(path);
+                    }
+                }
+            }
+        }
+        log.info("mapped segment files removed, dir: {}, files: {}", root, deleted);
+    }
+
+    private AppendableSwapSeries newSeries(String pair, int decimal0, int decimal1, Path mapDir, int expectedRows) {
+        if ("compressed".equalsIgnoreCase(encoding)) {
+            return new CompressedSwapSeries(pair, decimal0, decimal1);
+        }
+        return new OffHeapSwapSeries(pair, decimal0, decimal1, mapDir, expectedRows);
+    }
+
+    private AppendableSwapSeries newSeries(Pool poolInfo) {
+        Path mapDir = StringUtils.hasText(mmapDir) ? Paths.get(mmapDir) : null;
+        return newSeries(poolInfo.getPair(), poolInfo.getDecimal0(), poolInfo.getDecimal1(), mapDir, 0);
+    }
+
+    /**
+     * empty rows of a month. mapped months get a directory of their own per load, so a reload never truncates
+     * files an older cursor still reads
+     */
+    private AppendableSwapSeries newSegmentRows(SwapSegment segment) {
+        SegmentedSwapSeries owner = segment.owner;
+        Path mapDir = null;
+        if (StringUtils.hasText(mmapDir) && !"compressed".equalsIgnoreCase(encoding)) {
+            mapDir = Paths.get(mmapDir).resolve(owner.getPair()).resolve(segment.month() + "." + segmentSeq.incrementAndGet());
+        }
+        segment.mapDir = mapDir;
+        return newSeries(owner.getPair(), owner.getDecimal0(), owner.getDecimal1(), mapDir, segment.rows);
+    }
+
+    /**
+     * months of the pool from a per-day aggregate of swap_record, no row is loaded
+     */
+    private AppendableSwapSeries catalog(Pool poolInfo) {
+        long start = System.currentTimeMillis();
+        SegmentedSwapSeries series = new SegmentedSwapSeries(poolInfo.getPair(), poolInfo.getDecimal0(), poolInfo.getDecimal1(), segmentCache);
+        long[] month = {Long.MIN_VALUE, 0, 0, 0, 0, 0};
+        SwapFingerprint[] fingerprint = {null};
+        jdbcTemplate.query(CATALOG_SQL, rs -> {
+            long monthStart = SwapSegment.monthStart(rs.getLong(1) * DAY);
+            if (monthStart != month[0]) {
+                if (month[0] != Long.MIN_VALUE) {
+                    series.addSegment(month[0], (int) month[1], month[2], month[3], month[4], month[5], fingerprint[0]);
+                }
+                month[0] = monthStart;
+                month[1] = 0;
+                month[2] = rs.getLong(3);
+                month[4] = rs.getLong(5);
+                fingerprint[0] = new SwapFingerprint();
+            }
+            month[1] += rs.getLong(2);
+            month[3] = rs.getLong(4);
+            month[5] = rs.getLong(6);
+            fingerprint[0].add(rs.getBigDecimal(7).longValue(), rs.getBigDecimal(8).longValue(), rs.getBigDecimal(9).longValue(),
+                    rs.getBigDecimal(10), rs.getBigDecimal(11), rs.getBigDecimal(12).longValue());
+        }, poolInfo.getPair());
+        if (month[0] != Long.MIN_VALUE) {
+            series.addSegment(month[0], (int) month[1], month[2], month[3], month[4], month[5], fingerprint[0]);
+        }
+        log.info("catalog swap series, pair: {}, months: {}, rows: {}, consume: {}", poolInfo.getPair(), series.segments().size(), series.size(), System.currentTimeMillis() - start);
+        return series;
+    }
+
+    /**
+     * the rows of a month, called under the segment's lock so the catalog does not move
+     */
+    private AppendableSwapSeries loadSegment(SwapSegment segment) {
+        long start = System.currentTimeMillis();
+        AppendableSwapSeries rows = readSnapshot(segment);
+        String source = "snapshot";
+        if (rows == null) {
+            source = "swap_record";
+            rows = newSegmentRows(segment);
+            AppendableSwapSeries target = rows;
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SEGMENT_SQL);
+                ps.setFetchSize(fetchSize);
+                ps.setString(1, segment.owner.getPair());
+                ps.setLong(2, segment.firstBlock);
+                ps.setLong(3, segment.lastBlock);
+                return ps;
+            }, rs -> {
+                target.append(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getBigDecimal(6).longValueExact());
+            });
+            if (rows.size() != segment.rows) {
+                // swap_record changed below the series without onSwapsWritten, the offsets no longer hold
+                throw new IllegalStateException("swap segment out of sync, pair: " + segment.owner.getPair() + ", month: " + segment.month()
+                        + ", rows: " + rows.size() + ", cataloged: " + segment.rows);
+            }
+        }
+        log.info("load swap segment, pair: {}, month: {}, source: {}, rows: {}, consume: {}", segment.owner.getPair(), segment.month(), source, rows.size(), System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private void segmentUnloaded(SwapSegment segment, AppendableSwapSeries rows, Path mapDir, boolean dropped) {
+        if (mapDir != null) {
+            // unlinked files stay readable through the mappings of running cursors
+            deleteQuietly(mapDir);
+        }
+        // the open month still grows, it is always read from swap_record
+        if (dropped || snapshotRoot == null || segment.monthEnd > System.currentTimeMillis() / 1000 || rows == null) {
+            return;
+        }
+        try {
+            writeSnapshot(segment, rows);
+        } catch (IOException e) {
+            log.warn("write swap snapshot failed, pair: {}, month: {}", segment.owner.getPair(), segment.month(), e);
+        }
+    }
+
+    private Path snapshotFile(SwapSegment segment) {
+        return snapshotRoot.resolve(segment.owner.getPair()).resolve(segment.month() + SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * header: magic, rows, first and last block, content fingerprint, then per row
+     * ts | blockNumber | tick | gasPrice | amount0 hi/lo | amount1 hi/lo
+     */
+    private void writeSnapshot(SwapSegment segment, AppendableSwapSeries rows) throws IOException {
+        int size = rows.size();
+        if (size == 0) {
+            return;
+        }
+        SwapCursor cursor = rows.cursor();
+        cursor.next();
+        long firstBlock = cursor.blockNumber();
+        long lastBlock = lastBlockNumber(rows);
+        long fingerprint = SwapFingerprint.of(rows).value();
+        Path file = snapshotFile(segment);
+        if (matches(file, size, firstBlock, lastBlock, fingerprint)) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(size);
+            out.writeLong(firstBlock);
+            out.writeLong(lastBlock);
+            out.writeLong(fingerprint);
+            cursor.seek(0);
+            while (cursor.next()) {
+                out.writeLong(cursor.ts());
+                out.writeLong(cursor.blockNumber());
+                out.writeInt(cursor.tick());
+                out.writeLong(cursor.gasPrice());
+                out.writeLong(cursor.amount0Hi());
+                out.writeLong(cursor.amount0Lo());
+                out.writeLong(cursor.amount1Hi());
+                out.writeLong(cursor.amount1Lo());
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        snapshotWrites.incrementAndGet();
+        log.info("write swap snapshot, pair: {}, month: {}, rows: {}", segment.owner.getPair(), segment.month(), size);
+    }
+
+    private static boolean matches(Path file, int rows, long firstBlock, long lastBlock, long fingerprint) {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64))) {
+            return in.readInt() == SNAPSHOT_MAGIC && in.readInt() == rows && in.readLong() == firstBlock && in.readLong() == lastBlock
+                    && in.readLong() == fingerprint;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return null without a snapshot that matches the month's catalog
+     */
+    private AppendableSwapSeries readSnapshot(SwapSegment segment) {
+        if (snapshotRoot == null) {
+            return null;
+        }
+        Path file = snapshotFile(segment);
+        if (!matches(file, segment.rows, segment.firstBlock, segment.lastBlock, segment.fingerprint.value())) {
+            return null;
+        }
+        SegmentedSwapSeries owner = segment.owner;
+        AppendableSwapSeries rows = newSegmentRows(segment);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            in.readInt();
+            int size = in.readInt();
+            in.readLong();
+            in.readLong();
+            in.readLong();
+            for (int i = 0; i < size; i++) {
+                long ts = in.readLong();
+                long blockNumber = in.readLong();
+                int tick = in.readInt();
+                long gasPrice = in.readLong();
+                long amount0Hi = in.readLong();
+                long amount0Lo = in.readLong();
+                long amount1Hi = in.readLong();
+                long amount1Lo = in.readLong();
+                rows.append(ts, blockNumber, tick, Int128.toBigDecimal(amount0Hi, amount0Lo, owner.getDecimal0()),
+                        Int128.toBigDecimal(amount1Hi, amount1Lo, owner.getDecimal1()), gasPrice);
+            }
+        } catch (IOException e) {
+            log.warn("read swap snapshot failed, pair: {}, month: {}", owner.getPair(), segment.month(), e);
+            if (segment.mapDir != null) {
+                deleteQuietly(segment.mapDir);
+                segment.mapDir = null;
+            }
+            return null;
+        }
+        snapshotLoads.incrementAndGet();
+        return rows;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            FileSystemUtils.deleteRecursively(path);
+        } catch (IOException e) {
+            log.debug("delete failed, path: {}", path, e);
+        }
+    }
+
+    private AppendableSwapSeries load(Pool poolInfo) {
+        long start = System.currentTimeMillis();
+        AppendableSwapSeries series = newSeries(poolInfo);
+        stream(series, poolInfo.getPair(), Long.MIN_VALUE);
+        log.info("load swap series, pair: {}, encoding: {}, rows: {}, bytes: {}, consume: {}", poolInfo.getPair(), encoding, series.size(), series.memoryBytes(), System.currentTimeMillis() - start);
+        return series;
+    }
+
+    private void stream(AppendableSwapSeries series, String pair, long afterBlock) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOAD_SQL);
+            ps.setFetchSize(fetchSize);
+            ps.setString(1, pair);
+            ps.setLong(2, afterBlock);
+            return ps;
+        }, rs -> {
+            series.append(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getBigDecimal(6).longValueExact());
+        });
+    }
+
+    private static long lastBlockNumber(SwapSeries series) {
+        if (series instanceof SegmentedSwapSeries) {
+            // from the catalog, without loading the last month
+            return ((SegmentedSwapSeries) series).lastBlockNumber();
+        }
+        if (series.size() == 0) {
+            return Long.MIN_VALUE;
+        }
+        SwapCursor cursor = series.cursor();
+        cursor.seek(series.size() - 1);
+        cursor.next();
+        return cursor.blockNumber();
+    }
+}
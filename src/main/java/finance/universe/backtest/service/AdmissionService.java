@@ -0,0 +1,253 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.vo.AdmissionStats;
+import finance.universe.backtest.vo.BackTestTickParams;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * admission control for backtest requests.
+ * every request is given a cost, its estimated heap use from the swap rows in its window, and runs only while
+ * the running requests stay within the global budget, the concurrency limit and the per-client limit.
+ * others wait up to max-wait-ms in a bounded queue and are rejected with a retry hint after that. the queue is
+ * served strictly in arrival order, only its head is admitted, so a stream of small requests never starves a large
+ * one. a request costing more than the whole budget could never run and is rejected at once.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class AdmissionService {
+
+    private static final long MB = 1024 * 1024;
+
+    @Autowired
+    PoolRepository poolRepository;
+    @Autowired
+    SwapSeriesStore swapSeriesStore;
+
+    @Value("${backtest.admission.budget-mb:0}")
+    private long budgetMb;
+
+    @Value("${backtest.admission.max-concurrent:0}")
+    private int maxConcurrent;
+
+    @Value("${backtest.admission.per-client:2}")
+    private int perClient;
+
+    @Value("${backtest.admission.max-queue:32}")
+    private int maxQueue;
+
+    @Value("${backtest.admission.max-wait-ms:10000}")
+    private long maxWaitMs;
+
+    // heap per swap row of the window: blocked SwapRecord, im list entry and the BigDecimals they hold
+    @Value("${backtest.admission.exact-bytes-per-row:600}")
+    private long exactBytesPerRow;
+
+    @Value("${backtest.admission.fast-bytes-per-row:16}")
+    private long fastBytesPerRow;
+
+    private long budget;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // guarded by lock. one condition per waiting request in arrival order, the head is signalled when it may fit
+    private final Deque<Condition> queue = new ArrayDeque<>();
+    private int running;
+    private long costInUse;
+    private long admitted;
+    private long rejectedQueueFull;
+    private long rejectedTimeout;
+    private long rejectedTooLarge;
+    private long avgRunMs;
+    private final Map<String, Integer> runningByClient = new HashMap<>();
+
+    public static class RejectedException extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final long retryAfterSeconds;
+
+        RejectedException(String message, long retryAfterSeconds) {
+            super(message);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    /**
+     * the cost is above the whole budget, retrying does not help
+     */
+    public static class TooLargeException extends RejectedException {
+        private static final long serialVersionUID = 1L;
+
+        TooLargeException(String message) {
+            super(message, 0);
+        }
+    }
+
+    public class Permit implements AutoCloseable {
+        private final String client;
+        private final long cost;
+        private final long start = System.currentTimeMillis();
+        private boolean closed;
+
+        Permit(String client, long cost) {
+            this.client = client;
+            this.cost = cost;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(this);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        budget = budgetMb > 0 ? budgetMb * MB : Runtime.getRuntime().maxMemory() / 2;
+        if (maxConcurrent <= 0) {
+            maxConcurrent = Runtime.getRuntime().availableProcessors();
+        }
+        log.info("admission init, budget: {} MB, maxConcurrent: {}, perClient: {}, maxQueue: {}", budget / MB, maxConcurrent, perClient, maxQueue);
+    }
+
+    /**
+     * estimated heap bytes of a backtest, from the number of swaps in its window. the rows are counted from the
+     * series catalog, nothing is loaded before the request is admitted
+     */
+    public long estimateCost(BackTestTickParams params) {
+        long base = MB;
+        if (params.getPair() == null || params.getStartTs() == null) {
+            return base;
+        }
+        Pool poolInfo = poolRepository.findById(params.getPair()).orElse(null);
+        if (poolInfo == null) {
+            return base;
+        }
+        long endTs = params.getEndTs() == null ? Long.MAX_VALUE : params.getEndTs();
+        long rows = swapSeriesStore.estimateRows(poolInfo, params.getStartTs(), endTs);
+        boolean fast = BackTestService.MODE_FAST.equalsIgnoreCase(params.getMode()) || !CollectionUtils.isEmpty(params.getPositions());
+        return base + rows * (fast ? fastBytesPerRow : exactBytesPerRow);
+    }
+
+    /**
+     * wait for room for a request of the given cost, behind every request that came earlier
+     * @throws TooLargeException when the cost is above the whole budget
+     * @throws RejectedException when the queue is full or the wait times out
+     */
+    public Permit acquire(String client, long cost) throws RejectedException, InterruptedException {
+        lock.lock();
+        try {
+            if (cost > budget) {
+                rejectedTooLarge++;
+                throw new TooLargeException("backtest too large, cost: " + cost / MB + " MB, budget: " + budget / MB + " MB");
+            }
+            if (!queue.isEmpty() || !fits(client, cost)) {
+                if (queue.size() >= maxQueue) {
+                    rejectedQueueFull++;
+                    throw new RejectedException("backtest queue full", retryAfterSeconds());
+                }
+                Condition turn = lock.newCondition();
+                queue.addLast(turn);
+                try {
+                    long left = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                    while (queue.peekFirst() != turn || !fits(client, cost)) {
+                        if (left <= 0) {
+                            rejectedTimeout++;
+                            throw new RejectedException("backtest capacity busy", retryAfterSeconds());
+                        }
+                        left = turn.awaitNanos(left);
+                    }
+                } finally {
+                    boolean head = queue.peekFirst() == turn;
+                    queue.remove(turn);
+                    // admitted or gone, the next one may fit now
+                    if (head) {
+                        signalHead();
+                    }
+                }
+            }
+            running++;
+            costInUse += cost;
+            admitted++;
+            runningByClient.merge(client, 1, Integer::sum);
+            return new Permit(client, cost);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public AdmissionStats getStats() {
+        lock.lock();
+        try {
+            AdmissionStats stats = new AdmissionStats();
+            stats.setRunning(running);
+            stats.setQueueDepth(queue.size());
+            stats.setCostInUse(costInUse);
+            stats.setBudget(budget);
+            stats.setAdmitted(admitted);
+            stats.setRejectedQueueFull(rejectedQueueFull);
+            stats.setRejectedTimeout(rejectedTimeout);
+            stats.setRejectedTooLarge(rejectedTooLarge);
+            stats.setAvgRunMs(avgRunMs);
+            stats.setRunningByClient(new HashMap<>(runningByClient));
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean fits(String client, long cost) {
+        return costInUse + cost <= budget && running < maxConcurrent && runningByClient.getOrDefault(client, 0) < perClient;
+    }
+
+    private void signalHead() {
+        Condition head = queue.peekFirst();
+        if (head != null) {
+            head.signal();
+        }
+    }
+
+    private void release(Permit permit) {
+        lock.lock();
+        try {
+            running--;
+            costInUse -= permit.cost;
+            runningByClient.computeIfPresent(permit.client, (k, v) -> v > 1 ? v - 1 : null);
+            long ms = System.currentTimeMillis() - permit.start;
+            avgRunMs = avgRunMs == 0 ? ms : (avgRunMs * 7 + ms) / 8;
+            signalHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * time for the queue ahead to drain at the current pace, 1 to 60 seconds
+     */
+    private long retryAfterSeconds() {
+        long ms = avgRunMs * (queue.size() + 1) / Math.max(1, maxConcurrent);
+        return Math.max(1, Math.min(60, (ms + 999) / 1000));
+    }
+}
@@ -4,16 +4,29 @@ import com.google.common.collect.Lists;
 import finance.universe.backtest.entity.HourKline;
 import finance.universe.backtest.entity.Pool;
 import finance.universe.backtest.entity.SwapRecord;
+import finance.universe.backtest.jfr.BackTestLoopEvent;
+import finance.universe.backtest.jfr.BackTestStageEvent;
+import finance.universe.backtest.jfr.RebalanceEvent;
 import finance.universe.backtest.repository.HourKlineRepository;
 import finance.universe.backtest.repository.PoolRepository;
-import finance.universe.backtest.repository.SwapRecordRepository;
+import finance.universe.backtest.series.CheapBlockIndex;
+import finance.universe.backtest.series.GasIndex;
+import finance.universe.backtest.series.Int128;
+import finance.universe.backtest.series.Rollups;
+import finance.universe.backtest.series.SegmentPin;
+import finance.universe.backtest.series.SwapCursor;
+import finance.universe.backtest.series.SwapSeries;
+import finance.universe.backtest.series.SwapSeriesStore;
 import finance.universe.backtest.util.BaseUtil;
+import finance.universe.backtest.util.GasHistogram;
+import finance.universe.backtest.util.PoolContext;
 import finance.universe.backtest.vo.BackTestTickParams;
 import finance.universe.backtest.vo.Direction;
 import finance.universe.backtest.vo.Rebalance;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.web3j.tuples.generated.Tuple2;
@@ -25,6 +38,8 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 import static finance.universe.backtest.util.BaseUtil.safeDivide;
@@ -37,14 +52,24 @@ import static finance.universe.backtest.util.BaseUtil.safeDivide;
 @Service
 public class BackTestService {
 
+    public static final String MODE_EXACT = "exact";
+    public static final String MODE_FAST = "fast";
+
     @Autowired
     PoolRepository poolRepository;
     @Autowired
     HourKlineRepository klineRepository;
     @Autowired
-    SwapRecordRepository swapRecordRepository;
+    SwapSeriesStore swapSeriesStore;
+
+    @Value("${backtest.gas.max-gwei:200}")
+    private BigInteger maxGasGwei;
 
-    private int nonce = 0;
+    // blocks per BackTestLoopEvent sample
+    @Value("${backtest.jfr.loop-sample-blocks:1000}")
+    private int loopSampleBlocks;
+
+    private final AtomicInteger nonce = new AtomicInteger();
 
     private final BigInteger FixedPoint96_Q96 = new BigInteger("1000000000000000000000000", 16);
     private final BigInteger avgRebalanceGasUseed = BigInteger.valueOf(400000);
@@ -62,95 +87,197 @@ public class BackTestService {
     }
 
     /**
-     * back test
-     * @param params
-     * @return
-     * @throws Exception
+     * the engine the params run on: fast for ladders, exact when no mode is given
      */
-    public Map<String, Object> doBackTest(BackTestTickParams params) throws Exception {
-        long taskStartTime = System.currentTimeMillis();
+    static String modeOf(BackTestTickParams params) {
+        if (!CollectionUtils.isEmpty(params.getPositions())) {
+            return MODE_FAST;
+        }
+        return params.getMode() == null ? MODE_EXACT : params.getMode().toLowerCase();
+    }
+
+    /**
+     * fast mode results of single-position params that differ in boundaryThreshold / reBalanceThreshold only,
+     * simulated together in one pass over the series. nothing is stored, the results carry no report_name
+     */
+    List<Map<String, Object>> runBatch(List<BackTestTickParams> batch) throws Exception {
+        BackTestTickParams params = batch.get(0);
+        Pool poolInfo = poolOf(params);
+        SegmentPin pin = pin(poolInfo, params);
+        try {
+            long taskStartTime = System.currentTimeMillis();
+            Window window = window(poolInfo, params, MODE_FAST);
+            BackTestStageEvent stage = new BackTestStageEvent(params.getPair(), "batch", MODE_FAST, window.startTs, window.endTs);
+            List<Map<String, Object>> results = new BatchBackTest(poolInfo, batch).run(window.series, window.from, window.to, window.klines, window.days);
+            stage.finish(window.to - window.from);
+            log.info("doTask end, mode: batch, runs: {}, consume: {}", batch.size(), System.currentTimeMillis() - taskStartTime);
+            return results;
+        } finally {
+            pin.close();
+        }
+    }
+
+    /**
+     * back test, the result is not stored
+     */
+    public Map<String, Object> runBackTest(BackTestTickParams params) throws Exception {
+        // ladders only exist in the position book of the fast engine
+        if (!CollectionUtils.isEmpty(params.getPositions()) && params.getMode() != null && !MODE_FAST.equalsIgnoreCase(params.getMode())) {
+            throw new IllegalArgumentException("positions require fast mode");
+        }
+        GasIndex.checkPercentile(params.getGasPercentile());
+        checkRebalance(params);
+        Pool poolInfo = poolOf(params);
+        SegmentPin pin = pin(poolInfo, params);
+        try {
+            return runBackTest(params, poolInfo);
+        } finally {
+            pin.close();
+        }
+    }
+
+    /**
+     * a forced rebalance names its position by index into params.positions, without positions only 0 exists
+     */
+    static void checkRebalance(BackTestTickParams params) {
+        if (CollectionUtils.isEmpty(params.getRebalance())) {
+            return;
+        }
+        int n = CollectionUtils.isEmpty(params.getPositions()) ? 1 : params.getPositions().size();
+        for (Rebalance rebalance : params.getRebalance()) {
+            int position = rebalance.getPosition() == null ? 0 : rebalance.getPosition();
+            if (position != 0 && CollectionUtils.isEmpty(params.getPositions())) {
+                throw new IllegalArgumentException("rebalance position " + position + " without positions");
+            }
+            if (position < 0 || position >= n) {
+                throw new IllegalArgumentException("rebalance position out of range: " + position);
+            }
+        }
+    }
+
+    /**
+     * the window of a run with its klines and its rows of the pool's series
+     */
+    private static final class Window {
+        final long startTs;
+        final long endTs;
+        final long days;
+        final List<HourKline> klines;
+        final SwapSeries series;
+        final int from;
+        final int to;
+
+        Window(long startTs, long endTs, List<HourKline> klines, SwapSeries series, int from, int to) {
+            this.startTs = startTs;
+            this.endTs = endTs;
+            this.days = (endTs - startTs) / (3600 * 24);
+            this.klines = klines;
+            this.series = series;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private Pool poolOf(BackTestTickParams params) throws Exception {
         Pool poolInfo = poolRepository.findById(params.getPair()).orElse(null);
         if (poolInfo == null) {
             throw new Exception("pool miss");
         }
+        return poolInfo;
+    }
+
+    /**
+     * the months of the window stay resident for the whole run
+     */
+    private SegmentPin pin(Pool poolInfo, BackTestTickParams params) {
+        return swapSeriesStore.pin(poolInfo, params.getStartTs(), params.getEndTs() == null ? Long.MAX_VALUE : params.getEndTs());
+    }
 
+    /**
+     * read what a run needs before simulating, endTs defaults to the latest kline of the pool
+     */
+    private Window window(Pool poolInfo, BackTestTickParams params, String mode) throws Exception {
         Long maxTs = klineRepository.getMaxTsByPair(params.getPair());
         if (maxTs == null) {
             throw new Exception("swap miss");
         }
-
         long endTs = params.getEndTs() == null ? maxTs : params.getEndTs();
         long startTs = params.getStartTs();
-        long days = (endTs - startTs) / (3600 * 24);
-
         long taskStagTime = System.currentTimeMillis();
 
-        List<HourKline> klineVoList = klineRepository.findByPairAndTsLessThanEqualOrderByTs(params.getPair(), endTs);
+        BackTestStageEvent stage = new BackTestStageEvent(params.getPair(), "kline", mode, startTs, endTs);
+        List<HourKline> klineVoList = swapSeriesStore.getKlines(poolInfo, BaseUtil.alignedToHour(startTs * 1000) / 1000, endTs);
         if (klineVoList == null || klineVoList.isEmpty()) {
             throw new Exception("kline miss");
         }
-
+        stage.finish(klineVoList.size());
         log.info("doTask stag1 get kline, consume: {}", System.currentTimeMillis() - taskStagTime);
-
-        log.info("doTask stag2 get trend ind, consume: {}", System.currentTimeMillis() - taskStartTime);
         taskStagTime = System.currentTimeMillis();
 
-        List<SwapRecord> swapRecordVoList = swapRecordRepository.findByPairAndTsGreaterThanEqualAndTsLessThanEqual(params.getPair(), startTs, endTs);
-        if (swapRecordVoList == null || swapRecordVoList.isEmpty()) {
+        stage = new BackTestStageEvent(params.getPair(), "swaps", mode, startTs, endTs);
+        SwapSeries series = swapSeriesStore.getSeries(poolInfo);
+        int from = series.lowerBoundTs(startTs);
+        int to = series.upperBoundTs(endTs);
+        if (from >= to) {
             throw new Exception("swap miss");
         }
-
+        stage.finish(to - from);
         log.info("doTask stag3 get swaps, consume: {}", System.currentTimeMillis() - taskStagTime);
-        taskStagTime = System.currentTimeMillis();
+        return new Window(startTs, endTs, klineVoList, series, from, to);
+    }
+
+    private Map<String, Object> runBackTest(BackTestTickParams params, Pool poolInfo) throws Exception {
+        long taskStartTime = System.currentTimeMillis();
+        PoolContext poolContext = PoolContext.of(poolInfo);
+        String mode = modeOf(params);
+        Window window = window(poolInfo, params, mode);
+        long startTs = window.startTs;
+        long endTs = window.endTs;
+        long days = window.days;
+        List<HourKline> klineVoList = window.klines;
+        SwapSeries series = window.series;
+        int from = window.from;
+        int to = window.to;
+        long taskStagTime = System.currentTimeMillis();
+        BackTestStageEvent stage;
+
+        if (MODE_FAST.equals(mode)) {
+            stage = new BackTestStageEvent(params.getPair(), "fast", mode, startTs, endTs);
+            Map<String, Object> resultMap = new FastBackTest(poolInfo, params, gasGate(poolInfo, params), cheapBlocks(poolInfo, params)).run(series, from, to, klineVoList, days, nextReportName(params));
+            stage.finish(to - from);
+            log.info("doTask end, mode: fast, consume: {}", System.currentTimeMillis() - taskStartTime);
+            return resultMap;
+        }
 
         Map<Long, HourKline> klineVoMap = klineVoList.stream().collect(Collectors.toMap(HourKline::getTs, it -> it));
 
-        Map<Long, List<SwapRecord>> swapMap = swapRecordVoList.stream().collect(Collectors.groupingBy(SwapRecord::getBlockNumber));
+        // ordered by block
+        stage = new BackTestStageEvent(params.getPair(), "blocked", mode, startTs, endTs);
         List<SwapRecord> swapBlockedList = new ArrayList<>();
-        swapMap.forEach((k, v) -> {
-            SwapRecord last = v.get(v.size() - 1);
-            SwapRecord swapRecordVo = new SwapRecord();
-            swapRecordVo.setAmount0(v.stream().map(it -> it.getAmount0().compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : it.getAmount0()).reduce(BigDecimal.ZERO, BigDecimal::add));
-            swapRecordVo.setAmount1(v.stream().map(it -> it.getAmount1().compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : it.getAmount1()).reduce(BigDecimal.ZERO, BigDecimal::add));
-            swapRecordVo.setTick(last.getTick());
-            swapRecordVo.setTs(last.getTs());
-            swapRecordVo.setBlockNumber(k);
-            swapRecordVo.setPrice(BaseUtil.getPriceByTick(poolInfo, BigInteger.valueOf(last.getTick())));
-            if (v.size() > 1) {
-                swapRecordVo.setGasPrice(getMedium(v.stream().map(SwapRecord::getGasPrice).collect(Collectors.toList())));
-            } else {
-                swapRecordVo.setGasPrice(last.getGasPrice());
-            }
-            BigDecimal liquidity = getTotalLiquidFromKline(last.getTs(), klineVoMap);
-            if (liquidity != null) {
-                swapRecordVo.setLiquidity(liquidity);
-                swapBlockedList.add(swapRecordVo);
-            }
-        });
-
-        // order by block
-        swapBlockedList.sort(Comparator.comparing(SwapRecord::getBlockNumber));
+        int uncovered = getBlockedRecords(poolContext, series, from, to, klineVoMap, swapBlockedList);
+        stage.finish(swapBlockedList.size());
 
         log.info("doTask stag4 get blocked records, consume: {}", System.currentTimeMillis() - taskStagTime);
         taskStagTime = System.currentTimeMillis();
 
         BigDecimal startPrice = swapBlockedList.get(0).getPrice();
         BigDecimal endPrice = swapBlockedList.get(swapBlockedList.size() - 1).getPrice();
-        BigDecimal highPrice = swapBlockedList.stream().map(SwapRecord::getPrice).max(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
-        BigDecimal lowPrice = swapBlockedList.stream().map(SwapRecord::getPrice).min(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
+        BigDecimal[] highLow = getHighLow(poolInfo, poolContext, to, startTs, endTs, uncovered == 0, swapBlockedList);
+        BigDecimal highPrice = highLow[0];
+        BigDecimal lowPrice = highLow[1];
 
-        long boundaryThreshold = BaseUtil.floor(params.getBoundaryThreshold(), poolInfo.getTickSpacing());
+        long boundaryThreshold = BaseUtil.floor(params.getBoundaryThreshold(), poolContext.getTickSpacing());
 
         long ts = startTs;
         BigDecimal price = startPrice;
         long tick = swapBlockedList.get(0).getTick();
         BigInteger tickPrice = BigDecimal.valueOf(Math.pow(1.0001, tick)).toBigInteger();
 
-        long middleTick = BaseUtil.floor(tick, poolInfo.getTickSpacing());
+        long middleTick = BaseUtil.floor(tick, poolContext.getTickSpacing());
         long lowerTick = middleTick - boundaryThreshold;
         long upperTick = middleTick + boundaryThreshold;
 
-        BigDecimal startNetValue = BaseUtil.getNetValue(poolInfo, params.getAmount0(), params.getAmount1(), startPrice);
+        BigDecimal startNetValue = poolContext.netValue(params.getAmount0(), params.getAmount1(), startPrice);
 
         BigDecimal endNetValue = BigDecimal.ZERO;
 
@@ -177,7 +304,7 @@ public class BackTestService {
         BigInteger sqrtUpper = BaseUtil.getSqrtPriceByTick(upperTick);
 
         // first staking liquidity
-        Tuple7<BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, Integer> tp7 = addLiquidity(poolInfo, sqrtPrice, sqrtLower, sqrtUpper, tickPrice, BaseUtil.getAmountByScale(params.getAmount0(), poolInfo.getDecimal0()), BaseUtil.getAmountByScale(params.getAmount1(), poolInfo.getDecimal1()), poolInfo.getSwapFee());
+        Tuple7<BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, Integer> tp7 = addLiquidity(poolContext, sqrtPrice, sqrtLower, sqrtUpper, tickPrice, poolContext.toUnits0(params.getAmount0()), poolContext.toUnits1(params.getAmount1()), poolContext.getSwapFee());
         BigInteger liquidity = tp7.component1();
         BigInteger amount0 = tp7.component2();
         BigInteger amount1 = tp7.component3();
@@ -201,11 +328,11 @@ public class BackTestService {
         List<Object> paramList = new ArrayList<>();
         paramList.add(String.valueOf(ts));
         paramList.add(price.toPlainString());
-        paramList.add(BaseUtil.getAmountWithScale(amount0, poolInfo.getDecimal0()).toPlainString());
-        paramList.add(BaseUtil.getAmountWithScale(amount1, poolInfo.getDecimal1()).toPlainString());
+        paramList.add(poolContext.toAmount0(amount0).toPlainString());
+        paramList.add(poolContext.toAmount1(amount1).toPlainString());
         paramList.add(liquidity.toString());
-        paramList.add(BaseUtil.getAmountWithScale(change0, poolInfo.getDecimal0()).toPlainString());
-        paramList.add(BaseUtil.getAmountWithScale(change1, poolInfo.getDecimal1()).toPlainString());
+        paramList.add(poolContext.toAmount0(change0).toPlainString());
+        paramList.add(poolContext.toAmount1(change1).toPlainString());
         paramList.add("0");
         paramList.add("0");
         paramList.add("50000000000");
@@ -218,6 +345,11 @@ public class BackTestService {
 
         Long lastRebalanceTime = swapBlockedList.get(0).getTs();
 
+        boolean gasCost = Boolean.TRUE.equals(params.getGasCost());
+        if (gasCost && poolContext.getGasToken() < 0) {
+            throw new IllegalArgumentException("gasCost needs a pool holding WETH");
+        }
+
         Map<Long, Rebalance> rebalanceMap = new HashMap<>();
         List<Rebalance> rebalanceList = params.getRebalance();
         if (!CollectionUtils.isEmpty(rebalanceList)) {
@@ -229,7 +361,22 @@ public class BackTestService {
             }
         }
 
+        GasIndex gasIndex = params.getGasPercentile() == null ? null : swapSeriesStore.getGasIndex(poolInfo);
+        CheapBlockIndex.Cursor cheapBlocks = cheapBlocks(poolInfo, params);
+        // a forced rebalance waiting for its cheap block
+        Rebalance deferred = null;
+        long deferredTo = -1;
+        int deferrals = 0;
+        BigInteger totalGas = BigInteger.ZERO;
+
+        stage = new BackTestStageEvent(params.getPair(), "loop", mode, startTs, endTs);
+        BackTestLoopEvent loopEvent = null;
         for (SwapRecord swapRecordVo : swapBlockedList) {
+            if (loopEvent == null) {
+                loopEvent = new BackTestLoopEvent();
+                loopEvent.begin();
+                loopEvent.fromBlock = swapRecordVo.getBlockNumber();
+            }
             ts = swapRecordVo.getTs();
             price = swapRecordVo.getPrice();
             tick = swapRecordVo.getTick();
@@ -238,22 +385,48 @@ public class BackTestService {
             BigDecimal gasPrice = swapRecordVo.getGasPrice();
 
             Rebalance rebalance = rebalanceMap.get(swapRecordVo.getBlockNumber());
+            if (cheapBlocks != null) {
+                long blockNumber = swapRecordVo.getBlockNumber();
+                if (Objects.nonNull(rebalance) && rebalance.getUpper() > rebalance.getLower()) {
+                    // a later forced rebalance replaces the one still waiting
+                    deferred = rebalance;
+                    deferredTo = cheapBlocks.nextCheap(blockNumber);
+                    if (deferredTo != blockNumber) {
+                        deferrals++;
+                    }
+                } else if (deferred != null && deferredTo < 0) {
+                    deferredTo = cheapBlocks.nextCheap(blockNumber);
+                }
+                rebalance = null;
+                if (deferred != null && deferredTo >= 0 && blockNumber >= deferredTo) {
+                    rebalance = deferred;
+                    deferred = null;
+                }
+            }
 
             if (sqrtPrice.compareTo(sqrtLower) >= 0 && sqrtPrice.compareTo(sqrtUpper) <= 0) {
                 BigDecimal totalLiquidity = swapRecordVo.getLiquidity();
                 BigDecimal ratio = BaseUtil.safeDivide(new BigDecimal(liquidity), totalLiquidity);
-                BigDecimal t0 = swapRecordVo.getAmount0().multiply(poolInfo.getSwapFee()).multiply(ratio);
-                tempCommission0 = tempCommission0.add(BaseUtil.getAmountByScale(t0, poolInfo.getDecimal0()));
-                BigDecimal t1 = swapRecordVo.getAmount1().multiply(poolInfo.getSwapFee()).multiply(ratio);
-                tempCommission1 = tempCommission1.add(BaseUtil.getAmountByScale(t1, poolInfo.getDecimal1()));
+                BigDecimal t0 = swapRecordVo.getAmount0().multiply(poolContext.getSwapFee()).multiply(ratio);
+                tempCommission0 = tempCommission0.add(poolContext.toUnits0(t0));
+                BigDecimal t1 = swapRecordVo.getAmount1().multiply(poolContext.getSwapFee()).multiply(ratio);
+                tempCommission1 = tempCommission1.add(poolContext.toUnits1(t1));
             }
 
-            Tuple2<BigDecimal, BigDecimal> tp2 = getNetValueAndIm(poolInfo, sqrtPrice, sqrtLower, sqrtUpper, liquidity, price, start0, start1, change0, change1, tempCommission0, tempCommission1);
+            Tuple2<BigDecimal, BigDecimal> tp2 = getNetValueAndIm(poolContext, sqrtPrice, sqrtLower, sqrtUpper, liquidity, price, start0, start1, change0, change1, tempCommission0, tempCommission1);
             endNetValue = tp2.component1();
             rateList.add(new ImData(ts, tp2.component2()));
             boolean forceRebalance = Objects.nonNull(rebalance) && rebalance.getUpper() > rebalance.getLower();
+            // reBalanceSignal is never raised, so only forced rebalances get here and the gas gate below has no effect
+            // on this engine. threshold rebalances, and with them the gate, only exist for fast ladders
             if (reBalanceSignal || forceRebalance) {
-                if (Math.abs(tick - middleTick) >= params.getReBalanceThreshold() && BaseUtil.toGWei(swapRecordVo.getGasPrice().toBigInteger()).compareTo(BigInteger.valueOf(200)) <= 0 || forceRebalance) {
+                BigInteger gas = gasCost ? poolContext.gasUnits(gasPrice.multiply(new BigDecimal(avgRebalanceGasUseed)).toBigInteger()) : BigInteger.ZERO;
+                if ((Math.abs(tick - middleTick) >= params.getReBalanceThreshold() && isGasAcceptable(gasPrice, ts, gasIndex, params.getGasPercentile()) || forceRebalance)
+                        && (!gasCost || canPayGas(poolContext, getAmountsForLiquidity(sqrtPrice, sqrtLower, sqrtUpper, liquidity), change0.add(tempCommission0), change1.add(tempCommission1), gas, tick))) {
+                    RebalanceEvent rebalanceEvent = new RebalanceEvent();
+                    rebalanceEvent.begin();
+                    long oldLowerTick = lowerTick;
+                    long oldUpperTick = upperTick;
                     Tuple3<BigInteger, BigInteger, BigDecimal> removeResult = removeLiquidity(sqrtPrice, sqrtLower, sqrtUpper, liquidity, tickPrice, amount0, amount1);
                     BigInteger remove0 = removeResult.component1();
                     BigInteger remove1 = removeResult.component2();
@@ -270,11 +443,11 @@ public class BackTestService {
                     paramList = new ArrayList<>();
                     paramList.add(String.valueOf(ts));
                     paramList.add(price.toPlainString());
-                    paramList.add(BaseUtil.getAmountWithScale(remove0.negate(), poolInfo.getDecimal0()).toPlainString());
-                    paramList.add(BaseUtil.getAmountWithScale(remove1.negate(), poolInfo.getDecimal1()).toPlainString());
+                    paramList.add(poolContext.toAmount0(remove0.negate()).toPlainString());
+                    paramList.add(poolContext.toAmount1(remove1.negate()).toPlainString());
                     paramList.add(liquidity.negate().toString());
-                    paramList.add(BaseUtil.getAmountWithScale(amount0, poolInfo.getDecimal0()).toPlainString());
-                    paramList.add(BaseUtil.getAmountWithScale(amount1, poolInfo.getDecimal1()).toPlainString());
+                    paramList.add(poolContext.toAmount0(amount0).toPlainString());
+                    paramList.add(poolContext.toAmount1(amount1).toPlainString());
                     paramList.add(im.toPlainString());
                     paramList.add(cp.toPlainString());
                     paramList.add(gasPrice.stripTrailingZeros().toPlainString());
@@ -289,10 +462,16 @@ public class BackTestService {
                     amount1 = remove1.add(change1).add(tempCommission1);
                     tempCommission0 = BigInteger.ZERO;
                     tempCommission1 = BigInteger.ZERO;
+                    if (gasCost) {
+                        BigInteger[] left = payGas(poolContext, amount0, amount1, gas, tick);
+                        amount0 = left[0];
+                        amount1 = left[1];
+                        totalGas = totalGas.add(gas);
+                    }
 
                     lastRebalanceTime = swapRecordVo.getTs();
 
-                    middleTick = BaseUtil.floor(tick, poolInfo.getTickSpacing());
+                    middleTick = BaseUtil.floor(tick, poolContext.getTickSpacing());
                     lowerTick = middleTick - boundaryThreshold;
                     upperTick = middleTick + boundaryThreshold;
                     if (Objects.nonNull(rebalance) && rebalance.getLower() < rebalance.getUpper()) {
@@ -303,7 +482,7 @@ public class BackTestService {
                     sqrtLower = BaseUtil.getSqrtPriceByTick(lowerTick);
                     sqrtUpper = BaseUtil.getSqrtPriceByTick(upperTick);
 
-                    tp7 = addLiquidity(poolInfo, sqrtPrice, sqrtLower, sqrtUpper, tickPrice, amount0, amount1, poolInfo.getSwapFee());
+                    tp7 = addLiquidity(poolContext, sqrtPrice, sqrtLower, sqrtUpper, tickPrice, amount0, amount1, poolContext.getSwapFee());
                     liquidity = tp7.component1();
                     amount0 = tp7.component2();
                     amount1 = tp7.component3();
@@ -321,11 +500,11 @@ public class BackTestService {
                     paramList = new ArrayList<>();
                     paramList.add(String.valueOf(ts));
                     paramList.add(price.toPlainString());
-                    paramList.add(BaseUtil.getAmountWithScale(amount0, poolInfo.getDecimal0()).toPlainString());
-                    paramList.add(BaseUtil.getAmountWithScale(amount1, poolInfo.getDecimal1()).toPlainString());
+                    paramList.add(poolContext.toAmount0(amount0).toPlainString());
+                    paramList.add(poolContext.toAmount1(amount1).toPlainString());
                     paramList.add(liquidity.toString());
-                    paramList.add(BaseUtil.getAmountWithScale(change0, poolInfo.getDecimal0()).toPlainString());
-                    paramList.add(BaseUtil.getAmountWithScale(change1, poolInfo.getDecimal1()).toPlainString());
+                    paramList.add(poolContext.toAmount0(change0).toPlainString());
+                    paramList.add(poolContext.toAmount1(change1).toPlainString());
                     paramList.add("0");
                     paramList.add("0");
                     paramList.add(gasPrice.stripTrailingZeros().toPlainString());
@@ -338,14 +517,37 @@ public class BackTestService {
                     } else {
                         reD++;
                     }
+                    loopEvent.rebalances++;
+                    if (rebalanceEvent.shouldCommit()) {
+                        rebalanceEvent.pair = params.getPair();
+                        rebalanceEvent.blockNumber = swapRecordVo.getBlockNumber();
+                        rebalanceEvent.tick = tick;
+                        rebalanceEvent.oldLowerTick = oldLowerTick;
+                        rebalanceEvent.oldUpperTick = oldUpperTick;
+                        rebalanceEvent.lowerTick = lowerTick;
+                        rebalanceEvent.upperTick = upperTick;
+                        rebalanceEvent.gasPrice = gasPrice.longValue();
+                        rebalanceEvent.liquidity = liquidity.doubleValue();
+                        rebalanceEvent.im = im.doubleValue();
+                        rebalanceEvent.commit();
+                    }
                 }
                 reBalanceSignal = false;
             }
 
+            if (++loopEvent.blocks >= loopSampleBlocks) {
+                commitLoopSample(loopEvent, params.getPair(), swapRecordVo.getBlockNumber());
+                loopEvent = null;
+            }
         }
+        if (loopEvent != null) {
+            commitLoopSample(loopEvent, params.getPair(), swapBlockedList.get(swapBlockedList.size() - 1).getBlockNumber());
+        }
+        stage.finish(swapBlockedList.size());
 
         log.info("doTask stag6 run loop for swaps, consume: {}", System.currentTimeMillis() - taskStagTime);
         taskStagTime = System.currentTimeMillis();
+        stage = new BackTestStageEvent(params.getPair(), "result", mode, startTs, endTs);
 
         BigDecimal cp = BaseUtil.getCommissionRate(amount0, amount1, tempCommission0, tempCommission1, tickPrice);
         totalCommission0 = totalCommission0.add(tempCommission0);
@@ -361,11 +563,11 @@ public class BackTestService {
         paramList = new ArrayList<>();
         paramList.add(String.valueOf(ts));
         paramList.add(price.toPlainString());
-        paramList.add(BaseUtil.getAmountWithScale(remove0.negate(), poolInfo.getDecimal0()).toPlainString());
-        paramList.add(BaseUtil.getAmountWithScale(remove1.negate(), poolInfo.getDecimal1()).toPlainString());
+        paramList.add(poolContext.toAmount0(remove0.negate()).toPlainString());
+        paramList.add(poolContext.toAmount1(remove1.negate()).toPlainString());
         paramList.add(liquidity.negate().toString());
-        paramList.add(BaseUtil.getAmountWithScale(amount0, poolInfo.getDecimal0()).toPlainString());
-        paramList.add(BaseUtil.getAmountWithScale(amount1, poolInfo.getDecimal1()).toPlainString());
+        paramList.add(poolContext.toAmount0(amount0).toPlainString());
+        paramList.add(poolContext.toAmount1(amount1).toPlainString());
         paramList.add(im.toPlainString());
         paramList.add(cp.toPlainString());
         paramList.add("50000000000");
@@ -399,11 +601,11 @@ public class BackTestService {
         BigDecimal bRate = safeDivide(endB.subtract(startB), startB);
 
         BigDecimal cuRate, realRate;
-        BigDecimal t0 = BaseUtil.getAmountWithScale(totalCommission0, poolInfo.getDecimal0());
-        BigDecimal t1 = BaseUtil.getAmountWithScale(totalCommission1, poolInfo.getDecimal1());
-        BigDecimal s0 = BaseUtil.getAmountWithScale(start0, poolInfo.getDecimal0());
-        BigDecimal s1 = BaseUtil.getAmountWithScale(start1, poolInfo.getDecimal1());
-        if (poolInfo.testReverse()) {
+        BigDecimal t0 = poolContext.toAmount0(totalCommission0);
+        BigDecimal t1 = poolContext.toAmount1(totalCommission1);
+        BigDecimal s0 = poolContext.toAmount0(start0);
+        BigDecimal s1 = poolContext.toAmount1(start1);
+        if (poolContext.isReverse()) {
             cuRate = safeDivide(t0.add(t1.multiply(price)), startNetValue);
             realRate = safeDivide(endNetValue, s0.add(s1.multiply(price))).subtract(BigDecimal.ONE);
         } else {
@@ -431,9 +633,7 @@ public class BackTestService {
         taskStagTime = System.currentTimeMillis();
 
         Map<String, Object> resultMap = new HashMap<>();
-        String reportName = String.format("%s_%d_%d", params.getPair(), System.currentTimeMillis() / 1000, nonce);
-        resultMap.put("report_name", reportName);
-        nonce++;
+        resultMap.put("report_name", nextReportName(params));
 
         Map<String, Object> baseInfoMap = new HashMap<>();
         baseInfoMap.put("start_ts", String.valueOf(params.getStartTs()));
@@ -441,11 +641,11 @@ public class BackTestService {
         baseInfoMap.put("lower_rate", params.getBoundaryThreshold().toString());
         baseInfoMap.put("upper_rate", params.getBoundaryThreshold().toString());
         baseInfoMap.put("reb_rate", params.getReBalanceThreshold().toString());
-        baseInfoMap.put("tier", poolInfo.getSwapFee().stripTrailingZeros().toPlainString());
+        baseInfoMap.put("tier", poolContext.getSwapFee().stripTrailingZeros().toPlainString());
         baseInfoMap.put("token0", poolInfo.getToken0());
         baseInfoMap.put("token1", poolInfo.getToken1());
-        baseInfoMap.put("decimal0", String.valueOf(poolInfo.getDecimal0()));
-        baseInfoMap.put("decimal1", String.valueOf(poolInfo.getDecimal1()));
+        baseInfoMap.put("decimal0", String.valueOf(poolContext.getDecimal0()));
+        baseInfoMap.put("decimal1", String.valueOf(poolContext.getDecimal1()));
         resultMap.put("base_info", baseInfoMap);
 
         resultMap.put("ts_list", imAlignedList.stream().map(it -> String.valueOf(it.getTs())).collect(Collectors.toList()));
@@ -459,8 +659,8 @@ public class BackTestService {
         marketInfoMap.put("low", lowPrice.toPlainString());
         resultMap.put("market_info", marketInfoMap);
 
-        BigDecimal sw0 = BaseUtil.getAmountWithScale(swapFee0, poolInfo.getDecimal0());
-        BigDecimal sw1 = BaseUtil.getAmountWithScale(swapFee1, poolInfo.getDecimal1());
+        BigDecimal sw0 = poolContext.toAmount0(swapFee0);
+        BigDecimal sw1 = poolContext.toAmount1(swapFee1);
 
         Map<String, Object> globalInfoMap = new HashMap<>();
         globalInfoMap.put("commission", Lists.newArrayList(t0.toPlainString(), t1.toPlainString()));
@@ -468,6 +668,13 @@ public class BackTestService {
         globalInfoMap.put("reBalanceTime", Lists.newArrayList(reU, reD));
         globalInfoMap.put("rate", Lists.newArrayList(realRate.toPlainString(), cuRate.toPlainString(), uRate.toPlainString(), bRate.toPlainString()));
         globalInfoMap.put("apr", Lists.newArrayList(realAPR.toPlainString(), cuAPR.toPlainString(), uAPR.toPlainString(), bAPR.toPlainString()));
+        if (gasCost) {
+            BigDecimal gas = poolContext.getGasToken() == 0 ? poolContext.toAmount0(totalGas) : poolContext.toAmount1(totalGas);
+            globalInfoMap.put("gasCost", gas.toPlainString());
+        }
+        if (cheapBlocks != null) {
+            globalInfoMap.put("deferredRebalance", deferrals);
+        }
         resultMap.put("global_info", globalInfoMap);
 
         Map<String, Object> riskInfoMap = new HashMap<>();
@@ -477,22 +684,157 @@ public class BackTestService {
         riskInfoMap.put("winRate", winRate.toPlainString());
         resultMap.put("risk_info", riskInfoMap);
         log.info("doTask stag7 make result 5, consume: {}", System.currentTimeMillis() - taskStagTime);
+        stage.finish(rateList.size());
         log.info("doTask end, consume: {}", System.currentTimeMillis() - taskStartTime);
         return resultMap;
     }
 
-    private BigDecimal getMedium(List<BigDecimal> list) {
-        list.sort(BigDecimal::compareTo);
-        if (list.size() % 2 == 0) {
-            // 4/2 = 2
-            int mid = list.size() / 2;
-            BigDecimal a = list.get(mid - 1);
-            BigDecimal b = list.get(mid);
-            return BaseUtil.safeDivide(a.add(b), BigDecimal.valueOf(2));
-        } else {
-            // 3/2 = 1
-            return list.get(list.size() / 2);
+    private static void commitLoopSample(BackTestLoopEvent loopEvent, String pair, long toBlock) {
+        if (loopEvent.shouldCommit()) {
+            loopEvent.pair = pair;
+            loopEvent.toBlock = toBlock;
+            loopEvent.commit();
+        }
+    }
+
+    String nextReportName(BackTestTickParams params) {
+        return String.format("%s_%d_%d", params.getPair(), System.currentTimeMillis() / 1000, nonce.getAndIncrement());
+    }
+
+    /**
+     * merge the swaps of every block in [from, to) into one record: positive amounts summed, last tick / ts, median gas
+     * @return blocks left out because their hour has no kline
+     */
+    private int getBlockedRecords(PoolContext poolContext, SwapSeries series, int from, int to, Map<Long, HourKline> klineVoMap, List<SwapRecord> swapBlockedList) {
+        int uncovered = 0;
+        GasHistogram gasHistogram = new GasHistogram();
+        SwapCursor cursor = series.cursor();
+        cursor.seek(from);
+        boolean hasNext = cursor.next() && cursor.index() < to;
+        while (hasNext) {
+            long blockNumber = cursor.blockNumber();
+            long sum0Hi = 0, sum0Lo = 0, sum1Hi = 0, sum1Lo = 0;
+            long ts, tick, gasPrice;
+            gasHistogram.clear();
+            do {
+                if (cursor.amount0Hi() >= 0) {
+                    long lo = sum0Lo + cursor.amount0Lo();
+                    sum0Hi += cursor.amount0Hi() + Int128.carry(lo, sum0Lo);
+                    sum0Lo = lo;
+                }
+                if (cursor.amount1Hi() >= 0) {
+                    long lo = sum1Lo + cursor.amount1Lo();
+                    sum1Hi += cursor.amount1Hi() + Int128.carry(lo, sum1Lo);
+                    sum1Lo = lo;
+                }
+                ts = cursor.ts();
+                tick = cursor.tick();
+                gasPrice = cursor.gasPrice();
+                gasHistogram.add(gasPrice);
+                hasNext = cursor.next() && cursor.index() < to;
+            } while (hasNext && cursor.blockNumber() == blockNumber);
+
+            BigDecimal liquidity = getTotalLiquidFromKline(ts, klineVoMap);
+            if (liquidity == null) {
+                uncovered++;
+                continue;
+            }
+            SwapRecord swapRecordVo = new SwapRecord();
+            swapRecordVo.setAmount0(Int128.toBigDecimal(sum0Hi, sum0Lo, poolContext.getDecimal0()));
+            swapRecordVo.setAmount1(Int128.toBigDecimal(sum1Hi, sum1Lo, poolContext.getDecimal1()));
+            swapRecordVo.setTick(tick);
+            swapRecordVo.setTs(ts);
+            swapRecordVo.setBlockNumber(blockNumber);
+            swapRecordVo.setPrice(poolContext.price(tick));
+            swapRecordVo.setGasPrice(gasHistogram.median());
+            swapRecordVo.setLiquidity(liquidity);
+            swapBlockedList.add(swapRecordVo);
+        }
+        return uncovered;
+    }
+
+    /**
+     * high / low price of the blocked records. taken from the pool's rollups when no block of the window was dropped
+     * for a missing kline, otherwise from the records themselves
+     */
+    private BigDecimal[] getHighLow(Pool poolInfo, PoolContext poolContext, int to, long startTs, long endTs, boolean covered, List<SwapRecord> swapBlockedList) {
+        Rollups rollups = swapSeriesStore.getRollups(poolInfo);
+        int[] range = null;
+        if (covered && rollups.rows() >= to) {
+            range = rollups.closeTickRange(startTs, endTs);
+        }
+        if (range == null) {
+            BigDecimal highPrice = swapBlockedList.stream().map(SwapRecord::getPrice).max(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
+            BigDecimal lowPrice = swapBlockedList.stream().map(SwapRecord::getPrice).min(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
+            return new BigDecimal[]{highPrice, lowPrice};
+        }
+        BigDecimal minTickPrice = poolContext.price(range[0]);
+        BigDecimal maxTickPrice = poolContext.price(range[1]);
+        // a reversed pool quotes the inverse price, which falls as the tick rises
+        return poolContext.isReverse() ? new BigDecimal[]{minTickPrice, maxTickPrice} : new BigDecimal[]{maxTickPrice, minTickPrice};
+    }
+
+    /**
+     * the gas gate of the fast engine, (block median gas price, ts) -> whether a threshold rebalance may happen
+     */
+    BiPredicate<BigDecimal, Long> gasGate(Pool poolInfo, BackTestTickParams params) {
+        GasIndex gasIndex = params.getGasPercentile() == null ? null : swapSeriesStore.getGasIndex(poolInfo);
+        return (gasPrice, ts) -> isGasAcceptable(gasPrice, ts, gasIndex, params.getGasPercentile());
+    }
+
+    /**
+     * next cheap block lookups for deferred rebalances, null unless params.deferRebalance
+     */
+    CheapBlockIndex.Cursor cheapBlocks(Pool poolInfo, BackTestTickParams params) {
+        if (!Boolean.TRUE.equals(params.getDeferRebalance())) {
+            return null;
+        }
+        if (params.getGasPercentile() == null) {
+            throw new IllegalArgumentException("deferRebalance requires gasPercentile");
+        }
+        return swapSeriesStore.getCheapBlockIndex(poolInfo, params.getGasPercentile()).cursor();
+    }
+
+    /**
+     * whether a position of amounts + extra0 / extra1 is worth more than the gas at the tick price, a rebalance
+     * the position can't pay for is skipped
+     */
+    static boolean canPayGas(PoolContext poolContext, Tuple2<BigInteger, BigInteger> amounts, BigInteger extra0, BigInteger extra1, BigInteger gas, long tick) {
+        BigDecimal pw = BigDecimal.valueOf(Math.pow(1.0001, tick));
+        BigDecimal value1 = new BigDecimal(amounts.component2().add(extra1)).add(new BigDecimal(amounts.component1().add(extra0)).multiply(pw));
+        BigDecimal gas1 = poolContext.getGasToken() == 0 ? new BigDecimal(gas).multiply(pw) : new BigDecimal(gas);
+        return value1.compareTo(gas1) > 0;
+    }
+
+    /**
+     * pay gas, in base units of the native token, out of a position's amounts: the native side first, what it
+     * can't cover from the other side at the tick price
+     * @return amount0 and amount1 left, never negative
+     */
+    static BigInteger[] payGas(PoolContext poolContext, BigInteger amount0, BigInteger amount1, BigInteger gas, long tick) {
+        BigDecimal pw = BigDecimal.valueOf(Math.pow(1.0001, tick));
+        if (poolContext.getGasToken() == 0) {
+            BigInteger paid = amount0.min(gas);
+            BigInteger rest = new BigDecimal(gas.subtract(paid)).multiply(pw).toBigInteger();
+            return new BigInteger[]{amount0.subtract(paid), amount1.subtract(amount1.min(rest))};
+        }
+        BigInteger paid = amount1.min(gas);
+        BigInteger rest = new BigDecimal(gas.subtract(paid)).divide(pw, 0, RoundingMode.DOWN).toBigInteger();
+        return new BigInteger[]{amount0.subtract(amount0.min(rest)), amount1.subtract(paid)};
+    }
+
+    /**
+     * rebalance gas gate: the block median against the pool's hourly percentile when one is requested,
+     * otherwise against backtest.gas.max-gwei
+     */
+    private boolean isGasAcceptable(BigDecimal gasPrice, long ts, GasIndex gasIndex, Integer gasPercentile) {
+        if (gasIndex != null) {
+            long limit = gasIndex.percentile(ts, gasPercentile);
+            if (limit >= 0) {
+                return gasPrice.compareTo(BigDecimal.valueOf(limit)) <= 0;
+            }
         }
+        return BaseUtil.toGWei(gasPrice.toBigInteger()).compareTo(maxGasGwei) <= 0;
     }
 
     private BigDecimal getMaxDrawDown(List<BigDecimal> list) {
@@ -537,20 +879,20 @@ public class BackTestService {
     }
 
 
-    private Tuple2<BigDecimal, BigDecimal> getNetValueAndIm(Pool poolInfo, BigInteger sqrtPrice, BigInteger sqrtLower, BigInteger sqrtUpper, BigInteger liquidity, BigDecimal price, BigInteger old0, BigInteger old1, BigInteger change0, BigInteger change1, BigInteger temp0, BigInteger temp1) {
+    private Tuple2<BigDecimal, BigDecimal> getNetValueAndIm(PoolContext poolContext, BigInteger sqrtPrice, BigInteger sqrtLower, BigInteger sqrtUpper, BigInteger liquidity, BigDecimal price, BigInteger old0, BigInteger old1, BigInteger change0, BigInteger change1, BigInteger temp0, BigInteger temp1) {
         Tuple2<BigInteger, BigInteger> tp2 = getAmountsForLiquidity(sqrtPrice, sqrtLower, sqrtUpper, liquidity);
         BigInteger amount0 = tp2.component1();
         BigInteger amount1 = tp2.component2();
         BigInteger new0 = amount0.add(change0).add(temp0);
         BigInteger new1 = amount1.add(change1).add(temp1);
 
-        BigDecimal newWithScale0 = BaseUtil.getAmountWithScale(new0, poolInfo.getDecimal0());
-        BigDecimal newWithScale1 = BaseUtil.getAmountWithScale(new1, poolInfo.getDecimal1());
-        BigDecimal oldWithScale0 = BaseUtil.getAmountWithScale(old0, poolInfo.getDecimal0());
-        BigDecimal oldWithScale1 = BaseUtil.getAmountWithScale(old1, poolInfo.getDecimal1());
+        BigDecimal newWithScale0 = poolContext.toAmount0(new0);
+        BigDecimal newWithScale1 = poolContext.toAmount1(new1);
+        BigDecimal oldWithScale0 = poolContext.toAmount0(old0);
+        BigDecimal oldWithScale1 = poolContext.toAmount1(old1);
 
         BigDecimal nv, im;
-        if (poolInfo.testReverse()) {
+        if (poolContext.isReverse()) {
             nv = newWithScale0.add(newWithScale1.multiply(price));
             im = safeDivide(nv, oldWithScale0.add(oldWithScale1.multiply(price)));
         } else {
@@ -681,14 +1023,14 @@ public class BackTestService {
         return new Tuple2<>(amt.toBigInteger(), token);
     }
 
-    private Tuple7<BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, Integer> addLiquidity(Pool poolInfo, BigInteger sqrtPrice, BigInteger sqrtLower, BigInteger sqrtUpper, BigInteger price, BigInteger total0, BigInteger total1, BigDecimal poolFee) {
+    private Tuple7<BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, Integer> addLiquidity(PoolContext poolContext, BigInteger sqrtPrice, BigInteger sqrtLower, BigInteger sqrtUpper, BigInteger price, BigInteger total0, BigInteger total1, BigDecimal poolFee) {
         Tuple2<BigInteger, BigInteger> flatAmounts = getAmountsForLiquidity(sqrtPrice, sqrtLower, sqrtUpper, BigInteger.TEN.pow(18));
         BigInteger r0 = flatAmounts.component1();
         BigInteger r1 = flatAmounts.component2();
 
         Tuple2<BigInteger, Integer> trimInfo = getTrimInfo(r0, r1, total0, total1, price, poolFee);
         BigInteger swapAmount = trimInfo.component1();
-        BigInteger swapFee = new BigDecimal(swapAmount).multiply(poolInfo.getSwapFee()).toBigInteger();
+        BigInteger swapFee = poolContext.feeOf(swapAmount);
         Integer tokenId = trimInfo.component2();
         if (tokenId == 0) {
             // x -> y
@@ -0,0 +1,414 @@
+package finance.universe.backtest.service;
+
+import com.google.common.collect.Lists;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.entity.SwapRecord;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.vo.BackfillParams;
+import finance.universe.backtest.vo.BackfillResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Numeric;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * backfills Uniswap V3 Swap logs of a pool from a JSON-RPC node (backtest.backfill.rpc-url).
+ * the block range is cut into chunks fetched concurrently, at most max-in-flight at a time. chunk size follows
+ * the number of logs seen and a chunk the node refuses as too large is split in two. timestamps and per
+ * transaction gas prices come from batched eth_getBlockByNumber calls. failed calls are retried with
+ * exponential backoff. fetched chunks replace the rows of their block range, strictly in block order. rows keep
+ * the on-chain log index.
+ * a backfill runs as a job in the background, one at a time, its progress is read by id. the chunks still in flight
+ * are cancelled when one fails.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class BackfillService {
+
+    // keccak256("Swap(address,address,int256,int256,uint160,uint128,int24)")
+    static final String SWAP_TOPIC = "0xc42079f94a6350d7e6235f29174924f928cc2ac818eb64fed8004e115fbcca67";
+
+    public static final String STATUS_QUEUED = "queued";
+    public static final String STATUS_RUNNING = "running";
+    public static final String STATUS_DONE = "done";
+    public static final String STATUS_FAILED = "failed";
+
+    @Autowired
+    PoolRepository poolRepository;
+    @Autowired
+    IngestService ingestService;
+
+    @Value("${backtest.backfill.rpc-url:}")
+    private String rpcUrl;
+
+    @Value("${backtest.backfill.max-in-flight:4}")
+    private int maxInFlight;
+
+    @Value("${backtest.backfill.chunk-blocks:2000}")
+    private int chunkBlocks;
+
+    @Value("${backtest.backfill.max-chunk-blocks:20000}")
+    private int maxChunkBlocks;
+
+    @Value("${backtest.backfill.target-logs:2000}")
+    private int targetLogs;
+
+    @Value("${backtest.backfill.block-batch-size:50}")
+    private int blockBatchSize;
+
+    @Value("${backtest.backfill.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${backtest.backfill.backoff-ms:500}")
+    private long backoffMs;
+
+    @Value("${backtest.backfill.keep-jobs:32}")
+    private int keepJobs;
+
+    private Web3j web3j;
+    private ExecutorService executor;
+    // one job at a time, so two backfills never replace the same ranges concurrently
+    private ExecutorService jobs;
+    // by id in submission order, finished ones are dropped oldest first beyond keep-jobs
+    private final Map<String, BackfillResult> results = new LinkedHashMap<>();
+
+    private static final class Chunk {
+        final long from;
+        final long to;
+        List<SwapRecord> records;
+        boolean tooLarge;
+        int retries;
+
+        Chunk(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private static final class RangeTooLargeException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(maxInFlight);
+        jobs = Executors.newSingleThreadExecutor();
+        if (StringUtils.hasText(rpcUrl)) {
+            web3j = Web3j.build(new HttpService(rpcUrl));
+            log.info("backfill init, rpc: {}, maxInFlight: {}", rpcUrl, maxInFlight);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        jobs.shutdownNow();
+        executor.shutdownNow();
+        if (web3j != null) {
+            web3j.shutdown();
+        }
+    }
+
+    /**
+     * queue a backfill, the returned job is followed through {@link #status(String)}
+     */
+    public BackfillResult submit(BackfillParams params) {
+        if (web3j == null) {
+            throw new IllegalArgumentException("backtest.backfill.rpc-url is not configured");
+        }
+        if (!StringUtils.hasText(params.getPair()) || params.getFromBlock() == null) {
+            throw new IllegalArgumentException("pair and fromBlock are required");
+        }
+        if (params.getToBlock() != null && params.getToBlock() < params.getFromBlock()) {
+            throw new IllegalArgumentException("toBlock before fromBlock");
+        }
+        Pool poolInfo = poolRepository.findById(params.getPair()).orElseThrow(() -> new IllegalArgumentException("pool miss"));
+        BackfillResult result = new BackfillResult();
+        result.setId(UUID.randomUUID().toString());
+        result.setStatus(STATUS_QUEUED);
+        result.setPair(poolInfo.getPair());
+        result.setFromBlock(params.getFromBlock());
+        result.setCreatedAt(System.currentTimeMillis());
+        synchronized (results) {
+            Iterator<BackfillResult> it = results.values().iterator();
+            while (results.size() >= keepJobs && it.hasNext()) {
+                String status = it.next().getStatus();
+                if (STATUS_DONE.equals(status) || STATUS_FAILED.equals(status)) {
+                    it.remove();
+                }
+            }
+            if (results.size() >= keepJobs) {
+                throw new IllegalStateException("too many backfill jobs, max: " + keepJobs);
+            }
+            results.put(result.getId(), result);
+        }
+        jobs.submit(() -> run(poolInfo, params, result));
+        log.info("backfill queued, id: {}, pair: {}, fromBlock: {}, toBlock: {}", result.getId(), poolInfo.getPair(), params.getFromBlock(), params.getToBlock());
+        return result;
+    }
+
+    public BackfillResult status(String id) {
+        synchronized (results) {
+            BackfillResult result = results.get(id);
+            if (result == null) {
+                throw new IllegalArgumentException("backfill job miss: " + id);
+            }
+            return result;
+        }
+    }
+
+    public List<BackfillResult> list() {
+        synchronized (results) {
+            return new ArrayList<>(results.values());
+        }
+    }
+
+    private void run(Pool poolInfo, BackfillParams params, BackfillResult result) {
+        result.setStatus(STATUS_RUNNING);
+        try {
+            backfill(poolInfo, params, result);
+            result.setStatus(STATUS_DONE);
+        } catch (Exception e) {
+            log.error("backfill failed, id: {}, pair: {}", result.getId(), poolInfo.getPair(), e);
+            result.setError(e.getCause() != null ? e.getMessage() + ": " + e.getCause().getMessage() : e.getMessage());
+            result.setStatus(STATUS_FAILED);
+        } finally {
+            result.setUpdatedAt(System.currentTimeMillis());
+        }
+    }
+
+    private void backfill(Pool poolInfo, BackfillParams params, BackfillResult result) throws Exception {
+        long start = System.currentTimeMillis();
+        long from = params.getFromBlock();
+        long to = params.getToBlock() != null ? params.getToBlock() : web3j.ethBlockNumber().send().getBlockNumber().longValue();
+        if (to < from) {
+            throw new IllegalArgumentException("toBlock before fromBlock");
+        }
+        result.setToBlock(to);
+
+        CompletionService<Chunk> completion = new ExecutorCompletionService<>(executor);
+        // chunks not taken yet, cancelled when the job ends so a failure leaves nothing fetching in the background
+        Set<Future<Chunk>> submitted = new HashSet<>();
+        // completed chunks waiting for the ones before them
+        TreeMap<Long, Chunk> fetched = new TreeMap<>();
+        Deque<long[]> splitRanges = new ArrayDeque<>();
+        long next = from;
+        long handed = from;
+        int inFlight = 0;
+        int size = Math.max(1, chunkBlocks);
+        try {
+            while (handed <= to) {
+                while (inFlight < maxInFlight && (!splitRanges.isEmpty() || (next <= to && fetched.size() < maxInFlight * 4))) {
+                    long[] range;
+                    if (!splitRanges.isEmpty()) {
+                        range = splitRanges.poll();
+                    } else {
+                        range = new long[]{next, Math.min(to, next + size - 1)};
+                        next = range[1] + 1;
+                    }
+                    Chunk chunk = new Chunk(range[0], range[1]);
+                    submitted.add(completion.submit(() -> fetch(poolInfo, chunk)));
+                    inFlight++;
+                }
+
+                Future<Chunk> done = completion.take();
+                submitted.remove(done);
+                Chunk chunk;
+                try {
+                    chunk = done.get();
+                } catch (ExecutionException e) {
+                    throw new Exception("backfill chunk failed, pair: " + poolInfo.getPair(), e.getCause());
+                }
+                inFlight--;
+                result.setRetries(result.getRetries() + chunk.retries);
+                long span = chunk.to - chunk.from + 1;
+                if (chunk.tooLarge) {
+                    if (span == 1) {
+                        throw new IllegalStateException("node refuses logs of block " + chunk.from);
+                    }
+                    long mid = chunk.from + span / 2 - 1;
+                    splitRanges.add(new long[]{chunk.from, mid});
+                    splitRanges.add(new long[]{mid + 1, chunk.to});
+                    size = (int) Math.max(1, Math.min(size, span / 2));
+                    result.setSplits(result.getSplits() + 1);
+                    continue;
+                }
+
+                result.setChunks(result.getChunks() + 1);
+                int n = chunk.records.size();
+                if (n < targetLogs / 2 && span >= size) {
+                    size = Math.min(maxChunkBlocks, size * 2);
+                } else if (n > targetLogs * 2) {
+                    size = Math.max(1, size / 2);
+                }
+
+                fetched.put(chunk.from, chunk);
+                while (!fetched.isEmpty() && fetched.firstKey() == handed) {
+                    Chunk first = fetched.pollFirstEntry().getValue();
+                    ingestService.replaceSwaps(poolInfo, first.from, first.to, first.records);
+                    result.setRows(result.getRows() + first.records.size());
+                    result.setWrittenTo(first.to);
+                    result.setUpdatedAt(System.currentTimeMillis());
+                    handed = first.to + 1;
+                }
+            }
+        } finally {
+            submitted.forEach(it -> it.cancel(true));
+        }
+        result.setConsume(System.currentTimeMillis() - start);
+        log.info("backfill end, id: {}, pair: {}, blocks: {}-{}, rows: {}, chunks: {}, splits: {}, retries: {}, consume: {}", result.getId(), poolInfo.getPair(), from, to,
+                result.getRows(), result.getChunks(), result.getSplits(), result.getRetries(), result.getConsume());
+    }
+
+    private Chunk fetch(Pool poolInfo, Chunk chunk) throws Exception {
+        EthFilter filter = new EthFilter(block(chunk.from), block(chunk.to), poolInfo.getPair());
+        filter.addSingleTopic(SWAP_TOPIC);
+        EthLog ethLog;
+        try {
+            ethLog = call(chunk, "eth_getLogs", () -> web3j.ethGetLogs(filter).send(), Response::getError);
+        } catch (RangeTooLargeException e) {
+            chunk.tooLarge = true;
+            return chunk;
+        }
+
+        List<Log> logs = new ArrayList<>();
+        for (EthLog.LogResult<?> logResult : ethLog.getLogs()) {
+            Log swapLog = (Log) logResult.get();
+            if (!swapLog.isRemoved()) {
+                logs.add(swapLog);
+            }
+        }
+        logs.sort(Comparator.comparing(Log::getBlockNumber).thenComparing(Log::getLogIndex));
+
+        Map<Long, EthBlock.Block> blocks = fetchBlocks(chunk, logs);
+        List<SwapRecord> records = new ArrayList<>(logs.size());
+        for (Log swapLog : logs) {
+            records.add(decode(poolInfo, swapLog, blocks.get(swapLog.getBlockNumber().longValue())));
+        }
+        chunk.records = records;
+        return chunk;
+    }
+
+    private Map<Long, EthBlock.Block> fetchBlocks(Chunk chunk, List<Log> logs) throws Exception {
+        TreeSet<Long> numbers = new TreeSet<>();
+        logs.forEach(it -> numbers.add(it.getBlockNumber().longValue()));
+        Map<Long, EthBlock.Block> blocks = new HashMap<>();
+        for (List<Long> part : Lists.partition(new ArrayList<>(numbers), blockBatchSize)) {
+            BatchRequest batch = web3j.newBatch();
+            for (Long number : part) {
+                batch.add(web3j.ethGetBlockByNumber(block(number), true));
+            }
+            BatchResponse response = call(chunk, "eth_getBlockByNumber", batch::send, BackfillService::firstError);
+            for (Response<?> it : response.getResponses()) {
+                EthBlock.Block b = ((EthBlock) it).getBlock();
+                blocks.put(b.getNumber().longValue(), b);
+            }
+        }
+        return blocks;
+    }
+
+    private static Response.Error firstError(BatchResponse response) {
+        for (Response<?> it : response.getResponses()) {
+            if (it.hasError()) {
+                return it.getError();
+            } else if (((EthBlock) it).getBlock() == null) {
+                return new Response.Error(0, "block miss");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * send with retry and exponential backoff, rpc errors about the size of the range are not retried
+     */
+    private <T> T call(Chunk chunk, String method, Callable<T> request, Function<T, Response.Error> error) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            Exception failure;
+            try {
+                T response = request.call();
+                Response.Error e = error.apply(response);
+                if (e == null) {
+                    return response;
+                }
+                if (isRangeTooLarge(e)) {
+                    throw new RangeTooLargeException();
+                }
+                failure = new IOException(method + " error, code: " + e.getCode() + ", message: " + e.getMessage());
+            } catch (IOException e) {
+                failure = e;
+            }
+            if (attempt + 1 >= maxAttempts) {
+                throw failure;
+            }
+            chunk.retries++;
+            log.warn("backfill retry, method: {}, blocks: {}-{}, attempt: {}, error: {}", method, chunk.from, chunk.to, attempt, failure.toString());
+            Thread.sleep(backoffMs << Math.min(attempt, 10));
+        }
+    }
+
+    private static boolean isRangeTooLarge(Response.Error error) {
+        String message = error.getMessage() == null ? "" : error.getMessage().toLowerCase();
+        return error.getCode() == -32005 || message.contains("more than") || message.contains("too many") || message.contains("too large")
+                || message.contains("block range");
+    }
+
+    private static SwapRecord decode(Pool poolInfo, Log swapLog, EthBlock.Block block) {
+        // data: amount0 int256, amount1 int256, sqrtPriceX96 uint160, liquidity uint128, tick int24
+        String data = Numeric.cleanHexPrefix(swapLog.getData());
+        BigInteger gasPrice = null;
+        for (EthBlock.TransactionResult<?> tx : block.getTransactions()) {
+            EthBlock.TransactionObject transaction = (EthBlock.TransactionObject) tx.get();
+            if (transaction.getHash().equalsIgnoreCase(swapLog.getTransactionHash())) {
+                gasPrice = transaction.getGasPrice();
+                break;
+            }
+        }
+        if (gasPrice == null) {
+            throw new IllegalStateException("tx miss, block: " + block.getNumber() + ", tx: " + swapLog.getTransactionHash());
+        }
+        SwapRecord record = new SwapRecord();
+        record.setPair(poolInfo.getPair());
+        record.setTs(block.getTimestamp().longValue());
+        record.setBlockNumber(swapLog.getBlockNumber().longValue());
+        record.setLogIndex(swapLog.getLogIndex().intValue());
+        record.setAmount0(new BigDecimal(word(data, 0), poolInfo.getDecimal0()));
+        record.setAmount1(new BigDecimal(word(data, 1), poolInfo.getDecimal1()));
+        record.setTick(word(data, 4).longValue());
+        record.setGasPrice(new BigDecimal(gasPrice));
+        return record;
+    }
+
+    /**
+     * i-th 32 byte word as a two's complement integer
+     */
+    private static BigInteger word(String data, int i) {
+        return new BigInteger(Numeric.hexStringToByteArray(data.substring(i * 64, (i + 1) * 64)));
+    }
+
+    private static DefaultBlockParameter block(long number) {
+        return DefaultBlockParameter.valueOf(BigInteger.valueOf(number));
+    }
+}
@@ -0,0 +1,308 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.HourKline;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.series.Int128;
+import finance.universe.backtest.series.SwapCursor;
+import finance.universe.backtest.series.SwapSeries;
+import finance.universe.backtest.util.BaseUtil;
+import finance.universe.backtest.util.PoolContext;
+import finance.universe.backtest.vo.BackTestTickParams;
+
+import java.util.*;
+
+/**
+ * k single-position fast backtests of the same pair, window and amounts, simulated together in one pass over
+ * the swap series. the swaps of a block are read and summed once, then every strategy state, held as parallel
+ * primitive arrays indexed by strategy, takes the block in a few flat loops: fee accrual multiplies by an in-range
+ * mask instead of branching so the JIT can unroll and vectorize it, valuation and drawdown follow.
+ *
+ * every strategy does the same floating point operations in the same order as a {@link FastBackTest} of its own
+ * params and builds its result with the same {@link FastResult}, so the metrics are the same bits, only without
+ * ts_list, im_list and trade_info. no im history is kept, volatility is a running sum. without params.rebalance
+ * a single position never moves, which leaves boundaryThreshold as the only parameter that changes the simulation.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class BatchBackTest {
+
+    private static final long HOUR = 3600;
+    // unit roundoff of a double
+    private static final double U = Math.ulp(1.0) / 2;
+
+    private final Pool poolInfo;
+    private final PoolContext poolContext;
+    private final List<BackTestTickParams> batch;
+    private final BackTestTickParams first;
+    private final int k;
+    private final long[] boundaryThreshold;
+
+    // ranges, staked liquidity and amounts, change and fees of every strategy
+    private final PositionBook book;
+    // 1 where the block tick is in the strategy's range, 0 otherwise
+    private final double[] mask;
+    private final double[] start0;
+    private final double[] start1;
+    private final double[] swapFee0;
+    private final double[] swapFee1;
+    private final double[] endNetValue;
+    private final double[] valueError;
+    private final double[] peek;
+    private final double[] min;
+    private final double[] maxDrawDown;
+
+    // start of the hour of the last block, and the hourly returns of every strategy
+    private long hourTs;
+    private final HourlyReturns[] returns;
+
+    private boolean started;
+    private long ts;
+    private long tick;
+    private double price, sqrtPrice, tickPrice;
+    private double startPrice, highPrice, lowPrice;
+    private double startNetValue;
+
+    /**
+     * @param batch params that differ in boundaryThreshold / reBalanceThreshold only
+     */
+    BatchBackTest(Pool poolInfo, List<BackTestTickParams> batch) {
+        this.poolInfo = poolInfo;
+        this.poolContext = PoolContext.of(poolInfo);
+        this.batch = batch;
+        this.first = batch.get(0);
+        this.k = batch.size();
+        boundaryThreshold = new long[k];
+        for (int j = 0; j < k; j++) {
+            boundaryThreshold[j] = BaseUtil.floor(batch.get(j).getBoundaryThreshold(), poolContext.getTickSpacing());
+        }
+        book = new PositionBook(k, poolContext.getFee());
+        mask = new double[k];
+        start0 = new double[k];
+        start1 = new double[k];
+        swapFee0 = new double[k];
+        swapFee1 = new double[k];
+        endNetValue = new double[k];
+        valueError = new double[k];
+        peek = new double[k];
+        min = new double[k];
+        maxDrawDown = new double[k];
+        Arrays.fill(peek, 1);
+        Arrays.fill(min, 1);
+
+        hourTs = BaseUtil.alignedToHour(first.getStartTs() * 1000) / 1000;
+        returns = new HourlyReturns[k];
+        for (int j = 0; j < k; j++) {
+            returns[j] = new HourlyReturns();
+        }
+    }
+
+    /**
+     * the results of every strategy over the rows [from, to), in batch order
+     */
+    List<Map<String, Object>> run(SwapSeries series, int from, int to, List<HourKline> klines, long days) throws Exception {
+        long firstHour = hourTs;
+        double[] hourLiquidity = new double[0];
+        for (HourKline kline : klines) {
+            if (kline.getTs() < firstHour || kline.getLiquidity() == null) {
+                continue;
+            }
+            int slot = (int) ((kline.getTs() - firstHour) / HOUR);
+            if (slot >= hourLiquidity.length) {
+                int length = hourLiquidity.length;
+                hourLiquidity = Arrays.copyOf(hourLiquidity, Math.max(slot + 1, length * 2));
+                Arrays.fill(hourLiquidity, length, hourLiquidity.length, Double.NaN);
+            }
+            hourLiquidity[slot] = kline.getLiquidity().doubleValue();
+        }
+
+        SwapCursor cursor = series.cursor();
+        cursor.seek(from);
+        boolean hasNext = cursor.next() && cursor.index() < to;
+        while (hasNext) {
+            long blockNumber = cursor.blockNumber();
+            long sum0Hi = 0, sum0Lo = 0, sum1Hi = 0, sum1Lo = 0;
+            long blockTs;
+            do {
+                if (cursor.amount0Hi() >= 0) {
+                    long lo = sum0Lo + cursor.amount0Lo();
+                    sum0Hi += cursor.amount0Hi() + Int128.carry(lo, sum0Lo);
+                    sum0Lo = lo;
+                }
+                if (cursor.amount1Hi() >= 0) {
+                    long lo = sum1Lo + cursor.amount1Lo();
+                    sum1Hi += cursor.amount1Hi() + Int128.carry(lo, sum1Lo);
+                    sum1Lo = lo;
+                }
+                blockTs = cursor.ts();
+                tick = cursor.tick();
+                hasNext = cursor.next() && cursor.index() < to;
+            } while (hasNext && cursor.blockNumber() == blockNumber);
+
+            int slot = (int) ((BaseUtil.alignedToHour(blockTs * 1000) / 1000 - firstHour) / HOUR);
+            double totalLiquidity = slot < hourLiquidity.length ? hourLiquidity[slot] : Double.NaN;
+            if (Double.isNaN(totalLiquidity)) {
+                continue;
+            }
+            ts = blockTs;
+            double pw = Math.pow(1.0001, tick);
+            sqrtPrice = Math.sqrt(pw);
+            tickPrice = Math.floor(pw);
+            price = poolContext.priceOf(pw);
+            if (!started) {
+                start();
+            }
+            highPrice = Math.max(highPrice, price);
+            lowPrice = Math.min(lowPrice, price);
+
+            accrue(Int128.toDouble(sum0Hi, sum0Lo), Int128.toDouble(sum1Hi, sum1Lo), totalLiquidity);
+            value();
+        }
+        if (!started) {
+            throw new Exception("kline miss");
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(k);
+        for (int j = 0; j < k; j++) {
+            results.add(result(j, days));
+        }
+        return results;
+    }
+
+    /**
+     * first block: open every position like FastBackTest does
+     */
+    private void start() {
+        started = true;
+        startPrice = price;
+        highPrice = price;
+        lowPrice = price;
+        long middleTick = BaseUtil.floor(tick, poolContext.getTickSpacing());
+        startNetValue = poolContext.isReverse()
+                ? first.getAmount0().doubleValue() + first.getAmount1().doubleValue() * startPrice
+                : first.getAmount1().doubleValue() + first.getAmount0().doubleValue() * startPrice;
+        double total0 = Math.floor(first.getAmount0().doubleValue() * poolContext.getScale0() * 1);
+        double total1 = Math.floor(first.getAmount1().doubleValue() * poolContext.getScale1() * 1);
+        for (int j = 0; j < k; j++) {
+            // the book sums over its positions, every strategy starts from zero instead
+            book.valueError = 0;
+            book.swapFee0 = 0;
+            book.swapFee1 = 0;
+            book.setRange(j, middleTick, middleTick - boundaryThreshold[j], middleTick + boundaryThreshold[j]);
+            book.addLiquidity(j, sqrtPrice, tickPrice, total0, total1);
+            valueError[j] = book.valueError;
+            swapFee0[j] = book.swapFee0;
+            swapFee1[j] = book.swapFee1;
+            start0[j] = book.amount0[j] + book.change0[j];
+            start1[j] = book.amount1[j] + book.change1[j];
+        }
+    }
+
+    /**
+     * PositionBook.accrue for every strategy, masked instead of branching
+     */
+    private void accrue(double volume0, double volume1, double totalLiquidity) {
+        double v0 = volume0 * poolContext.getFee();
+        double v1 = volume1 * poolContext.getFee();
+        long[] lowerTick = book.lowerTick, upperTick = book.upperTick;
+        double[] liquidity = book.liquidity, fee0 = book.fee0, fee1 = book.fee1;
+        long t = tick;
+        for (int j = 0; j < k; j++) {
+            // the sign bit is set when the tick is below lower or above upper
+            mask[j] = 1 - (((t - lowerTick[j]) | (upperTick[j] - t)) >>> 63);
+        }
+        if (!(totalLiquidity > 0) || Double.isInfinite(totalLiquidity)) {
+            // 0 * inf would turn out of range strategies into NaN
+            for (int j = 0; j < k; j++) {
+                if (mask[j] != 0) {
+                    double ratio = liquidity[j] / totalLiquidity;
+                    double t0 = Math.floor(v0 * ratio);
+                    double t1 = Math.floor(v1 * ratio);
+                    fee0[j] += t0;
+                    fee1[j] += t1;
+                    valueError[j] += (1 + 8 * U * t0) * tickPrice + 1 + 8 * U * t1;
+                }
+            }
+            return;
+        }
+        double p = tickPrice;
+        for (int j = 0; j < k; j++) {
+            double m = mask[j];
+            double ratio = liquidity[j] / totalLiquidity;
+            double t0 = Math.floor(v0 * ratio);
+            double t1 = Math.floor(v1 * ratio);
+            // adding 0 leaves an out of range strategy as it is
+            fee0[j] += m * t0;
+            fee1[j] += m * t1;
+            valueError[j] += m * ((1 + 8 * U * t0) * p + 1 + 8 * U * t1);
+        }
+    }
+
+    /**
+     * net value, im and drawdown of every strategy after the block
+     */
+    private void value() {
+        if (ts >= hourTs + HOUR) {
+            for (int j = 0; j < k; j++) {
+                returns[j].close();
+            }
+            hourTs = BaseUtil.alignedToHour(ts * 1000) / 1000;
+        }
+        double s = sqrtPrice;
+        for (int j = 0; j < k; j++) {
+            double l = book.liquidity[j], lower = book.sqrtLower[j], upper = book.sqrtUpper[j];
+            double a0, a1;
+            if (s <= lower) {
+                a0 = Math.floor(l * (upper - lower) / upper / lower);
+                a1 = 0;
+            } else if (s <= upper) {
+                a0 = Math.floor(l * (upper - s) / upper / s);
+                a1 = Math.floor(l * (s - lower));
+            } else {
+                a0 = 0;
+                a1 = Math.floor(l * (upper - lower));
+            }
+            double out0 = a0 + book.change0[j] + book.fee0[j];
+            double out1 = a1 + book.change1[j] + book.fee1[j];
+            endNetValue[j] = poolContext.netValue(out0, out1, price);
+            double im = endNetValue[j] / poolContext.netValue(start0[j], start1[j], price);
+            returns[j].set(im);
+            if (im >= peek[j]) {
+                if (peek[j] > min[j]) {
+                    maxDrawDown[j] = Math.max(maxDrawDown[j], (peek[j] - min[j]) / peek[j]);
+                }
+                peek[j] = im;
+                min[j] = im;
+            } else if (im < min[j]) {
+                min[j] = im;
+            }
+        }
+    }
+
+    /**
+     * FastBackTest.result(reportName, days, false) of strategy j, without a report name
+     */
+    private Map<String, Object> result(int j, long days) {
+        book.amounts(j, sqrtPrice);
+        FastResult result = new FastResult();
+        result.startPrice = startPrice;
+        result.endPrice = price;
+        result.highPrice = highPrice;
+        result.lowPrice = lowPrice;
+        result.tickPrice = tickPrice;
+        result.startNetValue = startNetValue;
+        result.endNetValue = endNetValue[j];
+        result.start0 = start0[j];
+        result.start1 = start1[j];
+        result.end0 = book.out0 + book.change0[j] + book.fee0[j];
+        result.end1 = book.out1 + book.change1[j] + book.fee1[j];
+        result.commission0 = book.fee0[j];
+        result.commission1 = book.fee1[j];
+        result.swapFee0 = swapFee0[j];
+        result.swapFee1 = swapFee1[j];
+        result.valueError = valueError[j];
+        result.maxDrawDown = Math.max(maxDrawDown[j], (peek[j] - min[j]) / peek[j]);
+        result.volatility = returns[j].volatility();
+        return result.toMap(poolInfo, poolContext, batch.get(j), null, days);
+    }
+}
@@ -0,0 +1,356 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.DiffResult;
+import finance.universe.backtest.vo.DiffStats;
+import finance.universe.backtest.vo.Divergence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * differential verification of an alternative engine against the reference (exact) engine.
+ * both run the same params, then every leaf of the two results is compared in a fixed order: trade events
+ * field by field, the hourly im points, then the summary sections. numbers pass when
+ * |a - b| <= absTolerance + relTolerance * max(|a|, |b|), anything else has to be equal.
+ * the first leaf out of tolerance is reported together with the trade event / im point it belongs to.
+ *
+ * with backtest.diff.sample-rate > 0 a share of the exact /backtest requests is replayed on the fast engine in
+ * the background and divergences are logged and counted. replays are admitted like requests of their own client,
+ * a replay that is not admitted is dropped.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class DiffService {
+
+    // compared first, in this order, the other sections by key
+    private static final List<String> SECTIONS = Arrays.asList("trade_info", "im_list", "ts_list", "market_info", "global_info", "risk_info", "base_info");
+    // not produced by both engines, or expected to differ
+    private static final Set<String> IGNORED = new HashSet<>(Arrays.asList("report_name", "error_bound", "base_info.mode"));
+    // admission client of the sampled replays
+    private static final String SAMPLE_CLIENT = "diff-sample";
+
+    @Autowired
+    BackTestService backTestService;
+    @Autowired
+    AdmissionService admissionService;
+
+    @Value("${backtest.diff.rel-tolerance:1e-9}")
+    private double relTolerance;
+
+    @Value("${backtest.diff.abs-tolerance:1e-6}")
+    private double absTolerance;
+
+    @Value("${backtest.diff.sample-rate:0}")
+    private double sampleRate;
+
+    @Value("${backtest.diff.sample-queue:4}")
+    private int sampleQueue;
+
+    private ExecutorService executor;
+    private ThreadPoolExecutor sampleExecutor;
+
+    // guarded by this
+    private final DiffStats stats = new DiffStats();
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newCachedThreadPool();
+        // one replay at a time, the rest waits in a short queue or is dropped
+        sampleExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(sampleQueue));
+        stats.setSampleRate(sampleRate);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+        sampleExecutor.shutdownNow();
+    }
+
+    /**
+     * run params on both engines in parallel and compare
+     * @param alternative exact or fast, the reference is always exact
+     */
+    public DiffResult diff(BackTestTickParams params, String alternative, Double relTolerance, Double absTolerance) throws Exception {
+        String mode = alternative == null ? BackTestService.MODE_FAST : alternative.toLowerCase();
+        if (!BackTestService.MODE_FAST.equals(mode) && !BackTestService.MODE_EXACT.equals(mode)) {
+            throw new IllegalArgumentException("unsupported alternative: " + alternative);
+        }
+        if (!CollectionUtils.isEmpty(params.getPositions())) {
+            throw new IllegalArgumentException("positions have no reference engine");
+        }
+        Future<Map<String, Object>> alternativeResult = executor.submit(() -> timed(withMode(params, mode)));
+        Map<String, Object> referenceResult;
+        try {
+            referenceResult = timed(withMode(params, BackTestService.MODE_EXACT));
+        } catch (Exception e) {
+            alternativeResult.cancel(true);
+            throw e;
+        }
+        Map<String, Object> other;
+        try {
+            other = alternativeResult.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        DiffResult result = compare(referenceResult, other,
+                relTolerance == null ? this.relTolerance : relTolerance, absTolerance == null ? this.absTolerance : absTolerance);
+        result.setAlternative(mode);
+        result.setReferenceMs((Long) referenceResult.get("consume"));
+        result.setAlternativeMs((Long) other.get("consume"));
+        return result;
+    }
+
+    /**
+     * maybe replay an exact /backtest result on the fast engine in the background
+     */
+    public void sample(BackTestTickParams params, Map<String, Object> exactResult) {
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        if (params.getMode() != null && !BackTestService.MODE_EXACT.equalsIgnoreCase(params.getMode()) || !CollectionUtils.isEmpty(params.getPositions())) {
+            return;
+        }
+        BackTestTickParams fast = withMode(params, BackTestService.MODE_FAST);
+        try {
+            sampleExecutor.execute(() -> replay(fast, exactResult));
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                stats.setDropped(stats.getDropped() + 1);
+            }
+        }
+    }
+
+    public synchronized DiffStats stats() {
+        DiffStats copy = new DiffStats();
+        copy.setSampleRate(stats.getSampleRate());
+        copy.setSampled(stats.getSampled());
+        copy.setPassed(stats.getPassed());
+        copy.setDiverged(stats.getDiverged());
+        copy.setDropped(stats.getDropped());
+        copy.setFailed(stats.getFailed());
+        copy.setLastDivergence(stats.getLastDivergence());
+        return copy;
+    }
+
+    private void replay(BackTestTickParams fast, Map<String, Object> exactResult) {
+        try {
+            AdmissionService.Permit permit = admissionService.acquire(SAMPLE_CLIENT, admissionService.estimateCost(fast));
+            try {
+                DiffResult result = compare(exactResult, backTestService.runBackTest(fast), relTolerance, absTolerance);
+                result.setAlternative(BackTestService.MODE_FAST);
+                synchronized (this) {
+                    stats.setSampled(stats.getSampled() + 1);
+                    if (result.isIdentical()) {
+                        stats.setPassed(stats.getPassed() + 1);
+                    } else {
+                        stats.setDiverged(stats.getDiverged() + 1);
+                        stats.setLastDivergence(result);
+                    }
+                }
+                if (!result.isIdentical()) {
+                    log.warn("diff sample diverged, report: {}, diverged: {}, first: {}", exactResult.get("report_name"), result.getDiverged(), result.getFirstDivergence());
+                }
+            } finally {
+                permit.close();
+            }
+        } catch (AdmissionService.RejectedException e) {
+            synchronized (this) {
+                stats.setDropped(stats.getDropped() + 1);
+            }
+        } catch (Exception e) {
+            log.warn("diff sample failed, report: {}", exactResult.get("report_name"), e);
+            synchronized (this) {
+                stats.setFailed(stats.getFailed() + 1);
+            }
+        }
+    }
+
+    private Map<String, Object> timed(BackTestTickParams params) throws Exception {
+        long start = System.currentTimeMillis();
+        Map<String, Object> result = new HashMap<>(backTestService.runBackTest(params));
+        result.put("consume", System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private static BackTestTickParams withMode(BackTestTickParams params, String mode) {
+        BackTestTickParams copy = new BackTestTickParams();
+        copy.setPair(params.getPair());
+        copy.setBoundaryThreshold(params.getBoundaryThreshold());
+        copy.setReBalanceThreshold(params.getReBalanceThreshold());
+        copy.setStartTs(params.getStartTs());
+        copy.setEndTs(params.getEndTs());
+        copy.setAmount0(params.getAmount0());
+        copy.setAmount1(params.getAmount1());
+        copy.setRebalance(params.getRebalance());
+        copy.setGasPercentile(params.getGasPercentile());
+        copy.setGasCost(params.getGasCost());
+        copy.setDeferRebalance(params.getDeferRebalance());
+        copy.setMode(mode);
+        return copy;
+    }
+
+    // ---- comparison
+
+    DiffResult compare(Map<String, Object> reference, Map<String, Object> alternative, double relTolerance, double absTolerance) {
+        Comparison comparison = new Comparison(reference, alternative, relTolerance, absTolerance);
+        List<String> keys = new ArrayList<>(SECTIONS);
+        SortedSet<String> rest = new TreeSet<>(reference.keySet());
+        rest.addAll(alternative.keySet());
+        rest.removeAll(SECTIONS);
+        rest.remove("consume");
+        keys.addAll(rest);
+        for (String key : keys) {
+            if (!IGNORED.contains(key) && (reference.containsKey(key) || alternative.containsKey(key))) {
+                comparison.walk(key, reference.get(key), alternative.get(key));
+            }
+        }
+
+        DiffResult result = new DiffResult();
+        result.setReference(BackTestService.MODE_EXACT);
+        result.setRelTolerance(relTolerance);
+        result.setAbsTolerance(absTolerance);
+        result.setIdentical(comparison.diverged == 0);
+        result.setCompared(comparison.compared);
+        result.setDiverged(comparison.diverged);
+        result.setTradeEvents(size(reference.get("trade_info")));
+        result.setImPoints(size(reference.get("im_list")));
+        result.setMaxRelDiff(comparison.maxRelDiff);
+        result.setMaxRelDiffPath(comparison.maxRelDiffPath);
+        result.setFirstDivergence(comparison.first);
+        return result;
+    }
+
+    private static int size(Object list) {
+        return list instanceof List ? ((List<?>) list).size() : 0;
+    }
+
+    private static final class Comparison {
+        final Map<String, Object> reference;
+        final Map<String, Object> alternative;
+        final double relTolerance;
+        final double absTolerance;
+        int compared;
+        int diverged;
+        double maxRelDiff;
+        String maxRelDiffPath;
+        Divergence first;
+
+        Comparison(Map<String, Object> reference, Map<String, Object> alternative, double relTolerance, double absTolerance) {
+            this.reference = reference;
+            this.alternative = alternative;
+            this.relTolerance = relTolerance;
+            this.absTolerance = absTolerance;
+        }
+
+        void walk(String path, Object a, Object b) {
+            if (IGNORED.contains(path)) {
+                return;
+            }
+            if (a instanceof Map && b instanceof Map) {
+                SortedSet<String> keys = new TreeSet<>();
+                ((Map<?, ?>) a).keySet().forEach(it -> keys.add(String.valueOf(it)));
+                ((Map<?, ?>) b).keySet().forEach(it -> keys.add(String.valueOf(it)));
+                for (String key : keys) {
+                    walk(path + "." + key, ((Map<?, ?>) a).get(key), ((Map<?, ?>) b).get(key));
+                }
+                return;
+            }
+            if (a instanceof List && b instanceof List) {
+                List<?> la = (List<?>) a, lb = (List<?>) b;
+                for (int i = 0; i < Math.max(la.size(), lb.size()); i++) {
+                    walk(path + "[" + i + "]", i < la.size() ? la.get(i) : null, i < lb.size() ? lb.get(i) : null);
+                }
+                return;
+            }
+            compared++;
+            BigDecimal na = number(a), nb = number(b);
+            if (na != null && nb != null) {
+                double da = na.doubleValue(), db = nb.doubleValue();
+                double absDiff = Math.abs(da - db);
+                double scale = Math.max(Math.abs(da), Math.abs(db));
+                double relDiff = scale == 0 ? 0 : absDiff / scale;
+                if (relDiff > maxRelDiff) {
+                    maxRelDiff = relDiff;
+                    maxRelDiffPath = path;
+                }
+                if (absDiff > absTolerance + relTolerance * scale) {
+                    diverge(path, a, b, absDiff, relDiff);
+                }
+            } else if (!Objects.equals(a == null ? null : String.valueOf(a), b == null ? null : String.valueOf(b))) {
+                diverge(path, a, b, null, null);
+            }
+        }
+
+        private void diverge(String path, Object a, Object b, Double absDiff, Double relDiff) {
+            diverged++;
+            if (first != null) {
+                return;
+            }
+            first = new Divergence();
+            first.setPath(path);
+            first.setReference(a);
+            first.setAlternative(b);
+            first.setAbsDiff(absDiff);
+            first.setRelDiff(relDiff);
+            // the state around it: the trade event or the hourly point and the one before
+            for (String section : Arrays.asList("trade_info", "im_list", "ts_list")) {
+                if (path.startsWith(section + "[")) {
+                    int index = Integer.parseInt(path.substring(section.length() + 1, path.indexOf(']')));
+                    first.setIndex(index);
+                    first.setReferenceRow(row(reference, section, index));
+                    first.setAlternativeRow(row(alternative, section, index));
+                    first.setPreviousReferenceRow(row(reference, section, index - 1));
+                    first.setPreviousAlternativeRow(row(alternative, section, index - 1));
+                }
+            }
+        }
+
+        /**
+         * a trade event as is, an hourly point as [ts, im]
+         */
+        private static Object row(Map<String, Object> result, String section, int index) {
+            if ("trade_info".equals(section)) {
+                return at(result.get(section), index);
+            }
+            Object ts = at(result.get("ts_list"), index), im = at(result.get("im_list"), index);
+            return ts == null && im == null ? null : Arrays.asList(ts, im);
+        }
+
+        private static Object at(Object list, int index) {
+            return list instanceof List && index >= 0 && index < ((List<?>) list).size() ? ((List<?>) list).get(index) : null;
+        }
+
+        private static BigDecimal number(Object o) {
+            if (o instanceof BigDecimal) {
+                return (BigDecimal) o;
+            }
+            if (o instanceof Double || o instanceof Float) {
+                double d = ((Number) o).doubleValue();
+                return Double.isFinite(d) ? BigDecimal.valueOf(d) : null;
+            }
+            if (o instanceof Number) {
+                return new BigDecimal(o.toString());
+            }
+            if (o instanceof String) {
+                try {
+                    return new BigDecimal((String) o);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.HourKline;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.series.CheapBlockIndex;
+import finance.universe.backtest.series.Int128;
+import finance.universe.backtest.series.SwapCursor;
+import finance.universe.backtest.series.SwapSeries;
+import finance.universe.backtest.util.BaseUtil;
+import finance.universe.backtest.util.GasHistogram;
+import finance.universe.backtest.util.PoolContext;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.LadderPosition;
+import finance.universe.backtest.vo.Rebalance;
+import org.springframework.util.CollectionUtils;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.BiPredicate;
+
+/**
+ * screening version of BackTestService.runBackTest on primitive doubles.
+ * same blocks, same decisions and the same integer truncations as the exact engine, but sqrt prices, liquidity,
+ * fees and net values are doubles and the block loop reads the swap series directly without allocating.
+ * range checks compare ticks, so the two engines always take the same branches and only differ by rounding.
+ *
+ * the reported error_bound is a running worst case of that rounding: every double operation may be off by
+ * half an ulp, every truncation to a token unit may land one unit away from the exact engine.
+ *
+ * with params.positions the capital is split over a ladder of ranges held in a {@link PositionBook}. every
+ * position re-centers on its own reBalanceThreshold, there is no exact counterpart for ladders.
+ *
+ * the simulation is stepwise: advance() consumes further blocks and result() reads the metrics without
+ * closing anything, which lets a live strategy follow the series as rows are appended.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class FastBackTest {
+
+    private static final long HOUR = 3600;
+    // unit roundoff of a double
+    private static final double U = Math.ulp(1.0) / 2;
+    private static final BigDecimal REBALANCE_GAS_USED = BigDecimal.valueOf(400000);
+
+    private final Pool poolInfo;
+    private final PoolContext poolContext;
+    private final BackTestTickParams params;
+    private final BiPredicate<BigDecimal, Long> gasGate;
+    // next cheap block lookups when rebalances are deferred, null otherwise
+    private final CheapBlockIndex.Cursor cheapBlocks;
+    private final boolean gasCost;
+
+    // ladder legs, a single position otherwise
+    private final boolean ladder;
+    private final int n;
+    private final long[] boundaryThreshold;
+    private final long[] reBalanceThreshold;
+    private final double[] weight;
+
+    // forced rebalances by block and position
+    private final long[] rebalanceBlocks;
+    private final Rebalance[][] rebalances;
+    private int nextRebalance;
+
+    // by position: a forced rebalance waiting for its cheap block, the block it waits for (-1 while none is known)
+    // and the block a triggered threshold rebalance waits for (0 while none waits)
+    private final Rebalance[] deferred;
+    private final long[] deferredTo;
+    private final long[] waitTo;
+    private int deferrals;
+    // gas paid, in base units of the native token
+    private double totalGas;
+
+    // hourly pool liquidity by hour slot from firstHour, NaN where the kline is missing
+    private final long firstHour;
+    private double[] hourLiquidity = new double[0];
+    private long lastKlineTs = Long.MIN_VALUE;
+
+    // im of the last block of every hour
+    private long[] imTs = new long[64];
+    private double[] imHour = new double[64];
+    private int imHours;
+    private final HourlyReturns returns = new HourlyReturns();
+
+    private final GasHistogram gasHistogram = new GasHistogram();
+    private final PositionBook book;
+    private final List<List<Object>> eventList = new ArrayList<>();
+    private int reD;
+    private int reWin;
+
+    // simulation state after the last block
+    private boolean started;
+    private long blocks;
+    private long lastBlock = -1;
+    private long ts;
+    private long tick;
+    private double price, pw, sqrtPrice, tickPrice;
+    private double startPrice, highPrice, lowPrice;
+    private double start0, start1;
+    private double startNetValue, endNetValue;
+    // running max drawdown over every block, seeded with the im of 1 at startTs
+    private double peek = 1, min = 1, maxDrawDown;
+
+    /**
+     * @param gasGate (block median gas price, ts) -> whether a threshold rebalance may happen, used by ladders only
+     * @param cheapBlocks null unless params.deferRebalance, replaces the gas gate then
+     */
+    FastBackTest(Pool poolInfo, BackTestTickParams params, BiPredicate<BigDecimal, Long> gasGate, CheapBlockIndex.Cursor cheapBlocks) {
+        this.poolInfo = poolInfo;
+        this.poolContext = PoolContext.of(poolInfo);
+        this.params = params;
+        this.gasGate = gasGate;
+        this.cheapBlocks = cheapBlocks;
+        this.gasCost = Boolean.TRUE.equals(params.getGasCost());
+        if (gasCost && poolContext.getGasToken() < 0) {
+            throw new IllegalArgumentException("gasCost needs a pool holding WETH");
+        }
+
+        ladder = !CollectionUtils.isEmpty(params.getPositions());
+        n = ladder ? params.getPositions().size() : 1;
+        boundaryThreshold = new long[n];
+        reBalanceThreshold = new long[n];
+        weight = new double[n];
+        if (ladder) {
+            double weightSum = 0;
+            for (int i = 0; i < n; i++) {
+                LadderPosition position = params.getPositions().get(i);
+                if (position.getBoundaryThreshold() == null || position.getBoundaryThreshold() <= 0) {
+                    throw new IllegalArgumentException("position " + i + ": boundaryThreshold must be positive");
+                }
+                boundaryThreshold[i] = BaseUtil.floor(position.getBoundaryThreshold(), poolContext.getTickSpacing());
+                reBalanceThreshold[i] = position.getReBalanceThreshold() == null ? Long.MAX_VALUE : position.getReBalanceThreshold();
+                weight[i] = position.getWeight() == null ? 1 : position.getWeight().doubleValue();
+                if (!(weight[i] > 0)) {
+                    throw new IllegalArgumentException("position " + i + ": weight must be positive");
+                }
+                weightSum += weight[i];
+            }
+            for (int i = 0; i < n; i++) {
+                weight[i] /= weightSum;
+            }
+        } else {
+            boundaryThreshold[0] = BaseUtil.floor(params.getBoundaryThreshold(), poolContext.getTickSpacing());
+            weight[0] = 1;
+        }
+
+        // the last entry of a block wins like in the exact engine
+        BackTestService.checkRebalance(params);
+        Map<Long, Rebalance[]> rebalanceMap = new TreeMap<>();
+        if (!CollectionUtils.isEmpty(params.getRebalance())) {
+            for (Rebalance rebalance : params.getRebalance()) {
+                int position = rebalance.getPosition() == null ? 0 : rebalance.getPosition();
+                rebalanceMap.computeIfAbsent(rebalance.getBlock(), it -> new Rebalance[n])[position] = rebalance;
+            }
+        }
+        rebalanceBlocks = rebalanceMap.keySet().stream().mapToLong(Long::longValue).toArray();
+        rebalances = rebalanceMap.values().toArray(new Rebalance[0][]);
+        deferred = new Rebalance[n];
+        deferredTo = new long[n];
+        waitTo = new long[n];
+
+        // swaps are read from startTs on, so the first hour slot is the hour of startTs
+        firstHour = BaseUtil.alignedToHour(params.getStartTs() * 1000) / 1000;
+        imTs[0] = firstHour;
+        imHour[0] = 1;
+        imHours = 1;
+        book = new PositionBook(n, poolContext.getFee());
+    }
+
+    /**
+     * a whole backtest over the rows [from, to)
+     */
+    Map<String, Object> run(SwapSeries series, int from, int to, List<HourKline> klines, long days, String reportName) throws Exception {
+        klines(klines);
+        advance(series, from, to, false);
+        return result(reportName, days, true);
+    }
+
+    /**
+     * add hourly pool liquidity, klines may arrive in any order and again for the same hour
+     */
+    void klines(List<HourKline> klines) {
+        for (HourKline kline : klines) {
+            lastKlineTs = Math.max(lastKlineTs, kline.getTs());
+            if (kline.getTs() < firstHour || kline.getLiquidity() == null) {
+                continue;
+            }
+            int slot = (int) ((kline.getTs() - firstHour) / HOUR);
+            if (slot >= hourLiquidity.length) {
+                int length = hourLiquidity.length;
+                hourLiquidity = Arrays.copyOf(hourLiquidity, Math.max(slot + 1, length * 2));
+                Arrays.fill(hourLiquidity, length, hourLiquidity.length, Double.NaN);
+            }
+            hourLiquidity[slot] = kline.getLiquidity().doubleValue();
+        }
+    }
+
+    /**
+     * simulate the blocks of the rows [from, to), which must start at a block boundary after the blocks
+     * simulated so far. blocks without hourly liquidity are skipped like in the exact engine.
+     * @param waitForKlines stop before the first block after the latest kline ts, where /backtest without endTs ends
+     * @return the first row not simulated
+     */
+    int advance(SwapSeries series, int from, int to, boolean waitForKlines) {
+        SwapCursor cursor = series.cursor();
+        cursor.seek(from);
+        boolean hasNext = cursor.next() && cursor.index() < to;
+        while (hasNext) {
+            if (waitForKlines && cursor.ts() > lastKlineTs) {
+                return cursor.index();
+            }
+            long blockNumber = cursor.blockNumber();
+            long sum0Hi = 0, sum0Lo = 0, sum1Hi = 0, sum1Lo = 0;
+            long blockTs;
+            gasHistogram.clear();
+            do {
+                if (cursor.amount0Hi() >= 0) {
+                    long lo = sum0Lo + cursor.amount0Lo();
+                    sum0Hi += cursor.amount0Hi() + Int128.carry(lo, sum0Lo);
+                    sum0Lo = lo;
+                }
+                if (cursor.amount1Hi() >= 0) {
+                    long lo = sum1Lo + cursor.amount1Lo();
+                    sum1Hi += cursor.amount1Hi() + Int128.carry(lo, sum1Lo);
+                    sum1Lo = lo;
+                }
+                blockTs = cursor.ts();
+                tick = cursor.tick();
+                gasHistogram.add(cursor.gasPrice());
+                hasNext = cursor.next() && cursor.index() < to;
+            } while (hasNext && cursor.blockNumber() == blockNumber);
+
+            int slot = (int) ((BaseUtil.alignedToHour(blockTs * 1000) / 1000 - firstHour) / HOUR);
+            double totalLiquidity = slot < hourLiquidity.length ? hourLiquidity[slot] : Double.NaN;
+            if (Double.isNaN(totalLiquidity)) {
+                continue;
+            }
+            blocks++;
+            lastBlock = blockNumber;
+            ts = blockTs;
+            pw = Math.pow(1.0001, tick);
+            sqrtPrice = Math.sqrt(pw);
+            tickPrice = Math.floor(pw);
+            price = poolContext.priceOf(pw);
+
+            if (!started) {
+                // first block: open the positions like the exact engine does before its loop
+                started = true;
+                startPrice = price;
+                highPrice = price;
+                lowPrice = price;
+                long middleTick = BaseUtil.floor(tick, poolContext.getTickSpacing());
+                startNetValue = poolContext.isReverse()
+                        ? params.getAmount0().doubleValue() + params.getAmount1().doubleValue() * startPrice
+                        : params.getAmount1().doubleValue() + params.getAmount0().doubleValue() * startPrice;
+                for (int i = 0; i < n; i++) {
+                    book.setRange(i, middleTick, middleTick - boundaryThreshold[i], middleTick + boundaryThreshold[i]);
+                    book.addLiquidity(i, sqrtPrice, tickPrice,
+                            Math.floor(params.getAmount0().doubleValue() * poolContext.getScale0() * weight[i]), Math.floor(params.getAmount1().doubleValue() * poolContext.getScale1() * weight[i]));
+                    start0 += book.amount0[i] + book.change0[i];
+                    start1 += book.amount1[i] + book.change1[i];
+                    eventList.add(event(i, params.getStartTs(), price, book.amount0[i], book.amount1[i], book.liquidity[i], book.change0[i], book.change1[i], "0", "0", "50000000000", "300000", "add"));
+                }
+            }
+            highPrice = Math.max(highPrice, price);
+            lowPrice = Math.min(lowPrice, price);
+
+            book.accrue(tick, Int128.toDouble(sum0Hi, sum0Lo), Int128.toDouble(sum1Hi, sum1Lo), totalLiquidity, tickPrice);
+
+            book.value(sqrtPrice);
+            endNetValue = poolContext.netValue(book.out0, book.out1, price);
+            double im = endNetValue / poolContext.netValue(start0, start1, price);
+            if (ts >= imTs[imHours - 1] + HOUR) {
+                returns.close();
+                if (imHours == imTs.length) {
+                    imTs = Arrays.copyOf(imTs, imHours * 2);
+                    imHour = Arrays.copyOf(imHour, imHours * 2);
+                }
+                imTs[imHours] = BaseUtil.alignedToHour(ts * 1000) / 1000;
+                imHours++;
+            }
+            imHour[imHours - 1] = im;
+            returns.set(im);
+            if (im >= peek) {
+                if (peek > min) {
+                    maxDrawDown = Math.max(maxDrawDown, (peek - min) / peek);
+                }
+                peek = im;
+                min = im;
+            } else if (im < min) {
+                min = im;
+            }
+
+            while (nextRebalance < rebalanceBlocks.length && rebalanceBlocks[nextRebalance] < blockNumber) {
+                nextRebalance++;
+            }
+            Rebalance[] forced = nextRebalance < rebalanceBlocks.length && rebalanceBlocks[nextRebalance] == blockNumber ? rebalances[nextRebalance] : null;
+            BigDecimal gasPrice = null;
+            Boolean gasOk = null;
+            for (int i = 0; i < n; i++) {
+                Rebalance rebalance = forced == null ? null : forced[i];
+                if (cheapBlocks != null) {
+                    rebalance = deferForced(i, rebalance, blockNumber);
+                }
+                long middleTick = BaseUtil.floor(tick, poolContext.getTickSpacing());
+                if (rebalance != null && rebalance.getUpper() > rebalance.getLower()) {
+                    // like runBackTest a single position only moves on forced rebalances
+                    gasPrice = gasPrice == null ? gasHistogram.median() : gasPrice;
+                    rebalance(i, middleTick, rebalance.getLower(), rebalance.getUpper(), gasPrice);
+                } else if (ladder && blockNumber >= waitTo[i] && Math.abs(tick - book.middleTick[i]) >= reBalanceThreshold[i]) {
+                    if (cheapBlocks != null) {
+                        long cheap = cheapBlocks.nextCheap(blockNumber);
+                        if (cheap != blockNumber) {
+                            if (waitTo[i] == 0) {
+                                deferrals++;
+                            }
+                            waitTo[i] = cheap < 0 ? blockNumber + 1 : cheap;
+                            continue;
+                        }
+                        waitTo[i] = 0;
+                    } else {
+                        if (gasOk == null) {
+                            gasOk = gasGate.test(gasHistogram.median(), ts);
+                        }
+                        if (!gasOk) {
+                            continue;
+                        }
+                    }
+                    gasPrice = gasPrice == null ? gasHistogram.median() : gasPrice;
+                    rebalance(i, middleTick, middleTick - boundaryThreshold[i], middleTick + boundaryThreshold[i], gasPrice);
+                }
+            }
+        }
+        return to;
+    }
+
+    /**
+     * number of blocks simulated
+     */
+    long blocks() {
+        return blocks;
+    }
+
+    /**
+     * last simulated block, -1 before the first
+     */
+    long lastBlock() {
+        return lastBlock;
+    }
+
+    /**
+     * ts of the last simulated block
+     */
+    long ts() {
+        return ts;
+    }
+
+    /**
+     * ts of the latest kline added, Long.MIN_VALUE before any
+     */
+    long lastKlineTs() {
+        return lastKlineTs;
+    }
+
+    /**
+     * the backtest result as if every position were closed after the last simulated block. the simulation
+     * itself is left untouched, so it can be advanced and read again.
+     * @param full false leaves out ts_list, im_list and trade_info, which grow with the history
+     */
+    Map<String, Object> result(String reportName, long days, boolean full) throws Exception {
+        if (!started) {
+            throw new Exception("kline miss");
+        }
+        List<List<Object>> events = full ? new ArrayList<>(eventList) : null;
+        double totalCommission0 = book.totalCommission0, totalCommission1 = book.totalCommission1;
+        int wins = reWin;
+        double end0 = 0, end1 = 0;
+        for (int i = 0; i < n; i++) {
+            double cp = (book.fee1[i] + book.fee0[i] * tickPrice) / (book.amount1[i] + book.amount0[i] * tickPrice);
+            double temp0 = book.fee0[i], temp1 = book.fee1[i];
+            totalCommission0 += temp0;
+            totalCommission1 += temp1;
+            book.amounts(i, sqrtPrice);
+            double remove0 = book.out0, remove1 = book.out1;
+            double removeIm = (remove1 + remove0 * tickPrice) / (book.amount1[i] + book.amount0[i] * tickPrice) - 1;
+            double positionEnd0 = remove0 + book.change0[i] + temp0;
+            double positionEnd1 = remove1 + book.change1[i] + temp1;
+            end0 += positionEnd0;
+            end1 += positionEnd1;
+            if (full) {
+                events.add(event(i, ts, price, -remove0, -remove1, -book.liquidity[i], positionEnd0, positionEnd1, plain(removeIm), plain(cp), "50000000000", "200000", "remove"));
+            }
+            if (removeIm + cp > 0) {
+                wins++;
+            }
+        }
+        FastResult result = new FastResult();
+        result.startPrice = startPrice;
+        result.endPrice = price;
+        result.highPrice = highPrice;
+        result.lowPrice = lowPrice;
+        result.tickPrice = tickPrice;
+        result.startNetValue = startNetValue;
+        result.endNetValue = endNetValue;
+        result.start0 = start0;
+        result.start1 = start1;
+        result.end0 = end0;
+        result.end1 = end1;
+        result.commission0 = totalCommission0;
+        result.commission1 = totalCommission1;
+        result.swapFee0 = book.swapFee0;
+        result.swapFee1 = book.swapFee1;
+        result.valueError = book.valueError;
+        result.maxDrawDown = Math.max(this.maxDrawDown, (peek - min) / peek);
+        result.volatility = returns.volatility();
+        result.reBalanceTimes = reD;
+        // every position is closed once more at the end
+        result.winRate = reD != 0 ? (double) wins / (reD + n) : null;
+        if (ladder) {
+            result.positions = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                Map<String, String> positionMap = new HashMap<>();
+                positionMap.put("lower_rate", String.valueOf(boundaryThreshold[i]));
+                positionMap.put("upper_rate", String.valueOf(boundaryThreshold[i]));
+                positionMap.put("reb_rate", reBalanceThreshold[i] == Long.MAX_VALUE ? null : String.valueOf(reBalanceThreshold[i]));
+                positionMap.put("weight", plain(weight[i]));
+                result.positions.add(positionMap);
+            }
+        }
+        if (gasCost) {
+            result.gasCost = totalGas * (poolContext.getGasToken() == 0 ? poolContext.getUnit0() : poolContext.getUnit1());
+        }
+        if (cheapBlocks != null) {
+            result.deferredRebalance = deferrals;
+        }
+        if (full) {
+            result.tsList = new ArrayList<>(imHours);
+            result.imList = new ArrayList<>(imHours);
+            for (int i = 0; i < imHours; i++) {
+                result.tsList.add(String.valueOf(imTs[i]));
+                result.imList.add(plain(imHour[i]));
+            }
+            result.tradeInfo = events;
+        }
+        return result.toMap(poolInfo, poolContext, params, reportName, days);
+    }
+
+    /**
+     * like runBackTest: a forced rebalance of position i waits for the next cheap block, a later one replaces it
+     * @return the forced rebalance due at this block, null when none is
+     */
+    private Rebalance deferForced(int i, Rebalance rebalance, long blockNumber) {
+        if (rebalance != null && rebalance.getUpper() > rebalance.getLower()) {
+            deferred[i] = rebalance;
+            deferredTo[i] = cheapBlocks.nextCheap(blockNumber);
+            if (deferredTo[i] != blockNumber) {
+                deferrals++;
+            }
+        } else if (deferred[i] != null && deferredTo[i] < 0) {
+            deferredTo[i] = cheapBlocks.nextCheap(blockNumber);
+        }
+        if (deferred[i] != null && deferredTo[i] >= 0 && blockNumber >= deferredTo[i]) {
+            rebalance = deferred[i];
+            deferred[i] = null;
+            return rebalance;
+        }
+        return null;
+    }
+
+    /**
+     * close position i, collect its fees, pay the gas when params.gasCost and stake everything again in [lower, upper]
+     */
+    private void rebalance(int i, long middleTick, long lower, long upper, BigDecimal gasMedian) {
+        book.amounts(i, sqrtPrice);
+        double remove0 = book.out0, remove1 = book.out1;
+        double gas = gasCost ? poolContext.gasUnits(gasMedian.multiply(REBALANCE_GAS_USED).toBigInteger()).doubleValue() : 0;
+        if (gasCost && remove1 + book.change1[i] + book.fee1[i] + (remove0 + book.change0[i] + book.fee0[i]) * pw <= (poolContext.getGasToken() == 0 ? gas * pw : gas)) {
+            // like runBackTest a rebalance the position can't pay for is skipped
+            return;
+        }
+        String gasPrice = gasMedian.stripTrailingZeros().toPlainString();
+        double staked0 = book.amount0[i], staked1 = book.amount1[i];
+        double removeIm = (remove1 + remove0 * tickPrice) / (staked1 + staked0 * tickPrice) - 1;
+        double cp = (book.fee1[i] + book.fee0[i] * tickPrice) / (staked1 + staked0 * tickPrice);
+        if (removeIm + cp > 0) {
+            reWin++;
+        }
+        eventList.add(event(i, ts, price, -remove0, -remove1, -book.liquidity[i], staked0, staked1, plain(removeIm), plain(cp), gasPrice, "0", "remove"));
+
+        double total0 = remove0 + book.change0[i] + book.fee0[i];
+        double total1 = remove1 + book.change1[i] + book.fee1[i];
+        if (gasCost) {
+            if (poolContext.getGasToken() == 0) {
+                double paid = Math.min(total0, gas);
+                total0 -= paid;
+                total1 = Math.max(0, total1 - Math.floor((gas - paid) * pw));
+            } else {
+                double paid = Math.min(total1, gas);
+                total1 -= paid;
+                total0 = Math.max(0, total0 - Math.floor((gas - paid) / pw));
+            }
+            totalGas += gas;
+            // a unit on either side and the rounding of the converted part
+            book.valueError += tickPrice + 1 + 4 * U * gas * (poolContext.getGasToken() == 0 ? tickPrice : 1);
+        }
+        book.collect(i);
+        book.setRange(i, middleTick, lower, upper);
+        book.addLiquidity(i, sqrtPrice, tickPrice, total0, total1);
+        eventList.add(event(i, ts, price, book.amount0[i], book.amount1[i], book.liquidity[i], book.change0[i], book.change1[i], "0", "0", gasPrice, "400000", "add"));
+        reD++;
+    }
+
+    /**
+     * a trade_info row, ladders append the position index
+     */
+    private List<Object> event(int position, long ts, double price, double a0, double a1, double l, double c0, double c1, String im, String cp, String gasPrice, String gasUsed, String type) {
+        List<Object> paramList = new ArrayList<>();
+        paramList.add(String.valueOf(ts));
+        paramList.add(plain(price));
+        paramList.add(poolContext.toAmount0(BigDecimal.valueOf(a0).toBigInteger()).toPlainString());
+        paramList.add(poolContext.toAmount1(BigDecimal.valueOf(a1).toBigInteger()).toPlainString());
+        paramList.add(BigDecimal.valueOf(l).toBigInteger().toString());
+        paramList.add(poolContext.toAmount0(BigDecimal.valueOf(c0).toBigInteger()).toPlainString());
+        paramList.add(poolContext.toAmount1(BigDecimal.valueOf(c1).toBigInteger()).toPlainString());
+        paramList.add(im);
+        paramList.add(cp);
+        paramList.add(gasPrice);
+        paramList.add(gasUsed);
+        paramList.add(type);
+        if (book.size > 1) {
+            paramList.add(String.valueOf(position));
+        }
+        return paramList;
+    }
+
+    static String plain(double d) {
+        return BigDecimal.valueOf(d).toPlainString();
+    }
+}
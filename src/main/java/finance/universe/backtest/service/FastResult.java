@@ -0,0 +1,144 @@
+package finance.universe.backtest.service;
+
+import com.google.common.collect.Lists;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.util.PoolContext;
+import finance.universe.backtest.vo.BackTestTickParams;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static finance.universe.backtest.service.FastBackTest.plain;
+
+/**
+ * end state of one fast strategy and the /backtest result map built from it. {@link FastBackTest} and
+ * {@link BatchBackTest} fill it from their own state, the rates, APRs and error bounds are derived here with the
+ * same operations for both. token amounts are in their smallest unit.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class FastResult {
+
+    // unit roundoff of a double
+    private static final double U = Math.ulp(1.0) / 2;
+
+    double startPrice, endPrice, highPrice, lowPrice;
+    // floor(1.0001^tick) of the last block
+    double tickPrice;
+    double startNetValue, endNetValue;
+    // staked at the start
+    double start0, start1;
+    // every position closed after the last block, with its fees
+    double end0, end1;
+    double commission0, commission1;
+    double swapFee0, swapFee1;
+    // running bound on the rounding of the end value
+    double valueError;
+    double maxDrawDown, volatility;
+    int reBalanceTimes;
+    // null without a rebalance, the exact engine prints a plain 0 then
+    Double winRate;
+
+    // ladders only, base_info lists them instead of the single position's rates
+    List<Map<String, String>> positions;
+    // in native token units, only with params.gasCost
+    Double gasCost;
+    // only with params.deferRebalance
+    Integer deferredRebalance;
+    // only for a full result
+    List<String> tsList;
+    List<String> imList;
+    List<List<Object>> tradeInfo;
+
+    Map<String, Object> toMap(Pool poolInfo, PoolContext poolContext, BackTestTickParams params, String reportName, long days) {
+        double uRate = (endNetValue - startNetValue) / startNetValue;
+        double startB = startNetValue / startPrice;
+        double endB = endNetValue / endPrice;
+        double bRate = (endB - startB) / startB;
+        double t0 = commission0 * poolContext.getUnit0();
+        double t1 = commission1 * poolContext.getUnit1();
+        double cuRate = (poolContext.isReverse() ? t0 + t1 * endPrice : t1 + t0 * endPrice) / startNetValue;
+        double realRate = endNetValue / poolContext.netValue(start0, start1, endPrice) - 1;
+        if (days == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        double uAPR = uRate * 365 / days;
+        double bAPR = bRate * 365 / days;
+        double realAPR = realRate * 365 / days;
+        double cuAPR = cuRate * 365 / days;
+        double sharpe = realAPR / volatility;
+
+        // relative error of the end value, the start value carries the error of the first staking only
+        double endValue = end1 + end0 * tickPrice;
+        double relError = valueError / endValue + 16 * U;
+        double rateError = (relError + 16 * U) * Math.abs(realRate + 1);
+        double cuRateError = ((1 + 8 * U) * valueError / endValue + 8 * U) * Math.abs(cuRate);
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("report_name", reportName);
+
+        Map<String, Object> baseInfoMap = new HashMap<>();
+        baseInfoMap.put("start_ts", String.valueOf(params.getStartTs()));
+        baseInfoMap.put("end_ts", String.valueOf(params.getEndTs()));
+        if (positions != null) {
+            baseInfoMap.put("positions", positions);
+        } else {
+            baseInfoMap.put("lower_rate", params.getBoundaryThreshold().toString());
+            baseInfoMap.put("upper_rate", params.getBoundaryThreshold().toString());
+            baseInfoMap.put("reb_rate", params.getReBalanceThreshold().toString());
+        }
+        baseInfoMap.put("tier", poolContext.getSwapFee().stripTrailingZeros().toPlainString());
+        baseInfoMap.put("token0", poolInfo.getToken0());
+        baseInfoMap.put("token1", poolInfo.getToken1());
+        baseInfoMap.put("decimal0", String.valueOf(poolContext.getDecimal0()));
+        baseInfoMap.put("decimal1", String.valueOf(poolContext.getDecimal1()));
+        baseInfoMap.put("mode", BackTestService.MODE_FAST);
+        resultMap.put("base_info", baseInfoMap);
+
+        if (tsList != null) {
+            resultMap.put("ts_list", tsList);
+            resultMap.put("im_list", imList);
+            resultMap.put("trade_info", tradeInfo);
+        }
+
+        Map<String, Object> marketInfoMap = new HashMap<>();
+        marketInfoMap.put("open", plain(startPrice));
+        marketInfoMap.put("close", plain(endPrice));
+        marketInfoMap.put("high", plain(highPrice));
+        marketInfoMap.put("low", plain(lowPrice));
+        resultMap.put("market_info", marketInfoMap);
+
+        Map<String, Object> globalInfoMap = new HashMap<>();
+        globalInfoMap.put("commission", Lists.newArrayList(plain(t0), plain(t1)));
+        globalInfoMap.put("swapFee", Lists.newArrayList(BigDecimal.valueOf(swapFee0 * poolContext.getUnit0()), BigDecimal.valueOf(swapFee1 * poolContext.getUnit1())));
+        globalInfoMap.put("reBalanceTime", Lists.newArrayList(0, reBalanceTimes));
+        globalInfoMap.put("rate", Lists.newArrayList(plain(realRate), plain(cuRate), plain(uRate), plain(bRate)));
+        globalInfoMap.put("apr", Lists.newArrayList(plain(realAPR), plain(cuAPR), plain(uAPR), plain(bAPR)));
+        if (gasCost != null) {
+            globalInfoMap.put("gasCost", plain(gasCost));
+        }
+        if (deferredRebalance != null) {
+            globalInfoMap.put("deferredRebalance", deferredRebalance);
+        }
+        resultMap.put("global_info", globalInfoMap);
+
+        Map<String, Object> riskInfoMap = new HashMap<>();
+        riskInfoMap.put("maxDrawDown", plain(maxDrawDown));
+        riskInfoMap.put("volatility", plain(volatility));
+        riskInfoMap.put("sharpe", plain(sharpe));
+        riskInfoMap.put("winRate", winRate == null ? BigDecimal.ZERO.toPlainString() : plain(winRate));
+        resultMap.put("risk_info", riskInfoMap);
+
+        // absolute bounds against the exact engine
+        Map<String, Object> errorBoundMap = new HashMap<>();
+        errorBoundMap.put("realRate", plain(rateError));
+        errorBoundMap.put("realApr", plain(rateError * 365 / days));
+        errorBoundMap.put("cuRate", plain(cuRateError));
+        errorBoundMap.put("cuApr", plain(cuRateError * 365 / days));
+        resultMap.put("error_bound", errorBoundMap);
+        return resultMap;
+    }
+}
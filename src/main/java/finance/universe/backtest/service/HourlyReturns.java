@@ -0,0 +1,56 @@
+package finance.universe.backtest.service;
+
+/**
+ * volatility of the hourly im returns of a fast backtest, kept as running sums (welford) so reading it costs the
+ * same after any number of hours. the im of the open hour may still change, its return joins the closed ones only
+ * when a block of a later hour arrives.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class HourlyReturns {
+
+    // im of the open hour, every backtest starts at 1
+    private double open = 1;
+    // im of the hour before it, NaN during the first hour
+    private double previous = Double.NaN;
+    // closed returns: count, mean and sum of squared deviations
+    private long count;
+    private double mean, m2;
+
+    /**
+     * im after the last block, which is in the open hour
+     */
+    void set(double im) {
+        open = im;
+    }
+
+    /**
+     * the open hour is over, a block of a later hour follows
+     */
+    void close() {
+        if (!Double.isNaN(previous)) {
+            double r = open / previous - 1;
+            count++;
+            double delta = r - mean;
+            mean += delta / count;
+            m2 += delta * (r - mean);
+        }
+        previous = open;
+    }
+
+    /**
+     * annualized volatility including the return of the open hour, NaN before the second hour
+     */
+    double volatility() {
+        long n = count;
+        double m2 = this.m2;
+        if (!Double.isNaN(previous)) {
+            double r = open / previous - 1;
+            n++;
+            double delta = r - mean;
+            m2 += delta * (r - (mean + delta / n));
+        }
+        return Math.sqrt(m2 / n * 24 * 365);
+    }
+}
@@ -0,0 +1,403 @@
+package finance.universe.backtest.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.entity.SwapRecord;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.vo.IngestParams;
+import finance.universe.backtest.vo.IngestResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * bulk loads swap and hourly liquidity files (csv or ndjson) into H2.
+ * the file is read sequentially and cut into chunks that are parsed and written with batched MERGE statements
+ * on a worker pool, so re-loading a file is idempotent on (pair, block_number, log_index) / (pair, ts).
+ * loaded pools are brought up to date in memory afterwards.
+ *
+ * swap columns: ts, block_number, log_index (the on-chain log index in the block), tick, amount0, amount1, gas_price
+ * kline columns: ts, liquidity
+ * a csv without header must use this order, ndjson keys may be snake_case or camelCase.
+ * files are only read from backtest.ingest.dir, unparsable lines are reported by line number.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class IngestService {
+
+    private static final String SWAP_MERGE_SQL = "merge into swap_record (pair, ts, block_number, log_index, tick, amount0, amount1, gas_price) key (pair, block_number, log_index) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SWAP_DELETE_SQL = "delete from swap_record where pair = ? and block_number >= ? and block_number <= ?";
+    private static final String KLINE_MERGE_SQL = "merge into hour_kline (pair, ts, liquidity) key (pair, ts) values (?, ?, ?)";
+    private static final List<String> SWAP_COLUMNS = Arrays.asList("ts", "block_number", "log_index", "tick", "amount0", "amount1", "gas_price");
+    private static final List<String> KLINE_COLUMNS = Arrays.asList("ts", "liquidity");
+    // skipped line numbers logged per chunk
+    private static final int LOGGED_SKIPS = 10;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PoolRepository poolRepository;
+    @Autowired
+    SwapSeriesStore swapSeriesStore;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Value("${backtest.ingest.threads:4}")
+    private int threads;
+
+    @Value("${backtest.ingest.chunk-rows:5000}")
+    private int chunkRows;
+
+    @Value("${backtest.ingest.dir:/tmp/backtest-ingest}")
+    private String dir;
+
+    private ExecutorService executor;
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        executor = Executors.newFixedThreadPool(threads);
+        root = Paths.get(dir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public IngestResult ingestSwaps(IngestParams params) throws Exception {
+        Pool poolInfo = getPool(params);
+        IngestResult result = new IngestResult();
+        AtomicLong minBlock = new AtomicLong(Long.MAX_VALUE);
+        try {
+            ingest(params, SWAP_COLUMNS, SWAP_MERGE_SQL, result, minBlock);
+        } finally {
+            // chunks committed before a failed one are in the table, the loaded series must see them as well
+            if (minBlock.get() != Long.MAX_VALUE) {
+                swapSeriesStore.onSwapsWritten(poolInfo, minBlock.get());
+            }
+        }
+        return result;
+    }
+
+    public IngestResult ingestKlines(IngestParams params) throws Exception {
+        Pool poolInfo = getPool(params);
+        IngestResult result = new IngestResult();
+        AtomicLong written = new AtomicLong();
+        try {
+            ingest(params, KLINE_COLUMNS, KLINE_MERGE_SQL, result, written);
+        } finally {
+            if (written.get() > 0) {
+                swapSeriesStore.onKlinesWritten(poolInfo);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * replace the swaps of one pool in [fromBlock, toBlock] with already decoded ones, e.g. from the chain backfill.
+     * rows of the range are deleted first, so blocks fetched again never duplicate rows numbered differently and
+     * swaps that left the chain go away. handing ranges over in order lets the loaded series be extended instead
+     * of reloaded
+     */
+    public void replaceSwaps(Pool poolInfo, long fromBlock, long toBlock, List<SwapRecord> records) {
+        List<Object[]> args = new ArrayList<>(records.size());
+        long minBlock = Long.MAX_VALUE;
+        for (SwapRecord record : records) {
+            args.add(new Object[]{poolInfo.getPair(), record.getTs(), record.getBlockNumber(), record.getLogIndex(), record.getTick(),
+                    record.getAmount0(), record.getAmount1(), record.getGasPrice()});
+            minBlock = Math.min(minBlock, record.getBlockNumber());
+        }
+        Integer deleted = transactionTemplate.execute(status -> {
+            int n = jdbcTemplate.update(SWAP_DELETE_SQL, poolInfo.getPair(), fromBlock, toBlock);
+            if (!args.isEmpty()) {
+                jdbcTemplate.batchUpdate(SWAP_MERGE_SQL, args);
+            }
+            return n;
+        });
+        if (deleted != null && deleted > 0) {
+            minBlock = fromBlock;
+        }
+        if (minBlock != Long.MAX_VALUE) {
+            swapSeriesStore.onSwapsWritten(poolInfo, minBlock);
+        }
+    }
+
+    private Pool getPool(IngestParams params) {
+        if (!StringUtils.hasText(params.getPair()) || !StringUtils.hasText(params.getPath())) {
+            throw new IllegalArgumentException("pair and path are required");
+        }
+        return poolRepository.findById(params.getPair()).orElseThrow(() -> new IllegalArgumentException("pool miss"));
+    }
+
+    /**
+     * the file under the ingest directory, relative paths are resolved against it
+     */
+    private Path resolve(String name) throws IOException {
+        Path path = root.resolve(name).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("path must be inside the ingest directory");
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("file miss: " + root.relativize(path));
+        }
+        // a link inside the directory must not lead out of it
+        if (!path.toRealPath().startsWith(root.toRealPath())) {
+            throw new IllegalArgumentException("path must be inside the ingest directory");
+        }
+        return path;
+    }
+
+    /**
+     * a failed chunk stops the reading and the chunks still queued, the ones already running are waited for, so
+     * when this returns or throws nothing is written any more and written holds every committed chunk
+     *
+     * @param written lowest block_number of the committed chunks for swaps, rows written for klines
+     */
+    private void ingest(IngestParams params, List<String> columns, String sql, IngestResult result, AtomicLong written) throws Exception {
+        long start = System.currentTimeMillis();
+        Path path = resolve(params.getPath());
+        boolean csv = isCsv(params.getFormat(), path);
+        boolean swaps = columns.contains("block_number");
+
+        // bounded number of chunks in flight so a large file never sits in memory at once
+        Semaphore inFlight = new Semaphore(threads * 2);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<long[]>> futures = new ArrayList<>();
+        int[] order = null;
+        long rows = 0, skipped = 0;
+        Throwable failure = null;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            List<String> chunk = new ArrayList<>(chunkRows);
+            int[] lineNumbers = new int[chunkRows];
+            int lineNumber = 0;
+            String line;
+            while (!failed.get() && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (csv && order == null) {
+                    order = columnOrder(line, columns);
+                    if (isHeader(line)) {
+                        continue;
+                    }
+                }
+                lineNumbers[chunk.size()] = lineNumber;
+                chunk.add(line);
+                if (chunk.size() == chunkRows) {
+                    futures.add(submit(params.getPair(), chunk, lineNumbers, csv, order, columns, sql, inFlight, failed));
+                    chunk = new ArrayList<>(chunkRows);
+                    lineNumbers = new int[chunkRows];
+                }
+            }
+            if (!chunk.isEmpty() && !failed.get()) {
+                futures.add(submit(params.getPair(), chunk, lineNumbers, csv, order, columns, sql, inFlight, failed));
+            }
+        } finally {
+            // also when reading failed, the chunks handed out are settled before the caller looks at written
+            for (Future<long[]> future : futures) {
+                try {
+                    long[] r = future.get();
+                    rows += r[0];
+                    skipped += r[1];
+                    if (r[0] > 0) {
+                        written.accumulateAndGet(swaps ? r[2] : r[0], swaps ? Math::min : Long::sum);
+                    }
+                } catch (ExecutionException e) {
+                    failed.set(true);
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            log.warn("ingest failed, pair: {}, path: {}, rows committed: {}", params.getPair(), path, rows);
+            throw new Exception("ingest chunk failed, path: " + path, failure);
+        }
+        result.setPair(params.getPair());
+        result.setRows(rows);
+        result.setSkipped(skipped);
+        result.setConsume(System.currentTimeMillis() - start);
+        log.info("ingest end, pair: {}, path: {}, rows: {}, skipped: {}, consume: {}", params.getPair(), path, rows, skipped, result.getConsume());
+    }
+
+    private Future<long[]> submit(String pair, List<String> lines, int[] lineNumbers, boolean csv, int[] order, List<String> columns, String sql, Semaphore inFlight, AtomicBoolean failed) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            return executor.submit(() -> {
+                try {
+                    if (failed.get()) {
+                        // queued behind a failed chunk, left out
+                        return new long[]{0, 0, Long.MAX_VALUE};
+                    }
+                    return writeChunk(pair, lines, lineNumbers, csv, order, columns, sql);
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @param lineNumbers file line number of every line
+     * @return {rows written, lines skipped, lowest block_number}
+     */
+    private long[] writeChunk(String pair, List<String> lines, int[] lineNumbers, boolean csv, int[] order, List<String> columns, String sql) {
+        List<Object[]> args = new ArrayList<>(lines.size());
+        long skipped = 0;
+        long minBlock = Long.MAX_VALUE;
+        int blockColumn = columns.indexOf("block_number");
+        // the content of a line stays out of the log
+        List<String> skippedLines = new ArrayList<>();
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n);
+            try {
+                String[] values = csv ? fromCsv(line, order, columns.size()) : fromJson(line, columns);
+                Object[] row = new Object[columns.size() + 1];
+                row[0] = pair;
+                for (int i = 0; i < columns.size(); i++) {
+                    row[i + 1] = convert(columns.get(i), values[i]);
+                }
+                if (blockColumn >= 0) {
+                    minBlock = Math.min(minBlock, (Long) row[blockColumn + 1]);
+                }
+                args.add(row);
+            } catch (Exception e) {
+                skipped++;
+                if (skippedLines.size() < LOGGED_SKIPS) {
+                    skippedLines.add(lineNumbers[n] + " (" + e.getClass().getSimpleName() + ")");
+                }
+            }
+        }
+        if (skipped > 0) {
+            log.warn("ingest skip lines, pair: {}, skipped: {}, lines: {}", pair, skipped, skippedLines);
+        }
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+        return new long[]{args.size(), skipped, minBlock};
+    }
+
+    private static boolean isCsv(String format, Path path) {
+        if (StringUtils.hasText(format)) {
+            if ("csv".equalsIgnoreCase(format)) {
+                return true;
+            } else if ("ndjson".equalsIgnoreCase(format)) {
+                return false;
+            }
+            throw new IllegalArgumentException("unsupported format: " + format);
+        }
+        return path.getFileName().toString().toLowerCase().endsWith(".csv");
+    }
+
+    /**
+     * position of every expected column in a csv line, from the header when there is one
+     */
+    private static int[] columnOrder(String firstLine, List<String> columns) {
+        int[] order = new int[columns.size()];
+        if (!isHeader(firstLine)) {
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            return order;
+        }
+        List<String> header = new ArrayList<>();
+        for (String name : firstLine.trim().split(",")) {
+            header.add(toSnakeCase(name.trim()));
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            order[i] = header.indexOf(columns.get(i));
+            if (order[i] < 0) {
+                throw new IllegalArgumentException("missing column: " + columns.get(i));
+            }
+        }
+        return order;
+    }
+
+    private static boolean isHeader(String line) {
+        char c = line.trim().charAt(0);
+        return !Character.isDigit(c) && c != '-';
+    }
+
+    private static String[] fromCsv(String line, int[] order, int n) {
+        String[] fields = line.split(",");
+        String[] values = new String[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = fields[order[i]].trim();
+        }
+        return values;
+    }
+
+    private String[] fromJson(String line, List<String> columns) throws Exception {
+        JsonNode node = objectMapper.readTree(line);
+        Map<String, String> fields = new HashMap<>();
+        node.fields().forEachRemaining(it -> fields.put(toSnakeCase(it.getKey()), it.getValue().asText()));
+        String[] values = new String[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            values[i] = fields.get(columns.get(i));
+            if (values[i] == null) {
+                throw new IllegalArgumentException("missing field: " + columns.get(i));
+            }
+        }
+        return values;
+    }
+
+    private static Object convert(String column, String value) {
+        switch (column) {
+            case "ts":
+            case "block_number":
+            case "tick":
+                return Long.parseLong(value);
+            case "log_index":
+                return Integer.parseInt(value);
+            default:
+                return new BigDecimal(value);
+        }
+    }
+
+    private static String toSnakeCase(String name) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : name.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                sb.append('_').append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
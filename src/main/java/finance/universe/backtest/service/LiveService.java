@@ -0,0 +1,363 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.HourKline;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.repository.HourKlineRepository;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.series.PoolUpdatedEvent;
+import finance.universe.backtest.series.SwapSeries;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.util.BaseUtil;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.LiveInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * live strategies: fast backtests that stay resident and follow the swap series of their pool.
+ * a strategy catches up from startTs once when registered, after that every {@link PoolUpdatedEvent} only
+ * simulates the blocks appended since the last one. blocks after the latest kline wait for the next one, so a
+ * live strategy always equals a /backtest without endTs over the same data.
+ * the metrics after every update are pushed to the SSE subscribers of the strategy. every subscriber has its own
+ * bounded queue drained by a sender thread, a subscriber that falls behind by more than backtest.live.sse-queue
+ * updates is disconnected instead of holding up the others.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class LiveService {
+
+    @Autowired
+    BackTestService backTestService;
+    @Autowired
+    PoolRepository poolRepository;
+    @Autowired
+    HourKlineRepository klineRepository;
+    @Autowired
+    SwapSeriesStore swapSeriesStore;
+
+    @Value("${backtest.live.max-strategies:16}")
+    private int maxStrategies;
+
+    @Value("${backtest.live.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    @Value("${backtest.live.sse-queue:16}")
+    private int sseQueue;
+
+    private final Map<String, Strategy> strategies = new ConcurrentHashMap<>();
+    // one permit per strategy that may still be registered, taken before the catch-up run
+    private Semaphore slots;
+    // one thread, so the updates of a pool are applied in publishing order
+    private ExecutorService executor;
+    // drains the subscriber queues, a slow client only blocks its own sender
+    private ExecutorService senders;
+
+    private static class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<Map<String, Object>> pending;
+        // a sender is draining the queue
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private static class Strategy {
+        final String id;
+        final Pool poolInfo;
+        final BackTestTickParams params;
+        final long createdAt = System.currentTimeMillis();
+        final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+        // guarded by this
+        SwapSeries series;
+        FastBackTest backTest;
+        // next row to simulate and the rows known to hold complete blocks
+        int position;
+        int rows;
+        long updatedAt;
+        // latest metrics, null until a day has passed since startTs
+        volatile Map<String, Object> metrics;
+
+        Strategy(String id, Pool poolInfo, BackTestTickParams params) {
+            this.id = id;
+            this.poolInfo = poolInfo;
+            this.params = params;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        slots = new Semaphore(maxStrategies);
+        executor = Executors.newSingleThreadExecutor();
+        senders = Executors.newCachedThreadPool();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+        senders.shutdownNow();
+        for (Strategy strategy : strategies.values()) {
+            strategy.subscribers.forEach(it -> it.emitter.complete());
+        }
+    }
+
+    /**
+     * live strategies always run on the fast engine and have no endTs
+     */
+    public void validate(BackTestTickParams params) {
+        if (params.getPair() == null || params.getStartTs() == null || params.getAmount0() == null || params.getAmount1() == null) {
+            throw new IllegalArgumentException("pair, startTs, amount0 and amount1 are required");
+        }
+        if (params.getEndTs() != null) {
+            throw new IllegalArgumentException("live strategies have no endTs");
+        }
+        if (params.getMode() != null && !BackTestService.MODE_FAST.equalsIgnoreCase(params.getMode())) {
+            throw new IllegalArgumentException("live strategies run in fast mode");
+        }
+        if (CollectionUtils.isEmpty(params.getPositions()) && (params.getBoundaryThreshold() == null || params.getReBalanceThreshold() == null)) {
+            throw new IllegalArgumentException("boundaryThreshold and reBalanceThreshold are required");
+        }
+        params.setMode(BackTestService.MODE_FAST);
+    }
+
+    /**
+     * register a strategy and simulate it up to the end of the series
+     */
+    public LiveInfo register(BackTestTickParams params) throws Exception {
+        validate(params);
+        if (!slots.tryAcquire()) {
+            throw new IllegalStateException("too many live strategies, max: " + maxStrategies);
+        }
+        Strategy strategy;
+        boolean registered = false;
+        try {
+            Pool poolInfo = poolRepository.findById(params.getPair()).orElseThrow(() -> new IllegalArgumentException("pool miss"));
+            strategy = new Strategy(backTestService.nextReportName(params), poolInfo, params);
+            synchronized (strategy) {
+                restart(strategy);
+            }
+            strategies.put(strategy.id, strategy);
+            registered = true;
+        } finally {
+            if (!registered) {
+                slots.release();
+            }
+        }
+        log.info("live strategy registered, id: {}, blocks: {}", strategy.id, strategy.backTest.blocks());
+        return info(strategy);
+    }
+
+    public void remove(String id) {
+        Strategy strategy = strategies.remove(id);
+        if (strategy == null) {
+            throw new IllegalArgumentException("live strategy miss: " + id);
+        }
+        slots.release();
+        strategy.subscribers.forEach(it -> it.emitter.complete());
+    }
+
+    public List<LiveInfo> list() {
+        List<LiveInfo> result = new ArrayList<>();
+        for (Strategy strategy : strategies.values()) {
+            synchronized (strategy) {
+                result.add(info(strategy));
+            }
+        }
+        result.sort(Comparator.comparingLong(LiveInfo::getCreatedAt));
+        return result;
+    }
+
+    /**
+     * the full backtest result of a strategy so far, like /backtest returns it
+     */
+    public Map<String, Object> result(String id) throws Exception {
+        Strategy strategy = get(id);
+        synchronized (strategy) {
+            long days = days(strategy);
+            if (strategy.backTest.blocks() == 0 || days == 0) {
+                throw new IllegalStateException("less than a day simulated");
+            }
+            return withInfo(strategy, strategy.backTest.result(strategy.id, days, true));
+        }
+    }
+
+    /**
+     * an emitter that gets the current metrics at once and then every update as an "update" event
+     */
+    public SseEmitter subscribe(String id) throws Exception {
+        Strategy strategy = get(id);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, Math.max(1, sseQueue));
+        emitter.onCompletion(() -> strategy.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> strategy.subscribers.remove(subscriber));
+        emitter.onError(e -> strategy.subscribers.remove(subscriber));
+        strategy.subscribers.add(subscriber);
+        Map<String, Object> metrics = strategy.metrics;
+        if (metrics != null) {
+            offer(strategy, subscriber, metrics);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onPoolUpdated(PoolUpdatedEvent event) {
+        for (Strategy strategy : strategies.values()) {
+            if (strategy.poolInfo.getPair().equalsIgnoreCase(event.getPair())) {
+                executor.execute(() -> update(strategy, event));
+            }
+        }
+    }
+
+    private void update(Strategy strategy, PoolUpdatedEvent event) {
+        try {
+            synchronized (strategy) {
+                if (!strategies.containsKey(strategy.id)) {
+                    return;
+                }
+                long blocks = strategy.backTest.blocks();
+                if (event.isReloaded() || strategy.series != swapSeriesStore.getSeries(strategy.poolInfo)) {
+                    // simulated rows may have changed, start over on the reloaded series
+                    restart(strategy);
+                } else {
+                    if (event.getRows() < 0) {
+                        long fromHour = strategy.backTest.blocks() == 0 ? strategy.params.getStartTs() : strategy.backTest.ts();
+                        strategy.backTest.klines(klineRepository.findByPairAndTsGreaterThanEqualOrderByTs(strategy.poolInfo.getPair(),
+                                BaseUtil.alignedToHour(fromHour * 1000) / 1000));
+                    }
+                    strategy.rows = Math.max(strategy.rows, event.getRows());
+                    advance(strategy);
+                }
+                if (strategy.backTest.blocks() == blocks && !event.isReloaded()) {
+                    return;
+                }
+            }
+            publish(strategy);
+        } catch (Exception e) {
+            log.error("live strategy update error, id: {}", strategy.id, e);
+        }
+    }
+
+    private void restart(Strategy strategy) throws Exception {
+        strategy.series = swapSeriesStore.getSeries(strategy.poolInfo);
+        strategy.rows = strategy.series.size();
+        strategy.backTest = new FastBackTest(strategy.poolInfo, strategy.params, backTestService.gasGate(strategy.poolInfo, strategy.params),
+                backTestService.cheapBlocks(strategy.poolInfo, strategy.params));
+        List<HourKline> klines = klineRepository.findByPairAndTsGreaterThanEqualOrderByTs(strategy.poolInfo.getPair(),
+                BaseUtil.alignedToHour(strategy.params.getStartTs() * 1000) / 1000);
+        strategy.backTest.klines(klines);
+        strategy.position = strategy.series.lowerBoundTs(strategy.params.getStartTs());
+        strategy.metrics = null;
+        advance(strategy);
+    }
+
+    private void advance(Strategy strategy) throws Exception {
+        strategy.position = strategy.backTest.advance(strategy.series, strategy.position, strategy.rows, true);
+        strategy.updatedAt = System.currentTimeMillis();
+        long days = days(strategy);
+        if (strategy.backTest.blocks() > 0 && days > 0) {
+            strategy.metrics = withInfo(strategy, strategy.backTest.result(strategy.id, days, false));
+        }
+    }
+
+    private void publish(Strategy strategy) {
+        Map<String, Object> metrics = strategy.metrics;
+        if (metrics == null) {
+            return;
+        }
+        for (Subscriber subscriber : strategy.subscribers) {
+            offer(strategy, subscriber, metrics);
+        }
+    }
+
+    /**
+     * queue an update for a subscriber without waiting on its connection
+     */
+    private void offer(Strategy strategy, Subscriber subscriber, Map<String, Object> metrics) {
+        if (!subscriber.pending.offer(metrics)) {
+            log.warn("live subscriber dropped, id: {}, queued: {}", strategy.id, subscriber.pending.size());
+            strategy.subscribers.remove(subscriber);
+            subscriber.pending.clear();
+            // the emitter is locked while its sender is stuck in a write, complete it off the update thread
+            senders.execute(subscriber.emitter::complete);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(strategy, subscriber));
+            } catch (RejectedExecutionException e) {
+                // shutting down
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Strategy strategy, Subscriber subscriber) {
+        try {
+            do {
+                Map<String, Object> metrics;
+                while ((metrics = subscriber.pending.poll()) != null) {
+                    subscriber.emitter.send(SseEmitter.event().name("update").data(metrics));
+                }
+                subscriber.draining.set(false);
+                // an update queued after the last poll but before the flag was cleared has no sender yet
+            } while (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true));
+        } catch (Exception e) {
+            subscriber.draining.set(false);
+            strategy.subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * days from startTs to the latest kline, what /backtest uses without endTs
+     */
+    private static long days(Strategy strategy) {
+        long lastKlineTs = strategy.backTest.lastKlineTs();
+        return lastKlineTs == Long.MIN_VALUE ? 0 : (lastKlineTs - strategy.params.getStartTs()) / (3600 * 24);
+    }
+
+    private Strategy get(String id) {
+        Strategy strategy = strategies.get(id);
+        if (strategy == null) {
+            throw new IllegalArgumentException("live strategy miss: " + id);
+        }
+        return strategy;
+    }
+
+    private static Map<String, Object> withInfo(Strategy strategy, Map<String, Object> resultMap) {
+        resultMap.put("live_info", info(strategy));
+        return resultMap;
+    }
+
+    private static LiveInfo info(Strategy strategy) {
+        LiveInfo info = new LiveInfo();
+        info.setId(strategy.id);
+        info.setPair(strategy.poolInfo.getPair());
+        info.setStartTs(strategy.params.getStartTs());
+        info.setRows(strategy.position);
+        info.setBlocks(strategy.backTest.blocks());
+        info.setLastBlock(strategy.backTest.lastBlock());
+        info.setLastTs(strategy.backTest.ts());
+        info.setSubscribers(strategy.subscribers.size());
+        info.setCreatedAt(strategy.createdAt);
+        info.setUpdatedAt(strategy.updatedAt);
+        return info;
+    }
+}
@@ -0,0 +1,76 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.series.CandleSeries;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.util.PoolContext;
+import finance.universe.backtest.vo.Candle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * candles served from the in-memory rollups of a pool
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Service
+public class MarketService {
+
+    private static final int MAX_LIMIT = 10000;
+
+    @Autowired
+    PoolRepository poolRepository;
+    @Autowired
+    SwapSeriesStore swapSeriesStore;
+
+    /**
+     * candles with ts in [startTs, endTs], oldest first
+     */
+    public List<Candle> candles(String pair, String resolution, Long startTs, Long endTs, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be in [1, " + MAX_LIMIT + "]");
+        }
+        Pool poolInfo = poolRepository.findById(pair).orElseThrow(() -> new IllegalArgumentException("pool miss"));
+        long fromTs = startTs == null ? Long.MIN_VALUE : startTs;
+        long toTs = endTs == null ? Long.MAX_VALUE : endTs;
+        List<Candle> result = new ArrayList<>();
+        // a run per month of a segmented series, later months are not loaded once the limit is reached
+        for (CandleSeries candles : swapSeriesStore.getRollups(poolInfo).get(resolution, fromTs, toTs)) {
+            if (result.size() == limit) {
+                break;
+            }
+            int from = startTs == null ? 0 : candles.lowerBound(candles.bucketOf(startTs));
+            int to = endTs == null ? candles.size() : candles.lowerBound(endTs + 1);
+            for (int i = from; i < to && result.size() < limit; i++) {
+                result.add(toCandle(PoolContext.of(poolInfo), candles, i));
+            }
+        }
+        return result;
+    }
+
+    private static Candle toCandle(PoolContext poolContext, CandleSeries candles, int i) {
+        Candle candle = new Candle();
+        candle.setTs(candles.ts(i));
+        candle.setOpen(poolContext.price(candles.open(i)));
+        candle.setClose(poolContext.price(candles.close(i)));
+        // a reversed pool quotes the inverse price, the highest tick is its low
+        if (poolContext.isReverse()) {
+            candle.setHigh(poolContext.price(candles.low(i)));
+            candle.setLow(poolContext.price(candles.high(i)));
+        } else {
+            candle.setHigh(poolContext.price(candles.high(i)));
+            candle.setLow(poolContext.price(candles.low(i)));
+        }
+        candle.setVolume0(BigDecimal.valueOf(candles.volume0(i)));
+        candle.setVolume1(BigDecimal.valueOf(candles.volume1(i)));
+        candle.setCount(candles.count(i));
+        candle.setMedianGas(candles.medianGas(i));
+        return candle;
+    }
+}
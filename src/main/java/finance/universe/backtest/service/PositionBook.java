@@ -0,0 +1,208 @@
+package finance.universe.backtest.service;
+
+/**
+ * the liquidity positions of one fast backtest as parallel primitive arrays, index i is position i.
+ * fee accrual and valuation walk every position in one tight loop per block, so a ladder of ranges costs
+ * a few multiplications per position and block on top of the single pass over the swap series.
+ * token amounts are in their smallest unit, like in FastBackTest.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+final class PositionBook {
+
+    // unit roundoff of a double
+    private static final double U = Math.ulp(1.0) / 2;
+
+    final int size;
+    private final double fee;
+
+    // range
+    final long[] middleTick;
+    final long[] lowerTick;
+    final long[] upperTick;
+    final double[] sqrtLower;
+    final double[] sqrtUpper;
+    // staked liquidity and the amounts it took at the last add
+    final double[] liquidity;
+    final double[] amount0;
+    final double[] amount1;
+    // left over after the add, not staked
+    final double[] change0;
+    final double[] change1;
+    // fees earned since the last add
+    final double[] fee0;
+    final double[] fee1;
+
+    // over all positions
+    double swapFee0;
+    double swapFee1;
+    double totalCommission0;
+    double totalCommission1;
+    // bound on the error of the book value against the exact engine, in token1 units
+    double valueError;
+
+    // output of amountsForLiquidity / value
+    double out0;
+    double out1;
+
+    PositionBook(int size, double fee) {
+        this.size = size;
+        this.fee = fee;
+        middleTick = new long[size];
+        lowerTick = new long[size];
+        upperTick = new long[size];
+        sqrtLower = new double[size];
+        sqrtUpper = new double[size];
+        liquidity = new double[size];
+        amount0 = new double[size];
+        amount1 = new double[size];
+        change0 = new double[size];
+        change1 = new double[size];
+        fee0 = new double[size];
+        fee1 = new double[size];
+    }
+
+    void setRange(int i, long middle, long lower, long upper) {
+        middleTick[i] = middle;
+        lowerTick[i] = lower;
+        upperTick[i] = upper;
+        sqrtLower[i] = sqrtAt(lower);
+        sqrtUpper[i] = sqrtAt(upper);
+    }
+
+    /**
+     * the pool fee share of every in-range position for one block
+     * @param volume0 positive token0 amounts swapped in the block
+     */
+    void accrue(long tick, double volume0, double volume1, double totalLiquidity, double tickPrice) {
+        double v0 = volume0 * fee;
+        double v1 = volume1 * fee;
+        for (int i = 0; i < size; i++) {
+            if (tick >= lowerTick[i] && tick <= upperTick[i]) {
+                double ratio = liquidity[i] / totalLiquidity;
+                double t0 = Math.floor(v0 * ratio);
+                double t1 = Math.floor(v1 * ratio);
+                fee0[i] += t0;
+                fee1[i] += t1;
+                // one unit per truncation, a few roundoffs per product and sum
+                valueError += (1 + 8 * U * t0) * tickPrice + 1 + 8 * U * t1;
+            }
+        }
+    }
+
+    /**
+     * staked amounts, change and fees of all positions at the given price into out0 / out1
+     */
+    void value(double sqrtPrice) {
+        double sum0 = 0, sum1 = 0;
+        for (int i = 0; i < size; i++) {
+            double l = liquidity[i], lower = sqrtLower[i], upper = sqrtUpper[i];
+            double a0, a1;
+            if (sqrtPrice <= lower) {
+                a0 = Math.floor(l * (upper - lower) / upper / lower);
+                a1 = 0;
+            } else if (sqrtPrice <= upper) {
+                a0 = Math.floor(l * (upper - sqrtPrice) / upper / sqrtPrice);
+                a1 = Math.floor(l * (sqrtPrice - lower));
+            } else {
+                a0 = 0;
+                a1 = Math.floor(l * (upper - lower));
+            }
+            sum0 += a0 + change0[i] + fee0[i];
+            sum1 += a1 + change1[i] + fee1[i];
+        }
+        out0 = sum0;
+        out1 = sum1;
+    }
+
+    /**
+     * amounts staked by position i at the given price into out0 / out1
+     */
+    void amounts(int i, double sqrtPrice) {
+        amountsForLiquidity(sqrtPrice, sqrtLower[i], sqrtUpper[i], liquidity[i]);
+    }
+
+    /**
+     * move the fees of position i to the collected totals
+     */
+    void collect(int i) {
+        totalCommission0 += fee0[i];
+        totalCommission1 += fee1[i];
+        fee0[i] = 0;
+        fee1[i] = 0;
+    }
+
+    /**
+     * BackTestService.addLiquidity for position i: swap the surplus token into the range ratio, then stake
+     */
+    void addLiquidity(int i, double sqrtPrice, double tickPrice, double total0, double total1) {
+        double lower = sqrtLower[i], upper = sqrtUpper[i];
+        amountsForLiquidity(sqrtPrice, lower, upper, 1e18);
+        double r0 = out0, r1 = out1;
+        double amt = 0;
+        int tokenId = 0;
+        if (total0 * r1 > total1 * r0) {
+            amt = (total0 * r1 - total1 * r0) / (tickPrice * r0 * (1 - fee) + r1);
+        } else if (total1 * r0 > total0 * r1) {
+            amt = (total1 * r0 - total0 * r1) / (r1 * (1 - fee) / tickPrice + r0);
+            tokenId = 1;
+        }
+        amt = Math.floor(amt);
+        double swapFee = Math.floor(amt * fee);
+        if (tokenId == 0) {
+            total0 -= amt;
+            total1 += (amt - swapFee) * tickPrice;
+            swapFee0 += swapFee;
+        } else {
+            if (tickPrice == 0) {
+                throw new ArithmeticException("BigInteger divide by zero");
+            }
+            total1 -= amt;
+            total0 += Math.floor((amt - swapFee) / tickPrice);
+            swapFee1 += swapFee;
+        }
+
+        double l;
+        if (sqrtPrice <= lower) {
+            l = liquidityForAmount0(lower, upper, total0);
+        } else if (sqrtPrice < upper) {
+            l = Math.min(liquidityForAmount0(sqrtPrice, upper, total0), liquidityForAmount1(lower, sqrtPrice, total1));
+        } else {
+            l = liquidityForAmount1(lower, upper, total1);
+        }
+        liquidity[i] = l;
+        amountsForLiquidity(sqrtPrice, lower, upper, l);
+        amount0[i] = out0;
+        amount1[i] = out1;
+        change0[i] = total0 - out0;
+        change1[i] = total1 - out1;
+        // the swap, staking and the unit truncations of every step
+        valueError += 32 * U * (total1 + total0 * tickPrice) + 8 * (tickPrice + 1);
+    }
+
+    private void amountsForLiquidity(double sqrtPrice, double sqrtLower, double sqrtUpper, double l) {
+        if (sqrtPrice <= sqrtLower) {
+            out0 = Math.floor(l * (sqrtUpper - sqrtLower) / sqrtUpper / sqrtLower);
+            out1 = 0;
+        } else if (sqrtPrice <= sqrtUpper) {
+            out0 = Math.floor(l * (sqrtUpper - sqrtPrice) / sqrtUpper / sqrtPrice);
+            out1 = Math.floor(l * (sqrtPrice - sqrtLower));
+        } else {
+            out0 = 0;
+            out1 = Math.floor(l * (sqrtUpper - sqrtLower));
+        }
+    }
+
+    private static double liquidityForAmount0(double sqrtLower, double sqrtUpper, double amount) {
+        return Math.floor(amount * (sqrtLower * sqrtUpper) / (sqrtUpper - sqrtLower));
+    }
+
+    private static double liquidityForAmount1(double sqrtLower, double sqrtUpper, double amount) {
+        return Math.floor(amount / (sqrtUpper - sqrtLower));
+    }
+
+    private static double sqrtAt(long tick) {
+        return Math.sqrt(Math.pow(1.0001, tick));
+    }
+}
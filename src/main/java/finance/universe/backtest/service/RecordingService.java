@@ -0,0 +1,130 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.vo.RecordingInfo;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * one flight recording at a time, bounded in duration and size. the backtest events of
+ * finance.universe.backtest.jfr are recorded next to the JVM events of the chosen settings.
+ * stopping or downloading dumps the recording to backtest.jfr.dir.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class RecordingService {
+
+    @Value("${backtest.jfr.dir:}")
+    private String dir;
+
+    @Value("${backtest.jfr.max-duration-s:600}")
+    private long maxDurationSeconds;
+
+    @Value("${backtest.jfr.max-size-mb:256}")
+    private long maxSizeMb;
+
+    private Recording recording;
+    private String settings;
+    private Path file;
+
+    public synchronized RecordingInfo start(Long durationSeconds, Long sizeMb, String settingsName) throws Exception {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("recording already running");
+        }
+        closeRecording();
+        long duration = durationSeconds == null ? 60 : durationSeconds;
+        long size = sizeMb == null ? 64 : sizeMb;
+        if (duration <= 0 || duration > maxDurationSeconds || size <= 0 || size > maxSizeMb) {
+            throw new IllegalArgumentException("duration must be in (0, " + maxDurationSeconds + "] s, size in (0, " + maxSizeMb + "] MB");
+        }
+        settings = StringUtils.hasText(settingsName) ? settingsName : "default";
+        if (!"default".equals(settings) && !"profile".equals(settings)) {
+            throw new IllegalArgumentException("settings must be default or profile");
+        }
+        Recording r = new Recording(Configuration.getConfiguration(settings));
+        r.setName("backtest");
+        r.setToDisk(true);
+        r.setDuration(Duration.ofSeconds(duration));
+        r.setMaxSize(size * 1024 * 1024);
+        r.start();
+        recording = r;
+        file = null;
+        log.info("jfr recording started, settings: {}, duration: {}s, maxSize: {}MB", settings, duration, size);
+        return info();
+    }
+
+    public synchronized RecordingInfo stop() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("no recording");
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        dump();
+        log.info("jfr recording stopped, file: {}, bytes: {}", file, Files.size(file));
+        return info();
+    }
+
+    /**
+     * the stopped recording, or a snapshot of the running one
+     */
+    public synchronized Path download() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("no recording");
+        }
+        if (recording.getState() == RecordingState.RUNNING || file == null) {
+            dump();
+        }
+        return file;
+    }
+
+    public synchronized RecordingInfo info() throws IOException {
+        RecordingInfo info = new RecordingInfo();
+        if (recording == null) {
+            info.setState("NONE");
+            return info;
+        }
+        info.setName(recording.getName());
+        info.setState(recording.getState().name());
+        info.setSettings(settings);
+        info.setStartTime(recording.getStartTime() == null ? null : recording.getStartTime().toEpochMilli());
+        info.setDurationSeconds(recording.getDuration() == null ? 0 : recording.getDuration().getSeconds());
+        info.setMaxSizeMb(recording.getMaxSize() / 1024 / 1024);
+        info.setFileBytes(file == null ? null : Files.size(file));
+        return info;
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        closeRecording();
+    }
+
+    private void dump() throws IOException {
+        Path target = StringUtils.hasText(dir) ? Paths.get(dir) : Paths.get(System.getProperty("java.io.tmpdir"), "backtest-jfr");
+        Files.createDirectories(target);
+        Path next = target.resolve("backtest-" + recording.getId() + ".jfr");
+        recording.dump(next);
+        file = next;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
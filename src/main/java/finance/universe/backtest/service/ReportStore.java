@@ -0,0 +1,278 @@
+package finance.universe.backtest.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import finance.universe.backtest.series.PoolUpdatedEvent;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.JsonResult;
+import finance.universe.backtest.vo.ReportInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * backtest results on disk, one gzip file per report holding the /backtest response body.
+ * the file name carries report_name and the params hash, so the in-memory index is rebuilt from a directory
+ * listing on startup. the oldest reports are deleted once the directory grows past backtest.reports.max-size-mb.
+ * files are written in the background. a repeated /backtest is answered from the newest report with the same params
+ * hash, as long as it was written by this process after the last update of the pool.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class ReportStore {
+
+    private static final String SUFFIX = ".json.gz";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${backtest.reports.enabled:true}")
+    private boolean enabled;
+
+    @Value("${backtest.reports.dir:}")
+    private String dir;
+
+    @Value("${backtest.reports.max-size-mb:1024}")
+    private long maxSizeMb;
+
+    @Value("${backtest.reports.reuse:true}")
+    private boolean reuse;
+
+    @Value("${backtest.reports.save-queue:64}")
+    private int saveQueue;
+
+    private Path root;
+    // oldest first, guarded by this
+    private final LinkedHashMap<String, ReportInfo> index = new LinkedHashMap<>();
+    // newest report per params hash, guarded by this
+    private final Map<String, ReportInfo> byHash = new HashMap<>();
+    private long totalBytes;
+    private ThreadPoolExecutor saveExecutor;
+    // the data of older reports may be gone, h2 is seeded from data.sql on every start
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, Long> poolUpdatedAt = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        saveExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(saveQueue));
+        root = StringUtils.hasText(dir) ? Paths.get(dir) : Paths.get(System.getProperty("java.io.tmpdir"), "backtest-reports");
+        Files.createDirectories(root);
+        List<ReportInfo> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                ReportInfo info = parse(file);
+                if (info != null) {
+                    found.add(info);
+                }
+            }
+        }
+        found.sort(Comparator.comparingLong(ReportInfo::getCreatedAt));
+        synchronized (this) {
+            for (ReportInfo info : found) {
+                index.put(info.getName(), info);
+                byHash.put(info.getParamsHash(), info);
+                totalBytes += info.getBytes();
+            }
+            retain();
+        }
+        log.info("report store init, dir: {}, reports: {}, bytes: {}", root, index.size(), totalBytes);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (saveExecutor != null) {
+            saveExecutor.shutdown();
+        }
+    }
+
+    /**
+     * store a result under its report_name in the background, failures are logged and otherwise ignored
+     * @param ranAt start of the run, the report is only reused while the pool has not changed since
+     */
+    public void save(BackTestTickParams params, Map<String, Object> resultMap, long ranAt) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            saveExecutor.execute(() -> write(params, resultMap, ranAt));
+        } catch (RejectedExecutionException e) {
+            log.warn("report store queue full, dropped: {}", resultMap.get("report_name"));
+        }
+    }
+
+    /**
+     * the data of the newest report with the params hash, null when there is none or the pool changed since
+     */
+    public Map<String, Object> find(BackTestTickParams params) {
+        if (!enabled || !reuse) {
+            return null;
+        }
+        try {
+            ReportInfo info;
+            synchronized (this) {
+                info = byHash.get(paramsHash(params));
+            }
+            if (info == null || info.getCreatedAt() < startedAt || info.getCreatedAt() <= poolUpdatedAt.getOrDefault(params.getPair().toLowerCase(), 0L)) {
+                return null;
+            }
+            Map<String, Object> body;
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(Paths.get(info.getFile())), 1 << 16)) {
+                // plain decimals are kept as written
+                body = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).forType(MAP_TYPE).readValue(in);
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> resultMap = (Map<String, Object>) body.get("data");
+            return resultMap;
+        } catch (NoSuchFileException e) {
+            // deleted by retention in between
+            return null;
+        } catch (Exception e) {
+            log.warn("report store read failed, pair: {}", params.getPair(), e);
+            return null;
+        }
+    }
+
+    @EventListener
+    public void onPoolUpdated(PoolUpdatedEvent event) {
+        poolUpdatedAt.put(event.getPair().toLowerCase(), System.currentTimeMillis());
+    }
+
+    private void write(BackTestTickParams params, Map<String, Object> resultMap, long ranAt) {
+        String name = (String) resultMap.get("report_name");
+        try {
+            String hash = paramsHash(params);
+            Path file = root.resolve(name + "." + hash + SUFFIX);
+            Path tmp = root.resolve(name + ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp), 1 << 16)) {
+                objectMapper.writeValue(out, JsonResult.success(resultMap));
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            ReportInfo info = new ReportInfo();
+            info.setName(name);
+            info.setPair(params.getPair());
+            info.setParamsHash(hash);
+            info.setCreatedAt(ranAt);
+            info.setBytes(Files.size(file));
+            info.setFile(file.toString());
+            synchronized (this) {
+                ReportInfo old = index.put(name, info);
+                byHash.put(hash, info);
+                totalBytes += info.getBytes() - (old == null ? 0 : old.getBytes());
+                retain();
+            }
+        } catch (Exception e) {
+            log.warn("report store save failed, name: {}", name, e);
+        }
+    }
+
+    /**
+     * @return the gzip file of the report, null when unknown or already deleted
+     */
+    public synchronized Path get(String name) {
+        ReportInfo info = index.get(name);
+        return info == null ? null : Paths.get(info.getFile());
+    }
+
+    /**
+     * newest first
+     */
+    public synchronized List<ReportInfo> list(String pair, String paramsHash, int limit) {
+        List<ReportInfo> result = new ArrayList<>();
+        List<ReportInfo> all = new ArrayList<>(index.values());
+        for (int i = all.size() - 1; i >= 0 && result.size() < limit; i--) {
+            ReportInfo info = all.get(i);
+            if ((pair == null || pair.equalsIgnoreCase(info.getPair())) && (paramsHash == null || paramsHash.equals(info.getParamsHash()))) {
+                result.add(info);
+            }
+        }
+        return result;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * first 16 hex digits of the sha-256 of the params json, the same for repeated requests.
+     * mode is hashed as the engine that runs, so an empty mode and "exact" share reports
+     */
+    public String paramsHash(BackTestTickParams params) throws Exception {
+        ObjectNode json = objectMapper.valueToTree(params);
+        json.put("mode", BackTestService.modeOf(params));
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(json));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            sb.append(String.format("%02x", digest[i]));
+        }
+        return sb.toString();
+    }
+
+    private void retain() {
+        long limit = maxSizeMb * 1024 * 1024;
+        Iterator<ReportInfo> it = index.values().iterator();
+        // the newest report always stays
+        while (totalBytes > limit && index.size() > 1 && it.hasNext()) {
+            ReportInfo info = it.next();
+            try {
+                Files.deleteIfExists(Paths.get(info.getFile()));
+            } catch (IOException e) {
+                log.warn("report store delete failed, file: {}", info.getFile(), e);
+            }
+            it.remove();
+            byHash.remove(info.getParamsHash(), info);
+            totalBytes -= info.getBytes();
+        }
+    }
+
+    private static ReportInfo parse(Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        if (!fileName.endsWith(SUFFIX)) {
+            return null;
+        }
+        String stem = fileName.substring(0, fileName.length() - SUFFIX.length());
+        int dot = stem.lastIndexOf('.');
+        int underscore = stem.indexOf('_');
+        if (dot < 0 || underscore < 0 || underscore > dot) {
+            return null;
+        }
+        ReportInfo info = new ReportInfo();
+        info.setName(stem.substring(0, dot));
+        info.setPair(stem.substring(0, underscore));
+        info.setParamsHash(stem.substring(dot + 1));
+        info.setCreatedAt(Files.getLastModifiedTime(file).toMillis());
+        info.setBytes(Files.size(file));
+        info.setFile(file.toString());
+        return info;
+    }
+}
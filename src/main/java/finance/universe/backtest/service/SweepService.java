@@ -0,0 +1,348 @@
+package finance.universe.backtest.service;
+
+import com.google.common.collect.Lists;
+import finance.universe.backtest.series.GasIndex;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.JsonResult;
+import finance.universe.backtest.vo.SweepParams;
+import finance.universe.backtest.vo.SweepResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * parameter sweeps. a sweep is cut into shards that run on this instance or, when backtest.sweep.workers
+ * is set, are posted to other instances of this application (/sweep/shard). failed or timed out shards are
+ * retried on the next worker, results are merged and ranked by real APR.
+ * by default the grid is screened with the fast engine and only the best candidates are re-run exactly.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class SweepService {
+
+    private static final ParameterizedTypeReference<JsonResult<List<SweepResult>>> SHARD_RESULT_TYPE = new ParameterizedTypeReference<JsonResult<List<SweepResult>>>() {
+    };
+
+    @Autowired
+    BackTestService backTestService;
+    @Autowired
+    RestTemplateBuilder restTemplateBuilder;
+    @Autowired
+    AdmissionService admissionService;
+
+    @Value("${backtest.sweep.workers:}")
+    private List<String> workers;
+
+    @Value("${backtest.sweep.threads:0}")
+    private int threads;
+
+    @Value("${backtest.sweep.shard-size:16}")
+    private int shardSize;
+
+    @Value("${backtest.sweep.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${backtest.sweep.shard-timeout-ms:120000}")
+    private int shardTimeoutMs;
+
+    @Value("${backtest.sweep.batch:true}")
+    private boolean batch;
+
+    private ExecutorService localExecutor;
+    private ExecutorService dispatchExecutor;
+    private RestTemplate restTemplate;
+
+    @PostConstruct
+    public void init() {
+        int n = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        threads = n;
+        localExecutor = Executors.newFixedThreadPool(n);
+        dispatchExecutor = Executors.newCachedThreadPool();
+        // a worker that does not answer within the shard timeout counts as failed and the shard moves on
+        restTemplate = restTemplateBuilder.setConnectTimeout(Duration.ofSeconds(2)).setReadTimeout(Duration.ofMillis(shardTimeoutMs)).build();
+        List<String> configured = new ArrayList<>();
+        for (String worker : workers) {
+            if (worker != null && !worker.trim().isEmpty()) {
+                configured.add(worker.trim());
+            }
+        }
+        workers = configured;
+        log.info("sweep init, threads: {}, workers: {}", n, workers);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        localExecutor.shutdownNow();
+        dispatchExecutor.shutdownNow();
+    }
+
+    /**
+     * admission cost of a sweep: the points that run at once on the local threads, the screening or the exact
+     * verification whichever holds more. a sweep spread over workers only collects their results
+     */
+    public long estimateCost(SweepParams sweepParams) {
+        if (!CollectionUtils.isEmpty(workers) || CollectionUtils.isEmpty(sweepParams.getBoundaryThresholds())
+                || CollectionUtils.isEmpty(sweepParams.getReBalanceThresholds())) {
+            return admissionService.estimateCost(new BackTestTickParams());
+        }
+        String mode = BackTestService.MODE_EXACT.equalsIgnoreCase(sweepParams.getMode()) ? BackTestService.MODE_EXACT : BackTestService.MODE_FAST;
+        int points = sweepParams.getBoundaryThresholds().size() * sweepParams.getReBalanceThresholds().size();
+        Long boundary = sweepParams.getBoundaryThresholds().get(0), reBalance = sweepParams.getReBalanceThresholds().get(0);
+        long cost = Math.min(points, threads) * admissionService.estimateCost(toParams(sweepParams, boundary, reBalance, mode));
+        if (BackTestService.MODE_FAST.equals(mode)) {
+            int k = sweepParams.getVerifyTop() != null ? sweepParams.getVerifyTop() : sweepParams.getTop() != null ? sweepParams.getTop() : 10;
+            int verified = Math.min(Math.max(k, 0), Math.min(points, threads));
+            cost = Math.max(cost, verified * admissionService.estimateCost(toParams(sweepParams, boundary, reBalance, BackTestService.MODE_EXACT)));
+        }
+        return cost;
+    }
+
+    /**
+     * admission cost of a shard on this worker, its first points up to the number of local threads
+     */
+    public long estimateCost(List<BackTestTickParams> shard) {
+        long cost = 0;
+        for (BackTestTickParams params : shard.subList(0, Math.min(shard.size(), threads))) {
+            cost += admissionService.estimateCost(params);
+        }
+        return cost;
+    }
+
+    public List<SweepResult> sweep(SweepParams sweepParams) throws Exception {
+        long start = System.currentTimeMillis();
+        String mode = sweepParams.getMode() == null ? BackTestService.MODE_FAST : sweepParams.getMode().toLowerCase();
+        if (!BackTestService.MODE_FAST.equals(mode) && !BackTestService.MODE_EXACT.equals(mode)) {
+            throw new IllegalArgumentException("unsupported mode: " + sweepParams.getMode());
+        }
+        GasIndex.checkPercentile(sweepParams.getGasPercentile());
+        List<BackTestTickParams> grid = expand(sweepParams, mode);
+        List<SweepResult> results = runGrid(grid);
+        results.sort(RANKING);
+
+        int verified = 0;
+        if (BackTestService.MODE_FAST.equals(mode)) {
+            // screening only orders the grid, the leaders are reported with exact metrics
+            int k = sweepParams.getVerifyTop() != null ? sweepParams.getVerifyTop() : sweepParams.getTop() != null ? sweepParams.getTop() : 10;
+            verified = Math.min(Math.max(k, 0), results.size());
+            List<BackTestTickParams> candidates = new ArrayList<>();
+            for (SweepResult result : results.subList(0, verified)) {
+                candidates.add(toParams(sweepParams, result.getBoundaryThreshold(), result.getReBalanceThreshold(), BackTestService.MODE_EXACT));
+            }
+            List<SweepResult> exact = runGrid(candidates);
+            exact.sort(RANKING);
+            exact.addAll(results.subList(verified, results.size()));
+            results = exact;
+        }
+        log.info("sweep end, pair: {}, mode: {}, runs: {}, verified: {}, consume: {}", sweepParams.getPair(), mode, grid.size(), verified, System.currentTimeMillis() - start);
+        if (sweepParams.getTop() != null && sweepParams.getTop() < results.size()) {
+            return new ArrayList<>(results.subList(0, sweepParams.getTop()));
+        }
+        return results;
+    }
+
+    private List<SweepResult> runGrid(List<BackTestTickParams> grid) throws Exception {
+        List<List<BackTestTickParams>> shards = Lists.partition(grid, shardSize);
+        List<Future<List<SweepResult>>> futures = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            List<BackTestTickParams> shard = shards.get(i);
+            int shardId = i;
+            futures.add(dispatchExecutor.submit(() -> runShardWithRetry(shardId, shard)));
+        }
+        List<SweepResult> results = new ArrayList<>();
+        for (Future<List<SweepResult>> future : futures) {
+            try {
+                results.addAll(future.get());
+            } catch (ExecutionException e) {
+                futures.forEach(it -> it.cancel(true));
+                throw new Exception("sweep shard failed", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * run a shard on this instance, one backtest per thread of the local pool. with backtest.sweep.batch the fast
+     * points of the same pair, window and amounts are one batched pass over the series instead
+     */
+    public List<SweepResult> runShard(List<BackTestTickParams> shard) throws InterruptedException {
+        List<Future<List<SweepResult>>> futures = new ArrayList<>();
+        Map<List<Object>, List<BackTestTickParams>> batches = new LinkedHashMap<>();
+        for (BackTestTickParams params : shard) {
+            if (batch && isBatchable(params)) {
+                batches.computeIfAbsent(batchKey(params), it -> new ArrayList<>()).add(params);
+            } else {
+                futures.add(localExecutor.submit(() -> Collections.singletonList(runOne(params))));
+            }
+        }
+        for (List<BackTestTickParams> points : batches.values()) {
+            if (points.size() == 1) {
+                futures.add(localExecutor.submit(() -> Collections.singletonList(runOne(points.get(0)))));
+            } else {
+                futures.add(localExecutor.submit(() -> runBatch(points)));
+            }
+        }
+        List<SweepResult> results = new ArrayList<>();
+        for (Future<List<SweepResult>> future : futures) {
+            try {
+                results.addAll(future.get());
+            } catch (ExecutionException e) {
+                // runOne reports its own failures, this is unexpected
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private List<SweepResult> runShardWithRetry(int shardId, List<BackTestTickParams> shard) throws Exception {
+        if (CollectionUtils.isEmpty(workers)) {
+            return runShard(shard);
+        }
+        Exception last = null;
+        for (int attempt = 0; attempt < Math.max(1, maxAttempts); attempt++) {
+            String worker = workers.get((shardId + attempt) % workers.size());
+            long start = System.currentTimeMillis();
+            try {
+                JsonResult<List<SweepResult>> result = restTemplate.exchange(worker + "/sweep/shard", HttpMethod.POST, new HttpEntity<>(shard), SHARD_RESULT_TYPE).getBody();
+                if (result == null || !result.isSuccess()) {
+                    throw new IllegalStateException("worker error: " + (result == null ? null : result.getMsg()));
+                }
+                log.info("sweep shard {} done, worker: {}, attempt: {}, consume: {}", shardId, worker, attempt, System.currentTimeMillis() - start);
+                return result.getData();
+            } catch (Exception e) {
+                log.warn("sweep shard {} failed, worker: {}, attempt: {}, consume: {}, error: {}", shardId, worker, attempt, System.currentTimeMillis() - start, e.toString());
+                last = e;
+            }
+        }
+        throw last;
+    }
+
+    private List<SweepResult> runBatch(List<BackTestTickParams> points) {
+        List<SweepResult> results = new ArrayList<>();
+        List<Map<String, Object>> resultMaps;
+        try {
+            resultMaps = backTestService.runBatch(points);
+        } catch (Exception e) {
+            log.warn("sweep batch failed, runs: {}", points.size(), e);
+            for (BackTestTickParams params : points) {
+                SweepResult result = newResult(params);
+                result.setError(e.getMessage() == null ? e.toString() : e.getMessage());
+                results.add(result);
+            }
+            return results;
+        }
+        for (int i = 0; i < points.size(); i++) {
+            BackTestTickParams params = points.get(i);
+            SweepResult result = newResult(params);
+            try {
+                fill(result, resultMaps.get(i));
+            } catch (Exception e) {
+                log.warn("sweep run failed, boundary: {}, reBalance: {}", params.getBoundaryThreshold(), params.getReBalanceThreshold(), e);
+                result.setError(e.getMessage() == null ? e.toString() : e.getMessage());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private SweepResult runOne(BackTestTickParams params) {
+        SweepResult result = newResult(params);
+        try {
+            fill(result, backTestService.runBackTest(params));
+        } catch (Exception e) {
+            log.warn("sweep run failed, boundary: {}, reBalance: {}", params.getBoundaryThreshold(), params.getReBalanceThreshold(), e);
+            result.setError(e.getMessage() == null ? e.toString() : e.getMessage());
+        }
+        return result;
+    }
+
+    private static SweepResult newResult(BackTestTickParams params) {
+        SweepResult result = new SweepResult();
+        result.setBoundaryThreshold(params.getBoundaryThreshold());
+        result.setReBalanceThreshold(params.getReBalanceThreshold());
+        result.setMode(params.getMode() == null ? BackTestService.MODE_EXACT : params.getMode());
+        return result;
+    }
+
+    /**
+     * fast single-position points without forced rebalances, the only kind BatchBackTest runs
+     */
+    static boolean isBatchable(BackTestTickParams params) {
+        return BackTestService.MODE_FAST.equalsIgnoreCase(params.getMode()) && CollectionUtils.isEmpty(params.getPositions())
+                && CollectionUtils.isEmpty(params.getRebalance()) && params.getPair() != null && params.getStartTs() != null
+                && params.getAmount0() != null && params.getAmount1() != null
+                && params.getBoundaryThreshold() != null && params.getBoundaryThreshold() > 0 && params.getReBalanceThreshold() != null
+                && !Boolean.TRUE.equals(params.getGasCost()) && !Boolean.TRUE.equals(params.getDeferRebalance());
+    }
+
+    private static List<Object> batchKey(BackTestTickParams params) {
+        return Arrays.asList(params.getPair(), params.getStartTs(), params.getEndTs(), params.getAmount0(), params.getAmount1());
+    }
+
+    @SuppressWarnings("unchecked")
+    static void fill(SweepResult result, Map<String, Object> resultMap) {
+        Map<String, Object> globalInfo = (Map<String, Object>) resultMap.get("global_info");
+        Map<String, Object> riskInfo = (Map<String, Object>) resultMap.get("risk_info");
+        List<String> apr = (List<String>) globalInfo.get("apr");
+        List<Integer> reBalanceTime = (List<Integer>) globalInfo.get("reBalanceTime");
+        result.setReportName((String) resultMap.get("report_name"));
+        result.setRealApr(new BigDecimal(apr.get(0)));
+        result.setCuApr(new BigDecimal(apr.get(1)));
+        result.setQuoteApr(new BigDecimal(apr.get(2)));
+        result.setBaseApr(new BigDecimal(apr.get(3)));
+        result.setMaxDrawDown(new BigDecimal((String) riskInfo.get("maxDrawDown")));
+        result.setVolatility(new BigDecimal((String) riskInfo.get("volatility")));
+        result.setSharpe(new BigDecimal((String) riskInfo.get("sharpe")));
+        result.setReBalanceTimes(reBalanceTime.get(0) + reBalanceTime.get(1));
+        Map<String, Object> errorBound = (Map<String, Object>) resultMap.get("error_bound");
+        if (errorBound != null) {
+            result.setRealAprErrorBound(new BigDecimal((String) errorBound.get("realApr")));
+        }
+    }
+
+    static List<BackTestTickParams> expand(SweepParams sweepParams, String mode) {
+        if (CollectionUtils.isEmpty(sweepParams.getBoundaryThresholds()) || CollectionUtils.isEmpty(sweepParams.getReBalanceThresholds())) {
+            throw new IllegalArgumentException("empty sweep grid");
+        }
+        List<BackTestTickParams> grid = new ArrayList<>();
+        for (Long boundary : sweepParams.getBoundaryThresholds()) {
+            for (Long reBalance : sweepParams.getReBalanceThresholds()) {
+                grid.add(toParams(sweepParams, boundary, reBalance, mode));
+            }
+        }
+        return grid;
+    }
+
+    static BackTestTickParams toParams(SweepParams sweepParams, Long boundary, Long reBalance, String mode) {
+        BackTestTickParams params = new BackTestTickParams();
+        params.setPair(sweepParams.getPair());
+        params.setStartTs(sweepParams.getStartTs());
+        params.setEndTs(sweepParams.getEndTs());
+        params.setAmount0(sweepParams.getAmount0());
+        params.setAmount1(sweepParams.getAmount1());
+        params.setGasPercentile(sweepParams.getGasPercentile());
+        params.setBoundaryThreshold(boundary);
+        params.setReBalanceThreshold(reBalance);
+        params.setMode(mode);
+        return params;
+    }
+
+    // best real APR first, failed runs last
+    static final Comparator<SweepResult> RANKING = Comparator.comparing(SweepResult::getRealApr, Comparator.nullsFirst(Comparator.<BigDecimal>naturalOrder())).reversed();
+}
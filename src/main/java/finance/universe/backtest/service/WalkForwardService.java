@@ -0,0 +1,294 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.repository.HourKlineRepository;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.series.GasIndex;
+import finance.universe.backtest.series.SegmentPin;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.util.BaseUtil;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.SweepParams;
+import finance.universe.backtest.vo.SweepResult;
+import finance.universe.backtest.vo.WalkForwardFold;
+import finance.universe.backtest.vo.WalkForwardParams;
+import finance.universe.backtest.vo.WalkForwardResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * rolling walk-forward analysis. the folds run concurrently, each one sweeps the grid over its training window and
+ * runs the winner over the following test window. the pool's months of the whole range are pinned for the duration,
+ * so all folds read the same resident series.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class WalkForwardService {
+
+    private static final long DAY = 3600 * 24;
+
+    @Autowired
+    SweepService sweepService;
+    @Autowired
+    BackTestService backTestService;
+    @Autowired
+    PoolRepository poolRepository;
+    @Autowired
+    HourKlineRepository klineRepository;
+    @Autowired
+    SwapSeriesStore swapSeriesStore;
+    @Autowired
+    AdmissionService admissionService;
+
+    @Value("${backtest.walkforward.threads:0}")
+    private int threads;
+
+    @Value("${backtest.walkforward.max-folds:64}")
+    private int maxFolds;
+
+    private int foldThreads;
+    // fold tasks only wait on their sweep's shards, which run on the sweep executors
+    private ExecutorService foldExecutor;
+
+    @PostConstruct
+    public void init() {
+        foldThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        foldExecutor = Executors.newFixedThreadPool(foldThreads);
+        log.info("walk-forward init, threads: {}, max folds: {}", foldThreads, maxFolds);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        foldExecutor.shutdownNow();
+    }
+
+    /**
+     * admission cost: the folds that run at once, each holding its training sweep, the exact re-runs of its
+     * verifyTop leaders and its test run. the costliest fold is charged for every one of them
+     */
+    public long estimateCost(WalkForwardParams params) {
+        List<WalkForwardFold> folds = folds(params);
+        if (CollectionUtils.isEmpty(params.getBoundaryThresholds()) || CollectionUtils.isEmpty(params.getReBalanceThresholds())) {
+            return admissionService.estimateCost(new BackTestTickParams());
+        }
+        String mode = BackTestService.MODE_EXACT.equalsIgnoreCase(params.getMode()) ? BackTestService.MODE_EXACT : BackTestService.MODE_FAST;
+        String testMode = params.getTestMode() == null ? BackTestService.MODE_EXACT : params.getTestMode();
+        int verifyTop = BackTestService.MODE_FAST.equals(mode) ? verifyTop(params) : 0;
+        Long boundary = params.getBoundaryThresholds().get(0), reBalance = params.getReBalanceThresholds().get(0);
+        long foldCost = 0;
+        for (WalkForwardFold fold : folds) {
+            SweepParams trainParams = trainParams(params, fold, mode);
+            // the screening alone, the verification is added below
+            trainParams.setVerifyTop(0);
+            long train = sweepService.estimateCost(trainParams)
+                    + verifyTop * admissionService.estimateCost(SweepService.toParams(trainParams, boundary, reBalance, BackTestService.MODE_EXACT));
+            long test = admissionService.estimateCost(SweepService.toParams(sweepParams(params, fold.getTestStartTs(), fold.getTestEndTs()),
+                    boundary, reBalance, testMode));
+            foldCost = Math.max(foldCost, train + test);
+        }
+        return Math.min(folds.size(), foldThreads) * foldCost;
+    }
+
+    public WalkForwardResult walkForward(WalkForwardParams params) throws Exception {
+        long start = System.currentTimeMillis();
+        if (params.getPair() == null || params.getStartTs() == null) {
+            throw new IllegalArgumentException("pair and startTs are required");
+        }
+        String mode = params.getMode() == null ? BackTestService.MODE_FAST : params.getMode().toLowerCase();
+        String testMode = params.getTestMode() == null ? BackTestService.MODE_EXACT : params.getTestMode().toLowerCase();
+        if (!isMode(mode) || !isMode(testMode)) {
+            throw new IllegalArgumentException("unsupported mode: " + (isMode(mode) ? params.getTestMode() : params.getMode()));
+        }
+        GasIndex.checkPercentile(params.getGasPercentile());
+        Pool poolInfo = poolRepository.findById(params.getPair()).orElse(null);
+        if (poolInfo == null) {
+            throw new IllegalArgumentException("pool miss");
+        }
+        List<WalkForwardFold> folds = folds(params);
+        long endTs = folds.get(folds.size() - 1).getTestEndTs();
+        // rejects an empty grid before any fold starts
+        SweepService.expand(sweepParams(params, folds.get(0).getTrainStartTs(), folds.get(0).getTrainEndTs()), mode);
+
+        SegmentPin pin = swapSeriesStore.pin(poolInfo, params.getStartTs(), endTs);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (WalkForwardFold fold : folds) {
+                futures.add(foldExecutor.submit(() -> runFold(params, fold, mode, testMode)));
+            }
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                // stop the folds before their months are unpinned
+                futures.forEach(it -> it.cancel(true));
+                throw e;
+            } catch (ExecutionException e) {
+                // runFold records its own failures, this is unexpected
+                futures.forEach(it -> it.cancel(true));
+                throw new IllegalStateException(e.getCause());
+            }
+        } finally {
+            pin.close();
+        }
+        WalkForwardResult result = aggregate(folds);
+        log.info("walk-forward end, pair: {}, folds: {}, failed: {}, consume: {}", params.getPair(), folds.size(), result.getFailedFolds(), System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private void runFold(WalkForwardParams params, WalkForwardFold fold, String mode, String testMode) {
+        try {
+            List<SweepResult> ranked = sweepService.sweep(trainParams(params, fold, mode));
+            SweepResult best = ranked.isEmpty() ? null : ranked.get(0);
+            if (best == null || best.getRealApr() == null) {
+                fold.setError("training sweep failed: " + (best == null ? "no result" : best.getError()));
+                return;
+            }
+            fold.setTrain(best);
+
+            BackTestTickParams testParams = SweepService.toParams(sweepParams(params, fold.getTestStartTs(), fold.getTestEndTs()),
+                    best.getBoundaryThreshold(), best.getReBalanceThreshold(), testMode);
+            SweepResult test = new SweepResult();
+            test.setBoundaryThreshold(best.getBoundaryThreshold());
+            test.setReBalanceThreshold(best.getReBalanceThreshold());
+            test.setMode(testMode);
+            SweepService.fill(test, backTestService.runBackTest(testParams));
+            fold.setTest(test);
+        } catch (Exception e) {
+            log.warn("walk-forward fold failed, index: {}", fold.getIndex(), e);
+            fold.setError(e.getMessage() == null ? e.toString() : e.getMessage());
+        }
+    }
+
+    private static WalkForwardResult aggregate(List<WalkForwardFold> folds) {
+        WalkForwardResult result = new WalkForwardResult();
+        result.setFoldResults(folds);
+        List<BigDecimal> aprs = new ArrayList<>();
+        BigDecimal trainSum = BigDecimal.ZERO;
+        BigDecimal sharpeSum = BigDecimal.ZERO;
+        BigDecimal worstDrawDown = null;
+        int wins = 0;
+        int reBalanceTimes = 0;
+        for (WalkForwardFold fold : folds) {
+            SweepResult test = fold.getTest();
+            if (fold.getError() != null || test == null) {
+                continue;
+            }
+            aprs.add(test.getRealApr());
+            trainSum = trainSum.add(fold.getTrain().getRealApr());
+            sharpeSum = sharpeSum.add(test.getSharpe());
+            worstDrawDown = worstDrawDown == null ? test.getMaxDrawDown() : worstDrawDown.max(test.getMaxDrawDown());
+            wins += test.getRealApr().signum() > 0 ? 1 : 0;
+            reBalanceTimes += test.getReBalanceTimes();
+        }
+        result.setFolds(folds.size());
+        result.setFailedFolds(folds.size() - aprs.size());
+        if (aprs.isEmpty()) {
+            return result;
+        }
+        BigDecimal n = BigDecimal.valueOf(aprs.size());
+        BigDecimal mean = BaseUtil.safeDivide(aprs.stream().reduce(BigDecimal.ZERO, BigDecimal::add), n);
+        BigDecimal trainMean = BaseUtil.safeDivide(trainSum, n);
+        aprs.sort(null);
+        int mid = aprs.size() / 2;
+        result.setMeanRealApr(mean);
+        result.setMedianRealApr(aprs.size() % 2 == 1 ? aprs.get(mid) : BaseUtil.safeDivide(aprs.get(mid - 1).add(aprs.get(mid)), BigDecimal.valueOf(2)));
+        result.setWinRate(BaseUtil.safeDivide(BigDecimal.valueOf(wins), n));
+        result.setMeanSharpe(BaseUtil.safeDivide(sharpeSum, n));
+        result.setWorstMaxDrawDown(worstDrawDown);
+        result.setReBalanceTimes(reBalanceTimes);
+        result.setMeanTrainRealApr(trainMean);
+        result.setEfficiency(trainMean.signum() > 0 ? BaseUtil.safeDivide(mean, trainMean) : null);
+        return result;
+    }
+
+    /**
+     * the folds between startTs and endTs, the latest kline when endTs is empty
+     */
+    private List<WalkForwardFold> folds(WalkForwardParams params) {
+        if (params.getPair() == null || params.getStartTs() == null) {
+            throw new IllegalArgumentException("pair and startTs are required");
+        }
+        if (params.getTrainDays() == null || params.getTrainDays() <= 0 || params.getTestDays() == null || params.getTestDays() <= 0) {
+            throw new IllegalArgumentException("trainDays and testDays must be positive");
+        }
+        int stepDays = params.getStepDays() == null ? params.getTestDays() : params.getStepDays();
+        if (stepDays <= 0) {
+            throw new IllegalArgumentException("stepDays must be positive");
+        }
+        long endTs = params.getEndTs() != null ? params.getEndTs() : maxTs(params.getPair());
+
+        List<WalkForwardFold> folds = new ArrayList<>();
+        long train = params.getTrainDays() * DAY;
+        long test = params.getTestDays() * DAY;
+        for (long trainStart = params.getStartTs(); trainStart + train + test <= endTs; trainStart += stepDays * DAY) {
+            if (folds.size() == maxFolds) {
+                throw new IllegalArgumentException("more than " + maxFolds + " folds, raise stepDays or shorten the range");
+            }
+            WalkForwardFold fold = new WalkForwardFold();
+            fold.setIndex(folds.size());
+            fold.setTrainStartTs(trainStart);
+            fold.setTrainEndTs(trainStart + train);
+            fold.setTestStartTs(trainStart + train);
+            fold.setTestEndTs(trainStart + train + test);
+            folds.add(fold);
+        }
+        if (folds.isEmpty()) {
+            throw new IllegalArgumentException("no fold fits between startTs and endTs");
+        }
+        return folds;
+    }
+
+    private static SweepParams trainParams(WalkForwardParams params, WalkForwardFold fold, String mode) {
+        SweepParams trainParams = sweepParams(params, fold.getTrainStartTs(), fold.getTrainEndTs());
+        trainParams.setMode(mode);
+        trainParams.setVerifyTop(verifyTop(params));
+        trainParams.setTop(1);
+        return trainParams;
+    }
+
+    private static int verifyTop(WalkForwardParams params) {
+        return params.getVerifyTop() == null ? 1 : params.getVerifyTop();
+    }
+
+    private static SweepParams sweepParams(WalkForwardParams params, long startTs, long endTs) {
+        SweepParams sweepParams = new SweepParams();
+        sweepParams.setPair(params.getPair());
+        sweepParams.setStartTs(startTs);
+        sweepParams.setEndTs(endTs);
+        sweepParams.setAmount0(params.getAmount0());
+        sweepParams.setAmount1(params.getAmount1());
+        sweepParams.setGasPercentile(params.getGasPercentile());
+        sweepParams.setBoundaryThresholds(params.getBoundaryThresholds());
+        sweepParams.setReBalanceThresholds(params.getReBalanceThresholds());
+        return sweepParams;
+    }
+
+    private long maxTs(String pair) {
+        Long maxTs = klineRepository.getMaxTsByPair(pair);
+        if (maxTs == null) {
+            throw new IllegalArgumentException("kline miss");
+        }
+        return maxTs;
+    }
+
+    private static boolean isMode(String mode) {
+        return BackTestService.MODE_FAST.equals(mode) || BackTestService.MODE_EXACT.equals(mode);
+    }
+}
@@ -0,0 +1,91 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.repository.HourKlineRepository;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.vo.BackTestTickParams;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * startup phase: load every pool's series and indexes, then run a few synthetic backtests so Hibernate
+ * queries are compiled and the swap loop is JIT-compiled before traffic arrives.
+ * Spring Boot only reports ACCEPTING_TRAFFIC (see /ready) once all runners are done.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Slf4j
+@Service
+public class WarmUpService implements ApplicationRunner {
+
+    @Autowired
+    PoolRepository poolRepository;
+    @Autowired
+    HourKlineRepository klineRepository;
+    @Autowired
+    SwapSeriesStore swapSeriesStore;
+    @Autowired
+    BackTestService backTestService;
+
+    @Value("${backtest.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${backtest.warmup.iterations:3}")
+    private int iterations;
+
+    @Value("${backtest.warmup.days:7}")
+    private int days;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        for (Pool poolInfo : poolRepository.findAll()) {
+            long poolStart = System.currentTimeMillis();
+            swapSeriesStore.getSeries(poolInfo);
+            swapSeriesStore.getGasIndex(poolInfo);
+            swapSeriesStore.getRollups(poolInfo);
+            Long maxTs = klineRepository.getMaxTsByPair(poolInfo.getPair());
+            if (maxTs == null) {
+                log.info("warm up skip, pair: {}, no kline", poolInfo.getPair());
+                continue;
+            }
+            for (int i = 0; i < iterations; i++) {
+                try {
+                    BackTestTickParams params = syntheticParams(poolInfo, maxTs);
+                    backTestService.runBackTest(params);
+                    // sweeps screen with the fast engine, warm it as well
+                    params.setMode(BackTestService.MODE_FAST);
+                    backTestService.runBackTest(params);
+                } catch (Exception e) {
+                    log.warn("warm up backtest failed, pair: {}, error: {}", poolInfo.getPair(), e.getMessage());
+                    break;
+                }
+            }
+            log.info("warm up pool, pair: {}, consume: {}", poolInfo.getPair(), System.currentTimeMillis() - poolStart);
+        }
+        log.info("warm up end, consume: {}", System.currentTimeMillis() - start);
+    }
+
+    private BackTestTickParams syntheticParams(Pool poolInfo, long maxTs) {
+        BackTestTickParams params = new BackTestTickParams();
+        params.setPair(poolInfo.getPair());
+        params.setEndTs(maxTs);
+        params.setStartTs(maxTs - days * 24 * 3600L);
+        params.setBoundaryThreshold(10L * poolInfo.getTickSpacing());
+        params.setReBalanceThreshold(5L * poolInfo.getTickSpacing());
+        params.setAmount0(BigDecimal.ONE);
+        params.setAmount1(BigDecimal.ONE);
+        return params;
+    }
+}
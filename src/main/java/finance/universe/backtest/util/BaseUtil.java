@@ -18,21 +18,15 @@ public class BaseUtil {
     }
 
     public static BigDecimal getAmountWithScale(BigInteger d, int decimal) {
-        return new BigDecimal(d).divide(BigDecimal.valueOf(Math.pow(10, decimal)), decimal, RoundingMode.DOWN);
+        return new BigDecimal(d, decimal);
     }
 
     public static BigInteger getAmountByScale(BigDecimal d, int decimal) {
-        return d.multiply(BigDecimal.valueOf(Math.pow(10, decimal))).toBigInteger();
+        return d.scaleByPowerOfTen(decimal).toBigInteger();
     }
 
     public static BigDecimal getPriceByTick(Pool poolInfo, BigInteger tick) {
-        BigDecimal a = BigDecimal.valueOf(Math.pow(1.0001, tick.intValue()));
-        BigDecimal b = BigDecimal.valueOf(Math.pow(10, poolInfo.decimalDiff()));
-        if (poolInfo.testReverse()) {
-            return safeDivide(b, a);
-        } else {
-            return safeDivide(a, b);
-        }
+        return PoolContext.of(poolInfo).price(tick.intValue());
     }
 
     public static BigDecimal getCommissionRate(BigInteger amount0, BigInteger amount1, BigInteger c0, BigInteger c1, BigInteger price) {
@@ -42,11 +36,7 @@ public class BaseUtil {
     }
 
     public static BigDecimal getNetValue(Pool poolInfo, BigDecimal amount0, BigDecimal amount1, BigDecimal price) {
-        if (poolInfo.testReverse()) {
-            return amount0.add(amount1.multiply(price));
-        } else {
-            return amount1.add(amount0.multiply(price));
-        }
+        return PoolContext.of(poolInfo).netValue(amount0, amount1, price);
     }
 
     public static long alignedToHour(long ts) {
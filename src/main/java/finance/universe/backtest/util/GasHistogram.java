@@ -0,0 +1,137 @@
+package finance.universe.backtest.util;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * streaming quantiles over gas prices.
+ * up to exactSamples values are kept as they are and answered exactly with quickselect, past that every value
+ * goes into fixed 1 gwei buckets (the last bucket collects everything above maxGwei).
+ * a cleared histogram is reused without allocating.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+public class GasHistogram {
+
+    private static final long WEI_PER_GWEI = 1_000_000_000L;
+
+    private final int[] buckets;
+    private final long[] samples;
+    private int count;
+    private long maxWei;
+
+    public GasHistogram() {
+        this(4096, 256);
+    }
+
+    public GasHistogram(int maxGwei, int exactSamples) {
+        this.buckets = new int[maxGwei + 1];
+        this.samples = new long[exactSamples];
+    }
+
+    public void add(long wei) {
+        if (count < samples.length) {
+            samples[count] = wei;
+        } else {
+            if (count == samples.length) {
+                // switch to buckets
+                for (long sample : samples) {
+                    buckets[bucketOf(sample)]++;
+                }
+            }
+            buckets[bucketOf(wei)]++;
+        }
+        count++;
+        maxWei = Math.max(maxWei, wei);
+    }
+
+    public void clear() {
+        if (count > samples.length) {
+            Arrays.fill(buckets, 0);
+        }
+        count = 0;
+        maxWei = 0;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isExact() {
+        return count <= samples.length;
+    }
+
+    /**
+     * nearest-rank quantile in wei, bucket midpoint once the exact samples are exhausted
+     * @param q 0 < q <= 1
+     */
+    public long quantile(double q) {
+        if (count == 0) {
+            throw new IllegalStateException("empty histogram");
+        }
+        int rank = Math.max(1, (int) Math.ceil(q * count));
+        if (isExact()) {
+            return select(rank - 1);
+        }
+        int seen = 0;
+        for (int i = 0; i < buckets.length - 1; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(i * WEI_PER_GWEI + WEI_PER_GWEI / 2, maxWei);
+            }
+        }
+        return maxWei;
+    }
+
+    /**
+     * median in wei, the mean of the two middle values for an even exact sample
+     */
+    public BigDecimal median() {
+        if (isExact() && count % 2 == 0 && count > 0) {
+            long b = select(count / 2);
+            // after select everything left of count / 2 is <= b, the lower middle is their max
+            long a = samples[0];
+            for (int i = 1; i < count / 2; i++) {
+                a = Math.max(a, samples[i]);
+            }
+            return BaseUtil.safeDivide(BigDecimal.valueOf(a).add(BigDecimal.valueOf(b)), BigDecimal.valueOf(2));
+        }
+        return BigDecimal.valueOf(quantile(0.5));
+    }
+
+    private int bucketOf(long wei) {
+        long gwei = wei / WEI_PER_GWEI;
+        return (int) Math.min(gwei, buckets.length - 1);
+    }
+
+    /**
+     * k-th smallest exact sample, partially reorders the samples
+     */
+    private long select(int k) {
+        int lo = 0, hi = count - 1;
+        while (lo < hi) {
+            long pivot = samples[(lo + hi) >>> 1];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (samples[i] < pivot) i++;
+                while (samples[j] > pivot) j--;
+                if (i <= j) {
+                    long t = samples[i];
+                    samples[i] = samples[j];
+                    samples[j] = t;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                break;
+            }
+        }
+        return samples[k];
+    }
+}
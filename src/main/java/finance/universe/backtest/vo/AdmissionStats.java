@@ -0,0 +1,25 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class AdmissionStats {
+    private int running;
+    private int queueDepth;
+    // estimated bytes held by running backtests and the budget they share
+    private long costInUse;
+    private long budget;
+    private long admitted;
+    private long rejectedQueueFull;
+    private long rejectedTimeout;
+    // cost above the whole budget
+    private long rejectedTooLarge;
+    private long avgRunMs;
+    private Map<String, Integer> runningByClient;
+}
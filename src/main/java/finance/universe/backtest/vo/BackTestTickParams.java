@@ -19,4 +19,14 @@ public class BackTestTickParams {
     private BigDecimal amount0;
     private BigDecimal amount1;
     private List<Rebalance> rebalance;
+    // optional, 50 or 90: gate rebalances on the pool's gas percentile of the previous hour instead of backtest.gas.max-gwei
+    private Integer gasPercentile;
+    // optional: take the gas of every rebalance (gas used x block median gas price) out of the position, in the pool's WETH
+    private Boolean gasCost;
+    // optional, needs gasPercentile: a rebalance triggered above the percentile waits for the next block at or under it
+    private Boolean deferRebalance;
+    // exact (default) or fast: double precision screening run with an error bound against the exact engine
+    private String mode;
+    // optional ladder of ranges sharing amount0 / amount1, replaces boundaryThreshold / reBalanceThreshold. fast mode only
+    private List<LadderPosition> positions;
 }
@@ -0,0 +1,15 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class BackfillParams {
+    private String pair;
+    private Long fromBlock;
+    // latest block when empty
+    private Long toBlock;
+}
@@ -0,0 +1,32 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * a backfill job, updated by the job while it runs
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class BackfillResult {
+    private String id;
+    // queued, running, done or failed
+    private volatile String status;
+    private volatile String error;
+    private String pair;
+    private long fromBlock;
+    // resolved to the latest block when the job starts if not given
+    private volatile long toBlock;
+    // blocks up to here are written
+    private volatile long writtenTo;
+    private volatile long rows;
+    private volatile int chunks;
+    // chunks split because the node refused the range
+    private volatile int splits;
+    private volatile int retries;
+    private volatile long consume;
+    // epoch millis
+    private long createdAt;
+    private volatile long updatedAt;
+}
@@ -0,0 +1,26 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class Candle {
+    // bucket start, seconds
+    private long ts;
+    // block-closing prices
+    private BigDecimal open;
+    private BigDecimal high;
+    private BigDecimal low;
+    private BigDecimal close;
+    // summed absolute amounts in token units
+    private BigDecimal volume0;
+    private BigDecimal volume1;
+    private int count;
+    // gas price in wei, exact up to 256 swaps in the candle, above that rounded to the middle of its 1 gwei bucket
+    private long medianGas;
+}
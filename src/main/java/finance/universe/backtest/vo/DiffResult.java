@@ -0,0 +1,26 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class DiffResult {
+    private String reference;
+    private String alternative;
+    private double relTolerance;
+    private double absTolerance;
+    private boolean identical;
+    // leaves compared, and how many of them were out of tolerance
+    private int compared;
+    private int diverged;
+    private int tradeEvents;
+    private int imPoints;
+    private double maxRelDiff;
+    private String maxRelDiffPath;
+    private Divergence firstDivergence;
+    private long referenceMs;
+    private long alternativeMs;
+}
@@ -0,0 +1,20 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class DiffStats {
+    private double sampleRate;
+    private long sampled;
+    private long passed;
+    private long diverged;
+    // queue full, or not admitted
+    private long dropped;
+    // the alternative run failed
+    private long failed;
+    private DiffResult lastDivergence;
+}
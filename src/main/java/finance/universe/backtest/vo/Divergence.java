@@ -0,0 +1,25 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * first value where the alternative engine left the tolerance of the reference engine
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class Divergence {
+    // e.g. trade_info[12][2] or global_info.apr[0]
+    private String path;
+    private Object reference;
+    private Object alternative;
+    private Double absDiff;
+    private Double relDiff;
+    // trade_info / im_list only: the row index, both rows and the rows before them
+    private Integer index;
+    private Object referenceRow;
+    private Object alternativeRow;
+    private Object previousReferenceRow;
+    private Object previousAlternativeRow;
+}
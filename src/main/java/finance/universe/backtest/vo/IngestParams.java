@@ -0,0 +1,16 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class IngestParams {
+    private String pair;
+    // file under backtest.ingest.dir, relative to it or absolute
+    private String path;
+    // csv or ndjson, taken from the file extension when empty
+    private String format;
+}
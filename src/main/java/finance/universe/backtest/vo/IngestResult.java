@@ -0,0 +1,15 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class IngestResult {
+    private String pair;
+    private long rows;
+    private long skipped;
+    private long consume;
+}
@@ -0,0 +1,21 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * one range of a laddered backtest
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class LadderPosition {
+    // half width of the range in ticks, centered on the current tick
+    private Long boundaryThreshold;
+    // optional, re-center once the tick is this far from the center
+    private Long reBalanceThreshold;
+    // optional, share of amount0 / amount1 relative to the other positions, equal by default
+    private BigDecimal weight;
+}
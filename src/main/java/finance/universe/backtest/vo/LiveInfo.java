@@ -0,0 +1,23 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class LiveInfo {
+    private String id;
+    private String pair;
+    private Long startTs;
+    // series rows consumed and blocks simulated so far
+    private int rows;
+    private long blocks;
+    private long lastBlock;
+    private long lastTs;
+    private int subscribers;
+    // epoch millis
+    private long createdAt;
+    private long updatedAt;
+}
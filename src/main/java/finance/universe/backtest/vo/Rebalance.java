@@ -13,22 +13,29 @@ public class Rebalance implements Comparable<Rebalance> {
     private Long block;
     private Integer upper;
     private Integer lower;
+    // index into BackTestTickParams.positions of a laddered backtest, 0 by default
+    private Integer position;
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Rebalance rebalance = (Rebalance) o;
-        return block.equals(rebalance.block);
+        return block.equals(rebalance.block) && positionIndex() == rebalance.positionIndex();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(block);
+        return Objects.hash(block, positionIndex());
     }
 
     @Override
     public int compareTo(Rebalance o) {
-        return this.block.compareTo(o.block);
+        int c = this.block.compareTo(o.block);
+        return c != 0 ? c : Integer.compare(positionIndex(), o.positionIndex());
+    }
+
+    private int positionIndex() {
+        return position == null ? 0 : position;
     }
 }
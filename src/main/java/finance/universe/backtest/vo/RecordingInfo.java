@@ -0,0 +1,20 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class RecordingInfo {
+    private String name;
+    // NEW, RUNNING, STOPPED or CLOSED
+    private String state;
+    private String settings;
+    private Long startTime;
+    private long durationSeconds;
+    private long maxSizeMb;
+    // size of the last dump
+    private Long fileBytes;
+}
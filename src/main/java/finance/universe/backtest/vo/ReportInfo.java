@@ -0,0 +1,21 @@
+package finance.universe.backtest.vo;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class ReportInfo {
+    private String name;
+    private String pair;
+    private String paramsHash;
+    // epoch millis
+    private long createdAt;
+    // compressed size
+    private long bytes;
+    @JsonIgnore
+    private String file;
+}
@@ -0,0 +1,35 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class SegmentStats {
+    // resident bytes of the monthly swap segments and kline months, and the budget they share
+    private long budget;
+    private long residentBytes;
+    private int segments;
+    private int residentSegments;
+    private int pinnedSegments;
+    // gas percentiles, candles and cheap block tables of the resident segments, part of residentBytes
+    private long tableBytes;
+    private long hits;
+    // loads from swap_record or a snapshot file
+    private long loads;
+    private long snapshotLoads;
+    private long snapshotWrites;
+    // swap segments and kline months
+    private long evictions;
+    private long avgLoadMs;
+    // resident kline months and their estimated bytes
+    private int klineMonths;
+    private long klineBytes;
+    private long klineLoads;
+    private long klineHits;
+    private Map<String, Long> residentBytesByPair;
+}
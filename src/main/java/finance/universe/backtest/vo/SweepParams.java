@@ -0,0 +1,30 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * parameter grid: every boundaryThreshold x reBalanceThreshold pair is one backtest
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class SweepParams {
+    private String pair;
+    private Long startTs;
+    private Long endTs;
+    private BigDecimal amount0;
+    private BigDecimal amount1;
+    private Integer gasPercentile;
+    private List<Long> boundaryThresholds;
+    private List<Long> reBalanceThresholds;
+    // number of ranked results to return, all when empty
+    private Integer top;
+    // fast (default) screens the grid in double precision, exact runs every point with the exact engine
+    private String mode;
+    // in fast mode the best verifyTop candidates are re-run exactly, top or 10 when empty
+    private Integer verifyTop;
+}
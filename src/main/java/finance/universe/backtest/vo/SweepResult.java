@@ -0,0 +1,33 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * summary of one backtest inside a sweep
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class SweepResult {
+    private Long boundaryThreshold;
+    private Long reBalanceThreshold;
+    private String reportName;
+    private BigDecimal realApr;
+    private BigDecimal cuApr;
+    // net value change measured in the quote / base token (uAPR / bAPR of global_info)
+    private BigDecimal quoteApr;
+    private BigDecimal baseApr;
+    private BigDecimal maxDrawDown;
+    private BigDecimal volatility;
+    private BigDecimal sharpe;
+    private Integer reBalanceTimes;
+    // engine that produced the metrics, exact or fast
+    private String mode;
+    // fast mode only: bound on |realApr - exact realApr|
+    private BigDecimal realAprErrorBound;
+    // set instead of the metrics when the backtest failed
+    private String error;
+}
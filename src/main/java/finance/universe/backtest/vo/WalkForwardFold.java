@@ -0,0 +1,24 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+/**
+ * one training window and the test window after it
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class WalkForwardFold {
+    private Integer index;
+    private Long trainStartTs;
+    private Long trainEndTs;
+    private Long testStartTs;
+    private Long testEndTs;
+    // best point of the training sweep, in-sample
+    private SweepResult train;
+    // the same point over the test window, out-of-sample
+    private SweepResult test;
+    // set when the fold failed, train is kept when only the test run failed
+    private String error;
+}
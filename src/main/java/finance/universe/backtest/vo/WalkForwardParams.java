@@ -0,0 +1,36 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * rolling walk-forward: the grid is swept over every training window and its best point is run on the test window
+ * right after it, then both windows move on by stepDays
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class WalkForwardParams {
+    private String pair;
+    private Long startTs;
+    // latest kline when empty
+    private Long endTs;
+    private BigDecimal amount0;
+    private BigDecimal amount1;
+    private Integer gasPercentile;
+    private Integer trainDays;
+    private Integer testDays;
+    // testDays when empty, so the test windows tile the range
+    private Integer stepDays;
+    private List<Long> boundaryThresholds;
+    private List<Long> reBalanceThresholds;
+    // training sweep mode as in /sweep, fast when empty
+    private String mode;
+    // fast training sweeps re-run this many leaders exactly before choosing, 1 when empty
+    private Integer verifyTop;
+    // engine of the test runs, exact when empty
+    private String testMode;
+}
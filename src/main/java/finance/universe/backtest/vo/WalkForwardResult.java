@@ -0,0 +1,29 @@
+package finance.universe.backtest.vo;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * per-fold results and the out-of-sample metrics aggregated over the folds that completed
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@Data
+public class WalkForwardResult {
+    private Integer folds;
+    private Integer failedFolds;
+    private BigDecimal meanRealApr;
+    private BigDecimal medianRealApr;
+    // share of folds with a positive test realApr
+    private BigDecimal winRate;
+    private BigDecimal meanSharpe;
+    private BigDecimal worstMaxDrawDown;
+    private Integer reBalanceTimes;
+    private BigDecimal meanTrainRealApr;
+    // mean test realApr / mean training realApr, null when the mean training realApr is <= 0
+    private BigDecimal efficiency;
+    private List<WalkForwardFold> foldResults;
+}
@@ -28,6 +28,7 @@ CREATE TABLE `hour_kline` (
 
 INSERT INTO `hour_kline` (`ts`, `liquidity`) VALUES (1630425600, 25844873614608465530), (1630429200, 24696696825495629060), (1630432800, 25214087801495103120), (1630436400, 24895399780914297377), (1630440000, 26075040251821260021), (1630443600, 24673552701763752636), (1630447200, 24736079143441840094), (1630450800, 21401939705667353561), (1630454400, 24636560258691478244), (1630458000, 21469509152737882114), (1630461600, 21580267892422747548), (1630465200, 21631182575036538849), (1630468800, 22054925799626015768), (1630472400, 17484043513363879073), (1630476000, 17521864153945577226), (1630479600, 18455436689359726320), (1630483200, 18402284462666100707), (1630486800, 18458337621596141821), (1630490400, 18508877678720835894), (1630494000, 18531477147129286494), (1630497600, 178480589099821947796), (1630501200, 18687614275367494946), (1630504800, 18569512038677297826), (1630508400, 18583141440199948869), (1630512000, 16108734924230066986), (1630515600, 20229211889198210380), (1630519200, 18632084306526012439), (1630522800, 18760559342575552731), (1630526400, 17598462510624033218), (1630530000, 17531838748080595335), (1630533600, 17340176769266146243), (1630537200, 6809848923597614671), (1630540800, 17410660301714339752), (1630544400, 17701362780050014964), (1630548000, 18628772411809040927), (1630551600, 18648309030579248965), (1630555200, 18651659106242052761), (1630558800, 18661417191634694973), (1630562400, 18706186571944858352), (1630566000, 18717863460199118647), (1630569600, 18689467690668889433), (1630573200, 18874577405672948958), (1630576800, 18694552219050658887), (1630580400, 18877260967084314329), (1630584000, 185247372881472515827), (1630587600, 18493724977737113144), (1630591200, 18529324251418572697), (1630594800, 19207637198209388866), (1630598400, 18376252941968086927), (1630602000, 18457811338460289044), (1630605600, 18457811338460289044), (1630609200, 18457811338460289044), (1630612800, 7991165520641764002), (1630616400, 7819347608508794360), (1630620000, 18166204483734162310), (1630623600, 18166162543163968810), (1630627200, 125616025602103958881), (1630630800, 22428116345020204511), (1630634400, 23034966674191115453), (1630638000, 19654945864072529082), (1630641600, 19582454116769216658), (1630645200, 20037455032946595459), (1630648800, 20132170520445085229), (1630652400, 20098517361908104698), (1630656000, 9569759442639486984), (1630659600, 380694323654518738878), (1630663200, 8469079853438516364), (1630666800, 8570098444185969309), (1630670400, 8513219774751899917), (1630674000, 8673834003329933943), (1630677600, 8607620915611410998), (1630681200, 19739226466488650147), (1630684800, 19892067065265662764), (1630688400, 19868382994186474843), (1630692000, 20110520333415540709), (1630695600, 20109030072077733309), (1630699200, 20747904993978956206), (1630702800, 20622895805572399732), (1630706400, 23309611817130755581), (1630710000, 19882664647706769587), (1630713600, 19235160121071528814), (1630717200, 19238453600644915455), (1630720800, 19240795228179489898), (1630724400, 19875293762314991561), (1630728000, 19871469048222016786), (1630731600, 19871469048222016786), (1630735200, 19873358928344250659), (1630738800, 19994189723179331818), (1630742400, 19249974174351470205), (1630746000, 19267354420874403716), (1630749600, 20176594611515145244), (1630753200, 22525377976274176833), (1630756800, 20214754114071969431), (1630760400, 20207403190650340076), (1630764000, 22543633609018398135), (1630767600, 20256920688202799964), (1630771200, 20309638418286508046), (1630774800, 22655525701208262083), (1630778400, 22657647758145537150), (1630782000, 21128411848587343497), (1630785600, 22670441191347841668), (1630789200, 22548367741666315292), (1630792800, 22566161887182611967), (1630796400, 22566140587138331831), (1630800000, 22566140587138331831), (1630803600, 22566140587138331831), (1630807200, 22569815853741236975), (1630810800, 22479753088652030091), (1630814400, 22480432288137524033), (1630818000, 22496952514687075823), (1630821600, 22506393862101847605), (1630825200, 22542486292886143162), (1630828800, 20275487881525629710), (1630832400, 20277220970190581257), (1630836000, 19590827157545793159), (1630839600, 20320524138444462670), (1630843200, 19596582874286531607), (1630846800, 19600284614787102294), (1630850400, 19599865060755272060), (1630854000, 20322166510368563971), (1630857600, 20322166510368563971), (1630861200, 20322166510368563971), (1630864800, 20321959880562719826), (1630868400, 19599658430949427915), (1630872000, 29822148639115124215), (1630875600, 29824624083610628255), (1630879200, 19731887980624125251), (1630882800, 29824624083610628255), (1630886400, 19731199520897961918), (1630890000, 20452865814247827596), (1630893600, 20452865814247827596), (1630897200, 20415889722131163378), (1630900800, 20418751656344598986), (1630904400, 20420699104240594691), (1630908000, 19834917892591186602), (1630911600, 19864195963267794351), (1630915200, 29930728693409527681), (1630918800, 30052505314242910930), (1630922400, 30052505314242910930), (1630926000, 20541603189902035197), (1630929600, 26008673294565773910), (1630933200, 20501888556981514446), (1630936800, 19910955731911740272), (1630940400, 19867159935271642098), (1630944000, 19914591740457340032), (1630947600, 19917990789274807798), (1630951200, 19850448284706820991), (1630954800, 19842470385735819235), (1630958400, 19842470385735819235), (1630962000, 19722831144651286688), (1630965600, 19724461245203094228), (1630969200, 19696269628674682445), (1630972800, 20412039135265136664), (1630976400, 20412039135265136664), (1630980000, 19700069092990667642), (1630983600, 20290182212457202278), (1630987200, 20315131859447301191), (1630990800, 20385230740485062187), (1630994400, 20355436951424323317), (1630998000, 25837393960036459475), (1631001600, 96474471472888784743), (1631005200, 26103726922738889874), (1631008800, 10254089666074347521), (1631012400, 10413223462860770644), (1631016000, 10525503898169133765), (1631019600, 26259893269341982544), (1631023200, 7958890681228106824), (1631026800, 7540617024320412851), (1631030400, 8614496033161463928), (1631034000, 7770632159759080252), (1631037600, 7905782601049032594), (1631041200, 7645545009978889163), (1631044800, 7645982056749699956), (1631048400, 6583653808477870920), (1631052000, 8196257363850852915), (1631055600, 8199917327712473861), (1631059200, 8362607565291110260), (1631062800, 8655494246112447630), (1631066400, 8920749245391191063), (1631070000, 8493411840424869628), (1631073600, 8656904274082687406), (1631077200, 8218581046015535642), (1631080800, 9516660515696982700), (1631084400, 9613971157850991582), (1631088000, 7435631211816078423), (1631091600, 7528344079780777265), (1631095200, 7881470086484857201), (1631098800, 8709322818459624931), (1631102400, 8724280820744827344), (1631106000, 7954252911768006793), (1631109600, 7599251716258698871), (1631113200, 8744361556483646241), (1631116800, 8878307814469290606), (1631120400, 8898538507285657619), (1631124000, 8848042870951456465), (1631127600, 8854484847718214157), (1631131200, 177040654009905507732), (1631134800, 8695492064032274706), (1631138400, 8939118337606121808), (1631142000, 8895557142988581009), (1631145600, 8864984938914971739), (1631149200, 8886058460819283724), (1631152800, 9821393779224457815), (1631156400, 9734912085829794179), (1631160000, 8892046913728464049), (1631163600, 9002789363212358803), (1631167200, 9013394820807068911), (1631170800, 9022928603009919371), (1631174400, 9069136609589938147), (1631178000, 9013711960161232415), (1631181600, 9827327258247505974), (1631185200, 9827327258247505974), (1631188800, 9111138168403468376), (1631192400, 9089967470386856549), (1631196000, 9139187012643164868), (1631199600, 9069127409736033883), (1631203200, 9154156803170400206), (1631206800, 9170391947045827284), (1631210400, 9983045081145347556), (1631214000, 9984496422529196384), (1631217600, 10275802052217814396), (1631221200, 10337695934416430545), (1631224800, 10262542181739317091), (1631228400, 10263577482634390810), (1631232000, 10332818749333276142), (1631235600, 9375396961350099646), (1631239200, 9376207216848609287), (1631242800, 10305220637545657598), (1631246400, 10142100647241162595), (1631250000, 10345059093394693723), (1631253600, 10275237262736514118), (1631257200, 9222858085746360450), (1631260800, 8870738426996327396), (1631264400, 10438781079327911332), (1631268000, 11017620409848938687), (1631271600, 10439663315181357651), (1631275200, 9294620456100258639), (1631278800, 11607180170980599818), (1631282400, 11469760209437756756), (1631286000, 11634355291343381415), (1631289600, 11514318146318382550), (1631293200, 11593637141382877478), (1631296800, 11624161902871949716), (1631300400, 11740300432548062969), (1631304000, 11443827157166197108), (1631307600, 9937553694019271540), (1631311200, 7450268559150489125), (1631314800, 10892071299318041305), (1631318400, 11260250280578359670), (1631322000, 11645078398250619843), (1631325600, 11653252382148724040), (1631329200, 11277270481869960294), (1631332800, 11658569770505662662), (1631336400, 11660249198368207749), (1631340000, 11586606355094592550), (1631343600, 11385958154185992057), (1631347200, 11541512054961738474), (1631350800, 11600013305646825897), (1631354400, 11653907776986011606), (1631358000, 11637906234263768825), (1631361600, 11689523522977931710), (1631365200, 11718688979467484706), (1631368800, 11702949330980351833), (1631372400, 11729858505683672980), (1631376000, 11751965738023161599), (1631379600, 11781492897940289879), (1631383200, 11781492897940289879), (1631386800, 11659744302894654329), (1631390400, 11697238524196005394), (1631394000, 11639987547259717885), (1631397600, 91546376468400889574), (1631401200, 11663381646802026066), (1631404800, 11613300006345129228), (1631408400, 11613739163281850483), (1631412000, 11607506409049739581), (1631415600, 11765861120935872905), (1631419200, 11743163961121861435), (1631422800, 11743040271036132341), (1631426400, 11783150935841097374), (1631430000, 11925148633222806527), (1631433600, 9602633453188069177), (1631437200, 9464794207751235119), (1631440800, 10107962169281217854), (1631444400, 10121464759275597432), (1631448000, 10123269887090033512), (1631451600, 10128405951237664240), (1631455200, 10129427537346047905), (1631458800, 9487406807798405723), (1631462400, 9487781319798940755), (1631466000, 9487705177015380665), (1631469600, 9522827131571242105), (1631473200, 9518294653285327466), (1631476800, 9187901935215421000), (1631480400, 9171109443131947249), (1631484000, 9073326462900249583), (1631487600, 9613169575889630289), (1631491200, 9117834166367552301), (1631494800, 184017851610024188087), (1631498400, 9119355719955801839), (1631502000, 9128192308499802208), (1631505600, 9128839948312615769), (1631509200, 9128503464034965225), (1631512800, 9137342632828542617), (1631516400, 8720016415230821874), (1631520000, 8744499383068609777), (1631523600, 9326699559965521046), (1631527200, 9325807248058225423), (1631530800, 9860375619739778932), (1631534400, 9387997882922367798), (1631538000, 9898674345754590152), (1631541600, 8284005703064199113), (1631545200, 8774134120952586186), (1631548800, 8813150981101926420), (1631552400, 9255017582146575530), (1631556000, 9254742037589570478), (1631559600, 9449574641205608759), (1631563200, 9434933797012002268), (1631566800, 9456016501880836702), (1631570400, 10229876669624464949), (1631574000, 10281457009244153427), (1631577600, 11450267849231185454), (1631581200, 11466072980273527661), (1631584800, 10291388823000200693), (1631588400, 11465761269195097316), (1631592000, 10273618452849348881), (1631595600, 10225044112687379460), (1631599200, 11445726719639036494), (1631602800, 11446285873925021842), (1631606400, 10105202037574531794), (1631610000, 10260873726412812915), (1631613600, 10277266444330901091), (1631617200, 10281519389608478796), (1631620800, 10091262740337348356), (1631624400, 10095467466739091731), (1631628000, 10294267258399891827), (1631631600, 10060294786254015725), (1631635200, 10060485920146430811), (1631638800, 10046654070144267249), (1631642400, 10091231901915956225), (1631646000, 10091089885810158042), (1631649600, 10430744248319381906), (1631653200, 11452823139397082321), (1631656800, 10614612767495696275), (1631660400, 10747760308058810157), (1631664000, 10620404367964735921), (1631667600, 10620667756332456678), (1631671200, 10673651411440270852), (1631674800, 10677319759119867098), (1631678400, 11450384413551304193), (1631682000, 11450392873317725197), (1631685600, 10207009202633862633), (1631689200, 11472199338815377898), (1631692800, 10614163981147179616), (1631696400, 11437263400691096822), (1631700000, 10827689220543987231), (1631703600, 9845128160558668763), (1631707200, 9845796553310054599), (1631710800, 9972831376319100010), (1631714400, 9970779898059762344), (1631718000, 10496602111513275066), (1631721600, 11803377198558770076), (1631725200, 12013065941812300136), (1631728800, 11870001925679041587), (1631732400, 11966139791470630052), (1631736000, 11780880480227823091), (1631739600, 11774370865697862695), (1631743200, 11875622861612655455), (1631746800, 12911221165540116348), (1631750400, 12909557094287974841), (1631754000, 12726871076616512562), (1631757600, 12882644349872168722), (1631761200, 12140456177679992936), (1631764800, 12818064007334492847), (1631768400, 12858763913245536394), (1631772000, 12851154377913764966), (1631775600, 13061245813707851619), (1631779200, 13127621934572922549), (1631782800, 13120601290277788611), (1631786400, 13281104675475247844), (1631790000, 13122036048908163967), (1631793600, 13124380885778027518), (1631797200, 11940740341985192163), (1631800800, 12050680159575220311), (1631804400, 13276588324191784414), (1631808000, 14552080244661911468), (1631811600, 12084468102533254471), (1631815200, 12100083115345774129), (1631818800, 12101094559073041524), (1631822400, 10847692619019146847), (1631826000, 10126127045544114791), (1631829600, 10386866794805343677), (1631833200, 10166188482650038027), (1631836800, 10337890993095953036), (1631840400, 10627423241472921313), (1631844000, 10837545624852615646), (1631847600, 10617806938173128107), (1631851200, 10744936485950503235), (1631854800, 10744280920222802796), (1631858400, 10744280920222802796), (1631862000, 10941370728360704907), (1631865600, 13868967385122741645), (1631869200, 10887653266347241763), (1631872800, 10540924878018603145), (1631876400, 10168582943477757645), (1631880000, 10717025572674771108), (1631883600, 10699719348188097947), (1631887200, 10686017187576966311), (1631890800, 11200650864486468587), (1631894400, 12402595406194502703), (1631898000, 10699189934878117148), (1631901600, 9162036324255626996), (1631905200, 10129819299898763627), (1631908800, 9455824093802832095), (1631912400, 9456182867370113543), (1631916000, 9282392794176435355), (1631919600, 9466834083289640694), (1631923200, 9454003914557731231), (1631926800, 12940588926471848840), (1631930400, 14220100257069251297), (1631934000, 13077923336587085771), (1631937600, 12941383548764836244), (1631941200, 12969705680677753181), (1631944800, 13152717103255202771), (1631948400, 13164161869553563090), (1631952000, 12981460388413060244), (1631955600, 12984541589149056418), (1631959200, 12893773526580037760), (1631962800, 16006783383603529932), (1631966400, 14702172610532085371), (1631970000, 11560706713557516029), (1631973600, 11560706713557516029), (1631977200, 11560717777740396972), (1631980800, 336639829211567925102), (1631984400, 13433226171227943921), (1631988000, 13434761629876446292), (1631991600, 11929302594655887203), (1631995200, 9545290011933325699), (1631998800, 9527650836574039318), (1632002400, 11251709204992064009), (1632006000, 11392683391477289026), (1632009600, 11251558885843723143), (1632013200, 11251428768467321460), (1632016800, 11256767519178390239), (1632020400, 11258306024619359438), (1632024000, 11258386141300272043), (1632027600, 11272864463698367320), (1632031200, 11859777605773582169), (1632034800, 11865642961394377256), (1632038400, 11867781431409735453), (1632042000, 12635206782985884587), (1632045600, 12050024284142795542), (1632049200, 10880643396451017831), (1632052800, 10887781661517379845), (1632056400, 9853172222367814687), (1632060000, 9841996572686386073), (1632063600, 11719123963513248455), (1632067200, 11775522632296060614), (1632070800, 10895191987450725348), (1632074400, 11758872718310629477), (1632078000, 9866926444334615836), (1632081600, 9866926444334615836), (1632085200, 13490299191202877993), (1632088800, 9767118514865731915), (1632092400, 13516212414800812043), (1632096000, 10895303120367985847), (1632099600, 16630007532478965037), (1632103200, 12652938500352538760), (1632106800, 9627868972855246791), (1632110400, 9634659555691213892), (1632114000, 9844028192252291274), (1632117600, 9138580829069209180), (1632121200, 8609431121314218283), (1632124800, 9139606865230184142), (1632128400, 9336547395941487387), (1632132000, 11206193008189418960), (1632135600, 24641874627457344970), (1632139200, 8006138241551527390), (1632142800, 9212386935026230771), (1632146400, 9211131311120965265), (1632150000, 9196747643596138200), (1632153600, 11542039394323900104), (1632157200, 11542039394323900104), (1632160800, 9930219270867361792), (1632164400, 9182343825104840373), (1632168000, 9960239094714291337), (1632171600, 9966181547070066113), (1632175200, 23358200332951212067), (1632178800, 7289049651248265718), (1632182400, 6545046514768520626), (1632186000, 23239350760503271577), (1632189600, 8999589258711425681), (1632193200, 23277220575653174845), (1632196800, 6908649033747164274), (1632200400, 22931262259211223912), (1632204000, 7999547632843306932), (1632207600, 8106196362755231236), (1632211200, 8465830436446597192), (1632214800, 8365218419368708292), (1632218400, 8484919715191186385), (1632222000, 8487097706693998916), (1632225600, 8379789486648527820), (1632229200, 8378317716772119085), (1632232800, 23328511955439092274), (1632236400, 9195265494938634378), (1632240000, 6685158358483101076), (1632243600, 7286568986992488360), (1632247200, 6802900304428928687), (1632250800, 6910644933566811520), (1632254400, 7250658597789157532), (1632258000, 7685149084249015400), (1632261600, 6498430760385056667), (1632265200, 8240713082684739374), (1632268800, 7339157423593930887), (1632272400, 7742747760206175124), (1632276000, 7744261831827718614), (1632279600, 7748784624930054912), (1632283200, 9548369078747145882), (1632286800, 7787593065531960515), (1632290400, 7221869165217573851), (1632294000, 7200507023305639441), (1632297600, 7241078001100840502), (1632301200, 7012160232400221993), (1632304800, 7139709783366120153), (1632308400, 7118305356451033281), (1632312000, 7131201593615616700), (1632315600, 7032850375789256785), (1632319200, 7032934078597465038), (1632322800, 8277735643175667006), (1632326400, 8439886681428555400), (1632330000, 8441938705978323824), (1632333600, 8443050115539542257), (1632337200, 8443768707952020666), (1632340800, 8446986187425217359), (1632344400, 8444613234125796533), (1632348000, 7503483383589861791), (1632351600, 7503483384222779838), (1632355200, 8636443040765419225), (1632358800, 7642118044991744894), (1632362400, 7634857693305885624), (1632366000, 9618306911598538646), (1632369600, 9644992690923542142), (1632373200, 9651362297319526885), (1632376800, 9776682567267622183), (1632380400, 9820122283001611940), (1632384000, 10122808686088543663), (1632387600, 17849275651147900614), (1632391200, 8157990067650755115), (1632394800, 8747764884208351683), (1632398400, 8290193717915292701), (1632402000, 18061536934409104494), (1632405600, 10325575745413233356), (1632409200, 18497705815371507249), (1632412800, 18497705815371507249), (1632416400, 10307469175742340961), (1632420000, 10296697660815398681), (1632423600, 10341697380987058074), (1632427200, 10389102041813635228), (1632430800, 10388331959718866207), (1632434400, 10433686806137506634), (1632438000, 10426732836024381609), (1632441600, 10438773935097370892), (1632445200, 18614718325166213538), (1632448800, 18167995891720519832), (1632452400, 12082011422771245331), (1632456000, 12081796259497223201), (1632459600, 7890871317332188530), (1632463200, 7899036359861507549), (1632466800, 18185268008264647897), (1632470400, 7908212873105176450), (1632474000, 7984931397352267891), (1632477600, 7915623460344859233), (1632481200, 7929807265125863996), (1632484800, 7587695077621246303), (1632488400, 7981997630260540623), (1632492000, 10230667423986560917), (1632495600, 7987107343196157865), (1632499200, 10288869246489262198), (1632502800, 8036055499304274856), (1632506400, 10282408612891690042), (1632510000, 10280633029838409696), (1632513600, 10213947609686820689), (1632517200, 10448000495045295729), (1632520800, 10292617591599257744), (1632524400, 10292329841271585217), (1632528000, 10199624671602674555), (1632531600, 10292611172834687107), (1632535200, 10269040066485133907), (1632538800, 10294768609510066591), (1632542400, 180657497865942787496), (1632546000, 10295363978659865190), (1632549600, 10298270781678676123), (1632553200, 10296010570847971197), (1632556800, 10334970986259608301), (1632560400, 10302114338814882072), (1632564000, 10304500852107269585), (1632567600, 10413549054977929781), (1632571200, 10351780415175538787), (1632574800, 10413559326166427781), (1632578400, 8113907559767778249), (1632582000, 10329091776048484125), (1632585600, 10367961770249016054), (1632589200, 10367276679194583667), (1632592800, 10351960817876536847), (1632596400, 10413439064853126693), (1632600000, 10414832230112977814), (1632603600, 10378139829866112709), (1632607200, 10307389947295208374), (1632610800, 10325848137046099261), (1632614400, 8116059484753848492), (1632618000, 8123930596603284260), (1632621600, 8124625606799908137), (1632625200, 8127814528201737034), (1632628800, 8099377005914712693), (1632632400, 8099541819557219217), (1632636000, 8081987950925001378), (1632639600, 7741168903185776297), (1632643200, 7742041184074954307), (1632646800, 11314894634028955043), (1632650400, 10477906019577254764), (1632654000, 10656616143221175399), (1632657600, 11635565458276847471), (1632661200, 11352946047240484055), (1632664800, 11782167734422288878), (1632668400, 11832463627102752788), (1632672000, 11842614404567489559), (1632675600, 11830173672490751737), (1632679200, 11831404526251198770), (1632682800, 11912677621907740581), (1632686400, 12169642786033348969), (1632690000, 12088514495244267025), (1632693600, 11879932150931445280), (1632697200, 11971633955900964304), (1632700800, 14149788462832821930), (1632704400, 14413638842849804484), (1632708000, 14186622024350099111), (1632711600, 15093630254240548859), (1632715200, 15095751731386781916), (1632718800, 14208162831066979808), (1632722400, 14988265499752004345), (1632726000, 15000500707812081413), (1632729600, 15102941887406319966), (1632733200, 15126500296875670320), (1632736800, 15127295762559168240), (1632740400, 13209425666149506082), (1632744000, 13209192086654330220), (1632747600, 12967790753481334587), (1632751200, 13627118421872671154), (1632754800, 13633955441009364489), (1632758400, 13480571455218315783), (1632762000, 11353423231680685862), (1632765600, 11353341209125233434), (1632769200, 11805388349813207077), (1632772800, 10481056541241506854), (1632776400, 11384629122550210238), (1632780000, 11851152742426384686), (1632783600, 10383594138755433651), (1632787200, 10375030780360578170), (1632790800, 10390806787853651987), (1632794400, 10391977925740190016), (1632798000, 10391977925740190016), (1632801600, 10514490121442120540), (1632805200, 10514490121442120540), (1632808800, 10494221058234736700), (1632812400, 10477082480082104396), (1632816000, 10478141010855574128), (1632819600, 10457850672272190722), (1632823200, 10364320363736994512), (1632826800, 10560660393644844226), (1632830400, 10467017763250008611), (1632834000, 10554049702907234641), (1632837600, 7460453206160390575), (1632841200, 7427727013342556890), (1632844800, 7428107839775474066), (1632848400, 7460467012717554810), (1632852000, 7469903097870004059), (1632855600, 7454350000470050428), (1632859200, 7476756166070359247), (1632862800, 7490271712919549072), (1632866400, 7453743708051381167), (1632870000, 7284309039628570258), (1632873600, 7385965533632454027), (1632877200, 7392927475617585712), (1632880800, 7409714255932305274), (1632884400, 7469376117939281028), (1632888000, 10004352262024837076), (1632891600, 9981517171862227598), (1632895200, 10012697576126506219), (1632898800, 10012754108117018438), (1632902400, 10003379400601415135), (1632906000, 10200219664574187315), (1632909600, 9826903281031318460), (1632913200, 9840667317690524520), (1632916800, 9911296445223886284), (1632920400, 9912622079783022123), (1632924000, 9946387100016812486), (1632927600, 7405025966714641157), (1632931200, 7642292251023441310), (1632934800, 7607579214513235363), (1632938400, 7607578848589793773), (1632942000, 7610528300701938711), (1632945600, 7566806542288588806), (1632949200, 7569189010701153973), (1632952800, 7635065191954292483), (1632956400, 7637320225401965060), (1632960000, 10154325060903574929), (1632963600, 10065655513745560803), (1632967200, 10395712496100517525), (1632970800, 11227965576534839778), (1632974400, 11227965576534839778), (1632978000, 11214456783947862066), (1632981600, 11214163649329277181), (1632985200, 11086166263158436554), (1632988800, 10051357431391936873), (1632992400, 10000872678793404363), (1632996000, 9920445572126868637), (1632999600, 9920461012000863579), (1633003200, 11305731977925079351), (1633006800, 10272508041829364598), (1633010400, 10272508041829364598), (1633014000, 10486470207806191513), (1633017600, 10283285419403421557), (1633021200, 10630024558055319456), (1633024800, 11474792673682033476), (1633028400, 11249270807659245756), (1633032000, 11901149736310660869), (1633035600, 12097617056777593633), (1633039200, 11250156965089224790), (1633042800, 12099970856462133001), (1633046400, 11377510430120011611), (1633050000, 11367828173876146765), (1633053600, 12076628196241792296), (1633057200, 12076580323427628696), (1633060800, 11341326401367004018), (1633064400, 11361088382398067325), (1633068000, 11272210662703803065), (1633071600, 11244951866633873103), (1633075200, 13197978795202722378), (1633078800, 13198004243347659255), (1633082400, 11533425871364745830), (1633086000, 11538591090658422833), (1633089600, 11602188910437734054), (1633093200, 11812735340144786711), (1633096800, 12025114655393129450), (1633100400, 11816053284629864256), (1633104000, 11839973992299970421), (1633107600, 11859104194068813705), (1633111200, 11841410626046023878), (1633114800, 11842223670181160399), (1633118400, 11842134593307426503), (1633122000, 13786546318710411768), (1633125600, 11841139055521839570), (1633129200, 11848788162717168812), (1633132800, 11951563824800958187), (1633136400, 13900092612472247935), (1633140000, 13900092612472247935), (1633143600, 11965004076068076246), (1633147200, 11963987693493205324), (1633150800, 14087293191491914709), (1633154400, 14087293191491914709), (1633158000, 14037099034647965079), (1633161600, 11702389129076070325), (1633165200, 15982385604927926557), (1633168800, 14035598717251394086), (1633172400, 14036632077633773273), (1633176000, 14037354475018005785), (1633179600, 15988649278674880782), (1633183200, 15895726318324086086), (1633186800, 15723447212024438696), (1633190400, 16385837978724339960), (1633194000, 16415207073591315405), (1633197600, 16438417452439728655), (1633201200, 18849819588810149493), (1633204800, 16436480943725919126), (1633208400, 16415749990953038458), (1633212000, 16420458826824957279), (1633215600, 15731737423953727957), (1633219200, 15872244545524361448), (1633222800, 15688837442870060957), (1633226400, 16383898924832582006), (1633230000, 15696592992913214334), (1633233600, 15663806265333671475), (1633237200, 16356254217469324140), (1633240800, 16355346961237546679), (1633244400, 16375247599944345326), (1633248000, 16406134277801183931), (1633251600, 15701438381310982465), (1633255200, 15724722896829868695), (1633258800, 16683426440344867384), (1633262400, 16690458936282414027), (1633266000, 16694759734850555436), (1633269600, 16695759787337839116), (1633273200, 16662198006032492386), (1633276800, 16662507883805769141), (1633280400, 18022491467248066862), (1633284000, 16687828740856077473), (1633287600, 16699721390170524644), (1633291200, 16883749093208798639), (1633294800, 16188591615678459333), (1633298400, 16875275674922411224), (1633302000, 16884184375314446530), (1633305600, 16175623386534046355), (1633309200, 16189031445869272810), (1633312800, 16176833684488104272), (1633316400, 16344812168581809210), (1633320000, 16358827923031349644), (1633323600, 16191669975972144668), (1633327200, 16385945425612611975), (1633330800, 16193824322930695939), (1633334400, 16358506769421057734), (1633338000, 16216965659835730209), (1633341600, 16216853803366702160), (1633345200, 15987450509602736531), (1633348800, 16225267615198362632), (1633352400, 16098161627212727421), (1633356000, 16030170958848553370), (1633359600, 16030003469217550295), (1633363200, 16099487593581266775), (1633366800, 16798653223155454530), (1633370400, 16962970446949134210), (1633374000, 16801498681212814727), (1633377600, 16122084674779599658), (1633381200, 16120446645980140484), (1633384800, 16193656809552502384), (1633388400, 16120846323059296761), (1633392000, 16801556440286629364), (1633395600, 16123744096712488186), (1633399200, 16125631925083031338), (1633402800, 16189035444585176362), (1633406400, 16198442411576236961), (1633410000, 16198711357588789960), (1633413600, 16125900871095584337), (1633417200, 16123131453894917781), (1633420800, 16966025690082538288), (1633424400, 17033642760794139832), (1633428000, 17034239628417139111), (1633431600, 18214548066866680042), (1633435200, 18203712054216425926), (1633438800, 18208041123898235487), (1633442400, 17048428119838088170), (1633446000, 17048428119838088170), (1633449600, 17037062976696990569), (1633453200, 17039036931594078550), (1633456800, 18222298337137297539), (1633460400, 16352713769900537526), (1633464000, 14814568191562249612), (1633467600, 14812554225237548705), (1633471200, 15371518377114140892), (1633474800, 15371562950552810853), (1633478400, 15371562950552810853), (1633482000, 16458855510673412242), (1633485600, 16456487827982962994), (1633489200, 16434892775011472673), (1633492800, 17035362989636732383), (1633496400, 16467513569586829953), (1633500000, 16465919750099572823), (1633503600, 17030560268653431302), (1633507200, 16332239999371029780), (1633510800, 16223744267320386236), (1633514400, 16399540446196369042), (1633518000, 16403208561133084822), (1633521600, 18431090973649199911), (1633525200, 14839794240230801370), (1633528800, 15170604272057922914), (1633532400, 16309979503993530606), (1633536000, 16390385531074740800), (1633539600, 15260504213873796094), (1633543200, 16394047342610628278), (1633546800, 15253915054323757874), (1633550400, 15261211777334761389), (1633554000, 15310982017303612659), (1633557600, 15456991917943971283), (1633561200, 15298084866798568478), (1633564800, 15684394636145855696), (1633568400, 15853809091524278950), (1633572000, 15678488846179044365), (1633575600, 15669055583530736007), (1633579200, 15754827903718309364), (1633582800, 15754397844534919581), (1633586400, 15754397844534919581), (1633590000, 16636297152122530682), (1633593600, 15447471209447447379), (1633597200, 15630593382319504572), (1633600800, 15666823538776967626), (1633604400, 15529739148289118957), (1633608000, 15531315568173228969), (1633611600, 15456815327385668806), (1633615200, 15797341676654183714), (1633618800, 16689937041465650951), (1633622400, 16689793008510914255), (1633626000, 16690407211090094555), (1633629600, 16689427964331886849), (1633633200, 16689433665025141175), (1633636800, 15469414638197936315), (1633640400, 15256121521569099112), (1633644000, 16749284097635748008), (1633647600, 16806128685248723451), (1633651200, 16749280281421727137), (1633654800, 16749280281421727137), (1633658400, 15618318201161179876), (1633662000, 16030671118084629207), (1633665600, 15789053209778029275), (1633669200, 15799264393436303220), (1633672800, 15799264393436303220), (1633676400, 17667134401444329154), (1633680000, 16096765069655513991), (1633683600, 16261581818963873806), (1633687200, 16473077970472132355), (1633690800, 16473077970472132355), (1633694400, 17686575189864440110), (1633698000, 17793844179341833973), (1633701600, 16426511480617780052), (1633705200, 16637324991535839182), (1633708800, 16424401967026974958), (1633712400, 16646140335364664567), (1633716000, 16450007186017966574), (1633719600, 16690636750569835807), (1633723200, 18706045083178716219), (1633726800, 18402758445147321194), (1633730400, 18396152391174953057), (1633734000, 18630961309873562367), (1633737600, 18392397307507909452), (1633741200, 18638514427884470000), (1633744800, 18637309353010980364), (1633748400, 18395026526866807311), (1633752000, 18340360943287785245), (1633755600, 18345490999904762174), (1633759200, 17803278466320352913), (1633762800, 17803023554010958003), (1633766400, 18373872533436608243), (1633770000, 18381677538002354048), (1633773600, 17812019478484536667), (1633777200, 18019343185088910116), (1633780800, 18016367570492099704), (1633784400, 16806565334320170712), (1633788000, 16810121671329910182), (1633791600, 18240772727794549027), (1633795200, 18811034564706109419), (1633798800, 18241025051934429427), (1633802400, 18241025051934429427), (1633806000, 18177893539629892513), (1633809600, 18783958097304478771), (1633813200, 18772735109444811081), (1633816800, 18765677415181072805), (1633820400, 18763342806032112992), (1633824000, 18746485581654870484), (1633827600, 16945384903204183984), (1633831200, 17027246079568304208), (1633834800, 16849551940968409161), (1633838400, 19080212081769175031), (1633842000, 19076669578775083717), (1633845600, 18229678623830488233), (1633849200, 18800185403856155219), (1633852800, 18795874423821082019), (1633856400, 18809852103903222770), (1633860000, 18810008711242567438), (1633863600, 19084955673821119197), (1633867200, 16867229762368354519), (1633870800, 16654766771556569279), (1633874400, 15648637031626804117), (1633878000, 15648637031626804117), (1633881600, 19737838411670776890), (1633885200, 16001357776640583064), (1633888800, 16046920269437143606), (1633892400, 16047322130889351154), (1633896000, 16046945515182169465), (1633899600, 16700472782428604319), (1633903200, 16567349795502319923), (1633906800, 16359517515865469776), (1633910400, 16498454527261239805), (1633914000, 16532496243138051627), (1633917600, 16726288491921731510), (1633921200, 16036290170130442641), (1633924800, 16036926452188667167), (1633928400, 16032448780064564392), (1633932000, 16032448722216231364), (1633935600, 15357073744838144836), (1633939200, 17245399632706877231), (1633942800, 15399191667462880074), (1633946400, 15227117854882679730), (1633950000, 15470763480132322894), (1633953600, 15226109895155447575), (1633957200, 17121656215252191929), (1633960800, 15273482355468095609), (1633964400, 17072759723382007683), (1633968000, 15225033812040533542), (1633971600, 15468320787302565533), (1633975200, 15460013034983904413), (1633978800, 15597703436056001588), (1633982400, 15881642487473815358), (1633986000, 15891213588351945524), (1633989600, 15891281470716638644), (1633993200, 15580255622984865669), (1633996800, 16688455657807256509), (1634000400, 15890443380906280281), (1634004000, 16690245062021926449), (1634007600, 16542004127019082322), (1634011200, 16690867995632397722), (1634014800, 15844628047056886613), (1634018400, 16617399622316976975), (1634022000, 17716497732175899087), (1634025600, 17876669301714041077), (1634029200, 17462468024830002607), (1634032800, 17505093285283379680), (1634036400, 17565638679374579894), (1634040000, 17302597107946970007), (1634043600, 17835192047038163755), (1634047200, 17661393787084001160), (1634050800, 17814077939246543199), (1634054400, 17013211235192448955), (1634058000, 17828171892801759814), (1634061600, 17828171892801759814), (1634065200, 17697306164043251511), (1634068800, 17696969252395473513), (1634072400, 17717531612542046862), (1634076000, 17881030283695790779), (1634079600, 17881079015904347547), (1634083200, 17057931933999004915), (1634086800, 17057931933999004915), (1634090400, 17057931933999004915), (1634094000, 17885619026507745523), (1634097600, 17069834646092203885), (1634101200, 17731111785078399542), (1634104800, 17596208407309051411), (1634108400, 17503369414159431751), (1634112000, 17510862541494944733), (1634115600, 17508935109732952824), (1634119200, 17635891807924210008), (1634122800, 17666354056992121985), (1634126400, 17672576685565841247), (1634130000, 17671683109671802260), (1634133600, 17951244224215736100), (1634137200, 17948150010043940086), (1634140800, 17949407749792822072), (1634144400, 17109705885360916351), (1634148000, 17108758805133602666), (1634151600, 17120745581192741510), (1634155200, 16589995541771910977), (1634158800, 16160970704324859617), (1634162400, 17993452344844159209), (1634166000, 17993452346267077738), (1634169600, 17985623131431604107), (1634173200, 19832639419112766138), (1634176800, 19832736904497937549), (1634180400, 19404300667833059042), (1634184000, 19390326509498406292), (1634187600, 19390326509498406292), (1634191200, 16598310134711342450), (1634194800, 16576867653251529289), (1634198400, 19369797319009813294), (1634202000, 19361818612135594986), (1634205600, 16334847528016157905), (1634209200, 14993367426840860004), (1634212800, 15568235735981271681), (1634216400, 15498563582919576702), (1634220000, 15201155464756233847), (1634223600, 15107100003420732929), (1634227200, 15425882502093127517), (1634230800, 15147308352487757971), (1634234400, 15437668336466081829), (1634238000, 15456130144408029367), (1634241600, 15456755017479488597), (1634245200, 239819066937423480715), (1634248800, 15458745189463176036), (1634252400, 15463205048025183316), (1634256000, 15596394275649093366), (1634259600, 15593802386584608657), (1634263200, 11201524710510562861), (1634266800, 10972594419568169942), (1634270400, 14961590805110707601), (1634274000, 10993915468528583861), (1634277600, 11178728916953220184), (1634281200, 11309027376787749600), (1634284800, 15689335877066013476), (1634288400, 15381361799163727561), (1634292000, 15387837329341286129), (1634295600, 15387837329341286129), (1634299200, 15390689095501554693), (1634302800, 11568047670564255288), (1634306400, 15525534909946721686), (1634310000, 15526921553504574148), (1634313600, 11397016414283155883), (1634317200, 11398447181172472449), (1634320800, 11362748416976980423), (1634324400, 11463101255353592504), (1634328000, 11380914945378750185), (1634331600, 16554096124670296791), (1634335200, 16146440899324422628), (1634338800, 16146440899324422628), (1634342400, 16146222352650082633), (1634346000, 16130076320137465771), (1634349600, 16135600105603511820), (1634353200, 16136916106393051625), (1634356800, 16149587957324750832), (1634360400, 16149587957324750832), (1634364000, 16171375459905018609), (1634367600, 16150784630180919573), (1634371200, 15730345625389154617), (1634374800, 16444627564416961059), (1634378400, 16426277764591940093), (1634382000, 15654831045114997370), (1634385600, 16138084677117983669), (1634389200, 16160646081843027891), (1634392800, 15709038580964375368), (1634396400, 15634059523373731692), (1634400000, 16048178251559432723), (1634403600, 16096109572562411039), (1634407200, 16122061867962057896), (1634410800, 16126794848099473079), (1634414400, 16289163851543968813), (1634418000, 16289543202009081487), (1634421600, 17372619321282427609), (1634425200, 17223839480869018772), (1634428800, 17390983113737303832), (1634432400, 17223189158889954874), (1634436000, 17223327766074809872), (1634439600, 17218790119949566058), (1634443200, 17232403110008177070), (1634446800, 17261812715489630466), (1634450400, 17322835206182441505), (1634454000, 17241082748409702450), (1634457600, 17242965283474537103), (1634461200, 17242965283474537103), (1634464800, 17296745769331673598), (1634468400, 17401467406966187618), (1634472000, 17405716178476564512), (1634475600, 17389074551374533314), (1634479200, 19640623017904839867), (1634482800, 17414744361361659178), (1634486400, 17415977161882061671), (1634490000, 17356783588284569623), (1634493600, 17356783588284569623), (1634497200, 17482591885490227731), (1634500800, 15595519915630976510), (1634504400, 17512144997876377631), (1634508000, 20206859534507004350), (1634511600, 20077960090168650275), (1634515200, 20061810935027564906), (1634518800, 20061693841757660915), (1634522400, 20062244080384188571), (1634526000, 20080771498182718582), (1634529600, 20082932502811547891), (1634533200, 20075703911955660480), (1634536800, 20079027525422180058), (1634540400, 20278673251252852418), (1634544000, 20434546074929125607), (1634547600, 17385343087443430634), (1634551200, 17386107999020389799), (1634554800, 17566905692281446697), (1634558400, 15643568777338192769), (1634562000, 17680616221272278065), (1634565600, 15444537815634286715), (1634569200, 15574857820405121784), (1634572800, 15607009648219099325), (1634576400, 15607009648219099325), (1634580000, 15606515726830606943), (1634583600, 15608882671318579855), (1634587200, 15610305466584357420), (1634590800, 15577679050670700051), (1634594400, 15633924115403683876), (1634598000, 15632339467183919626), (1634601600, 15581543294037568232), (1634605200, 15445799487727332543), (1634608800, 15434172606516077783), (1634612400, 18480618270998545663), (1634616000, 18445222796446849495), (1634619600, 18439669505523175236), (1634623200, 15394275951851277304), (1634626800, 15411675954492194424), (1634630400, 15401650744996092733), (1634634000, 15415494234214929042), (1634637600, 15427141948728354162), (1634641200, 15292889683093689470), (1634644800, 15323526654122843372), (1634648400, 18366190361329437034), (1634652000, 15324284524963742698), (1634655600, 17901773928642596961), (1634659200, 17797108037826254483), (1634662800, 17833311274262462126), (1634666400, 20876506594307819638), (1634670000, 20881250874687274609), (1634673600, 20886570872325292580), (1634677200, 20880854383629607245), (1634680800, 20471166454954466681), (1634684400, 20612259222183694610), (1634688000, 20614556109987686777), (1634691600, 20616746125289494581), (1634695200, 20609623865411354889), (1634698800, 20607853990144540670), (1634702400, 20636137345906305808), (1634706000, 20647609950311670943), (1634709600, 20649487017810685607), (1634713200, 20655922200793183142), (1634716800, 20673989981030164984), (1634720400, 20662811837387199786), (1634724000, 20958158387766310724), (1634727600, 20954458709179716543), (1634731200, 21249172757294438047), (1634734800, 19864509575196531509), (1634738400, 16100683189330164830), (1634742000, 16394086692656586353), (1634745600, 16295506514809692975), (1634749200, 16894980347280058268), (1634752800, 16637336776456508120), (1634756400, 16650299857287107276), (1634760000, 16674327233601821663), (1634763600, 16657388810114974148), (1634767200, 16657597184403171969), (1634770800, 16600386434507782166), (1634774400, 16305577247740315377), (1634778000, 16314123094595296042), (1634781600, 16312146191243646112), (1634785200, 16358341340604053148), (1634788800, 16378525514605003826), (1634792400, 16359035756372272233), (1634796000, 16564552462665853488), (1634799600, 16458067279256820741), (1634803200, 16448144605207127045), (1634806800, 15548147225159369366), (1634810400, 15554389420628373822), (1634814000, 16570965861883361294), (1634817600, 16852455473913518659), (1634821200, 16658114430632460275), (1634824800, 16991643626735863446), (1634828400, 17245045695331947555), (1634832000, 17246524887656502034), (1634835600, 17273027192150478458), (1634839200, 17273027192150478458), (1634842800, 17212614184484093864), (1634846400, 17219051705255327953), (1634850000, 17085370715731201805), (1634853600, 17098259198838117819), (1634857200, 17362143957124961687), (1634860800, 17025452095053618140), (1634864400, 17039925881875157292), (1634868000, 17039925881875157292), (1634871600, 16974693437949183670), (1634875200, 17020509478837292835), (1634878800, 17219611280666983057), (1634882400, 17231139333535558640), (1634886000, 17219412811820404013), (1634889600, 17217975721824757688), (1634893200, 17228724605929384898), (1634896800, 17423404079651374315), (1634900400, 17346591737181842813), (1634904000, 17346577391297603846), (1634907600, 17643680682429230416), (1634911200, 17849643583654836344), (1634914800, 18105136888216771867), (1634918400, 18101575779096541195), (1634922000, 17752640040162435193), (1634925600, 18146812111348085628), (1634929200, 18146726353070767749), (1634932800, 18364493866383556560), (1634936400, 17679341854441690337), (1634940000, 18266745078928754630), (1634943600, 18268198072071344584), (1634947200, 18296946305307776600), (1634950800, 18296937430766864612), (1634954400, 17862572001352888207), (1634958000, 17818306851675899336), (1634961600, 17372881458670218322), (1634965200, 17830779376323491460), (1634968800, 17830752855915171585), (1634972400, 17848540128050626276), (1634976000, 17876038691792646364), (1634979600, 18369583077352427151), (1634983200, 18367385214133749274), (1634986800, 17370529268657037598), (1634990400, 17384161118824034742), (1634994000, 17479101018303842323), (1634997600, 17507719229943938712), (1635001200, 17515712979345548215), (1635004800, 17522134966785631124), (1635008400, 17542463555368902846), (1635012000, 17440678860506645416), (1635015600, 17543297009461228910), (1635019200, 17543297009461228910), (1635022800, 17565650117600040883), (1635026400, 17569501726098196521), (1635030000, 17491761867609461256), (1635033600, 17491772508373939118), (1635037200, 17544687347582991559), (1635040800, 17524550742563877696), (1635044400, 17524550742563877696), (1635048000, 17569966361955849340), (1635051600, 17571570346722204796), (1635055200, 17585741866636411377), (1635058800, 17591799479665304636), (1635062400, 17604584088850021763), (1635066000, 17604584088850021763), (1635069600, 17612590445365252165), (1635073200, 17648387765687239151), (1635076800, 17635568774969054494), (1635080400, 17633347912531859833), (1635084000, 17636889579999225898), (1635087600, 18187281651123718218), (1635091200, 18189127232767105398), (1635094800, 18190503198253191458), (1635098400, 18584147458571771087), (1635102000, 17643499489823626034), (1635105600, 17639601804785785259), (1635109200, 17585533867769411304), (1635112800, 17585533867769411304), (1635116400, 17590512209167004542), (1635120000, 17406625753370174066), (1635123600, 17520944000274737545), (1635127200, 17508403005310804725), (1635130800, 17512100410883390266), (1635134400, 17512035246621272790), (1635138000, 17514550995128704438), (1635141600, 17494907034342673348), (1635145200, 17467005607989941325), (1635148800, 17485448828035473619), (1635152400, 17547953958661649567), (1635156000, 17719492201513232963), (1635159600, 17847491775050748863), (1635163200, 17848855415869445151), (1635166800, 17812034859308655711), (1635170400, 17867025379747826593), (1635174000, 18158462257592783481), (1635177600, 17218170009978954843), (1635181200, 18177659882486810154), (1635184800, 18191830867573404157), (1635188400, 18182951742710867151), (1635192000, 18179389466391411955), (1635195600, 18177738526311091157), (1635199200, 17671514221027141287), (1635202800, 17671514221027141287), (1635206400, 17323600535712472962), (1635210000, 17319321016819742181), (1635213600, 17323590999840660237), (1635217200, 17323261550348160369), (1635220800, 17792365285275662223), (1635224400, 17792365285275662223), (1635228000, 17792333805404185787), (1635231600, 18284033861072002240), (1635235200, 17657562401699916448), (1635238800, 18262401107294827407), (1635242400, 18261862276481123059), (1635246000, 18261862276481123059), (1635249600, 18261859351986367580), (1635253200, 18261887849147159963), (1635256800, 18669996110111416944), (1635260400, 18970715251344441358), (1635264000, 18669996110111416944), (1635267600, 18197978883792047872), (1635271200, 18197978883792047872), (1635274800, 18202328050787026569), (1635278400, 17260117973932244203), (1635282000, 18290258956922233045), (1635285600, 18786714493237341752), (1635289200, 18707319612873882745), (1635292800, 18557606810539261742), (1635296400, 18460533403311277580), (1635300000, 18760313208139319015), (1635303600, 18251217985424505630), (1635307200, 17025672018497192650), (1635310800, 17268610794272586259), (1635314400, 17269265438304962597), (1635318000, 18560126056146254957), (1635321600, 18744287842264836891), (1635325200, 19195521131744955060), (1635328800, 19197580157103072117), (1635332400, 19196100964778517638), (1635336000, 19197267566753704063), (1635339600, 19208049223327238281), (1635343200, 18699444457988471663), (1635346800, 19215086259125892041), (1635350400, 19215695302908525461), (1635354000, 19215695302908525461), (1635357600, 19209206342850642812), (1635361200, 19377724220579761438), (1635364800, 19378325988249290799), (1635368400, 19387125060738425452), (1635372000, 20079188400887516927), (1635375600, 19176776327428955731), (1635379200, 19176777537747561358), (1635382800, 19396706437076755025), (1635386400, 19398727663744341736), (1635390000, 19399931647484917950), (1635393600, 19396937865511063055), (1635397200, 19265066778087284898), (1635400800, 19313518342756661289), (1635404400, 19144461782029476057), (1635408000, 18678881622466113462), (1635411600, 18653766032918420610), (1635415200, 18653766032918420610), (1635418800, 18804966064396103621), (1635422400, 18952666349402269909), (1635426000, 18853064778247224484), (1635429600, 20581054878064769781), (1635433200, 18638184161660054755), (1635436800, 20581054878064769781), (1635440400, 20074199595914831560), (1635444000, 20582829608769685324), (1635447600, 19164550419209875871), (1635451200, 19165745917233234802), (1635454800, 19165745917233234802), (1635458400, 19165745917233234802), (1635462000, 18922716849199533861), (1635465600, 12425671913568522072), (1635469200, 10809624040218124744), (1635472800, 10803715553383533334), (1635476400, 10787896454023676623), (1635480000, 226540062739153014598), (1635483600, 20933736994591727270), (1635487200, 13013208153395650222), (1635490800, 20942275683135759274), (1635494400, 12841396389811401255), (1635498000, 12842181560266623175), (1635501600, 12829454675177723802), (1635505200, 20947382132245673504), (1635508800, 12834550281474377623), (1635512400, 11313458252176771279), (1635516000, 13064708148992851590), (1635519600, 10290393742680090067), (1635523200, 10213368908185429184), (1635526800, 12093168401089104510), (1635530400, 12621928134243292750), (1635534000, 12614325166979581816), (1635537600, 11912354945805894691), (1635541200, 11912665828973793891), (1635544800, 11914264242091881395), (1635548400, 11914264242091881395), (1635552000, 12620423859468121561), (1635555600, 10744762928894473433), (1635559200, 10744762928894473433), (1635562800, 10759576245429410435), (1635566400, 10643648301896924781), (1635570000, 10645442212111125197), (1635573600, 10645590386629332507), (1635577200, 10698687326542720857), (1635580800, 20959401132739387520), (1635584400, 12630444983297204342), (1635588000, 12629703723765634663), (1635591600, 12646258776373614706), (1635595200, 12646258776373614706), (1635598800, 12471747680788517587), (1635602400, 11220375080028810737), (1635606000, 11012268123063936986), (1635609600, 11012268123063936986), (1635613200, 11487991590140748141), (1635616800, 11487991590140748141), (1635620400, 11327349432882218917), (1635624000, 11465392030908640445), (1635627600, 11011823306802562638), (1635631200, 11013058339560316357), (1635634800, 11464104929212503507), (1635638400, 20898001242474259299), (1635642000, 25504832180020432555), (1635645600, 25668509109058331132), (1635649200, 25688207651161594694), (1635652800, 25688286616045690454), (1635656400, 16415818959049060587), (1635660000, 10052851225320648154), (1635663600, 9917056193105772045), (1635667200, 9793801434864759185), (1635670800, 10167872485905728493), (1635674400, 10170409100671711837), (1635678000, 10541708933581063456), (1635681600, 10547779186733646041), (1635685200, 10710311479126729742), (1635688800, 10431025169826565268), (1635692400, 10431096606986078163), (1635696000, 10421131373271216578), (1635699600, 10422440239706554829), (1635703200, 10421655069251332909), (1635706800, 10098182105477857986), (1635710400, 10098798653011126818), (1635714000, 10367832319275662824), (1635717600, 10397467056708651291), (1635721200, 9922057630051852819), (1635724800, 10399853073430756943), (1635728400, 10404921774508032768), (1635732000, 10442922773681185826), (1635735600, 10454573977130773357), (1635739200, 10398393331824244632), (1635742800, 10396181625392745489), (1635746400, 10396181625392745489), (1635750000, 10378816956989206998), (1635753600, 10387440231801879709), (1635757200, 19407837484769073197), (1635760800, 19409694076680848730), (1635764400, 19407576938988988663), (1635768000, 19386029991483328507), (1635771600, 19383829701097978018), (1635775200, 19406400648424775669), (1635778800, 19410583556000494799), (1635782400, 10435123096463969839), (1635786000, 9934555032890070126), (1635789600, 9936036452036673215), (1635793200, 19387635535912050012), (1635796800, 10612009158844579188), (1635800400, 10605000297425331734), (1635804000, 10654586249641450402), (1635807600, 10654586249641450402), (1635811200, 10660256003100898285), (1635814800, 19434503652695151190), (1635818400, 10660256003100898285), (1635822000, 10613820709391902174), (1635825600, 19366896671286959400), (1635829200, 19366896671286959400), (1635832800, 19366896671286959400), (1635836400, 19387739421919773796), (1635840000, 19448303905820622907), (1635843600, 20243071986567815125), (1635847200, 19616442466896601721), (1635850800, 19656927251219627425), (1635854400, 19616183694528450361), (1635858000, 19908510936675244334), (1635861600, 19908122997430843580), (1635865200, 19639711523669125448), (1635868800, 19682238178895839246), (1635872400, 19675352094606981982), (1635876000, 19675352094606981982), (1635879600, 19676346701038982873), (1635883200, 19129891270922450367), (1635886800, 19095503787038011898), (1635890400, 19095505913993753697), (1635894000, 16671348263009445850), (1635897600, 16199259558094508283), (1635901200, 16298714959541727982), (1635904800, 16644559013133685042), (1635908400, 16549634368813774253), (1635912000, 19953278655295269288), (1635915600, 20399416151393055771), (1635919200, 20908845555742526375), (1635922800, 17199559448295074957), (1635926400, 17199369941825691477), (1635930000, 17234720210875156899), (1635933600, 17747669873023522609), (1635937200, 17855244271108794480), (1635940800, 21125737150851838040), (1635944400, 21634513828463378092), (1635948000, 21635752790512611615), (1635951600, 20925443098826266547), (1635955200, 21213952893051064896), (1635958800, 21218517162651200966), (1635962400, 17378941784492378257), (1635966000, 17343205179587921601), (1635969600, 17343646493298003626), (1635973200, 17795009565830173355), (1635976800, 17794918064820598002), (1635980400, 17796119299789700674), (1635984000, 18011990975819415472), (1635987600, 18055195688089209669), (1635991200, 18055368479112393681), (1635994800, 21082284202144172052), (1635998400, 17826185371070052793), (1636002000, 21088010222168196579), (1636005600, 21090888128118713529), (1636009200, 20991532318624759235), (1636012800, 21094576553774913737), (1636016400, 20990007929244121644), (1636020000, 20990007929244121644);
 update hour_kline set pair = '0x8ad599c3A0ff1De082011EFDDc58f1908eb6e6D8';
+CREATE UNIQUE INDEX `uk_hour_kline_pair_ts` ON `hour_kline` (`pair`, `ts`);
 
 CREATE TABLE `swap_record` (
                          `id` bigint(20) NOT NULL AUTO_INCREMENT,
@@ -38,6 +39,7 @@ CREATE TABLE `swap_record` (
                          `tick` bigint(20) NOT NULL,
                          `block_number` bigint(20) NOT NULL,
                          `gas_price` decimal(64,0) NOT NULL,
+                         `log_index` int(11) NOT NULL DEFAULT '0',
                          PRIMARY KEY (`id`)
 );
 
@@ -52,3 +54,10 @@ INSERT INTO `swap_record` (`ts`, `amount0`, `amount1`, `tick`, `block_number`, `
 INSERT INTO `swap_record` (`ts`, `amount0`, `amount1`, `tick`, `block_number`, `gas_price`) VALUES (1634829709, -236776.284348, 57.93732839, 193136, 13461786, 77951448560), (1634829732, -10000, 2.447477913127526, 193137, 13461787, 88849134473), (1634829810, -498649.157975, 122.1, 193146, 13461789, 110761298424), (1634829816, 6946.849414, -1.6916334327364713, 193146, 13461790, 103156708049), (1634829816, -17339.810588, 4.247841541140076, 193146, 13461790, 103561808147), (1634830112, -50059.159913, 12.2639, 193147, 13461810, 133000000000), (1634830135, -443555.456431, 108.71447681607266, 193155, 13461813, 120000000000), (1634830178, -57842.569486, 14.197825331172265, 193166, 13461814, 101071722435), (1634830178, -554896.595112, 136.12718477421117, 193165, 13461814, 99071722435), (1634830190, -32583.724052, 8, 193168, 13461816, 120000000000), (1634830190, -50338.718231, 12.3583, 193168, 13461816, 158020851838), (1634830190, -50343.318464, 12.3583, 193167, 13461816, 800485714802), (1634830219, -832033.098149, 204.44233441408514, 193183, 13461817, 110305844084), (1634830219, -252077.386853, 62, 193188, 13461817, 111805844084), (1634830225, -602614.727013, 148.332, 193199, 13461818, 145337597311), (1634830278, -350364.268034, 86.316, 193205, 13461819, 160630008018), (1634830291, -81149.870699, 20, 193207, 13461820, 144922411846), (1634830363, -10449.42636, 2.575555111535365, 193207, 13461828, 108916840258), (1634830388, -135896.575661, 33.49999999989948, 193210, 13461830, 1131032706234), (1634830388, -291962.39262, 72, 193215, 13461830, 110722852706), (1634830434, -312103.228989, 77.06420825942091, 193228, 13461834, 97326488963), (1634830434, -391316.532031, 96.56154211853273, 193222, 13461834, 91942032273), (1634830476, -11976.698398, 2.9602572142974735, 193235, 13461839, 95950345953), (1634830476, -72819.313091, 18, 193236, 13461839, 95780931573), (1634830476, -390789.745366, 96.55526738, 193235, 13461839, 145337697311), (1634830521, -99273.421463, 24.57834007243511, 193253, 13461844, 94087207246), (1634830521, -4038.680345, 1, 193253, 13461844, 93272079271), (1634830521, -789059.279198, 195.19878889637602, 193251, 13461844, 142766272470), (1634830561, -403717.690824, 100, 193260, 13461848, 86791919685), (1634830635, -11098.032687, 2.75, 193260, 13461856, 85369135861), (1634830810, 223679.782397, -55.014274423179735, 193244, 13461868, 97040000000), (1634830810, 688852.57558, -169.56472514278363, 193248, 13461868, 80216615052), (1634830972, 3985.987089, -0.9801546775195754, 193244, 13461880, 92445280319), (1634831005, 169411.302169, -41.65169021680061, 193240, 13461885, 86109521705), (1634831140, 299910.026992, -73.70482347067095, 193235, 13461888, 391172640644), (1634831148, 1524106.877205, -373.93889238065805, 193207, 13461889, 125671589780), (1634831275, 337783.585518, -82.7350083086594, 193201, 13461895, 124344059614), (1634831333, 349057.493127, -85.44313202007235, 193195, 13461896, 139873824919), (1634831369, 305385.522327, -74.70870127607628, 193189, 13461899, 145770039666), (1634831581, 305420.861824, -74.67603337659025, 193184, 13461920, 110871719095), (1634831600, 480823.437399, -117.47868892036801, 193175, 13461923, 94778072210), (1634831601, 170106.632821, -41.53735880523423, 193172, 13461924, 88973655032), (1634831633, 167890.276921, -40.98362536871437, 193169, 13461929, 101162366375), (1634831724, 8506.3481, -2.0761497537169107, 193169, 13461934, 144000000000), (1634831745, 137340.115541, -33.5162670020431, 193166, 13461935, 108097598255), (1634831974, -1497.580407, 0.36762471911011096, 193166, 13461956, 81400000000), (1634832153, 629780.075466, -153.58438850249496, 193155, 13461971, 128267775294), (1634832216, 252442.403658, -61.35498656590838, 193124, 13461973, 555000000000), (1634832216, 1422766.245711, -346.32586052303446, 193129, 13461973, 162280815706), (1634832621, 890166.524479, -216.1247562070717, 193108, 13462003, 230954134173), (1634832668, 30134.457765, -7.310225530548203, 193108, 13462007, 251606275783), (1634832768, 301737.658293, -73.17539020807342, 193102, 13462015, 274152097927), (1634833157, 17743.70333, -4.301826222197578, 193102, 13462046, 185449219362), (1634833352, 88760.405385, -21.51719059545217, 193100, 13462059, 182024885412), (1634833417, 202041.18153, -48.965555930480136, 193096, 13462065, 163936177050), (1634833651, 404213.0405, -97.90849492020051, 193089, 13462080, 849502398924), (1634834579, -887920.489626, 216.46466381546705, 193105, 13462154, 179573296449), (1634834681, -3825.199896, 0.9333021839141153, 193105, 13462162, 146709718707), (1634834778, -2530.759473, 0.6174780880463265, 193105, 13462168, 140731258063), (1634834824, -1674747.345266, 409.25018447311083, 193136, 13462173, 125258836528), (1634834890, -653627.773131, 160.06520337017002, 193148, 13462180, 132026655283), (1634834970, -584555.400406, 143.31105950582864, 193159, 13462185, 151880480987), (1634835416, -828710.839783, 203.4293684965423, 193174, 13462214, 190418761315), (1634835462, -1396715.616097, 343.55468220477644, 193199, 13462219, 160254009703), (1634835625, -857565.018717, 211.37069436166038, 193215, 13462233, 166138101429), (1634835695, 1695667.926961, -415.1260694209797, 193184, 13462239, 167611273934), (1634835695, 20455.315986, -5, 193184, 13462239, 169611273934), (1634836209, 477483.421716, -116.66086909999139, 193175, 13462276, 139277474554), (1634836235, 449972.75217, -109.84653482169631, 193167, 13462277, 154984800002), (1634836317, 205838.638565, -50.21900183033292, 193163, 13462284, 123604368239), (1634836595, 1025147.61829, -249.82909092405257, 193144, 13462311, 105353576548), (1634836745, 15705.906279, -3.823929830581215, 193144, 13462320, 114480383263), (1634836803, 661577.523885, -160.97552772331173, 193132, 13462324, 117005816558), (1634836860, 7988.003025, -1.9424538499327642, 193132, 13462331, 101000000000), (1634837074, 540806.183257, -131.4423316210884, 193122, 13462345, 107784443202), (1634837133, 16000.805731, -3.886989630603695, 193122, 13462350, 119603954490), (1634837423, -120551.246376, 29.476189109216264, 193128, 13462376, 223742574731), (1634837423, -220726.290767, 53.95319695752412, 193126, 13462376, 245541608781), (1634837431, -433121.977815, 105.95742283443647, 193136, 13462377, 959903992706), (1634837453, -93685.385092, 22.92998751162814, 193138, 13462378, 91719004076), (1634837453, -1044306.153806, 255.86478559537716, 193157, 13462378, 93890492032), (1634837677, -326111.690506, 80, 193163, 13462401, 84000000000), (1634838086, -209073.751552, 51.313835889935795, 193166, 13462425, 95774212835), (1634838105, -414462.645589, 101.78099357637247, 193174, 13462427, 85628719089), (1634838169, -126173.10672, 31, 193176, 13462432, 101100111988), (1634838438, -765173.604473, 188.151306617658, 193190, 13462459, 76272853422), (1634838521, -290842.254381, 71.63567454347817, 193203, 13462463, 87258347232), (1634838521, -388261.384157, 95.57130850043818, 193197, 13462463, 85258347231), (1634838807, -484341.792139, 119.37941471097274, 193211, 13462480, 89462051597), (1634838843, -429810.519685, 106.02662015992122, 193219, 13462483, 429862976477), (1634838853, -627953.589496, 155.05387517449742, 193231, 13462485, 79584685685), (1634838880, -25000, 6.176645491208921, 193231, 13462488, 85681234804), (1634838904, -800000, 197.80092896589335, 193246, 13462489, 732050000000), (1634838959, -14394.979818, 3.5618111779915584, 193246, 13462493, 101861543380), (1634839262, 3130.036614, -0.769846285892627, 193246, 13462514, 110603243549), (1634839430, 250000, -61.47449332574798, 193241, 13462522, 158981683497), (1634839544, 749775.06748, -184.20121407757455, 193228, 13462532, 952498233220), (1634839595, 1171081.808147, -287.2058441236953, 193206, 13462534, 107702668975), (1634839724, 474361.144923, -116.16314009287814, 193198, 13462542, 113302808347), (1634839731, 362236.40914, -88.63841814406456, 193191, 13462543, 104276885694), (1634839829, 437520.886789, -106.98270622111555, 193183, 13462553, 82644885543), (1634839829, 126843.792296, -31, 193181, 13462553, 100000000000), (1634840060, 5320, -1.3000260571143911, 193181, 13462566, 97906278668), (1634840162, 690555.285896, -168.64167931813432, 193168, 13462571, 107321336314), (1634840282, 184061.737405, -44.9144081364328, 193165, 13462580, 100154391555), (1634840322, 2902.056375, -0.7080345196026081, 193165, 13462584, 86000000000), (1634840339, 349327.798057, -85.20069795030346, 193159, 13462586, 79750398140), (1634840372, 189697.356973, -46.244408697394285, 193155, 13462591, 75188249162), (1634840923, 606756.853221, -147.80851284596605, 193144, 13462630, 78396768347), (1634840967, 1809.980916, -0.4406760660850719, 193144, 13462631, 89510282001), (1634841568, -579829.425469, 142.0964944809826, 193155, 13462676, 97580695857), (1634841665, -53832.048867, 13.2, 193156, 13462683, 89993383540), (1634841743, -4077.971001, 1, 193156, 13462687, 99080703735), (1634841907, -130479.12186, 32, 193158, 13462699, 78313289976), (1634841911, -2244.392251, 0.5505034902920225, 193158, 13462700, 89599237217), (1634842016, -648305.163271, 159.11002619741245, 193170, 13462707, 81139762443), (1634842310, -489821.612094, 120.33869344524852, 193179, 13462733, 76198350025), (1634842406, -429763.36296, 105.672, 193187, 13462740, 122000000000), (1634842632, -1299677.067588, 320.0731269387353, 193210, 13462751, 107870158034), (1634842661, -5149.455211, 1.2696664173845544, 193210, 13462753, 110044328779), (1634842821, 14557.729112, -3.567866586733515, 193210, 13462761, 120157830892), (1634842989, 1207423.95219, -295.5931198550559, 193188, 13462773, 114244888183), (1634843079, 63101.435027, -15.430264474439399, 193187, 13462779, 132409651339), (1634843125, 4005, -0.9792875157343369, 193187, 13462780, 146349137181), (1634843177, 1821048.353984, -444.539967234179, 193154, 13462788, 105985091360), (1634844514, 334720.259903, -81.54980396838405, 193148, 13462884, 640558665960), (1634844549, 547277.839247, -133.22997894581044, 193138, 13462885, 104732749154), (1634844675, 176389.50341, -42.91217621836696, 193135, 13462892, 106076559042), (1634844697, 57026.324343, -13.870435950928481, 193134, 13462894, 111824378342), (1634844837, 634468.033937, -154.2228975696533, 193122, 13462906, 131414622174), (1634844838, 16000, -3.8868684027703346, 193122, 13462907, 118691092085), (1634845761, -235444.505838, 57.55271672012784, 193126, 13462980, 110239898750), (1634845837, -722427.389987, 176.74797851713873, 193140, 13462984, 104909862174), (1634845894, -2057586.38665, 504.6834381104187, 193177, 13462988, 94067821011), (1634846666, -210350.564019, 51.70107623980635, 193181, 13463054, 87504810135), (1634846691, -6004.059687, 1.476, 193181, 13463056, 90200000000), (1634846717, -191266.40738, 47.028159999628734, 193184, 13463057, 92047724648), (1634847100, -26441.920665, 6.502768446879161, 193185, 13463080, 100000000000), (1634847165, -3506.91502, 0.8624667604108951, 193185, 13463086, 91000000000), (1634847258, 5764.615508, -1.4092138451111675, 193185, 13463097, 73300600872), (1634847564, -275493.527808, 67.76949136124986, 193190, 13463122, 62313862351), (1634847876, 763513.598328, -186.61135052699385, 193176, 13463141, 88981778562), (1634847970, 1506.993728, -0.36807083865038825, 193176, 13463143, 111116778453), (1634848033, -697825.254385, 171.573971941125, 193189, 13463145, 134741039607), (1634848259, -298318.991506, 73.41405145036626, 193194, 13463162, 90076191300), (1634848818, 3178.589161, -0.7777493414459143, 193194, 13463198, 73830325490), (1634848959, -10084.644568, 2.482437179398695, 193194, 13463204, 95324146262), (1634849069, 108973.032594, -26.661714180061033, 193192, 13463213, 91038040472), (1634849214, 203147.759226, -49.68875140834196, 193188, 13463223, 91542353880), (1634849225, 417705.582897, -102.11081750008647, 193181, 13463224, 80082816409), (1634849260, 261760.889824, -63.94971658851666, 193176, 13463226, 91788998175), (1634849490, 381967.391128, -93.26243899459665, 193169, 13463249, 67376930999), (1634849655, 209209.029607, -51.05382553575, 193165, 13463262, 74679372583), (1634849714, 408913.754157, -99.73244180007143, 193158, 13463265, 85741603679), (1634849714, 1222, -0.29793027176769843, 193158, 13463265, 87241603679), (1634849987, 4052.704276, -0.9880667101011884, 193158, 13463286, 77699853539), (1634850000, 75980.296316, -18.522980331675317, 193157, 13463287, 76326724046), (1634850340, 6471.667779, -1.5775882252508686, 193156, 13463315, 116409714087), (1634850340, 2404.153314, -0.5860519064747644, 193156, 13463315, 116409714087), (1634850355, 9289.443756, -2.2644305159160596, 193156, 13463316, 121411092345), (1634850413, 265124.449211, -64.6115748925853, 193151, 13463319, 117815432759), (1634850426, 48001.755797, -11.694821353076088, 193151, 13463320, 117524177105), (1634850491, 651186.440496, -158.54949587288314, 193139, 13463328, 93183397288), (1634850556, 1000, -0.2433329735268325, 193139, 13463329, 106319389876), (1634850881, 233091.655956, -56.70670614246393, 193134, 13463355, 102293619260), (1634851243, 21851.620171, -5.314834698483721, 193134, 13463378, 149242442649), (1634851262, 528161.955898, -128.39679160841976, 193124, 13463379, 100581731215), (1634851406, 675251.789125, -163.97349404151356, 193112, 13463383, 144000000000), (1634851595, 1195.397339, -0.2901021344642225, 193112, 13463394, 111167106828), (1634852411, -317732.295124, 77.5954121329868, 193118, 13463465, 76364540748), (1634852435, -685023.767446, 167.4483006106144, 193130, 13463468, 67690843767), (1634852652, -859614.011592, 210.42403891509008, 193146, 13463484, 88320152121), (1634852856, -11886.30189, 2.9119604567181803, 193146, 13463498, 77094499643), (1634852880, -7266.31892, 1.7801671420533556, 193146, 13463501, 118000000000), (1634852921, -1632.704786, 0.4, 193146, 13463503, 75536418774), (1634852921, -3102.152529, 0.76, 193146, 13463503, 75711018774), (1634852964, 9997.339504, -2.4345784401639436, 193146, 13463505, 78797458651), (1634853022, -410138.786609, 100.51684790642241, 193154, 13463508, 1042827089593), (1634853034, -293699.003801, 72.02614854164273, 193159, 13463509, 458409803943), (1634853067, 9997.326692, -2.437668768708692, 193159, 13463513, 76811794572), (1634853127, 500, -0.12191486245594595, 193159, 13463521, 56867886463), (1634853127, -183445.021703, 45, 193159, 13463521, 56867886463), (1634853325, -413290.155863, 101.42299208703538, 193167, 13463531, 77224904503), (1634853349, -172060.846218, 42.24702842561226, 193170, 13463532, 82954015744), (1634853351, -1221.625884, 0.3, 193170, 13463533, 73659032450), (1634853354, -171992.463808, 42.24364124777391, 193173, 13463534, 67612968624), (1634853792, 733072.184775, -178.88204596784448, 193160, 13463570, 85085160954), (1634853811, 349888.610981, -85.2944, 193154, 13463571, 126984888945), (1634853839, 494.59, -0.12053056529882265, 193154, 13463576, 73965224790), (1634853851, 22054.062984, -5.374419208443279, 193153, 13463578, 66468385003), (1634854241, -5086.035583, 1.2468818054259636, 193153, 13463607, 75374804761), (1634854391, -10418.433098, 2.5541974015663076, 193153, 13463623, 68476971350), (1634854517, -4930.355583, 1.208749729568795, 193154, 13463632, 70417469479), (1634854532, 4997.574394, -1.2178890092756491, 193153, 13463633, 71807019160), (1634854885, 5667.761264, -1.3811974533258782, 193153, 13463670, 59760312510), (1634855345, 536063.706162, -130.57083606453216, 193144, 13463698, 79638636496), (1634856186, -31131.512848, 7.625, 193144, 13463766, 93401612701), (1634856261, -222803.845742, 54.58371552786219, 193148, 13463772, 66817910907), (1634856261, -138494.129205, 33.94026218893688, 193151, 13463772, 68317910908), (1634856261, -9839.173354, 2.4115780838165812, 193151, 13463772, 68317910907), (1634856283, -10888.047672, 2.6687073932274172, 193151, 13463774, 218023178602), (1634856334, -2039.923713, 0.5, 193151, 13463778, 74800000000), (1634856380, -13492.999582, 3.3072783780459227, 193151, 13463786, 82000000000), (1634856535, -36780.161716, 9.015625, 193152, 13463795, 103748943396), (1634856585, -192080.632739, 47.093032367046916, 193156, 13463800, 71012159574), (1634856668, -51352.103804, 12.592964656059605, 193157, 13463807, 160000000000), (1634856765, -6116.24693, 1.5, 193157, 13463808, 85598769800), (1634856765, -17221.950362, 4.223566262401408, 193157, 13463808, 85598769800), (1634856841, -4954.79059, 1.2151669512753487, 193157, 13463812, 94680446025), (1634856846, -61319.036808, 15.039461734405657, 193158, 13463813, 83992320157), (1634856846, 399.047551, -0.0972917761751285, 193158, 13463813, 83992320157), (1634857013, -273687.810595, 67.14677922079846, 193163, 13463820, 89455304355), (1634857013, -4129.476318, 1.0133864051880028, 193163, 13463820, 89253304354), (1634857049, -202182.628764, 49.65538268241783, 193173, 13463824, 85353481056), (1634857049, -327661.942951, 80.43367965378836, 193169, 13463824, 83334215882), (1634857096, -9227.470909, 2.26737252583151, 193176, 13463826, 93311809791), (1634857096, -168131.779621, 41.30660483611685, 193176, 13463826, 91811809791), (1634857134, -820.820944, 0.20190394598000796, 193187, 13463828, 93500000000), (1634857134, -568556.233702, 139.77946787685008, 193187, 13463828, 86920868606), (1634857143, -12123.305442, 2.982102545269867, 193187, 13463830, 78019792185), (1634857182, -389, 0.0956876975278136, 193187, 13463833, 76946825851), (1634857256, -8130.553344, 2, 193187, 13463839, 85880086531), (1634857568, -2032.619419, 0.5, 193187, 13463867, 77078793938), (1634857627, -10894.711223, 2.68, 193187, 13463869, 83488921539), (1634857689, -2539.326407, 0.624658908615472, 193187, 13463876, 87000000000), (1634857721, 5107.49487, -1.248882701746372, 193187, 13463879, 61000000000), (1634857770, -8130.277964, 2, 193187, 13463881, 76000000000), (1634858468, -5778.554599, 1.4215081364645286, 193187, 13463935, 64900000000), (1634858490, -161688.940339, 39.781118992688306, 193190, 13463938, 58630084680), (1634858526, -198234.579083, 48.78868808529288, 193194, 13463940, 90000000000), (1634858544, -142311.072805, 35.03594081642105, 193197, 13463941, 69846722646), (1634858573, -60916.560861, 15, 193198, 13463945, 61049746363), (1634858624, -169024.319808, 41.629033130077666, 193201, 13463950, 52288490507), (1634858648, -179437.619875, 44.207667820029634, 193204, 13463953, 55573855663), (1634858664, -374184.514797, 92.23317293381209, 193211, 13463955, 356656943722), (1634858709, -1000, 0.24657473095525356, 193211, 13463957, 63666560160), (1634858721, -402495.526925, 99.28142935311823, 193218, 13463958, 70777669064), (1634858728, -1364462.445784, 337.102993822876, 193243, 13463959, 64877551026), (1634858728, -10429.861132, 2.58, 193243, 13463959, 66877551026), (1634858791, 1000, -0.24588679415832265, 193243, 13463964, 65346649277), (1634858871, 4953.657552, -1.2180324302520176, 193243, 13463968, 72167357629), (1634859381, 4837, -1.1893375281082914, 193243, 13464007, 70483973921), (1634859440, 129259.834299, -31.77899179359364, 193241, 13464013, 60375536352), (1634859452, 4100, -1.0078784286248277, 193240, 13464014, 64693558574), (1634859480, 842199.250744, -206.87492835363244, 193225, 13464019, 48187063284), (1634859514, 67537.4949, -16.576080728747115, 193224, 13464020, 76000000000), (1634859930, 256.619021, -0.06297950176661667, 193224, 13464055, 61738430897), (1634860068, 1150.481852, -0.282351175413201, 193224, 13464067, 54939583742), (1634860138, 2327.720377, -0.5712671814776591, 193224, 13464070, 69447655823), (1634860138, 10376.396128, -2.546537283592148, 193224, 13464070, 68517655823), (1634860992, 807836.444332, -198.11023331917406, 193209, 13464137, 67209092187), (1634861015, 101976.250188, -24.987722136087697, 193207, 13464139, 70863827694), (1634861032, 171495.251855, -42.01194800812999, 193204, 13464143, 57376243064), (1634861078, 528485.078987, -129.3835855115755, 193195, 13464149, 53665103080), (1634861114, 946000.087266, -231.2887242831415, 193177, 13464152, 55842309619), (1634861281, 235583.661136, -57.53613834991176, 193173, 13464165, 70808124626), (1634861324, 299459.939313, -73.10087807777393, 193168, 13464166, 81657699849), (1634861324, 7200, -1.7570942031384955, 193168, 13464166, 81157699848), (1634861477, 1258.110904, -0.30702810372923234, 193168, 13464179, 89000000000), (1634861517, 2779.682241, -0.6783483287182047, 193168, 13464180, 76000000000), (1634861591, -470177.328295, 115.482039599625, 193176, 13464186, 69889062927), (1634861598, -142251.474188, 34.95848240396369, 193179, 13464187, 65479782083), (1634861623, -166687.35711, 40.97520070984473, 193182, 13464191, 58680499115), (1634861896, -555711.979091, 136.69575753955237, 193192, 13464217, 65764140446), (1634861902, -95033.241788, 23.39048618496381, 193194, 13464218, 62229269822), (1634862043, 13058.346215, -3.1950288198544308, 193193, 13464229, 67178479309), (1634862271, 21062.345534, -5.149811730125319, 193186, 13464245, 106992236509), (1634862271, 364384.083891, -89.12439442348278, 193187, 13464245, 105492236509), (1634862370, 414389.04722, -101.27927414589298, 193179, 13464250, 1102711974022), (1634862583, 390139.260999, -95.28261757672111, 193172, 13464268, 498936986873), (1634862647, 465004.691726, -113.47839333348003, 193163, 13464276, 1149286025627), (1634862716, 472326.074428, -115.16678128776796, 193155, 13464280, 1444023514526), (1634862755, 480524.871566, -117.06435341101164, 193146, 13464285, 1130524534534), (1634862856, 1219908.351154, -296.73111162346925, 193124, 13464294, 869350569851), (1634863268, 312183.403334, -75.82936639684233, 193118, 13464317, 202495950415), (1634863338, 160000.000047, -38.84724054370818, 193115, 13464322, 176007686432), (1634863350, 10000, -2.4275753760692016, 193115, 13464323, 170382941452), (1634864366, 946.901245, -0.2298651150506267, 193115, 13464405, 91063327834), (1634864536, 3115, -0.7561793589416536, 193115, 13464416, 89100000000), (1634864563, -23930.404835, 5.841278162562423, 193110, 13464420, 110000000000), (1634864563, 285914.477126, -69.3886167292052, 193110, 13464420, 201552302456), (1634864594, 447724.372385, -108.59024714108382, 193102, 13464422, 78193416331), (1634864658, 160919.472712, -39.00742448433544, 193099, 13464427, 76070191977), (1634864700, 1038.927926, -0.25180240303940093, 193099, 13464430, 90925992386), (1634864795, 81274.031469, -19.663224248544523, 193080, 13464435, 96169935430), (1634864795, 932366.003642, -225.7828803075844, 193082, 13464435, 91169935430), (1634865057, 759201.161573, -183.53834110695192, 193066, 13464455, 77932095523), (1634865105, 15385.617785, -3.7168181109246925, 193066, 13464461, 65230133679), (1634865105, 8389.306005, -2.026710989713301, 193066, 13464461, 65320133679), (1634865234, 893107.737, -215.576050906004, 193050, 13464471, 155000000000), (1634865584, 700000, -168.71905347053755, 193037, 13464501, 133000000000), (1634865861, 30.493525, -0.007345083681814876, 193037, 13464518, 78197715124), (1634866739, 2297.731361, -0.5534615486376718, 193037, 13464579, 81093631529), (1634866930, -328198.97643, 79.55443836751992, 193043, 13464592, 281804230300), (1634866959, -169249.572547, 41.04423384610084, 193046, 13464596, 68886422353), (1634867037, -28797.850198, 6.984948950882688, 193047, 13464602, 64393563581), (1634867407, -219488.831765, 53.24932854948447, 193051, 13464632, 63250095103), (1634867418, -337171.614048, 81.84151815873314, 193057, 13464633, 593390484536), (1634867435, -60462.317799, 14.68188708651687, 193058, 13464634, 66078045401), (1634867435, -20850, 5.0625679049356505, 193057, 13464634, 66508045401), (1634867460, -182259.408718, 44.26734028964602, 193062, 13464636, 64451406657), (1634867481, -215140.465027, 52.2725156344971, 193066, 13464637, 67198669455), (1634867499, -206693.503448, 50.23954350372085, 193069, 13464638, 95013696068), (1634867524, -269264.051484, 65.47663239900639, 193074, 13464640, 308798120204), (1634867552, -188123.977496, 45.76504213416518, 193078, 13464642, 66843157526), (1634867612, -597.263225, 0.1453217075025073, 193078, 13464648, 80000000000), (1634867759, -1967.587327, 0.47933456615597475, 193090, 13464653, 74839100418), (1634867759, -678367.293947, 165.1579120405912, 193090, 13464653, 73339100418), (1634867846, -259701.923283, 63.28253718348389, 193095, 13464660, 69307824910), (1634867993, -3281.948193, 0.8, 193096, 13464672, 74051270581), (1634867993, -56682.17903, 13.815957182998048, 193096, 13464672, 74051270581), (1634868023, -13000, 3.1688967361597773, 193096, 13464676, 60374196453), (1634868025, -144417.926791, 35.208570391633984, 193099, 13464677, 65047593681), (1634868065, 774.161649, -0.18763175177554364, 193099, 13464681, 64722683779), (1634868189, -13521.134628, 3.2968756501725953, 193099, 13464694, 57751550259), (1634868711, 1000, -0.24237327066686282, 193099, 13464739, 72069426227), (1634869081, 1102.091572, -0.2671170265684457, 193099, 13464767, 69612847036), (1634869224, 24019.41806, -5.821520335645085, 193099, 13464784, 58022942737), (1634869332, -2649.85968, 0.6460974619467917, 193099, 13464792, 62743913165), (1634869616, 2197.908986, -0.5326910025035496, 193099, 13464811, 76000000000), (1634869655, 2881.920812, -0.6984666707875243, 193099, 13464815, 79200000000), (1634869655, 5000, -1.2117988216373343, 193098, 13464815, 54676814698), (1634869731, 1500, -0.3635374908638213, 193098, 13464817, 68796569856), (1634869869, 1020.089876, -0.24722670753784037, 193098, 13464826, 84159939447), (1634869908, 500, -0.12117871700315506, 193098, 13464830, 58533876173), (1634869918, 9308.522698, -2.2559694895026983, 193098, 13464831, 87000000000), (1634870130, 24775.77675, -6.0043532583715935, 193098, 13464843, 74000000000), (1634870171, -11332.203785, 2.762852520477396, 193098, 13464846, 74800000000), (1634870511, -8344.705153, 2.0345208384718227, 193098, 13464880, 49279703373), (1634870617, -5202.981118, 1.2685534753822831, 193098, 13464887, 63594154213), (1634870750, -3365.394498, 0.8205327407399492, 193098, 13464898, 69929414867), (1634870891, -846.205461, 0.2063181485500511, 193098, 13464907, 62118745942), (1634871402, 2492.528402, -0.6040757322132828, 193098, 13464942, 59045671531), (1634872049, 687606.754374, -166.5398503829572, 193086, 13464983, 76299315446), (1634872064, 31300.398917, -7.57605763265258, 193085, 13464985, 75843256917), (1634872138, 400064, -96.7948289117533, 193078, 13464992, 63741069717), (1634872216, 1864.748171, -0.4510074967603359, 193078, 13464996, 76000000000), (1634872287, -7536.754284, 1.8311972799613105, 193064, 13465001, 71376034889), (1634872287, 789045.935862, -190.70090548717943, 193063, 13465001, 394748322807), (1634872725, 422375.109804, -101.97066504034689, 193056, 13465031, 80801310830), (1634872904, 10000, -2.4132695059997835, 193056, 13465044, 60657223740), (1634873265, -29578.504187, 7.181240937612494, 193056, 13465070, 57395069817), (1634873387, 994.589823, -0.2400319000086423, 193056, 13465075, 79064899934), (1634873391, 301625.720982, -72.77355695246314, 193051, 13465076, 75037969638), (1634873471, 1201861.154586, -289.57765327948096, 193029, 13465077, 82165634868), (1634873525, 200, -0.04813550226509851, 193029, 13465078, 93844508036), (1634873660, 348758.7017, -83.9117350720377, 193023, 13465089, 73100000000), (1634874264, 715206.23114, -171.91280674104465, 193009, 13465151, 47028672658), (1634874377, 2048.167889, -0.491992467344843, 193009, 13465160, 53472014645), (1634874508, 4984.844886, -1.1974069229323223, 193009, 13465168, 61107204075), (1634875314, 631877.723814, -151.6949337624031, 192998, 13465224, 52372431743), (1634876768, 3690.626336, -0.8854958721125223, 192998, 13465314, 70654049497), (1634877694, -51295.129148, 12.382009236206212, 192999, 13465397, 60774651116), (1634878122, -52218.992171, 12.606207675512815, 193000, 13465433, 59707523557), (1634878150, -1384.709851, 0.33429968945758837, 193000, 13465434, 67686350036), (1634878341, -5798.931795, 1.4, 193000, 13465447, 61104811193), (1634878358, -384.611998, 0.09285500363690807, 193000, 13465448, 67222208395), (1634878358, -5552.623029, 1.3405500189458195, 193000, 13465448, 66722208395), (1634878358, -3045.489712, 0.73526750643837, 193000, 13465448, 66722208395), (1634879317, -216575.604502, 52.297952217654945, 193004, 13465504, 87407408060), (1634879419, -500, 0.12076221135394496, 193004, 13465512, 73089547950), (1634879488, -600, 0.1449147988915986, 193004, 13465516, 86308966180), (1634879501, -201466.315678, 48.66804450344397, 193008, 13465518, 91000000000), (1634879543, -19866.080736, 4.8, 193008, 13465521, 72458221454), (1634880060, -551676.23215, 133.36420140170065, 193018, 13465554, 75285099524), (1634880218, -559704.872631, 135.4415730880942, 193028, 13465566, 57662999574), (1634880218, -250101.23875, 60.5656, 193033, 13465566, 85490561283), (1634880251, -1521.269104, 0.3684807649063323, 193033, 13465568, 74074305545), (1634880392, -199501.559559, 48.33189870541277, 193036, 13465577, 73407506006), (1634880552, 600, -0.14451305518852495, 193036, 13465594, 66737037419), (1634881490, -2980.771579, 0.7222626321221007, 193036, 13465654, 61950019137), (1634881676, 53.37624, -0.012856000737655677, 193036, 13465668, 60539808347), (1634881688, -4807.788427, 1.1649701800960217, 193036, 13465669, 83265950897), (1634881766, -283140.967748, 68.62543085141455, 193042, 13465675, 55911419893), (1634881806, -192223.957747, 46.6096982921129, 193045, 13465677, 60647782169), (1634881806, -760, 0.1843138819928036, 193045, 13465677, 57520257007), (1634882874, 3895.142103, -0.9389811023294806, 193045, 13465747, 90068302982), (1634882987, 273905.775367, -66.01249214315561, 193040, 13465754, 73000000000), (1634883384, 1265.957576, -0.3050257565698213, 193040, 13465781, 70557938240), (1634883936, -316150.251169, 76.65562992819332, 193046, 13465827, 43419467220), (1634884007, -192679.937721, 46.73977039805498, 193049, 13465831, 223089069714), (1634884031, -81892.561884, 19.870199862425544, 193051, 13465832, 63825699784), (1634884033, -268927.673115, 65.2725995422045, 193055, 13465833, 59028835667), (1634884069, -311047.509997, 75.53525957696279, 193061, 13465835, 59022005185), (1634884129, -550061.429701, 133.68177822235688, 193071, 13465838, 60090280700), (1634884369, -18071.483526, 4.394180347202801, 193071, 13465854, 66887996615), (1634884722, -406475.368322, 98.87467168083286, 193079, 13465873, 66726509366), (1634884831, -704246.69647, 171.47936751440966, 193091, 13465884, 77000000000), (1634886140, -559.463628, 0.13631250245516016, 193091, 13465970, 66035385589), (1634886570, -2352.01373, 0.573066246256464, 193092, 13466008, 46890335678), (1634887067, 856.786259, -0.20750490822028936, 193092, 13466060, 54731647448), (1634887586, 454091.714812, -109.93130522333266, 193083, 13466092, 71538457280), (1634887986, 390919.501254, -94.56587094871645, 193076, 13466119, 55140928426), (1634888076, 466285.52067, -112.71027081912247, 193068, 13466124, 73609381607), (1634888331, 68488.815305, -16.547100705909315, 193067, 13466146, 82712810296), (1634888453, 15000, -3.6237717454989675, 193066, 13466158, 64642223486), (1634888516, 389514.300957, -94.06643251298455, 193059, 13466162, 68143086962), (1634888879, 256.330639, -0.061881274277096894, 193059, 13466186, 48869972209), (1634888956, 508894.310946, -122.79682750296921, 193050, 13466192, 58682621180), (1634889365, 45881.841904, -11.065814199460506, 193049, 13466215, 89547147140), (1634889820, 1040.411072, -0.25091645528837025, 193049, 13466245, 70327168053), (1634889892, 13500, -3.2557590810640797, 193049, 13466251, 71896131639), (1634890399, 478873.914079, -115.43755978690048, 193040, 13466290, 60369178225), (1634890473, 283389.547129, -68.26714704185034, 193035, 13466299, 46974409422), (1634890613, 20389.216574, -4.910319146965426, 193035, 13466311, 52156235098), (1634890738, 293552.29456, -70.67600199105543, 193030, 13466322, 54114850976), (1634890766, -5696.116883, 1.3793122263919988, 193030, 13466325, 45615178633), (1634891089, -5661.065491, 1.370838596580878, 193030, 13466357, 40243901022), (1634891459, -9226.517791, 2.234250185998642, 193030, 13466387, 52000000000), (1634891606, -1382.256026, 0.3347238275753969, 193030, 13466399, 49454692039), (1634891711, 1749.687154, -0.4211615493613407, 193030, 13466408, 47529810397), (1634892034, -3949.419451, 0.9563835995831215, 193030, 13466431, 53839537257), (1634893892, 2034.239928, -0.48965715342162136, 193030, 13466557, 48527071254), (1634893942, -42257.812263, 10.233457335975986, 193031, 13466559, 74891060435), (1634895035, -135633.220807, 32.8511927971445, 193033, 13466638, 52540079601), (1634895059, -125175.313513, 30.32535832425023, 193036, 13466639, 54648300599), (1634895132, -223508.408437, 54.164876390635506, 193040, 13466647, 45771978986), (1634895139, -464566.640217, 112.6527026331092, 193048, 13466648, 44337813912), (1634895203, -105114.765453, 25.50237637911578, 193050, 13466656, 46691799419), (1634895242, -2689.415204, 0.652554895972939, 193050, 13466657, 53878245050), (1634895242, -600, 0.14558335944129214, 193050, 13466657, 53532019280), (1634895265, -618.201842, 0.15, 193050, 13466660, 53217252221), (1634895505, -296480.101745, 71.95699720575, 193055, 13466681, 45732748370), (1634895546, -351388.935307, 85.333524965625, 193062, 13466686, 45238541863), (1634896393, -2334.190898, 0.567030917645076, 193062, 13466750, 51521957536), (1634897050, -560504.631073, 136.22926982681258, 193072, 13466796, 60607433734), (1634897675, -557.76742, 0.13563273688023347, 193072, 13466837, 58319750262), (1634898028, 3942.151912, -0.9528701754412362, 193072, 13466860, 66820537247), (1634898236, -500581.959662, 121.78104531474077, 193081, 13466874, 310739995171), (1634898236, -22060.801948, 5.36945158434264, 193081, 13466874, 79452294771), (1634898411, -131456.399685, 32, 193084, 13466879, 80757803798), (1634898414, -399264.348495, 97.23774655273397, 193091, 13466880, 72754260138), (1634898435, -6399.314604, 1.5590691080983559, 193091, 13466883, 65000000000), (1634898438, -6156.791927, 1.5, 193091, 13466884, 56967603376), (1634898450, -574318.063804, 139.99574055314952, 193101, 13466886, 56037025202), (1634898502, -381670.598681, 93.11563282117389, 193108, 13466888, 55127112542), (1634898502, -282517.725796, 68.96644367803341, 193113, 13466888, 70237369899), (1634898624, -331617.214266, 80.99683510082681, 193119, 13466897, 62714655133), (1634899369, 23845.661223, -5.790957941736376, 193119, 13466958, 43477474567), (1634900626, -1718.595023, 0.41987082091243855, 193119, 13467041, 66256658274), (1634901016, 212353.814778, -51.559754729138795, 193115, 13467066, 56339404258), (1634901072, 20316.459381, -4.931835354677619, 193114, 13467072, 49646600088), (1634901166, 10000, -2.426841095339823, 193112, 13467083, 39116353159), (1634901166, 500, -0.12134319194819194, 193112, 13467083, 55000000000), (1634901166, 138094.509499, -33.51780334767079, 193112, 13467083, 37616353159), (1634901542, 334409.43978, -81.13091805004923, 193106, 13467107, 54521919561), (1634901656, 264590.871932, -64.15796805763391, 193101, 13467116, 51306151729), (1634901968, 303930.887409, -73.65976615393058, 193096, 13467135, 52000000001), (1634902122, 2182251.391927, -528.0330967091445, 193078, 13467144, 74800000000), (1634902633, 2000, -0.4836934346489428, 193077, 13467177, 53135131373), (1634902633, 13000, -3.1440497057874195, 193077, 13467177, 53135131373), (1634902665, 826.972185, -0.2, 193077, 13467179, 52356585296), (1634902673, 918.805626, -0.22220921136051994, 193077, 13467180, 58694596735), (1634904897, 6883.45003, -1.6647213203184716, 193077, 13467350, 58390618643), (1634905444, -864.816634, 0.2104101843961972, 193077, 13467390, 56981289993), (1634905561, -2400, 0.583922536263566, 193077, 13467400, 58585233859), (1634906562, -11054.038755, 2.689491799195098, 193077, 13467471, 59044933824), (1634907108, 238973.032851, -57.78297110339439, 193073, 13467515, 44523765542), (1634907141, 8529.670222, -2.06199213138977, 193073, 13467518, 49895023431), (1634907236, -102407.068861, 24.90754893404948, 193075, 13467525, 50384935374), (1634907332, 85.480767, -0.020668058016542288, 193075, 13467533, 74021809638), (1634907336, 1359.104454, -0.32861209102298, 193075, 13467534, 47778781696), (1634907381, 718319.738612, -173.56767369975756, 193062, 13467538, 45323317003), (1634907413, 150612.90228, -36.36432932877029, 193059, 13467539, 48332305566), (1634907413, 1035.584427, -0.25, 193059, 13467539, 48332305566), (1634907808, 1050, -0.2534795850143582, 193059, 13467572, 51505847505), (1634907817, 4479.852884, -1.0814720322368174, 193059, 13467574, 58800000000), (1634907888, 6000, -1.4484340322132385, 193059, 13467579, 53080208285), (1634908028, 438.705757, -0.10590544806437287, 193059, 13467586, 68524766948), (1634908578, -158885.214435, 38.59222904121899, 193062, 13467630, 73643698065), (1634908641, -407782.526014, 99.09820513985791, 193069, 13467632, 80254780171), (1634908756, -907756.440825, 220.8609540108933, 193085, 13467637, 77573514448), (1634909650, -288073.981995, 70.16446140962262, 193091, 13467708, 57466858533), (1634910389, 989.879579, -0.23971592513560833, 193091, 13467763, 57648248520), (1634910412, -1240559.66439, 302.5661027378906, 193113, 13467765, 64255279680), (1634910484, -70.030283, 0.017098866191039768, 193113, 13467771, 59000000000), (1634910492, -97069.148553, 23.702828019053168, 193114, 13467772, 78000000000), (1634910518, -9377.248602, 2.29, 193115, 13467777, 59000000000), (1634910538, 1167.115678, -0.28331361384607995, 193114, 13467779, 52999477757), (1634910557, -219084.454059, 53.51295760775006, 193118, 13467780, 55093795142), (1634910570, -236867.801534, 57.88013625992609, 193123, 13467781, 77353849280), (1634910570, -5053.095481, 1.235021384258908, 193123, 13467781, 69000000000), (1634910596, -159420.865466, 38.96957639122283, 193126, 13467785, 133264914742), (1634910596, -1527437.211259, 373.9343305564357, 193153, 13467785, 55875534179), (1634910639, -1092721.425579, 268.1330627222437, 193172, 13467786, 65659660411), (1634911032, -213299.712237, 52.400333184051696, 193176, 13467814, 74006339523), (1634911083, -346480.046752, 85.16039802690966, 193182, 13467819, 799388531780), (1634911149, -326830.986282, 80.37891808034567, 193188, 13467821, 96091511788), (1634911193, -408147.734714, 100.44299654032037, 193195, 13467822, 223557892477), (1634911235, -549792.542706, 135.41620697320852, 193205, 13467824, 102306800810), (1634911235, -712105.332314, 175.5915511198927, 193217, 13467824, 103806800811), (1634911317, -335898.310864, 82.90340075848185, 193223, 13467827, 769053296568), (1634911352, -1126067.88969, 278.288170850002, 193244, 13467830, 1446840597529), (1634911352, -1996871.745035, 494.8686713900117, 193279, 13467830, 180056557077), (1634911503, -1558160.965365, 386.9118195384844, 193283, 13467841, 179713033797), (1634912028, -313729.269584, 77.94035449408565, 193289, 13467875, 166904956866), (1634912425, -4673.866984, 1.1614680264946835, 193289, 13467901, 131710203897), (1634912433, -312181.96143, 77.6, 193294, 13467902, 198000000000), (1634912444, -114.809198, 0.028546432133184047, 193294, 13467904, 129000000000), (1634912565, -395792.536229, 98.45, 193302, 13467913, 333000000000), (1634912565, -24752.307653, 6.15460948876063, 193295, 13467913, 144000000000), (1634912608, -536610.717248, 133.58867401027237, 193312, 13467915, 102046598988), (1634912608, -160947.997257, 40.09284697592279, 193314, 13467915, 104273140224), (1634912655, -5758.451998, 1.434669470249324, 193314, 13467919, 103316669437), (1634912676, -612247.745377, 152.62041121272887, 193325, 13467922, 93387294721), (1634912692, -661298.832819, 165.03364161770892, 193337, 13467924, 85023217416), (1634913006, -359108.789955, 89.7, 193343, 13467949, 144000000000), (1634913038, 1401477.932256, -347.6519047788294, 193319, 13467952, 84498664718), (1634913348, -771796.556486, 192.5, 193332, 13467968, 333000000000), (1634913455, -1921351.068505, 480.3621887582371, 193366, 13467974, 114913371400), (1634913474, -1967837.764899, 493.67413322626487, 193401, 13467975, 119823139016), (1634913521, 911438.859791, -227.4939864393642, 193385, 13467977, 135667389850), (1634913568, 14121.213388, -3.5218166928679904, 193385, 13467979, 155465429388), (1634913658, 2115.885366, -0.52769231578, 193385, 13467986, 148876819034), (1634913685, 344458.036378, -85.8805480534656, 193379, 13467988, 122113147949), (1634913877, 9433.295905, -2.351193353354211, 193379, 13467993, 175554939106), (1634913907, 8024.385857, -2, 193378, 13467996, 147266345609), (1634914035, 526584.235273, -131.18405423760908, 193369, 13468005, 120341365952), (1634914035, 121721.329744, -30.306187378260013, 193367, 13468005, 176942069000), (1634914074, 5000, -1.2447612009477051, 193367, 13468007, 124678400785), (1634914116, 18543.144608, -4.616261465249313, 193367, 13468011, 111987563935), (1634914162, 211269.720684, -52.584311235657324, 193363, 13468015, 101120258898), (1634914325, 4210, -1.0476553603047232, 193363, 13468025, 129094888030), (1634914599, 417618.863446, -103.88547236880929, 193355, 13468050, 106001459603), (1634914640, 568920.463633, -141.39965543665434, 193345, 13468052, 101779145142), (1634914828, 972091.629361, -241.27595419670766, 193328, 13468067, 93022997971), (1634914962, 527880.434143, -130.8484024244483, 193319, 13468076, 88744564597), (1634915029, 19941.60819, -4.9406384326253585, 193319, 13468082, 83635911592), (1634915152, 618.392087, -0.153207084777123, 193319, 13468096, 72753521601), (1634915179, 256.322143, -0.06350394584048856, 193319, 13468100, 91300000000), (1634915867, -47717.624526, 11.911399708961104, 193334, 13468155, 71214500160), (1634915867, -835245.319875, 208.3335570777083, 193333, 13468155, 68814500160), (1634915883, -12172.39141, 3.0386653935274417, 193334, 13468157, 69943140251), (1634915940, -200, 0.04992771788895374, 193334, 13468162, 74349411533), (1634915967, -1345.780626, 0.3359592361819586, 193334, 13468164, 100000000000), (1634915996, -400.577928, 0.1, 193334, 13468167, 68467418287), (1634916004, -396311.936333, 98.97140336272744, 193342, 13468170, 55013026664), (1634916004, -9491.710409, 2.36952480990673, 193335, 13468170, 56513026664), (1634916004, -844249.968767, 211.0668753321914, 193357, 13468170, 75013026664), (1634916110, -3996.917055, 1, 193357, 13468183, 58895958574), (1634916146, -888373.690544, 222.440366110728, 193372, 13468189, 86409801044), (1634916146, -56264.964381, 14.1, 193373, 13468189, 56666965428), (1634916257, -523643.881162, 131.29243338332483, 193383, 13468198, 65093020812), (1634916257, -387326.687365, 97.19099020198136, 193389, 13468198, 65093020812), (1634916287, -30903.461614, 7.757347129314085, 193390, 13468199, 113800000000), (1634916477, 3782.178487, -0.9437319397442971, 193390, 13468210, 104467737378), (1634916494, 939.411401, -0.23440166199532195, 193390, 13468211, 101077242226), (1634916527, -808914.774394, 203.19909458112477, 193404, 13468212, 103861884260), (1634916660, -2301287.547889, 579.6462718388416, 193444, 13468216, 110284160464), (1634916660, -4820.52204, 1.2166250766330318, 193444, 13468216, 112284160464), (1634916732, 499834.806108, -125.3409087269347, 193435, 13468222, 110000000000), (1634916785, 5000, -1.2532744435212448, 193435, 13468226, 138600000000), (1634916837, 11217.115176, -2.811585237783037, 193435, 13468227, 203906942812), (1634916837, -46925.013838, 11.833076219505019, 193436, 13468227, 110514402812), (1634916902, 722442.740733, -180.9809499041674, 193423, 13468234, 91794723157), (1634916920, 675268.784531, -168.95860077744797, 193411, 13468235, 105277586140), (1634916933, 200000, -50.00397070391951, 193408, 13468236, 120000000000), (1634917449, -1265.469108, 0.31824458425402347, 193408, 13468269, 112918160817), (1634918007, -842041.590833, 211.91547924613948, 193423, 13468315, 91507277763), (1634918088, -379349.124244, 95.57213335634921, 193429, 13468318, 102711533433), (1634918106, -991.816868, 0.25, 193431, 13468320, 96813371270), (1634918106, -95000, 23.943945208439942, 193431, 13468320, 105313371270), (1634918135, -431351.638014, 108.7687188532754, 193439, 13468321, 99563643533), (1634918389, -1734470.29974, 438.19092321778925, 193469, 13468343, 81574469861), (1634918414, -405434.696049, 102.62004933574872, 193476, 13468344, 90642040376), (1634918576, -506835.218662, 128.38840200452316, 193485, 13468358, 86402914256), (1634918981, -757861.590996, 192.19017150631063, 193498, 13468390, 81911056652), (1634918990, -189752.777776, 48.16053343393579, 193502, 13468391, 82315513654), (1634919011, -1213388.660839, 308.351460043428, 193523, 13468392, 85127651239), (1634919051, -7861.549772, 2, 193523, 13468395, 84783842011), (1634919051, -3930.816221, 1, 193523, 13468395, 84783842011), (1634919091, -1152065.562187, 293.39213463271915, 193544, 13468399, 97248279064), (1634919157, -1002837.346714, 255.8805674390261, 193562, 13468402, 107935760142), (1634919214, -1008307.705379, 257.74628648327314, 193580, 13468404, 122240909493), (1634919333, -289812.102327, 74.17068433208178, 193586, 13468411, 126404744100), (1634919333, -76896.313251, 19.68644153885303, 193587, 13468411, 125465744102), (1634919360, -193369.209361, 49.51725970959008, 193591, 13468413, 131251120446), (1634919360, -204607.646875, 52.41427409686427, 193595, 13468413, 130051120448), (1634919379, -816761.153788, 209.42550974585933, 193609, 13468415, 121447277300), (1634919382, -49788.187555, 12.776326305954264, 193610, 13468416, 123571281599), (1634919399, -173566.08815, 44.55, 193614, 13468418, 114304408687), (1634919399, -17748.165446, 4.554702953783113, 193611, 13468418, 114891808687), (1634919429, -95945.748815, 24.508877361251322, 193565, 13468420, 120630751459), (1634919429, 900995.514064, -228.9442533050019, 193563, 13468420, 164782735369), (1634919429, 1861275.023045, -474.1479757883649, 193580, 13468420, 118630751459), (1634919484, 877437.656132, -222.63745391738138, 193549, 13468427, 104426524098), (1634919504, 127952.086092, -32.43686720466067, 193547, 13468430, 106466227449), (1634919534, 231173.740161, -58.58547977844991, 193543, 13468432, 103295443775), (1634919589, 499772.734755, -126.57259957697796, 193534, 13468437, 148000000000), (1634919643, 10000, -2.531447071451588, 193534, 13468440, 97885534574), (1634919793, 1037720.035432, -262.4471109072565, 193515, 13468452, 95999624399), (1634919849, 386727.905568, -97.68176761106564, 193508, 13468454, 120315499432), (1634919873, 311667.169357, -78.67337761514523, 193503, 13468456, 110885602761), (1634919873, 37467.587017, -9.45489878399526, 193502, 13468456, 111885602762), (1634919880, 13513.89239, -3.4100584334214314, 193502, 13468458, 100800669617), (1634919882, 110000, -27.734509241549038, 193493, 13468459, 101301758351), (1634919882, 399840.063974, -100.85757976245648, 193495, 13468459, 142000000000), (1634919928, 1190, -0.3000077245163593, 193493, 13468463, 96865438014), (1634919947, 3200, -0.8067403568807249, 193493, 13468464, 104769065171), (1634920058, 399840.063974, -100.7666287687144, 193486, 13468474, 156863175169), (1634920110, 24925.152806, -6.279233032137603, 193485, 13468478, 132000000000), (1634920174, 4683.130952, -1.179760380559798, 193485, 13468481, 125263420563), (1634920174, 100000, -25.18939149155429, 193484, 13468481, 124763420563), (1634920188, 485000, -122.10596642795124, 193475, 13468482, 118838962615), (1634920219, 4228.896389, -1.0642314791149112, 193475, 13468485, 108779852788), (1634920316, 460302.887453, -115.79135396212025, 193467, 13468492, 98535058819), (1634920337, -953.946512, 0.24131898481737157, 193467, 13468496, 123000000000), (1634920338, 14860.806338, -3.7367571219390054, 193467, 13468497, 81323640230), (1634920405, 16021.931433, -4.028613701981228, 193466, 13468504, 84429494099), (1634920498, 2000, -0.5028794650164308, 193466, 13468509, 103129138564), (1634920788, 438067.484451, -110.10516043061573, 193459, 13468530, 86009572012), (1634920833, 80000, -20.098319874465407, 193457, 13468534, 83527006554), (1634920878, 12865.051167, -3.2318113537135753, 193457, 13468535, 93775401962), (1634921128, 3920.974447, -0.9849680039225547, 193457, 13468555, 85269006072), (1634921149, 3424.948776, -0.8603583980419193, 193457, 13468557, 79596812933), (1634921253, 19700, -4.948604751269302, 193457, 13468560, 100311453266), (1634921952, 3981.002495, -1, 193457, 13468611, 120618764394), (1634923283, -596141.311131, 150.7273363466419, 193467, 13468706, 96646948642), (1634923283, -67.886232, 0.01717321574228981, 193467, 13468706, 97646948643), (1634923331, -56787.141007, 14.3996116503499, 193491, 13468709, 107682275548), (1634923331, -21718.046646, 5.506702183139778, 193490, 13468709, 113182275548), (1634923331, -1301806.419866, 329.69522042800287, 193490, 13468709, 1385340924816), (1634923384, -17240.80553, 4.372064581279053, 193492, 13468712, 115924746877), (1634923812, -570939.355418, 144.85838120065804, 193502, 13468745, 339565529117), (1634923884, -64995.840771, 16.5, 193503, 13468750, 105438128963), (1634924351, 20152.561712, -5.085532459930644, 193502, 13468785, 96261805616), (1634924438, 25000, -6.30853706447892, 193502, 13468792, 88233150702), (1634924631, -785.344838, 0.19936519070626957, 193502, 13468809, 80043534424), (1634925510, -688813.490352, 174.96817087908047, 193514, 13468876, 102067496098), (1634925606, -135325.664519, 34.4, 193517, 13468883, 130000000000), (1634925711, -3776.898857, 0.9602134908599858, 193517, 13468894, 80980581612), (1634925924, -30679.532243, 7.8, 193517, 13468914, 87568530832), (1634925936, -5309.747661, 1.35, 193517, 13468915, 91497710662), (1634926005, -72699.869929, 18.485189419184323, 193519, 13468919, 97168262601), (1634926694, -1060822.02663, 270.00668929552114, 193538, 13468978, 86503370651), (1634926745, 8506.015283, -2.155143648697437, 193543, 13468981, 95576052356), (1634926745, -279086.62526, 71.12024637442643, 193543, 13468981, 94076052356), (1634926768, -184943.245797, 47.14840947144678, 193546, 13468982, 98971597647), (1634926768, -520932.947302, 132.888, 193555, 13468982, 100000000000), (1634927122, 260342.818731, -66.03007917727372, 193551, 13469003, 111549684687), (1634927143, 183940.396875, -46.63376885107754, 193547, 13469004, 125488577268), (1634927186, 213363.789469, -54.07413744283204, 193544, 13469008, 113005905043), (1634927282, 7893.091746, -2, 193543, 13469018, 99078681427), (1634927405, 155374.791907, -39.36406368124552, 193541, 13469033, 73087405320), (1634927543, 698259.542505, -176.76832801042437, 193528, 13469041, 92922354825), (1634927596, 421240.163529, -106.53255221748853, 193521, 13469047, 85017001087), (1634927623, 907.739881, -0.22948271955271501, 193521, 13469049, 87819095456), (1634927671, 15360.510155, -3.879148768017861, 193510, 13469052, 105000000000), (1634927671, 581353.13021, -146.89347469870572, 193510, 13469052, 89897703230), (1634927730, 900061.742799, -227.11652343770402, 193494, 13469058, 79800855999), (1634927730, 27330.641292, -6.890813993335156, 193493, 13469058, 84800855999), (1634927863, 230.097252, -0.05792653534159872, 193479, 13469062, 116012019874), (1634927863, 848966.026542, -213.88413422478706, 193479, 13469062, 114512019874), (1634927909, 3137.670165, -0.7899000350083262, 193479, 13469064, 124848727033), (1634928383, 21210.75142, -5.339636170893167, 193478, 13469103, 79938420394), (1634929521, -911207.427135, 230.95169958522644, 193494, 13469193, 122316540538), (1634929690, -5820, 1.4763039119956851, 193494, 13469199, 137355746873), (1634929764, 9890.52711, -2.4937964495760094, 193494, 13469206, 120183973946), (1634930030, -268860.715059, 68.21457570259636, 193499, 13469226, 101623737336), (1634930030, -17069.014738, 4.33178728125, 193499, 13469226, 103623737336), (1634930458, -100, 0.025378456458996175, 193499, 13469254, 116503849071), (1634930518, -19208.880952, 4.875, 193499, 13469259, 109474313709), (1634930802, 279623.22271, -70.52405947961763, 193495, 13469279, 111564217627), (1634930817, 190275.072025, -47.96977132467422, 193491, 13469281, 102545108996), (1634930996, 369.332652, -0.09309602164180605, 193491, 13469300, 82263151216), (1634931329, 151981.401584, -38.30417086562236, 193489, 13469325, 110466395975), (1634931336, 299749.44378, -75.51663966902771, 193483, 13469326, 98967775640), (1634931488, 179.882362, -0.04530635135710128, 193483, 13469337, 90913959901), (1634932057, 200297.503625, -50.43941287696765, 193480, 13469373, 107723056380), (1634932269, 766150.777923, -192.77129627916474, 193466, 13469394, 86701105195), (1634932301, 482619.376204, -121.29967211241458, 193458, 13469399, 76966268706), (1634932301, 7256.947561, -1.8231536505523966, 193458, 13469399, 76906268706), (1634932710, 388224.953511, -97.49962927599707, 193451, 13469432, 75836505205), (1634932783, 705.756536, -0.17718507591590138, 193451, 13469436, 104727334412), (1634932892, 1000, -0.2510565662200951, 193451, 13469441, 116296456842), (1634932963, 15000, -3.765795962740454, 193451, 13469451, 100000000000), (1634933101, 213400.628544, -53.564215562841916, 193447, 13469464, 101275985005), (1634933138, 962850.30092, -241.43074464956177, 193430, 13469467, 93329501651), (1634933168, 319107.575147, -79.92551620367342, 193425, 13469469, 104791550289), (1634933236, 20000, -5.007834271033432, 193424, 13469474, 150000000000), (1634933280, -7519.954859, 1.8942624642546724, 193425, 13469475, 116901448586), (1634933344, 10822.862754, -2.7099179772513438, 193424, 13469484, 103002932678), (1634933375, 597.903693, -0.14970658612610419, 193424, 13469488, 79832374552), (1634933486, 220772.707717, -55.267684182580815, 193420, 13469494, 102229119260), (1634933508, 39955.153233, -10, 193420, 13469496, 100865340202), (1634933695, 125141, -31.31585995551797, 193418, 13469506, 109097648703), (1634936724, -869.806235, 0.21895249189124075, 193418, 13469734, 95303962763), (1634937249, 4997.636521, -1.2504916837122306, 193418, 13469777, 90164995493), (1634937825, -25290.760142, 6.366421159536173, 193418, 13469826, 76929608842), (1634937857, -169992.177041, 42.799240422500574, 193421, 13469827, 88782621726), (1634937930, -16045.475879, 4.040451384325786, 193421, 13469829, 109121416852), (1634938009, -206366.307115, 52, 193429, 13469834, 107000000000), (1634938009, -269571.636136, 67.89834829938411, 193426, 13469834, 122334695813), (1634938109, -15871.266945, 4, 193430, 13469840, 97338863523), (1634938276, -233423.010746, 58.84182460817784, 193434, 13469853, 89899329950), (1634938276, -10014.448948, 2.525, 193434, 13469853, 89899329949), (1634938405, -484784.687213, 122.28407960473783, 193442, 13469863, 68485155379), (1634938460, -851.989918, 0.215, 193442, 13469870, 63483943964), (1634938468, -3020, 0.7625239154445788, 193448, 13469871, 63568781164), (1634938468, -161779.618155, 40.83090637734473, 193445, 13469871, 69415937487), (1634938468, -158443.433252, 40, 193448, 13469871, 67068781164), (1634938568, -117887.481556, 29.768690760706686, 193450, 13469879, 85842730398), (1634938630, 8257.052699, -2.072758476300765, 193450, 13469884, 75387092404), (1634938852, -4681.001338, 1.1821450245856173, 193450, 13469898, 95700000000), (1634939071, -336559.830822, 85, 193451, 13469915, 72632193359), (1634939079, -10000, 2.5257089516799427, 193451, 13469916, 81362499998), (1634939109, -1506.37683, 0.38047074760688726, 193451, 13469920, 71918556958), (1634939109, -12000, 3.030916600725731, 193451, 13469920, 71918556958), (1634939111, 50562.782701, -12.694030355605536, 193451, 13469921, 75146247751), (1634939118, -1248173.087456, 315.5768942119754, 193472, 13469922, 69192109422), (1634939176, -518826.211197, 131.37703006082617, 193481, 13469928, 64528119123), (1634939218, -934715.3637, 236.98793266069984, 193498, 13469929, 72592218725), (1634939230, -2020, 0.5125689690714904, 193498, 13469930, 83160203368), (1634939253, -279451.998472, 70.92771129982361, 193503, 13469932, 87512368972), (1634939268, -477296.487561, 121.22500868454804, 193511, 13469934, 190441044706), (1634939272, -411092.912557, 104.55819340971071, 193525, 13469935, 844225046515), (1634939272, -341020.171683, 86.67702263942157, 193517, 13469935, 80614856273), (1634939402, 1991.753543, -0.5037372071504812, 193525, 13469938, 106080021127), (1634939599, 27733.695794, -7.005666962098863, 193512, 13469952, 90876686991), (1634939599, 660454.711364, -166.93720809290875, 193513, 13469952, 197611900635), (1634939609, 30160.911174, -7.618397495679615, 193512, 13469953, 88112967205), (1634940203, 239430.389014, -60.46351055063832, 193508, 13469991, 107192839866), (1634941616, 426754.482967, -107.70418113750193, 193500, 13470083, 129376518901), (1634942060, 206894.170902, -52.18647601212614, 193496, 13470124, 124099916118), (1634942121, 5981.417892, -1.5084592391153733, 193496, 13470126, 150000000000), (1634942121, 678.024816, -0.17099070877363123, 193496, 13470126, 141363389552), (1634942267, 185594.485511, -46.79740523209557, 193493, 13470136, 107799559558), (1634942318, 194548.885914, -49.03906324161908, 193490, 13470142, 99110023340), (1634942589, 203682.263525, -51.32353358548992, 193486, 13470160, 99850778600), (1634942611, 122209.358115, -30.785414031149845, 193484, 13470163, 98415492500), (1634942611, 253.925625, -0.0639588908157445, 193484, 13470163, 97915492500), (1634942787, 3970.152581, -1, 193484, 13470173, 114852698482), (1634942810, 2000.643892, -0.5039185493265703, 193484, 13470176, 106222988482), (1634942987, 215961.131592, -54.38561390867735, 193480, 13470190, 114601553946), (1634943087, 198640.33574, -50.00572220656968, 193477, 13470197, 101755434411), (1634943143, 346918.997477, -87.29208921262445, 193471, 13470202, 95977399265), (1634943214, 357.355049, -0.08989094649297115, 193471, 13470208, 92193230090), (1634943883, 661555.869222, -166.31576271361874, 193459, 13470256, 94804517067), (1634944012, 129342.564359, -32.49456080659019, 193457, 13470269, 62506704811), (1634944084, 3980.897192, -1, 193457, 13470277, 69898757315), (1634944118, 1500, -0.37679769296547067, 193457, 13470280, 73142294084), (1634944185, 5000, -1.2559852370572961, 193457, 13470283, 90200000000), (1634944185, 2419, -0.6076417520898194, 193457, 13470283, 81611374608), (1634944292, 888, -0.22306090530733855, 193457, 13470291, 79844492681), (1634944964, 186771.214653, -46.90831543664282, 193453, 13470335, 91599331427), (1634944998, 212332.952866, -53.30981266790243, 193450, 13470339, 76192783050), (1634944998, 983.7036, -0.2469299552925771, 193450, 13470339, 103000000000), (1634945384, 1439.596885, -0.36136784332084887, 193450, 13470377, 67949407692), (1634945413, 10000, -2.5101767519682574, 193449, 13470378, 76244655644), (1634945445, 39839.551638, -10, 193449, 13470383, 110000000000), (1634945473, 5207.158213, -1.3069813449615744, 193449, 13470384, 71880045653), (1634945599, 2500, -0.6274884343135058, 193449, 13470393, 71771819884), (1634945628, 5749.165372, -1.443003602391628, 193449, 13470396, 72429321043), (1634945685, 1732.278712, -0.4347880194264854, 193449, 13470403, 56707744058), (1634945846, 1000, -0.2509913606303705, 193448, 13470420, 66756351061), (1634945888, 1256.245322, -0.3153061065691972, 193448, 13470424, 60000000000), (1634945937, 4087.890944, -1.0260185569425269, 193448, 13470429, 64309285208), (1634946073, 8582.5, -2.154095538609448, 193448, 13470437, 79515635139), (1634946192, -10034.772399, 2.533780075231548, 193448, 13470443, 83776275593), (1634946296, -2747.135134, 0.6936593347730403, 193448, 13470460, 81096239045), (1634946408, 499.704732, -0.12542116719336663, 193448, 13470466, 70547666715), (1634946887, 700.374917, -0.17578730550651026, 193448, 13470506, 55169946534), (1634947692, -526485.798275, 133, 193458, 13470579, 77887998338), (1634947778, -150273.99228, 37.98430215535926, 193460, 13470584, 83729740954), (1634947850, -411245.405564, 104, 193467, 13470589, 82394184542), (1634948253, -807666.440029, 204.46764885238863, 193481, 13470624, 70405809331), (1634948361, -7184.078392, 1.82, 193482, 13470631, 63970787303), (1634948471, -11446.972339, 2.9, 193482, 13470642, 54545767525), (1634948623, 4989.161052, -1.25639919652524, 193482, 13470656, 50494707933), (1634948725, 159217.262754, -40.08929593181668, 193479, 13470663, 73396352158), (1634948741, 169852.825578, -42.755019763538414, 193476, 13470665, 70858821501), (1634948744, 261486.643521, -65.79629165150845, 193471, 13470666, 65404930063), (1634948859, 65864.799207, -16.56845532172237, 193470, 13470675, 58623642598), (1634948894, 186279.313717, -46.84878763431504, 193467, 13470677, 65154222430), (1634949026, 694597.085433, -174.55616204519814, 193455, 13470687, 60000000001), (1634949130, 243758.810645, -61.2093684804705, 193451, 13470699, 49358678727), (1634949130, -11148.902746, 2.8170001478416187, 193455, 13470699, 49207178726), (1634949689, 21270.780003, -5.340000567818137, 193451, 13470736, 86961620476), (1634949979, 9059.924242, -2.274421995129933, 193450, 13470759, 70200000000), (1634950172, 524111.785361, -131.5133785700129, 193441, 13470777, 61161121852), (1634950225, 824.771254, -0.2067457694945831, 193436, 13470781, 56409209478), (1634950225, 326944.222021, -81.97847044176623, 193436, 13470781, 57166259479), (1634950386, 129650.204411, -32.495809898571736, 193433, 13470794, 52465362164), (1634950411, 345374.781391, -86.5299738874429, 193427, 13470795, 59332625468), (1634950427, 304430.515165, -76.22903070437657, 193422, 13470796, 61897173366), (1634950614, 71111.602558, -17.79567219218538, 193418, 13470809, 58600331023), (1634950614, 156618.681585, -39.201517747067896, 193420, 13470809, 58600331024), (1634950663, -43265.585157, 10.892204961763536, 193419, 13470814, 64025714262), (1634950743, 20083.368556, -5.0258420785396645, 193419, 13470817, 78161565398), (1634950772, 280448.274424, -70.1636850121033, 193414, 13470822, 60703980116), (1634951453, 215578.200631, -53.9111419870398, 193410, 13470876, 80000000000), (1634951496, 596136.5685, -148.9756558954431, 193400, 13470879, 222000000000), (1634951577, 3466.949133, -0.8659453651777357, 193400, 13470885, 54781841857), (1634951577, 2500, -0.6244321653693967, 193400, 13470885, 56100000000), (1634951723, 4290, -1.0715129128932177, 193400, 13470896, 65429047297), (1634951808, -645.003144, 0.16207284953680623, 193400, 13470904, 56941436952), (1634951865, 910000.00245, -227.11178519555435, 193384, 13470907, 111000000000), (1634952038, 344.660363, -0.08595057201364698, 193384, 13470921, 50140894964), (1634952084, -645.287246, 0.16189010686910885, 193384, 13470924, 61879723374), (1634954448, 614209.046937, -153.08840538031532, 193373, 13471098, 163328397172), (1634954484, 127515.001552, -31.76171932461248, 193371, 13471100, 74981299444), (1634954529, 5000, -1.2452654261633416, 193371, 13471104, 81400000000), (1634954636, 8735.557065, -2.1755910630705024, 193371, 13471113, 62041161753), (1634954644, 31000, -7.720281291059779, 193370, 13471114, 59223894703), (1634954703, 1015.492409, -0.25288989632604514, 193370, 13471116, 72082405113), (1634954703, 5689.555423, -1.4168885791154544, 193370, 13471116, 72132405113), (1634954836, 10000, -2.4902937307911843, 193370, 13471118, 89897758583), (1634954919, 28234.218921, -7.030912585421452, 193369, 13471121, 134043563840), (1634954961, 1055330.028798, -262.54823135544177, 193351, 13471124, 79759142689), (1634955141, 10531.210356, -2.6175245300132906, 193351, 13471136, 71901989681), (1634955228, 1451.081446, -0.36066140949370856, 193351, 13471143, 58392575501), (1634955253, 151.017793, -0.03753491103670628, 193351, 13471146, 77130963530), (1634956542, 319914.501301, -79.49113882376662, 193345, 13471231, 73734777679), (1634956719, 3500, -0.8694188945819844, 193345, 13471243, 59927263739), (1634956837, 3400, -0.8445732205558594, 193345, 13471254, 61000000000), (1634956857, 6374.062664, -1.5833283164371994, 193345, 13471259, 62000000000), (1634957050, 10000, -2.483981660555684, 193345, 13471266, 71742054183), (1634957050, 963.410454, -0.23930623569627454, 193345, 13471266, 71742054183), (1634957050, 1998.412878, -0.4963968465667516, 193345, 13471266, 71742054183), (1634957296, 9982, -2.4794539047340374, 193344, 13471282, 67000000000), (1634957325, 464636.744244, -115.36404299762246, 193336, 13471283, 67271785609), (1634957351, 462854.264688, -114.82764666564101, 193328, 13471287, 60232881642), (1634957463, 4722.441948, -1.171089355337203, 193328, 13471297, 57603629826), (1634957477, 2501.547975, -0.6203395635025784, 193328, 13471300, 45964574200), (1634957512, 200000, -49.587616191289264, 193324, 13471305, 42660568023), (1634958080, 198.170711, -0.049125408326179676, 193324, 13471343, 60954284863), (1634958835, 1454, -0.3604379267400685, 193324, 13471395, 57099703034), (1634959440, 1389.991309, -0.3445696918769375, 193324, 13471439, 60811310462), (1634960377, 5392.270166, -1.3367002909580006, 193324, 13471500, 66444881082), (1634960433, 1500, -0.3718356499424152, 193324, 13471505, 64439118178), (1634961344, 1250, -0.3098622910744172, 193324, 13471576, 56715994570), (1634962096, 520680.295645, -129.01157189635444, 193315, 13471625, 74264900117), (1634962210, 98597.347125, -24.41635084915967, 193313, 13471633, 69352927739), (1634962506, 499499.878962, -123.62777036734512, 193304, 13471647, 88836672123), (1634963028, 288763.670491, -71.41898929132729, 193299, 13471687, 48203037364), (1634963091, 931.040153, -0.23021087604998178, 193299, 13471692, 59062729049), (1634963122, 514316.725319, -127.11180530402541, 193289, 13471694, 67026405484), (1634963387, -8907.644604, 2.213754653868494, 193290, 13471707, 70000000000), (1634963469, 2000, -0.49407131329487175, 193290, 13471713, 67825133491), (1634963482, 12031.135506, -2.9720817886145823, 193289, 13471715, 61022912618), (1634965517, -100761.955773, 25.043518276835282, 193291, 13471855, 100000000000), (1634965531, -398352.457649, 99.051874165125, 193298, 13471856, 55679468754), (1634966238, -2635.049142, 0.6554532860366902, 193299, 13471893, 70000000000), (1634966955, -241257.675451, 60.02472647488617, 193303, 13471939, 65376818457), (1634966955, -434641.526933, 108.20477690991513, 193311, 13471939, 244432310492), (1634966978, -5219.812483, 1.3, 193311, 13471943, 57743796645), (1634967109, -4917.669601, 1.2247622470765835, 193311, 13471949, 68000000000), (1634967109, -16060.508204, 4, 193311, 13471949, 64914805765), (1634967349, -1324.971033, 0.33, 193311, 13471967, 56842664564), (1634968056, -256659.270499, 63.9390365265, 193316, 13472032, 42835208901), (1634968218, -20899.10747, 5.207702371728029, 193316, 13472045, 42710811013), (1634968286, -37121.412352, 9.255624225901558, 193322, 13472052, 40616449511), (1634968286, -308399.437951, 76.8707520209422, 193322, 13472052, 39116449510), (1634968303, -181417.694342, 45.2423125512918, 193326, 13472053, 159170607534), (1634968311, -12877.993922, 3.2120920990373127, 193326, 13472054, 42470861469), (1634968427, 2836.409043, -0.7032387790374078, 193326, 13472060, 49493837331), (1634968463, -157407.274647, 39.26700788406134, 193329, 13472064, 43939130112), (1634968511, -39919.080645, 9.96, 193329, 13472066, 47460581529), (1634968679, -4228.516511, 1.0550761302545575, 193329, 13472077, 59627167985), (1634968942, -401895.506208, 100.31478829438885, 193337, 13472097, 58700879209), (1634969155, -674.032619, 0.16830127412185236, 193337, 13472107, 59346908122), (1634969188, -185017.247333, 46.2051166187626, 193340, 13472111, 51954035235), (1634969208, -148125.143359, 37.00280809132939, 193342, 13472112, 57632210584), (1634969234, -71240.962625, 17.8, 193344, 13472118, 46814560812), (1634969700, -5594.003651, 1.3977918558720457, 193344, 13472157, 45915043550), (1634971015, -1149.199059, 0.2871558145649314, 193344, 13472236, 66346597475), (1634971417, 31915.480078, -7.922132469850974, 193337, 13472270, 56000000000), (1634971417, 339439.795925, -84.2841258466778, 193338, 13472270, 41157914157), (1634971464, 1200, -0.29785800482781327, 193337, 13472274, 41220605791), (1634971536, 10000, -2.4821255138262366, 193337, 13472279, 46586729700), (1634971577, 5947.5, -1.4762233793540285, 193337, 13472284, 42342241365), (1634972108, -7239.827502, 1.8078235269895402, 193337, 13472319, 56233907652), (1634972375, 170948.024814, -42.424771022733154, 193334, 13472336, 54441180586), (1634972513, 2000, -0.4962712940420964, 193334, 13472344, 58380319850), (1634973312, 8729.621747, -2.1661098384835853, 193334, 13472397, 49720968749), (1634975853, -1260557.293985, 315.02, 193356, 13472582, 51822647228), (1634975860, 843081.428193, -209.5060797540747, 193341, 13472584, 56027433048), (1634977175, 3010.229666, -0.7474853613118919, 193341, 13472667, 55653865366), (1634977502, -13226.181866, 3.3040845568271053, 193342, 13472688, 66925722196), (1634977895, 352477.023238, -87.5, 193335, 13472716, 59841807994), (1634979136, 120899.644095, -30, 193333, 13472804, 55403457687), (1634980363, 3497.22644, -0.8677057014046162, 193333, 13472887, 46033075751), (1634980462, -148689.471448, 37.11882374713012, 193336, 13472899, 41511488316), (1634980499, -1907.244428, 0.4761875260422442, 193336, 13472902, 40188788776), (1634980521, -126624.910917, 31.619029947049587, 193338, 13472903, 93092786864), (1634980521, -11097.749439, 2.770840684582001, 193336, 13472903, 43731486419), (1634980546, -220240.235369, 55.01218773113927, 193342, 13472904, 46644437564), (1634980566, -209295.089456, 52.2980924296281, 193346, 13472906, 93698103421), (1634980570, -539777.245732, 134.9672655463057, 193355, 13472907, 42683804397), (1634980592, -408791.390306, 102.3008484023421, 193363, 13472908, 48018358292), (1634980603, -262164.455853, 65.64604956547008, 193367, 13472909, 47026766283), (1634980628, -199905.440639, 50.076807979151354, 193371, 13472914, 34047204006), (1634980923, -322376.473597, 80.79337512095961, 193376, 13472936, 42169422324), (1634980975, -10705.603931, 2.683807675969911, 193377, 13472939, 44143342790), (1634981022, -1117.753631, 0.28021465544636, 193377, 13472942, 49514195944), (1634981046, -8376.660129, 2.1, 193377, 13472944, 51295661110), (1634981047, -541383.130118, 135.78801330637825, 193386, 13472945, 43125236920), (1634981089, -250306.224453, 62.8239, 193390, 13472949, 60575937831), (1634981778, -340470.044951, 85.49745305409793, 193396, 13472992, 66680008189), (1634981800, -1104840.126216, 277.78881442509964, 193415, 13472995, 57800261178), (1634982335, 807661.7806, -201.90513451754262, 193401, 13473038, 50731851770), (1634982501, -1759.621031, 0.44222761967492646, 193402, 13473047, 52441604001), (1634982962, 312379.206142, -78.01592709969331, 193396, 13473087, 37777886642), (1634984840, -199022.063859, 50, 193400, 13473224, 45828048261), (1634985105, -500, 0.1256358105869385, 193400, 13473237, 53988314190), (1634985128, -5975.518661, 1.501486639782176, 193400, 13473239, 57290373531), (1634985648, -313889.771474, 78.8937779194093, 193405, 13473275, 43121810993), (1634985789, -39219.287485, 9.860466423051966, 193406, 13473286, 53480513336), (1634985852, -145880.028287, 36.68283522424922, 193408, 13473290, 48515082856), (1634985880, -235403.711768, 59.21382602547653, 193412, 13473291, 345110938958), (1634985918, -127175.773508, 32, 193415, 13473292, 57721332366), (1634985929, -1600, 0.40263711004773045, 193415, 13473294, 48000000000), (1634985944, -4443.460222, 1.1181945668457003, 193415, 13473296, 48682979612), (1634986024, -1311066.958998, 330.3040694615777, 193437, 13473303, 42902259837), (1634986398, -165123.203623, 41.65339278767154, 193440, 13473323, 57827614729), (1634986460, -679507.458575, 171.53522424973553, 193452, 13473326, 61242532544), (1634986480, -178687.184885, 45.14133925886996, 193455, 13473328, 54592483014), (1634986507, -261707.136447, 66.139647604853, 193459, 13473329, 58484366721), (1634986833, -206146.066695, 52.11910828409478, 193463, 13473354, 43482375457), (1634986843, -252472.222382, 63.85688235060723, 193467, 13473355, 46329001389), (1634986888, -1230501.393327, 311.62574871618875, 193489, 13473356, 753909143735), (1634986911, -466674.441481, 118.35947418388992, 193497, 13473359, 51883971349), (1634987019, 427168.228408, -107.69451977157769, 193489, 13473367, 47338976439), (1634987054, 1154603.988173, -290.6933175754614, 193469, 13473372, 40895604355), (1634987071, -5937.950123, 1.5, 193453, 13473373, 47986975890), (1634987071, 970764.869659, -243.96087593371374, 193453, 13473373, 45986975890), (1634987246, 250.86973, -0.06299345454643311, 193453, 13473386, 45855801029), (1634987297, 4398.02993, -1.104342041891062, 193453, 13473387, 50332679608), (1634987300, 600822.572644, -150.7874862756689, 193442, 13473388, 52999510261), (1634987390, 999800.039992, -250.57274069918455, 193425, 13473397, 1137817001540), (1634987390, 515892.134394, -129.1258634513816, 193416, 13473397, 48834804506), (1634987437, 2895.752195, -0.7235817293517516, 193404, 13473398, 50532032724), (1634987437, 715754.881867, -178.96115908227878, 193404, 13473398, 51784532725), (1634987567, -2306.69222, 0.5798628894539357, 193404, 13473409, 51972112266), (1634987621, 2566.271475, -0.6412516316858271, 193404, 13473412, 51301281319), (1634987708, -7823.687238, 1.965782364089357, 193399, 13473416, 60132790879), (1634987708, 286207.861265, -71.49895497411349, 193399, 13473416, 58632790879), (1634987740, 116958.310429, -29.20819036620432, 193397, 13473420, 48368001241), (1634987776, 220042.833498, -54.935752843988745, 193393, 13473421, 55769288426), (1634987785, 383205.296773, -95.62124004614036, 193387, 13473423, 48345241347), (1634987949, 465.57144, -0.11613580124923942, 193387, 13473437, 57200000000), (1634988139, 203025.718184, -50.6354855660464, 193383, 13473451, 43329791186), (1634988156, 1278810.636971, -318.5294693070825, 193361, 13473452, 44984178091), (1634988172, 623.593826, -0.15515170328720718, 193361, 13473453, 50000000000), (1634988291, 343669.213272, -85.47987375168692, 193355, 13473461, 46490289231), (1634988307, 149912.772768, -37.2712, 193352, 13473462, 62035353095), (1634988309, 280754.696245, -69.77459699144819, 193347, 13473463, 43149027561), (1634988545, 1687081.252086, -418.55786097632125, 193318, 13473480, 75900000000), (1634989180, 4000, -0.9909049165757834, 193318, 13473536, 47023025170), (1634989260, 500, -0.12372765315491224, 193307, 13473541, 48000000000), (1634989260, 602629.969013, -149.2053580928712, 193307, 13473541, 46222696506), (1634989329, 188555.985062, -46.65120374790741, 193303, 13473545, 48034733345), (1634989329, 5000, -1.2368485689192563, 193303, 13473545, 49534733345), (1634989465, 229673.703482, -56.80226657037129, 193299, 13473550, 59579780966), (1634989516, 20000, -4.945228522822604, 193299, 13473552, 61841592794), (1634989764, 11000, -2.7197994751745975, 193298, 13473570, 47190000000), (1634990524, 1089432.035526, -269.09931365735406, 193279, 13473642, 54992592212), (1634991511, -2778.980024, 0.6898921692731895, 193279, 13473716, 49282295593), (1634992089, 17339.477946, -4.278745138909007, 193278, 13473749, 58943926291), (1634992099, -5887.455665, 1.4615485646720874, 193279, 13473750, 63170089989), (1634993506, -1929.582785, 0.4790182840595768, 193279, 13473867, 38000000000), (1634995745, -95286.762405, 23.656988357061717, 193280, 13474059, 39875615260), (1634995752, -265377.082988, 65.90708066044633, 193285, 13474060, 44854726700), (1634995767, -128803.111565, 32, 193287, 13474061, 49884421774), (1634996876, -2012.310303, 0.5, 193287, 13474132, 56638632216), (1634996987, -3713.935654, 0.922808674343534, 193288, 13474136, 67493507845), (1634996987, -154.570706, 0.03840661187937735, 193288, 13474136, 67493507845), (1634997040, -2000, 0.4969465094261961, 193288, 13474140, 67176682530), (1634997059, -1489.089189, 0.37, 193288, 13474143, 59739616441), (1634997059, -1911.662698, 0.475, 193288, 13474143, 58756070516), (1634997127, -21000, 5.218078396302498, 193288, 13474146, 69740197989), (1634997244, -13569.95168, 3.3719655327589013, 193288, 13474155, 78000000000), (1634997244, -700, 0.17394359682087818, 193288, 13474155, 58167305227), (1634997276, -391200.50408, 97.244064837375, 193295, 13474156, 61988081360), (1634997378, -3708.978233, 0.9223005182775003, 193295, 13474167, 50851818451), (1634997434, -550, 0.13676737885593532, 193295, 13474170, 61330421379), (1634998582, -9568.224657, 2.379332608220462, 193296, 13474257, 56233015157), (1634998773, -30390.773587, 7.5575526414660015, 193296, 13474267, 72649631119), (1634998921, -367119.345563, 91.3, 193297, 13474278, 97000000000), (1634999012, -10000, 2.487021907705235, 193297, 13474280, 65702679555), (1634999199, -6386.0278, 1.588242549730695, 193297, 13474294, 73000000000), (1634999463, -4020.776253, 1, 193297, 13474312, 74400055914), (1635000565, -23065.041083, 5.736604495140828, 193297, 13474400, 58357519974), (1635000655, -11497.153235, 2.8595947879054173, 193298, 13474406, 67969989093), (1635002492, 1023923.697116, -252.91698160209782, 193279, 13474546, 56307273753), (1635002527, 210116.545943, -51.843022333106354, 193276, 13474549, 58995946040), (1635002561, 165163.278324, -40.73779870061602, 193273, 13474553, 51621208425), (1635002566, 348025.209608, -85.73800646867782, 193259, 13474554, 53532235236), (1635002566, -1251.185948, 0.30999835097154316, 193259, 13474554, 53532235235), (1635002566, 413785.570993, -102.00800147659922, 193265, 13474554, 51532235235), (1635002581, 249425.782705, -61.39274170252197, 193251, 13474556, 117031452435), (1635002581, 199960.007998, -49.2372365266461, 193255, 13474556, 286897673033), (1635002604, 287961.584879, -70.84369559003791, 193246, 13474557, 62278244313), (1635002702, 822245.717125, -202.055563035252, 193230, 13474564, 64157212449), (1635002702, 84663.497187, -20.821783940379742, 193244, 13474564, 64177212448), (1635002746, 637738.997294, -156.51098151142335, 193218, 13474566, 66232477579), (1635002769, 99999.999999, -24.525353310034646, 193216, 13474567, 68619384352), (1635002784, 156814.782102, -38.45054939604072, 193214, 13474568, 76525725989), (1635002818, 865765.306473, -212.08933694280125, 193198, 13474569, 86092012294), (1635002818, 2318.718982, -0.5675837577640622, 193198, 13474569, 85592012293), (1635002974, 582526.682797, -142.51848208977677, 193188, 13474579, 88112800921), (1635003059, 377244.212472, -92.21601488287142, 193181, 13474584, 92858049239), (1635003280, 2856.27843, -0.6979706763182699, 193181, 13474599, 72280570895), (1635003387, 82219.24326, -20.089872863173298, 193179, 13474606, 79859500796), (1635003400, 10178.184122, -2.4867851128580347, 193179, 13474607, 78393863470), (1635003807, -928773.614315, 228.47790897521776, 193196, 13474642, 51290103945), (1635003884, -147989.720121, 36.4404753833756, 193198, 13474648, 61647746416), (1635003947, -250081.259982, 61.6647, 193213, 13474651, 80783039887), (1635003947, -42349.149165, 10.445134187936926, 193214, 13474651, 73969961059), (1635003947, -575780.618337, 141.87015801811168, 193209, 13474651, 71939961058), (1635003964, -319418.353785, 78.90248066235532, 193232, 13474652, 75015501176), (1635003964, -668105.199713, 164.88871031148244, 193226, 13474652, 72995501175), (1635003974, -1187783.599843, 294.21822918036577, 193267, 13474653, 73487813773), (1635003974, -786800.326499, 194.54790825554548, 193246, 13474653, 71487813772), (1635004000, 59874.956272, -14.757327440034278, 193266, 13474656, 67539179263), (1635004045, 261349.442279, -64.39604462164537, 193261, 13474658, 69158214751), (1635004096, 385311.010991, -94.88500497905899, 193255, 13474662, 78792880647), (1635004103, 1304684.444622, -320.8000865614915, 193231, 13474663, 66595766835), (1635004154, 281902.341025, -69.21669932813582, 193226, 13474669, 57193301592), (1635004172, 253859.572222, -62.25730027238132, 193215, 13474670, 59823150295), (1635004172, 395672.765484, -97.09238138443268, 193219, 13474670, 57743150294), (1635004175, 5611.308975, -1.3758154180277276, 193214, 13474671, 55717705771), (1635004184, 191738.040206, -47.00322522102546, 193211, 13474672, 53322845249), (1635004184, 231424.257502, -56.71056743211074, 193207, 13474672, 55524845250), (1635004194, 79104.208134, -19.379125545167764, 193205, 13474673, 52549901280), (1635004199, 298049.714292, -72.99228329556182, 193200, 13474674, 52030407144), (1635004796, 164851.76224, -40.35545887369242, 193197, 13474727, 47754318697), (1635004806, 140268.564028, -34.328186431681814, 193195, 13474728, 57758079489), (1635004810, 121856.489598, -29.815195139139625, 193193, 13474729, 61420507691), (1635004849, 159986.3791, -39.13477712543321, 193190, 13474730, 63963476968), (1635004856, 78499.823353, -19.198009157717525, 193188, 13474731, 69091445273), (1635004870, 265966.75066, -65.02517241810531, 193184, 13474733, 66000000000), (1635004929, 1317925.480906, -321.3307605664219, 193147, 13474738, 65570696007), (1635004929, 749850.029994, -183.16204321846104, 193170, 13474738, 933155885921), (1635004978, 499900.019996, -121.68638546904968, 193138, 13474742, 519364883903), (1635004978, 681886.238751, -165.81071514188582, 193126, 13474742, 126317956075), (1635005019, 274314.975303, -66.64675853725493, 193121, 13474744, 142493802504), (1635005050, 211891.445504, -51.45816519072693, 193117, 13474747, 69599657780), (1635005276, -12281.406832, 3, 193117, 13474765, 69049389839), (1635005292, -327.500482, 0.08, 193117, 13474767, 66161767237), (1635005376, -8187.449617, 2, 193117, 13474778, 54627908855), (1635005416, -3649.126328, 0.8914045750956298, 193117, 13474780, 60671595062), (1635005992, 470554.850766, -114.21035968814321, 193109, 13474821, 65384370205), (1635006053, 269428.004626, -65.35082793858854, 193104, 13474824, 73880893926), (1635006809, -223068.246771, 54.429968816726216, 193108, 13474881, 92562207879), (1635006809, -5777.365089, 1.41, 193108, 13474881, 94562207880), (1635006831, -200776.11744, 49.00965761312694, 193112, 13474883, 85735475073), (1635006838, -333348.101934, 81.409544659691, 193118, 13474885, 73818605181), (1635007006, -1830.454829, 0.4471701924345064, 193118, 13474899, 61470869502), (1635007006, -7876.288597, 1.9241178799782048, 193118, 13474899, 61970869502), (1635007027, -40932.619141, 10, 193119, 13474900, 68957271026), (1635007182, -169822.588007, 41.496160208331744, 193122, 13474907, 84237945932), (1635007323, 12073.551953, -2.932913222083255, 193122, 13474922, 276895279088), (1635007385, 4565.709968, -1.1090880442393336, 193121, 13474927, 57127627570), (1635007398, -145082.877047, 35.45995873734995, 193124, 13474929, 62306069027), (1635007413, -613.474233, 0.15, 193127, 13474930, 62972475341), (1635007413, -149271.713731, 36.49338291937499, 193127, 13474930, 63482475341), (1635007443, -318924.153991, 78.00217564718967, 193132, 13474934, 51926149370), (1635007473, -360026.290553, 88.10850393492993, 193139, 13474935, 58410942245), (1635007473, -4084.835993, 1, 193139, 13474935, 59910942245), (1635007485, -301143.357813, 73.74235416493107, 193144, 13474936, 65704227471), (1635007499, -180608.40156, 44.245412516730354, 193148, 13474937, 144982903113), (1635007565, -16000, 3.92159150381843, 193151, 13474938, 74947998406), (1635007565, -175407.632604, 42.98497735881392, 193151, 13474938, 79417998406), (1635007577, -198343.024664, 48.62306782620509, 193155, 13474940, 80937443693), (1635007894, -440240.641353, 107.98490466597103, 193162, 13474969, 56760699265), (1635008031, -235948.052496, 57.90971540633033, 193167, 13474983, 56370392274), (1635008113, 15059.567777, -3.674713765743211, 193166, 13474991, 56807301573), (1635008116, -844862.246739, 207.55275071759255, 193181, 13474992, 55050979884), (1635008153, -93545.139271, 23, 193183, 13474994, 62590381855), (1635008998, 1800, -0.43995173675369253, 193183, 13475053, 78203954518), (1635009180, 13241.578404, -3.236431861265768, 193183, 13475067, 73835776328), (1635009212, 3000, -0.7332324592392372, 193183, 13475068, 82477831419), (1635009354, 832036.121593, -203.20746031104122, 193168, 13475082, 66365365527), (1635009402, 15000, -3.660674610857616, 193168, 13475087, 58150039538), (1635009412, 628.679165, -0.15342385580357046, 193168, 13475088, 63161181667), (1635009446, 790116.661224, -192.6856802124574, 193154, 13475091, 64396203841), (1635009480, 404, -0.09845415916107171, 193154, 13475094, 60272303781), (1635009484, 45000, -10.965985695871094, 193153, 13475095, 58725015691), (1635009578, 623.213188, -0.15186130920594815, 193153, 13475099, 75431198936), (1635009578, 9099.294286, -2.217287312964227, 193153, 13475099, 82500000000), (1635010617, 2411.936543, -0.5877264159247177, 193153, 13475182, 66670499462), (1635011328, 20805.825699, -5.069735832729913, 193152, 13475233, 86536189224), (1635011776, 364462.127733, -88.77775148173737, 193146, 13475269, 58569447470), (1635011883, 20000, -4.870049828580541, 193145, 13475278, 66218258583), (1635012047, 12300.284316, -2.9947580639840092, 193144, 13475287, 82227638839), (1635012047, 57498.235838, -14, 193144, 13475287, 82227638839), (1635012173, 6277.901922, -1.5284595634298443, 193144, 13475298, 75949035613), (1635012241, 322646.969127, -78.53082060522496, 193138, 13475301, 89141096339), (1635012594, 454.507182, -0.110593201375115, 193138, 13475329, 88679808820), (1635012768, 187679.666191, -45.640498658938434, 193131, 13475347, 70695577639), (1635012768, 234168.065292, -56.96713480672352, 193134, 13475347, 54440177995), (1635012829, 100291.553807, -24.382929800468883, 193129, 13475348, 68136959060), (1635013417, 1613.665927, -0.39227954036518975, 193129, 13475395, 90000000000), (1635013421, 67356.231047, -16.36821184693784, 193125, 13475398, 61501405332), (1635013421, 170091.280313, -41.34257592158332, 193126, 13475398, 59511405331), (1635013517, 9995.863107, -2.428923202961542, 193125, 13475407, 62818903425), (1635013543, 135184.911905, -32.84471144417698, 193122, 13475408, 70472943567), (1635014958, -2197.486877, 0.5370585983441695, 193122, 13475529, 59595092325), (1635015222, 620833.178785, -150.89784400743184, 193122, 13475550, 58554810280), (1635015222, -594408.193747, 145.34902882782166, 193133, 13475550, 58554810280), (1635015331, 8542.914897, -2.0752490756595616, 193122, 13475557, 65061693814), (1635015355, 1979.01185, -0.48073801531597143, 193122, 13475559, 61364735973), (1635015604, -4200.392174, 1.0265035629325905, 193122, 13475583, 55555997355), (1635016596, 9733.288509, -2.364386086453944, 193121, 13475655, 60200735413), (1635016650, -188973.41747, 46.1890328189011, 193125, 13475659, 58261172742), (1635016717, -161296.975841, 39.4366949522246, 193128, 13475661, 78890973177), (1635017014, -13243.333775, 3.2384668327817434, 193128, 13475691, 61127752650), (1635017654, -368.038979, 0.09, 193128, 13475727, 83242295088), (1635017654, -736.077231, 0.18, 193128, 13475727, 83242295088), (1635017654, -1635.731732, 0.4, 193128, 13475727, 83742295088), (1635017682, -9230.345472, 2.2572047258059813, 193128, 13475729, 84353693219), (1635017732, -20114.239052, 4.918900176572007, 193129, 13475732, 91070255665), (1635017788, -153082.600486, 37.441872879743784, 193131, 13475742, 54735450635), (1635017788, -40000.963831, 9.785370045596364, 193132, 13475742, 56735450636), (1635017863, -152381.860796, 37.28334527047498, 193135, 13475747, 59491029107), (1635017863, 439.830573, -0.10698340357620405, 193135, 13475747, 56591029107), (1635017872, -55872.831399, 13.672971745623178, 193136, 13475748, 63548365579), (1635017878, -168147.5866, 41.15664780908065, 193139, 13475749, 64852019486), (1635017930, -166332.447391, 40.724543773867694, 193142, 13475752, 64149135506), (1635018080, -13275.815017, 3.2509473569532994, 193142, 13475762, 73829162375), (1635018146, -25317.919601, 6.2, 193142, 13475770, 57137817211), (1635018534, 800.758331, -0.19492383171392774, 193142, 13475802, 62128239922), (1635019258, -103018.57736, 25.238377998622358, 193147, 13475845, 87942391072), (1635019258, -172142.754994, 42.16267832812905, 193145, 13475845, 80452391071), (1635019414, -213954.784974, 52.431290027037456, 193151, 13475854, 105753155472), (1635019456, -391042.960316, 95.87980814079677, 193158, 13475856, 108195850227), (1635019606, -1957.331759, 0.48008621937972806, 193158, 13475866, 94859853285), (1635019623, -267362.130047, 65.59322156246685, 193163, 13475869, 94498949775), (1635019638, -225248.15455, 55.285475962547714, 193167, 13475870, 90630486431), (1635019794, 2973.709039, -0.7256457913290473, 193167, 13475886, 70009981605), (1635020557, -311809.639458, 76.5676041907011, 193172, 13475944, 64389560308), (1635020984, -8207.814628, 2.0160765505846614, 193173, 13475979, 52515297804), (1635022004, -10526.342488, 2.585617227644693, 193173, 13476059, 68200000000), (1635023641, -5134.60837, 1.261246948333299, 193173, 13476175, 64707344599), (1635024181, -71619.350831, 17.59352751586367, 193174, 13476208, 88231375791), (1635024967, 4045.010102, -0.9877764318005995, 193174, 13476270, 50250001194), (1635025353, -233.772146, 0.057430159830263894, 193174, 13476297, 70417930377), (1635025382, 877734.591401, -214.17161991838006, 193158, 13476298, 78179883708), (1635025531, 14375.601197, -3.5049369821903658, 193158, 13476309, 71863204562), (1635025534, 983571.969396, -239.59363604052945, 193141, 13476310, 62843286559), (1635025548, 24526.215015, -5.969125275711661, 193140, 13476311, 66475855682), (1635025682, 93673.656505, -22.79565452931899, 193139, 13476319, 77753544418), (1635025696, -2046.552658, 0.5009932870527019, 193139, 13476320, 84194249227), (1635025724, -401061.851422, 98.19381772176678, 193141, 13476325, 80000000000), (1635025724, 189673.717657, -46.156561949657394, 193138, 13476325, 88517394439), (1635025867, 95285.153497, -23.181513174957807, 193136, 13476338, 79525842582), (1635025895, 500, -0.12163250883830162, 193136, 13476339, 66109328355), (1635025901, 822.14959, -0.2, 193136, 13476340, 65000000000), (1635026993, 206281.744358, -50.17186300202018, 193132, 13476415, 104468645255), (1635027041, 71989.221311, -17.503355473397164, 193130, 13476421, 109000000000), (1635027041, 49999.895993, -12.158216913378613, 193131, 13476421, 130000000000), (1635027076, 571976.857813, -138.99030966381545, 193120, 13476422, 96239329621), (1635027285, 440132.65679, -106.85634813081657, 193112, 13476439, 95970090785), (1635027934, 9841.697057, -2.3884363879465256, 193112, 13476494, 56739497879), (1635028031, 398745.406584, -96.73470383544289, 193105, 13476503, 51171751171), (1635028038, 929213.685775, -225.1603500045917, 193088, 13476504, 51554508836), (1635028194, -2905.666069, 0.7077433795852527, 193088, 13476518, 53244609795), (1635029064, 540.872494, -0.13095323676445111, 193088, 13476587, 62146427869), (1635029118, 4999.099318, -1.2103500129608573, 193088, 13476596, 44822817582), (1635030512, -23956.703702, 5.835301058959164, 193089, 13476676, 99143854430), (1635030589, 1089455.686875, -263.52807842170506, 193069, 13476682, 91240411349), (1635030751, 151500.800919, -36.60624527701009, 193067, 13476685, 119586587817), (1635030905, 335260.930901, -80.9722334835672, 193061, 13476700, 74194674488), (1635030950, 277663.155003, -67.0248571027305, 193056, 13476706, 62403371096), (1635030970, 100503.271574, -24.25227873454097, 193054, 13476709, 58220623456), (1635031013, 310.822903, -0.07499747398161145, 193054, 13476714, 88000000000), (1635031046, 255212.490503, -61.565499262621955, 193050, 13476716, 61888535546), (1635031076, 149870.673201, -36.1407, 193047, 13476717, 87865662599), (1635031076, 311.246571, -0.0750458712583226, 193047, 13476717, 84000000000), (1635031141, 5391.670128, -1.3, 193047, 13476718, 77146063283), (1635031324, 471533.639872, -113.64481838329155, 193039, 13476735, 66730278644), (1635031424, 322651.318929, -77.57081884570816, 193015, 13476742, 68000000001), (1635031424, 999800.039992, -240.64982223904772, 193021, 13476742, 712295905026), (1635031672, 8457.178189, -2.032652378814858, 193015, 13476749, 104498109032), (1635031714, 294565.52089, -70.77877677750246, 193010, 13476750, 115194629699), (1635031785, 418829.752402, -100.57371001930893, 193002, 13476751, 129587769751), (1635031891, 1040.909291, -0.24986099966002717, 193002, 13476762, 80355248550), (1635032128, 12330.348004, -2.9597551479006707, 193002, 13476784, 55752297949), (1635033017, 4200, -1.0081459030940911, 193002, 13476858, 55000000000), (1635033077, 1900, -0.4560635425099301, 193002, 13476859, 59817781705), (1635033578, 343693.829185, -82.47280591514249, 192996, 13476880, 82949836247), (1635033619, 337312.263418, -80.8927644212417, 192990, 13476885, 71183450577), (1635033703, 413.491301, -0.09913209058567911, 192990, 13476891, 79365489741), (1635033735, 386601.512591, -92.65372896250832, 192983, 13476892, 83463882165), (1635033767, 474246.593897, -113.57251817482445, 192975, 13476894, 81174799978), (1635033829, 531677.257203, -127.21293961623464, 192965, 13476899, 64703258637), (1635033959, -15243.093741, 3.667481940768899, 192966, 13476908, 79200000000), (1635034351, 94891.734364, -22.688560550155845, 192962, 13476933, 64558338133), (1635034351, 99258.597788, -23.7367428070947, 192964, 13476933, 62568338132), (1635034396, 20774.051091, -4.966556896710842, 192962, 13476936, 67405151079), (1635034436, 2400, -0.5737683369533414, 192962, 13476940, 62054492135), (1635035396, -2336.691168, 0.562, 192962, 13477018, 59400000000), (1635035446, -991.65948, 0.2385057459352841, 192962, 13477020, 61723514325), (1635035496, -11367.193571, 2.7339734035918264, 192962, 13477023, 67918338808), (1635035546, -324047.631449, 77.961261597375, 192968, 13477027, 63864809339), (1635035569, -730906.656054, 176.01015256655185, 192981, 13477029, 61567795035), (1635035569, -199162.511531, 48, 192984, 13477029, 66941110080), (1635035569, 1490.748224, -0.3571941519964937, 192984, 13477029, 63567795035), (1635035708, -83385.706638, 20.101703410175343, 192986, 13477036, 73509444890), (1635036059, -289084.431742, 69.74258306288161, 192995, 13477057, 61607496895), (1635036059, -245034.156819, 59.08732153669786, 192990, 13477057, 60506496894), (1635036085, -216084.544643, 52.15447421381114, 192999, 13477061, 50731003971), (1635036161, -159027.500695, 38.395876409435594, 193002, 13477065, 64117960806), (1635036165, -175481.102807, 42.381036572832166, 193005, 13477066, 59455958303), (1635036201, -53669.617077, 12.96456662772904, 193006, 13477070, 51209285586), (1635036529, -152442.613656, 36.83115315326249, 193009, 13477097, 48191952495), (1635036988, -82761.895088, 20, 193010, 13477123, 64460675335), (1635037201, -73359.448541, 17.730288251680427, 193011, 13477139, 66207698839), (1635037691, -8395.278994, 2.0292071371648066, 193012, 13477179, 76000000000), (1635037930, -285430.454421, 69.00885484201272, 193017, 13477193, 78827379013), (1635037930, -123922.845762, 29.971860074136213, 193019, 13477193, 81007359014), (1635037967, -198178.858936, 47.94503984853161, 193022, 13477194, 77307376283), (1635038057, -273702.979807, 66.24411816708201, 193027, 13477199, 80015651166), (1635038109, -166370.468193, 40.28220761860072, 193030, 13477202, 71544784118), (1635038109, -172905.015225, 41.87695612874187, 193033, 13477202, 73746784119), (1635038193, -8256.439361, 2, 193033, 13477209, 64703162803), (1635038322, -476132.090737, 115.38544424396218, 193042, 13477217, 62695839998), (1635038367, -206197.726986, 50, 193045, 13477220, 62601247916), (1635038383, -3912.579645, 0.9489212862312978, 193046, 13477221, 90000000000), (1635038403, -1128.136714, 0.2736091840952482, 193046, 13477222, 72663747221), (1635038857, -32695.744411, 7.93, 193046, 13477255, 64000000000), (1635038857, -5291.302514, 1.2833915383818943, 193046, 13477255, 54860661605), (1635038877, -247318.965587, 60, 193051, 13477256, 67524665636), (1635039936, -360136.914826, 87.41689214512667, 193057, 13477342, 57524849726), (1635040471, 52461.947475, -12.661378288713422, 193056, 13477387, 51871440260), (1635040997, 2985.035741, -0.7203852671533232, 193056, 13477427, 54468841969), (1635043113, 50083.021047, -12.086078422562247, 193055, 13477573, 71865479914), (1635049193, -412311.71055, 100.13130392970946, 193062, 13478020, 63847838950), (1635049236, -1342803.825207, 326.6129606043872, 193086, 13478026, 52665002103), (1635049399, 5531.517807, -1.3389696315354667, 193086, 13478044, 45104854437), (1635049447, 5535.123808, -1.3398293966122072, 193086, 13478050, 41509887716), (1635049739, 9886.879723, -2.393180699967878, 193086, 13478073, 40073644977), (1635050120, -1509.45313, 0.36757193245538833, 193086, 13478101, 54753884186), (1635050137, -765.815473, 0.18648663934454587, 193086, 13478103, 51000000000), (1635050140, -204884.861294, 49.901392851536905, 193090, 13478104, 44980145251), (1635050140, -2000, 0.4872058352395149, 193090, 13478104, 51000000000), (1635050234, 9158.437142, -2.217641928821464, 193089, 13478110, 54947877867), (1635050371, -4105.08541, 1, 193090, 13478119, 56652634679), (1635050596, -10885.451127, 2.6517343192651284, 193090, 13478132, 66840278272), (1635050647, -779.947787, 0.19, 193090, 13478137, 60112344502), (1635051187, -46179.19541, 11.25, 193091, 13478162, 76000000000), (1635051615, 7667.266367, -1.8567433322072837, 193090, 13478199, 51228064738), (1635051985, -92571.558485, 22.554401046533247, 193092, 13478228, 44134994540), (1635052007, -131313.688143, 32, 193094, 13478230, 41072022458), (1635052027, -1641.227506, 0.4, 193094, 13478234, 42000000000), (1635052082, -248.054243, 0.06045588652668017, 193094, 13478237, 49542463784), (1635052145, -1230.916951, 0.3, 193094, 13478242, 43005954057), (1635052145, -1641.218419, 0.4, 193094, 13478242, 43005954057), (1635052201, -19735.324511, 4.810011527585191, 193095, 13478248, 40819456778), (1635052353, -4102.874821, 1, 193095, 13478259, 52102922575), (1635052353, -912.437877, 0.22238889990432908, 193095, 13478259, 52102922575), (1635052408, -805.756717, 0.19638918113420728, 193095, 13478262, 52000000000), (1635052483, -7821.955432, 1.9064801406170777, 193095, 13478264, 62915649167), (1635052702, 9948.169664, -2.4101809027418275, 193095, 13478288, 40275031703), (1635053767, -13526.484845, 3.296875, 193095, 13478360, 162281946043), (1635054745, 4500, -1.090244349147255, 193095, 13478441, 42900000000), (1635054915, -693.358434, 0.16899636206750454, 193095, 13478453, 37000000000), (1635057222, 1330.71872, -0.3224006370136508, 193095, 13478612, 49561850037), (1635057254, 2000.466192, -0.4846626600413146, 193095, 13478613, 55425528097), (1635057607, 1521.290519, -0.3687649703033651, 193100, 13478643, 46925566452), (1635057607, -299099.527524, 72.92026559970394, 193100, 13478643, 53932224547), (1635057696, -213391.249527, 52.0481686280077, 193104, 13478647, 53374532037), (1635057704, -245545.954914, 60, 193123, 13478649, 55000000000), (1635057704, -500275.096847, 122.0992109054681, 193113, 13478649, 232022477617), (1635057704, -250103.279386, 61.0867, 193118, 13478649, 72067397431), (1635057704, -9263.287185, 2.2640285255370207, 193123, 13478649, 48880489906), (1635057704, -44035.228531, 10.752614812451222, 193114, 13478649, 101780489907), (1635057933, -10867.869489, 2.65625, 193123, 13478662, 115303205627), (1635058181, -211181.910377, 51.625812608515446, 193127, 13478681, 55178025681), (1635058257, -388050.816835, 94.91393381454185, 193134, 13478687, 51041664482), (1635058376, -428988.218008, 105.00307978402972, 193141, 13478694, 52719615809), (1635058445, -2858.740379, 0.7, 193141, 13478699, 56050058523), (1635058483, -2877.443804, 0.704583369392761, 193141, 13478704, 61600000000), (1635058588, -4100.007451, 1.0039518299570356, 193141, 13478714, 43885207124), (1635058670, -162592.471261, 39.81924186883628, 193144, 13478720, 48534641932), (1635058746, -12247.888653, 3, 193144, 13478726, 45961889395), (1635058968, -204092.234608, 50, 193148, 13478742, 57417812864), (1635059064, -215101.41443, 52.71674627793392, 193152, 13478747, 55614537656), (1635059087, 1527.901584, -0.37228323314319123, 193152, 13478750, 54862678935), (1635059238, -7236.919596, 1.7739596312217971, 193152, 13478758, 55108480316), (1635059271, -1992.30554, 0.48837057684012586, 193152, 13478760, 60321334192), (1635061536, 718.338955, -0.1750305172019658, 193152, 13478919, 62949401343), (1635061620, 20000, -4.873111869188912, 193152, 13478926, 52129362664), (1635061620, 507.864243, -0.12374171500381265, 193152, 13478926, 52129362664), (1635061648, 231.950421, -0.05651495339343047, 193152, 13478928, 59691258805), (1635062091, -21931.241928, 5.375879109885363, 193152, 13478960, 45273308538), (1635063579, 999.442704, -0.24352444720850286, 193152, 13479076, 51152758438), (1635063638, 999.441968, -0.24352383711597025, 193152, 13479081, 45070879936), (1635063847, -329801.149497, 80.87181288379557, 193158, 13479095, 53247571838), (1635063847, -31907.042932, 7.821536149253557, 193153, 13479095, 53767571837), (1635063882, 3879.796557, -0.9477717873121301, 193178, 13479096, 57108220995), (1635063882, -1080150.841621, 265.2, 193178, 13479096, 56747571837), (1635064948, -21030.4327, 5.168438373910466, 193178, 13479180, 37247784944), (1635065157, 271.414553, -0.0663044377527904, 193178, 13479191, 51584224339), (1635065541, 499.720708, -0.12207774986616178, 193178, 13479224, 34640342187), (1635065971, 2055.817392, -0.502217716344129, 193178, 13479251, 51676404300), (1635065971, 899.734766, -0.2197976945811956, 193178, 13479251, 51676404300), (1635066006, -922420.357858, 226.8828192077514, 193194, 13479252, 57845120028), (1635066119, 19247.596733, -4.709648416634924, 193194, 13479263, 45042665834), (1635066187, 1729.649742, -0.42321598217462597, 193194, 13479270, 39134834141), (1635066312, 880641.485045, -215.30949488893208, 193178, 13479277, 43921977905), (1635066370, 15325.67226, -3.7440228433798075, 193178, 13479281, 42264640320), (1635066378, 49975.142545, -12.208093783758883, 193177, 13479283, 38697329015), (1635066652, -5778.524409, 1.4177389927542485, 193161, 13479308, 41746690211), (1635066652, 918795.302032, -224.2537752893309, 193161, 13479308, 39746690211), (1635066955, 194419.807638, -47.4064686502329, 193158, 13479328, 40904477163), (1635066978, 899735.144398, -219.17503913188906, 193142, 13479329, 43430904130), (1635067062, 1313199.037009, -319.26883355602297, 193118, 13479336, 37819425673), (1635067127, 63233.835611, -15.349665037330482, 193114, 13479343, 39092282234), (1635067127, 192401.413482, -46.714939270615176, 193115, 13479343, 37592282233), (1635067178, 4202.067188, -1.0199678401566719, 193114, 13479346, 43814939724), (1635067721, -5784.491217, 1.412534129659632, 193114, 13479384, 43208982117), (1635068443, 16711.828731, -4.05642908821301, 193114, 13479438, 29818167637), (1635068460, 8442, -2.0490643767927623, 193113, 13479440, 35396816881), (1635068517, 940.745597, -0.22833834420628424, 193113, 13479442, 43560883313), (1635069046, -79242.261727, 19.360923385875, 193120, 13479476, 51155711242), (1635069046, -289144.643205, 70.6224011353078, 193119, 13479476, 55639384174), (1635069107, -86783.730673, 21.217554496875, 193127, 13479478, 54379333920), (1635069107, -290530.298961, 71.00731324469359, 193125, 13479478, 45019333919), (1635069116, -152218.066214, 37.22333708593445, 193129, 13479479, 50640032826), (1635069272, -424614.705266, 103.888256091375, 193137, 13479489, 51744465766), (1635069347, -185094.162607, 45.310533282720215, 193140, 13479495, 46961443043), (1635069364, -104141.118039, 25.5, 193142, 13479496, 64000000000), (1635069372, -3266.860894, 0.8, 193142, 13479497, 47579260221), (1635069403, -2531.83393, 0.6200072897547052, 193142, 13479500, 42755164928), (1635069540, -2041.769262, 0.5, 193142, 13479505, 57419509680), (1635069678, -1764.564773, 0.4321180586154322, 193142, 13479517, 46354830831), (1635070078, -1000.43862, 0.24499449576909138, 193142, 13479552, 49525032125), (1635071396, -11362.738676, 2.7826184594180816, 193142, 13479646, 64272034435), (1635073054, -1902.105607, 0.4658116863200354, 193142, 13479773, 38722436240), (1635073174, -4110.398612, 1.0066117856360453, 193143, 13479784, 36931499703), (1635073213, -15049.635969, 3.685627570558587, 193143, 13479786, 42000000000), (1635073216, 189.674652, -0.046173286878264795, 193143, 13479787, 40700000000), (1635073342, 491.859729, -0.11973538060125227, 193143, 13479797, 50600000000), (1635073916, -208296.83672, 51.021552314436605, 193146, 13479833, 60491586936), (1635073920, -188490.524936, 46.18632719642498, 193150, 13479836, 45240440455), (1635073925, -453181.650354, 111.10755120076162, 193158, 13479837, 42973464982), (1635074240, 3032.947508, -0.7394350170068102, 193158, 13479853, 57279272790), (1635074256, -170082.639611, 41.722392752218354, 193161, 13479854, 68184127203), (1635074308, -218233.701379, 53.55262762842107, 193165, 13479861, 44543784581), (1635074344, -310498.995634, 76.22950592242175, 193170, 13479862, 50109086008), (1635074358, -853.912904, 0.2096991097053316, 193170, 13479863, 55138503504), (1635074463, -364811.189583, 89.6173825417989, 193177, 13479873, 45410595543), (1635074512, -385115.993983, 94.66840834414813, 193184, 13479877, 44591783893), (1635074772, -107331.84403, 26.39564012024908, 193185, 13479894, 57727205720), (1635074832, -1500, 0.368923978647824, 193185, 13479901, 49531935134), (1635074943, -404964.414686, 99.63672563, 193193, 13479906, 56156353155), (1635074954, -418598.578738, 102.72309534284952, 193167, 13479908, 52057270645), (1635074954, 1884413.596005, -460.2570872869001, 193159, 13479908, 101200000000), (1635074969, -874720.469331, 214.9010850702837, 193182, 13479909, 56034923098), (1635074998, -976.121796, 0.24, 193182, 13479914, 62700000000), (1635075012, -283710.346667, 69.77379040848068, 193187, 13479915, 44918952585), (1635075028, -201697.771704, 49.62558780969016, 193191, 13479917, 42174579902), (1635075043, -43859.723569, 10.793574175757868, 193192, 13479919, 44591340204), (1635075250, -1320415.824659, 325.3395957154669, 193215, 13479935, 65419063242), (1635075306, -803649.386343, 198.38673585902097, 193229, 13479941, 60086201849), (1635075359, -502917.938113, 124.29331705983991, 193238, 13479943, 75772711681), (1635075480, -15000, 3.7102937503895657, 193243, 13479952, 72760862051), (1635075480, -215105.509071, 53.196080463009245, 193242, 13479952, 70917374871), (1635075498, -10106.790611, 2.5, 193243, 13479954, 93918836669), (1635075498, -111242.946172, 27.51985435578171, 193245, 13479954, 74958836669), (1635075518, -174582.055082, 43.2, 193248, 13479955, 76000000000), (1635075567, -350531.419193, 86.7789, 193254, 13479959, 107128595225), (1635075631, -2418.843208, 0.6, 193271, 13479962, 69327435988), (1635075631, -930389.650446, 230.59376321298103, 193271, 13479962, 67327435988), (1635075631, -20156.621253, 5, 193271, 13479962, 68827435988), (1635075762, -47770.642732, 11.850580954530122, 193272, 13479971, 103400000000), (1635075953, -74624.99308, 18.51442505125624, 193273, 13479991, 48645403909), (1635076478, -28723.258784, 7.126883113845734, 193274, 13480036, 47737349147), (1635076533, -228738.88512, 56.768260180435156, 193278, 13480041, 44652169524), (1635076643, -35000, 8.688318245241028, 193278, 13480051, 45866589633), (1635076643, -231811.308482, 57.55798698417401, 193283, 13480051, 63808658633), (1635076777, -4123.122157, 1.023973056671132, 193283, 13480062, 44790311027), (1635076804, -608393.400688, 151.17642294629093, 193293, 13480065, 41590267673), (1635076810, -136902.45136, 34.04077862180595, 193296, 13480066, 39970469887), (1635076819, -16182.163061, 4.024242539898508, 193296, 13480067, 43206743923), (1635077298, -8042.166022, 2, 193296, 13480102, 59222257937), (1635077814, 471.071235, -0.11644927730016859, 193296, 13480137, 71500000000), (1635077878, -972948.777005, 242.1736131933754, 193314, 13480138, 63573436408), (1635078130, -1340, 0.3338253355158, 193314, 13480156, 69144925001), (1635078134, 942227.777711, -233.81847891819604, 193327, 13480157, 75000000000), (1635078134, 540618.306146, -133.9851350931506, 193317, 13480157, 75000000000), (1635078134, -1678495.814375, 418.76846790192434, 193343, 13480157, 75000000000), (1635078134, 12958.318361, -3.2065210246897724, 193306, 13480157, 71359693646), (1635078134, 608124.439127, -150.5628844920041, 193306, 13480157, 75000000000), (1635078159, 1264772.764541, -312.61122761254694, 193284, 13480158, 76385631068), (1635078176, -9908.693922, 2.461124740380471, 193284, 13480160, 68561133147), (1635078191, -1783.535063, 0.4426489045604355, 193276, 13480165, 65227430687), (1635078191, 445770.364897, -110.0146596664876, 193276, 13480165, 47401973328), (1635078319, -1887.33175, 0.4684113484181657, 193276, 13480178, 56700469436), (1635078319, -1407918.674984, 349.8666684336773, 193301, 13480178, 45357735185), (1635078342, -300112.947949, 74.69149017825, 193307, 13480179, 50720966138), (1635078345, -1655466.717618, 412.7234852140338, 193336, 13480180, 53755116573), (1635078498, 3222.735199, -0.7997959862316485, 193336, 13480193, 55061117707), (1635078628, 507591.985116, -125.91502598044409, 193327, 13480208, 42962053922), (1635078646, 544905.518621, -135.04813913687013, 193317, 13480210, 39916795326), (1635078667, 1106180.577281, -273.75310002819754, 193298, 13480211, 44903156659), (1635078969, -413341.521726, 102.84530720175, 193305, 13480240, 41456102215), (1635080189, -898.630441, 0.2236747966632207, 193305, 13480324, 51510983465), (1635080566, 475, -0.11752201930233445, 193305, 13480354, 59409320718), (1635080566, 996.509576, -0.24655151803699643, 193305, 13480354, 59409320718), (1635080671, 295440.968021, -73.07720292820403, 193300, 13480365, 46748673100), (1635080785, 294942.441107, -72.9155549132227, 193294, 13480371, 69780679208), (1635080820, 285266.862182, -70.48714954941799, 193289, 13480374, 64026723449), (1635080863, 1000, -0.24702902008739772, 193289, 13480377, 59997070365), (1635081165, 3038.152065, -0.7505090303, 193289, 13480399, 61925081306), (1635081271, 8136.805702, -2.009999927841388, 193289, 13480407, 65000000000), (1635081338, 971.5668, -0.24, 193289, 13480409, 68517253412), (1635081370, 1000, -0.24702293108729848, 193289, 13480412, 59718233718), (1635081370, 703.302185, -0.17373203039697607, 193289, 13480412, 59718233718), (1635081498, 383292.236536, -94.64960439629596, 193282, 13480417, 66428863741), (1635081578, 1649.473259, -0.4071789501703373, 193282, 13480423, 64078512620), (1635081608, 165493.631863, -40.84667951479914, 193279, 13480424, 69710477376), (1635081655, 7018.562328, -1.7320363007993151, 193279, 13480428, 66843455707), (1635081701, 339429.785154, -83.73846084377949, 193273, 13480432, 65447058587), (1635081760, 287307.203818, -70.8401571168375, 193268, 13480435, 69489349537), (1635081760, 138, -0.03401739883375027, 193268, 13480435, 70989349537), (1635081838, 235154.268249, -57.95408512899438, 193264, 13480440, 72398477777), (1635081853, 33835.771397, -8.33328403302122, 193259, 13480442, 64000000000), (1635081853, 242596.011714, -59.76273230336611, 193260, 13480442, 64000000000), (1635081951, 225938.108429, -55.63259718245996, 193255, 13480449, 59457258870), (1635081977, 83241.161069, -20.49078793505906, 193253, 13480451, 64701688407), (1635081981, 1096044.935529, -269.52189456623165, 193234, 13480452, 61988139767), (1635082112, 18335.206133, -4.504241862030253, 193234, 13480460, 74071593729), (1635082184, 1000, -0.24565660880877666, 193234, 13480464, 64482798460), (1635082455, 251160, -61.685307576482025, 193229, 13480486, 55700333100), (1635083197, -427.947587, 0.1057145791377259, 193229, 13480542, 57937736435), (1635083253, -1605.085248, 0.3965, 193229, 13480545, 62422887787), (1635083270, -3296.345022, 0.8142910191779097, 193229, 13480547, 62350512666), (1635083303, -610244.571157, 150.830136479625, 193240, 13480550, 53624295330), (1635083343, -26283.491082, 6.5, 193241, 13480553, 60500000000), (1635083399, -1643.656685, 0.40649220170345796, 193241, 13480555, 64892455353), (1635083539, -538155.809461, 133.15514704191565, 193250, 13480566, 52770060439), (1635083596, 711.523794, -0.17508041902271065, 193250, 13480570, 54777335651), (1635084139, 2992.054128, -0.736234503929289, 193250, 13480602, 79675134759), (1635085395, -2184.497273, 0.5407637892632325, 193250, 13480700, 55964695125), (1635085411, -375479.633486, 92.97980517949206, 193257, 13480701, 56818750013), (1635085681, -465063.541406, 115.24971793215047, 193265, 13480719, 65990759992), (1635085714, -274842.779794, 68.15509583814568, 193270, 13480720, 70624115779), (1635085779, -1027.778847, 0.2549297313790176, 193270, 13480727, 55000000000), (1635086502, -15794.356247, 3.9206394921146135, 193278, 13480769, 87364748789), (1635086502, -12945.761241, 3.213449213164851, 193278, 13480769, 87683050290), (1635086502, -410043.654345, 101.74430678001724, 193277, 13480769, 87884748789), (1635086633, -316349.236371, 78.55077155438832, 193284, 13480782, 64719800056), (1635087222, -300, 0.0745122368855695, 193284, 13480825, 65367097343), (1635087303, -631868.543208, 157.02836586150738, 193295, 13480831, 62978195602), (1635087332, -250062.720942, 62.1931, 193299, 13480833, 95365274097), (1635087353, -602.977088, 0.15, 193299, 13480835, 60930227125), (1635087476, -17687.03905, 4.4, 193300, 13480845, 64879007481), (1635087747, 760.054448, -0.18794861428929494, 193300, 13480861, 80899712595), (1635088406, -202486.610321, 50.382377251796655, 193303, 13480906, 80248283257), (1635088612, -369245.467288, 91.9219638926031, 193310, 13480921, 74643838596), (1635088661, -441084.88491, 109.88558304455529, 193318, 13480925, 68872874197), (1635088671, -250153.776535, 62.3569, 193322, 13480926, 102910324711), (1635088671, -10629.523469, 2.650146639899856, 193322, 13480926, 78971164923), (1635089126, -160739.21573, 40.07994093876003, 193324, 13480957, 80802668366), (1635089126, -30290.492457, 7.553814500830613, 193324, 13480957, 80302668365), (1635089131, -299077.141819, 74.5997929602692, 193328, 13480958, 88135241388), (1635089157, -413899.442784, 103.28890170313063, 193334, 13480961, 78880284836), (1635089185, -2003037.342392, 500.65821837211166, 193360, 13480964, 2756321036268), (1635089185, -1108656.261248, 277.6786556116149, 193375, 13480964, 66705420117), (1635089205, -54891.166122, 13.758854889125406, 193375, 13480965, 74287074566), (1635089433, 75000, -18.68640250137955, 193374, 13480985, 74104277985), (1635089433, 1586805.061249, -394.92273888456475, 193354, 13480985, 61659337414), (1635089436, 763391.862748, -189.69822876414258, 193343, 13480986, 75332943829), (1635089489, -130399.869407, 32.58528889959846, 193345, 13480987, 67124159563), (1635089497, 566.563848, -0.1407410699683437, 193345, 13480988, 74639992809), (1635089586, -617304.208281, 154.33268651245461, 193353, 13480997, 73954007730), (1635089881, -100446.002946, 25.12449496328659, 193355, 13481022, 76661284379), (1635090013, -7955.31309, 1.99, 193355, 13481034, 80000000000), (1635090072, -2001.794507, 0.5007467643322306, 193355, 13481039, 71367038810), (1635090072, -21700, 5.428316944458907, 193355, 13481039, 71367038810), (1635090149, -615.280785, 0.1539165153607441, 193355, 13481043, 82203781626), (1635090434, 270819.409052, -67.32561633711467, 193350, 13481070, 63441133706), (1635090465, 100000, -24.83896672644274, 193343, 13481075, 60184140387), (1635090465, 302833.98451, -75.24705942888805, 193345, 13481075, 52184140387), (1635090512, 93060.897221, -23.111504548521015, 193342, 13481077, 67470273847), (1635090520, 989.5, -0.24572053138037708, 193342, 13481078, 69339382504), (1635090569, 19537.548056, -4.8516335941360875, 193341, 13481084, 58000000000), (1635091156, -48583.203326, 12.137373995453746, 193342, 13481117, 106000000000), (1635091201, -3000, 0.7496906919314965, 193345, 13481119, 96301840341), (1635091201, -136426.356192, 34.08839823508202, 193345, 13481119, 96301840342), (1635091210, -300873.401419, 75.20716355474839, 193350, 13481120, 91884238808), (1635091273, -300689.304598, 75.2004072416606, 193355, 13481123, 99192494350), (1635091273, -830872.333277, 208, 193370, 13481123, 98692494349), (1635091451, -288288.033064, 72.24002833085389, 193375, 13481134, 97128747383), (1635091502, -65000, 16.292885126265276, 193376, 13481137, 116218100170), (1635091502, -427502.768889, 107.20341072744459, 193383, 13481137, 103881065068), (1635091537, -12751.396685, 3.2, 193387, 13481138, 112260786583), (1635091537, -206220.965997, 51.74128536681399, 193387, 13481138, 118519589795), (1635091537, -9525.910133, 2.3905095412628357, 193387, 13481138, 112760786583), (1635091650, -4333.115971, 1.0874238121794704, 193387, 13481147, 95700000000), (1635091650, -419195.582409, 105.23774618087673, 193394, 13481147, 93798220521), (1635091653, -3981.887382, 1, 193394, 13481148, 96477657464), (1635091687, -2103.013828, 0.5281477107417828, 193394, 13481149, 115500000000), (1635091702, -312477.039933, 78.496, 193400, 13481151, 94749659864), (1635091779, -304020.973424, 76.41182937516797, 193405, 13481163, 62265223008), (1635091779, 8721.286917, -2.179400288318927, 193405, 13481163, 62265223007), (1635091827, -3048.62337, 0.7672746515415053, 193416, 13481169, 61581544203), (1635091827, -653757.701716, 164.44521605351912, 193416, 13481169, 61733044204), (1635092452, -2100.066472, 0.5284439468491254, 193414, 13481221, 65916292743), (1635092452, 112769.872788, -28.209154114576236, 193414, 13481221, 65916292744), (1635092484, 400995.069432, -100.26475797199714, 193407, 13481224, 59982468116), (1635092712, 632418.983827, -157.99146719935345, 193396, 13481237, 93552494085), (1635092810, 286511.705044, -71.52087452829248, 193392, 13481248, 64284480675), (1635092859, 291567.558407, -72.74730705324939, 193387, 13481253, 59211095549), (1635092866, 218183.443322, -54.41416521577246, 193383, 13481256, 56465004385), (1635092910, 1673.346039, -0.41724876716737, 193383, 13481258, 70070281316), (1635092957, 2977.810656, -0.7425140418041749, 193383, 13481259, 77992414806), (1635092977, 1400, -0.34908727405181417, 193383, 13481261, 79506086876), (1635092984, 992.5, -0.24747744102433558, 193383, 13481262, 72690920634), (1635093051, 12031.532378, -3, 193383, 13481268, 71246532408), (1635093074, 1000, -0.24934204516016, 193383, 13481270, 76838968883), (1635093409, 508478.956024, -126.7299675983618, 193374, 13481294, 72099202945), (1635093529, 718326.450183, -178.84102779750944, 193361, 13481303, 69290885671), (1635093621, 349960.312215, -87.0487, 193355, 13481305, 120953105307), (1635094225, 476819.059138, -118.5185400604256, 193347, 13481348, 86473128105), (1635094260, 182534.478828, -45.34503964215722, 193344, 13481349, 97271541072), (1635094260, 7210.437462, -1.7909158971788293, 193344, 13481349, 99271541072), (1635094260, 47805.435632, -11.873265697681477, 193343, 13481349, 98771541072), (1635094391, 465242.129287, -115.49926397325744, 193335, 13481359, 87086029703), (1635094525, 551.165281, -0.13677510745958324, 193335, 13481363, 116796349206), (1635094858, 353167.487184, -87.61391843783609, 193329, 13481387, 81164520973), (1635096534, 979.266581, -0.24286243134602822, 193329, 13481495, 113606424001), (1635097236, 3812, -0.9453888983068748, 193329, 13481548, 97000000000), (1635098977, -16221.444854, 4.04726369, 193329, 13481683, 127421787820), (1635099034, -10000, 2.4950648584623765, 193329, 13481685, 161583202096), (1635099062, -1000.388664, 0.25, 193345, 13481689, 152983625427), (1635099062, -509305.510871, 127.13226790796737, 193338, 13481689, 317483625428), (1635099062, -400294.800168, 100, 193345, 13481689, 166000000000), (1635099281, -183976.09381, 45.98353460290455, 193348, 13481708, 117236875377), (1635099319, -371153.916961, 92.81202482873721, 193355, 13481712, 106955327124), (1635099355, -739466.822334, 185.09201369537686, 193367, 13481715, 120219680593), (1635099355, -3511.141945, 0.8794225113005476, 193368, 13481715, 122219680593), (1635099424, -311259.648886, 77.98135556245543, 193373, 13481723, 104055673616), (1635099466, -249335.873201, 62.49773311318358, 193377, 13481727, 233354511300), (1635099466, -26894.282671, 6.742853345516117, 193378, 13481727, 132000000000), (1635099477, -307716.151164, 77.17189686824054, 193383, 13481728, 103281551000), (1635099477, -405444.900444, 101.74290024781929, 193390, 13481728, 103281551001), (1635099494, -218794.324756, 54.933675860727156, 193394, 13481729, 109948532395), (1635099613, -4483.274171, 1.1258494178755938, 193394, 13481740, 118367330007), (1635099743, -1000, 0.25112331330326987, 193394, 13481753, 100950047039), (1635099825, -215539.524409, 54.136962193834236, 193397, 13481760, 99409016963), (1635099868, -170914.259175, 42.9746582067702, 193408, 13481764, 107800000000), (1635099868, -439420.978519, 110.43063112324644, 193405, 13481764, 126675353774), (1635099952, -347424.893531, 87.39498835606246, 193414, 13481766, 122514618405), (1635099996, -250304.081792, 62.9962, 193418, 13481767, 160217983455), (1635100081, -30955.730242, 7.792761779713108, 193418, 13481775, 132000000000), (1635100419, -703255.036995, 177.14732535533372, 193430, 13481803, 244770057992), (1635100548, -9125.207564, 2.3, 193431, 13481814, 188157818955), (1635101280, -7934.847842, 2, 193431, 13481872, 140436035835), (1635101474, 714161.769544, -178.82060068407145, 193419, 13481892, 100726482784), (1635101477, -2871.754502, 0.722961744421778, 193419, 13481893, 92949367871), (1635101583, 1435.342657, -0.35918190408892164, 193419, 13481900, 106578653988), (1635101689, -1278.11297, 0.3217638058015458, 193419, 13481906, 122742133287), (1635101689, 725, -0.18142455465636284, 193419, 13481906, 122742133287), (1635101716, 13137.338777, -3.2874661368885527, 193418, 13481909, 115784910157), (1635102122, 540787.184585, -135.2620181500921, 193409, 13481949, 142975243373), (1635102448, 15249.926612, -3.8125191274208117, 193409, 13481970, 96405198108), (1635102448, 5500, -1.3749892775718289, 193409, 13481970, 138600000000), (1635102537, 225.35, -0.05633678666163678, 193409, 13481974, 120088676748), (1635102596, 9895.8027, -2.4738980791117173, 193409, 13481976, 127510877884), (1635102603, 372179.8925, -93.01280492591479, 193402, 13481977, 141757728327), (1635102603, 14508, -3.6245322453734383, 193402, 13481977, 143257728327), (1635102603, 3760.788263, -0.9395719470441104, 193402, 13481977, 143257728327), (1635102607, 887520.55274, -221.5594514968179, 193387, 13481978, 159195072160), (1635102751, 43956, -10.964444160613297, 193386, 13481982, 161317027734), (1635102778, 1085847.923911, -270.5936909823066, 193368, 13481986, 137950686603), (1635103236, 5686.10388, -1.4156424966109866, 193367, 13482016, 117565489873), (1635103273, 1991979.844647, -495.076703911214, 193333, 13482017, 177000000000), (1635105077, 1030771.851431, -255.513081122243, 193315, 13482128, 405017012879), (1635105314, -2941.121148, 0.7327943172731716, 193315, 13482139, 122805449327), (1635105386, 1217858.634614, -301.2913846986036, 193293, 13482144, 114038260938), (1635105857, 12156.782586, -3.004228652281474, 193293, 13482186, 89642239221), (1635106049, 908417.009047, -224.30763279702387, 193277, 13482199, 85000000000), (1635106063, 6572.066738, -1.6214642596142417, 193277, 13482200, 74000000000), (1635106073, 1900, -0.46876561286860136, 193277, 13482202, 89483500340), (1635106495, -4657.845558, 1.1561068720201686, 193277, 13482230, 101781071208), (1635107434, 469820.472417, -115.86589397201097, 193269, 13482299, 81116981929), (1635107434, 349809.527019, -86.2063, 193262, 13482299, 97193610275), (1635107615, -6108.099293, 1.5138768186317857, 193262, 13482313, 89000000000), (1635107649, 20350, -5.013415433474305, 193262, 13482316, 84000000000), (1635107737, 50000, -12.317204327074064, 193261, 13482323, 104000000000), (1635107895, 1624.597923, -0.4, 193256, 13482331, 91686099475), (1635107895, 269761.66942, -66.43532058615892, 193256, 13482331, 91862349476), (1635107994, 10319.05672, -2.5406771993976736, 193256, 13482337, 94292340566), (1635109067, 10009.801943, -2.46449041445727, 193256, 13482417, 66863844743), (1635109151, 397912.713025, -97.93369479067333, 193249, 13482424, 69455507612), (1635109204, 185684.644767, -45.67675668385802, 193246, 13482425, 83756275619), (1635109263, 463045.709494, -113.8395192196097, 193237, 13482429, 89870753402), (1635109333, 1272869.501588, -312.4527299051778, 193215, 13482431, 113642466299), (1635109399, 636488.588647, -155.97531087511896, 193204, 13482436, 110276436326), (1635109514, 249787.292574, -61.1095, 193190, 13482445, 122611405740), (1635109514, 500072.469039, -122.42233944834815, 193195, 13482445, 100552378509), (1635109583, 268934.99144, -65.76358997548662, 193185, 13482451, 90680294348), (1635109585, 50000, -12.223206504115913, 193185, 13482452, 103474370096), (1635109634, 700000, -171.01102169909547, 193172, 13482456, 188000000000), (1635109666, 482872.033589, -117.84259342368439, 193164, 13482457, 110241484351), (1635109798, -711917.001826, 174.8229224269918, 193176, 13482468, 113475193079), (1635110580, 720.413787, -0.17596089925231825, 193176, 13482518, 116447631208), (1635111283, 1670.270673, -0.4079623565120448, 193176, 13482566, 91161076887), (1635111331, 320075.589687, -78.15590793505231, 193171, 13482571, 85147684717), (1635111387, 37566.253477, -9.17, 193170, 13482575, 85000000000), (1635111387, 1960, -0.47842326911682853, 193170, 13482575, 84761593611), (1635111627, 1525.530257, -0.3723708754564452, 193170, 13482594, 99000000000), (1635112627, 999.165037, -0.24388839506161658, 193170, 13482686, 70850708032), (1635113517, -5125.312901, 1.25859375, 193170, 13482764, 93743002698), (1635114830, -391472.335221, 96.1655550605454, 193177, 13482856, 104530645013), (1635115139, -499218.453637, 122.73075737661851, 193186, 13482874, 101203788679), (1635115213, -363603.401036, 89.45906950072757, 193192, 13482884, 76851226278), (1635116398, 403.102684, -0.09861498833270901, 193192, 13482974, 75152125935), (1635116916, 2743.906776, -0.6712671236325397, 193192, 13483017, 71690340084), (1635119686, 3286.222022, -0.8039343805724155, 193192, 13483225, 95700000000), (1635120070, 299878.319834, -73.34185503462035, 193187, 13483250, 88957338108), (1635120137, 517391.781974, -126.44781783361448, 193178, 13483258, 62895489506), (1635120263, 293.57, -0.07171400468917331, 193178, 13483268, 79344040841), (1635120326, 1980, -0.48367831478725454, 193178, 13483274, 77210895066), (1635120635, 217631.039047, -53.15298439228074, 193174, 13483295, 81745882894), (1635120788, 347449.099412, -84.81649823999463, 193167, 13483303, 95854988362), (1635120949, 7528.582041, -1.8372388069725716, 193167, 13483311, 96000000000), (1635122028, 35811.658234, -8.738968295402243, 193167, 13483398, 63010474604), (1635122055, 412187.099434, -100.5443418993003, 193159, 13483400, 63175344598), (1635122251, 740345.509132, -180.40728995548915, 193146, 13483412, 85344421694), (1635122548, 774067.682442, -188.3718273839726, 193133, 13483430, 88195518090), (1635122587, 1000, -0.24318615111624395, 193133, 13483433, 76416671410), (1635122601, 7688.318564, -1.8696782135764984, 193132, 13483434, 76094433580), (1635122765, 391529.329918, -95.18012640641915, 193125, 13483444, 73739561843), (1635122830, 2000, -0.48602727132233076, 193125, 13483449, 89384508068), (1635123014, 868.884928, -0.21115034897766735, 193125, 13483462, 75963602465), (1635123036, 34556.716482, -8.397468611545877, 193125, 13483464, 135064632919), (1635123036, 9722.746724, -2.3625873120954903, 193125, 13483464, 67000000000), (1635123210, 753749.918833, -183.03440686201253, 193111, 13483484, 48779197783), (1635123503, 1101507.546553, -267.04206115033037, 193092, 13483502, 85160833527), (1635123506, 668715.348284, -161.8650107499564, 193080, 13483503, 82221007210), (1635123640, 563645.738077, -136.2837776921453, 193070, 13483513, 74441095528), (1635123758, 45000, -10.874675090169845, 193069, 13483520, 113804502986), (1635124070, 21992.231292, -5.314315130825225, 193069, 13483545, 90921325443), (1635124107, 2000, -0.48327994954553954, 193069, 13483547, 91446496559), (1635124149, 484442.464359, -117.01025741684278, 193060, 13483553, 78039635551), (1635127055, -1976.699197, 0.4801163319816518, 193060, 13483749, 152000000000), (1635127492, -506745.308477, 123.13794479955337, 193069, 13483779, 99104196582), (1635127724, -4113.398071, 1, 193069, 13483797, 90189304936), (1635127737, -362025.849785, 88.04002475707038, 193076, 13483799, 89263369520), (1635127775, -4932.862844, 1.2, 193076, 13483801, 92005053869), (1635127829, -1000, 0.24326772625336293, 193076, 13483806, 80954033137), (1635128337, -113264.126887, 27.55675, 193078, 13483855, 81241075679), (1635128337, -9029.102764, 2.1965088928097574, 193076, 13483855, 88000000000), (1635131073, 450351.604228, -108.87996607161224, 193070, 13484048, 85706215708), (1635131621, 99716.384921, -24.096333893776606, 193068, 13484098, 61662853686), (1635133542, 66600, -16.09143029619722, 193067, 13484252, 71857088669), (1635133895, 990, -0.23918260693423446, 193067, 13484277, 90000000000), (1635133995, 2623.633136, -0.633864043635983, 193067, 13484287, 75666368928), (1635134024, 2000, -0.48319365822191285, 193067, 13484289, 81999630048), (1635134041, 1784.917367, -0.4312209229739177, 193067, 13484290, 74771282918), (1635134041, 8013.322734, -1.9359341136934518, 193067, 13484290, 74771282918), (1635134041, 10474.927663, -2.5306813296318063, 193067, 13484290, 74771282918), (1635134126, 50000, -12.078850746550211, 193066, 13484297, 78863636947), (1635134137, 912.562027, -0.22044406370300765, 193066, 13484298, 76362477500), (1635134154, 174990.066419, -42.265082154127384, 193063, 13484299, 78988155241), (1635134223, 465000, -112.24707499258997, 193054, 13484304, 74945792648), (1635134315, -1266.822439, 0.3075169796522285, 193054, 13484311, 77061224307), (1635134538, 492290.529451, -118.73433416122369, 193046, 13484328, 70901584450), (1635134563, 405710.474685, -97.774540103403, 193039, 13484329, 76630986096), (1635134625, 623.907481, -0.15030504354151344, 193038, 13484333, 88641794333), (1635134916, -7518.973337, 1.8223183484661851, 193039, 13484354, 81961704586), (1635135213, 12452.803138, -3, 193038, 13484383, 73794737487), (1635135293, 443.491613, -0.10684017399679327, 193038, 13484392, 54445934212), (1635135359, 27488.142673, -6.621918582219559, 193038, 13484394, 66894785766), (1635135532, -23094.178738, 5.596918519759521, 193038, 13484411, 64275027873), (1635138327, -20000, 4.847223767715511, 193039, 13484607, 94645798883), (1635140950, 2647.886433, -0.6379100372400597, 193039, 13484793, 74064803141), (1635141089, -184227.079057, 44.65737893296885, 193042, 13484810, 53965049886), (1635141103, -400795.497978, 97.20489888469243, 193049, 13484811, 56617429839), (1635141103, -206329.921186, 50.06816190908034, 193053, 13484811, 849105989481), (1635141554, -23346.240411, 5.666370563385108, 193053, 13484830, 77940592441), (1635141598, -20599.896287, 5, 193053, 13484834, 76611361213), (1635142315, -146887.787715, 35.657859542417384, 193056, 13484889, 71512669430), (1635142386, -223440.797425, 54.259396871232724, 193060, 13484895, 51150724107), (1635142609, 5052.401691, -1.2197897484749667, 193060, 13484917, 47282147613), (1635145612, -103049.597971, 25.031158904297314, 193062, 13485129, 76437202351), (1635145883, -33754.085592, 8.2, 193062, 13485150, 69734172166), (1635145923, -1200, 0.29152933039105433, 193062, 13485156, 53230204431), (1635146616, 959196.068414, -231.435443933544, 193045, 13485220, 524809177846), (1635146701, 210821.539571, -50.814426155015475, 193042, 13485223, 179702573963), (1635146809, 217611.512452, -52.43111221612967, 193038, 13485230, 59559793903), (1635146841, 992.115851, -0.2389931733347457, 193038, 13485231, 68501222844), (1635146966, 151184.32115, -36.39406897586596, 193030, 13485248, 222703048685), (1635146966, 312962.033151, -75.36921888476397, 193032, 13485248, 246164486199), (1635146984, 579091.716716, -139.18932833120184, 193010, 13485250, 959040963230), (1635146984, 499900.019996, -120.26983400828382, 193021, 13485250, 609581328011), (1635147021, 196926.449031, -47.30030942837384, 193007, 13485251, 93415948691), (1635147021, 2455.596846, -0.5897124328486162, 193007, 13485251, 56152496932), (1635147043, 60000, -14.405868736712021, 193004, 13485252, 70426883897), (1635147043, 92261.531055, -22.154779685933136, 193005, 13485252, 77144647052), (1635147134, 233692.71498, -56.09451648570505, 193000, 13485260, 55530118507), (1635147324, 58553, -14.05115357517127, 192999, 13485269, 71594007245), (1635147448, 10000, -2.3995868025447087, 192999, 13485280, 55607215057), (1635147498, 172299.382963, -41.338059338033396, 192996, 13485285, 47612293032), (1635147543, 30000, -7.196309359510243, 192995, 13485287, 46589922127), (1635147589, 609.616295, -0.14622895198622718, 192995, 13485291, 48036002316), (1635147621, -1814.766652, 0.4379330677854855, 192995, 13485294, 54649261810), (1635147624, 120680.110519, -28.93220891945159, 192989, 13485295, 61385282336), (1635147624, 241482.448953, -57.91228433497033, 192991, 13485295, 57385282336), (1635147679, 209477.622187, -50.20611621236191, 192985, 13485299, 56367727586), (1635147808, 700.302236, -0.16781227427529005, 192985, 13485314, 62713380736), (1635149528, -25063.749852, 6.04231459800942, 192986, 13485447, 79420054479), (1635150584, -580.81852, 0.14002565976907033, 192986, 13485531, 55113444251), (1635150735, -868389.421762, 209.5158059070032, 193001, 13485543, 58230727054), (1635151037, -518389.852635, 125.22575482313958, 193010, 13485560, 75366708710), (1635151409, -6964.468042, 1.6831694159950834, 193010, 13485588, 63906551081), (1635151498, -462899.686202, 111.92011556739475, 193019, 13485595, 55247081353), (1635151504, -297462.176488, 71.96916989727593, 193024, 13485596, 50923612878), (1635151950, -21185.983121, 5.127271194574096, 193024, 13485631, 75000000000), (1635151993, -1032.984415, 0.25, 193024, 13485635, 52547100481), (1635152002, -263960.630802, 63.89805623204284, 193029, 13485636, 53173239042), (1635152115, -552624.543413, 133.8732551262185, 193039, 13485645, 49829416375), (1635152199, -344711.983439, 83.57309007404764, 193045, 13485649, 63881399856), (1635152240, -2109.892383, 0.5116869134543216, 193045, 13485654, 52974591402), (1635155664, 1191.751551, -0.2872899313532023, 193045, 13485906, 48683884891), (1635156917, -17650.940786, 4.280737102056511, 193045, 13486008, 57904531802), (1635157832, -313374.078222, 76.02234082418197, 193051, 13486070, 62424928310), (1635157844, -8292.731474, 2.0123320398591233, 193051, 13486071, 75000000000), (1635157887, -7849.020719, 1.9046875, 193051, 13486072, 157911179697), (1635157937, -253694.88908, 61.614589341929246, 193062, 13486077, 538686095744), (1635157937, -341129.642526, 82.80606430668541, 193057, 13486077, 661245316457), (1635158225, -544.21332, 0.13220228688253616, 193062, 13486089, 79789050602), (1635158231, -10702.844441, 2.6, 193062, 13486090, 88106243112), (1635158239, -457153.528379, 111.10063399097808, 193070, 13486091, 78612859571), (1635158391, -290366.656328, 70.61376386504848, 193075, 13486100, 72051467389), (1635158417, -4529.608215, 1.101836, 193075, 13486102, 78407978431), (1635158775, -264962.489573, 64.46806519557823, 193080, 13486141, 48692322444), (1635159639, -35117.280505, 8.546661946314755, 193081, 13486206, 44664551001), (1635159731, 2627.113559, -0.63556097024648, 193081, 13486211, 55403341214), (1635160498, 99772.268117, -24.135103804421025, 193079, 13486266, 52907034250), (1635160945, 1510363.320935, -364.839753181666, 193052, 13486302, 1522463240063), (1635161234, 4178.521698, -1.0080021094064489, 193052, 13486318, 57670265039), (1635161392, 2019179.495867, -486.2394606145424, 193017, 13486332, 85800000000), (1635161496, -26618.538041, 6.4375, 193017, 13486334, 602267588602), (1635162078, -1157196.493485, 280.1483583964161, 193037, 13486372, 81229650846), (1635163163, -10634.908063, 2.57725, 193038, 13486453, 54987404894), (1635163225, -50000, 12.117575874298902, 193039, 13486457, 103500000000), (1635163255, -68275.073065, 16.548272192051442, 193040, 13486458, 81000000000), (1635163297, -95666.022159, 23.190505459122253, 193041, 13486459, 75871967215), (1635163316, -674.534413, 0.16352835017271652, 193041, 13486465, 59163948911), (1635164870, 99.944163, -0.024084459853081285, 193041, 13486600, 45684467161), (1635165385, 439.320693, -0.10586671496161992, 193041, 13486639, 61744649747), (1635165385, 1982.536222, -0.4777490400508685, 193041, 13486639, 61744649747), (1635165955, -626955.985745, 152.07631527953188, 193052, 13486678, 76445970805), (1635166306, -298360.72142, 72.42964382376964, 193057, 13486715, 74000000000), (1635166374, -2470.94269, 0.6, 193058, 13486721, 67928568840), (1635166501, -16263.850035, 3.9492900545836815, 193058, 13486730, 64827547916), (1635166533, -141.739689, 0.03441861241069033, 193058, 13486732, 68716164464), (1635166644, 2023.859667, -0.4885082281542218, 193058, 13486740, 70618711434), (1635166665, -4058.087399, 0.9854244640322491, 193058, 13486743, 55544783182), (1635166850, 6974.308169, -1.6834192824390617, 193058, 13486759, 57783836726), (1635166852, -1570.115073, 0.3812679439542266, 193058, 13486760, 56960642272), (1635167007, -28651.707067, 6.957620770662793, 193058, 13486776, 58482479859), (1635167167, -327283.468798, 79.50035998722184, 193064, 13486786, 69273281755), (1635167254, -375, 0.09111719936109551, 193064, 13486794, 63800331706), (1635167301, -342549.292662, 83.25724910930066, 193070, 13486796, 68144423761), (1635167453, -1480.720919, 0.36, 193070, 13486805, 297423227208), (1635168337, 934760.313681, -225.718694811837, 193054, 13486861, 93164137712), (1635168506, 559689.056638, -134.97396799717816, 193044, 13486869, 89195685693), (1635168773, 601022.593995, -144.79587584604874, 193034, 13486889, 99295038856), (1635168780, 249968.918011, -60.177, 193029, 13486890, 104419231963), (1635168822, 4000, -0.9627394736334779, 193029, 13486892, 104312575310), (1635168961, 30306.006057, -7.293979911954237, 193029, 13486904, 75516025963), (1635168989, 307125.688057, -73.89666438815955, 193023, 13486906, 95623546057), (1635169046, 354061.35, -85.14086733015957, 193017, 13486907, 92435472742), (1635169253, 410.520496, -0.09868719441595901, 193017, 13486928, 82298848690), (1635169281, -5060.798848, 1.2239297060927736, 193017, 13486931, 80467226352), (1635169394, 19988.815338, -4.805174369610079, 193017, 13486943, 70474198807), (1635170146, 14991.588752, -3.6037658362919602, 193017, 13486995, 105446722376), (1635170470, 674913.089512, -162.14233336576393, 193005, 13487016, 92654389016), (1635170491, 526263.114113, -126.29872019899878, 192996, 13487019, 80524255401), (1635170515, 225255, -54.024147185038466, 192992, 13487020, 92351846759), (1635172168, -357495.34332, 86.26679633062861, 192998, 13487145, 87764978875), (1635172253, -482042.663232, 116.40599580530505, 193006, 13487153, 119000000000), (1635172253, -827.862102, 0.2, 193006, 13487153, 65835976345), (1635172277, -1000.4382, 0.24169237506462324, 193006, 13487155, 65659276190), (1635172296, -50000, 12.079860731045247, 193007, 13487159, 69640184115), (1635172334, -6425.290486, 1.5524083723948725, 193007, 13487160, 74713381125), (1635172360, -27729.925816, 6.7, 193008, 13487161, 83295299393), (1635172442, -47593.027066, 11.5, 193009, 13487167, 89647545812), (1635172648, -206880.461664, 50, 193012, 13487181, 84545485098), (1635172710, -550, 0.1329509620938732, 193012, 13487184, 86098699906), (1635172755, -20110.244968, 4.861317115578243, 193013, 13487185, 96519382603), (1635173150, -206798.688472, 50, 193016, 13487217, 102511905167), (1635173601, 608.695748, -0.14631559698015834, 193016, 13487246, 91619562893), (1635175352, -17852.298983, 4.317185404427554, 193017, 13487377, 120000000000), (1635175650, -7055.439154, 1.7062395344190924, 193017, 13487395, 88844354765), (1635176348, -83187.213238, 20.119009191116067, 193018, 13487452, 67325625656), (1635176692, 608858.210732, -146.3048807283837, 193008, 13487477, 78834032438), (1635176802, 3698.63039, -0.888286591623356, 193008, 13487485, 80620719239), (1635176895, 309.72026, -0.07438412867268834, 193008, 13487496, 65641897765), (1635176971, 549740.994642, -131.96596468219323, 192998, 13487501, 87455537682), (1635176987, 331874.201517, -79.60600207904601, 192992, 13487503, 92255790057), (1635177029, 267.294946, -0.06409707471352291, 192992, 13487504, 115784594827), (1635177087, 2810117.17281, -672.2312033312865, 192944, 13487505, 116748191917), (1635177174, 143037.107801, -34.13065560393735, 192942, 13487511, 112000000000), (1635177317, 133363.679988, -31.814972077088644, 192939, 13487519, 112286752977), (1635177326, 328279.940713, -78.28311615307939, 192934, 13487520, 114634904168), (1635177339, 3912.018105, -0.932614441202316, 192934, 13487521, 111169890409), (1635177371, 349508.5681, -83.2969, 192928, 13487525, 148660595671), (1635177406, 349716.011603, -83.2969, 192922, 13487526, 214440000000), (1635177406, 258785.756326, -61.606919517108935, 192917, 13487526, 118000000000), (1635177456, 14529.141869, -3.4580271929992303, 192917, 13487527, 127520472455), (1635177463, 1500, -0.35681063006168984, 192912, 13487529, 129705204890), (1635177463, 320411.982178, -76.23841021760487, 192912, 13487529, 128205204890), (1635177492, 99999.999999, -23.78532830752867, 192910, 13487530, 135633850923), (1635177513, 249612.256397, -59.3535, 192906, 13487531, 258580000000), (1635177554, 125000, -29.713412115478587, 192904, 13487532, 126646094047), (1635177589, 204188.119387, -48.52346421739972, 192900, 13487534, 148175135087), (1635177638, 12573.38939, -2.9874035770916563, 192900, 13487537, 130299144399), (1635177659, 251132.979905, -59.65489784849108, 192896, 13487538, 144637070827), (1635177674, 293746.14286, -69.74422786213789, 192890, 13487542, 118000000000), (1635177768, 186246.358451, -44.202028349254704, 192887, 13487552, 108889334669), (1635177860, 218992.352392, -51.95531697698145, 192883, 13487560, 181433289118), (1635177963, 303112.024823, -71.87976894606987, 192878, 13487564, 261499698419), (1635178192, 1470, -0.3485022697516674, 192878, 13487580, 425700000000), (1635178756, 149113.406914, -35.346629784698194, 192876, 13487630, 300575158617), (1635180078, 1027571.783173, -243.33165375963566, 192858, 13487738, 145148516211), (1635180328, -10503.363247, 2.5, 192858, 13487756, 166443835411), (1635180438, 270356.464748, -63.94999679006056, 192853, 13487767, 116844056927), (1635180469, 10000, -2.3648186258534096, 192853, 13487768, 130944662547), (1635180486, 1195855.506081, -282.5008661554572, 192832, 13487769, 140696691798), (1635180597, 16651.959554, -3.929540794426238, 192832, 13487782, 250000000000), (1635181911, -134777.68103, 32, 192834, 13487874, 117027185257), (1635181911, -111999.499416, 26.597685840345402, 192836, 13487874, 119027185258), (1635181963, -464701.175804, 110.41393662421055, 192844, 13487879, 147935019524), (1635181963, -9406.893448, 2.2360249263080623, 192844, 13487879, 130000000000), (1635181979, -75719.867779, 18, 192846, 13487881, 105873584512), (1635182138, -939122.071828, 223.44428122911933, 192862, 13487890, 131705027168), (1635182167, -3811.461419, 0.907603219186136, 192862, 13487891, 148569882708), (1635182254, -61295.495408, 14.596802791716007, 192863, 13487900, 101599372203), (1635182719, -1794.049517, 0.4272553640724605, 192863, 13487938, 111865967375), (1635182961, -407670.559645, 97.1220195972203, 192870, 13487957, 101656012165), (1635183186, -1646692.237999, 393.010392851979, 192899, 13487974, 119737748141), (1635183451, -5000, 1.1950667842673413, 192899, 13487986, 136238042755), (1635183780, 7678.070356, -1.8241627433438508, 192899, 13488014, 130405817424), (1635184071, -11296.429734, 2.7, 192900, 13488027, 141572625684), (1635184147, -9500, 2.270708324284118, 192900, 13488035, 112206821836), (1635184147, -10041.086353, 2.4, 192900, 13488035, 112206821836), (1635184698, 10623.905764, -2.524130882271468, 192900, 13488075, 148041516173), (1635184845, -270111.9661, 64.57685566428101, 192904, 13488091, 164228953895), (1635184982, -277080.326218, 66.27360905775727, 192909, 13488092, 159019139320), (1635185055, -722245.179048, 172.89728843726257, 192921, 13488097, 178938877722), (1635185167, 16362.1017, -3.895769818604126, 192921, 13488108, 121762931435), (1635185269, -10000, 2.3953090499974925, 192921, 13488114, 138152924362), (1635186656, 285466.153394, -67.95246226448094, 192916, 13488221, 107502402485), (1635186934, -2411.618678, 0.5773840742080808, 192916, 13488244, 126200633864), (1635188111, 521750.668074, -124.11336831657144, 192907, 13488324, 120554202098), (1635188258, 310540.54784, -73.81895871050487, 192902, 13488339, 105429923558), (1635188386, 63670.761834, -15.130459622113094, 192901, 13488347, 126500000000), (1635188844, 42034.526353, -9.988019538964027, 192900, 13488385, 165000000000), (1635189135, -2872.289045, 0.6865887079990562, 192900, 13488410, 124550861133), (1635189357, 7479.869135, -1.7772607111831935, 192900, 13488425, 157111745322), (1635189894, -3458.728926, 0.826764605301376, 192900, 13488471, 125342981939), (1635189979, 2558.380509, -0.6078845965184037, 192900, 13488474, 147592782196), (1635190508, -4798.103356, 1.146927885562203, 192900, 13488516, 123114599890), (1635191137, -6284.19511, 1.5021740659713394, 192901, 13488557, 138600000000), (1635191150, -6004.028079, 1.4352179092690882, 192901, 13488558, 119648589939), (1635191240, -493340.052744, 117.97925966636319, 192909, 13488563, 126184782222), (1635191324, -3334.103038, 0.7977594047858139, 192910, 13488565, 161177111881), (1635191324, -68378.069926, 16.36, 192910, 13488565, 161177111881), (1635191349, -61014.8381, 14.6, 192911, 13488567, 144847154601), (1635191349, -1000, 0.2392734515344134, 192910, 13488567, 144847154601), (1635191631, -98547.168952, 23.584159985360685, 192913, 13488582, 166559251891), (1635191666, -17000, 4.068813759277244, 192913, 13488587, 150871194702), (1635191711, -8534.90455, 2.0428053190282145, 192913, 13488593, 119019136715), (1635191840, -263155.216541, 63, 192918, 13488604, 277000000000), (1635192804, 2899.036404, -0.6900309808548188, 192918, 13488671, 147314450142), (1635192847, 475.438554, -0.11316394408371716, 192918, 13488680, 101551688682), (1635192956, -16722.528163, 4.004343236809026, 192918, 13488692, 100493957939), (1635193122, -16363.181401, 3.9184049647656876, 192918, 13488702, 120700585635), (1635193242, -15932.942295, 3.8154826030993623, 192919, 13488712, 146008761432), (1635193404, -16377.122243, 3.921958662554317, 192919, 13488725, 129716410668), (1635193535, -15788.198239, 3.781027755532431, 192919, 13488732, 159952925881), (1635193759, -15400.635478, 3.6883102817846107, 192919, 13488745, 183132267616), (1635194160, -8050.113601, 1.9279664561379084, 192920, 13488773, 144689404631), (1635196190, 450, -0.10712802562257778, 192920, 13488930, 180400000000), (1635199045, 5511.875686, -1.3121630578806882, 192920, 13489130, 101026983183), (1635200348, 943180.05605, -224.35406941510644, 192904, 13489219, 117234541748), (1635200920, 173211.480007, -41.16283654822253, 192901, 13489259, 111654206291), (1635200920, 7395.774694, -1.7572998644915931, 192900, 13489259, 111502706290), (1635200983, 326165.300044, -77.47739221141775, 192895, 13489269, 79247827220), (1635200983, 849.926672, -0.20183437146623256, 192895, 13489269, 96000000000), (1635201014, -3721.493912, 0.8890818719708992, 192895, 13489271, 99000000000), (1635201035, 140547.298327, -33.372252990054875, 192892, 13489272, 86602943699), (1635201035, 42500, -10.08980426579838, 192892, 13489272, 88602943699), (1635201059, 24157.687357, -5.734875112877707, 192891, 13489273, 98927309953), (1635201079, 139.038708, -0.03298940247017329, 192886, 13489275, 105622986107), (1635201079, 291895.171895, -69.27492104639221, 192886, 13489275, 104122986107), (1635201149, 3731.619757, -0.8853900747509421, 192886, 13489282, 106056017621), (1635201183, 14327.086564, -3.3992908440548644, 192886, 13489284, 108760635234), (1635201760, 846977.311765, -200.77772202363383, 192870, 13489329, 103937320448), (1635201760, 81061.407268, -19.231294769760826, 192884, 13489329, 124000000000), (1635202120, 1979.416648, -0.4688783880351645, 192870, 13489363, 104471122331), (1635202120, 450, -0.10659444996907112, 192870, 13489363, 104471122331), (1635202161, 46136.792, -10.928281629292664, 192869, 13489367, 98237306896), (1635203130, -4557.082683, 1.0858888617823355, 192869, 13489437, 103611839583), (1635203514, 13297.467363, -3.1495929087841508, 192869, 13489461, 118011935473), (1635204039, 274876.885038, -65.09009309797517, 192864, 13489497, 133367792706), (1635204264, 37489.172514, -8.874922618959404, 192863, 13489513, 116416867571), (1635204680, 834.50944, -0.19754930427205916, 192863, 13489546, 119116948349), (1635207335, -29929.244034, 7.12788534514036, 192864, 13489740, 90200000000), (1635207604, 482568.817377, -114.194091638428, 192855, 13489757, 105804888328), (1635207615, 114000, -26.962735865962447, 192853, 13489759, 99145533190), (1635207641, 519950.123984, -122.90838369542546, 192844, 13489762, 94510231046), (1635207680, 352558.615582, -83.27637052934631, 192838, 13489767, 81204953647), (1635207703, 532373.465246, -125.65168785183893, 192829, 13489769, 88385483098), (1635207746, 178391.733973, -42.0778478542055, 192826, 13489770, 100734874860), (1635207763, 151128.706344, -35.63683832113303, 192823, 13489771, 109758187459), (1635207763, 1443.672547, -0.34037863434605514, 192823, 13489771, 109758187458), (1635207850, 258486.031606, -60.929952970797395, 192818, 13489780, 95706393772), (1635207912, 99999.999999, -23.56438382885308, 192817, 13489784, 106422673456), (1635207957, 399880.035989, -94.18763428772618, 192810, 13489789, 200585673008), (1635208000, 1500, -0.35318424990092173, 192810, 13489790, 98836250744), (1635208000, 12300, -2.896075525402365, 192809, 13489790, 98414688477), (1635208059, 305178.759142, -71.83518715548306, 192804, 13489795, 98643515846), (1635208143, 251910.163253, -59.2672573412043, 192799, 13489801, 104329143763), (1635208308, 25000, -5.880346264672657, 192799, 13489816, 88295837288), (1635208332, 12000, -2.822473951843668, 192799, 13489819, 87000000000), (1635208497, 261992.446439, -61.60732649802016, 192794, 13489833, 84000000000), (1635208498, 39768.853305, -9.349123728273113, 192793, 13489834, 79000000000), (1635208789, 17978.313158, -4.226244575381563, 192793, 13489858, 76130201817), (1635209617, -4691.941945, 1.1095909472919496, 192793, 13489919, 108000000000), (1635209690, -8535.926864, 2.0186733628998863, 192793, 13489921, 111303036582), (1635209944, 1697.527669, -0.3990480377346159, 192793, 13489945, 76945549179), (1635210192, -126084.295383, 29.8213222839332, 192796, 13489964, 96356082656), (1635210236, -22828.139498, 5.4, 192796, 13489967, 97483877336), (1635210349, -3804.600068, 0.9, 192796, 13489979, 76000000000), (1635210507, -440506.755119, 104.245473470625, 192804, 13489991, 94600000001), (1635210721, -4935.563858, 1.1684576618018758, 192804, 13490003, 102652692166), (1635210820, -61886.089966, 14.651935331155629, 192805, 13490010, 89538739435), (1635210874, -4317.406535, 1.0222341818298495, 192805, 13490017, 84641686630), (1635212186, 9739.830714, -2.292277025165737, 192805, 13490117, 88697711473), (1635212337, 5003.366897, -1.1775310857245092, 192805, 13490128, 93619595829), (1635212638, -27783.036253, 6.578217082798109, 192805, 13490150, 111100000000), (1635212683, -50678.356348, 12, 192806, 13490155, 103695213935), (1635212683, -258.419347, 0.061193229780707896, 192806, 13490155, 99000000000), (1635212683, -8737.899998, 2.0691352835892833, 192806, 13490155, 97995713935), (1635212744, -44320.20426, 10.495521268658274, 192807, 13490158, 109033981705), (1635212775, -34626.58392, 8.200537653708254, 192808, 13490161, 106879925969), (1635212775, -9915.130158, 2.34827125, 192808, 13490161, 105879925969), (1635213432, 1980.876058, -0.46633769338740816, 192808, 13490203, 99101251111), (1635213495, -464888.986171, 110.1490022272051, 192816, 13490209, 92582133639), (1635213503, -3459.410015, 0.82, 192816, 13490210, 86971257741), (1635213598, -11220.955241, 2.65978972, 192816, 13490218, 86375404204), (1635213656, -30000, 7.111391988988765, 192817, 13490222, 94452932786), (1635215260, 250000, -58.895104943787175, 192813, 13490336, 94927590788), (1635215506, 9480.315107, -2.2328639828332166, 192812, 13490350, 105251471409), (1635215986, 588.961354, -0.138714680232261, 192812, 13490384, 91891873338), (1635216106, 8300, -1.954835895538709, 192812, 13490396, 89720988086), (1635216126, 3819.971753, -0.8996792584449775, 192812, 13490398, 86000000000), (1635217816, 4927.078552, -1.1604566394273206, 192812, 13490517, 93194702678), (1635217816, -19769.423155, 4.684221116058239, 192813, 13490517, 93194702678), (1635218926, 815.385452, -0.19204375258368678, 192812, 13490604, 109454157423), (1635219779, 10437.087657, -2.458171807508476, 192812, 13490668, 108709743282), (1635219831, -36327.593399, 8.607741227362292, 192813, 13490672, 115263139728), (1635220217, 5993.834442, -1.4117549828446783, 192813, 13490708, 95168487580), (1635221380, -6396.546792, 1.5156887003909911, 192813, 13490793, 92779663844), (1635222211, -301353.082819, 71.521627831103, 192832, 13490854, 110216764074), (1635222211, -750629.602275, 177.98438714809126, 192826, 13490854, 631883910782), (1635222377, -64234.043721, 15.249935154714182, 192833, 13490862, 117147025073), (1635222418, -31587.959452, 7.5, 192833, 13490865, 132342564498), (1635222579, -323942.36925, 76.93865565308904, 192839, 13490876, 165000000000), (1635222579, -42090.300771, 10, 192840, 13490876, 105848745923), (1635222598, -66005.444191, 15.683337424648991, 192841, 13490878, 95670762628), (1635222663, -376141.004605, 89.40782801389565, 192847, 13490884, 85865692726), (1635222680, -131571.994799, 31.288094371597257, 192850, 13490885, 96597634473), (1635222742, -416948.806155, 99.19838074273731, 192857, 13490888, 109787712479), (1635222742, -154869.950164, 36.86412977411522, 192860, 13490888, 112000722480), (1635222816, -632598.549429, 150.6819418305058, 192871, 13490891, 135313946843), (1635222948, -34405.66341, 8.2, 192871, 13490895, 139316642937), (1635222993, -241936.074108, 57.67512346351456, 192875, 13490896, 157150357297), (1635222993, -6000, 1.4306468878904504, 192875, 13490896, 155981090694), (1635224060, -13389.190367, 3.192587563784031, 192876, 13490983, 91009125056), (1635224458, 1414.11271, -0.33517170736693497, 192876, 13491016, 115000000000), (1635225080, 430.253452, -0.10197811897400941, 192876, 13491055, 80635313784), (1635226801, 24531.27679, -5.81424624203708, 192875, 13491164, 93650458535), (1635228336, 10351.005506, -2.4532551502996074, 192875, 13491274, 93602454132), (1635228441, -457556.093554, 109.13964928720434, 192883, 13491278, 124665080116), (1635228582, -5408.601157, 1.2906171582267105, 192883, 13491292, 117974769803), (1635228628, -10325.762064, 2.4639989311473083, 192883, 13491295, 84226063807), (1635228883, -1676.243361, 0.4, 192883, 13491310, 102569528474), (1635228892, -1676.22631, 0.4, 192883, 13491311, 95034508763), (1635228892, -4190.58709, 1, 192883, 13491311, 95034508763), (1635228892, 9039.43788, -2.1441556917100306, 192883, 13491311, 95034508763), (1635228948, -2095.308778, 0.5, 192883, 13491315, 87318983797), (1635228997, -190456.287274, 45.467739076282804, 192889, 13491320, 90401971078), (1635228997, -150806.35499, 35.99143688945014, 192886, 13491320, 88901971077), (1635229180, -150460.484892, 35.948851536367684, 192897, 13491334, 87022418025), (1635229180, -300160.324344, 71.68794140776069, 192894, 13491334, 156648433724), (1635229269, -8140.420992, 1.9452220272995648, 192897, 13491342, 81291052659), (1635229357, -62768.569301, 15, 192898, 13491350, 81571052659), (1635229380, -1489.645305, 0.3560050116819033, 192898, 13491352, 83815548475), (1635230103, 11273.049911, -2.677942900311644, 192898, 13491401, 84725953127), (1635230713, -14173.572096, 3.387271351384306, 192898, 13491450, 79180537981), (1635230916, 1689.020683, -0.40123671101688185, 192898, 13491465, 85000000000), (1635231167, -2963.390157, 0.7082143035123155, 192898, 13491483, 80165085718), (1635232217, -5586.466437, 1.3351076703514302, 192898, 13491558, 80000000000), (1635232738, -32319.924806, 7.72438353151987, 192899, 13491592, 79197667788), (1635232788, -1538.515265, 0.3677122947401178, 192899, 13491598, 72913407949), (1635232818, -627.601676, 0.15, 192899, 13491601, 79528596492), (1635232824, -316682.695644, 75.70917149382373, 192904, 13491603, 65083828104), (1635232848, -335068.057018, 80.14865699996152, 192910, 13491605, 76418315829), (1635232899, -105731.320836, 25.30046924049212, 192912, 13491611, 67305068812), (1635232933, -62754.02074, 15.018559873584366, 192913, 13491613, 65367262249), (1635232953, -4152.651929, 0.9938865471974532, 192913, 13491614, 73349812916), (1635235499, 483737.352151, -115.03654314842345, 192905, 13491807, 93449924749), (1635235548, 214749.870187, -51.03917756834079, 192901, 13491810, 101171004632), (1635235548, 8416.680369, -2, 192901, 13491810, 104171004632), (1635235638, 184791.609398, -43.90360766475527, 192898, 13491817, 75466473796), (1635235638, 5000, -1.1877191653935664, 192898, 13491817, 76966473796), (1635235638, 3950, -0.9383054592445266, 192898, 13491817, 76966473796), (1635235723, 1282.483192, -0.304644305224066, 192898, 13491826, 83600000000), (1635235779, 284833.514804, -67.6432079054584, 192893, 13491830, 69290796207), (1635235779, 229048.515323, -54.370851754205965, 192889, 13491830, 76790796207), (1635235977, 186890.416627, -44.347417090719574, 192886, 13491846, 76893926427), (1635236035, 40000, -9.489765109565765, 192885, 13491851, 78727269680), (1635236093, 749775.06748, -177.7574603444413, 192872, 13491856, 631564555601), (1635236093, 270831.746155, -64.1520520504284, 192867, 13491856, 81501621093), (1635236165, 211417.178867, -50.05748311681503, 192863, 13491857, 92829200454), (1635236699, 58428.950503, -13.831040638960783, 192862, 13491903, 75328582341), (1635237084, 252884.107556, -59.84538888910028, 192858, 13491936, 65164604664), (1635237097, 287640.224499, -68.0384785975975, 192853, 13491937, 70660732971), (1635237116, 248949.038517, -58.85898616056317, 192849, 13491938, 120000000000), (1635237655, 5000, -1.1818882982318248, 192849, 13491968, 81763241286), (1635237897, 729.711505, -0.17248663842439488, 192849, 13491990, 72000000000), (1635239979, -16820.54872, 4, 192849, 13492146, 92150785304), (1635240911, -867147.552919, 206.36528271785016, 192863, 13492210, 91603129214), (1635243092, -537219.525467, 128, 192873, 13492372, 75758590412), (1635243289, 1239.836044, -0.29377119229715853, 192873, 13492387, 80362879904), (1635244230, -5276.469878, 1.2577652052004151, 192873, 13492455, 97406521673), (1635245450, 398222.355815, -94.325359138553, 192866, 13492557, 95564970261), (1635245480, 489003.321676, -115.74186118857368, 192858, 13492560, 78154891288), (1635245649, 29776, -7.044586223049621, 192857, 13492570, 91845935488), (1635247813, -1152101.695821, 273.4419514927572, 192839, 13492730, 193600000000), (1635247813, 2229455.001477, -526.4526080869789, 192819, 13492730, 193600000000), (1635247937, -21084.624787, 5.009706209266431, 192840, 13492737, 98734504470), (1635247937, -47561.688602, 11.3, 192840, 13492737, 98734504470), (1635248022, -341735.776904, 81.2212463038553, 192846, 13492747, 81279232833), (1635248093, -1682.499994, 0.4, 192846, 13492751, 87982971723), (1635248122, -259534.187745, 61.715626895779124, 192850, 13492752, 97289925666), (1635248160, -147.154106, 0.035, 192850, 13492757, 90507156116), (1635248191, -6096.352307, 1.45, 192851, 13492758, 95835116956), (1635249268, 15202.557233, -3.594194629748812, 192850, 13492843, 84594220398), (1635249440, 100168.972173, -23.679691460108, 192849, 13492855, 85552125783), (1635250804, -28005.803678, 6.66, 192849, 13492977, 78569318200), (1635250911, -1015098.914579, 241.61098996402896, 192866, 13492982, 91378869216), (1635250911, -17528.998611, 4.175838841235514, 192866, 13492982, 93378869216), (1635251279, -27174.94972, 6.473986009350488, 192867, 13493012, 91886863706), (1635251315, -4198.103382, 1.000155747921741, 192867, 13493013, 102753207000), (1635251358, -83934.71819, 20, 192869, 13493015, 109923991937), (1635251358, -56678.474678, 13.50376815061516, 192868, 13493015, 108260257018), (1635251405, -41937.563739, 10, 192876, 13493016, 123478239861), (1635251405, -357730.345561, 85.27192300108263, 192875, 13493016, 115874989657), (1635251456, -838.720982, 0.2, 192876, 13493017, 131850335736), (1635251575, -151678.999833, 36.17377836576314, 192879, 13493027, 100691321269), (1635251586, -223811.773525, 53.39358165898709, 192882, 13493028, 139691743206), (1635251586, -10000, 2.386117800040117, 192883, 13493028, 118800000000), (1635251653, -49450.230446, 11.8, 192884, 13493029, 122623071303), (1635251676, -511751.983401, 122.17409263699415, 192892, 13493032, 121352001975), (1635251707, -7979.613657, 1.9058650342654038, 192892, 13493035, 107451017185), (1635251707, -58612.91484, 14, 192893, 13493035, 107451017185), (1635251760, -14348.64894, 3.4274608485151874, 192894, 13493040, 95966916367), (1635251807, -13332.015211, 3.1846921095061624, 192894, 13493042, 122000000000), (1635251807, -13413.823744, 3.204306588727362, 192894, 13493042, 112063664234), (1635251999, -25553.657279, 6.104482242204592, 192894, 13493061, 82072208761), (1635252077, -1040.559041, 0.24858347611332063, 192894, 13493069, 77000000000), (1635252960, 2768.997378, -0.6575333104876295, 192894, 13493135, 89464244535), (1635253422, 358.835588, -0.0852098063116168, 192894, 13493173, 90150033283), (1635253510, 2029.028904, -0.48181623544814084, 192894, 13493178, 103760945922), (1635255327, 44394.028286, -10.541459975617476, 192894, 13493293, 149597348903), (1635256820, -1242322.792612, 297.06500142537686, 192914, 13493411, 113389436237), (1635256907, -3809779.865251, 914.7629298507626, 192976, 13493417, 113458059778), (1635257125, -65000, 15.656874506353367, 192978, 13493436, 124719898566), (1635257186, -357291.292296, 86.09271362915602, 192983, 13493437, 126135829970), (1635257233, -384175.116593, 92.6276341296281, 192990, 13493439, 150185667435), (1635257233, -15000, 3.617816746713424, 192990, 13493439, 154185667435), (1635257233, -13282.579789, 3.2036712302896833, 192990, 13493439, 151685667435), (1635257288, -6362.287646, 1.534578976920963, 192990, 13493444, 136864122107), (1635257288, -4643.506401, 1.12, 192990, 13493444, 137364122107), (1635257362, -20729.283329, 5, 192991, 13493450, 131635564664), (1635257411, -480048.865418, 115.838212, 192999, 13493454, 121078090966), (1635257430, -13707.085554, 3.308945935399669, 192999, 13493455, 140800000000), (1635257569, -14792.092244, 3.570955507073244, 192999, 13493462, 145000000000), (1635258390, -48612.020829, 11.736034831670334, 193000, 13493518, 131000000000), (1635260324, -44009.640782, 10.625734622211022, 193001, 13493653, 124166287117), (1635260365, 14939.442949, -3.5854722853972527, 193001, 13493655, 130769374718), (1635261057, -9644.679957, 2.328668, 193001, 13493712, 97385610664), (1635261069, -748290.021963, 180.78539355303954, 193013, 13493714, 86682462241), (1635261105, -7445.568507, 1.8, 193014, 13493715, 99006990025), (1635261105, -11654.682735, 2.817527729498726, 193013, 13493715, 99701385580), (1635261146, -5707.831787, 1.379909349392564, 193014, 13493722, 89690573912), (1635261180, -9004.792802, 2.177, 193014, 13493724, 108000000000), (1635261190, -3034.071894, 0.733525, 193014, 13493725, 103429991832), (1635261568, 1023.204109, -0.24589085195190977, 193014, 13493757, 90395345189), (1635261634, 500, -0.12015713161650152, 193014, 13493760, 111661415086), (1635261678, 106000, -25.471062900438543, 193012, 13493763, 140700000000), (1635261884, 2148.60397, -0.5162483045295302, 193012, 13493778, 126559056597), (1635262054, 567025.070941, -136.17571200609177, 193003, 13493791, 129192455015), (1635262156, 37620.246014, -9.030283575804905, 193002, 13493799, 133000000000), (1635262188, -300.768975, 0.0726288298610374, 193002, 13493802, 100000000000), (1635262244, 6727.886829, -1.6148890623432115, 193002, 13493808, 98912688474), (1635262667, 1824.369606, -0.4378988113405176, 193002, 13493842, 101304600975), (1635262973, 1245555.475436, -298.6588432066235, 192981, 13493866, 106950907147), (1635263015, 401275.637685, -95.94886951073961, 192960, 13493867, 127079360152), (1635263015, 867038.041103, -207.5347901143765, 192967, 13493867, 117372297219), (1635263078, 580005.925854, -138.57343525003114, 192951, 13493868, 127491048137), (1635263279, 330584.479771, -78.92385793199695, 192945, 13493884, 136565092457), (1635263440, 64956.671727, -15.502791691530058, 192944, 13493899, 116789485724), (1635263837, 10000, -2.3864903221075844, 192944, 13493919, 167868518164), (1635263859, 4931.402419, -1.1768601265752148, 192944, 13493922, 225000000000), (1635263939, 3500, -0.8352538146075857, 192944, 13493924, 180086081938), (1635263939, 1421.864601, -0.33932073835576787, 192944, 13493924, 180086081938), (1635263968, 250000, -59.64054574559386, 192939, 13493928, 147749419248), (1635263968, 84000, -20.044665461782724, 192943, 13493928, 147749419248), (1635264110, 500, -0.11925680304684053, 192939, 13493944, 129250140076), (1635264169, -8927.565926, 2.1421944633758887, 192939, 13493949, 140405642322), (1635264418, -2659685.870716, 639.5967509980533, 192982, 13493969, 154942429516), (1635264431, -826886.183138, 199.422609277875, 192996, 13493970, 173568945940), (1635264487, -44476.841745, 10.73437864980064, 192997, 13493975, 210000000000), (1635264657, 9695.001434, -2.3259143872271943, 192997, 13493985, 238320708724), (1635264684, 1014340.447451, -243.14275914112628, 192980, 13493987, 235082271564), (1635264764, 22957.750154, -5.498369319735769, 192980, 13493996, 190300000000), (1635265759, 127874, -30.62193420878265, 192978, 13494065, 212961819855), (1635265845, 558050.653189, -133.56033671422222, 192968, 13494071, 194242072491), (1635265845, 110300, -26.383915753869125, 192966, 13494071, 194242072490), (1635266076, 2000, -0.4783583878562905, 192966, 13494086, 167495015846), (1635266076, 1400, -0.3348499298385005, 192966, 13494086, 167495015846), (1635266128, 4180.996734, -1, 192966, 13494095, 120002163386), (1635266193, 3000, -0.7175279899814867, 192966, 13494100, 140253837919), (1635268395, -3177.902285, 0.7646591441131745, 192966, 13494261, 155789864815), (1635268459, -14305.019148, 3.4420891211675757, 192967, 13494268, 152576971625), (1635269441, 5000, -1.1959068610493813, 192966, 13494329, 172053170992), (1635269446, 7000, -1.6742529315230605, 192966, 13494330, 193328865997), (1635269494, 486567.880901, -116.32918051933662, 192958, 13494338, 143360689314), (1635269526, 7928.40347, -1.8947573568013856, 192958, 13494339, 162760000102), (1635269841, 1209797.107885, -288.83436932446773, 192938, 13494367, 161064149110), (1635269990, 745, -0.17767717431996227, 192938, 13494375, 193533484542), (1635269990, 45142.457717, -10.766556379941637, 192938, 13494375, 194033484542), (1635270231, 804681.472799, -191.78480329269718, 192925, 13494398, 156025181952), (1635270286, 325199.981829, -77.43560552800088, 192919, 13494400, 170675464464), (1635270286, 35710.9689, -8.500884056579267, 192919, 13494400, 172675464464), (1635270403, -190654.671967, 45.635649636096005, 192916, 13494409, 177629534784), (1635270403, 382102.8357, -90.92742617883758, 192912, 13494409, 177921772680), (1635270431, 301700.193526, -71.77672094506964, 192911, 13494411, 184329571460), (1635270540, 349230.919616, -83.0406, 192905, 13494418, 330896406330), (1635270568, 499900.019996, -118.78455156289941, 192897, 13494421, 221000000000), (1635270594, -415260.494809, 99.25186750080267, 192901, 13494423, 161011209069), (1635270597, 186456.529989, -44.29737584202773, 192898, 13494424, 158534098646), (1635270830, 1000, -0.23753736103878145, 192898, 13494440, 189946075444), (1635271207, 499900.019996, -118.6946541368875, 192889, 13494473, 243000000000), (1635271207, 225543.466581, -53.519483206751545, 192885, 13494473, 187583728654), (1635271505, 58612.91484, -13.90498986365374, 192884, 13494495, 177092814538), (1635271639, 20000, -4.744369441722226, 192884, 13494507, 196000000000), (1635271734, 10000, -2.372124581183823, 192884, 13494509, 212655203233), (1635271738, -28207.195587, 6.731530233295298, 192884, 13494511, 234332899291), (1635271967, 644004.830277, -152.68888345694882, 192873, 13494529, 215113439022), (1635272222, 511483.956521, -121.15084108692675, 192865, 13494545, 201478304312), (1635272505, 199859.837193, -47.310669309051356, 192861, 13494562, 221970768619), (1635273941, 19561.002597, -4.629608091470776, 192861, 13494661, 200219091725), (1635274715, 4974.913167, -1.1774151721480204, 192861, 13494713, 164825356362), (1635276449, -3643.229849, 0.8674408960810287, 192861, 13494850, 117159283663), (1635277414, 549.453788, -0.13003969663749382, 192861, 13494926, 113250053979), (1635277474, -31695.191135, 7.546738210390243, 192862, 13494930, 128599968964), (1635277474, -14678.736927, 3.4951968849663224, 192862, 13494930, 128599968964), (1635278960, 1680208.115972, -397.1237359175445, 192833, 13495031, 225097467554), (1635279142, 588786.354717, -138.89334140228343, 192823, 13495039, 258398749699), (1635279278, 888.64572, -0.20952344562455744, 192823, 13495051, 183510289417), (1635279316, 482207.820435, -113.6470855838004, 192815, 13495053, 194743896720), (1635279487, 570696.780333, -134.3808661451945, 192805, 13495065, 208832362073), (1635279487, 7000, -1.6468440697222602, 192801, 13495065, 211076248269), (1635279487, 218357.566377, -51.3814729027549, 192801, 13495065, 211353740155), (1635279507, -5360.599523, 1.2687524181314958, 192801, 13495066, 221239570683), (1635279512, 780265.565084, -183.2913671417916, 192780, 13495067, 200738064455), (1635279512, 492100.607228, -115.72486004152323, 192793, 13495067, 200768167913), (1635279574, 5667.038854, -1.3303427060945572, 192779, 13495071, 212587940500), (1635279627, 433342.607191, -101.68802524524018, 192772, 13495076, 180855123505), (1635279702, 409684.76585, -96.06469251068168, 192765, 13495078, 220987589769), (1635279752, 437625.186435, -102.53929538492422, 192757, 13495082, 221812907453), (1635279752, 62844.343546, -14.718437995827042, 192756, 13495082, 224443383624), (1635279812, 999800.039992, -233.93770351332213, 192738, 13495086, 756191164361), (1635279884, 499794.96596, -116.7892, 192729, 13495089, 307757331043), (1635280030, 399920.015997, -93.37667761132089, 192722, 13495100, 246000000000), (1635280283, 1244185.418349, -290.0775882188864, 192700, 13495118, 182939482904), (1635280632, -1081214.707089, 253.56456446280686, 192719, 13495141, 215410387008), (1635281030, -705658.624636, 165.754399404375, 192732, 13495170, 183987170736), (1635281149, -631479.162846, 148.5061546593256, 192743, 13495174, 234562673700), (1635281183, -413832.027636, 97.4119736730893, 192750, 13495177, 195577439500), (1635281197, -5000, 1.1773882370338922, 192750, 13495178, 195430090728), (1635281279, -1000440.558029, 235.79184573583103, 192768, 13495182, 718334813925), (1635281279, -3258.80296, 0.7687457508936286, 192768, 13495182, 192760643503), (1635281494, 904385.589049, -211.89564775401047, 192752, 13495201, 152077385860), (1635281790, 1177689.39322, -275.4221638272483, 192731, 13495224, 157948081251), (1635281965, -4596.961464, 1.0804332867204651, 192731, 13495248, 116428749723), (1635282074, -40000, 9.401653943890901, 192732, 13495257, 128534242043), (1635282774, 50086.805065, -11.701838169768555, 192731, 13495313, 149558103023), (1635284669, -1332287.593895, 313.4954551009995, 192755, 13495462, 127686940860), (1635284685, -1321673.609139, 311.7296566057099, 192778, 13495463, 128597609204), (1635284756, 488128.589203, -114.52484299821921, 192770, 13495472, 118422503443), (1635285220, -64257.193792, 15.161225, 192771, 13495510, 118000000000), (1635285231, -107517.075826, 25.372081367922117, 192773, 13495511, 142000000000), (1635285242, -10000, 2.3600645611195326, 192773, 13495512, 105467557142), (1635285284, -491201.904139, 115.97822609103454, 192782, 13495518, 109897545169), (1635285305, -688661.659724, 162.835296115077, 192798, 13495519, 125314216309), (1635285305, -250447.544343, 59.1714, 192786, 13495519, 156149201033), (1635285357, -1000557.024637, 236.92452770227078, 192815, 13495520, 140663427712), (1635285373, -1845957.335577, 438.1719951321823, 192846, 13495521, 145057135943), (1635285386, -381332.521833, 90.68740213700447, 192852, 13495523, 122734413939), (1635285388, -132906.070913, 31.621026403189656, 192855, 13495524, 129937450576), (1635285724, -249454.808463, 59.36942849245055, 192859, 13495553, 141450412927), (1635285755, -630690.27639, 150.21355772347326, 192870, 13495556, 130988083211), (1635285781, -51295.736392, 12.224294598651076, 192870, 13495557, 148522072830), (1635285830, -66757.211466, 15.917777726221006, 192876, 13495558, 171681200934), (1635285830, -271130.444547, 64.6306981065174, 192875, 13495558, 162371497253), (1635285840, -469555.796214, 112.01284799000241, 192884, 13495559, 173065324816), (1635285867, -228097.324181, 54.4447891215079, 192888, 13495562, 140766122078), (1635285867, -61780.256577, 14.75, 192889, 13495562, 140766122077), (1635285867, -12564.525861, 3, 192889, 13495562, 140366622077), (1635285867, -7645.532007, 1.825473181140098, 192889, 13495562, 140366622077), (1635285870, -70897.957211, 16.92931749052923, 192890, 13495563, 156110094940), (1635285872, -491680.414325, 117.46129615828733, 192899, 13495564, 141567927035), (1635285895, -751455.777562, 179.70625107124104, 192911, 13495566, 183000000000), (1635285922, -99126.751276, 23.72206367576971, 192913, 13495569, 192000000000), (1635286198, -479330.67929, 114.76307382348166, 192920, 13495588, 147919365157), (1635286209, -762578.159365, 182.76470846340615, 192933, 13495589, 145660674211), (1635286629, 7380.818393, -1.7594262158558045, 192933, 13495624, 141927076314), (1635286959, -573633.874613, 137.62973012997924, 192942, 13495650, 151576103613), (1635287367, -7623.721987, 1.83, 192942, 13495684, 137477699693), (1635287670, -1098595.172802, 263.94603485275286, 192960, 13495710, 108872094606), (1635287733, -2587418.322119, 622.5131258325063, 192970, 13495717, 101539240903), (1635287756, -382080.258075, 92, 192977, 13495719, 127637660042), (1635287797, -20212.904305, 4.886811033495666, 193014, 13495724, 108435000255), (1635287797, -2234038.595188, 539.10224825217, 193014, 13495724, 149000000000), (1635287861, -16544.35505, 4, 193014, 13495729, 150000000000), (1635287906, -450791.955458, 109.03240802974081, 193022, 13495732, 138891396913), (1635287952, -2440785.334964, 591.7667918679308, 193062, 13495733, 153855843271), (1635287959, -1194494.185342, 290.4789092992371, 193082, 13495734, 163712865321), (1635287989, -9030.856075, 2.198331995815404, 193082, 13495737, 160600000000), (1635288189, 508232.717228, -122.78930662511223, 193063, 13495752, 150708205144), (1635288189, 663992.890931, -160.5767924083721, 193071, 13495752, 148283803142), (1635288254, 150000, -36.22034746604712, 193060, 13495754, 171797025360), (1635288405, 20000, -4.8287004283328425, 193060, 13495762, 154657583409), (1635288703, -1147579.640338, 278.9968936228015, 193079, 13495783, 146360510179), (1635288780, -757480.689848, 184.44833073812666, 193092, 13495789, 225000000000), (1635288877, -19000, 4.629525150882412, 193092, 13495796, 185611303916), (1635288973, -1578685.615939, 385.17184435988673, 193118, 13495800, 175238779827), (1635289008, -7320, 1.78830582721497, 193118, 13495805, 141063085718), (1635289031, -4502.541341, 1.1, 193118, 13495807, 147732126403), (1635289039, -559689.966968, 136.8, 193128, 13495808, 147915939751), (1635289080, -613493.667058, 150, 193132, 13495809, 177466163421), (1635289080, 390207.653719, -94.81700854907129, 193121, 13495809, 181604082922), (1635289092, 638373.051897, -155.144988294689, 193121, 13495810, 173956517364), (1635289092, 19953.181553, -4.84661439312561, 193121, 13495810, 195426017365), (1635289105, 735453.524098, -178.52945374626253, 193108, 13495811, 164428842078), (1635289131, -23081.827589, 5.633500663179216, 193109, 13495812, 178753092799), (1635289280, -13013.912257, 3.1763551107975765, 193109, 13495824, 140202359083), (1635289593, 1759581.785258, -425.8029840239168, 193069, 13495854, 108968334224), (1635289593, 75000, -18.176895177719402, 193098, 13495854, 138236483548), (1635289593, 598986.502989, -145.25056513085573, 193099, 13495854, 103778334222), (1635289671, 53000, -12.806288943581379, 193068, 13495859, 128455405648), (1635289692, 2799460.660731, -674.834476525715, 193022, 13495863, 110278334222), (1635289698, -1291610.020735, 312.840893660312, 193043, 13495864, 107185173289), (1635289800, -8248.403568, 2, 193043, 13495871, 111983138436), (1635289923, -412.417215, 0.1, 193043, 13495881, 119469773064), (1635291037, -8767.777172, 2.125971853581595, 193043, 13495948, 120236029477), (1635291037, -2062.081846, 0.5, 193043, 13495948, 120236029477), (1635291037, -500, 0.12123872187598134, 193043, 13495948, 120236029477), (1635291519, -10310.144916, 2.5, 193043, 13495991, 141327765942), (1635291557, -58140.209013, 14.09866339058396, 193044, 13495993, 128832791845), (1635291557, -2020.767735, 0.49, 193044, 13495993, 128832791845), (1635291589, -57047.487177, 13.835006519099698, 193045, 13495995, 138661510157), (1635291664, -11661.841152, 2.8283602375281633, 193046, 13496000, 120823796538), (1635291679, -10303.95541, 2.5, 193049, 13496002, 111772963316), (1635291679, -222763.315831, 54.037560871710774, 193049, 13496002, 110272963316), (1635291741, -28850.137896, 7, 193050, 13496005, 160000000000), (1635291903, -2417.950451, 0.5866901690716525, 193050, 13496015, 122190318185), (1635291959, -469648.887867, 114, 193058, 13496019, 129175487119), (1635292021, -45297.635702, 11, 193059, 13496024, 116839350500), (1635293500, 6052.683312, -1.461065103484789, 193058, 13496141, 102789557699), (1635293819, 613741.848893, -148.07583946371054, 193048, 13496165, 110252843489), (1635293965, 38000, -9.163205239905627, 193048, 13496170, 149478630739), (1635294048, 6096.352307, -1.4700022594596664, 193048, 13496179, 101601701199), (1635294225, 349740.822351, -84.2305, 193033, 13496192, 153192960068), (1635294225, 551465.200606, -132.91237472999018, 193038, 13496192, 100610687385), (1635294370, 565870.463539, -136.17920470081063, 193023, 13496197, 136360989566), (1635294937, 109981.436595, -26.432839725783243, 193014, 13496224, 166149902597), (1635294937, 451682.229617, -108.60770029399582, 193016, 13496224, 164649902597), (1635294974, 3000, -0.7209493595960498, 193014, 13496225, 187160173366), (1635295074, 450, -0.10814209274500883, 193014, 13496233, 134166931394), (1635295865, -4638.034351, 1.1213144591213335, 193014, 13496286, 118000000000), (1635296637, 390438.101718, -93.79857585358573, 193007, 13496340, 105064073184), (1635296637, 1300, -0.312209074703634, 193007, 13496340, 106564073184), (1635296676, 3094.874918, -0.7432649948213023, 193007, 13496344, 111656444812), (1635296776, 10974.848521, -2.635688113586652, 193007, 13496352, 129049231234), (1635296776, 1600, -0.3842473777212989, 193007, 13496352, 128549231234), (1635297324, 156.540282, -0.03759381541728306, 193007, 13496392, 125317714025), (1635297382, 12421.397707, -2.9830201144723647, 193007, 13496394, 126506266462), (1635297402, 2000, -0.4802976487226292, 193007, 13496395, 142111198510), (1635297538, 13000, -3.1218954654421895, 193007, 13496405, 123458880561), (1635297698, 91068.84, -21.858364901444656, 193001, 13496422, 107504970281), (1635297698, 259992.331055, -62.4217843019143, 193002, 13496422, 108006920233), (1635297882, 431778.269359, -103.59013658863383, 192994, 13496437, 112186100565), (1635298158, 297526.769821, -71.33757640969814, 192989, 13496461, 107777135598), (1635298200, 97932.348983, -23.473326468607034, 192987, 13496465, 106632099994), (1635298566, 931.99755, -0.22337125469056734, 192987, 13496487, 139885933682), (1635298571, 580.092331, -0.1390301805599676, 192987, 13496488, 129637180093), (1635298717, 832.18216, -0.19944807578184207, 192987, 13496503, 100000000000), (1635301138, -4131.115123, 0.9960694840649122, 192987, 13496691, 80075429206), (1635302396, 25, -0.005991756563598499, 192987, 13496785, 120000000000), (1635302982, 735755.612504, -176.23016352674503, 192975, 13496826, 117527054060), (1635303310, 442318.820572, -105.8409849863795, 192967, 13496846, 125655487648), (1635303376, 574992.567929, -137.4710558383782, 192958, 13496852, 111511590552), (1635303417, 4.697203, -0.001122485361308027, 192958, 13496856, 96650979024), (1635303563, 10126.19001, -2.419824362753198, 192957, 13496866, 120206614040), (1635303590, 1358.21, -0.32456418354797095, 192957, 13496868, 128738794331), (1635303626, 5000, -1.194793921357557, 192957, 13496871, 110609192355), (1635303626, 11750, -2.807804409737044, 192957, 13496871, 127000000000), (1635304077, 320589.447251, -76.58714864371653, 192952, 13496906, 88570965864), (1635304180, 145801.363515, -34.79241644979214, 192942, 13496913, 97351963798), (1635304180, 443892.947236, -105.97705590033867, 192945, 13496913, 95281963797), (1635304232, 281040.173478, -67.04077397690085, 192938, 13496916, 117535471244), (1635304289, 121954.814838, -29.057370527135337, 192927, 13496919, 114822899997), (1635304289, 517545.921461, -123.37707448822214, 192929, 13496919, 112620899995), (1635304404, 5211.564168, -1.2415953509437625, 192927, 13496930, 141164226942), (1635304423, 33222.374283, -7.914599494656099, 192926, 13496934, 100100000000), (1635304458, 311.81859, -0.07428280853208703, 192926, 13496937, 83662095752), (1635304522, 277271.547848, -66.0378003650443, 192922, 13496945, 88037316346), (1635304571, 28431.861995, -6.763407161754623, 192912, 13496948, 108268504846), (1635304571, 249807.085817, -59.438, 192912, 13496948, 135771282080), (1635304571, 336313.703408, -80.05952448146456, 192916, 13496948, 105968504845), (1635304725, 150800.739119, -35.867392654017955, 192909, 13496960, 115019473067), (1635304754, 240735.76535, -57.1926471328661, 192897, 13496962, 114301198352), (1635304754, 500000, -118.85963485066854, 192901, 13496962, 436714412181), (1635304757, 330994.944007, -78.59809308562495, 192892, 13496963, 106172601441), (1635304775, 308779.047055, -73.28317576334804, 192886, 13496965, 95937077240), (1635304894, 50486.790424, -11.978507934551825, 192885, 13496975, 88982573841), (1635304941, 15500.871643, -3.6775360057688307, 192885, 13496980, 100671798369), (1635304998, 4246.946166, -1.0075586654583024, 192885, 13496983, 97415183798), (1635305065, 9745, -2.311906732502326, 192885, 13496988, 93000000000), (1635305106, 201991.700217, -47.91202341756946, 192882, 13496993, 83459267239), (1635305165, 172671.134166, -40.944318148948305, 192879, 13496998, 97417077926), (1635305169, 9196.196707, -2.1802967926904073, 192878, 13496999, 104464002084), (1635305180, 1038.297498, -0.24616450247559388, 192878, 13497000, 96411251491), (1635305180, 80886.111969, -19.17554032990507, 192877, 13497000, 96249801492), (1635305286, 417484.78086, -98.9309130111641, 192870, 13497010, 85115263453), (1635305414, 16000, -3.7901186783954923, 192870, 13497023, 81010187970), (1635306053, -279825.010091, 66.7, 192875, 13497067, 333000000000), (1635306609, 809.995897, -0.19196179033061556, 192875, 13497112, 109066863584), (1635306736, 544846.577202, -129.06445802540358, 192865, 13497125, 94300517388), (1635306922, 4615.445359, -1.0928111553633102, 192865, 13497147, 85553805773), (1635307308, 452759.045553, -107.15969219968892, 192858, 13497177, 110517623848), (1635307567, -50437.248827, 12.005448425993313, 192858, 13497199, 99613516804), (1635307605, 2316235.007023, -546.9772982442105, 192819, 13497202, 101976976049), (1635308326, 418409.2002, -98.57739345654637, 192812, 13497253, 333000000000), (1635308375, 476751.500348, -112.23718127472904, 192804, 13497257, 113965356655), (1635308375, 373811.781864, -87.90185476474146, 192793, 13497257, 134909870589), (1635308375, 249764.747055, -58.7634, 192800, 13497257, 156236197310), (1635308521, 626527.366351, -147.20247545336602, 192783, 13497258, 145818551079), (1635308564, 172691.856638, -40.510695610057596, 192771, 13497264, 137130381658), (1635308564, 500000, -117.36148455281061, 192774, 13497264, 185000000000), (1635308650, 5168.281843, -1.2115019827360352, 192765, 13497272, 132000000000), (1635308650, 326991.74727, -76.67300147246256, 192765, 13497272, 143871627580), (1635308698, 14383.025304, -3.3684680788216754, 192756, 13497278, 108166936824), (1635308698, 504975.008234, -118.31824551634337, 192756, 13497278, 106666936824), (1635308787, 39262.862185, -9.194826321723015, 192755, 13497286, 111000000000), (1635308787, 385480.124212, -90.2402644439975, 192748, 13497286, 136145542988), (1635308837, 234887.4, -54.956585906610925, 192744, 13497287, 122313967524), (1635309035, 604872.761012, -141.41697981658876, 192733, 13497300, 128860755592), (1635309094, 431834.770975, -100.8688636700458, 192726, 13497305, 122407466941), (1635309238, 400000, -93.364176606425, 192719, 13497315, 170000000000), (1635309277, 349641.437903, -81.5555, 192712, 13497317, 196816070049), (1635309313, 15000, -3.4976207976506366, 192712, 13497319, 132491656357), (1635309313, 9064.702237, -2.113704956355259, 192712, 13497319, 132491656357), (1635309529, -1921.45274, 0.45072927830489673, 192712, 13497336, 137072684004), (1635309603, -84487.035035, 19.820282528226446, 192714, 13497337, 115460973584), (1635309954, 47708.687154, -11.125561968412699, 192713, 13497356, 122972276991), (1635309999, 1426897.938604, -332.3106231636657, 192687, 13497360, 120434426371), (1635309999, 635.652034, -0.14784814738625449, 192687, 13497360, 121844426371), (1635310623, 675658.075057, -157.05826544330856, 192675, 13497397, 132365433304), (1635310633, -1561178.004006, 365.42673427711844, 192704, 13497398, 133268654505), (1635310633, -75000, 17.529583670645422, 192676, 13497398, 154283172751), (1635310691, -1145751.699679, 268.8396425652061, 192725, 13497401, 122722550375), (1635310710, 2009.257585, -0.4691071318567223, 192725, 13497404, 118511992312), (1635310777, 731816.290015, -170.7480187481915, 192712, 13497409, 116571770365), (1635310810, 1168221.380889, -272.1075782819366, 192691, 13497414, 93678133553), (1635310850, 20018.643236, -4.6578793986130504, 192691, 13497420, 102538296322), (1635310858, 554290.24942, -128.90440784530344, 192681, 13497421, 96311615362), (1635311177, 2491.173257, -0.5790528477298802, 192681, 13497437, 115623260599), (1635311192, 21885.088366, -5.086898916118988, 192680, 13497439, 115734518488), (1635311927, 24040.521744, -5.587671406744713, 192680, 13497496, 114401203642), (1635312252, -863864.581863, 202.14810791241246, 192695, 13497518, 118310555475), (1635312564, 28675.523748, -6.674999457223346, 192695, 13497545, 81903627485), (1635312662, -1006.888185, 0.23578710479144338, 192695, 13497550, 116486097669), (1635312903, -1656.794815, 0.3879793135882032, 192695, 13497573, 78501133145), (1635312937, 2048.054498, -0.4767289420445515, 192695, 13497577, 88109413273), (1635312941, -519469.254271, 121.7030131379865, 192704, 13497578, 83005878685), (1635313145, -196647.788148, 46.100947175893985, 192708, 13497600, 91236885849), (1635313168, -4586.621757, 1.075454926064259, 192708, 13497602, 110522851112), (1635313172, -71219.571076, 16.700451654682144, 192709, 13497603, 85831301586), (1635313182, -3198.183407, 0.75, 192709, 13497604, 87643808248), (1635313187, 920.92799, -0.21467169065825525, 192709, 13497605, 83000000000), (1635313268, -777.586472, 0.18235069753085764, 192709, 13497610, 91244934816), (1635313421, -1022490.704532, 240.00288759084393, 192727, 13497624, 93381024688), (1635314164, 988.477627, -0.2308389936351315, 192727, 13497682, 97173910932), (1635314189, -26643.835942, 6.259773785329431, 192728, 13497684, 95502839630), (1635314539, 14053.206232, -3.28195397847923, 192728, 13497712, 131640000000), (1635314600, 59806.754081, -13.966222488928798, 192727, 13497718, 104023257589), (1635314600, 471.715268, -0.11015025975805963, 192727, 13497718, 104023257589), (1635314605, 8908.579174, -2.0802256020241674, 192726, 13497719, 115000000000), (1635314846, 50103.46838, -11.698956880133291, 192725, 13497743, 102351662304), (1635315253, -4819.554925, 1.132083855034088, 192726, 13497772, 116887442787), (1635315489, -230694.359661, 54.2, 192730, 13497783, 154391803222), (1635315529, -1819.26075, 0.42751046757500893, 192730, 13497787, 140000000000), (1635315599, -233199.908981, 54.81136973308003, 192734, 13497792, 125897882064), (1635315612, -218571.592812, 51.39370555239925, 192738, 13497794, 112750115154), (1635315718, -25511.79699, 6, 192738, 13497804, 125562036273), (1635316938, -1203411.232288, 283.3333916475774, 192760, 13497888, 124176695544), (1635317123, -4242.784655, 1, 192760, 13497904, 123535585617), (1635317179, -232837.439481, 54.89, 192764, 13497906, 126786537846), (1635317217, -68809.060788, 16.225659156788684, 192765, 13497910, 118950836839), (1635317265, 352.998187, -0.08274579001624033, 192765, 13497914, 137500000000), (1635317454, -364579.244879, 86.00338199072023, 192771, 13497931, 90898695459), (1635318158, -510148.60419, 120.43636435507392, 192780, 13497981, 162500000001), (1635318290, -541138.641297, 127.86904322482827, 192790, 13497984, 182633962857), (1635318656, 687.382002, -0.16152724058315054, 192790, 13498013, 95857351807), (1635318990, -301092.77155, 71.21076077189966, 192797, 13498037, 118386690813), (1635318990, -103093.573295, 24.374004865128157, 192791, 13498037, 116246690811), (1635318998, -10144.962314, 2.4, 192797, 13498038, 111057445214), (1635319146, -381270.314938, 90.22753698893371, 192803, 13498050, 117507673135), (1635319200, -30205.563476, 7.150654689620767, 192804, 13498056, 106845565038), (1635319448, -549479.825028, 130.14452486729994, 192813, 13498069, 134285077295), (1635319595, -1060779.489884, 251.5924305282476, 192831, 13498073, 175167608741), (1635319599, -465236.759654, 110.48764820894822, 192839, 13498074, 170029012319), (1635319627, -642050.254665, 152.62153560823958, 192850, 13498075, 176180803591), (1635319634, -5663.758552, 1.3470617247483216, 192850, 13498076, 164911694901), (1635319634, -420.450639, 0.1, 192850, 13498076, 164911694901), (1635320041, -430819.703442, 102.50326883429068, 192857, 13498097, 165102394404), (1635320100, -635716.303355, 151.3890050168377, 192868, 13498102, 146938435397), (1635320129, -522645.449748, 124.58353009166179, 192877, 13498103, 154132633444), (1635320137, -301413.719694, 71.89805493735048, 192882, 13498104, 148698935030), (1635320277, -287494.410748, 68.61174628240056, 192887, 13498116, 297936616706), (1635320277, -19028.143001, 4.542316216367328, 192887, 13498116, 160000000000), (1635320318, -5156.320473, 1.2314089666727266, 192891, 13498121, 107918974345), (1635320318, -236393.493513, 56.4429539871903, 192891, 13498121, 108027044346), (1635320328, -8586.401831, 2.051771852821483, 192897, 13498122, 129800000000), (1635320328, -28302.576197, 6.762746549757924, 192897, 13498122, 116754328905), (1635320328, -304644.080061, 72.77266717227688, 192896, 13498122, 114754328905), (1635320328, -9913.009644, 2.368735835205135, 192897, 13498122, 160000000000), (1635320368, -462800.839681, 110.63233009497661, 192905, 13498124, 124264213639), (1635320368, -277758.115983, 66.43828765442092, 192909, 13498124, 173933010549), (1635320402, -548339.242718, 131.24865002918594, 192918, 13498127, 105446790605), (1635320567, -358151.436456, 85.78961895021797, 192924, 13498141, 123104684701), (1635320580, -56754.455809, 13.59927208909739, 192925, 13498142, 124186932980), (1635320627, -257237.305316, 61.654023432291446, 192929, 13498145, 123404651148), (1635320673, -5007.435633, 1.2004282337726473, 192929, 13498146, 126062904969), (1635320679, -394315.543421, 94.55987994328738, 192936, 13498147, 139169373933), (1635320698, -190329.76366, 45.66441715172123, 192939, 13498148, 162000000000), (1635320701, -12082.458945, 2.899336551291263, 192939, 13498149, 128307719554), (1635320829, -74668.809762, 17.922829457628904, 192943, 13498157, 139447146199), (1635320829, -130732.62103, 31.37459606457888, 192941, 13498157, 139243126198), (1635320851, -1323.403566, 0.3176776901041122, 192943, 13498158, 136694844892), (1635320907, -1593613.285954, 383.042585402572, 192969, 13498165, 100079115064), (1635320982, -5461.952232, 1.314581135829789, 192969, 13498168, 119697968929), (1635321008, -4154.865944, 1, 192969, 13498170, 144311352847), (1635321230, -280609.117077, 67.55352127480776, 192974, 13498186, 115246721062), (1635321234, -132878.238031, 32, 192976, 13498187, 107130908757), (1635321237, -172694.295268, 41.59919344445152, 192979, 13498188, 100985899135), (1635321272, -99551.778417, 23.98582541122833, 192980, 13498192, 111254946978), (1635321328, -4546.145235, 1.0960209477709024, 192986, 13498193, 111859348476), (1635321328, 5948.4735, -1.425523962278712, 192986, 13498193, 111472224203), (1635321328, -69538.218571, 16.76379086386438, 192986, 13498193, 124198084724), (1635321328, -5000, 1.2054494860775302, 192986, 13498193, 111859348476), (1635321328, -250468.621816, 60.3651, 192985, 13498193, 163974687143), (1635321358, -10402.466284, 2.50793694604567, 192986, 13498196, 115724100564), (1635321358, -45623.863912, 11, 192987, 13498196, 115724100564), (1635321564, -575723.460085, 138.88009968458957, 192996, 13498208, 116293262965), (1635321583, -419304.442612, 101.2317387687709, 193003, 13498209, 111588765312), (1635321583, -350360.904314, 84.6413, 193009, 13498209, 156467378570), (1635321611, -324918.610559, 78.53921097369145, 193015, 13498212, 113000000001), (1635321648, -319505.743988, 77.27245771164243, 193020, 13498214, 117349959211), (1635321653, -323884.66908, 78.37347727528046, 193025, 13498215, 114050301297), (1635321661, -339150.23372, 82.11261995233173, 193031, 13498216, 111783750617), (1635321671, -350657.396612, 84.9473, 193037, 13498217, 156028209078), (1635321718, -807966.178051, 195.91957343908302, 193050, 13498218, 121061523120), (1635321718, -1066957.698532, 259.12468070861917, 193068, 13498218, 437977744703), (1635321742, -2072527.265714, 504.65674310593965, 193103, 13498219, 135879577637), (1635321781, -25230.844933, 6.154390313644367, 193103, 13498223, 132554871377), (1635321870, -2049.778372, 0.5, 193103, 13498234, 128618158547), (1635321887, -140993.978612, 34.39658675925222, 193105, 13498235, 159597698183), (1635321899, -13714.424595, 3.346320448363715, 193106, 13498238, 120526065281), (1635321899, -26640.231998, 6.5, 193106, 13498238, 127000000000), (1635321913, -430575.493529, 105.12424799157282, 193116, 13498239, 140784810297), (1635321913, -142597.98953, 34.79844411418317, 193108, 13498239, 168080387861), (1635321951, -190719.141191, 46.587828789008924, 193119, 13498242, 147000000000), (1635321951, -21459.493087, 5.242933665534673, 193119, 13498242, 139942418941), (1635322022, -2256678.098863, 552.3942306039181, 193157, 13498249, 123396584016), (1635322046, -72723.887274, 17.8366, 193158, 13498250, 142734160288), (1635322046, -16613.506688, 4.07440237412916, 193157, 13498250, 143021054333), (1635322065, -2198.559697, 0.539524562764116, 193163, 13498251, 157781217201), (1635322065, -250000, 61.33268658389088, 193162, 13498251, 158895871201), (1635322065, -40751.407516, 10, 193163, 13498251, 158405871201), (1635322108, -27378.194141, 6.71875, 193164, 13498254, 377552886898), (1635322126, -6493999.131277, 1602.3839231263487, 193272, 13498256, 179669470925), (1635322148, 2399606.799826, -590.5737562753122, 193232, 13498258, 5000000000000), (1635322203, -489722.288992, 121.06989915583894, 193241, 13498261, 216166130548), (1635322203, -48733.570984, 12.042555229702817, 193233, 13498261, 300000000000), (1635322404, -595295.106462, 147.30363899739916, 193251, 13498274, 281351580103), (1635322434, -47661.40166, 11.8, 193252, 13498275, 269625959491), (1635322479, -21607.93997, 5.35, 193252, 13498278, 295426707751), (1635322479, -10904.644429, 2.7, 193252, 13498278, 295271017025), (1635322514, -40385.835271, 10, 193253, 13498280, 324512358259), (1635322600, -4038.433112, 1, 193253, 13498282, 348632500809), (1635322644, -13482.084526, 3.338493469580165, 193253, 13498287, 336247794989), (1635322762, -466826.083871, 115.64411107547683, 193261, 13498298, 269243797035), (1635322766, -181554.899744, 45, 193264, 13498299, 314553913735), (1635322791, -63214.708802, 15.67154582480479, 193265, 13498300, 346549115930), (1635322798, -1429873.468862, 354.9241221917491, 193289, 13498302, 259581036510), (1635322798, -91717.390014, 22.795243474503426, 193291, 13498302, 264581036515), (1635322841, -336407.954945, 83.79307324560635, 193315, 13498303, 294391313663), (1635322841, -1086604.856413, 270.32994524585246, 193309, 13498303, 301991313664), (1635322841, -12532.118208, 3.1224375, 193315, 13498303, 294344293663), (1635322859, -5217.561765, 1.3, 193315, 13498305, 289362963919), (1635322941, -1096425.242347, 273.43294100131527, 193333, 13498311, 271913690771), (1635322943, -598240.590048, 149.4, 193343, 13498312, 264581036515), (1635322965, 3126.882086, -0.7765834862287911, 193343, 13498317, 188074197172), (1635323028, 767936.472725, -190.60250955610042, 193330, 13498322, 273376887361), (1635323199, 1248294.852496, -309.3167780960295, 193310, 13498330, 614193063570), (1635323222, 539909.82493, -133.5857258967155, 193301, 13498334, 239371532139), (1635323228, 3903308.822065, -962.1824905455788, 193235, 13498336, 191771590452), (1635323234, -1027899.469127, 254.296875, 193253, 13498337, 214829218455), (1635323270, -399691.72125, 99, 193259, 13498340, 198680049163), (1635323270, 4189.148524, -1.0317397205804077, 193259, 13498340, 218815506881), (1635323273, -82731.552998, 20.5, 193261, 13498341, 219629295008), (1635323273, 2000, -0.49264309368643916, 193261, 13498341, 176236929675), (1635323736, -5495.701202, 1.3619002259565736, 193261, 13498364, 253442169640), (1635323736, -12106.134244, 3, 193261, 13498364, 253442169640), (1635323755, 1176832.492614, -289.60228576984514, 193241, 13498368, 206992275682), (1635324080, -890072.640037, 220.302443056125, 193256, 13498390, 222893286075), (1635324086, -1258085.778485, 311.95106403564483, 193277, 13498391, 231201698661), (1635324086, -121173.958551, 30.080704034903704, 193279, 13498391, 230746272874), (1635324114, -271027.799195, 67.30316917089164, 193284, 13498393, 224029198037), (1635324114, -20129.926149, 5, 193284, 13498393, 226111012037), (1635324198, -300, 0.0745171997537633, 193284, 13498400, 203870371777), (1635324203, -402455.488211, 100, 193291, 13498401, 478451084703), (1635324284, 10593.965247, -2.6174230266452048, 193291, 13498408, 152995282239), (1635324284, -643.722281, 0.16, 193291, 13498408, 153023862639), (1635324330, 11760.294706, -2.905533724123364, 193291, 13498412, 246439350996), (1635324462, -361990.637917, 90, 193297, 13498418, 299801702919), (1635324462, -12062.564113, 3, 193297, 13498418, 204024820143), (1635324476, -450308.308023, 112, 193298, 13498419, 402930000000), (1635324476, -241175.473966, 60, 193302, 13498419, 203343989297), (1635324476, -26166.15602, 6.511118357833372, 193302, 13498419, 198528989297), (1635324492, 46507.609313, -11.50330468839526, 193302, 13498420, 200590978158), (1635324532, -10850.9668, 2.7, 193302, 13498425, 154789225936), (1635324607, -3627.226458, 0.9025583400468141, 193302, 13498435, 171000000000), (1635324756, -30136.517362, 7.5, 193304, 13498448, 151843664347), (1635324756, -75717.014138, 18.841828595217855, 193303, 13498448, 151843664347), (1635324883, 1434.283895, -0.35481675172280536, 193304, 13498455, 169714936072), (1635324973, -4620.808799, 1.15, 193304, 13498463, 147004251937), (1635324981, 1495022.144428, -369.3820726177373, 193279, 13498464, 161433009701), (1635325595, -20421.781471, 5.0734666101304695, 193286, 13498517, 146335198627), (1635325595, -422691.33851, 104.97171879096486, 193286, 13498517, 137340028625), (1635325639, -294968.615571, 73.29974943528534, 193291, 13498521, 141406555277), (1635325836, -88502.505182, 22, 193293, 13498533, 147749041463), (1635325836, -448131.569095, 111.44722162295628, 193300, 13498533, 141802791464), (1635325854, -933688.178843, 232.32324282433828, 193303, 13498534, 150738738742), (1635325880, -40182.000394, 10, 193304, 13498537, 130702923683), (1635325934, -1147681.508259, 285.907112079594, 193323, 13498545, 120000000001), (1635325996, -3330.055325, 0.8303727091039048, 193323, 13498547, 135774141848), (1635326051, -22056.267213, 5.5, 193323, 13498551, 131304764068), (1635326148, -25819.504124, 6.4386623593289, 193324, 13498560, 280000000000), (1635326177, -407342.100523, 101.61588555205753, 193331, 13498561, 163901722278), (1635326190, -253757.290881, 63.336891690000485, 193335, 13498563, 144579170621), (1635326199, -9813.723043, 2.45, 193335, 13498565, 127000000000), (1635326199, 5220.681927, -1.2955419584869556, 193335, 13498565, 125400000000), (1635326216, -1652664.474063, 413.5157859310532, 193371, 13498568, 118515489029), (1635326216, -538845.958605, 134.58265249742794, 193344, 13498568, 118515489030), (1635326347, 25819.504124, -6.430236989730681, 193370, 13498578, 117000000000), (1635326387, 1086883.072549, -270.4365547492123, 193353, 13498583, 301000000000), (1635326686, -849784.560871, 212.67550954035283, 193367, 13498601, 146905525908), (1635326754, -29857.14634, 7.477756464397755, 193367, 13498605, 154337123289), (1635326834, -1350, 0.33811773083357877, 193367, 13498611, 148423324546), (1635326943, -13740, 3.441329876559752, 193367, 13498620, 149730419914), (1635326943, -6892.547271, 1.72634146540601, 193367, 13498620, 149447887965), (1635327002, -225263.328074, 56.43218942445164, 193371, 13498623, 155829603706), (1635327002, -15727.625997, 3.9408122690344336, 193372, 13498623, 151297714841), (1635327002, -9014.047744, 2.2577325269474517, 193368, 13498623, 150963658850), (1635327036, -18349.022792, 4.6, 193377, 13498624, 169606902320), (1635327036, -55917.995459, 14.011989035321841, 193373, 13498624, 169940958311), (1635327036, -1356.210108, 0.34, 193377, 13498624, 169606902320), (1635327036, -237854.28962, 59.616194186670285, 193376, 13498624, 169606902320), (1635327066, -13272.660188, 3.3274776577242706, 193377, 13498625, 190589747945), (1635327076, -1246.362969, 0.31246897515275, 193377, 13498626, 177041592902), (1635327082, -2419.740088, 0.6066418911719075, 193377, 13498627, 171917251016), (1635327137, -835, 0.2093395647809524, 193377, 13498631, 163780471267), (1635327337, -290486.649326, 72.84421494084258, 193382, 13498648, 133532041688), (1635327370, 627749.235921, -156.4319799943059, 193372, 13498653, 112871280469), (1635327431, 1448.452189, -0.3607606907426786, 193371, 13498656, 127174167316), (1635327435, 2000, -0.49813127737863927, 193371, 13498658, 120390132149), (1635327516, 30000, -7.471772879537181, 193371, 13498664, 123778695483), (1635327582, 4986.953846, -1.2406531709921358, 193360, 13498668, 125461807698), (1635327582, 666204.229192, -165.8294461566948, 193360, 13498668, 136237828802), (1635327626, 367934.608193, -91.5066848359161, 193354, 13498675, 107443676785), (1635327640, 457467.98909, -113.69696848209264, 193346, 13498677, 112224081254), (1635327667, 199999.999998, -49.680280177828394, 193343, 13498679, 117119397503), (1635327717, 83275.566477, -20.680964067461076, 193342, 13498680, 133739901980), (1635327717, 20000, -4.9664539567471655, 193341, 13498680, 133679901980), (1635329006, -2386162.947179, 597.2716679144011, 193381, 13498770, 800000000000), (1635329330, 3825.628044, -0.9537092717115293, 193381, 13498791, 129448928033), (1635329481, 74310.049678, -18.523930143222852, 193379, 13498801, 130171237188), (1635329991, -4223.699517, 1.0591645811068817, 193380, 13498843, 127057728192), (1635330105, 1130714.075561, -281.58658445727633, 193361, 13498853, 117692694082), (1635330250, 400, -0.09952126987214338, 193361, 13498861, 123233578969), (1635330272, -604837.67894, 151.467872148375, 193371, 13498862, 134637537655), (1635330416, -1229806.377617, 308.44209607284307, 193391, 13498870, 132329531730), (1635330436, -593854.326504, 149.16451595040343, 193401, 13498872, 125193746697), (1635330502, -353255.84723, 88.79975971516636, 193407, 13498877, 128703844096), (1635330555, 5762.213283, -1.4402095847998966, 193406, 13498884, 106405582796), (1635330616, -1289198.571528, 324.5060030814916, 193428, 13498889, 122733573855), (1635330646, -1022257.345299, 257.8020028348216, 193444, 13498890, 120074555983), (1635330707, 186340.030886, -46.668826761580654, 193425, 13498895, 166793888767), (1635330707, 976422.991126, -244.77763110636093, 193428, 13498895, 126820964734), (1635330750, 664188.963139, -166.23040217574, 193415, 13498896, 155534332900), (1635330762, 2151062.937498, -537.1227159479286, 193379, 13498898, 141129327117), (1635330986, 2807019.512189, -699.5281644727218, 193375, 13498908, 150803797654), (1635331114, -9973.898428, 2.5, 193375, 13498916, 143956078844), (1635331161, -260874.188318, 65.40381132465147, 193379, 13498919, 135224204809), (1635331511, 25709.993869, -6.408381805545254, 193379, 13498942, 116340756319), (1635331597, 249910.108543, -62.277611320651886, 193375, 13498946, 117388433690), (1635331614, 369.5228, -0.09206617872708427, 193375, 13498947, 118918430063), (1635331818, 438512.182699, -109.21545232516539, 193368, 13498968, 118844911985), (1635331834, 541817.300282, -134.83601292581375, 193359, 13498969, 122404699479), (1635331895, 951867.659575, -236.59063882225226, 193343, 13498973, 129023785969), (1635331895, 433612.837037, -107.65390977789163, 193336, 13498973, 131023785969), (1635332044, 1220.070799, -0.3028014457407863, 193336, 13498984, 113300000000), (1635332231, 22022.827709, -5.465598454569122, 193336, 13498998, 111433996766), (1635332711, 663476.676208, -164.56838746750202, 193325, 13499034, 118713665409), (1635332776, 78023.783875, -19.341224251628745, 193323, 13499035, 135147898850), (1635332991, 11036.642164, -2.7356607411313987, 193323, 13499046, 149000000000), (1635333047, 28926.115518, -7.169703228812009, 193323, 13499052, 127907205213), (1635333060, 451065.611429, -111.75802855576927, 193315, 13499053, 116897833220), (1635333060, 234470.476085, -58.060057417133905, 193311, 13499053, 127959591261), (1635333180, 661383.535433, -163.64973080215682, 193300, 13499061, 109139732837), (1635333244, 2000, -0.4945947585442946, 193300, 13499065, 149352351836), (1635333347, 1160.434349, -0.28697161021548706, 193300, 13499075, 100162938759), (1635333483, 13159.633194, -3.2542949514101642, 193300, 13499081, 114906630265), (1635333525, -4298.194842, 1.0693150470724713, 193300, 13499086, 111619541217), (1635334220, -80465.165743, 20.037203241375, 193310, 13499132, 149307701769), (1635334220, -516462.833491, 128.54331605252062, 193309, 13499132, 146248409494), (1635334246, -2692195.655198, 670.3812855909823, 193332, 13499134, 131918809535), (1635334246, 1407560.477001, -348.01818419541854, 193286, 13499134, 172700000000), (1635334315, -10000, 2.4957029772716806, 193332, 13499135, 149902970628), (1635334323, -2082.830571, 0.5198178069974562, 193332, 13499136, 162569140673), (1635334346, -450209.787721, 112.40188227074329, 193339, 13499139, 136996655670), (1635334392, -227537.759975, 56.84, 193343, 13499142, 143766527081), (1635334908, -462210.50668, 115.52785772562304, 193350, 13499176, 130739435572), (1635335655, -588501.897807, 147.2211209147607, 193360, 13499232, 104009935865), (1635335663, -522235.21574, 130.76314442001026, 193369, 13499233, 97795738648), (1635335850, -145506.284238, 36.45353566429661, 193371, 13499243, 126968936818), (1635335850, -92037.820641, 23.062648117722155, 193373, 13499243, 127703151386), (1635336022, -6184.501797, 1.5509562862061543, 193380, 13499254, 127682734657), (1635336022, -443174.830729, 111.09879609281002, 193380, 13499254, 125682734657), (1635336066, -198077.725966, 49.715051066287835, 193390, 13499256, 143539197747), (1635336066, -400680.547529, 100.51657767073301, 193387, 13499256, 346978877955), (1635336075, -5000, 1.25681283955021, 193403, 13499257, 135063007083), (1635336075, -786191.59469, 197.48342391241965, 193403, 13499257, 133123007083), (1635336075, -23870.467046, 6, 193403, 13499257, 135063007083), (1635336150, -1496014.202487, 376.50489913051007, 193428, 13499263, 124097132446), (1635336161, -30150, 7.597408925665503, 193428, 13499264, 129305216940), (1635336255, -32500, 8.189999264386554, 193429, 13499269, 118888840501), (1635336262, 17477.263624, -4.3779381853890955, 193429, 13499270, 133548155740), (1635336453, 704959.569621, -176.48342011150214, 193417, 13499286, 120283608816), (1635336536, 1500, -0.3744050670230142, 193393, 13499291, 130403199550), (1635336536, 613760.01881, -153.486516975696, 193407, 13499291, 128903199550), (1635336536, 850000, -212.31043828186264, 193393, 13499291, 277000000000), (1635337185, 350000, -87.35668551165783, 193392, 13499345, 222000000000), (1635337383, 13675.426317, -3.410844372956849, 193385, 13499363, 125000000000), (1635337383, 395573.87334, -98.69466515849231, 193386, 13499363, 226224612416), (1635337416, 401404.86143, -100.08213951563688, 193379, 13499364, 115165448792), (1635337451, 2787.077878, -0.6946717710014495, 193379, 13499367, 96996432630), (1635337515, -4411.43463, 1.1061669093002884, 193379, 13499372, 110000000000), (1635337588, -6661.169415, 1.6701712797612962, 193378, 13499383, 101000000000), (1635337588, 48010.927722, -11.966184244482548, 193378, 13499383, 301935421909), (1635337603, 340.719342, -0.08482606061988, 193367, 13499385, 87727448692), (1635337603, 660000, -164.4038060722222, 193367, 13499385, 199000000000), (1635337702, 3196.966903, -0.7959199502407004, 193367, 13499394, 105161188937), (1635338123, 1024817.385408, -254.92444786524257, 193350, 13499418, 116466169999), (1635338373, 831.6, -0.20668743678858392, 193350, 13499441, 111000000000), (1635338407, 87929.258426, -21.85251369765842, 193349, 13499442, 94116761329), (1635338465, -14606.955733, 3.6518362249862424, 193349, 13499449, 102701030167), (1635338815, -1210571.518563, 302.956196237897, 193369, 13499477, 101759510567), (1635338865, -1197.564319, 0.3, 193369, 13499478, 116745055921), (1635339065, 325970.77576, -81.14759269267212, 193364, 13499497, 115654169649), (1635339115, 5000, -1.2443685329892649, 193364, 13499500, 114907909288), (1635339980, 751776.74687, -186.9813536181714, 193351, 13499567, 103074399258), (1635340058, 5000, -1.242824515387983, 193351, 13499573, 114345403589), (1635340504, 946587.590053, -235.10386710358378, 193336, 13499602, 153888977772), (1635341233, -1250960.0567, 312.65294341719357, 193356, 13499660, 118169965796), (1635341651, -237383.859642, 59.402552, 193360, 13499691, 125853106416), (1635341717, -5793.308483, 1.45, 193360, 13499702, 106508369434), (1635342267, 455861.448099, -113.37132433701073, 193353, 13499749, 120745436353), (1635342267, 2740, -0.681171613997604, 193353, 13499749, 120245436352), (1635342317, 349464.482259, -86.8526, 193347, 13499755, 153257584112), (1635342317, 124122.862267, -30.83627296856895, 193345, 13499755, 127238515106), (1635342459, -417.394344, 0.10430905897074969, 193345, 13499760, 151793226886), (1635342642, 40978.368273, -10.17901879330586, 193344, 13499780, 97509030827), (1635342850, -7453002.766252, 1873.9338025323887, 193467, 13499798, 613448133357), (1635342850, 538317.130386, -135.0258059778248, 193438, 13499798, 613448133357), (1635342850, 1273997.607181, -320.03325372032896, 193446, 13499798, 613448133357), (1635342863, 25490.701004, -6.3668514223068655, 193400, 13499799, 137391336686), (1635342863, 2270866.042946, -568.2697637680969, 193400, 13499799, 127391336685), (1635342863, 16989.454105, -4.259508918562764, 193437, 13499799, 137391336688), (1635342975, 440607.6224, -110.00911488635415, 193392, 13499806, 162000000000), (1635343629, 803485.511905, -200.51651202667637, 193390, 13499848, 165000000000), (1635344240, -71661.046178, 18, 193397, 13499899, 163995893400), (1635344240, -320538.473626, 80.48764381091728, 193395, 13499899, 162386954400), (1635344264, -15167.169742, 3.81, 193397, 13499901, 154609338526), (1635344334, -119413.291369, 30, 193399, 13499906, 146751411533), (1635344410, -4133.687783, 1.0386051379958956, 193399, 13499912, 160600000000), (1635344435, -187032.314373, 47, 193402, 13499915, 129296629782), (1635344448, -853979.581318, 215.05, 193428, 13499917, 222000000000), (1635344448, -751174.125247, 188.9111973258062, 193414, 13499917, 683525982519), (1635344476, -606842.501677, 153, 193438, 13499918, 154000000000), (1635344517, -196448.991633, 49.5625, 193442, 13499919, 156734034716), (1635344534, -2375.556445, 0.5994321189137838, 193442, 13499920, 161456032038), (1635344534, -4789.37515, 1.2085262275766417, 193442, 13499920, 161456032038), (1635344611, 1098276.746888, -275.2254613815155, 193424, 13499923, 181146856701), (1635344640, 1193414.652297, -298.5036181738512, 193404, 13499926, 170389961520), (1635344672, 628232.700001, -156.90202296345112, 193394, 13499929, 161921654865), (1635344871, -70894.453349, 17.804557107923987, 193395, 13499941, 170596935250), (1635345269, 4270.686291, -1.0661805237510835, 193395, 13499964, 152308302361), (1635345460, 1534555.645671, -382.6192156693485, 193370, 13499975, 193658093815), (1635345568, 449072.892216, -111.78687281192376, 193362, 13499987, 154963237009), (1635345594, 541989.815571, -134.80620669084448, 193353, 13499988, 163592343221), (1635345620, 3701.500784, -0.9202399104791077, 193353, 13499990, 159693786179), (1635345682, -45000, 11.255382550679398, 193354, 13499994, 154000000000), (1635345723, 501785.626678, -124.70753979707573, 193346, 13499995, 170618424487), (1635345773, 337477.510982, -83.81442120168076, 193340, 13499998, 178395330733), (1635345774, 47459.789212, -11.783162960539515, 193339, 13499999, 169000000000), (1635345774, 491.78933, -0.12209503771414851, 193339, 13499999, 159078950429), (1635345839, 12083.89229, -3, 193339, 13500001, 191456540515), (1635346132, 1332741.877167, -330.50584858259305, 193317, 13500020, 187392585292), (1635346137, 117120.908479, -29.009882348780778, 193315, 13500021, 174576012903), (1635346907, -30791.154559, 7.672125832508579, 193316, 13500080, 151488340666), (1635347006, -12039.040935, 3, 193316, 13500088, 174019251617), (1635347006, -32703.453616, 8.14904289340604, 193316, 13500088, 172019251617), (1635347065, -3633.173722, 0.9053599208269605, 193317, 13500092, 178874895113), (1635347182, -13543.168272, 3.3749058569791686, 193317, 13500102, 155048706755), (1635347200, -4379.36184, 1.0913367467143458, 193317, 13500105, 146090764728), (1635347421, -1491.395806, 0.3716575978272249, 193317, 13500117, 166984346677), (1635348216, -564083.033421, 140.63650032301038, 193326, 13500184, 159057889652), (1635348311, -612136.493779, 152.76563817035952, 193336, 13500187, 184967711801), (1635348421, -12815.875024, 3.2, 193337, 13500194, 176595722304), (1635348545, -597732.350864, 149.3233496679307, 193346, 13500199, 197098773825), (1635348773, -120016.936095, 30, 193348, 13500216, 197069203383), (1635348937, -40000.35083, 10, 193349, 13500226, 186789611921), (1635348963, -719553.961538, 180, 193361, 13500228, 255000000000), (1635349250, -651170.403519, 163.078415960586, 193372, 13500252, 195592483003), (1635349303, -963732.521096, 241.67882165, 193388, 13500259, 222000000000), (1635349879, -13234.465809, 3.321530089550311, 193388, 13500299, 161559525627), (1635350164, -105577.559603, 26.5, 193390, 13500321, 150721356880), (1635350180, -4000, 1.00409180994856, 193390, 13500322, 150868042374), (1635350245, -10690.324711, 2.6835493286027092, 193390, 13500327, 162693871642), (1635350305, -354270.635853, 88.9578662412003, 193396, 13500331, 178197489680), (1635350684, 25000, -6.241619691213808, 193395, 13500353, 293184787458), (1635350911, 100000, -24.963916576335567, 193394, 13500369, 298395940173), (1635350937, 5000, -1.2480882283843417, 193394, 13500370, 315428007007), (1635350994, 39.87169, -0.009952635972689756, 193394, 13500374, 298000000000), (1635351177, -404310.157324, 101.56461429282976, 193400, 13500381, 355526634884), (1635351546, -240711.513901, 60.500000000000014, 193404, 13500407, 259063078001), (1635351608, -324100.462019, 81.49674573899495, 193410, 13500414, 362000000000), (1635351710, -5168.504526, 1.3, 193410, 13500425, 238349336899), (1635351779, -1236810.165167, 311.4054762771081, 193430, 13500432, 218542959734), (1635352111, -1389880.121305, 350.70469601984627, 193453, 13500453, 265000921256), (1635352189, -9500.481501, 2.4, 193453, 13500460, 330111775805), (1635352322, -5407.065472, 1.3659430636072847, 193453, 13500468, 285907211858), (1635352365, -95983.96122, 24.249678437088832, 193455, 13500472, 322300000000), (1635352580, 810772.698057, -203.48924961013196, 193441, 13500486, 308102085956), (1635353098, 741799.287786, -185.9405423893638, 193429, 13500525, 296823569220), (1635353234, 539102.248253, -134.8638158514895, 193411, 13500537, 230000000000), (1635353234, 568368.1229, -142.31458119972348, 193420, 13500537, 264041621750), (1635354460, 910.138117, -0.22758249518690354, 193411, 13500641, 201300000000), (1635354952, 2000, -0.5001042081381315, 193411, 13500684, 147454851024), (1635354984, 3514.367387, -0.878770977589348, 193411, 13500686, 179288348272), (1635355092, 10609.412879, -2.6528632053950867, 193411, 13500694, 177137669457), (1635355130, 10066.018084, -2.516945626419093, 193411, 13500697, 167998559293), (1635355269, 1029.974576, -0.25708444200717456, 193393, 13500706, 204136864026), (1635355269, 3560.641001, -0.8887489808330381, 193393, 13500706, 204195064026), (1635355269, 1065822.746038, -266.26700326345565, 193393, 13500706, 202255064026), (1635358102, 34065.864249, -8.5026869464079, 193392, 13500915, 188981047369), (1635358507, -29431.185633, 7.3901388546631885, 193393, 13500937, 218801996804), (1635359806, 10000, -2.4959858287023904, 193393, 13501022, 199700839629), (1635360362, -27391.895241, 6.878284148973748, 193393, 13501060, 199038348276), (1635360709, -119806.66196, 30.08788486049035, 193395, 13501079, 1734086013822), (1635360744, -2102.469795, 0.5280609694054668, 193395, 13501084, 188896559197), (1635360926, -30000, 7.535065698491412, 193396, 13501092, 225221110375), (1635361165, -1642502.218749, 413.11458858258953, 193423, 13501113, 189825631178), (1635361273, -653488.794369, 164.6739637688616, 193434, 13501119, 208723560167), (1635361290, -10517.474678, 2.651772251038956, 193434, 13501121, 216359056420), (1635361431, -1118164.93972, 282.1858726671405, 193452, 13501128, 266231981680), (1635361891, -118754.069636, 30, 193454, 13501165, 200745293030), (1635361917, -10000, 2.5431092222603344, 193520, 13501168, 221100000000), (1635361917, -3933841.662651, 1000, 193549, 13501168, 230000000000), (1635361917, 1727042.546098, -437.2188863469771, 193520, 13501168, 29368101349920), (1635361917, -1703509.89818, 430.99408081858905, 193482, 13501168, 184047866630), (1635361991, 183179.726005, -46.29863555876629, 193517, 13501169, 207025638108), (1635362040, 518664.575621, -131.01340376620814, 193508, 13501171, 255921476187), (1635362074, 83496.191495, -21.080034918206906, 193506, 13501175, 236000000000), (1635362186, 1667297.869907, -420.3222589319854, 193479, 13501183, 252484717283), (1635362221, -113057.773456, 28.63688702034405, 193481, 13501186, 240000000000), (1635362270, 5000.026585, -1.2590021592899956, 193481, 13501190, 210080968348), (1635362326, -2238.309776, 0.567, 193481, 13501196, 199000000000), (1635362333, -21580.366513, 5.46676193660943, 193481, 13501198, 209090173265), (1635362561, -13279.095744, 3.363971101712086, 193481, 13501218, 207826315298), (1635362718, -17040.105052, 4.316848571161837, 193481, 13501238, 216700000000), (1635362737, 115219.075156, -28.974933921810454, 193467, 13501240, 174380829141), (1635362737, 777925.256045, -195.77300286023527, 193469, 13501240, 171044956103), (1635362814, 2339.821927, -0.5883546397499095, 193467, 13501243, 212760737338), (1635362905, -10943.862165, 2.768469460985875, 193467, 13501252, 208816114405), (1635363077, -45000, 11.38417429932367, 193468, 13501260, 277605996531), (1635363116, -35573.354885, 9, 193468, 13501265, 246957764794), (1635363141, -380883.429472, 96.395760132, 193475, 13501266, 256873551697), (1635363184, -379083.558671, 96, 193481, 13501268, 266919051226), (1635363206, -267424.950605, 67.75920883227562, 193485, 13501270, 246000000000), (1635363255, -58827.771211, 14.909564017492796, 193486, 13501275, 236685217487), (1635363333, -157797.569306, 40, 193489, 13501281, 217856903176), (1635363363, 874861.437029, -220.31038529444874, 193474, 13501285, 292177444873), (1635363363, -32630.2, 8.26087853614542, 193475, 13501285, 256300000000), (1635363383, 492609.452603, -123.91858191362826, 193467, 13501287, 204160037292), (1635363400, 5000, -1.2572660533388964, 193467, 13501288, 250000000000), (1635364260, 592583.840511, -148.93443179652255, 193457, 13501348, 236672473626), (1635364332, 851282.470452, -213.7013408221267, 193443, 13501353, 239118308530), (1635364346, 20000, -5.017123819055154, 193443, 13501355, 204323820875), (1635364399, 22692.74481, -5.692417307086285, 193443, 13501358, 222196554267), (1635364502, 125000, -31.352155315919532, 193441, 13501366, 212030658650), (1635364510, 652068.854693, -163.4464797175065, 193430, 13501367, 265805835981), (1635364554, 18975.411202, -4.753741510532959, 193430, 13501372, 188968619210), (1635364558, -21702.041416, 5.469600758896567, 193430, 13501374, 199705871522), (1635364611, 1058631.378069, -264.9860532381504, 193413, 13501378, 174730110946), (1635364614, 9366.597214, -2.342512800873857, 193413, 13501379, 197000000000), (1635364659, 650113.736602, -162.50103929926337, 193402, 13501381, 208727830442), (1635364683, 1213.933542, -0.3032712697629642, 193402, 13501382, 215825727248), (1635364712, 848.787138, -0.21204811601948464, 193402, 13501385, 187000000000), (1635364719, 1276.900673, -0.31900096166375375, 193402, 13501386, 244000000000), (1635364844, 21727.582206, -5.427978786188552, 193402, 13501395, 205439885989), (1635364857, 24000, -5.995450306639152, 193401, 13501397, 196900000000), (1635364897, 618812.104598, -154.50483027487437, 193391, 13501400, 204054671969), (1635364966, 601131.131181, -149.94127716531563, 193381, 13501409, 148091473396), (1635364987, 629367.669655, -156.82691326006875, 193371, 13501410, 166599869227), (1635365036, 350034.969124, -87.1524, 193365, 13501411, 277916290823), (1635365070, 460000, -114.40369392914823, 193353, 13501415, 207200000000), (1635365070, 278257.131828, -69.24539119403585, 193361, 13501415, 249159427123), (1635365346, 988155.169473, -245.46693558868404, 193337, 13501428, 265103132260), (1635365506, -605097.557673, 151.17066373409503, 193347, 13501441, 183550691375), (1635365506, -136091.723021, 34.020274011375, 193349, 13501441, 185050691376), (1635365534, -12602.696955, 3.15823787749166, 193373, 13501442, 207968132978), (1635365534, -1392201.63673, 348.4600406298082, 193372, 13501442, 243993645531), (1635365534, -41690, 10.447054849170529, 193373, 13501442, 208468132978), (1635365557, -99500, 24.93701185015451, 193375, 13501443, 234170863931), (1635365649, -365363.696113, 91.67558498742736, 193388, 13501449, 312425268445), (1635365649, -480460.043901, 120.47178769744747, 193382, 13501449, 232721140737), (1635366441, -315069.933406, 79.1, 193394, 13501509, 301400000000), (1635366441, -67692.987229, 17, 193395, 13501509, 300751224864), (1635366559, -1087.672462, 0.2731667063084026, 193395, 13501522, 261460619969), (1635366749, -67893.150645, 17.05218594460758, 193396, 13501537, 402100400212), (1635366771, -1230441.759994, 309.3683187955532, 193416, 13501539, 311997994425), (1635366771, -169360.264236, 42.63075525681705, 193419, 13501539, 311290994424), (1635366801, -477242.668421, 120.19333372487628, 193426, 13501541, 313000000000), (1635367169, -141769.325892, 35.722614090993666, 193429, 13501572, 325600000000), (1635367537, -59519.434747, 15, 193430, 13501594, 241575883129), (1635367594, -153492.249337, 38.68963104541089, 193432, 13501597, 269933235260), (1635367614, -39666.440997, 10, 193433, 13501598, 277738029069), (1635367614, -2776.554455, 0.7, 193433, 13501598, 277738029069), (1635367614, -3604.837202, 0.9088239600286832, 193433, 13501598, 277738029069), (1635367693, -100, 0.02521131090781262, 193433, 13501601, 318215691513), (1635367762, -158638.340236, 40, 193436, 13501604, 308046394697), (1635369248, 13879.123859, -3.477058604181776, 193430, 13501708, 209092588964), (1635369248, 343860.673692, -86.17061804177392, 193430, 13501708, 209092588965), (1635369349, 251598.847559, -63.01799431791346, 193426, 13501718, 167848493860), (1635369581, 630084.712523, -157.70398565147548, 193415, 13501742, 181416055193), (1635369674, 20000, -5.003150350686774, 193415, 13501745, 200694827477), (1635369763, 10000, -2.5015140097257396, 193415, 13501750, 215049288782), (1635370539, -165737.33017, 41.714614528154975, 193418, 13501807, 163923113654), (1635370713, 16201.255221, -4.053777959233476, 193417, 13501823, 244000000000), (1635370772, 7567.807543, -1.893533367852921, 193417, 13501826, 202522525015), (1635370772, 11855.376359, -2.9662746288220574, 193417, 13501826, 202022525015), (1635370862, 663540.292284, -165.92981010860998, 193406, 13501834, 174213999055), (1635371006, 571835.257486, -142.85359783849933, 193397, 13501846, 162912820322), (1635371122, 9912.5, -2.475128714419937, 193397, 13501852, 208629618230), (1635371135, 1320, -0.32959798600998436, 193397, 13501853, 199914994373), (1635371151, 645456.393405, -161.0827310472155, 193386, 13501854, 211691968110), (1635371263, 1000, -0.24943285037560542, 193386, 13501857, 243846181279), (1635371282, 555.970204, -0.13865848140067483, 193385, 13501859, 233257035485), (1635371282, 82346.158747, -20.538444692607765, 193385, 13501859, 233202275105), (1635371726, 65311.692363, -16.287806218209433, 193384, 13501891, 187093576224), (1635372035, 14038.407449, -3.5007530111064384, 193384, 13501913, 183554644600), (1635372160, 37244.591482, -9.287284064471, 193383, 13501921, 206913350406), (1635372349, 21730.790675, -5.418514154104055, 193383, 13501933, 231671346578), (1635372639, -17958.609796, 4.504906360429387, 193383, 13501953, 224329182967), (1635372693, -64177.637168, 16.1, 193384, 13501957, 216370271179), (1635372746, -559683.755693, 140.4772261128506, 193393, 13501960, 221485291145), (1635372748, -10200.401622, 2.561429695008352, 193393, 13501961, 202073220927), (1635372759, -39821.452886, 10, 193394, 13501963, 193825879878), (1635372894, -145326.339763, 36.5, 193396, 13501973, 233000000000), (1635372962, -2033.621823, 0.5108236067781879, 193396, 13501977, 204387949757), (1635372974, -9838.833242, 2.4714314788718403, 193396, 13501978, 204570679054), (1635373023, -8647.865587, 2.1723032835378717, 193397, 13501981, 235000000000), (1635373031, -6767.557098, 1.7, 193397, 13501982, 214473380895), (1635373082, -3331.122255, 0.8367797174108953, 193397, 13501986, 198679215682), (1635373094, -52943.313426, 13.3, 193398, 13501987, 210000000000), (1635373213, -10747.331911, 2.7, 193398, 13501997, 170146798566), (1635373311, -535501.214137, 134.59138587686434, 193407, 13502005, 171674435341), (1635373376, -32160.763226, 8.086944288861966, 193407, 13502012, 163237262997), (1635373429, -7095.51099, 1.78425, 193407, 13502020, 141194771327), (1635373474, -29427.050656, 7.4, 193408, 13502022, 177641250743), (1635373535, -2011.058747, 0.5057325322844018, 193408, 13502031, 154876197311), (1635374736, -608213.196454, 153.02714500967284, 193418, 13502111, 221296212123), (1635374802, -993.141727, 0.25, 193418, 13502114, 213729855242), (1635374830, -468987.671744, 118.1019381859533, 193425, 13502115, 236676544886), (1635374866, -3534739.585139, 893, 193482, 13502118, 207889916578), (1635375255, -51874.842517, 13.142700618593036, 193483, 13502144, 166430861336), (1635375384, 846845.051075, -213.1325510739229, 193469, 13502156, 157485293105), (1635375455, 4000, -1.006037819712639, 193469, 13502160, 187996931922), (1635375605, 593187.183982, -149.12195391267588, 193460, 13502167, 223298210197), (1635375816, 20030.766457, -5.033121522925707, 193459, 13502179, 400000000000), (1635375911, 9601.198639, -2.4124324396750905, 193459, 13502187, 273897633959), (1635376017, 10000, -2.512597913033226, 193459, 13502195, 274560000189), (1635376123, 14007.237278, -3.5193264981982124, 193459, 13502201, 279973637495), (1635376123, 11250, -2.826625305233889, 193459, 13502201, 279973637495), (1635376138, 629904.592666, -158.1836076076821, 193449, 13502204, 241690515939), (1635376954, -3888.401136, 0.9818682181799326, 193449, 13502264, 209014255777), (1635377002, -396511.615072, 100.2269724874101, 193462, 13502267, 219374774428), (1635377002, -450226.29739, 113.72838502632158, 193456, 13502267, 199374774428), (1635377021, -45493.397143, 11.50346925990418, 193463, 13502268, 199719997469), (1635377022, -49175.539222, 12.43546732369949, 193464, 13502269, 270000000000), (1635377277, -29524.324826, 7.46655009337571, 193464, 13502283, 192435395947), (1635377403, -20454.764107, 5.1731092335407585, 193465, 13502296, 155405178464), (1635377515, 7196.82263, -1.8092261250557655, 193464, 13502308, 151000000000), (1635377636, -25346.811806, 6.410491309998119, 193465, 13502317, 180746352713), (1635377762, -31334.254206, 7.925137493278348, 193465, 13502330, 144829602663), (1635377879, -414849.859273, 104.96189499887656, 193472, 13502337, 193536916223), (1635377983, -528691.340061, 133.86502044711577, 193480, 13502344, 172365716947), (1635378037, -9329.310916, 2.36319397747733, 193480, 13502345, 195899487832), (1635378069, -3947.713548, 1, 193480, 13502346, 219614372297), (1635378179, -9869.175946, 2.5, 193481, 13502354, 187000000000), (1635378283, -5012.577418, 1.2697707705476735, 193481, 13502363, 196900000000), (1635378366, -4721.534868, 1.196053977189048, 193481, 13502368, 196530207214), (1635378420, -4721.687936, 1.1961016919609364, 193481, 13502372, 175905219345), (1635378441, -1432968.398246, 364.6132897958537, 193537, 13502374, 194528533352), (1635378441, -2005417.792349, 508.8300121359343, 193513, 13502374, 3157104188045), (1635378890, 519871.266372, -131.58666019844568, 193528, 13502398, 179846636245), (1635378900, 17812.786369, -4.5066566625029365, 193528, 13502399, 169625401061), (1635378962, 500, -0.1264986908652917, 193528, 13502405, 177013822597), (1635379171, -389236.949352, 99.10145581490026, 193535, 13502420, 174840246609), (1635379352, -10208.530851, 2.6, 193535, 13502432, 214176586457), (1635379352, -32098.026284, 8.1753, 193535, 13502432, 214176586457), (1635379378, -1912.015098, 0.487, 193535, 13502433, 221467943155), (1635379426, -7277.80768, 1.8537089009640972, 193535, 13502438, 210307560983), (1635379616, -23023.566353, 5.8644122566180155, 193536, 13502451, 178411053362), (1635379961, 1385569.074096, -350.4131840663161, 193513, 13502478, 235811672390), (1635380019, -26594.407216, 6.758706324864519, 193513, 13502480, 185691043411), (1635380055, -23367.428015, 5.938847673325995, 193514, 13502482, 207382969556), (1635380057, -19393.399491, 4.929020582199722, 193514, 13502483, 190282922313), (1635380198, 504187.932358, -127.32546258640984, 193506, 13502497, 143004932515), (1635380214, 354781.2933, -89.53130261498146, 193500, 13502500, 124000000001), (1635380233, 737868.620688, -186.04250273853887, 193488, 13502501, 137499818075), (1635380284, -20000, 5.07021839760211, 193488, 13502505, 148495680693), (1635381086, -450941.67246, 114.36127686708632, 193496, 13502559, 168692781271), (1635381210, -749230.585607, 190.1920965065593, 193508, 13502566, 168155486376), (1635381210, -212028.312854, 53.86614207533465, 193511, 13502566, 174655486376), (1635381250, -463826.810983, 117.90209085415444, 193519, 13502572, 190000000000), (1635381374, -2392492.637883, 608.5583523132116, 193525, 13502578, 191174672175), (1635382437, -476260.371125, 121.22344431749009, 193532, 13502648, 183540603863), (1635382463, -516056.789454, 131.461245341037, 193541, 13502649, 189566546591), (1635382721, -674162.940415, 171.90749463395045, 193552, 13502665, 183013157364), (1635382811, -749856.205758, 191.4356667540591, 193565, 13502670, 205328184541), (1635382846, -949701.302764, 242.80208632514206, 193581, 13502673, 185783343013), (1635382915, -1799269.706971, 461.07136289835125, 193611, 13502678, 189781782157), (1635382965, -85808.80065, 22.02389923866902, 193613, 13502681, 200570911845), (1635382984, 1123304.282304, -286.33286918715083, 193594, 13502685, 166336610045), (1635383092, 1264648.719484, -321.7153667044315, 193572, 13502691, 198869280386), (1635383092, -14863.740387, 3.8, 193573, 13502691, 200795859645), (1635383113, 980498.964698, -248.96657620891168, 193556, 13502692, 206530956398), (1635383223, 9900, -2.51171030306525, 193556, 13502699, 268000000000), (1635383475, 1200179.390431, -304.18997528321813, 193536, 13502720, 199516294280), (1635383480, 5467.673931, -1.384418259535723, 193536, 13502721, 204000000000), (1635383572, 405974.976213, -102.75807496679994, 193529, 13502731, 153852337570), (1635383607, 153041.396801, -38.719034763572445, 193527, 13502735, 156895008780), (1635383708, 2500, -0.6324113661952048, 193527, 13502739, 179164267195), (1635383826, 496472.61833, -125.53808807528071, 193519, 13502749, 170628574385), (1635383866, 1083576.006959, -273.63497107101847, 193501, 13502750, 191927431189), (1635384022, 605408.36558, -152.67276233282124, 193491, 13502761, 177445774037), (1635384103, 543814.321661, -137.0155479643924, 193482, 13502765, 216090819140), (1635384336, 26039.110134, -6.557678574773028, 193482, 13502779, 210100000000), (1635384781, 2006.696888, -0.5053545246405019, 193482, 13502810, 195688982809), (1635385259, 474281.045752, -119.39524966278245, 193475, 13502840, 390991528750), (1635385259, 3857.72, -0.9707742458658751, 193474, 13502840, 217000000000), (1635385330, 1000, -0.2512238077073095, 193458, 13502847, 201300000000), (1635385330, 1059336.621739, -266.3530447150247, 193458, 13502847, 158732649550), (1635385330, 16960, -4.260695502308849, 193457, 13502847, 160614449550), (1635385390, 5000, -1.253801592606916, 193439, 13502850, 190796940296), (1635385390, 495, -0.12412691367700783, 193439, 13502850, 255000000000), (1635385390, 598357.803804, -150.2467768855478, 193448, 13502850, 188796940296), (1635385390, 553450.804707, -138.84472478520277, 193439, 13502850, 286466156716), (1635385448, 598.059998, -0.14996903122494332, 193439, 13502851, 213876277894), (1635385618, 15000, -3.7613397874565124, 193439, 13502860, 216000000000), (1635385699, 20843.214881, -5.226408188540989, 193439, 13502865, 212000000000), (1635385723, 4138.412406, -1.0376802312484443, 193439, 13502867, 193014876248), (1635386322, 437091.272904, -109.55841437111637, 193431, 13502912, 150038364684), (1635386362, 444844.059664, -111.4215754051831, 193424, 13502916, 169699102537), (1635386555, 5611.134097, -1.4049237900585272, 193424, 13502931, 175835735675), (1635386975, 5007.65707, -1.2538135039784868, 193424, 13502964, 163469691589), (1635387014, 15002, -3.7561285418266337, 193424, 13502967, 186724497137), (1635388752, 50026.806137, -12.52480753594953, 193423, 13503091, 212020201725), (1635388984, 50023.890869, -12.52305719961277, 193422, 13503116, 150634686015), (1635389432, 634963.2, -158.8690286727593, 193412, 13503143, 195953949773), (1635389438, -34525.377439, 8.686134016164987, 193412, 13503145, 165000000000), (1635389460, 250699.472976, -62.68381983698193, 193408, 13503150, 214000000000), (1635389960, 34720.374672, -8.67931695083509, 193408, 13503183, 192505164008), (1635390052, 608635.062663, -152.0655318293239, 193398, 13503191, 180509015452), (1635390201, 941428.369622, -234.91654533791328, 193383, 13503203, 168822988912), (1635390215, 306209.202021, -76.33153053103, 193378, 13503204, 180637554616), (1635390282, 852143.591705, -212.22083235240382, 193364, 13503206, 209448468658), (1635391194, -432816.765137, 108.40286712480604, 193371, 13503273, 164565345456), (1635391309, -594326.931121, 148.9797872896414, 193380, 13503278, 187823335389), (1635391317, -265575.101902, 66.61844672312807, 193385, 13503280, 224912072909), (1635391425, -413821.173135, 103.86289360306755, 193392, 13503287, 193826970861), (1635391465, -3982.945235, 1, 193392, 13503291, 165442376611), (1635391634, 1359.454177, -0.3392747081506337, 193392, 13503309, 138122283295), (1635391656, -556974.368571, 139.90352014725, 193401, 13503310, 153697963363), (1635391716, -713.48463, 0.1792980738077247, 193401, 13503314, 173166264147), (1635393650, 15990.308402, -3.994227173720991, 193400, 13503458, 191000000000), (1635393782, 1229438.385422, -306.7911618736806, 193380, 13503464, 213863652610), (1635393846, 6630.539376, -1.6529069141766952, 193380, 13503466, 226424614748), (1635393888, 4117.786174, -1.0265013736901623, 193380, 13503470, 200490692266), (1635393925, 10181.857586, -2.538152513045844, 193380, 13503471, 224547852816), (1635393963, 39000, -9.72160435809547, 193379, 13503475, 235246218384), (1635394271, 772056.726767, -192.32466332367267, 193367, 13503497, 186269977528), (1635394405, 333786.275162, -83.07342990727217, 193361, 13503508, 182590458985), (1635394596, 98421.749847, -24.486772913338438, 193360, 13503522, 230000000000), (1635395323, -29719.423038, 7.43817192204949, 193360, 13503573, 155406152250), (1635395527, -1651872.838182, 414, 193387, 13503588, 178160305162), (1635397595, 21162.553215, -5.279110551065204, 193387, 13503753, 158755844486), (1635397595, -2314.83823, 0.5809200560973728, 193387, 13503753, 141584361106), (1635397619, 1704.427903, -0.4245884788302388, 193373, 13503755, 142955940986), (1635397619, 843303.46803, -210.2193913572567, 193373, 13503755, 140955940985), (1635397730, 22000, -5.480293839712745, 193373, 13503763, 155425049976), (1635398140, 592951.978751, -147.6327349074472, 193363, 13503789, 134164374836), (1635398283, 732.975515, -0.1824072641502938, 193363, 13503800, 146958466901), (1635398314, 6731.286537, -1.675128374198964, 193363, 13503804, 178000000000), (1635398503, 7558.715152, -1.8810179131829523, 193363, 13503818, 146272491601), (1635399631, 11383.616173, -2.83281670504052, 193363, 13503907, 158000000000), (1635400249, -1316.691684, 0.32963129295278504, 193363, 13503949, 146262535258), (1635400744, -29957.514897, 7.5, 193363, 13503987, 158127949627), (1635400823, 2124814.096728, -527.8681350532336, 193329, 13503992, 152360035112), (1635400919, -185373.187971, 46.30091867775, 193341, 13504001, 151130696717), (1635400919, -584487.18979, 145.8963975888748, 193338, 13504001, 148130696716), (1635400954, -6004.552683, 1.5, 193341, 13504003, 154929786003), (1635401011, -1210718.284173, 302.5, 193345, 13504007, 153898729504), (1635401255, -1200.518904, 0.3, 193345, 13504030, 142929062124), (1635401359, -260171.303699, 65.02860297975, 193349, 13504034, 164527285379), (1635401447, -3193.558162, 0.7983868001091052, 193349, 13504039, 142993773381), (1635401466, -417135.842029, 104.31944601075949, 193356, 13504040, 158596027048), (1635401546, -8999.039678, 2.2513096834565913, 193356, 13504046, 151914831580), (1635401573, -650355.750353, 162.78870848175, 193366, 13504049, 165410229819), (1635401611, -13567.569435, 3.405312742841516, 193388, 13504051, 179704255626), (1635401611, -1332891.950757, 334.1740688280111, 193388, 13504051, 179704255627), (1635401685, -258514.357427, 64.89868971050825, 193393, 13504053, 212296306051), (1635402167, -5011.594962, 1.2573676962432874, 193384, 13504082, 214500000000), (1635402167, 507550.920799, -126.62912365440265, 193384, 13504082, 253842774639), (1635402278, 53043.253422, -13.227868372033265, 193384, 13504091, 188797747880), (1635402302, 1000374.659468, -248.49717783461688, 193337, 13504093, 224433724672), (1635402302, 1875734.915514, -467.0342627073047, 193353, 13504093, 177552257371), (1635402355, 192777.535991, -47.840202599749276, 193334, 13504094, 201621056993), (1635402555, -94482.059779, 23.58636163638777, 193335, 13504111, 146267772264), (1635402555, 56656.143735, -14.059258206251684, 193334, 13504111, 142217179217), (1635402728, 29983.943689, -7.440009767443769, 193334, 13504122, 164867908761), (1635402977, 25007.598839, -6.204935862630576, 193333, 13504138, 166176453541), (1635403097, -57583.835503, 14.374315000118477, 193334, 13504147, 185477603462), (1635403892, 842918.028091, -209.01845285649205, 193321, 13504201, 136519790435), (1635406059, -15309.211619, 3.816534954523097, 193321, 13504344, 112241852846), (1635407352, 2186.604201, -0.5418531571693026, 193321, 13504432, 138647645851), (1635407482, -13079.558967, 3.2607545713581785, 193321, 13504447, 116083251177), (1635408229, -205.327171, 0.05118894605882197, 193321, 13504514, 130903827139), (1635408389, -3267.781429, 0.8146742800404506, 193321, 13504530, 115696620867), (1635408862, 506094.637657, -125.36349140849279, 193313, 13504565, 140592857248), (1635408862, 614854.482897, -152.1609677970895, 193302, 13504565, 153364475726), (1635408900, 251798.812906, -62.242468480417, 193294, 13504566, 158444278718), (1635408900, 249857.566922, -61.7886, 193298, 13504566, 224389656076), (1635408934, 4699.243468, -1.1613621331417812, 193294, 13504572, 142058329817), (1635409113, 75000, -18.53411940816161, 193292, 13504588, 167297569210), (1635409113, 1401817.297498, -345.9908814438965, 193269, 13504588, 144752650181), (1635409244, 265293.995164, -65.38739521165533, 193265, 13504601, 108762860216), (1635409244, 419129.084945, -103.19500776916377, 193253, 13504601, 111724481255), (1635409244, 284359.046195, -70.05413930569892, 193260, 13504601, 172453813824), (1635409341, 1000000, -245.92053352061907, 193236, 13504606, 690141092229), (1635409389, 354670.216325, -87.12183553494567, 193230, 13504609, 145781414152), (1635409429, 889215.827587, -218.20144347394267, 193215, 13504612, 130843292066), (1635409438, 15626.660282, -3.831668756879732, 193215, 13504613, 146597041946), (1635409445, 20000, -4.903868858571491, 193215, 13504615, 131767433351), (1635409497, 1000, -0.2451481482860579, 193213, 13504617, 159816157899), (1635409497, 99999.999999, -24.51688474130519, 193213, 13504617, 157990811899), (1635409580, 407206.021351, -99.79175032392592, 193206, 13504620, 255136485996), (1635409580, 406227.20885, -99.48423218073076, 193199, 13504620, 229136947234), (1635409631, 32920.38845, -8.059179820222415, 193199, 13504627, 138000000000), (1635409667, 307838.202964, -75.33985276143781, 193194, 13504629, 124495274329), (1635409670, 499186.027668, -122.0877, 193185, 13504630, 202066110241), (1635409677, 24107.864591, -5.893569754403874, 193185, 13504631, 141780886341), (1635409702, 365604.487965, -89.34904177255817, 193179, 13504633, 212374980316), (1635409702, 310230.09936, -75.77349165202054, 193174, 13504633, 154583498797), (1635409892, 7000, -1.7092926272683675, 193173, 13504649, 113300000000), (1635409959, 2432.787431, -0.5940446977600427, 193173, 13504651, 139559754089), (1635409959, 40000, -9.766637677302818, 193172, 13504651, 140059754089), (1635409959, 20000, -4.883563353141512, 193173, 13504651, 139559754089), (1635409988, 1021.558704, -0.24941214487392846, 193172, 13504654, 134731551906), (1635409988, 22004.606431, -5.37249746461532, 193172, 13504654, 135075382548), (1635409994, 2000, -0.48829600345380425, 193172, 13504655, 143444895460), (1635410000, 5172.587711, -1.2628693945288596, 193172, 13504656, 131553219664), (1635410008, 4095.932438, -1, 193172, 13504659, 124000000000), (1635410316, 1040915.488545, -253.91253299490248, 193155, 13504685, 143000000001), (1635410487, 25923.514181, -6.317948631036544, 193154, 13504691, 163649629834), (1635410540, 20000, -4.8741128961737505, 193154, 13504692, 176562422254), (1635410677, 1073590.188234, -261.4016663767802, 193136, 13504701, 167755451620), (1635410742, 354270.635853, -86.15659489489217, 193130, 13504706, 171190986979), (1635410786, 1019.438141, -0.2476221754790739, 193121, 13504709, 161111114018), (1635410786, 500000, -121.51075472688643, 193122, 13504709, 432027068858), (1635410786, 6295.288901, -1.5270733770497942, 193107, 13504709, 160523364018), (1635410786, 805684.6, -195.5701023954506, 193107, 13504709, 160523364018), (1635410786, 48537.936761, -11.790381755500235, 193121, 13504709, 164474323339), (1635410981, 410893.574685, -99.63755072217275, 193100, 13504729, 120098019853), (1635410981, 3000, -0.7272196248986021, 193100, 13504729, 120086242464), (1635411014, 613705.075801, -148.61587573879058, 193085, 13504731, 130968531569), (1635411014, 300000, -72.70366129371558, 193095, 13504731, 223538577052), (1635411047, 11996.462335, -2.90357499491296, 193085, 13504734, 135310803029), (1635411051, 2053.71, -0.4970658254518361, 193085, 13504735, 128335177578), (1635411084, -2389.67963, 0.5818194360950041, 193084, 13504737, 129990962488), (1635411084, 50000, -12.101132767542785, 193084, 13504737, 129990962488), (1635411095, -6103.212512, 1.4859702220526558, 193084, 13504738, 144510394240), (1635411144, 163575.813124, -39.582594684385924, 193082, 13504742, 138884686705), (1635411254, 199439.172304, -48.22233088659116, 193073, 13504751, 137029770482), (1635411254, 300000, -72.56701706676489, 193077, 13504751, 182000000000), (1635411379, 9425.051826, -2.278484529284196, 193073, 13504759, 154697547484), (1635411409, 4000, -0.9669799796922293, 193073, 13504761, 146879363646), (1635411426, 1000, -0.24174399030294666, 193073, 13504763, 133250160255), (1635411471, 3920.56981, -0.9477703139079918, 193073, 13504765, 166000000000), (1635411552, -51013.465074, 12.406962567087293, 193074, 13504778, 110242646088), (1635411573, 2507.903671, -0.6063164900249326, 193074, 13504780, 105345591438), (1635411602, 510358.967769, -123.33296923404907, 193065, 13504783, 109842164641), (1635411619, -31915.723502, 7.756131757440336, 193066, 13504787, 105627561926), (1635411647, 42026.772661, -10.152037840101126, 193065, 13504792, 407551306140), (1635411665, 35462.877993, -8.565904049182272, 193065, 13504794, 105854222315), (1635411699, 587934.35543, -141.93947412928085, 193055, 13504796, 125229094341), (1635411699, 13741.064882, -3.3157189354679595, 193055, 13504796, 125229094340), (1635411797, 500000, -120.49849314191935, 193038, 13504803, 123708475684), (1635411797, 500000, -120.59855176156522, 193046, 13504803, 123018852632), (1635412712, -1125193.689108, 272.94333890316665, 193057, 13504869, 119577238861), (1635412759, -10586.236638, 2.5703646039628505, 193057, 13504870, 136512278752), (1635413153, -501541.895672, 121.82724111492617, 193065, 13504907, 118060193301), (1635413153, -59486.831568, 14.4563837655, 193066, 13504907, 121499108061), (1635413196, -481727.777785, 117.12109307925, 193074, 13504911, 116066000259), (1635414625, 9967.507931, -2.409794294457233, 193074, 13505009, 135064307817), (1635414650, 714615.901108, -172.6658022951238, 193062, 13505013, 115617046740), (1635414710, 583658.204224, -140.87275181902018, 193052, 13505019, 111479894550), (1635414776, 12279.784634, -2.962413351735461, 193052, 13505026, 100522215920), (1635414843, 599486.473813, -144.54904740151267, 193042, 13505030, 124108779231), (1635415126, 547413.823932, -131.86848573028544, 193033, 13505050, 114526341111), (1635415133, 497476.491953, -119.73577328091308, 193025, 13505051, 124219255786), (1635415185, 131688.908502, -31.65540101103091, 193015, 13505054, 171124173937), (1635415185, 456694.509052, -109.83374026715897, 193018, 13505054, 171124173936), (1635415233, 412442.317682, -99.09819753686307, 193009, 13505056, 167461745266), (1635415256, 516945.988972, -124.05000426607388, 192995, 13505060, 134130793224);
 INSERT INTO `swap_record` (`ts`, `amount0`, `amount1`, `tick`, `block_number`, `gas_price`) VALUES (1635415256, 300000, -72.03890442362564, 193004, 13505060, 220158559093), (1635415299, 416.609628, -0.09992970513384991, 192995, 13505064, 117365321098), (1635415300, 29891.482017, -7.169714124381032, 192995, 13505065, 124455001446), (1635415342, 1002.123354, -0.2403612488601021, 192995, 13505070, 113833292460), (1635415533, 497033.08501, -119.16515919141337, 192986, 13505086, 150000000000), (1635415613, 64158.489026, -15.375035546186314, 192985, 13505094, 96667853563), (1635415634, 45623.863912, -10.932375934995601, 192984, 13505097, 102798401882), (1635415645, 24000, -5.750540704053255, 192984, 13505098, 101706044065), (1635416712, -2548.804099, 0.614378294833561, 192984, 13505176, 102000000000), (1635418210, -1777.945222, 0.4285676100752273, 192984, 13505277, 121059804092), (1635418330, -414.856825, 0.1, 192984, 13505284, 146504238747), (1635418462, -561.094355, 0.13525023002292816, 192984, 13505293, 133470598238), (1635418462, -3456.393335, 0.8331567584424268, 192984, 13505293, 133470598238), (1635418471, -48014.359232, 11.574261157721171, 192985, 13505294, 149960074931), (1635418509, -432504.366329, 104.30043083664076, 192992, 13505297, 131935152285), (1635418524, -173491.816195, 41.85943701289037, 192995, 13505298, 136987758207), (1635418609, -227878.5005, 55, 192999, 13505306, 140000000000), (1635418713, -4556.689154, 1.1, 192999, 13505316, 107397960178), (1635418784, -7456.325938, 1.8, 192999, 13505325, 103131760758), (1635419414, -19468.859529, 4.7, 192999, 13505377, 162800000000), (1635419431, -1076.982336, 0.26, 192999, 13505378, 124010032986), (1635419497, -498826.170508, 120.47435232615726, 193008, 13505385, 111231313150), (1635419661, -396180.220559, 95.75502106707944, 193014, 13505398, 116457760870), (1635419700, -132339.713121, 32, 193017, 13505399, 122308588594), (1635419747, -4323.240865, 1.0454869692120652, 193017, 13505403, 127205567795), (1635419793, -4135.116508, 1, 193017, 13505407, 117063731308), (1635419862, -363270.429298, 87.87692341045434, 193023, 13505411, 119817493944), (1635419862, -377.954413, 0.0914565636067114, 193023, 13505411, 121317493944), (1635419899, -227758.754605, 55.1229410104162, 193026, 13505416, 119645369570), (1635420252, -361343.39847, 87.49612028905676, 193032, 13505439, 133865511273), (1635420338, -400647.731796, 97.07442647948454, 193039, 13505442, 331207529128), (1635420354, -611079.907408, 148.18471102258803, 193049, 13505443, 146890410665), (1635420389, -1113.219006, 0.2700883444927915, 193049, 13505445, 145015105278), (1635420431, -32972.548311, 8, 193050, 13505449, 146000000000), (1635420683, 1788414.706662, -430.6930565171891, 193020, 13505462, 191005040748), (1635420737, 3854.154758, -0.9268029605955518, 193020, 13505467, 135614838275), (1635420885, 9500, -2.284425994421876, 193020, 13505474, 154956863904), (1635421268, -3663.540274, 0.8862618570757524, 193020, 13505515, 105656437901), (1635421808, 6131.103742, -1.474311289550686, 193020, 13505565, 129227293099), (1635422415, -1720.066624, 0.41610592838460636, 193020, 13505613, 116706892368), (1635422799, 368220.231866, -88.51658761751742, 193014, 13505643, 131952588655), (1635422858, -1056.79779, 0.255497271533235, 193014, 13505649, 138000000000), (1635423362, 879358.256902, -211.17092821098677, 192999, 13505684, 129527910151), (1635423426, -42907.073619, 10.358707609417038, 193000, 13505689, 131807333514), (1635423545, 425555.572404, -102.09055114332814, 192993, 13505697, 156000000000), (1635423606, 6737.623399, -1.6157729975093051, 192993, 13505700, 152557703050), (1635424965, 843112.932575, -202.0475207299594, 192979, 13505794, 189675887260), (1635424989, 741949.364783, -177.570900116428, 192967, 13505797, 155237714993), (1635425049, 1897.142873, -0.4537640161421899, 192967, 13505802, 151503492059), (1635425105, 213734.408942, -51.112478476076, 192963, 13505807, 150524944419), (1635425105, 355074.971318, -84.87277950346136, 192957, 13505807, 156887505438), (1635425193, 12375.250486, -2.9571384371930245, 192957, 13505815, 196000000000), (1635425197, 585000, -139.72119456416047, 192947, 13505816, 132077056465), (1635425281, 2500, -0.5968135731863973, 192947, 13505821, 177718242290), (1635425299, 10000, -2.3872300025326316, 192947, 13505823, 163092398728), (1635425344, 97498.820931, -23.273174548714803, 192946, 13505826, 172723544443), (1635426133, -832.910275, 0.2, 192946, 13505886, 147819194534), (1635426194, -8229.764399, 1.9761613064152292, 192946, 13505892, 146000353689), (1635426216, -7496.040778, 1.8, 192946, 13505895, 147000000000), (1635426756, -1225.64029, 0.29431113, 192946, 13505941, 134200000000), (1635426792, -7347.843966, 1.7644388922660057, 192946, 13505943, 123585513604), (1635426879, -1061.018706, 0.2547843329620223, 192946, 13505955, 120880527783), (1635427686, 1371699.618422, -327.0485388433551, 192924, 13506000, 216245727046), (1635427846, 521409.704042, -124.12523614042937, 192915, 13506017, 165529255750), (1635427901, 7610, -1.8108308850050834, 192915, 13506020, 171671040453), (1635428172, 404675.942741, -96.26188553953912, 192908, 13506044, 154711678126), (1635429209, -18343.793804, 4.388426080062743, 192909, 13506115, 208000000000), (1635429301, -58343.696996, 13.958567646707245, 192910, 13506118, 183901224873), (1635429333, -417.957558, 0.1, 192910, 13506122, 179814003574), (1635429333, -2256.96587, 0.54, 192910, 13506122, 179814003574), (1635429405, -20897.435733, 5, 192910, 13506124, 250000000000), (1635430704, -651906.515045, 156.06365193122113, 192921, 13506224, 202669309040), (1635430912, -3000, 0.7206219231391722, 192949, 13506235, 259865973008), (1635430912, -561871.141512, 134.7755620630425, 192940, 13506235, 257415606655), (1635430912, -597950.31043, 143.2934873960846, 192931, 13506235, 255215606655), (1635430912, -10737.440285, 2.579240706822817, 192949, 13506235, 257215606655), (1635430912, -575983.028665, 138.2896100175424, 192949, 13506235, 289800000000), (1635431452, -6470.709879, 1.5543512816538765, 192950, 13506272, 223253425550), (1635431726, -267826.47702, 64.35, 192954, 13506293, 230000000000), (1635432490, -67095.461905, 16.12529257016454, 192955, 13506352, 196426523886), (1635432739, -12467.624783, 2.9965820730067576, 192955, 13506376, 169863312055), (1635432827, 200000, -47.74138257778111, 192945, 13506385, 171000000000), (1635432827, 471013.972206, -112.490866774282, 192948, 13506385, 134779059234), (1635432868, 71219.503307, -16.997132027863966, 192944, 13506387, 171581848466), (1635432947, 2095.159841, -0.5, 192944, 13506392, 187000000000), (1635433115, 10513.663419, -2.509012406494221, 192944, 13506403, 207580034649), (1635433513, -57594.833982, 13.827935166701595, 192945, 13506435, 164477658939), (1635433592, 949.780039, -0.2266760584419276, 192945, 13506442, 184426361376), (1635433696, 14290.492318, -3.4105533291500754, 192945, 13506450, 188306499115), (1635433717, 46550.664132, -11.109224206328772, 192944, 13506452, 200000000000), (1635433801, 10000, -2.386379137183795, 192944, 13506463, 151772053211), (1635434088, 6.972203, -0.001663819405916247, 192944, 13506489, 193600000000), (1635435814, -10459.985863, 2.511194664600788, 192944, 13506606, 186268543192), (1635435814, 19881.659709, -4.744486102317763, 192944, 13506606, 186268543192), (1635436216, -5782.799523, 1.3882886696607268, 192944, 13506641, 221000000000), (1635436307, -69142.007436, 16.6, 192945, 13506649, 178239292680), (1635436352, -264123.955941, 63.428247190000874, 192949, 13506655, 142468305572), (1635436355, -257963.849298, 61.973246997594636, 192953, 13506656, 141841579152), (1635436448, -825039.355146, 198.37149872392703, 192966, 13506664, 172435992530), (1635436808, -41561.536133, 10, 192966, 13506681, 234151881000), (1635436819, -44883.234655, 10.8, 192967, 13506682, 263147285227), (1635436838, -83.94929, 0.020201, 192967, 13506683, 238350296004), (1635436982, -10389.158986, 2.5, 192967, 13506690, 271482085201), (1635437022, -1038.906031, 0.25, 192967, 13506693, 260000000000), (1635437118, -5817.840626, 1.4, 192967, 13506700, 225000000000), (1635437182, 474413.601661, -113.43448117702553, 192959, 13506704, 225217140685), (1635437206, 845028.350604, -201.84308440015803, 192947, 13506706, 217230388641), (1635437224, -228986.991539, 55, 192950, 13506709, 185231989162), (1635437237, 442890.144812, -105.72283687804872, 192944, 13506710, 181138494339), (1635437389, -583.162444, 0.14, 192944, 13506726, 150421996707), (1635437405, 259831.022929, -61.991969731278566, 192940, 13506727, 169344663147), (1635437431, -583.389074, 0.14, 192940, 13506728, 190138532787), (1635437511, 148016.597075, -35.30388515934312, 192937, 13506738, 161120198103), (1635437626, 30000, -7.154390093133096, 192937, 13506743, 176242759416), (1635437626, 1658.820853, -0.39558566603931855, 192937, 13506743, 175816422502), (1635437626, 4300, -1.0254889327599412, 192937, 13506743, 178469082863), (1635438306, 25588.415988, -6.102047688597842, 192937, 13506795, 210774420278), (1635439699, 996.112378, -0.2375373360454503, 192936, 13506903, 229867062965), (1635440264, -34383.746786, 8.248924440328333, 192937, 13506941, 239460602126), (1635440438, -43934.714154, 10.540895081588607, 192938, 13506955, 214063480554), (1635440705, 1767353.533932, -420.9427929095162, 192911, 13506970, 271049751015), (1635440797, 5000, -1.189305233716561, 192911, 13506982, 186706885440), (1635440908, 11505.661816, -2.7367149637082484, 192911, 13506992, 165443955488), (1635440964, 263725.055386, -62.716227316027336, 192907, 13506997, 178841685746), (1635440998, 4000, -0.9510460259442242, 192907, 13507001, 157425034252), (1635441308, 210.420347, -0.05002960360069523, 192907, 13507027, 199766829728), (1635441308, 1299.717469, -0.3090215581341072, 192907, 13507027, 199766829728), (1635441356, 640.723959, -0.1523386206384383, 192907, 13507034, 158116387769), (1635441375, 659702.147844, -156.75723545106285, 192896, 13507035, 217097665216), (1635441375, 1000000, -237.31736322576847, 192881, 13507035, 184000000000), (1635441375, 68046.772072, -16.177979028966096, 192906, 13507035, 1718351544829), (1635441395, 12651.11285, -3, 192880, 13507037, 177585711918), (1635441414, 159733.677408, -37.87317150862999, 192878, 13507038, 200000000000), (1635441576, 10332.313108, -2.449492838383101, 192878, 13507051, 219798123689), (1635441658, 19560.071412, -4.6370214966888605, 192878, 13507058, 184070763552), (1635441808, 925276.220715, -219.1926205621075, 192863, 13507072, 182887434183), (1635442047, 324882.8114, -76.88925557099058, 192858, 13507085, 316243753525), (1635442047, 205500.544647, -48.615600314151656, 192855, 13507085, 228354890899), (1635442126, 4979.121007, -1.1777291467056785, 192855, 13507093, 191544930867), (1635442126, 6020.338373, -1.424, 192855, 13507093, 191093531987), (1635443082, -839949.622363, 200, 192868, 13507165, 199500000000), (1635443308, 1281521.936413, -303.212624044146, 192848, 13507174, 241487412441), (1635443330, 10001.191132, -2.363980096350915, 192848, 13507177, 239800000000), (1635444888, 19790.582516, -4.677790544762626, 192848, 13507288, 188165681367), (1635445710, -497880.687261, 118.43401857868315, 192856, 13507340, 238600561356), (1635445710, -105991.747362, 25.22460876461528, 192857, 13507340, 247690345138), (1635445815, -199418.322651, 47.47, 192860, 13507351, 191787112057), (1635445852, 1089.54948, -0.25784430803251523, 192860, 13507354, 217936335312), (1635446092, -251897.205761, 59.98286859868787, 192864, 13507372, 198476527360), (1635446262, -786559.833627, 187.4484772677706, 192876, 13507382, 214360714787), (1635446330, -3146955.760536, 752.223950418374, 192924, 13507388, 170435181210), (1635446340, -2312155.569455, 554.9570214982269, 192959, 13507389, 191730960506), (1635446492, -7959.003477, 1.9136313505594558, 192959, 13507398, 247436712040), (1635446602, -2071095.91643, 498.82383427553503, 192993, 13507405, 265547585318), (1635446691, -325370.884144, 78.52196320376989, 192999, 13507410, 273937294627), (1635446751, 894094.485959, -214.3787143754885, 192984, 13507417, 226817772259), (1635446962, 1748976.45464, -418.4390164364415, 192955, 13507437, 201711032121), (1635447053, 3083881.815693, -735.0742409879643, 192909, 13507442, 237331357808), (1635447110, -1001951.216735, 239.890625, 192924, 13507443, 932305835791), (1635447185, 2000, -0.4763355459834842, 192924, 13507448, 228167576779), (1635447185, 10028.575057, -2.3884618785613627, 192924, 13507448, 227964858570), (1635447193, -1431088.227292, 343.2565756208194, 192945, 13507449, 254414736701), (1635447467, 819489.653793, -195.47289584109637, 192933, 13507462, 262405031945), (1635447467, -22750, 5.456007125106396, 192933, 13507462, 264405031945), (1635447537, 1341.115144, -0.319710498169443, 192933, 13507465, 289531924482), (1635447953, -6865.342103, 1.6510801805686528, 192961, 13507489, 273070568949), (1635447953, -1832620.348719, 440.12000082052, 192961, 13507489, 220895491760), (1635448016, -2852.180814, 0.6859406517120303, 192961, 13507490, 251323924542), (1635449030, 1037543.177395, -247.83472319914412, 192946, 13507569, 149630503540), (1635449144, 301992.660837, -72.06358287633356, 192941, 13507578, 173380146394), (1635449276, 629531.897565, -150.11843238040427, 192932, 13507585, 209055797957), (1635449316, 3010, -0.7174256487236482, 192932, 13507589, 232100000000), (1635449341, 411097.561207, -97.95363894134104, 192925, 13507590, 205153505960), (1635449341, -13420.753575, 3.2161247679539566, 192926, 13507590, 207035305960), (1635449385, 583402.141431, -138.90854449498823, 192917, 13507593, 211176243960), (1635449428, 2832.882261, -0.6736866192893272, 192909, 13507598, 168590001592), (1635449428, 524282.961723, -124.72873095050858, 192909, 13507598, 166764655592), (1635449440, 1282370.607495, -304.6651071376203, 192890, 13507599, 173556168723), (1635449515, 2000, -0.4746941721523683, 192890, 13507605, 187004372089), (1635449606, 10500, -2.4921205218731153, 192889, 13507614, 207117981544), (1635449769, 262090.334838, -62.19278423649386, 192885, 13507625, 197436178891), (1635449842, 7244.999341, -1.7188488189639843, 192885, 13507630, 198360146342), (1635449919, 3850, -0.9133902388036482, 192885, 13507637, 187000000000), (1635449958, 224433.81675, -53.23631038933965, 192882, 13507639, 196250019105), (1635449958, 3242.84773, -0.7690780718534002, 192882, 13507639, 195543085155), (1635449984, 756198.175785, -179.23664940527595, 192870, 13507643, 166722627601), (1635450074, 5100, -1.2081144237605659, 192870, 13507649, 184800000000), (1635450102, 2021076.486287, -478.02125828220386, 192839, 13507650, 199600787851), (1635450376, 500000, -118.03048989189027, 192831, 13507672, 299114334809), (1635450376, 151296.705894, -35.69722852133293, 192829, 13507672, 194761035542), (1635450442, 620329.245139, -146.27419733544406, 192819, 13507677, 196399717424), (1635450480, 124372.111537, -29.310147167472316, 192817, 13507680, 199155682819), (1635450517, 278472.317385, -65.60569990934032, 192813, 13507681, 201924791310), (1635450517, 366.36824, -0.0862945986855764, 192813, 13507681, 201238624364), (1635450531, 368914.29097, -86.8694655626945, 192807, 13507682, 218253206085), (1635450563, 689112.062128, -162.1347051782644, 192797, 13507684, 208414760823), (1635450584, 555229.41817, -130.50904375306013, 192788, 13507685, 227630197362), (1635450620, 50130.202628, -11.777803561069156, 192787, 13507689, 218266082850), (1635450656, 4013.639685, -0.9429421510564262, 192787, 13507691, 206008643178), (1635450656, 105221.169873, -24.717988205512082, 192786, 13507691, 205831584616), (1635451083, 691340.35575, -162.30542925932025, 192775, 13507730, 170052740083), (1635451083, 57000, -13.373930503529532, 192774, 13507730, 171620226801), (1635451207, 838276.706527, -196.54473204605003, 192761, 13507740, 172398404294), (1635451233, 497399.140105, -116.49743275413134, 192753, 13507743, 180331585346), (1635451274, 70923.889229, -16.59231708783597, 192745, 13507747, 189426965767), (1635451274, 433380.952087, -101.42823794305761, 192746, 13507747, 186431928430), (1635451366, 33758.044764, -7.896880236787715, 192744, 13507752, 233228225603), (1635451376, 3889.765614, -0.9098895361985174, 192744, 13507753, 218126861073), (1635451454, 289781.984579, -67.7286240079288, 192733, 13507759, 208653313032), (1635451454, 379717.118039, -88.79585197601303, 192738, 13507759, 205752530684), (1635451454, 10000, -2.3366688443813324, 192733, 13507759, 207752530684), (1635451537, 517830.961946, -120.94910271638533, 192725, 13507766, 195639424768), (1635451559, 1502448.122477, -350.3579198480988, 192701, 13507768, 238071782256), (1635451594, 4000, -0.9316345966522478, 192701, 13507773, 186127076537), (1635452116, -19617.894994, 4.596774382771781, 192701, 13507807, 223000000000), (1635452180, -445370.727, 104.39641730023125, 192708, 13507809, 380264156417), (1635452425, -571653.307899, 134.1076522309296, 192717, 13507833, 148052626434), (1635452425, -42765.428943, 10.037587326068543, 192718, 13507833, 150898896973), (1635452544, -6390.539104, 1.5, 192718, 13507839, 217885792228), (1635452949, 25057.511209, -5.846224448955264, 192718, 13507862, 215847122356), (1635454091, -106503.566699, 25, 192720, 13507939, 273249784723), (1635454170, -85189.732874, 20, 192721, 13507945, 262904756759), (1635454214, -1208945.933573, 284.1178269155739, 192740, 13507947, 279566111191), (1635454214, -121141.202562, 28.5, 192742, 13507947, 279370171190), (1635454434, -2504918.230982, 590.5527158095372, 192782, 13507957, 278177073683), (1635454570, 144612.460272, -33.92606077207447, 192772, 13507964, 282916891344), (1635454570, 501890.275755, -117.80397563821518, 192774, 13507964, 281815891343), (1635455114, -77407.027592, 18.268150676965448, 192773, 13508002, 317816894900), (1635455124, -798323.607946, 188.53649899423704, 192786, 13508003, 319225173803), (1635455367, -1381456.75924, 326.80640711125875, 192807, 13508021, 294669254035), (1635455972, 10000, -2.3539974148021607, 192807, 13508062, 328946504068), (1635456047, 96804.712156, -22.78591958176331, 192806, 13508069, 260361333324), (1635456076, 3256.21677, -0.7663898067784712, 192806, 13508071, 240565243958), (1635456086, 1490121.952262, -350.3130377376188, 192782, 13508072, 249828769677), (1635456132, 157704.823237, -37.02760869690473, 192780, 13508073, 283016385063), (1635456675, -50000, 11.8093025906042, 192781, 13508110, 243407918054), (1635456706, -22189.373366, 5.241113969131935, 192781, 13508116, 255000000000), (1635456722, -12700.795831, 3, 192781, 13508118, 240779250195), (1635456851, -38866.687011, 9.180899136878468, 192782, 13508126, 276073366894), (1635456893, -48148.810684, 11.374244865420692, 192783, 13508132, 234000000000), (1635457025, -6218.620466, 1.4690933010062526, 192783, 13508143, 227508848110), (1635457123, 15000, -3.522361769249641, 192783, 13508152, 300000000000), (1635457480, 468.447609, -0.11000080121341883, 192782, 13508174, 270990857218), (1635457480, 3991.794119, -0.9373557636516238, 192782, 13508174, 271226906068), (1635457820, 659389.908255, -154.75758636145412, 192772, 13508204, 195303263298), (1635458448, -908.038006, 0.21428694875134743, 192772, 13508262, 165597333886), (1635458713, 1274759.320789, -298.7232311858387, 192752, 13508272, 261725465087), (1635459081, -141028.944525, 33.217442214756645, 192754, 13508313, 148569910478), (1635459223, -11671.277411, 2.7493456864957944, 192754, 13508330, 160000000000), (1635459236, -127.352126, 0.03, 192754, 13508331, 159455369450), (1635459301, -32095.982614, 7.5609596550183, 192755, 13508339, 212000000000), (1635459360, -5000, 1.1779019244648048, 192755, 13508343, 170426848289), (1635459463, -12000, 2.828625432964388, 192761, 13508354, 134655025291), (1635459463, -343103.687205, 80.85100397871211, 192760, 13508354, 136147345381), (1635459463, -15583.87069, 3.673330034643565, 192760, 13508354, 134655025292), (1635459473, -330450.807465, 77.91480519186172, 192766, 13508357, 130041357191), (1635459835, 15044.104361, -3.5267885440148907, 192766, 13508379, 170000000000), (1635460233, 807218.610497, -189.11217391889787, 192753, 13508407, 210279614891), (1635460717, 50000, -11.705809826849734, 192752, 13508437, 210000000000), (1635461198, 19772.262944, -4.628749547438247, 192752, 13508482, 182074456861), (1635461425, 11798.438199, -2.761982343611974, 192752, 13508503, 145972384241), (1635462700, -1048.84697, 0.2470099610124733, 192752, 13508591, 209838582303), (1635462939, 747154.990842, -174.80149722614732, 192740, 13508610, 167837069618), (1635463097, 24998.005646, -5.844839448589809, 192739, 13508621, 211928276314), (1635463110, 1176048.708504, -274.71172797629816, 192721, 13508624, 190287766264), (1635463427, 18372.451144, -4.287518016133035, 192720, 13508652, 153375667923), (1635463488, 520806.007599, -121.48610450047796, 192712, 13508658, 156865610487), (1635463492, 19413.946901, -4.526634192382478, 192712, 13508659, 161698455680), (1635465692, 704141.001018, -164.08469527607554, 192700, 13508834, 178015282533), (1635465934, 845147.092276, -196.69754776214813, 192687, 13508850, 181888765237), (1635466227, 13883.074386, -3.2288804999518113, 192686, 13508874, 184341866668), (1635466729, 13500, -3.139717112827003, 192686, 13508914, 129285930319), (1635467250, -213.701815, 0.05, 192686, 13508953, 187000000000), (1635467279, -4956.19336, 1.1596097158412102, 192686, 13508955, 205700000000), (1635467507, -428014.137078, 100.178264, 192693, 13508973, 150889376681), (1635467515, -17674.243025, 4.138209313608627, 192693, 13508974, 147799766652), (1635467919, -17376.184942, 4.068537763925331, 192694, 13509002, 147779505483), (1635468244, 10529.371963, -2.450637740332611, 192694, 13509023, 189535249871), (1635468334, 12000, -2.790892717590574, 192686, 13509030, 169943080933), (1635468334, 439005.94313, -102.13860661668988, 192686, 13509030, 167943080933), (1635468344, 937846.351235, -217.95246683162796, 192671, 13509031, 168797729063), (1635468368, 2656109.158434, -615.5528604312439, 192631, 13509036, 134315212924), (1635468433, 544650.821246, -125.92574875854523, 192623, 13509041, 170990061565), (1635468470, 458606.725951, -105.95426406331053, 192617, 13509045, 142535449740), (1635468473, 33318.524049, -7.69498374084762, 192616, 13509046, 136966858545), (1635468519, 144821.087688, -33.442385813545265, 192614, 13509049, 165445244780), (1635468568, 196630.272597, -45.3649449652066, 192605, 13509052, 169425865816), (1635468568, 452777.658657, -104.5107391348163, 192607, 13509052, 163025991418), (1635468615, 552700.454415, -127.4399995182561, 192594, 13509055, 147460261738), (1635468690, 608023.175751, -140.0126153595267, 192580, 13509061, 164135253863), (1635468942, 10000, -2.30101654262348, 192579, 13509080, 132432901978), (1635468972, 17384.201493, -4, 192579, 13509083, 170000000000), (1635468994, 49950, -11.49225073643057, 192578, 13509084, 160576692868), (1635468998, 92312.922196, -21.235221522557776, 192575, 13509085, 155667233581), (1635469028, 173799.49144, -39.967037454483524, 192571, 13509087, 194000000000), (1635469031, 31908.752024, -7.3359170453373075, 192570, 13509088, 134761463792), (1635469038, 46001.70515, -10.5749250281501, 192569, 13509090, 230000000000), (1635469104, 361432.21669, -82.98755321491392, 192554, 13509091, 183591791844), (1635469104, 285237.961424, -65.54437884411573, 192562, 13509091, 163483269683), (1635469656, 2153351.324137, -492.8006608556333, 192495, 13509131, 222442529528), (1635469750, 130000, -29.65556811058684, 192491, 13509132, 251897592976), (1635469974, 484478.692175, -110.42300055064145, 192477, 13509148, 216000000000), (1635470136, 53212.153598, -12.118941440525235, 192476, 13509156, 219290926072), (1635470216, 500000, -113.78447264395597, 192462, 13509160, 285000000000), (1635470274, 3986.79976, -0.9066233664582906, 192462, 13509165, 207437620094), (1635470333, 15127.301391, -3.439950333188255, 192461, 13509168, 210160217252), (1635470491, 631675.955539, -143.51155840738843, 192443, 13509179, 194747085987), (1635471152, -827037.954514, 189.08204541837273, 192467, 13509230, 172546596468), (1635471793, 248961.277865, -56.64394742466115, 192467, 13509276, 165897787817), (1635471948, -9345.650441, 2.13915252103604, 192467, 13509290, 159701858436), (1635472372, -150000, 34.34172410127849, 192471, 13509319, 145784483016), (1635472404, -174633.764374, 40, 192476, 13509322, 164000000000), (1635472652, -1137695.421194, 261.0718065679739, 192508, 13509340, 146078434564), (1635473691, 645889.317687, -147.42883846922385, 192490, 13509422, 154485969186), (1635473814, 999899.571477, -227.7085167021171, 192462, 13509433, 136471087802), (1635474401, -415385.652036, 95.088, 192474, 13509468, 208562936305), (1635474626, -61741.637255, 14.143206036953115, 192475, 13509486, 182000000000), (1635474667, -4365.050965, 1, 192476, 13509490, 157316513777), (1635474676, -474261.226256, 108.72316917229026, 192489, 13509491, 163607776526), (1635476334, -11374.606386, 2.609375, 192489, 13509606, 212791958067), (1635476334, -36241.547134, 8.314493492733533, 192490, 13509606, 161683346973), (1635477016, -192163.32761, 44.1, 192496, 13509661, 175000000000), (1635477063, -24696.959247, 5.669484564113864, 192496, 13509663, 163895414904), (1635477566, 4600, -1.0496886091051558, 192496, 13509694, 186695919992), (1635477664, 558128.639551, -127.26105262186154, 192481, 13509699, 196455784024), (1635477902, 948744.402933, -215.8668653998446, 192454, 13509720, 152321950942), (1635477958, 907056.596174, -205.8374302404296, 192428, 13509722, 400000000000), (1635478337, -14188.250333, 3.235021174668056, 192428, 13509750, 165854463203), (1635478366, -20741.440901, 4.729430313818555, 192429, 13509752, 166598880307), (1635478413, -25225.833985, 5.7523313665728555, 192429, 13509755, 170000000000), (1635478425, 1975.979463, -0.447969185537592, 192431, 13509757, 145168430515), (1635478425, -50590.902741, 11.537659747370773, 192431, 13509757, 150000000000), (1635478429, -1096.137792, 0.25, 192431, 13509758, 154306273427), (1635478474, -496098.075663, 113.2270833944825, 192445, 13509761, 154703687473), (1635478494, -5507.112368, 1.257816739815108, 192445, 13509763, 134078374411), (1635478664, -30365.967235, 6.935899259301563, 192446, 13509776, 127336897843), (1635478732, -5591.079126, 1.2771254914311942, 192446, 13509781, 149443643409), (1635478749, -356511.896062, 81.47725076260619, 192456, 13509782, 144093873752), (1635479090, -671546.511202, 153.70070619575756, 192476, 13509814, 143925924218), (1635479327, -101610.038242, 23.28176579915875, 192478, 13509839, 138698128285), (1635479357, -3996.424364, 0.9158333017628666, 192479, 13509844, 135300000000), (1635479473, -392514.349951, 90, 192490, 13509851, 150880734533), (1635480200, 426013.298211, -97.09141487373701, 192478, 13509893, 195000000000), (1635480240, 479.964008, -0.10932164870014353, 192478, 13509897, 234300000000), (1635480431, -4110.834731, 0.941975173688331, 192478, 13509912, 169754458234), (1635481590, -9262.207274, 2.122424408474178, 192478, 13509993, 148809740539), (1635482352, -87324.691639, 20.043185665110396, 192496, 13510056, 124508460176), (1635482352, -535549.919657, 122.81474785537453, 192493, 13510056, 117096060903), (1635482511, -301308.4888, 69.19547707770771, 192504, 13510069, 134860107729), (1635482629, -265119.431408, 60.93304797869558, 192511, 13510079, 140485240976), (1635482655, -847120.660359, 195, 192535, 13510081, 165440266761), (1635482933, -347115.560161, 80, 192536, 13510102, 130628618772), (1635484737, -683816.50053, 157.74100509305558, 192553, 13510232, 154358337078), (1635484737, -99828.255019, 23.05, 192555, 13510232, 155958337078), (1635484793, -822002.084551, 190.00856584796585, 192575, 13510235, 156491106087), (1635484863, -259229.58738, 60, 192581, 13510239, 156604678171), (1635486002, -107962.680568, 25, 192584, 13510310, 180375515817), (1635486002, -6867.378328, 1.59, 192581, 13510310, 179645515817), (1635486265, -1176323.322229, 272.7823963539101, 192607, 13510333, 120971415477), (1635486878, 10144.308652, -2.3406903562487833, 192607, 13510374, 138890227370), (1635487378, -387607.487068, 90, 192613, 13510407, 156562398658), (1635487524, -344356.717275, 80, 192618, 13510418, 132332691418), (1635487900, 1130735.302266, -260.9669916398025, 192601, 13510447, 122754557130), (1635487900, 437198.130008, -100.77842111740448, 192592, 13510447, 149600000000), (1635487938, 14075.837047, -3.2429651974737803, 192592, 13510448, 140083052685), (1635488043, 5201.930081, -1.1984579978809011, 192592, 13510457, 117104256206), (1635488480, 30000, -6.911332048462889, 192591, 13510488, 135057812571), (1635488497, 80066.141155, -18.443092242165182, 192589, 13510489, 147713116214), (1635488676, 8683.404601, -2, 192589, 13510506, 109576288127), (1635489316, -2785.373293, 0.6454016488816254, 192589, 13510550, 124533340484), (1635489355, 610735.567364, -140.56683609010358, 192575, 13510554, 130921242882), (1635489425, 30000, -6.899649292500892, 192574, 13510559, 130131770069), (1635489522, 415.31, -0.09551306466252824, 192574, 13510568, 122077453077), (1635490033, 107171.115531, -24.64414646442499, 192572, 13510612, 118316308232), (1635490089, 12000, -2.759034054600749, 192571, 13510619, 104148704474), (1635490268, 4400.768223, -1.0118031436871175, 192571, 13510636, 106594356901), (1635490334, 3500, -0.804695515392933, 192571, 13510642, 121000000000), (1635490778, 24506.544778, -5.634189753824129, 192571, 13510671, 124353945313), (1635490802, 40640.319, -9.34272526932142, 192570, 13510673, 123382680624), (1635491668, -432.061828, 0.1, 192578, 13510732, 143000000000), (1635491668, -343548.585461, 79.48184053892429, 192578, 13510732, 140420289156), (1635491918, -538617.589306, 124.74064789293408, 192590, 13510747, 141782215684), (1635491918, -2661.564747, 0.6167923712015689, 192590, 13510747, 143282215684), (1635492147, -10459.576208, 2.4239446718327824, 192591, 13510762, 134820920495), (1635492198, -10879.13577, 2.5212379503042794, 192591, 13510764, 153601398408), (1635492267, -3723.390525, 0.8629098688395141, 192591, 13510768, 145553651335), (1635492276, -4473.621905, 1.0367887621531962, 192591, 13510770, 134957676087), (1635492457, -2997.654661, 0.6947305460719575, 192591, 13510787, 132557804675), (1635492474, -2155.722731, 0.5, 192599, 13510790, 113553275575), (1635492474, -334738.971031, 77.60906284283355, 192599, 13510790, 127290630819), (1635492680, -387892.554496, 89.99525241149806, 192605, 13510806, 136389994228), (1635492680, -77881.305992, 18.07542377810827, 192606, 13510806, 139811666807), (1635492766, -66741.147666, 15.491538680318179, 192607, 13510811, 147484640113), (1635492823, -546596.954263, 126.92922287338577, 192615, 13510815, 145147930440), (1635492826, -86086.675864, 20, 192616, 13510816, 134000000000), (1635492842, -2146756.025663, 499.5535075014197, 192647, 13510818, 129130979122), (1635492903, -643.596448, 0.15, 192647, 13510820, 163896826141), (1635493204, 273406.814457, -63.327349946, 192643, 13510837, 209464053014), (1635493204, 299.49618, -0.06935647488708403, 192643, 13510837, 148605300460), (1635493216, 273276.910997, -63.2721319018659, 192639, 13510838, 142293341567), (1635494494, 1082752.401203, -250.44455926684003, 192624, 13510925, 152121528599), (1635494657, 20701, -4.784386707438997, 192623, 13510936, 155000000000), (1635494723, -1218120.79988, 283.47401325596866, 192641, 13510940, 162539986459), (1635495234, 678873.969351, -157.09895759501214, 192631, 13510970, 163865760469), (1635495351, 350499.427344, -81.04892461658629, 192626, 13510976, 173000000000), (1635495432, 957.07, -0.22125494344995572, 192626, 13510987, 117243328023), (1635495454, 8679.995953, -2.0066229187114053, 192626, 13510988, 131133055506), (1635495516, 5000, -1.1558778540923702, 192626, 13510993, 135528039677), (1635495829, 80000, -18.4928391514322, 192625, 13511014, 138044082155), (1635495829, 2500, -0.5779357848587179, 192626, 13511014, 143000000000), (1635495874, 8431.340119, -1.9488677766960096, 192625, 13511019, 130854764403), (1635495935, 64726.652113, -14.960492141908276, 192624, 13511025, 114997296217), (1635497495, 621301.587007, -143.53222302160293, 192615, 13511130, 140774236478), (1635497509, 565937.884191, -130.6298356973599, 192607, 13511132, 118929431427), (1635497539, 738109.250483, -170.2031694421982, 192594, 13511134, 142674827477), (1635498104, 703885.536804, -162.05934097847177, 192577, 13511172, 121766173800), (1635498115, 344803.393781, -79.28779204295788, 192569, 13511173, 150766173800), (1635498275, 733685.484227, -168.49719913512095, 192552, 13511180, 162111648097), (1635499102, 806064.203928, -184.78052046261345, 192532, 13511240, 166224709248), (1635499139, 5000, -1.1449927847813766, 192531, 13511241, 159472842386), (1635499211, 2183.44124, -0.5, 192531, 13511247, 139706441639), (1635500277, -3067.146203, 0.7065992717052807, 192531, 13511320, 118234106372), (1635500844, -17362.376142, 4, 192532, 13511359, 118311837959), (1635500857, -5014.370323, 1.1552620687316257, 192532, 13511360, 133412132247), (1635500870, -1906.56209, 0.4392574846242204, 192532, 13511363, 109885747398), (1635500911, -383358.434875, 88.36887629209971, 192542, 13511367, 103598823488), (1635500981, -6765.844248, 1.560385766806291, 192542, 13511368, 117408372954), (1635501083, -423.19073, 0.0976, 192542, 13511377, 123706628333), (1635501267, -386973.849536, 89.288186935125, 192551, 13511393, 116536470101), (1635501367, -189358.128852, 43.721192333251, 192556, 13511397, 145000000000), (1635501438, -5000, 1.1547228834276737, 192556, 13511401, 143905304925), (1635501457, -1602.103495, 0.37, 192556, 13511403, 125625538217), (1635501527, -26960, 6.226524493879556, 192557, 13511413, 102879379908), (1635501601, -93089.513507, 21.502461666856508, 192559, 13511416, 130762923736), (1635501646, -4000, 0.9240537615397082, 192559, 13511418, 131810070211), (1635501782, -311553.953784, 72, 192566, 13511427, 139275917706), (1635501851, -1089.941326, 0.2519781235169176, 192566, 13511436, 107428792038), (1635502946, -2016.959423, 0.46629254701127987, 192566, 13511514, 149000000000), (1635502977, -9268.967657, 2.142892722946784, 192567, 13511515, 142108744395), (1635502977, -1905, 0.44041115072004794, 192566, 13511515, 142608744395), (1635503002, -578957.670118, 133.94237311890205, 192580, 13511519, 119203628591), (1635503051, -568731.512129, 131.7553096589415, 192594, 13511522, 119618097328), (1635504848, -45517.283818, 10.552440179653605, 192595, 13511645, 143456751990), (1635505075, -18414.170122, 4.269348573343702, 192595, 13511660, 156275671099), (1635505190, 588.605955, -0.1356543131018144, 192595, 13511666, 152694754242), (1635507161, -1328873.575261, 306.8228354443856, 192569, 13511819, 138410977373), (1635507161, 2436466.56534, -559.9132416591101, 192538, 13511819, 211075274677), (1635507213, -675951.630564, 156.44073071237827, 192585, 13511825, 123519954737), (1635507291, -5000, 1.1581257587191305, 192585, 13511833, 106241874262), (1635507291, -1369.46437, 0.3172, 192585, 13511833, 106524406211), (1635507387, -1593153.971848, 369.60751920913935, 192614, 13511842, 110623355864), (1635507447, 6921.741358, -1.5982064604497823, 192614, 13511845, 137280867266), (1635507506, -1238669.57311, 287.98608389049065, 192632, 13511848, 135805402076), (1635508008, -2495928.922455, 581.878571776443, 192669, 13511890, 151245939434), (1635508050, -5000, 1.1678605703314888, 192669, 13511893, 129922673520), (1635508194, 726157.772024, -168.49807585006468, 192658, 13511906, 116035292518), (1635508219, 1473953.004066, -341.45987114084807, 192636, 13511907, 127858963312), (1635508287, 3130.395669, -0.7244190469019461, 192636, 13511912, 133890410254), (1635509924, 11805.175846, -2.7318596511037625, 192636, 13512032, 154042652160), (1635510073, 481.45189, -0.11141276425062992, 192636, 13512047, 113486861495), (1635510092, 524506.454756, -121.32983218645342, 192629, 13512048, 127978830038), (1635510141, 1000, -0.23123379262581184, 192629, 13512051, 145250719358), (1635510234, 13954.830019, -3.22679329260363, 192628, 13512060, 123585093023), (1635510578, 735395.096733, -169.9540764414321, 192618, 13512083, 159862313315), (1635510604, 605536.558968, -139.80718038913278, 192609, 13512084, 155878838868), (1635510604, 157976.441274, -36.45367971976648, 192607, 13512084, 159509123891), (1635510607, 499687.627215, -115.25, 192599, 13512085, 198876993067), (1635512735, -43.11259, 0.01, 192599, 13512234, 162051072802), (1635512735, -2911.102768, 0.675230260305645, 192599, 13512234, 182021173593), (1635512808, -258645.909508, 60.00452311185962, 192603, 13512237, 177000000000), (1635513113, -475497.721277, 110.37183194779301, 192610, 13512269, 129413230178), (1635513270, -247411.928977, 57.45904179112615, 192614, 13512278, 166690546512), (1635513271, -58116.542429, 13.5, 192615, 13512279, 151546070059), (1635513271, -358910.929781, 83.39766034343972, 192620, 13512279, 152215336662), (1635513271, 152.035973, -0.03510365944580182, 192614, 13512279, 151316655679), (1635513271, -2600, 0.6039854786515584, 192615, 13512279, 151546070059), (1635513377, -816987.451108, 190, 192632, 13512289, 140208481256), (1635513418, 4998.508436, -1.156179344203001, 192632, 13512295, 134522352976), (1635513464, -2963.830658, 0.6896793277456501, 192632, 13512298, 157345417276), (1635513636, 1499.551961, -0.3468535325953272, 192632, 13512307, 173393148552), (1635514656, 1423229.68068, -328.8607605033308, 192611, 13512392, 164875136041), (1635514687, -3.489426, 0.00081031462142584, 192611, 13512395, 158474524137), (1635514687, -3.489426, 0.000810314629626744, 192611, 13512395, 158474524137), (1635514687, -3.489426, 0.000810314625526291, 192611, 13512395, 158474524137), (1635514747, -1481.930658, 0.3441343606792177, 192611, 13512399, 178181279229), (1635515160, 5000, -1.1541423378932267, 192611, 13512422, 218721088915), (1635515281, 202758.121449, -46.795318166589176, 192608, 13512431, 177989642140), (1635515320, 1000, -0.23075981318486763, 192608, 13512435, 161355876130), (1635515491, 8752.198599, -2.0196343731961814, 192608, 13512445, 187312986832), (1635515491, 2433.190349, -0.5614811568166073, 192608, 13512445, 187535518781), (1635515517, 450172.613226, -103.84620315021628, 192601, 13512449, 150245160450), (1635515517, 308460.024438, -71.1136092939289, 192595, 13512449, 167770256837), (1635515659, 415734.593994, -95.76691393048556, 192586, 13512457, 214062388656), (1635515767, 336405.469318, -77.42540849816675, 192578, 13512464, 199572734511), (1635515767, 600, -0.13803905932583652, 192578, 13512464, 196245080510), (1635515828, 771448.737888, -177.32470979524362, 192560, 13512467, 211001299789), (1635515898, 128.18729, -0.029438713873584123, 192560, 13512471, 222992707696), (1635515951, 758047.680862, -173.50319222668438, 192516, 13512473, 255626013041), (1635515951, 1000000, -229.387647331232, 192536, 13512473, 1109715744386), (1635516131, 15104.579297, -3.453593713773076, 192516, 13512481, 245300000000), (1635516917, -850614.011828, 195.88031977189215, 192539, 13512538, 181947985581), (1635517767, -791250.812764, 182.58762344250417, 192557, 13512595, 180588254899), (1635519882, 870557.480642, -199.66654205909614, 192537, 13512745, 208072426673), (1635520109, 318897.586357, -73.03319912664807, 192528, 13512760, 189894481004), (1635520206, 997614.296927, -228.07026319561564, 192501, 13512772, 169106590891), (1635520254, 7000, -1.5981658957369775, 192501, 13512773, 176409181633), (1635520346, 980518.605654, -223.56842645329579, 192476, 13512778, 214613817679), (1635520458, 37899.300876, -8.630277111875367, 192475, 13512784, 263598307981), (1635521080, 505265.863294, -114.85470985841778, 192452, 13512822, 221433312402), (1635521080, 500000, -113.7881261001792, 192463, 13512822, 429395006692), (1635521093, 1000000, -226.92568728748404, 192429, 13512823, 1189632246963), (1635521093, 965425.173788, -218.58274822802846, 192406, 13512823, 252000000001), (1635521453, 382003.405752, -86.34645958286248, 192396, 13512850, 191000000001), (1635522386, 1070985.66927, -241.65035659343206, 192370, 13512922, 196760321834), (1635522833, 531.921253, -0.11986261251644789, 192370, 13512957, 202020876778), (1635522886, 184916.172819, -41.65941532847604, 192366, 13512960, 207851447213), (1635522925, 41632.5, -9.376718948232446, 192365, 13512963, 224760730647), (1635522954, 21230.645842, -4.781326019081135, 192364, 13512965, 209558488662), (1635523033, 513847.715347, -115.62342600296988, 192349, 13512973, 200214649278), (1635523033, 58906.256868, -13.26490629524386, 192363, 13512973, 212000000000), (1635523079, 20245.250876, -4.55198435392838, 192348, 13512974, 223662663105), (1635523079, 933.933372, -0.20998105276325624, 192348, 13512974, 223571209299), (1635523256, -23802.468409, 5.384066202945142, 192349, 13512986, 238842443066), (1635523362, 263818.111351, -59.296864473159076, 192341, 13512989, 266767696357), (1635523435, 83807.403659, -18.827380530265852, 192339, 13512997, 306900000000), (1635523607, 750628.976915, -168.42481659420667, 192317, 13513007, 235177243455), (1635524162, -36071.845161, 8.134066138093289, 192318, 13513039, 245567195169), (1635524162, -567140.273943, 128, 192334, 13513039, 290314502306), (1635524323, 409994.706587, -92, 192322, 13513049, 255875394664), (1635524452, -659158.014018, 148.8578098348565, 192342, 13513060, 178428689977), (1635524502, -4498.511176, 1.0168905864564315, 192342, 13513064, 247000000000), (1635524793, -2910.822624, 0.658, 192342, 13513082, 205335081365), (1635525452, -11059.129441, 2.5, 192342, 13513132, 202522418084), (1635525626, -132681.521447, 30, 192346, 13513139, 276188934456), (1635525626, -128209.631424, 29, 192350, 13513139, 276188934456), (1635525694, -197006.86775, 44.58269910376804, 192356, 13513144, 245301481224), (1635525751, -5000, 1.1318372598189643, 192356, 13513145, 266534334916), (1635525836, -979890.876445, 222.09728064520414, 192381, 13513148, 314654431948), (1635525860, -10135.168369, 2.3, 192381, 13513151, 259517744194), (1635526476, 909460.471552, -204.92294147750016, 192358, 13513192, 207993365822), (1635526667, 11809.954215, -2.657989809284802, 192358, 13513208, 187721876551), (1635527306, 49789.634497, -11.20481783849854, 192356, 13513258, 163078000226), (1635527660, -940989.207748, 213.28125, 192380, 13513282, 2063082906214), (1635527778, -16752.181652, 3.8014872452641923, 192381, 13513287, 247758307807), (1635527961, 199032.577417, -44.88476119243369, 192376, 13513304, 183506840495), (1635529412, -11507.138081, 2.61006450046, 192376, 13513431, 141152558222), (1635531581, -435665.635406, 98.8679200846089, 192386, 13513594, 166914850627), (1635531581, 19994.800545, -4.508030238134532, 192375, 13513594, 166914850626), (1635531772, -552705.115712, 125.58134286164355, 192400, 13513605, 175664395141), (1635532099, -27267.741822, 6.2, 192401, 13513636, 156017785347), (1635532142, -8827.142974, 2.0071609219938846, 192401, 13513641, 155276746816), (1635532301, -93935.475383, 21.362302619067535, 192403, 13513654, 183942341534), (1635532433, 41227.423885, -9.320172118882503, 192402, 13513664, 186516944115), (1635532601, -219.859392, 0.05, 192402, 13513677, 160124936301), (1635532715, -1446689.609544, 329.5967227197299, 192438, 13513685, 174131808248), (1635533104, -75374.966221, 17.204181659513647, 192439, 13513716, 135449686094), (1635533165, -4132.610383, 0.9433494880427431, 192440, 13513721, 146483968218), (1635533165, -19274.910542, 4.4, 192440, 13513721, 184067689001), (1635533220, -13133.623595, 3, 192446, 13513728, 131579598318), (1635533220, -25798.597047, 5.893224617158268, 192447, 13513728, 131694252318), (1635533220, -249990.010191, 57.08509710644836, 192446, 13513728, 129754252318), (1635533291, -15000, 3.426646857884548, 192447, 13513734, 149464730186), (1635533768, -1113066.885079, 254.61589772283736, 192474, 13513773, 185702116974), (1635533961, 10877.037718, -2.4764977736222638, 192474, 13513785, 209000000000), (1635536252, -10477.904558, 2.4, 192474, 13513971, 190604788731), (1635536268, -139680.263025, 32, 192477, 13513972, 211196131155), (1635536366, -6546.365344, 1.5, 192477, 13513979, 183466699797), (1635536607, -3136.277449, 0.7186385889676118, 192477, 13513997, 206800000000), (1635536669, -50000, 11.457601531706871, 192479, 13514002, 187011772184), (1635536811, -8586.136697, 1.9676687866800984, 192479, 13514010, 191608658380), (1635536910, -392707.953315, 90, 192479, 13514019, 186136737768), (1635537292, 767370.127015, -174.65627075527013, 192461, 13514049, 176638410611), (1635537547, 775994.206914, -176.2086620849271, 192438, 13514061, 236732958909), (1635537547, 203107.244925, -46.17442032777398, 192456, 13514061, 394667538208), (1635538495, 642909.915736, -145.74180698785395, 192422, 13514144, 188767216777), (1635538644, 423.020014, -0.09582127786406296, 192422, 13514166, 142189735640), (1635538669, 2477678.814009, -559.4966023524375, 192360, 13514168, 134725117978), (1635538689, -115784.164889, 26.225218, 192363, 13514171, 119542037686), (1635538897, -67055.328901, 15.191597535198873, 192365, 13514194, 137546362534), (1635539335, -718051.260109, 162.83813591610283, 192383, 13514215, 212251316937), (1635540140, -52886.249911, 12.00511246185515, 192384, 13514283, 158232765521), (1635540143, -6792.086837, 1.54191144681958, 192384, 13514284, 177752402609), (1635540241, 19164.172825, -4.324439667587264, 192384, 13514290, 200000000000), (1635540934, 5005.222341, -1.1294055528983524, 192384, 13514335, 158212554626), (1635541992, -611285.260551, 138.8714002528578, 192399, 13514419, 166384769480), (1635542581, -26389.579799, 6, 192400, 13514457, 181219833594), (1635543017, -686287.862166, 156.1767755533174, 192417, 13514495, 164318825751), (1635543425, 19137.5012, -4.332634693732431, 192417, 13514526, 168858379425), (1635543769, 2500, -0.565972069224029, 192417, 13514553, 172700000000), (1635544327, 535832.074062, -121.2240939062732, 192403, 13514607, 123579406698), (1635544396, 4588.30617, -1.0373295224672878, 192403, 13514613, 145309189799), (1635544397, 5000, -1.1303920761970432, 192403, 13514614, 141088588430), (1635544703, 30614.366508, -6.920936821955943, 192402, 13514634, 156867488970), (1635544812, 572173.045329, -129.25197932710515, 192388, 13514646, 156442674308), (1635545002, 21932.021386, -4.950663748069606, 192387, 13514663, 125000000000), (1635545725, 1002.2318, -0.2262248997086545, 192387, 13514718, 132762033064), (1635546736, -637526.074732, 144.88691562500594, 192403, 13514797, 180721480861), (1635548290, 2249.577514, -0.5085938642457125, 192403, 13514911, 159839363677), (1635550320, 6000, -1.3564909167763644, 192403, 13515065, 230281737084), (1635550556, 5000, -1.1303934284636707, 192403, 13515082, 149798658918), (1635550556, -5228.578615, 1.1891950127499487, 192403, 13515082, 149798658918), (1635551113, 1165.651708, -0.26353044148355237, 192403, 13515119, 162757261108), (1635552163, 295491.810937, -66.77980028514051, 192396, 13515209, 165699671362), (1635552163, 576315.730433, -130.10179684838613, 192381, 13515209, 164621119239), (1635552287, 24720.083143, -5.576273555310136, 192381, 13515216, 162778935574), (1635552614, -17626.253554, 4, 192381, 13515244, 124428383785), (1635552621, -5709.209746, 1.2956531982944375, 192381, 13515246, 113133880867), (1635552633, -1982.875849, 0.45, 192381, 13515250, 114965819484), (1635552717, -2361.74688, 0.535985107739625, 192381, 13515253, 173000000000), (1635552823, -1016127.470156, 230.901295208971, 192407, 13515262, 137166998446), (1635552871, -763088.299468, 173.79079529229168, 192426, 13515264, 161661594631), (1635553601, -571264.889818, 130.3141595973789, 192440, 13515324, 148712656701), (1635553681, -945806.734538, 216.14451717359208, 192462, 13515329, 170933593234), (1635553756, 10010.927489, -2.276630495241139, 192462, 13515335, 152971029987), (1635554409, -30072.714456, 6.880357262810526, 192463, 13515371, 161725485439), (1635555928, 1509.548711, -0.3433133205901527, 192463, 13515477, 174145703837), (1635557267, -669272.026569, 153.25077751934748, 192479, 13515580, 126107232497), (1635557406, -756253.679431, 173.48562579070148, 192499, 13515590, 136851089275), (1635557748, -22936.571855, 5.267357213862053, 192500, 13515630, 115715180955), (1635558315, 27692.207176, -6.321342108350266, 192499, 13515674, 137398687568), (1635558827, 3171.259779, -0.723876907886698, 192499, 13515713, 155132785881), (1635559568, 6483.254637, -1.47985817479031, 192499, 13515759, 162875576968), (1635559784, -10807.4232, 2.4817699086552985, 192499, 13515779, 141296615495), (1635559880, -609.65157, 0.14, 192499, 13515783, 148166515968), (1635559915, -239.505687, 0.055, 192499, 13515786, 182600000000), (1635560014, -24603.449652, 5.650125, 192500, 13515788, 175063496002), (1635560077, -59885.233619, 13.754141107304926, 192502, 13515795, 153235116749), (1635560121, -2695, 0.619028683750662, 192502, 13515800, 136936732489), (1635560183, -500942.506151, 115.1457869421288, 192516, 13515803, 649660050039), (1635560183, -6042.886224, 1.39, 192516, 13515803, 161947399310), (1635560212, -1619.139698, 0.37244263772742114, 192516, 13515806, 135000000000), (1635560340, 8279.420866, -1.8930465235893923, 192516, 13515817, 138849200891), (1635561731, -9081.026474, 2.0888461733044483, 192516, 13515924, 126624379927), (1635562383, 6562.278725, -1.5004380187641098, 192516, 13515972, 136101677195), (1635563005, -20427.057898, 4.698804589915523, 192517, 13516028, 137577246687), (1635563031, 949.193652, -0.21703942277775665, 192516, 13516029, 150784971355), (1635563799, -7896.720779, 1.8165381234038014, 192517, 13516085, 155061358844), (1635564383, -579048.58038, 133.31274430967994, 192533, 13516124, 150848600373), (1635564458, -1388.795683, 0.32, 192533, 13516131, 140206079688), (1635564510, -4610.995185, 1.0624535690032881, 192533, 13516136, 117139199239), (1635564623, -138850.328686, 32, 192537, 13516143, 142068495638), (1635564623, -1000, 0.23050939577654858, 192537, 13516143, 144068495638), (1635564769, -17352.423122, 4, 192538, 13516155, 129490127176), (1635564903, -2168.99323, 0.5, 192538, 13516169, 111929009844), (1635565003, -4337.94669, 1, 192538, 13516176, 124498677412), (1635565040, -1518.268813, 0.35, 192538, 13516180, 115171101163), (1635565112, -260.274001, 0.06, 192538, 13516184, 121241280927), (1635565256, -780.820859, 0.18, 192538, 13516197, 133254204578), (1635568730, 11551.106907, -2.646844630070364, 192538, 13516416, 154884310498), (1635569179, 10619.019802, -2.433188501255259, 192537, 13516451, 134712556327), (1635569636, -3998.975148, 0.9218190628490726, 192537, 13516492, 121080980009), (1635569890, -52671.258023, 12.14243251740425, 192539, 13516514, 120490221281), (1635570015, -65000, 14.987028677857415, 192541, 13516526, 124489008334), (1635570130, -43365.099981, 10, 192542, 13516533, 140860063995), (1635571830, 29989.352616, -6.8742306845258945, 192541, 13516641, 135177452930), (1635573445, 69020.107238, -15.819062696995976, 192539, 13516750, 145313465695), (1635573468, 392.272659, -0.0898989561225603, 192539, 13516753, 128118307676), (1635574828, -1196.361164, 0.27582847472325545, 192539, 13516870, 125400000000), (1635575601, 646389.621768, -148.0007112432467, 192521, 13516916, 125764936458), (1635575677, 1003.878189, -0.22964204587962392, 192521, 13516921, 138165860746), (1635575799, 39018.481324, -8.925161716602878, 192520, 13516932, 133521399894), (1635575874, 20625.16985, -4.717441478065791, 192519, 13516939, 111705979846), (1635575949, 442934.346109, -101.21562716137684, 192504, 13516944, 117497246019), (1635575949, 93607.351865, -21.40664359804188, 192516, 13516944, 119305876219), (1635576331, -214.374175, 0.049251305960361126, 192504, 13516964, 118010663561), (1635577863, 6363.667038, -1.45324642785072, 192504, 13517068, 149785735050), (1635577996, -8335.336027, 1.914987047918989, 192504, 13517078, 121020705230), (1635578171, -2747.73101, 0.6312825526405444, 192504, 13517092, 123200000000), (1635578360, -2568.024472, 0.59, 192504, 13517099, 134000000000), (1635578414, -2158.759138, 0.4959751998539495, 192504, 13517109, 112860371105), (1635578414, -750.836037, 0.17250539315752939, 192504, 13517109, 112735173251), (1635578452, -1030.914604, 0.23685434739168415, 192504, 13517112, 121078436091), (1635578608, -2312.666882, 0.5313415941040224, 192504, 13517120, 128115869255), (1635578620, -77783.453657, 17.872998230349577, 192506, 13517122, 133500000000), (1635580016, -49806.256789, 11.446500369573899, 192508, 13517220, 105802313371), (1635580500, -10206.089855, 2.3457681563092336, 192508, 13517255, 127846072841), (1635580523, -257507.335855, 59.20792507050464, 192515, 13517256, 139094687451), (1635580585, -13042.616834, 3, 192516, 13517262, 126667115653), (1635580651, -2173.722654, 0.5, 192516, 13517266, 130111528977), (1635580908, -17266.544505, 3.9717623610618067, 192516, 13517283, 130642980758), (1635581586, -4564.550908, 1.05, 192517, 13517337, 114178999601), (1635581644, -439177.884248, 101.08915830495386, 192529, 13517343, 96162040853), (1635581668, -24.587755, 0.00566308498311556, 192529, 13517344, 107422002478), (1635581873, -4341.732997, 1, 192529, 13517354, 128927850044), (1635582241, -674940.289417, 155.59917308478433, 192547, 13517381, 1003785731621), (1635582241, -387115.302627, 89.36258372810677, 192556, 13517381, 102647287612), (1635582723, -59391.120249, 13.717349474485998, 192558, 13517418, 359879829540), (1635582786, -2393.153046, 0.5527788777957569, 192558, 13517420, 141068757528), (1635583033, -29822.996661, 6.888887291198206, 192558, 13517435, 129199142869), (1635583222, -350615.83895, 81.0267, 192567, 13517455, 146865267309), (1635583222, -378914.949636, 87.64350026681102, 192576, 13517455, 119065223814), (1635583487, -1115780.423468, 258.5443919208976, 192602, 13517471, 114713700584), (1635583788, 3180.892588, -0.7335407985739624, 192601, 13517501, 100911359891), (1635584083, -15086.181785, 3.5, 192602, 13517521, 139546976593), (1635584095, -7468.734858, 1.7327777307363676, 192602, 13517522, 236708694624), (1635584128, -588502.85747, 136.59419563147495, 192610, 13517525, 137693659146), (1635584156, -529697.055842, 123.04494021514887, 192618, 13517529, 125177084096), (1635584167, -907524.443423, 211.031791753649, 192631, 13517531, 112715477372), (1635584392, 2992.782587, -0.6922140678784556, 192631, 13517549, 111641411544), (1635584606, 1933.572988, -0.447223146853405, 192631, 13517570, 116500492487), (1635585079, 43.230514, -0.009998928789203151, 192631, 13517604, 132650755370), (1635585122, 438836.458037, -101.46767476577816, 192625, 13517605, 132536056977), (1635585122, 1749437.077926, -403.8641719773091, 192599, 13517605, 134536056977), (1635586019, 1903.415763, -0.43885257176763287, 192599, 13517675, 105072615069), (1635588393, -5088.051737, 1.1801788868849428, 192600, 13517846, 111060639343), (1635588540, -689479.619286, 160.0064, 192610, 13517856, 119343188339), (1635589001, -13943.18044, 3.237422168205676, 192610, 13517893, 164076329115), (1635589564, -149661.043794, 34.75344048208224, 192612, 13517922, 153979710583), (1635590148, 234.730966, -0.05418721332712495, 192612, 13517961, 126680389290), (1635590288, 526161.505666, -121.4171884848523, 192604, 13517972, 138195519432), (1635590328, 1974.211975, -0.45539578377845336, 192604, 13517978, 110964633238), (1635590372, 4000, -0.9226847418476573, 192604, 13517983, 107550687006), (1635590393, 388115.974317, -89.50134234599419, 192598, 13517984, 117456390581), (1635590396, 2000, -0.4610528364146337, 192598, 13517985, 106018880886), (1635590811, 355.901117, -0.08204437757020237, 192598, 13518012, 115874693141), (1635590931, 450, -0.10373649447861444, 192598, 13518022, 127600000000), (1635590950, 468960.74636, -108.04655036446692, 192587, 13518023, 118662926927), (1635591232, 641148.384228, -147.5212680877488, 192571, 13518042, 113305098038), (1635591260, 2750, -0.6322566773628245, 192571, 13518047, 105201415093), (1635591318, 1338.1875, -0.30766321297788485, 192571, 13518049, 115993507690), (1635591335, 5611.673884, -1.2901713952967653, 192571, 13518050, 129645906061), (1635591749, 5000, -1.149527761355378, 192571, 13518092, 114836670109), (1635591824, 704204.031666, -161.762892161989, 192554, 13518097, 123209226606), (1635591860, 1002.363285, -0.2300586486874194, 192554, 13518100, 116228813734), (1635592848, -18522.113556, 4.276837821261652, 192554, 13518176, 106930457039), (1635593582, -1071861.864055, 246.88582628363, 192544, 13518222, 155591175536), (1635593582, 2414217.56444, -552.3721566257456, 192489, 13518222, 155591175536), (1635593582, -896515.708373, 205.92545292, 192514, 13518222, 116108630428), (1635593912, -4335.242432, 1, 192544, 13518249, 104538249252), (1635593912, -17000, 3.921449787228906, 192544, 13518249, 104538249252), (1635593945, -8745.251826, 2.017360358428561, 192545, 13518252, 102540165232), (1635593945, -2050, 0.4729014584222409, 192545, 13518252, 102040165232), (1635594050, -855.871608, 0.19743626543338572, 192545, 13518261, 100518816847), (1635594280, -1623.700128, 0.37456347527609857, 192545, 13518278, 114001274595), (1635594452, -697335.25185, 161, 192561, 13518286, 141786651311), (1635594486, -14928.392082, 3.4496011051278788, 192562, 13518291, 125318440557), (1635594747, -10050, 2.322388793780671, 192562, 13518305, 137175782387), (1635595423, -2163.688677, 0.5, 192562, 13518353, 135203282782), (1635595449, -5125.039563, 1.1843396080389936, 192562, 13518354, 151000000000), (1635595798, -252042.295799, 58.262153227271305, 192568, 13518377, 131077254563), (1635595798, -14271.249304, 3.3, 192569, 13518377, 130673428825), (1635595885, -30582.347572, 7.072063560090378, 192569, 13518381, 146370938895), (1635595959, -20625.512877, 4.769872763476765, 192570, 13518385, 156560635441), (1635595959, 3715.426879, -0.8545449053958788, 192575, 13518385, 156560635441), (1635595959, -215703.306007, 49.89787964416292, 192575, 13518385, 156985037442), (1635596000, -17071.451902, 3.9501472514042466, 192575, 13518387, 230303199518), (1635596152, -4321.614407, 1, 192576, 13518395, 150784321168), (1635596186, -1153.611894, 0.2669417887708118, 192576, 13518397, 158947709457), (1635596248, -18414.216293, 4.2610858892875, 192576, 13518404, 134147836162), (1635596526, -6762.01493, 1.5647908788218567, 192576, 13518431, 110354177180), (1635598317, 907.211697, -0.20868065602171243, 192576, 13518560, 139235011986), (1635598821, -648386.022985, 150.160171941265, 192592, 13518593, 169628711764), (1635599104, -138044.290046, 32, 192595, 13518608, 145793770055), (1635599124, -861745.076711, 200, 192616, 13518611, 157714360567), (1635599730, -967350.847375, 225, 192639, 13518649, 162852839427), (1635600605, 6000, -1.3887949303913083, 192639, 13518705, 168074459074), (1635600641, 5000, -1.1573139375135568, 192638, 13518708, 180876713118), (1635600692, 639283.530349, -147.85682338295572, 192623, 13518713, 158811845855), (1635600731, 635853.910218, -146.84046599078152, 192608, 13518720, 117854798526), (1635600769, 43337.384665, -10, 192607, 13518722, 150965543946), (1635600823, 715662.296437, -164.98797839327486, 192590, 13518726, 157211882334), (1635600840, 575689.883861, -132.51357340696126, 192576, 13518728, 160537354093), (1635600909, 26800, -6.1643377068967515, 192575, 13518733, 159469303878), (1635600909, 6000, -1.380129890472046, 192576, 13518733, 159500000000), (1635600932, 1000, -0.2300049330841305, 192575, 13518735, 185000000000), (1635601055, 4362.069894, -1.00329107704301, 192575, 13518743, 165806788430), (1635601081, 9539.07039, -2.1939819635465256, 192575, 13518745, 154559132399), (1635601155, 0.00008, -0.000000018224427838, 192575, 13518751, 154070412310), (1635601470, -897429.726061, 207.87727267674245, 192597, 13518777, 148477818383), (1635601629, -50854.594701, 11.793388100641028, 192598, 13518793, 150196517432), (1635601676, 9000, -2.0747386389456777, 192598, 13518795, 153773403548), (1635601960, -2267.138626, 0.52578125, 192598, 13518826, 615303300767), (1635602225, -4311.908119, 1, 192598, 13518853, 108352323093), (1635602475, -95829.470962, 22.227084137874577, 192600, 13518873, 140905955752), (1635602852, -2000, 0.4639429598171886, 192600, 13518897, 171732151135), (1635602997, -444.590763, 0.10313267851663162, 192600, 13518914, 145000000000), (1635603039, -6286.573959, 1.4583218543379088, 192601, 13518919, 180345074206), (1635603043, -523.648665, 0.12147387615032283, 192601, 13518920, 135060150771), (1635603061, -246, 0.05706612660642093, 192601, 13518921, 151744961324), (1635603150, -717322.202188, 166.5444268204418, 192618, 13518927, 266576449619), (1635603678, -1090773.171365, 253.79882506957756, 192644, 13518967, 229486164179), (1635603691, -314180.045778, 73.31496732831785, 192664, 13518968, 241720660275), (1635603691, -501458.395785, 116.9009, 192656, 13518968, 315736051439), (1635603693, -1864442.683003, 436.3861320760566, 192716, 13518969, 218123465580), (1635603782, 761666.329591, -177.47749267716966, 192695, 13518976, 225346012233), (1635604932, -26902.619794, 6.3, 192695, 13519060, 240900000000), (1635604966, -17620.876112, 4.126833984843521, 192696, 13519061, 185256419947), (1635604966, -13801.946332, 3.232294122862764, 192696, 13519061, 184316419947), (1635605011, -547120.657966, 128.23705734369977, 192711, 13519066, 183905664833), (1635605052, -2013970.890818, 473.71168618546994, 192767, 13519069, 186126392902), (1635605075, -2923.764452, 0.689603184983364, 192767, 13519070, 193001214975), (1635605368, 512000, -119.9543528981577, 192753, 13519100, 158000000000), (1635605493, 682889.509625, -159.73128092494534, 192734, 13519109, 161212150416), (1635605641, 4984.906431, -1.1649035223055169, 192734, 13519117, 177380293486), (1635605800, 81.129197, -0.018958637815303648, 192734, 13519128, 276000000000), (1635605836, 18000, -4.206218000323328, 192734, 13519131, 192113882958), (1635606108, 250697.227134, -58.56121598291336, 192727, 13519146, 210303840917), (1635606108, 429460.465957, -100.22622063246746, 192715, 13519146, 218532773360), (1635606189, 195575.763851, -45.603558078467344, 192710, 13519149, 223138727808), (1635606560, 25000, -5.827615998421779, 192709, 13519175, 228000000000), (1635606701, 7308.84993, -1.7036506310883064, 192709, 13519185, 226207446671), (1635606730, 10006.472064, -2.332394834811635, 192708, 13519188, 194577103112), (1635606851, 28084.630002, -6.5458626846753125, 192708, 13519199, 177716475571), (1635606988, 332712.946786, -77.50880312045246, 192698, 13519207, 188943182867), (1635607118, 17507.161008, -4.076491729748453, 192698, 13519216, 191597614381), (1635607150, 14923.127716, -3.474651152738435, 192697, 13519217, 215104446007), (1635607682, 1886.033347, -0.43912748457374917, 192697, 13519255, 190831440277), (1635609807, 10686.683932, -2.488150601236398, 192697, 13519413, 160909722546), (1635610671, -5331.51764, 1.2487946352939727, 192697, 13519470, 194939983323), (1635610779, 541176.368617, -125.90630512146555, 192682, 13519477, 213474385541), (1635610817, -7748.829584, 1.8123165905811331, 192682, 13519481, 179957459588), (1635610822, 6060, -1.4088408157101255, 192682, 13519482, 198000000000), (1635610881, 500, -0.1162399371868113, 192682, 13519483, 187133881149), (1635610905, 550464.264523, -127.87446038945897, 192667, 13519485, 212899136271), (1635611009, 2514.130442, -0.5835937115342655, 192667, 13519497, 149198375963), (1635611136, 858.491222, -0.19927675029598083, 192667, 13519508, 145711374881), (1635611516, 1961.883416, -0.45539921475068956, 192667, 13519532, 176379195906), (1635612237, -350671.165921, 81.9292, 192677, 13519591, 171094653925), (1635612412, -303616.795988, 71, 192685, 13519603, 169383473453), (1635612494, -897.642421, 0.21, 192685, 13519612, 140520960127), (1635612783, -341796.496632, 80, 192695, 13519630, 179936842495), (1635612807, -170.817198, 0.04, 192695, 13519632, 162165851297), (1635614258, -11591.474814, 2.711176634998105, 192683, 13519729, 205000000000), (1635614258, 429872.205615, -100, 192683, 13519729, 192087417845), (1635615052, 923.616103, -0.21473723512363807, 192683, 13519800, 153600621156), (1635615240, 342280.745861, -79.54131553697026, 192674, 13519824, 115868349286), (1635615240, 1000, -0.23227618960385357, 192674, 13519824, 117368349286), (1635615255, 233.556665, -0.054249559718750805, 192674, 13519825, 133222770004), (1635615255, 9781.439854, -2.2719603410068383, 192673, 13519825, 131835839002), (1635615319, 968, -0.22483653200505907, 192673, 13519829, 126689074893), (1635615346, 411455.18578, -95.5140308728041, 192662, 13519831, 157662173990), (1635615355, 414846.534165, -96.1930471751014, 192651, 13519833, 139170586553), (1635616982, 58.408433, -0.013536077872831636, 192651, 13519971, 179197608011), (1635617237, 7.498221, -0.001737702719033969, 192651, 13519986, 215224251449), (1635618174, 3818.599025, -0.8849507921165694, 192651, 13520039, 194962117330), (1635619194, -1494.088445, 0.34833709231149484, 192651, 13520102, 218880032609), (1635619822, 2500, -0.5793662134934691, 192651, 13520160, 150177847800), (1635619921, 4228.36578, -0.979900184606495, 192651, 13520168, 153251842589), (1635619983, 20000, -4.634739865583836, 192650, 13520173, 152785257385), (1635620136, 100000, -23.170020456884288, 192647, 13520179, 188487098528), (1635620237, 68162.910464, -15.78984709292793, 192646, 13520189, 163276415910), (1635620301, 462433.900725, -107.04705389209774, 192633, 13520195, 146770022644), (1635620301, 1444.48683, -0.3341736706817659, 192633, 13520195, 146770022643), (1635620734, 6051.648528, -1.4, 192633, 13520233, 164249894205), (1635620790, 2318.179838, -0.5362862445992448, 192633, 13520237, 163954230042), (1635620931, 15655, -3.62152879047373, 192633, 13520242, 234118833527), (1635620931, 299.995466, -0.06940051935648095, 192633, 13520242, 234175287527), (1635621010, 119752.977932, -27.697939162277013, 192630, 13520247, 241277855110), (1635621019, 5000, -1.1562707037287365, 192629, 13520250, 234300000000), (1635621019, 25000, -5.781124282430933, 192629, 13520250, 267219587782), (1635621058, 2569.090512, -0.5940676142313033, 192629, 13520253, 234300000000), (1635621113, 1069.30058, -0.2472601828162926, 192629, 13520259, 300000000000), (1635621186, 27750, -6.416538864422183, 192628, 13520260, 207332462606), (1635621235, 1074933.336036, -248.19149191171994, 192600, 13520263, 229208456438), (1635621606, -7853.98336, 1.8217676188237732, 192600, 13520296, 183025926958), (1635621810, -14394.842099, 3.3390482733071134, 192600, 13520313, 162199236188), (1635621879, 6350.558827, -1.464275136283188, 192600, 13520319, 181700718802), (1635622432, -997.893394, 0.231473623117907, 192600, 13520351, 228821916020), (1635622593, 302570.570767, -69.73635434241294, 192592, 13520355, 224248106638), (1635623133, 8008.565328, -1.8450436749645724, 192592, 13520406, 153744548642), (1635623180, 7500, -1.7278426117325407, 192591, 13520410, 177100000000), (1635623644, 894.134879, -0.20598759907666347, 192591, 13520446, 165000000000), (1635623960, 4186.757337, -0.9645236412430415, 192591, 13520462, 220000000000), (1635624372, 4800, -1.1057860392714909, 192591, 13520499, 157634572498), (1635624593, 5970.632128, -1.3754471899523673, 192591, 13520516, 188866199624), (1635624631, 322194.161636, -74.1908989720289, 192582, 13520517, 205145424157), (1635624634, 2027.174704, -0.466590397856606, 192582, 13520518, 184851280115), (1635624683, 37643.791978, -8.66393017452152, 192581, 13520520, 206592703186), (1635626520, 3048.843954, -0.7016703770416165, 192581, 13520661, 139216008919), (1635626691, -103.658596, 0.024, 192581, 13520674, 155313043917), (1635626701, -2930.974453, 0.6786091624712864, 192581, 13520675, 186000000000), (1635627317, -161976.45412, 37.51074113044486, 192586, 13520713, 267721934686), (1635627371, -150, 0.03474477216346109, 192586, 13520719, 178082901179), (1635627386, -28434.631221, 6.6, 192607, 13520720, 181767475826), (1635627386, -759157.108292, 176.02402593745896, 192606, 13520720, 179767475826), (1635627404, -6056.759682, 1.4059068681194773, 192607, 13520721, 190108791563), (1635627458, -5009.013728, 1.162719105619799, 192607, 13520725, 180840667956), (1635628075, -899575.221942, 209.06514859478688, 192631, 13520775, 165196764250), (1635628115, -9444.738999, 2.19764859793047, 192631, 13520778, 152109242493), (1635628235, 473.265075, -0.10946322486456041, 192631, 13520787, 143074054063), (1635628502, 7000, -1.6190397972067663, 192631, 13520810, 125475243889), (1635629028, -381377.287181, 88.80616748407856, 192643, 13520852, 170754549722), (1635629028, -89303.717145, 20.78194555026326, 192633, 13520852, 167710540771), (1635629222, -42809.487658, 9.974087149972098, 192645, 13520871, 156329618978), (1635629228, -1814.500046, 0.4227814013265674, 192645, 13520872, 144652235133), (1635629246, -164524.995882, 38.34306468661556, 192649, 13520874, 143113254747), (1635629282, -126960.452369, 29.6, 192652, 13520877, 133220724886), (1635629321, -887910.767782, 207.29526748971193, 192677, 13520881, 143937294006), (1635630815, 1693427.395278, -392.8973756520443, 192658, 13520972, 164958470043), (1635631085, -286803.196376, 66.94159389676759, 192666, 13520988, 193632548842), (1635631961, -519656.230997, 121.42645736098541, 192680, 13521054, 157154360593), (1635632012, -9768.81559, 2.284324482100182, 192681, 13521057, 156637778383), (1635632984, -2298092.422775, 539.10224825217, 192744, 13521116, 201647999076), (1635632984, -12556.761928, 2.955000401976618, 192744, 13521116, 193263964765), (1635633016, 707658.962751, -165.3804150224319, 192725, 13521120, 212000000000), (1635633029, 89.039824, -0.02078867124359201, 192725, 13521121, 180383695947), (1635633049, 9084.368139, -2.120956486162796, 192725, 13521123, 175797784778), (1635633144, 261.742282, -0.06110903212169247, 192725, 13521129, 193470172081), (1635633440, -244466.102301, 57.43866503801079, 192731, 13521150, 167334615650), (1635634138, 10046.038785, -2.3469809742531558, 192731, 13521208, 160954866007), (1635634378, 409396.19362, -95.5897064587312, 192720, 13521231, 183413896244), (1635634516, 712372.287099, -166.07532474128325, 192700, 13521243, 168011584071), (1635634654, 654482.855033, -152.29126266468333, 192682, 13521251, 207398538167), (1635634671, 8603.032313, -2, 192682, 13521252, 191472016459), (1635635291, 799009.765043, -185.54358182638222, 192660, 13521310, 162110634826), (1635635997, -6711.581337, 1.5662208452640944, 192660, 13521368, 162024185554), (1635636277, -21423.931095, 5, 192661, 13521383, 222431050688), (1635636277, -21425.202614, 5, 192661, 13521383, 223431050688), (1635636521, -4125332.342331, 942.9350367029677, 192512, 13521397, 236096346459), (1635636521, -4948118.796089, 1145.6891809750623, 192648, 13521397, 246096346459), (1635636521, 9600664.091433, -2198.2562593769853, 192397, 13521397, 246096346459), (1635636604, -3926.343694, 0.9151564126982756, 192648, 13521403, 208057878894), (1635636682, -3840.79758, 0.8952264783806279, 192648, 13521409, 193797691546), (1635636706, -3758.017121, 0.875940571361269, 192648, 13521411, 207103400574), (1635636741, -41034.363768, 9.565098796547234, 192649, 13521412, 231813119149), (1635636758, -3845.922058, 0.8965368681429537, 192650, 13521413, 226101937539), (1635637170, 412689.267246, -95.5753342736669, 192639, 13521447, 183107993617), (1635637216, 56880.4422, -13.164831991554752, 192637, 13521448, 203844842263), (1635637274, 1921.669167, -0.4447307311227502, 192637, 13521453, 199410536570), (1635638324, 690625.747105, -159.68456723305368, 192619, 13521535, 166822666485), (1635638367, 86587.82391, -20, 192616, 13521539, 175000000000), (1635638500, 305861.203492, -70.61094071404713, 192608, 13521549, 182011863133), (1635638755, 4500, -1.038440802449768, 192608, 13521561, 227000000000), (1635638755, 622278.663228, -143.48059676674714, 192592, 13521561, 220254902882), (1635638809, 17165.753707, -3.9494276935632957, 192578, 13521563, 233836543390), (1635638809, 487598.574624, -112.26048721081338, 192579, 13521563, 234512530167), (1635638892, 739383.34631, -169.94244182093598, 192558, 13521567, 275158619868), (1635638942, 695379.631911, -159.52245197253188, 192540, 13521570, 264459817259), (1635639038, -9040440.553629, 2058.1219224356505, 192478, 13521576, 237352539394), (1635639038, 12928488.719698, -2934.0972319761577, 192345, 13521576, 247352539394), (1635639117, -71197.397073, 16.316579, 192480, 13521582, 214440194768), (1635639119, -84704.42846, 19.414345461992333, 192481, 13521583, 256661416343), (1635639133, -379483.933883, 87.01024040173259, 192487, 13521584, 208740246797), (1635639160, -9592.67566, 2.2001441360092975, 192487, 13521585, 217604975714), (1635639200, -8708.187456, 1.9973099451812302, 192487, 13521587, 236140850498), (1635639201, -89768.00613, 20.59080364981529, 192489, 13521588, 193175730210), (1635639223, -15397.256806, 3.532087111481882, 192489, 13521590, 218898539420), (1635640684, 447884.968292, -102.09298876294112, 192482, 13521698, 135129325910), (1635640702, -6474.503691, 1.4842039219632457, 192482, 13521699, 147418549483), (1635640801, 445584.250574, -101.49910864906187, 192475, 13521710, 131319287552), (1635642361, 230603.650351, -52.50314078968972, 192472, 13521816, 144172341398), (1635642361, 141028.944525, -32.10044173655126, 192470, 13521816, 144172341397), (1635642674, 2164.420761, -0.49260590765177786, 192470, 13521837, 162816145204), (1635643068, 5642.133093, -1.2840998867848454, 192470, 13521868, 151830882689), (1635643481, -644152.557747, 147.5551715207854, 192479, 13521896, 152925973115), (1635643514, -13499.435984, 3.0937688712549094, 192479, 13521897, 173529536221), (1635643760, -10000, 2.2918153484032424, 192479, 13521920, 137577088989), (1635643773, -4363.30794, 1, 192479, 13521922, 130547152915), (1635643969, -4712.341295, 1.08, 192480, 13521931, 168555200642), (1635644035, -22176.4734, 5.0860780271831505, 192487, 13521936, 170726914740), (1635644035, -426012.878779, 97.66938816532331, 192486, 13521936, 167537667439), (1635644213, -27335.86217, 6.269573638523902, 192487, 13521947, 166563485028), (1635644228, -135702.369104, 31.1268110842515, 192489, 13521949, 151088650432), (1635644286, -2620.782391, 0.6011927978485001, 192489, 13521954, 154227185700), (1635644371, -10000, 2.2939611363172676, 192489, 13521959, 157698748088), (1635644406, -85964.463019, 19.721035517377256, 192490, 13521961, 171968924284), (1635644452, 9001.073085, -2.0526513312004395, 192490, 13521965, 157526502062), (1635644511, -22722.781157, 5.213094599955198, 192490, 13521968, 169836572966), (1635644561, -11500, 2.638400805855326, 192490, 13521970, 183982790961), (1635644672, -1200, 0.27531346117640526, 192490, 13521978, 163760639628), (1635645504, -14203.839686, 3.2587866552358506, 192490, 13522034, 171607358555), (1635646652, 39838.664613, -9.085289083860035, 192490, 13522120, 137405488487), (1635646753, 877.013757, -0.2, 192490, 13522131, 124532573153), (1635647260, 756754.625503, -172.4985431091043, 192481, 13522165, 140897609704), (1635647303, 5000, -1.1392159503231334, 192481, 13522168, 140679330901), (1635648225, 11600.2851, -2.6430202005614714, 192481, 13522237, 134071309890), (1635648283, 333848.32308, -76.04730910466026, 192476, 13522242, 152014498671), (1635648694, -17106.254732, 3.919246002490357, 192476, 13522270, 152487475305), (1635648755, -31500, 7.217275725986267, 192477, 13522274, 162237357470), (1635648947, -18002.115079, 4.1247887469662885, 192477, 13522285, 225379923858), (1635648947, -215569.46664, 49.401212211728144, 192480, 13522285, 158985715792), (1635649060, -4726.035656, 1.083205430382958, 192480, 13522293, 151690082072), (1635649193, -10907.423496, 2.5, 192480, 13522301, 152642621335), (1635649230, -844.92181, 0.19365885514939432, 192480, 13522302, 171481420964), (1635649242, -365, 0.08365925886089508, 192480, 13522303, 174877499145), (1635649303, -10907.267824, 2.5, 192480, 13522308, 152887912544), (1635649417, -1000.590155, 0.2293418452938877, 192480, 13522317, 159500000000), (1635649865, 2006.99648, -0.4572638545613716, 192480, 13522352, 149050297635), (1635649865, -6108.001576, 1.4, 192480, 13522352, 149399204282), (1635650036, -329373.757303, 75.509688604875, 192484, 13522362, 167491467808), (1635650190, -6000, 1.375785481108293, 192484, 13522372, 162140751413), (1635650285, -6499.423977, 1.4903131634292244, 192485, 13522377, 149600000000), (1635650334, -56079.312318, 12.859419308125712, 192485, 13522381, 181018457792), (1635650344, 7024.256794, -1.6011128013092848, 192485, 13522383, 142198101477), (1635650467, -17563.551914, 4.027599547845321, 192485, 13522396, 119300446088), (1635650511, -1665.907848, 0.38202327936120484, 192485, 13522402, 110000000000), (1635650573, -833.376573, 0.19110903868777201, 192485, 13522406, 127010757988), (1635650573, -872.148608, 0.2, 192485, 13522406, 127010757988), (1635650983, -795723.397952, 182.5600810737748, 192495, 13522432, 161917396657), (1635654964, 39328.39332, -8.972918497928646, 192494, 13522735, 137000000000), (1635655203, -3861.530263, 0.8863139893420015, 192494, 13522750, 149600000000), (1635656364, -52370.993826, 12.020799635307498, 192495, 13522837, 110671668858), (1635657071, -887810.4722, 203.89347229357654, 192505, 13522888, 103118476208), (1635657104, 3452.311161, -0.7885142535334919, 192505, 13522890, 128236573768), (1635657170, -288604.583162, 66.32625848755711, 192509, 13522896, 108966576218), (1635657183, -540265.50116, 124.22289956121027, 192515, 13522897, 122550603864), (1635657212, -252505.282308, 58.08551396078601, 192518, 13522899, 117155086036), (1635657228, -14902.889836, 3.428753984870228, 192518, 13522901, 109693113133), (1635657382, -39465.456777, 9.08023083774323, 192519, 13522912, 112966905339), (1635657408, -350511.963014, 80.683, 192525, 13522913, 183404199106), (1635657408, -194397.099162, 44.733143810636456, 192521, 13522913, 129078365894), (1635657449, -34415.922943, 7.923867425164665, 192526, 13522916, 128529054332), (1635657515, -1989117.040927, 458.56842449520275, 192554, 13522922, 126966882609), (1635657539, -1516043.160804, 350.558519446265, 192582, 13522924, 124926695555), (1635657865, 256000, -58.909548301312626, 192578, 13522947, 121954730962), (1635658493, 26987.287275, -6.208569535660381, 192577, 13522992, 137131255701), (1635661000, -511426.789738, 118.41843069418415, 192587, 13523183, 110351329238), (1635661022, -9841.620807, 2.279875, 192587, 13523184, 124439521829), (1635661095, -529152.285366, 122.64234928618845, 192597, 13523189, 206394791411), (1635661095, -494.7149, 0.1147166383158207, 192597, 13523189, 185000000000), (1635661520, -2000, 0.4637697448075989, 192597, 13523220, 116000000000), (1635661714, 19577.58477, -4.512475377684606, 192596, 13523237, 119493034650), (1635661839, -90557.721291, 21, 192598, 13523253, 102334976445), (1635662061, 9555.707091, -2.2028216748779976, 192598, 13523267, 110453760474), (1635662332, -614617.676961, 142.6547495342456, 192615, 13523288, 133062750365), (1635664858, 50000, -11.54539697852756, 192614, 13523455, 130147513759), (1635665375, 4300, -0.9928227698936085, 192614, 13523483, 120000000000), (1635668084, -2270.224585, 0.5273275645655847, 192614, 13523672, 133100000000), (1635668676, -34439.265072, 8, 192615, 13523724, 116181157566), (1635668695, -279316.139165, 65, 192636, 13523726, 122209119331), (1635668695, -429042.943166, 99.73459145125722, 192628, 13523726, 120709119331), (1635668994, -505186.965884, 117.70444981935123, 192652, 13523742, 119487410998), (1635669433, -894796.550139, 208.8176314792565, 192674, 13523770, 126648572878), (1635669433, 173085.89869, -40.106725375068564, 192647, 13523770, 128648572878), (1635669566, -4087.071417, 0.9551212279244424, 192674, 13523781, 117637779272), (1635669721, -668758.962091, 156.44855318689918, 192695, 13523792, 121580782227), (1635669926, -644253.451501, 151.02482425227979, 192715, 13523814, 111006620509), (1635669941, -4901.486108, 1.150163114924757, 192715, 13523816, 109241654696), (1635670342, 3979.772488, -0.9282839787929932, 192715, 13523844, 110067547102), (1635670768, 8319.927616, -1.9405902285917478, 192715, 13523884, 107824534478), (1635671251, 3025.186274, -0.7056002756527261, 192715, 13523916, 131821217907), (1635671285, -11900.755979, 2.792523781219497, 192715, 13523921, 113628956019), (1635671339, -36647.402016, 8.6, 192717, 13523923, 126709718091), (1635671500, -1158949.629922, 272.46876069356153, 192752, 13523932, 131607266652), (1635672184, 29996.63108, -7.022059010494178, 192751, 13523988, 141000000000), (1635672341, 29996.595847, -7.021408315225435, 192750, 13524001, 138000000000), (1635672775, 40743.48872, -9.53594241530453, 192749, 13524035, 117008874407), (1635672847, 1500, -0.35104976645697367, 192749, 13524039, 112428023270), (1635673101, 29996.369306, -7.019808469906292, 192748, 13524056, 137000000000), (1635673562, 11087.846268, -2.5946367154297474, 192748, 13524077, 149114524425), (1635673838, 11041.187252, -2.583631631028175, 192747, 13524098, 119679483152), (1635673910, 500.525474, -0.11712064972163862, 192747, 13524108, 123307793387), (1635674391, 1001.910531, -0.2344419089541562, 192747, 13524140, 131168145453), (1635674760, -1167621.004846, 275.3479076332971, 192782, 13524163, 140846691535), (1635674794, -17778.577873, 4.2, 192783, 13524165, 144607103467), (1635674819, -25396.361725, 6, 192784, 13524168, 131147638003), (1635674852, -3807.212865, 0.8995089510472406, 192784, 13524170, 135375753203), (1635675155, -4199.985888, 0.9923188851431526, 192784, 13524197, 129948440016), (1635675201, -12697.174176, 3, 192784, 13524199, 136355115651), (1635675204, -555969.625477, 131.47017833281652, 192801, 13524200, 122517691990), (1635675204, -11819.015387, 2.797170514125376, 192801, 13524200, 124017691990), (1635675216, -7790.832499, 1.8438857144079648, 192801, 13524201, 134316418364), (1635675902, 490789.188918, -115.37955925316543, 192787, 13524248, 113811564956), (1635675957, 2656, -0.6232811492759935, 192776, 13524250, 128800381274), (1635675957, 1939372.135225, -455.2214258061968, 192776, 13524250, 172000000000), (1635676036, 1000, -0.2346678170873091, 192776, 13524253, 126564287489), (1635676603, 495676.995621, -116.23261483992484, 192761, 13524304, 120335791586), (1635676629, 2133.859344, -0.5, 192761, 13524305, 133077976291), (1635676700, -5010.057744, 1.1810234407245506, 192761, 13524311, 110035885074), (1635676949, 680395.798139, -159.26749656518925, 192741, 13524331, 115915763601), (1635677062, 491236.841609, -114.78692880500233, 192726, 13524336, 123299899921), (1635677062, 1500, -0.3502447339540731, 192726, 13524336, 124799899921), (1635677910, -9635.645658, 2.2634774854464035, 192726, 13524398, 107029383778), (1635677925, -470972.09971, 110.71455626488581, 192740, 13524399, 107154282864), (1635678162, -8501.72404, 2, 192741, 13524418, 117182322155), (1635678230, -5388.469335, 1.267644542817344, 192741, 13524423, 123664325048), (1635678366, -16562.969647, 3.896589332541167, 192741, 13524434, 110000000000), (1635679031, -179712.283626, 42.29144967391118, 192747, 13524475, 150589880754), (1635679069, -750, 0.17654446639503682, 192747, 13524478, 135889788871), (1635679160, -21235.954254, 4.999268772475512, 192748, 13524485, 139793724696), (1635679160, -21000, 4.943407012794821, 192747, 13524485, 139793724696), (1635679179, -26419.953756, 6.220108140118456, 192749, 13524487, 135743051450), (1635679283, -300, 0.0706325064228364, 192749, 13524494, 129500076374), (1635679308, -16988.902238, 4, 192749, 13524497, 116624888647), (1635679326, -15815.456969, 3.73, 192766, 13524500, 103661004083), (1635679326, -543100.349515, 127.97977499805096, 192766, 13524500, 99897404083), (1635679376, -2119.977117, 0.5, 192766, 13524501, 113868863181), (1635679528, -348411.093568, 82.21660156927084, 192777, 13524512, 128911732049), (1635679541, -329806.691838, 77.90519120173039, 192786, 13524515, 113475180789), (1635679564, -3847.753118, 0.9093396348836496, 192787, 13524516, 130648335834), (1635679570, 10082.258033, -2.368443957984663, 192786, 13524517, 115524392784), (1635679798, -51930.470291, 12.273369170286161, 192788, 13524535, 124000000000), (1635680038, 1871771.651164, -439.6507269154167, 192783, 13524546, 166141964538), (1635680199, -951424.543449, 225.0778386198759, 192811, 13524561, 125910792774), (1635680321, -8125.344666, 1.9249035071220713, 192811, 13524571, 107000000000), (1635680382, -350534.273125, 83.1442, 192828, 13524576, 157858145354), (1635680382, -241299.68888, 57.18502549717552, 192818, 13524576, 123153596797), (1635680382, -8427.533365, 2, 192828, 13524576, 124653596797), (1635680577, -921404.323629, 218.96277249691084, 192855, 13524584, 134995783227), (1635680776, -368540.261108, 87.74508721967972, 192866, 13524597, 143334495500), (1635680894, -3047.507748, 0.725969425945, 192866, 13524609, 118800000000), (1635681014, -60250.58364, 14.35406549319765, 192868, 13524619, 122000000000), (1635681033, 126457.359508, -29.94376029513032, 192864, 13524620, 126495927332), (1635681107, 257309.662608, -60.89414251172508, 192857, 13524626, 111851621951), (1635681241, -17348.604973, 4.128971112215677, 192857, 13524640, 107000000000), (1635681526, -26167.156009, 6.228183885363182, 192858, 13524658, 146300000000), (1635681643, -549721.389748, 131.02904300134307, 192880, 13524664, 132546284758), (1635681643, -200307.266621, 47.69198084636779, 192864, 13524664, 216896438982), (1635681730, -29845.862074, 7.11995346195605, 192881, 13524672, 162800000000), (1635681759, -1606237.631419, 384.09080130372337, 192927, 13524674, 116391157303), (1635682118, -174.040321, 0.04171319130114015, 192927, 13524696, 141625863883), (1635682416, 605457.393569, -144.11969011131043, 192910, 13524718, 137587198365), (1635682474, 3970.416013, -0.9442762402265481, 192910, 13524723, 116408832082), (1635682517, 11301.881218, -2.6878458098999833, 192909, 13524727, 130750611112), (1635682597, 334879.599846, -79.6028244280587, 192900, 13524732, 128063834619), (1635682822, 394076.349505, -93.57588750702661, 192888, 13524749, 125073481700), (1635683086, 314.860233, -0.07472250515955796, 192888, 13524766, 110226492309), (1635683109, -52425.561566, 12.507624985034797, 192882, 13524769, 102099258869), (1635683109, 272003.507219, -64.52612639694131, 192880, 13524769, 103160385893), (1635683134, 348507.937446, -82.61280192861572, 192872, 13524770, 115583787200), (1635683179, 1172.125089, -0.27770723334513464, 192872, 13524771, 128684350593), (1635684189, -7706.435442, 1.8368792467161488, 192872, 13524848, 118005791127), (1635684713, -66550.693455, 15.864514391631182, 192874, 13524884, 159173161066), (1635684739, -257654.270996, 61.44936142604886, 192881, 13524885, 146028418138), (1635684771, -12573.889948, 3, 192882, 13524888, 126467665881), (1635684830, -221224.808933, 52.8, 192888, 13524892, 142475085517), (1635685041, 8320.664554, -1.9746206014177812, 192888, 13524911, 127600000000), (1635686015, 425996.196988, -101.03137927542406, 192876, 13524982, 160611923223), (1635686059, 4616.333518, -1.0941452887792413, 192876, 13524985, 171006126904), (1635686059, 2629.271754, -0.6231731093215138, 192875, 13524985, 170506126904), (1635686170, 6000, -1.4152469759678539, 192827, 13524991, 167738220090), (1635686170, 1649516.437144, -390.0182859496036, 192827, 13524991, 168238220090), (1635686343, 3000, -0.7076142181277713, 192827, 13525005, 125000000000), (1635686448, -880822.67581, 209.28123591375325, 192853, 13525014, 189386082898), (1635686563, -61994.3881, 14.75, 192855, 13525020, 155507471652), (1635686617, -142505.658847, 33.91575592929441, 192859, 13525028, 120965625964), (1635686787, -67.21406, 0.016, 192859, 13525041, 144326812523), (1635686802, -10000, 2.3804893413652017, 192859, 13525043, 134254471498), (1635686844, -1050.187283, 0.25, 192859, 13525046, 138241737489), (1635686897, -4938.31116, 1.1755889767572383, 192859, 13525054, 120434171797), (1635686955, -260343.209679, 62, 192867, 13525065, 106402022919), (1635687092, -445201.703081, 106.13294756390643, 192880, 13525075, 154472406008), (1635687174, -147730.67627, 35.24850318909163, 192884, 13525087, 117356416523), (1635687340, 11085.620138, -2.629705642813219, 192884, 13525094, 164658426091), (1635687385, -641237.47632, 153.17081460432675, 192903, 13525097, 154397412285), (1635687538, -222222.1, 53.14793269760108, 192909, 13525106, 198995892141), (1635687632, -15047.223556, 3.6, 192909, 13525115, 168000000000), (1635688497, 2016.222932, -0.47949386953897893, 192909, 13525175, 115939787177), (1635688767, 500, -0.11890851139995429, 192909, 13525199, 125625971757), (1635689046, 10515.972298, -2.500837616413752, 192909, 13525220, 130000000000), (1635689120, 1996, -0.47466672150204553, 192909, 13525226, 114259918108), (1635689462, 475.375762, -0.11304822269337816, 192909, 13525245, 181708604247), (1635689506, 645573.183805, -153.3791906562319, 192890, 13525246, 202495152066), (1635689570, 590420.577154, -140.02113067871605, 192873, 13525251, 160103602686), (1635689948, 1000, -0.23694822709404134, 192873, 13525275, 190646216725), (1635689967, 718232.721672, -170.00380284816876, 192852, 13525276, 182500399376), (1635690089, 9995.591636, -2.363394334646238, 192851, 13525287, 164849630408), (1635690224, 500, -0.1182200068643723, 192851, 13525301, 124875123770), (1635690345, 17319.273149, -4.094861779460943, 192851, 13525306, 159588173603), (1635690420, 1000, -0.23642743735603922, 192851, 13525309, 178980566006), (1635690552, 2294.910051, -0.5425770707925667, 192851, 13525321, 139397000000), (1635690576, 45000, -10.638129372382668, 192849, 13525322, 129000000000), (1635690576, 10000, -2.3642201235265996, 192850, 13525322, 168300000000), (1635690627, 500, -0.11819352218848357, 192849, 13525324, 160538226363), (1635690868, 416228.287962, -98.33066410637582, 192837, 13525344, 157791232551), (1635691407, -528915.056751, 125.7262740962936, 192852, 13525394, 127102261115), (1635691591, -883553.597702, 210.46454193398284, 192878, 13525403, 166718413214), (1635691631, -114810.57949, 27.388520492319138, 192882, 13525406, 153578915654), (1635692089, 1576.291758, -0.37384045341156613, 192882, 13525442, 131377833222), (1635692221, 2282.747959, -0.5413837084935577, 192882, 13525452, 142228165865), (1635693124, 3391.996028, -0.8044497506819808, 192882, 13525520, 156913118189), (1635693289, 367.245593, -0.08709591226543159, 192882, 13525528, 190300000000), (1635693341, 6789.724913, -1.6102332007914015, 192881, 13525536, 151403342246), (1635693486, 1350, -0.32015858750527754, 192881, 13525546, 192747562700), (1635693486, 2582.789738, -0.6125166816443615, 192881, 13525546, 181000000000), (1635693731, 211006.036263, -50.02499222627005, 192875, 13525557, 178737423266), (1635693979, 584809.11239, -138.48320287843256, 192858, 13525575, 154412505201), (1635694036, 3670.222869, -0.8683582631117611, 192858, 13525579, 163075472322), (1635694140, 13695.168021, -3.2401324603162704, 192857, 13525586, 151541907800), (1635694291, 2621.66872, -0.6202442957674369, 192857, 13525600, 129241657084), (1635697004, -210011.128923, 50, 192863, 13525820, 143842679738), (1635697937, 396231.406793, -93.74502851456623, 192852, 13525894, 145814635831), (1635698786, 651701.829815, -153.94955112222348, 192833, 13525951, 127742368321), (1635698941, 4004.490669, -0.9450560416698446, 192833, 13525961, 147255404193), (1635698977, 478427.429008, -112.82830408770491, 192818, 13525964, 144173442464), (1635699051, 7952.023944, -1.8739968735455577, 192818, 13525968, 143537374012), (1635699469, 245000, -57.715931793700385, 192811, 13526003, 121578108578), (1635699490, 9868.469501, -2.3238958089428423, 192811, 13526005, 120752362665), (1635699498, 5005.221302, -1.178638535005518, 192811, 13526007, 114842142270), (1635700778, 735, -0.1730776642000994, 192811, 13526096, 153261754444), (1635700923, 590474.287611, -138.92401468825352, 192793, 13526107, 135017073215), (1635700923, 7500, -1.7630146866938528, 192793, 13526107, 137017073215), (1635701154, 627.622725, -0.14735085608932746, 192781, 13526125, 144014381119), (1635701154, 419791.078157, -98.61780849726637, 192781, 13526125, 142514381119), (1635701234, 766.51, -0.1799579098439379, 192781, 13526134, 132720056792), (1635701468, 5000, -1.173868485204305, 192780, 13526150, 136484843811), (1635701514, 4824.160085, -1.1325695651373378, 192780, 13526153, 183000000000), (1635701735, 3059.575963, -0.718289288768068, 192780, 13526174, 133000000000), (1635701823, -42.340315, 0.01, 192780, 13526182, 114000000000), (1635701836, -1129.181661, 0.2666922990770006, 192780, 13526184, 134200000000), (1635702785, 6250, -1.4672824760532523, 192780, 13526244, 164158327907), (1635703444, 399.437858, -0.09377319169613228, 192780, 13526296, 142000000000), (1635703510, 5650.271813, -1.3264624436182852, 192780, 13526298, 123965356042), (1635704013, -26921.220471, 6.358338690278884, 192781, 13526335, 433113465915), (1635704029, -993.633293, 0.2349, 192790, 13526336, 136083583522), (1635704029, -304981.825588, 72.06678471590001, 192790, 13526336, 136083583523), (1635704056, -846.003066, 0.2, 192790, 13526340, 128225427550), (1635704067, -90099.253016, 21.302836418755778, 192792, 13526341, 174900000000), (1635704140, -644.129017, 0.15231657323022987, 192792, 13526342, 144509304631), (1635704157, -502133.973997, 118.82715615513092, 192807, 13526343, 166033943754), (1635704259, -4675.725463, 1.1073106648026818, 192807, 13526347, 190300000000), (1635704272, -136556.21683, 32.346134895130206, 192811, 13526349, 171000000000), (1635704760, -2110.426794, 0.5, 192811, 13526384, 173143343518), (1635705383, -3644.358803, 0.8634248154059233, 192812, 13526435, 160600000000), (1635706429, 533622.469522, -125.57105612952238, 192796, 13526507, 120098915364), (1635706593, 1505.770169, -0.35405648790899735, 192796, 13526523, 129379884422), (1635707188, 755.05, -0.17753669773261477, 192796, 13526557, 182600000000), (1635707190, 5380, -1.2633041311607711, 192782, 13526558, 168799867620), (1635707190, 456918.121648, -107.36405113492204, 192782, 13526558, 167299867620), (1635708077, 200000, -46.9486993348105, 192776, 13526616, 153000000000), (1635708411, 1000, -0.23467258316918196, 192776, 13526645, 124519018553), (1635708517, 1300, -0.30507329551262163, 192776, 13526652, 146882329679), (1635709811, 1039.224184, -0.24387571017605927, 192776, 13526743, 169182989269), (1635710787, -29500, 6.964818177151014, 192777, 13526811, 160000000000), (1635710961, -2551.243398, 0.602366498064985, 192777, 13526822, 169378336946), (1635711123, -169.413993, 0.04, 192777, 13526829, 181726194090), (1635711312, -1277.5502, 0.3016404918291759, 192777, 13526845, 173124550618), (1635711544, 518119.707768, -121.5044588371446, 192761, 13526867, 147733362629), (1635711544, -3425.721069, 0.8075795679937956, 192762, 13526867, 147531362628), (1635711576, 5689.85369, -1.3332858128475127, 192761, 13526868, 165218738397), (1635711582, 108347.204582, -25.384283712290273, 192758, 13526870, 147310831760), (1635711606, 290604.513654, -68.0436160440518, 192749, 13526872, 154162880054), (1635711827, 49664.788371, -11.622780514053208, 192748, 13526885, 175444408245), (1635712079, 44603.614721, -10.436853303069332, 192746, 13526906, 135609538570), (1635712241, -70343.62357, 16.559643771005845, 192749, 13526924, 134307027263), (1635712480, 50106.388053, -11.72527668402248, 192747, 13526943, 145388203731), (1635714720, 1896.359898, -0.4437277667144262, 192747, 13527110, 144276448639), (1635715087, 641818.194239, -150.03246025008985, 192728, 13527139, 121557748097), (1635715105, 600, -0.1401102348360164, 192727, 13527141, 112931156715), (1635715105, 25000, -5.8381522789710365, 192727, 13527141, 116431156715), (1635715274, 50000, -11.674960280751513, 192725, 13527157, 126619268268), (1635715298, -22124.791321, 5.1970395983054045, 192726, 13527161, 122000000000), (1635715298, 4204.149817, -0.9816510737732298, 192726, 13527161, 128000000000), (1635715534, 1000, -0.23349390432960596, 192726, 13527184, 116600000000), (1635715893, 502321.09169, -117.1991516765343, 192710, 13527207, 165233441649), (1635715938, 573982.060287, -133.69713343421202, 192693, 13527210, 158461042323), (1635716250, 12500, -2.9089841322086833, 192692, 13527240, 119721993206), (1635716287, 48052.431773, -11.181658170024097, 192691, 13527242, 333513813314), (1635716304, 612675.699457, -142.42289256187567, 192672, 13527243, 154190891861), (1635716371, 1943.539517, -0.451368117318006, 192672, 13527250, 114982871412), (1635716371, 589.613667, -0.1369325631789421, 192672, 13527250, 115094627654), (1635716385, 361936.8, -84.0092651342422, 192661, 13527255, 96331540273), (1635716756, 65000, -15.077274746031419, 192659, 13527284, 151159621330), (1635716756, 20833.233315, -4.8318182598166795, 192658, 13527284, 130000000000), (1635716783, 430352.59912, -99.74497846178168, 192646, 13527285, 142832115953), (1635716834, 16924.213503, -3.920038213597845, 192645, 13527288, 198000000000), (1635718732, 7985.901736, -1.8496515689977082, 192645, 13527425, 131366112286), (1635721555, -434525.940259, 101.31249429112985, 192658, 13527641, 159305363803), (1635721620, -1430.855565, 0.33382643941001194, 192658, 13527642, 175649125214), (1635721661, -702664.002158, 164.11160511260985, 192679, 13527643, 197388891753), (1635721906, -22241.839613, 5.200589006038823, 192680, 13527657, 177980508377), (1635721906, -4649.880294, 1.0871904523663125, 192679, 13527657, 178209258376), (1635722819, 14198.306685, -3.300001232533642, 192680, 13527731, 132240350192), (1635722824, 48022.879334, -11.160516367625691, 192678, 13527732, 124348739395), (1635723418, -12832.134389, 3, 192679, 13527773, 140912069362), (1635725332, 51798.799947, -12.036672493166234, 192677, 13527901, 134665268004), (1635725342, 6196.564342, -1.4397897597245775, 192677, 13527902, 151298695011), (1635725392, 5292.652611, -1.2297415702324361, 192677, 13527905, 167200000000), (1635725574, 16711.72445, -3.8752630280683382, 192657, 13527915, 195084803184), (1635725574, 639458.90952, -148.4308618701103, 192657, 13527915, 193584803184), (1635725771, 5159.359924, -1.1963599268599985, 192656, 13527931, 149138752656), (1635725812, 540163.097915, -125.15402712200894, 192641, 13527937, 130221859082), (1635725865, 2870.575312, -0.6645753107078854, 192641, 13527942, 120316353738), (1635725992, 634705.251415, -146.80573824297656, 192622, 13527947, 163072147719), (1635726420, 16697.071101, -3.858319218975325, 192622, 13527975, 181381626023), (1635727519, 10253.604398, -2.369285163241819, 192621, 13528055, 107480258244), (1635727694, -2000.357963, 0.465, 192621, 13528071, 130146139817), (1635728552, 32098.026284, -7.416428356387203, 192620, 13528130, 156906941785), (1635729729, -14050.623124, 3.265955999066709, 192621, 13528226, 113457208617), (1635729758, -9487.536085, 2.2053785258247838, 192621, 13528227, 127180919382), (1635729933, -1869.990746, 0.434686722652417, 192621, 13528238, 148392084317), (1635730093, 399.590272, -0.09233005107848621, 192621, 13528249, 129513876676), (1635730767, -10661.533434, 2.478358037829109, 192621, 13528298, 126000000000), (1635731088, 18025.336789, -4.164984925124825, 192621, 13528322, 136000000000), (1635731088, -10357.404358, 2.4076082505756147, 192621, 13528322, 116642994712), (1635731212, -4301.855258, 1, 192621, 13528334, 123200000000), (1635731263, -6022.506386, 1.4, 192622, 13528339, 104694513677), (1635731330, -1720.696615, 0.4, 192622, 13528344, 125241736591), (1635731389, -3000, 0.6973967853698605, 192622, 13528348, 138754566451), (1635731421, -5000, 1.1623415810037918, 192622, 13528350, 136911050514), (1635731607, -2150.808234, 0.5, 192622, 13528362, 125158445979), (1635731652, -91619.700344, 21.301822953819872, 192625, 13528366, 121536226124), (1635731764, -750, 0.17440055674035576, 192625, 13528373, 128519598015), (1635731772, -965.294128, 0.22446434133162788, 192625, 13528375, 123496769777), (1635731933, -15798.357493, 3.6737558, 192625, 13528389, 115755519678), (1635731985, -86538.555443, 20.12672127485002, 192628, 13528395, 112797340610), (1635731985, -7308.460132, 1.7, 192628, 13528395, 118800000000), (1635732154, -3990.461214, 0.9282251152926562, 192628, 13528408, 116000000000), (1635732212, -1213.026643, 0.2821654718710391, 192628, 13528412, 119817325705), (1635732281, -85968.836185, 20, 192630, 13528417, 133971696710), (1635732349, -9985.453577, 2.3233665995426676, 192631, 13528419, 152009886189), (1635732910, 6718.577426, -1.553887873045377, 192631, 13528470, 110610928120), (1635733136, -1746597.839265, 407.43895911059343, 192683, 13528491, 125456285281), (1635733225, -65000, 15.204580163504982, 192685, 13528495, 162411397350), (1635733275, -2063475.107538, 484.2598306097637, 192748, 13528496, 154648378144), (1635733354, -136208.407244, 32.07254102998411, 192752, 13528502, 159414079092), (1635733366, -84903.693061, 20, 192755, 13528503, 154193310879), (1635733366, -21915.585085, 5.161623707169268, 192753, 13528503, 154693310879), (1635733381, -37459.458669, 8.825620842957653, 192756, 13528505, 140919846165), (1635733382, -14854.222308, 3.5, 192757, 13528506, 132394138907), (1635733419, -318596.844405, 75.10669357516898, 192766, 13528510, 211707095457), (1635733427, -182264.551189, 43, 192772, 13528511, 120433636176), (1635733547, -131017.005638, 30.924295468328086, 192776, 13528523, 113757827350), (1635733662, -2148148.798147, 508.7448378235736, 192839, 13528533, 112195575050), (1635733937, -320000, 76.06123534038767, 192849, 13528552, 132232436010), (1635734151, -21025.119027, 5, 192849, 13528565, 134794846702), (1635734356, 21278.344894, -5.022128765215547, 192833, 13528578, 130517594106), (1635734356, 526550.291095, -124.37679604403773, 192834, 13528578, 128517594106), (1635734356, 500, -0.1180065491680717, 192833, 13528578, 130517594106), (1635734389, 2000, -0.4720244632744863, 192833, 13528579, 146071563221), (1635734459, 8945, -2.1069984322829374, 192813, 13528586, 131163514748), (1635734459, 661569.809618, -155.98652391529862, 192814, 13528586, 129281714748), (1635735406, 10800, -2.5438707365771234, 192813, 13528652, 141373140738), (1635735444, 971.430057, -0.22881016720255556, 192813, 13528654, 162024402616), (1635735693, 1000, -0.23553883660029107, 192813, 13528677, 105859098637), (1635735870, 199.12, -0.04690041061619339, 192813, 13528693, 114052498873), (1635737105, -2533.056188, 0.6002300862537024, 192813, 13528798, 142949272167), (1635737385, -13289.56531, 3.149153478320764, 192813, 13528819, 120709894613), (1635737441, -295.397152, 0.07, 192814, 13528821, 143039991193), (1635737903, 13509.457735, -3.182083325425275, 192813, 13528859, 123200000000), (1635738579, -612077.001285, 145.1684259702954, 192831, 13528909, 146229754055), (1635738719, -969777.394736, 230.54205819348763, 192860, 13528920, 128890894209), (1635738945, -5275.438942, 1.2559156469909674, 192860, 13528935, 129596573208), (1635738977, -590299.100406, 140.6550476377048, 192877, 13528940, 119361156093), (1635739018, -26415.721267, 6.3, 192878, 13528941, 161700000000), (1635739170, -714539.892114, 170.6001615932924, 192899, 13528947, 134167618301), (1635739221, -641758.656103, 153.52670895511304, 192918, 13528952, 145419628199), (1635739290, -6264.324646, 1.5, 192918, 13528960, 165000000000), (1635739360, -2048985.008894, 492.0909557631534, 192977, 13528967, 132509741626), (1635739486, 14877.792589, -3.5622732991356707, 192977, 13528977, 163237412320), (1635739867, 331306.868564, -79.28581553079026, 192967, 13529004, 138210732342), (1635739916, 557327.598094, -133.2001637093864, 192951, 13529008, 120690133587), (1635739934, 959070.447619, -228.71381660647455, 192923, 13529010, 127139872745), (1635740248, 5000, -1.1907156778380374, 192923, 13529029, 133158376882), (1635740382, 552254.27657, -131.41045681629285, 192907, 13529039, 121006872781), (1635740504, 2000, -0.4755273348101772, 192907, 13529048, 154000000000), (1635740576, 1552.306085, -0.36908010725297796, 192907, 13529049, 153095858802), (1635740678, 495014.126334, -117.6114356758802, 192893, 13529061, 116185896066), (1635740679, 1317.795978, -0.31287014595921514, 192893, 13529062, 125055346325), (1635741056, 561879.776747, -133.29012968965282, 192876, 13529088, 133997500160), (1635741056, 2717.033165, -0.6440020864488235, 192876, 13529088, 138597061157), (1635741096, 480224.002594, -113.7434962980022, 192862, 13529090, 141531308304), (1635741139, 10506.11511, -2.48662473947165, 192861, 13529091, 158585373779), (1635741178, 494529.000251, -116.95971638168066, 192847, 13529096, 127965350815), (1635741206, 525352.540423, -124.06296110108775, 192831, 13529100, 105953686250), (1635741219, 382801.209321, -90.27819231505667, 192820, 13529102, 114662368924), (1635741262, 5000, -1.1785043766950707, 192820, 13529106, 110739282701), (1635744065, 5224.714997, -1.2314513334651844, 192820, 13529332, 107981019654), (1635744093, 1184824.196004, -278.77069431159686, 192785, 13529335, 94971854212), (1635746239, -487368.97005, 115.24318815325711, 192799, 13529504, 107407029061), (1635746541, -13228.904833, 3.130418301881246, 192800, 13529527, 138283396462), (1635746593, -331565.918806, 78.5, 192809, 13529533, 115623586751), (1635746898, -3660.858121, 0.8686686216458543, 192827, 13529551, 116600000000), (1635746898, -588796.538142, 139.59053698934017, 192827, 13529551, 112748757282), (1635747024, -3633.410324, 0.8621649611234816, 192827, 13529564, 138600000000), (1635747240, -531131.417109, 126.13094150605563, 192843, 13529572, 110666640758), (1635747481, -1136.062241, 0.27, 192843, 13529584, 133059840685), (1635747626, -4700, 1.117025905247972, 192843, 13529597, 105905078902), (1635747755, -15146.92118, 3.6, 192843, 13529605, 104363524835), (1635747851, 9057.124417, -2.1397484209752786, 192843, 13529615, 96484617376), (1635748244, 524421.099391, -123.79719505771915, 192828, 13529651, 101519614937), (1635748290, 15000, -3.538149910055627, 192827, 13529654, 103434508891), (1635748332, 2071.337436, -0.4885678542928694, 192827, 13529658, 93577412822), (1635748352, -34221.269423, 8.120831428546836, 192828, 13529660, 110000000000), (1635748561, 121719.69298, -28.707776871466308, 192825, 13529671, 127766891881), (1635748628, 601165.284361, -141.6347245831957, 192807, 13529676, 121482822180), (1635748862, 1500, -0.35308661574836425, 192807, 13529689, 115000000000), (1635748933, 491128.260926, -115.52334970194109, 192792, 13529696, 105551096006), (1635750074, 647745.481182, -152.10719287265292, 192773, 13529774, 123114446454), (1635750203, 1636307.386258, -382.9272747000835, 192724, 13529778, 3171673694011), (1635750438, 100574.809375, -23.474763881434253, 192721, 13529794, 126000576161), (1635750438, 162450.58266, -37.90178029088518, 192716, 13529794, 225616493353), (1635750523, 2604.405077, -0.607486439358907, 192716, 13529800, 115691668762), (1635750561, 8713.555419, -2.0324313443016475, 192715, 13529805, 102117899038), (1635750591, 8211.628498, -1.9153072906016158, 192715, 13529808, 100900639770), (1635750692, 491396.789536, -114.52690566891351, 192700, 13529822, 86210223318), (1635750692, 23031.55145, -5.359454372476061, 192691, 13529822, 88210223318), (1635750692, 249965.770289, -58.1916, 192692, 13529822, 125112705128), (1635750827, 714080.42111, -165.97873674185735, 192670, 13529834, 95895277304), (1635750902, 619351.908661, -143.6671215644691, 192651, 13529839, 102255747518), (1635751060, 2500, -0.5793740636203366, 192651, 13529849, 114744052111), (1635751122, 6059.604771, -1.4042935355519504, 192651, 13529855, 107205117808), (1635751199, 320, -0.07415825797067477, 192651, 13529858, 139897160048), (1635751249, 100084.440967, -23.190615027940797, 192648, 13529861, 138262624542), (1635751555, 2000, -0.463351724911864, 192648, 13529884, 115029847064), (1635752354, -25984.815501, 6.05655146948738, 192648, 13529931, 127535106720), (1635754008, 82200, -19.042862302438046, 192646, 13530054, 116696922252), (1635754197, 723434.594512, -167.39704768221205, 192625, 13530064, 124191037075), (1635754224, 2793.379725, -0.6456787825012235, 192625, 13530066, 120958528763), (1635754224, 454.242852, -0.10499695460070804, 192625, 13530066, 123000000000), (1635754430, 20000, -4.622767600501654, 192624, 13530081, 133000000000), (1635754713, 7497.451092, -1.732879028029534, 192624, 13530100, 133100490844), (1635754910, -34394.399378, 7.997774648519604, 192625, 13530114, 135000000000), (1635755055, 995404.782278, -229.75572263034908, 192598, 13530122, 510768732573), (1635756065, -4312.062799, 1, 192598, 13530204, 126397093222), (1635756128, -226764.760578, 52.59980002923107, 192603, 13530208, 123939839972), (1635756200, -257885.221614, 59.858306731164895, 192610, 13530211, 133964583503), (1635756383, -246659.297814, 57.294960268215824, 192617, 13530226, 101235388113), (1635756409, -60954.499955, 14.165125770064112, 192619, 13530227, 118884323279), (1635756741, 2962.43938, -0.6843706286536636, 192619, 13530247, 135185167048), (1635757603, 408144.759036, -94.23159452476592, 192607, 13530314, 109130580529), (1635757603, 14000, -3.2303071609033602, 192607, 13530314, 108928580528), (1635758218, 747312.44033, -172.27939348458892, 192592, 13530356, 111208227238), (1635758255, 522222.26658, -120.26273641801728, 192584, 13530357, 124849787126), (1635761693, 4608.602526, -1.06088013168983, 192584, 13530592, 131307292745), (1635761777, 5583.789015, -1.2853535669994383, 192583, 13530597, 125902224293), (1635762126, -107944.844646, 25, 192585, 13530621, 129572584934), (1635762155, -672.096802, 0.15567069570710004, 192585, 13530622, 136019080278), (1635762155, -2072.360315, 0.48, 192585, 13530622, 136019080278), (1635763715, -9142.360975, 2.1175718179286576, 192585, 13530726, 129194935175), (1635764791, 13662.340738, -3.145528971987361, 192585, 13530807, 97637161908), (1635764809, 910598.826729, -209.49924008500113, 192571, 13530808, 108030608076), (1635764897, 1000, -0.22990395726248, 192571, 13530812, 131092670148), (1635764946, 395689.198346, -90.94237287954986, 192565, 13530816, 126318566019), (1635766301, 13304.194252, -3.0567655953023576, 192565, 13530924, 108756289015), (1635766441, 5880.843594, -1.3511597212956747, 192564, 13530932, 103185493510), (1635766441, 1000, -0.2297548725686485, 192564, 13530932, 103185493510), (1635766472, 4000, -0.9190159065546576, 192564, 13530935, 98062995878), (1635766479, 2230460.18139, -511.5655332212644, 192530, 13530936, 138019484735), (1635766510, 6132.137743, -1.4039816120350292, 192529, 13530939, 95406985516), (1635766836, -26833.148527, 6.180702934930698, 192530, 13530959, 126000000000), (1635766853, -70727.266486, 16.2924438105328, 192531, 13530960, 117688230827), (1635766875, -3310, 0.7625221937058723, 192531, 13530962, 124000000000), (1635766910, -1005.246999, 0.23165550116927466, 192534, 13530963, 135881449896), (1635766910, -211858.055121, 48.813790848125905, 192534, 13530963, 134381449896), (1635766938, -176353.627182, 40.645686231375, 192537, 13530964, 138347101223), (1635766978, -6093.350649, 1.4045855425450924, 192537, 13530969, 119640340507), (1635767000, -138806.160381, 32, 192539, 13530970, 116864105439), (1635767000, -777112.25511, 179.28166834425, 192552, 13530970, 118683142780), (1635767015, -689058.580739, 159.356687950052, 192575, 13530972, 111004030895), (1635767015, -830598.909719, 191.86214433789138, 192565, 13530972, 109903030894), (1635767070, -1382820.587196, 320, 192577, 13530974, 135148782959), (1635767238, -81734.09292, 18.91694592341493, 192578, 13530984, 121000000000), (1635767860, -1237365.971624, 286.67812635142775, 192598, 13531038, 105967550044), (1635768053, -1024.135669, 0.23750625952274432, 192598, 13531045, 133444167078), (1635768157, -58339.140866, 13.53, 192599, 13531053, 122622900185), (1635768184, 1681723.126061, -387.19724837647243, 192572, 13531057, 111446640111), (1635768416, -3063.3, 0.7086109381387582, 192572, 13531073, 131000000000), (1635768632, 1657662.558926, -380.66638268105595, 192547, 13531088, 126163632465), (1635768641, 450000, -103.16856380956709, 192539, 13531090, 105167520786), (1635768721, 65000, -14.896147780149168, 192538, 13531096, 121184713113), (1635768729, 599959.734323, -137.42242145930956, 192529, 13531097, 120805499900), (1635768754, 5934.710599, -1.358719842676431, 192529, 13531098, 122308862454), (1635768898, 1000, -0.22894334557552617, 192529, 13531112, 113318459921), (1635769020, 1000, -0.2289429887279624, 192529, 13531123, 122100000000), (1635769856, 8462.745996, -1.937472073035485, 192529, 13531197, 100688461306), (1635769985, -325123.29919, 74.90131511180454, 192534, 13531207, 107375178117), (1635770141, 3177.862202, -0.7279072372762945, 192534, 13531221, 109730139274), (1635771590, 10026.000736, -2.296488304882134, 192534, 13531329, 117565735447), (1635772951, -3471.730565, 0.8, 192534, 13531427, 130900000000), (1635773002, -100, 0.02304332721398598, 192534, 13531429, 149114778925), (1635773927, 41556.350102, -9.51828849564413, 192533, 13531486, 231630548287), (1635773970, 35000, -8.01610860028749, 192533, 13531490, 207890608359), (1635774752, 1086724.871033, -248.67695460725497, 192516, 13531537, 218654595308), (1635774792, 10283.367567, -2.35114844402559, 192516, 13531538, 247683964106), (1635774821, 874.76033, -0.2, 192515, 13531541, 201344839239), (1635775182, 928749.079354, -212.1900243730985, 192501, 13531569, 184671248758), (1635776067, -345134.683875, 79.29171883551051, 192506, 13531639, 198694554759), (1635777642, -372272.020462, 85.57421470503823, 192512, 13531745, 188154010521), (1635777654, -18918.738567, 4.350181608622392, 192513, 13531747, 212000000000), (1635777731, -7607.300907, 1.7492617743746846, 192513, 13531751, 206329305386), (1635777773, -788303.015376, 181.37920108006165, 192525, 13531754, 200053834963), (1635777773, -14116.166329, 3.25, 192525, 13531754, 226625263847), (1635777836, -8646.801624, 1.9908100130124964, 192525, 13531755, 226869610947), (1635778190, -757292.472348, 174.46087062442933, 192537, 13531785, 229542774507), (1635778303, -15580.484377, 3.5915158073718882, 192537, 13531788, 226871637112), (1635778563, -724201.113479, 167.03487910307192, 192549, 13531813, 160735165895), (1635778613, -8666.291648, 2, 192549, 13531818, 176300756608), (1635778654, -1026470.81591, 237.07995030618633, 192565, 13531821, 174264441162), (1635778716, -998.15039, 0.2312, 192586, 13531829, 177309209913), (1635778716, -1316104.195832, 304.53304917505017, 192586, 13531829, 175809209913), (1635780035, 902674.523331, -207.68627723230273, 192571, 13531928, 197411525758), (1635780436, 500, -0.11495836095152395, 192571, 13531962, 156175354208), (1635780495, 17397.846526, -4, 192571, 13531969, 139492035053), (1635780733, 516996.426158, -118.81493886288017, 192563, 13531989, 146435335200), (1635780824, 19361.577858, -4.447772899725792, 192563, 13531993, 180000000000), (1635781196, 1000, -0.22971796635207764, 192563, 13532016, 162160969921), (1635781385, 4500, -1.0337264158169657, 192563, 13532029, 187245210728), (1635781399, 23234.477359, -5.33723859075244, 192562, 13532033, 148355799638), (1635781473, 5693.627372, -1.3078651133491523, 192562, 13532041, 131657889588), (1635781500, 804470.073794, -184.67562459845524, 192550, 13532043, 156496270133), (1635783320, 77973.451235, -17.887422016559, 192549, 13532165, 232002082545), (1635784488, -1122.922864, 0.25945753646226627, 192561, 13532240, 252508404626), (1635784488, -783085.009973, 180.8252401058056, 192561, 13532240, 318848115217), (1635784525, -7928.873455, 1.832023017401764, 192561, 13532243, 249171841209), (1635784682, -9954.107437, 2.3, 192561, 13532254, 210792149134), (1635784797, -9137.637592, 2.1113776745352553, 192561, 13532262, 252114952890), (1635784797, -186867.331805, 43.18928752520434, 192565, 13532262, 207133424089), (1635784797, -64913.36393, 15, 192562, 13532262, 213000000000), (1635784840, -15573.674332, 3.6, 192565, 13532263, 232319830973), (1635784927, -1263.428871, 0.2920572073040152, 192565, 13532273, 190300000000), (1635784947, -900, 0.2080464814444535, 192565, 13532276, 164179112616), (1635785048, -1924.226311, 0.44481044207329046, 192565, 13532287, 144713891637), (1635785069, -29911.159143, 6.914622627667615, 192566, 13532290, 148705741306), (1635785069, -8244.556602, 1.9058538029280216, 192566, 13532290, 148705741306), (1635785093, -302239.565331, 69.88748168718494, 192571, 13532291, 170093061995), (1635785154, -7302.25747, 1.691302257127193, 192585, 13532294, 161775312992), (1635785154, -898638.607943, 207.98942335110917, 192585, 13532294, 160275312992), (1635785251, -842138.782113, 195.18060395185378, 192598, 13532300, 203507619750), (1635785272, -1724.725541, 0.4, 192598, 13532302, 170597355770), (1635785440, -5587.384052, 1.295838885561091, 192598, 13532311, 220042393742), (1635785567, -981146.835583, 227.8532241629818, 192626, 13532320, 178740586808), (1635786150, -8169.731604, 1.9, 192626, 13532362, 197835718336), (1635786226, -513148.859001, 119.43171829338242, 192641, 13532371, 189611024579), (1635786304, -7664.39821, 1.7851904650450898, 192641, 13532378, 213655383365), (1635786386, -591131.331234, 137.80704483386657, 192659, 13532386, 172871223185), (1635786749, -714290.405088, 166.84499667517522, 192680, 13532416, 160099137593), (1635787044, 801.440253, -0.1862841962688181, 192680, 13532435, 198268024816), (1635788284, 10685.007697, -2.4835451294842112, 192680, 13532529, 166015707478), (1635789014, 5211.241436, -1.2112333849448547, 192680, 13532594, 144035702856), (1635789419, -9958.336435, 2.3285539001223654, 192680, 13532618, 178548484839), (1635789785, 9990.001036, -2.321963290527696, 192680, 13532640, 219326412773), (1635790118, -660542.66968, 154.60902569456644, 192700, 13532668, 150431388075), (1635792274, 929465.172719, -216.16227211300904, 192672, 13532829, 203195285845), (1635792376, 17224.367912, -4, 192671, 13532835, 193663143072), (1635793407, 718161.13598, -166.59214092074012, 192650, 13532904, 187455052562), (1635793509, 2848.872038, -0.6601490891876894, 192650, 13532910, 188482152233), (1635793519, 624815.39016, -144.6515699910088, 192631, 13532911, 210335102712), (1635793562, 8760, -2.0231273210276175, 192616, 13532916, 174063192291), (1635793562, 514152.77595, -118.83443456091481, 192616, 13532916, 172063192291), (1635793725, 382223.839278, -88.2245685643419, 192605, 13532927, 176509885335), (1635794177, 60300.844232, -13.909619134250985, 192603, 13532960, 180807760108), (1635794358, 3872.5564, -0.8932006181708967, 192603, 13532976, 176552060420), (1635794438, 15518.665779, -3.5792611069806637, 192603, 13532980, 185476581395), (1635794599, 589936.737002, -135.98011208056874, 192592, 13532994, 164626293410), (1635794752, 98401.553764, -22.658788996779553, 192586, 13533010, 127404788882), (1635794752, 287749.684503, -66.27972129994819, 192588, 13533010, 125904788882), (1635794765, 246698.722222, -56.79165437383654, 192582, 13533011, 134681731324), (1635795021, 60000, -13.809081422528102, 192581, 13533027, 194911991645), (1635795061, 605.323718, -0.13930730135414457, 192581, 13533030, 190437616931), (1635795061, 10000, -2.3013876988918787, 192581, 13533030, 190437616931), (1635795065, 498772.077589, -114.7410736886707, 192573, 13533031, 179824318685), (1635796737, 721756.398484, -165.8797896807503, 192562, 13533176, 142300853824), (1635796758, 2126777.610171, -487.70783976516384, 192529, 13533179, 2066047749859), (1635798040, 8590.61175, -1.966699712709725, 192529, 13533269, 214847672785), (1635798321, -21384.706992, 4.9252843272742375, 192529, 13533293, 186733373212), (1635798391, -287239.108695, 66.17233511674398, 192533, 13533298, 187128020820), (1635798437, -367250.331453, 84.64816583131477, 192539, 13533304, 176041183927), (1635798506, -101685.024021, 23.446161026793824, 192541, 13533308, 221000000000), (1635798576, -333473.820329, 76.9173476336312, 192546, 13533313, 211682301487), (1635798618, -149094.735605, 34.40240381785183, 192548, 13533315, 213899620052), (1635798667, -1804489.385217, 417.0085754599534, 192577, 13533317, 241487551378), (1635798859, -25341.07448, 5.864592259941092, 192577, 13533326, 242758870770), (1635798874, -21604.351468, 5, 192577, 13533327, 272896872612), (1635799289, -280790.031878, 65, 192582, 13533355, 191609158610), (1635800057, -1218995.87314, 282.5180789243091, 192602, 13533414, 153198613570), (1635800487, -800164.225487, 185.85898582443716, 192625, 13533449, 216399248284), (1635800525, -2082903.249199, 485.8281668959176, 192686, 13533454, 230000000000), (1635800614, 5118.51075, -1.1903780213123258, 192686, 13533466, 146659221166), (1635801594, 10000, -2.3255807018597774, 192686, 13533539, 216700000000), (1635801633, 6000, -1.3953148783154323, 192685, 13533541, 221178084109), (1635801713, 12152.507691, -2.8260187233607676, 192685, 13533551, 171039049172), (1635801725, 6600.734726, -1.5349321168907255, 192685, 13533553, 156543636364), (1635801728, 36436.981922, -8.472492838181598, 192684, 13533554, 167429575737), (1635802927, 50000, -11.624717902612742, 192682, 13533649, 184461422351), (1635803027, 900, -0.20922892297723122, 192682, 13533657, 177965321368), (1635803118, 26440.190292, -6.146472603853407, 192681, 13533664, 154332417152), (1635803135, 15144.207669, -3.5203091253561736, 192681, 13533666, 189646692984), (1635803189, 700886.131828, -162.74769473758715, 192660, 13533671, 158707837584), (1635803245, 43976.206948, -10.2, 192659, 13533673, 158225546484), (1635803248, 2000, -0.46385654486035427, 192659, 13533674, 177252140064), (1635803413, 12921.096365, -2.99670349240137, 192658, 13533687, 156975191141), (1635804092, 46554.084926, -10.79605708212622, 192657, 13533747, 168000000000), (1635804929, 360503.207442, -83.55319983209971, 192646, 13533804, 199088472350), (1635805563, 4992.5114, -1.1564996166132753, 192646, 13533859, 158420784156), (1635805595, 4500, -1.0423967810951822, 192646, 13533862, 164925696996), (1635805704, 694187.116354, -160.64400024701862, 192626, 13533870, 168698251292), (1635805827, 16495.415884, -3.8133899983210204, 192626, 13533878, 180032834450), (1635806040, 2000, -0.4623453604347545, 192626, 13533893, 174234584712), (1635806239, 314469.831974, -72.66406726697767, 192617, 13533907, 169104975094), (1635806239, 27000, -6.235815001742476, 192616, 13533907, 169104975093), (1635806294, 6055.936964, -1.3985898055389534, 192616, 13533912, 230000000000), (1635806336, 895.216015, -0.20674382902263716, 192616, 13533916, 144064208843), (1635806620, 445662.279084, -102.85714763804577, 192603, 13533937, 165618477524), (1635806683, 23846.485905, -5.5, 192603, 13533940, 183064277448), (1635807131, -6087.93516, 1.412560431717669, 192603, 13533983, 147852367944), (1635807489, 1549.522753, -0.35737824276822405, 192603, 13534010, 143192186049), (1635807956, 27777.844053, -6.40634849638634, 192602, 13534056, 150808878228), (1635807972, 998.413953, -0.2302527786793974, 192602, 13534057, 189706889555), (1635808105, 15000, -3.4591994976324596, 192601, 13534069, 153486053175), (1635810305, -6703.885177, 1.5553047042806918, 192602, 13534220, 157481877275), (1635811153, -16839.636135, 3.906935279879289, 192602, 13534279, 167690544294), (1635811231, 16881.217714, -3.8931183550751256, 192602, 13534289, 125280466379), (1635811506, 216867.921601, -50, 192597, 13534309, 167123907788), (1635811817, -215175.959769, 49.90885380477332, 192602, 13534335, 165000367660), (1635812014, 724123.002997, -166.88185116390423, 192589, 13534344, 171531522573), (1635812066, 4775.788621, -1.1, 192589, 13534347, 183626257432), (1635812170, 484579.949089, -111.5699654523784, 192582, 13534355, 184993731984), (1635812538, 77036.091941, -17.72906827694111, 192581, 13534381, 196000000000), (1635813244, -1506745.980026, 349.25558386582856, 192608, 13534433, 174617352570), (1635813349, -608642.644884, 141.41774304935575, 192625, 13534441, 158691730341), (1635813475, 6632.459547, -1.5331326909723668, 192625, 13534454, 152645465277), (1635813532, -708673.152426, 164.9667910835445, 192645, 13534458, 167778520177), (1635813575, -9655.752942, 2.25, 192646, 13534461, 179402666857), (1635813653, 6496.432963, -1.5047474803428964, 192645, 13534468, 161711886174), (1635813763, 19155.010793, -4.436650150030672, 192645, 13534476, 171145989347), (1635814120, 696587.999062, -161.1780453939378, 192625, 13534504, 182567467462), (1635814137, -8000, 1.860387882004021, 192625, 13534507, 170603517145), (1635814175, -60196.634972, 14, 192627, 13534511, 173104835663), (1635814228, -5465.566788, 1.2712523272504854, 192627, 13534515, 202349720150), (1635814376, -13995.935369, 3.2554464612258234, 192628, 13534525, 223944656385), (1635814505, -37060.480765, 8.620875117896869, 192629, 13534536, 197000000000), (1635816093, 1422629.783227, -328.3202107869184, 192593, 13534658, 343029378137), (1635816093, 39659.000822, -9.137900061157627, 192593, 13534658, 345382358138), (1635816146, 1702377.113312, -391.71551868347905, 192566, 13534662, 337380319235), (1635817176, -21309.566456, 4.926407520159507, 192566, 13534742, 182319381933), (1635817270, -8107.574416, 1.8743756952967479, 192567, 13534756, 174900000000), (1635817289, -15926.26995, 3.682035125882428, 192567, 13534757, 133617898416), (1635817301, -401368.779347, 92.82373514627069, 192573, 13534758, 148067700782), (1635817301, -119134.469396, 27.563192322, 192575, 13534758, 155429082092), (1635817497, -648388.996291, 150.1026209226271, 192585, 13534770, 153944048113), (1635817568, -67852.46198, 15.71670195800947, 192586, 13534780, 173800000000), (1635817580, -1920.004923, 0.44475602873015224, 192586, 13534782, 134303562947), (1635817603, -5180.352749, 1.2, 192586, 13534783, 150825297522), (1635817648, -11984.851042, 2.7762615772270016, 192586, 13534790, 150000000000), (1635817666, -269623.394341, 62.47135977005678, 192591, 13534791, 137844492061), (1635817681, -199.183952, 0.04616038, 192591, 13534792, 156671165628), (1635818014, -1015.11234, 0.23524995551938221, 192591, 13534823, 135957307743), (1635818065, -1268.865483, 0.2940571892928754, 192591, 13534828, 138315197351), (1635818253, -20624.258935, 4.77971506431693, 192591, 13534847, 151321267271), (1635818725, -10005.877149, 2.3189384725758178, 192591, 13534873, 189395405566), (1635819459, -30665.847087, 7.107270436515513, 192592, 13534932, 137005890696), (1635820179, -189335.230988, 43.88883436407565, 192595, 13534984, 144897381372), (1635820357, -30961.555914, 7.178277277147652, 192595, 13534997, 174399637481), (1635820565, -28034.696564, 6.5, 192596, 13535009, 193110769575), (1635820883, -155328.994848, 36.01905640705504, 192598, 13535029, 210560992822), (1635820883, 15995.166906, -3.687281133352488, 192598, 13535029, 210176958511), (1635821315, -18031.756186, 4.182089360427234, 192599, 13535056, 184345666100), (1635821315, -14899.798596, 3.4554705865240427, 192598, 13535056, 209000000000), (1635821315, -25439.671656, 5.9, 192598, 13535056, 184345666100), (1635821336, 19777.339219, -4.559454520015337, 192598, 13535057, 203592834385), (1635821445, -51000, 11.828659083569772, 192599, 13535064, 203000000000), (1635821462, -71663.768549, 16.623247589400265, 192601, 13535066, 171317592278), (1635821499, -7932.498672, 1.8402357824917925, 192601, 13535068, 191040873804), (1635821713, -1999.589234, 0.46389249246483044, 192601, 13535078, 195031321067), (1635821713, -5598.412039, 1.2987833293490625, 192601, 13535078, 195531321067), (1635821819, -2350.759701, 0.5453652812150318, 192601, 13535084, 192500000000), (1635822027, -14400.57059, 3.343765008713346, 192610, 13535104, 179300000000), (1635822027, -294328.151064, 68.3117949630144, 192610, 13535104, 139064005750), (1635822057, -1659, 0.3852231977932578, 192610, 13535105, 158132772829), (1635822376, -4306.557398, 1, 192610, 13535134, 134122999789), (1635822439, 245.25691, -0.05660878809509423, 192610, 13535138, 145200000000), (1635822497, -2849.74529, 0.6617286765411354, 192610, 13535142, 138786882604), (1635822799, -11000, 2.5543194997986935, 192611, 13535165, 132162851446), (1635823790, 5164.835128, -1.1921556332815264, 192611, 13535226, 179300000000), (1635823905, 183836.732121, -42.42203342973894, 192605, 13535235, 151302103098), (1635825779, 9399.398918, -2.1683997223064497, 192605, 13535358, 190571491966), (1635826162, 50030.822324, -11.54090919589898, 192604, 13535389, 179882246851), (1635826980, 3042.661052, -0.7018156112920052, 192604, 13535453, 139991394519), (1635827144, 673565.000638, -155.25516680311694, 192591, 13535467, 122915594559), (1635827233, 8683.3029, -2, 192589, 13535478, 127877195839), (1635827233, 89675.215575, -20.656220589420606, 192589, 13535478, 130128576678), (1635827233, 29880.234738, -6.883400245182489, 192591, 13535478, 127877195839), (1635827268, 643.959198, -0.14826231860770298, 192585, 13535479, 143225610947), (1635827268, 249611.546974, -57.4807, 192585, 13535479, 194041917322), (1635827268, 398.634234, -0.09177970876618473, 192585, 13535479, 143177131977), (1635827342, 569214.159204, -130.99493595162195, 192576, 13535483, 159851674947), (1635827605, 13319.912433, -3.0639560250196585, 192576, 13535504, 135150011533), (1635827606, 208102.936512, -47.86127464553241, 192573, 13535505, 151235507454), (1635827611, 206754.466173, -47.53573848736884, 192570, 13535507, 119548453521), (1635827617, 190202.166764, -43.71658123034105, 192567, 13535508, 132768700029), (1635827631, 495, -0.11375520231360463, 192567, 13535509, 148894875270), (1635827650, 5000, -1.1490375181667625, 192567, 13535510, 153007918126), (1635827664, 2106161.802937, -483.21531062324937, 192534, 13535511, 138220982447), (1635828031, 1079.272463, -0.2472099264238379, 192534, 13535540, 160263762389), (1635828767, 9531.49301, -2.183193085186967, 192534, 13535592, 167429377694), (1635828967, 370646.071184, -84.87148498222685, 192528, 13535607, 177825019955), (1635829858, -4758.039838, 1.095761887193221, 192528, 13535664, 177430221060), (1635830028, 2275.473538, -0.5208960551945001, 192528, 13535675, 152070942349), (1635831946, 3000, -0.6867501243295387, 192528, 13535817, 119000000000), (1635831982, 3014.313105, -0.6900116392250802, 192528, 13535821, 102138194586), (1635831982, 10921.121351, -2.5, 192528, 13535821, 135770674425), (1635832143, 495805.940636, -113.45165300948256, 192520, 13535834, 119879812720), (1635832301, 13593.301481, -3.1092204528452583, 192520, 13535848, 104233990625), (1635832373, 800000, -182.86943643224248, 192507, 13535857, 106079639669), (1635832949, 6445.304663, -1.4723856798193782, 192507, 13535893, 129064031782), (1635834377, 44746.220637, -10.221559704193753, 192506, 13535987, 117549485473), (1635834940, 1175025.588108, -268.1609474669243, 192488, 13536023, 133914956010), (1635835748, -3871.89973, 0.8881490299514487, 192488, 13536072, 136400000000), (1635836064, -3044.81756, 0.6984339876035176, 192488, 13536088, 135593482008), (1635836709, 15084.566237, -3.4394038278013124, 192488, 13536146, 125402185953), (1635837373, 3604.160977, -0.8217660823692514, 192488, 13536196, 117883531970), (1635837778, -2179.800599, 0.5, 192488, 13536225, 142171870558), (1635837892, -141849.282771, 32.54087102649359, 192490, 13536234, 132941413290), (1635838361, -871.725231, 0.2, 192490, 13536272, 150873925731), (1635838371, -13.647308, 0.003131105291030209, 192490, 13536274, 136902800000), (1635838390, -19613.503858, 4.5, 192490, 13536277, 129233593621), (1635838460, -523.018553, 0.12, 192490, 13536281, 148627414277), (1635838482, 50096.49124, -11.424705981962488, 192490, 13536284, 137719232436), (1635838507, -34433.799008, 7.9, 192490, 13536285, 306000000000), (1635838572, 50973.224308, -11.624359216529752, 192489, 13536288, 146885365112), (1635838615, -3067.928425, 0.7038265497194092, 192490, 13536291, 138552191638), (1635838708, 31754.880296, -7.241216501642305, 192489, 13536298, 150786349407), (1635838767, -389675.223272, 89.42003460469007, 192495, 13536304, 144258289409), (1635838776, -2198.846315, 0.5047306662328365, 192495, 13536305, 133595019826), (1635838881, -7881.531686, 1.8091678353462737, 192495, 13536310, 157688447383), (1635838948, -391957.303712, 90, 192501, 13536312, 167176758045), (1635839148, 50040.051137, -11.424251178922924, 192501, 13536325, 151026602087), (1635839338, -636494.827195, 146.255919495375, 192511, 13536339, 134646059454), (1635839683, -569776.949917, 131.04864287737925, 192519, 13536365, 119539837511), (1635839725, 25019.114325, -5.722353868421293, 192519, 13536369, 120987020841), (1635839817, -705.173216, 0.16225573194662093, 192519, 13536374, 140451013402), (1635839833, -354713.337521, 81.6398804667954, 192525, 13536375, 151629057163), (1635840068, 25018.506859, -5.725170744499518, 192524, 13536390, 133691228184), (1635840548, -1436668.31015, 331.11020086501156, 192547, 13536412, 204497545704), (1635843109, -8519.561527, 1.965729265801163, 192547, 13536589, 128775625863), (1635843231, 468505.409938, -107.41285902320263, 192540, 13536598, 121287869626), (1635843231, 15982.119456, -3.6627953338430825, 192539, 13536598, 122557440337), (1635843330, 502.514209, -0.11516514572364181, 192539, 13536604, 125266584036), (1635845174, 2084.767522, -0.47778165772037245, 192539, 13536750, 137494958120), (1635845255, 7226.07899, -1.656042183325668, 192539, 13536756, 210413424381), (1635845255, 375865.752023, -86.11362202832122, 192533, 13536756, 139405401070), (1635845265, 20000, -4.580735201207429, 192533, 13536757, 136999432431), (1635845542, 9568.09588, -2.1913952184677647, 192533, 13536780, 368007926671), (1635845572, 386262.483828, -88.4390082575917, 192527, 13536782, 124564316152), (1635845660, 493341.90595, -112.87868695909593, 192519, 13536788, 117150589706), (1635845769, 20000, -4.574255346324917, 192519, 13536793, 146740341892), (1635845795, 10000, -2.2870742767123686, 192519, 13536794, 148292960175), (1635845843, 327922.213325, -74.97852811777396, 192514, 13536798, 133536699846), (1635845895, 812832.447386, -185.6870984447504, 192501, 13536800, 145460007002), (1635845895, 1000, -0.2282315494976118, 192498, 13536800, 146960007002), (1635845895, 192686.493571, -43.98375979483036, 192498, 13536800, 1342471010276), (1635845950, 504518.597401, -115.10182675119378, 192490, 13536801, 165631962627), (1635845954, 356494.913963, -81.27702012362916, 192484, 13536802, 163757476699), (1635845980, 157044.044837, -35.79007643614869, 192482, 13536806, 137500000001), (1635846049, 107274.50894, -24.430185824091012, 192475, 13536807, 154846325871), (1635846049, 349393.03288, -79.5953, 192477, 13536807, 206107227417), (1635846066, 438186.859153, -99.75199286045977, 192469, 13536809, 155555753365), (1635846066, 365367.27735, -83.12744360727999, 192464, 13536809, 234522940561), (1635846160, 194638.751617, -44.26614177497826, 192461, 13536811, 189095674846), (1635846166, 59640.633025, -13.52705661616022, 192435, 13536812, 413092248337), (1635846166, 1792834.812726, -407.1657106113909, 192436, 13536812, 170785238876), (1635846439, 1012719.403431, -229.52005719245517, 192421, 13536832, 148351852057), (1635846538, 1116918.642685, -252.74591968224078, 192404, 13536834, 167696446182), (1635846617, 349936.409317, -79.10047480627907, 192399, 13536836, 201337010595), (1635846660, 1663877.43245, -375.5459424241088, 192374, 13536839, 290558159192), (1635847218, 513429.352624, -115.69693319028096, 192367, 13536876, 128624468929), (1635847433, 450008.827499, -101.33335578370387, 192360, 13536896, 133896724532), (1635847544, 2684.35484, -0.6042627114865682, 192360, 13536901, 158450269937), (1635847645, 350000, -78.76581953223399, 192355, 13536909, 140359664499), (1635847815, 305881.459019, -68.80277735991432, 192350, 13536921, 124762097431), (1635847915, 5525.1114, -1.2424841567040361, 192350, 13536926, 136345931987), (1635847915, 2000, -0.44975637494654425, 192350, 13536926, 135845931987), (1635847932, 15975, -3.5923798740537385, 192350, 13536927, 132752711767), (1635847970, 3500, -0.7870512114483168, 192350, 13536929, 158000000000), (1635848165, 230466.61625, -51.816205554306464, 192346, 13536939, 128880346744), (1635848402, 741537.15931, -166.59776776313598, 192335, 13536955, 140115679192), (1635848524, 1700309.461331, -381.2916285008201, 192309, 13536961, 275510144982), (1635848828, 914833.333208, -204.74243042749438, 192295, 13536989, 122476116195), (1635849036, 476829.348956, -106.60405268405914, 192288, 13537005, 112787284969), (1635849084, 393368.681553, -87.88751282353877, 192282, 13537008, 121381330088), (1635849842, -496219.073991, 111.54356141355355, 192289, 13537057, 131610862843), (1635850079, -498206.081263, 112.07407412628585, 192297, 13537073, 138578367205), (1635850178, -173796.669626, 39.1162780750343, 192300, 13537083, 122119637851), (1635851528, -417892.424635, 94.09701407265841, 192306, 13537191, 125465932183), (1635852337, 1053.612744, -0.23589604958681962, 192306, 13537252, 110116551401), (1635852902, 2538879.198766, -568.044849300049, 192297, 13537282, 272250000000), (1635853658, -592070.778977, 133.30155172341637, 192306, 13537336, 123619890367), (1635853670, -251704.221188, 56.70628868916322, 192310, 13537338, 122048457960), (1635853727, -11525.662075, 2.59814634649948, 192314, 13537343, 166000000000), (1635853727, -80000, 18.03507824189009, 192315, 13537343, 144455278096), (1635853727, -256412.75701, 57.78945763693338, 192314, 13537343, 167381846317), (1635853786, -31995.91278, 7.227364967688592, 192335, 13537344, 139670513423), (1635853786, -1237686.646713, 279.3028796003629, 192334, 13537344, 137670513423), (1635853819, -796, 0.17980817048045772, 192335, 13537348, 145611192015), (1635854335, -748465.190646, 169.167316028408, 192346, 13537383, 129833869004), (1635854444, -4787.090099, 1.082595642983692, 192346, 13537388, 200859152973), (1635854527, -3537.46826, 0.8, 192346, 13537394, 155651886609), (1635854581, -79587.98182, 18, 192347, 13537399, 127874671529), (1635854778, -542.849723, 0.12278101483427356, 192347, 13537411, 147078941551), (1635855192, 88500, -19.895554253031676, 192346, 13537444, 153168138937), (1635855717, 1087.54363, -0.24447236692369786, 192346, 13537482, 133921744693), (1635855800, 15000, -3.3718559876528627, 192346, 13537488, 132906970187), (1635856582, 1302.906923, -0.292877324657472, 192346, 13537544, 193600000000), (1635857374, -3634.729267, 0.8219679514634811, 192346, 13537596, 191285238379), (1635857593, 4448.638672, -1, 192346, 13537612, 180000000000), (1635857689, 1000, -0.22478693311598483, 192346, 13537618, 140630135420), (1635857711, 5333.425791, -1.1988786336585924, 192346, 13537619, 156873853583), (1635857917, 8129.157086, -1.8273006898444508, 192346, 13537639, 140000000000), (1635858040, 10041.920788, -2.2572271799438943, 192345, 13537648, 128000000000), (1635858068, 274740.040864, -61.742763225852876, 192341, 13537651, 135436585271), (1635858117, 271424.941108, -60.97234195409397, 192337, 13537656, 164000000000), (1635858150, 1000, -0.22459126548433206, 192337, 13537659, 116916652928), (1635858475, 253237.193862, -56.8638336308677, 192333, 13537684, 122998148673), (1635858475, 6373.071669, -1.4307753409345387, 192333, 13537684, 122897648672), (1635858524, 12658.364524, -2.8418028038949092, 192333, 13537693, 111915588251), (1635858594, 318956.178775, -71.58756434280134, 192328, 13537699, 112090593036), (1635858594, 2118.301182, -0.4753220847258291, 192328, 13537699, 111939093035), (1635858699, 360000, -80.75751202486805, 192323, 13537709, 150000000000), (1635858871, 10000, -2.2426317528785167, 192322, 13537723, 200000000000), (1635859005, 668573.325187, -149.85888775816156, 192312, 13537735, 144226997489), (1635859242, 4463.640548, -1, 192312, 13537754, 141297247910), (1635859242, 120000, -26.8813373353249, 192310, 13537754, 140797247910), (1635859332, 7499.987166, -1.6799175957038213, 192310, 13537760, 152966602558), (1635859345, 300000, -67.18108283737996, 192306, 13537761, 158456361881), (1635859355, 3450.338488, -0.7724796966282578, 192306, 13537762, 150271935959), (1635859438, 495724.112904, -110.94313700754161, 192298, 13537772, 129230331375), (1635859482, 280000, -62.62736418853207, 192294, 13537776, 142000000000), (1635860105, 855.136615, -0.19122739651265164, 192294, 13537814, 134852120007), (1635860122, -737.746906, 0.16597078699455822, 192294, 13537817, 133000000000), (1635860720, 5109.14331, -1.1425132203491788, 192294, 13537858, 144554665085), (1635860797, 12087.843913, -2.7030643913879486, 192294, 13537863, 158400000000), (1635860846, 50000, -11.180399685960204, 192293, 13537868, 147747808403), (1635861258, 692732.826782, -154.8143584309098, 192282, 13537899, 161670810984), (1635861431, 733646.688195, -163.7827260718336, 192271, 13537914, 148351866592), (1635861454, 337836.32639, -75.35963918668033, 192266, 13537915, 149727632764), (1635861542, 464149.101233, -103.47349600435503, 192259, 13537919, 166387550371), (1635861663, 300434.996626, -66.93811810796045, 192255, 13537927, 155000000001), (1635861681, 38960.40954, -8.676210852452671, 192252, 13537928, 173755407432), (1635861681, 163116.967563, -36.330503121258445, 192252, 13537928, 174158917258), (1635861745, 965, -0.21489233265229887, 192252, 13537932, 169647869397), (1635861973, 15514.146914, -3.4547462188787232, 192252, 13537950, 173076277659), (1635862013, 60000, -13.351442466978884, 192244, 13537956, 148579458395), (1635862013, 441211.420339, -98.216977674444, 192245, 13537956, 148579458396), (1635862136, 1989.20697, -0.4426258448968566, 192244, 13537964, 166272564478), (1635862552, -436944.214851, 97.84401166768549, 192251, 13537992, 169751911921), (1635864768, -11894.227409, 2.66434706093792, 192251, 13538170, 172278712301), (1635865481, 10142.20543, -2.2582803667117686, 192251, 13538232, 160762698929), (1635865542, 18928.605, -4.214583044354911, 192250, 13538236, 187492231829), (1635865576, 704865.000548, -156.85803246816695, 192240, 13538237, 207819469589), (1635865588, 30000, -6.6724186141268085, 192239, 13538238, 201580296788), (1635866586, 4000, -0.8896330858438865, 192239, 13538305, 185696924340), (1635866595, 732009.006813, -162.71405559529836, 192228, 13538306, 195820154610), (1635866617, 1095102.612776, -243.08728133100104, 192212, 13538307, 255000000000), (1635867443, 1053747.513518, -233.5271441685812, 192196, 13538356, 173653010230), (1635867526, 5180, -1.1470503940734786, 192196, 13538362, 177183870832), (1635867987, 645545.509453, -142.8781600310155, 192186, 13538397, 192692125559), (1635868023, 14648.834738, -3.240598306624217, 192186, 13538402, 172231851868), (1635868852, 23063.01122, -5.101826943749264, 192185, 13538464, 237982425422), (1635868920, 640629.071454, -141.64355999750543, 192175, 13538475, 197306803415), (1635869322, 5442.743606, -1.2027947252198588, 192175, 13538506, 189899770873), (1635869435, -134925.511804, 30, 192178, 13538514, 205804323171), (1635869620, -434064.61546, 96.5544572537726, 192184, 13538529, 169218480196), (1635869683, -4697.129253, 1.0451904569277068, 192184, 13538530, 197350753342), (1635869823, -409638.15214, 91.18000090419038, 192190, 13538544, 669107306974), (1635869907, -484069.780646, 107.82044965043403, 192198, 13538551, 206000000000), (1635870035, 23233.252633, -5.145707903887412, 192197, 13538559, 162698388787), (1635870653, 25595.239874, -5.66863247635825, 192197, 13538600, 191198594686), (1635871268, 25778.031961, -5.708894348510596, 192197, 13538643, 194644136574), (1635871557, 933.0799, -0.2066390155323184, 192197, 13538662, 201000000000), (1635872089, 2700, -0.5979378741744652, 192197, 13538707, 173800000000), (1635872438, 1502.925777, -0.33283458974228625, 192197, 13538729, 206019788038), (1635873854, 26392.318234, -5.844660794162407, 192196, 13538837, 149114983827), (1635873908, 8275.345129, -1.8325528861927247, 192196, 13538839, 188375720846), (1635874050, -4611.292309, 1.0273100594234992, 192196, 13538847, 178829381371), (1635874213, 19419.165483, -4.3002619855788655, 192196, 13538859, 188000000000), (1635874490, -500597.196166, 111.56315490925962, 192203, 13538881, 233000000000), (1635874798, -4409.01012, 0.9829685634901919, 192203, 13538902, 208153578175), (1635875017, -4537.567666, 1.011636736307293, 192204, 13538918, 155522846564), (1635875065, -7308.967493, 1.629526419997993, 192204, 13538923, 152900000000), (1635875200, -6727.926895, 1.5, 192204, 13538934, 157199608194), (1635875346, -312872.204409, 69.7721598229496, 192208, 13538944, 158342678017), (1635875346, -1500, 0.3345883371649816, 192209, 13538944, 159842678017), (1635875346, -1344.939199, 0.3, 192209, 13538944, 159842678017), (1635875733, -3138.173666, 0.7, 192209, 13538979, 159288241836), (1635875800, -252690.540178, 56.37600139115181, 192212, 13538984, 170624301024), (1635875803, -8514.562272, 1.9, 192213, 13538985, 151950975950), (1635875818, -25452.877609, 5.679882445738577, 192213, 13538986, 156935090319), (1635875841, -4297.214096, 0.9589572452945323, 192213, 13538989, 145343048543), (1635875880, -1149828.998903, 256.81812048866345, 192230, 13538991, 182000000000), (1635876866, 501.423902, -0.11142081417167629, 192230, 13539056, 237308289449), (1635877810, 12108, -2.69047874398203, 192230, 13539122, 180216258231), (1635877831, 22700.057854, -5.043972165303523, 192230, 13539124, 193000000000), (1635877831, 1200, -0.2666361999964678, 192230, 13539124, 189786125882), (1635877893, 50000, -11.109411382510817, 192229, 13539129, 183000000000), (1635877953, 39650, -8.809165807538074, 192229, 13539132, 190039309747), (1635878024, 40000, -8.886391001074175, 192228, 13539138, 171091023267), (1635878163, 10500, -2.332588534466416, 192228, 13539153, 143000000000), (1635878346, 6629.827212, -1.4728055776018831, 192228, 13539170, 163834405241), (1635878390, 16079.776152, -3.568312262057279, 192217, 13539173, 191000000000), (1635878390, 689533.030915, -153.0980495853833, 192217, 13539173, 151864384133), (1635878937, 15000, -3.3286176269729895, 192217, 13539212, 186551855902), (1635878937, 698.579535, -0.15501843710360264, 192217, 13539212, 186051855902), (1635879028, 2200, -0.4881903883915324, 192217, 13539220, 162796278193), (1635879050, 70000, -15.532482752683423, 192216, 13539222, 162142502188), (1635879926, 11126.03456, -2.4686334561334333, 192215, 13539281, 203920781721), (1635880014, 5484.625763, -1.2169080160823045, 192215, 13539290, 189071481725), (1635880039, 4000, -0.8874985051018992, 192215, 13539292, 180511467410), (1635880157, 43164.581616, -9.576783973707267, 192215, 13539299, 193000000000), (1635880159, 4000, -0.8874352246936165, 192215, 13539300, 200002299833), (1635880216, 10000, -2.218564583567976, 192214, 13539307, 189850923567), (1635880742, -67494.80588, 15.065066471273406, 192216, 13539341, 200023148631), (1635880935, 809020.15096, -179.39365356765632, 192203, 13539353, 188609850423), (1635880993, 45199.286957, -10.016107729848006, 192203, 13539360, 206000000000), (1635881262, 719090.766761, -159.25770043448708, 192192, 13539380, 165130397476), (1635881345, 2000, -0.44270071307304, 192192, 13539387, 178200000000), (1635881466, 15060.374076, -3.3335560986502415, 192191, 13539392, 185000000000), (1635881466, 4000, -0.8853974153271698, 192192, 13539392, 181762584801), (1635881509, 4517.87708, -1, 192191, 13539395, 183978874137), (1635881519, 4000, -0.8853658935655335, 192191, 13539396, 191055347613), (1635881519, 454088.526374, -100.47387484388145, 192184, 13539396, 191055347614), (1635881634, 20061.787959, -4.437382037448901, 192184, 13539405, 212852466416), (1635881871, 4000, -0.8847270174918793, 192184, 13539424, 156698871709), (1635881942, -4105.499999, 0.9135347600663579, 192184, 13539428, 203625675481), (1635882004, -952616.716212, 212.125, 192199, 13539431, 196457503664), (1635882080, 435386.7118, -96.40723934016546, 192192, 13539432, 218751293618), (1635882123, 4000, -0.8854221300911066, 192192, 13539437, 183753192317), (1635882145, 324323.375166, -71.77298195260131, 192187, 13539438, 205304084031), (1635882339, 4000, -0.8849833276691592, 192187, 13539456, 160124940597), (1635882411, 4000, -0.8849779837021194, 192187, 13539465, 140465622390), (1635882970, -3365.114488, 0.7489999665310441, 192187, 13539497, 215146185315), (1635883813, 50000, -11.055131128872253, 192180, 13539567, 178396161253), (1635883813, 401354.921308, -88.77085863165138, 192181, 13539567, 176896161253), (1635883838, 222646.708165, -49.21749760074674, 192177, 13539570, 167753978037), (1635883996, 763640.440331, -168.67860936810595, 192165, 13539577, 211227571511), (1635884056, 5000, -1.1037708170701457, 192165, 13539579, 219167175105), (1635884056, 4799, -1.0594072809193775, 192165, 13539579, 219167175105), (1635885281, -540109.540326, 120, 192173, 13539675, 203047525823), (1635885281, -135065.048519, 30.024136083448937, 192175, 13539675, 204047525824), (1635885390, -4970.355, 1.105, 192175, 13539686, 178143274130), (1635885422, -171613.249992, 38.15797975060121, 192178, 13539689, 146474611925), (1635885432, -65234.094862, 14.50738906000031, 192179, 13539690, 163285696478), (1635885636, 3817.316464, -0.8438861609352205, 192179, 13539703, 194384666859), (1635887193, 999.512986, -0.2209594178440824, 192179, 13539810, 211251005803), (1635887358, -889594.190227, 197.9787691734738, 192192, 13539823, 171231562190), (1635887462, 71405.12892, -15.805766972113934, 192191, 13539834, 168392185094), (1635887717, 467.323931, -0.10343811884127888, 192191, 13539850, 190072670049), (1635888854, 1220390.483848, -269.87287179189866, 192173, 13539937, 138648769754), (1635888868, 4831.9326, -1.0675111567764335, 192173, 13539938, 162470097876), (1635888916, 25000, -5.5230821152889895, 192172, 13539943, 160337973152), (1635888994, 95746.944223, -21.150745679294737, 192171, 13539948, 169249209028), (1635889057, 52707.900471, -11.641968035676816, 192170, 13539951, 172926547440), (1635889135, 25000, -5.521594171041404, 192170, 13539956, 175387898732), (1635889190, 4500, -0.9938641803563882, 192169, 13539959, 195141378168), (1635889384, 27356.532221, -6.041778849372357, 192169, 13539973, 185095447277), (1635889532, 4752.465777, -1.0495713065023375, 192169, 13539985, 164107159519), (1635890220, -250754.280177, 55.20217836822861, 192079, 13540037, 125020422863), (1635890220, 6059062.274465, -1331.8597456571592, 192075, 13540037, 125520422863), (1635890260, -815053.182666, 179.5779615299537, 192092, 13540038, 160000100001), (1635890278, -844582.6252, 186.324020943155, 192105, 13540039, 154805259853), (1635890291, -1189.406248, 0.26261293431935917, 192106, 13540042, 146550202436), (1635890291, -109526.839677, 24.180712572338077, 192106, 13540042, 172167982136), (1635890335, -54586.009253, 12.052747602845768, 192107, 13540044, 182675398035), (1635890349, -11045.488697, 2.439, 192107, 13540045, 273000000000), (1635890435, -460200.691495, 101.65603906683164, 192115, 13540050, 182273303214), (1635891230, 7002.64932, -1.5381009858194217, 192114, 13540117, 136630338734), (1635891230, 9997.096519, -2.19584701186308, 192114, 13540117, 184000000000), (1635892038, 828593.303372, -181.87908210708596, 192102, 13540184, 198041201826), (1635892124, 15000, -3.2904005410808197, 192101, 13540189, 206519309403), (1635892124, 2008.24437, -0.44052275461031326, 192101, 13540189, 205019309403), (1635892194, 11983.501985, -2.6286383188212104, 192101, 13540192, 205000000000), (1635892559, 5414.486232, -1.1876773781462175, 192101, 13540219, 274000000000), (1635892675, 1041.949131, -0.22855228931863636, 192101, 13540225, 215000000000), (1635894442, 2000, -0.4387004016890604, 192101, 13540346, 246016689845), (1635894562, 960.3, -0.21064151513128782, 192101, 13540356, 260000000000), (1635894655, 10923.446574, -2.396032665268876, 192101, 13540366, 236000000000), (1635894667, 18407.44455, -4.037538579659348, 192100, 13540367, 166835452526), (1635894758, 898766.341749, -196.9979600580656, 192087, 13540373, 171720306004), (1635894758, 100038.007053, -21.910096224904876, 192085, 13540373, 748497899003), (1635894758, 11736.726463, -2.5703288152629713, 192085, 13540373, 174140306004), (1635894877, 358.17, -0.07843806035248765, 192085, 13540382, 173780653126), (1635894983, 668390.143606, -146.29957743244563, 192074, 13540392, 162708721595), (1635895230, 845753.108375, -184.9048503421879, 192061, 13540404, 590551108616), (1635895230, 2803.594837, -0.6125409977464874, 192061, 13540404, 213083312703), (1635895967, 6000, -1.30989920656684, 192054, 13540464, 171600000000), (1635895967, 444568.471913, -97.09501390478665, 192054, 13540464, 197196113615), (1635895996, -1915.642198, 0.42073548230221103, 192054, 13540465, 174251636374), (1635896259, 30000, -6.549309569937199, 192053, 13540487, 161446439255), (1635896268, 19981.469934, -4.361968049666222, 192053, 13540488, 181263244177), (1635896337, 719295.672165, -156.9200126710931, 192040, 13540495, 147803186695), (1635896337, 10000, -2.180171050716596, 192040, 13540495, 147803186694), (1635896463, 1534909.575979, -334.17975819649473, 192013, 13540507, 163343712624), (1635896463, 53490.065993, -11.629487397274742, 192012, 13540507, 195000000000), (1635897360, 5423.765411, -1.1791409732860538, 192012, 13540568, 179300000000), (1635897750, 17800, -3.8696878072591736, 192011, 13540605, 145670100797), (1635897935, 24636.201984, -5.355665049577672, 192011, 13540610, 254150000000), (1635898948, -823866.702555, 180.306, 192025, 13540689, 220000000000), (1635899049, -503577.651853, 110.337885, 192034, 13540694, 189912080835), (1635899057, -1824.775549, 0.4, 192034, 13540695, 179616990499), (1635899063, -21364.146578, 4.683223818129729, 192035, 13540696, 178117816258), (1635899320, -238592.70891, 52.313706691875, 192039, 13540712, 182470709161), (1635899320, -4496.274736, 0.9860608249781572, 192039, 13540712, 183560709161), (1635899344, -136320.682144, 29.899658713573178, 192041, 13540716, 216700000000), (1635899344, -232447.71099, 51, 192045, 13540716, 156307267698), (1635899399, -1622.71249, 0.3561029877072649, 192045, 13540720, 166100000000), (1635899421, -90332.521978, 19.825, 192047, 13540722, 171448826671), (1635900265, 17312.799325, -3.7770653796917393, 192047, 13540783, 205956247064), (1635900399, 39058.703106, -8.520863742901744, 192046, 13540795, 157265994573), (1635900597, 29351.841343, -6.402877250720199, 192045, 13540807, 186041951989), (1635900597, 305781.979777, -66.68443498560694, 192040, 13540807, 186041951990), (1635900680, 923955.554387, -201.2783109133088, 192024, 13540816, 144769184779), (1635900749, 1478863.135273, -321.4864612122819, 191998, 13540821, 147589009045), (1635900768, 935387.238616, -202.91023683616618, 191982, 13540824, 1746094173967), (1635900768, 136117.620017, -29.499443400645838, 191979, 13540824, 1579887700460), (1635900850, 213938.553399, -46.30217337618697, 191965, 13540826, 964941452658), (1635900850, 587137.695874, -127.16301829821425, 191969, 13540826, 133286472910), (1635900959, 127852.430107, -27.636707500575344, 191953, 13540833, 178205097485), (1635900959, 524024.011405, -113.33901044919703, 191956, 13540833, 177205097484), (1635901015, 27760.917662, -6, 191953, 13540839, 153000000000), (1635901154, 434083.714136, -93.78065106968019, 191945, 13540846, 162049624229), (1635901159, 238341.473188, -51.426590108382044, 191934, 13540847, 413400057789), (1635901159, 376940.055535, -81.37668684064475, 191938, 13540847, 457194385620), (1635901349, 65.508759, -0.014131677949286643, 191934, 13540867, 144619441742), (1635901597, 480000, -103.50155959875393, 191925, 13540883, 190010223900), (1635901768, -11262.957037, 2.442212924559521, 191926, 13540895, 182379370752), (1635903363, -10008.850659, 2.1703194777823724, 191926, 13541010, 195517872565), (1635903517, 3999.31714, -0.8620212639261383, 191926, 13541020, 191218760218), (1635903943, -96836.949024, 21, 191928, 13541046, 158876797164), (1635903963, -1572.422671, 0.34102486892009487, 191928, 13541047, 512995256861), (1635904007, -184404.010504, 40, 191931, 13541052, 230000000000), (1635904118, -8702.723102, 1.8880803165657138, 191931, 13541065, 155777352980), (1635904206, -17055.011315, 3.7002187979922123, 191931, 13541072, 142687780318), (1635904330, -291125.789808, 63.179598607924625, 191937, 13541086, 127452420568), (1635904361, -35000, 7.597873400313298, 191937, 13541087, 144879589865), (1635904361, -1898.757553, 0.4122, 191937, 13541087, 144879589865), (1635904384, -1013.405054, 0.22, 191937, 13541088, 162788844091), (1635904419, -7077.373445, 1.5364375, 191937, 13541092, 145595745585), (1635904604, -1000.227587, 0.21714247389453173, 191937, 13541109, 146022563657), (1635904892, -990908.48745, 215.3090091082338, 191955, 13541137, 138127911606), (1635904911, -1411924.664021, 307.4423170988718, 191980, 13541140, 144130151078), (1635904975, -5109.695936, 1.1140173462977967, 191980, 13541142, 159500000000), (1635905028, -50961.747861, 11.111246472546659, 191981, 13541144, 188003701757), (1635905093, -64973.041572, 14.16759930711862, 191982, 13541150, 163009449316), (1635905208, -1897.586981, 0.4138, 191982, 13541160, 162346877254), (1635905276, -17743.339027, 3.869293745446149, 191982, 13541165, 183700000000), (1635905333, -412553.78828, 90, 191990, 13541166, 188702812795), (1635905469, -8015.681676, 1.74929973409495, 191990, 13541176, 164767969354), (1635905494, -1000, 0.21823642470804666, 191990, 13541177, 181207287537), (1635906188, -404003.819807, 88.2, 191997, 13541228, 177959947694), (1635909083, 46823.702584, -10.16428187424996, 191996, 13541451, 142210116939), (1635910063, 112.5, -0.024419988412373937, 191996, 13541515, 200200000000), (1635911523, -10074.330835, 2.2, 191996, 13541634, 132909637076), (1635912992, 5553.66609, -1.2055845194983859, 191997, 13541738, 156924922226), (1635912992, -25000, 5.459590349785961, 191997, 13541738, 157424922226), (1635913001, -98058.670226, 21.41654410223083, 191999, 13541739, 176223340779), (1635913179, -6166.46723, 1.3469149116578887, 191999, 13541750, 156000000000), (1635913183, -761619.952285, 166.46849246442918, 192012, 13541751, 334348064050), (1635913217, -139486.770274, 30.511667252849616, 192014, 13541754, 174000000000), (1635913421, -497570.992165, 108.9, 192023, 13541764, 163743952569), (1635913515, -430972.349748, 94.4, 192030, 13541769, 158358565762), (1635914055, -48219.085451, 10.566279598938436, 192031, 13541811, 175440721277), (1635914136, -50027.13839, 10.963414006099192, 192032, 13541820, 141481825675), (1635914656, -125125.194872, 27.44913050330226, 192043, 13541857, 176434279483), (1635914656, -500919.649843, 109.8287130344016, 192041, 13541857, 385439562976), (1635914875, -66135.719813, 14.510822403263854, 192044, 13541875, 131650620041), (1635914922, -639.721418, 0.14036926102529151, 192044, 13541878, 147187620570), (1635915018, -530111.455581, 116.37200030830105, 192053, 13541885, 159797632397), (1635915104, -325321.060454, 71.46875, 192059, 13541890, 219685421501), (1635915179, -7894.024792, 1.73471535196308, 192059, 13541899, 185000000000), (1635915272, -9944.971838, 2.1854457257762725, 192059, 13541908, 125414896486), (1635915462, 11044.961225, -2.412629187050646, 192059, 13541921, 140000000000), (1635915464, -9305.613749, 2.0449394047520766, 192059, 13541922, 128320172798), (1635915512, -799684.039765, 175.83945849678733, 192071, 13541930, 120812237875), (1635915612, -407572.999874, 89.7, 192077, 13541941, 200000000000), (1635915662, -514.249094, 0.1132119171530878, 192077, 13541947, 115099058568), (1635916260, 22000, -4.814207945228642, 192077, 13541989, 165000000000), (1635917907, 2594.949346, -0.5678365008170793, 192077, 13542112, 140408111904), (1635917935, 119.630949, -0.026178039271737688, 192077, 13542115, 148000000000), (1635917984, 1000, -0.21882312480210334, 192077, 13542118, 118576246186), (1635918137, 23155.983341, -5.066976008567803, 192077, 13542127, 147400000000), (1635918339, 5000, -1.0940741831902216, 192076, 13542141, 126153526585), (1635918458, 3500, -0.7651426954316913, 192067, 13542148, 143192833197), (1635918458, 635702.22123, -139.03657849120734, 192067, 13542148, 141588461454), (1635918624, 50574.34454, -11.05573599758697, 192066, 13542157, 149734766530), (1635918706, 1000, -0.21859548468518877, 192066, 13542162, 144750867049), (1635918767, 30000, -6.557717422836058, 192066, 13542165, 144350077184), (1635918784, 7000, -1.5300930949611478, 192066, 13542167, 132002312724), (1635919225, 9970.217339, -2.1793104796766127, 192066, 13542198, 139237139271), (1635920977, -15988.517215, 3.5158817552451715, 192066, 13542324, 107767341823), (1635923643, -1000.789788, 0.2200768109269712, 192066, 13542496, 129027466355), (1635923828, 60939.862264, -13.320019531785245, 192065, 13542509, 124000000000), (1635924021, 237303.138552, -51.85798189672288, 192062, 13542523, 120203631934), (1635924038, 232.694, -0.05084193631465481, 192062, 13542524, 125554657647), (1635924038, 4161.594548, -0.909280772443151, 192062, 13542524, 125644657647), (1635924129, 1010182.147027, -220.53991323416722, 192045, 13542532, 131448494851), (1635924216, 1500, -0.32720019227229286, 192045, 13542537, 118081753254), (1635924365, 1000, -0.2177980242665356, 192030, 13542548, 140800000000), (1635924365, 921494.045827, -200.85403285287464, 192030, 13542548, 539294523054), (1635924464, 51316.730789, -11.1696802698175, 192023, 13542549, 144000000000), (1635924464, 349815.724232, -76.1669, 192024, 13542549, 181698418081), (1635924495, 10000, -2.1765045021664235, 192023, 13542552, 134889584895), (1635925558, -9755.761705, 2.1361431809850364, 192023, 13542631, 113028279549), (1635925763, 275392.207988, -59.92596405510273, 192019, 13542649, 114152781098), (1635925809, 367623.571631, -79.95287573894345, 192013, 13542650, 128418802317), (1635925966, 16132.02911, -3.507364568419825, 192012, 13542662, 131074206240), (1635925996, 4429.840906, -0.963102711023518, 192012, 13542665, 141744009615), (1635926067, 1095696.965193, -237.9995738968666, 191994, 13542671, 130092632032), (1635926067, 414917.626481, -90.01019515840149, 191987, 13542671, 1286909040054), (1635926264, 500839.238241, -108.56458444950931, 191978, 13542679, 143187791352), (1635926389, 425700, -92.2039673350305, 191971, 13542687, 142680228248), (1635927500, -458468.850769, 99.9029305477049, 191979, 13542769, 124982888761), (1635927577, -3669.860164, 0.8, 191979, 13542772, 139553466432), (1635927667, -179380.10298, 39.10955358538042, 191982, 13542782, 111017857969), (1635927683, -6420.225826, 1.4, 191982, 13542783, 124243441792), (1635928507, -642.018697, 0.14, 191982, 13542858, 115132682808), (1635928565, -14091.559256, 3.072875, 191982, 13542862, 122798034316), (1635928834, 790, -0.17124117608424297, 191982, 13542882, 146300000000), (1635929066, -5000, 1.0903410592602283, 191982, 13542894, 138421599627), (1635929076, -2292.846213, 0.5, 191982, 13542895, 137809178979), (1635929844, -53191.501886, 11.6, 191983, 13542949, 128843994073), (1635929967, 22578.393686, -4.894524620116067, 191983, 13542960, 116766568402), (1635930043, -253711.645218, 55.34184764818439, 191987, 13542968, 101130217257), (1635930059, -22238.369362, 4.85197940706052, 191988, 13542970, 111153197264), (1635930114, -3208.282142, 0.7, 191988, 13542975, 111518247774), (1635930161, -11120.762218, 2.4264532439507813, 191988, 13542977, 120472251140), (1635930161, -8797.911108, 1.919594628048911, 191988, 13542977, 120972251140), (1635930267, -15.675142, 0.003420211811216434, 191988, 13542981, 165822125283), (1635930267, -7785.097506, 1.698667898198202, 191988, 13542981, 163236233462), (1635930469, -999.099634, 0.218, 191988, 13542996, 136400000000), (1635930557, -6251.991784, 1.3641709264358846, 191988, 13543003, 128941516986), (1635930602, -6049.492798, 1.32, 191988, 13543005, 136274603043), (1635930646, -2291.458172, 0.5, 191988, 13543009, 120075419035), (1635930730, -2978.882175, 0.65, 191988, 13543012, 131759701042), (1635930907, -25681.014504, 5.6038031256474055, 191989, 13543023, 131811194860), (1635931363, -1547.281692, 0.3376371371089213, 191989, 13543063, 116120961994), (1635931720, 312628.559692, -67.7929496083135, 191984, 13543092, 347513246890), (1635931760, 299999.999999, -65.02048072146334, 191978, 13543094, 142113824234), (1635932533, 1513.187718, -0.32787631309992454, 191978, 13543150, 140800000000), (1635932596, 3684.073711, -0.7982586282991887, 191978, 13543158, 108796510599), (1635933942, 16466.127716, -3.567790355840695, 191978, 13543252, 119632197631), (1635934168, 2690.569429, -0.5829683215066084, 191978, 13543269, 104324130852), (1635934352, 56354.845403, -12.209844912379895, 191977, 13543282, 126813125226), (1635935016, -62581.548224, 13.640718521158085, 191978, 13543321, 135406105448), (1635936219, -1031969.461538, 225.1461690532351, 191996, 13543415, 114472964034), (1635936251, -13170.670801, 2.8761328347613695, 191996, 13543417, 120573685023), (1635936251, -20047.335121, 4.377693432088579, 191996, 13543417, 120573685023), (1635936406, -22895.785553, 5, 191997, 13543427, 117407999436), (1635936457, -19014.441212, 4.152537787421544, 191997, 13543432, 122579432740), (1635936540, -2919.625261, 0.6376249164631884, 191997, 13543439, 114260006473), (1635936548, -4990.948408, 1.09, 191997, 13543440, 111295365450), (1635936548, -3117.558315, 0.6808555684943602, 191997, 13543440, 111295365450), (1635936792, -1478.951296, 0.3229978944802589, 191997, 13543460, 126000000000), (1635937163, -402799.249596, 88, 192004, 13543491, 87749900371), (1635937508, -3457.471781, 0.7556136565120662, 192004, 13543514, 148030702031), (1635937528, -27453.576544, 6, 192005, 13543515, 142421557382), (1635937780, -1746676.099552, 382.30150435649284, 192034, 13543531, 139167179567), (1635938027, -223956.211652, 49.098605500156914, 192037, 13543547, 162048250743), (1635938127, -7208.241143, 1.5805891000538144, 192038, 13543556, 147949260570), (1635939076, -249632.720407, 54.75, 192042, 13543644, 103387974127), (1635939340, 2996578.925994, -653.3000585825125, 192038, 13543660, 156923783109), (1635940013, 13026.766474, -2.839505069091243, 192038, 13543696, 152488359049), (1635940880, 785.562214, -0.17123070831851614, 192038, 13543753, 115152763683), (1635941787, -22800.86556, 5, 192038, 13543830, 177000000000), (1635941787, -570.010606, 0.125, 192038, 13543830, 160000000000), (1635942391, -414990.072932, 91.03623249402368, 192045, 13543866, 143410695378), (1635942514, -1569539.205812, 344.86219517676165, 192069, 13543878, 128165802133), (1635942597, -1312319.113724, 288.946321981857, 192088, 13543880, 162166782423), (1635942955, 7409.197374, -1.6230687917725264, 192088, 13543904, 133210453655), (1635943235, -1448094.402007, 319.45659630632395, 192108, 13543926, 141000000001), (1635943611, -319763.356413, 70.62899857169447, 192113, 13543951, 146061759729), (1635943650, -25000, 5.523311933447298, 192113, 13543952, 162291820357), (1635943686, -518822.71333, 114.6686089114996, 192120, 13543956, 146034389485), (1635943745, -636353.602483, 140.759172280303, 192129, 13543960, 152780415316), (1635943837, -341848.812619, 75.66777120419943, 192134, 13543964, 179418788506), (1635943845, -13544.496919, 3, 192138, 13543965, 166768525049), (1635943845, -283137.030772, 62.69955011057027, 192138, 13543965, 165268525049), (1635943868, -239904.732574, 53.14649454234972, 192142, 13543966, 177032786595), (1635943880, -449798.734414, 99.69302842061279, 192148, 13543968, 152000000001), (1635943910, -350421.705527, 77.7576, 192159, 13543969, 256380180505), (1635943910, -426391.293368, 94.56331438950748, 192154, 13543969, 486957123597), (1635944573, 342572.263373, -75.56089202022444, 192154, 13544014, 195168907824), (1635944602, 1207043.405915, -265.94728428756207, 192137, 13544016, 195234976163), (1635944683, 3050.83921, -0.6716194886675839, 192137, 13544023, 164392153118), (1635944691, 701316.20076, -154.19267793123475, 192119, 13544024, 486061537552), (1635944691, 557809.367036, -122.74929076026073, 192129, 13544024, 537449364945), (1635944854, -31127.629866, 6.881793879247598, 192120, 13544035, 186521158123), (1635946389, -1040.309131, 0.23, 192120, 13544139, 176988878195), (1635946438, -809679.82361, 179.11264820441332, 192131, 13544142, 179847777883), (1635946519, -148063.019577, 32.77569833658413, 192133, 13544144, 209495350110), (1635946703, -468405.797614, 103.73275581119113, 192140, 13544161, 156922419388), (1635946849, -1214838.000988, 269.3558552330829, 192157, 13544167, 180710629891), (1635946932, -18250.302845, 4.05, 192157, 13544173, 187324774479), (1635946932, -9012.322235, 2, 192157, 13544173, 187324774479), (1635946941, -731748.39534, 162.47316288591864, 192168, 13544174, 185033932799), (1635947004, -10000, 2.2215021200403737, 192168, 13544177, 209511981044), (1635947074, -502542.754876, 111.68030359469692, 192175, 13544185, 150105505632), (1635947111, -21202.575709, 4.713597119419521, 192175, 13544186, 172666677541), (1635947123, -600942.838392, 133.65537385314082, 192184, 13544188, 170611101501), (1635947193, -479338.364481, 106.68898004759515, 192190, 13544194, 163057804393), (1635947212, -247155.337704, 55.038252200131744, 192194, 13544196, 166049248407), (1635947234, -383139.848197, 85.35726981911588, 192199, 13544197, 167364674146), (1635947260, -4487.462562, 1, 192199, 13544200, 154033311667), (1635947375, 15206.286677, -3.368289864107751, 192199, 13544205, 216100233773), (1635947560, -408252.107806, 91, 192204, 13544222, 163574218844), (1635947560, 1083.640317, -0.24003058287008394, 192199, 13544222, 163574218844), (1635947669, -4260.671211, 0.949979918871665, 192204, 13544232, 155404168028), (1635947867, -21939.029179, 4.8917206799559745, 192205, 13544243, 192000000000), (1635947959, -4000, 0.891891448150929, 192205, 13544255, 137135963326), (1635947987, -248724.426844, 55.468458247220504, 192208, 13544257, 194000000000), (1635948027, -537796.681332, 120, 192216, 13544262, 134337156071), (1635948064, -3359.975474, 0.75, 192216, 13544264, 164185572344), (1635948117, -1071979.133299, 239.4603616697868, 192230, 13544268, 150127333545), (1635948183, -34664.776198, 7.749384898856465, 192231, 13544272, 200000000000), (1635948226, -47275.917123, 10.56923006287361, 192232, 13544273, 179584399677), (1635948266, -845169.704871, 189.06660161458333, 192243, 13544277, 160141990756), (1635948287, -7597.668191, 1.7006176348614594, 192243, 13544279, 157000000000), (1635948290, -477901.572772, 107.00651579143543, 192250, 13544280, 138441813906), (1635948349, -14132.285186, 3.165421317945317, 192250, 13544287, 190300000000), (1635948360, -2110.222138, 0.47266361325305234, 192250, 13544288, 136161813176), (1635948780, -26743.52197, 5.990336785540931, 192250, 13544310, 211707740428), (1635948941, 437051.233552, -97.1793752748133, 192234, 13544323, 200000000000), (1635948941, 767979.82066, -170.90370153924508, 192240, 13544323, 169753324325), (1635949173, 967398.655254, -214.89564599526219, 192221, 13544338, 188335753943), (1635949353, -31385.081387, 7.009313569601632, 192221, 13544353, 179070189973), (1635949527, 897177.964656, -199.05023630015395, 192209, 13544369, 121379277559), (1635950232, 41.080596, -0.009108628131488215, 192209, 13544416, 130417646309), (1635951092, 300000, -66.50402884746022, 192205, 13544476, 183000000000), (1635951320, 463886.233284, -102.78039092723068, 192198, 13544496, 136216640985), (1635951402, 248117.649726, -54.94700681731677, 192195, 13544504, 131418289256), (1635951484, 77573.477587, -17.175227653169237, 192194, 13544510, 154066700812), (1635951512, 277649.345517, -61.45821839725016, 192190, 13544512, 155011988351), (1635951689, -6384.000393, 1.4213630333013312, 192190, 13544527, 139042810277), (1635952346, -22366.344354, 4.97984375093246, 192190, 13544572, 172651137101), (1635952916, 57297.167497, -12.669158029540164, 192181, 13544618, 172888919074), (1635952916, 647482.416833, -143.23616183271554, 192181, 13544618, 342445534957), (1635952979, 30000, -6.618136632972768, 192158, 13544620, 195152365093), (1635952979, 1583030.010075, -349.6232627879915, 192158, 13544620, 193152365093), (1635953079, 56454.396051, -12.453333883245799, 192157, 13544623, 215353871663), (1635953087, 4282.312957, -0.9445992069248844, 192157, 13544625, 192452974014), (1635953295, 49975, -11.023138867591092, 192156, 13544645, 161860637950), (1635953326, 7547.223556, -1.6646463682564208, 192156, 13544651, 170000000000), (1635953445, -2270.372965, 0.5037789787320928, 192156, 13544662, 152769242704), (1635953515, 240580.63333, -53.05428662269542, 192153, 13544669, 150722429228), (1635953636, 26949.766936, -5.941997976488729, 192152, 13544673, 163036196173), (1635953658, 25000, -5.511902275453983, 192152, 13544675, 166066525450), (1635953658, 20370.192827, -4.490996119709046, 192152, 13544675, 166066525450), (1635953676, 1584, -0.3492174699786946, 192152, 13544677, 246000000000), (1635953736, 32694.29139, -7.207790682262151, 192151, 13544679, 188204425217), (1635954802, 504565.770298, -111.19435457120711, 192144, 13544765, 128455183665), (1635954863, 299999.999999, -66.07523551844294, 192140, 13544773, 120086143348), (1635954893, 415530.310601, -91.47452112619413, 192134, 13544781, 112188035131), (1635954997, 892, -0.19630630659575068, 192134, 13544785, 152900000000), (1635955052, 4545.545126, -1, 192130, 13544791, 128463526701), (1635955052, 250000, -55.00881408568111, 192130, 13544791, 250000000000), (1635955192, 496.00596, -0.10911874734772012, 192130, 13544808, 126625615427), (1635955314, 500, -0.10999733798967781, 192130, 13544816, 157272963177), (1635955450, 328242.810299, -72.19487330833198, 192126, 13544822, 156688129963), (1635955462, 317603.843493, -69.822985812909, 192121, 13544824, 175279049830), (1635955505, 15274.375808, -3.3558922401359763, 192117, 13544826, 189976841052), (1635955505, 9889.575426, -2.1727734715791547, 192117, 13544826, 189536378936), (1635955505, 20000, -4.394256155893064, 192117, 13544826, 190762040750), (1635955505, 249885.549209, -54.91354072247806, 192118, 13544826, 188456378936), (1635955563, 3001.579079, -0.6594511524637463, 192117, 13544830, 218603352237), (1635955815, 553465.983464, -121.5494014483522, 192109, 13544842, 208831768074), (1635955961, 734610.674787, -161.1845908625291, 192099, 13544853, 187820364271), (1635956025, 1002.121916, -0.21974992229424872, 192098, 13544855, 202304908357), (1635956025, 52500, -11.512877874732201, 192098, 13544855, 202471506235), (1635956080, 1500, -0.3289263464735789, 192098, 13544861, 164386997677), (1635956092, 10000, -2.192824485110607, 192098, 13544864, 152119815927), (1635956345, -4.533039, 0.001, 192098, 13544886, 167573474320), (1635957027, -4972.011468, 1.0968421739450873, 192098, 13544937, 155000000000), (1635957320, 5003.716428, -1.0972233479521327, 192098, 13544955, 185713450617), (1635957512, -543757.819479, 120, 192105, 13544966, 185422702680), (1635957539, -319227.761301, 70.49180248560572, 192110, 13544970, 163625694144), (1635957539, -20162.396488, 4.453313445741874, 192110, 13544970, 163125694144), (1635957860, -7560.399499, 1.6699146875424296, 192110, 13544994, 171066313223), (1635958105, -933880.019967, 206.40816474948397, 192123, 13545009, 171776749651), (1635958188, -18.085906, 0.004, 192123, 13545018, 135577762937), (1635958271, 13192.399254, -2.900212446342859, 192123, 13545028, 134379565368), (1635958312, -484510.872311, 107.19204357967456, 192130, 13545032, 118250130350), (1635958389, -4014.090821, 0.8883717765436013, 192130, 13545038, 141976899015), (1635958477, -9036.879029, 2, 192130, 13545045, 147000000000), (1635958578, -595668.580631, 131.88644114787965, 192138, 13545051, 175288219756), (1635958660, -49659.339634, 11, 192139, 13545056, 177289736342), (1635958773, -451.432694, 0.1, 192139, 13545065, 173662607237), (1635960034, 11.223945, -0.002471399557019614, 192139, 13545170, 121249772853), (1635960124, 470110.572442, -103.47963370232873, 192133, 13545181, 105562271668), (1635960139, 37383.667754, -8.225889363006967, 192132, 13545182, 120162609525), (1635960334, 150000, -33.001630613739394, 192130, 13545194, 162823082807), (1635960334, 225387.906811, -49.574796558887805, 192127, 13545194, 164663565963), (1635960372, 7740.504098, -1.7022717804758856, 192127, 13545195, 178478750835), (1635960418, 491930.49956, -108.06435935355721, 192112, 13545196, 850781257155), (1635960418, 543547.348971, -119.48955729166435, 192119, 13545196, 199081669591), (1635960464, 9000, -1.9762510437634728, 192112, 13545199, 169974616745), (1635960464, 45063.863221, -9.895651800911454, 192112, 13545199, 181000000000), (1635960509, 66563.165777, -14.615398986017574, 192111, 13545201, 206717545314), (1635960538, 3310.789234, -0.7269207543923146, 192111, 13545203, 190000000000), (1635960716, 34211.29954, -7.506589699713062, 192104, 13545220, 206081313319), (1635960716, 447367.123551, -98.19357356812692, 192104, 13545220, 126865201733), (1635960814, 20000, -4.388190477028431, 192104, 13545224, 184015931201), (1635960814, 2000, -0.43882578087098334, 192104, 13545224, 184015931201), (1635960855, 18436.554091, -4.045047117098014, 192103, 13545228, 160134467130), (1635960996, 6000, -1.3163994179033702, 192103, 13545238, 158500000000), (1635961041, 25000, -5.484878990130725, 192103, 13545242, 179104670852), (1635961066, 9857.169723, -2.1625627520167847, 192103, 13545244, 210000000000), (1635961103, 100000, -21.937301830139138, 192101, 13545245, 166415903725), (1635962316, 329.113181, -0.07219350023238164, 192101, 13545336, 176000000000), (1635962395, -208869.525046, 46.1, 192104, 13545345, 146043413303), (1635962395, -3797409.978914, 840.488083305075, 192157, 13545345, 142101341240), (1635962471, 1277086.471836, -281.4633445092276, 192140, 13545348, 184181812092), (1635962575, 316692.922056, -69.71984215121195, 192135, 13545354, 169213790969), (1635962784, 392213.020472, -86.21787668587366, 192120, 13545376, 125000000001), (1635962784, 705727.520694, -155.25483597502537, 192125, 13545376, 120616007816), (1635962817, 299999.999999, -65.91538888794437, 192116, 13545378, 152605682489), (1635962839, 574205.362155, -126.08631132938093, 192108, 13545383, 114363991160), (1635962847, 462909.825838, -101.57409268061082, 192101, 13545384, 125250707303), (1635962868, 498888.315183, -109.3953, 192094, 13545385, 172141527078), (1635962868, 576789.189298, -126.38247589983897, 192086, 13545385, 142978941104), (1635962905, 508677.774871, -111.37406684659454, 192079, 13545387, 146885781909), (1635963226, 446581.734521, -97.61097881429932, 192062, 13545411, 145973228780), (1635963226, 751943.106301, -164.49210014773092, 192069, 13545411, 139973228779), (1635963252, 833793.349588, -182.072071568476, 192049, 13545412, 157467440616), (1635963392, 909578.649946, -198.33791026960847, 192034, 13545425, 164044663714), (1635963395, 177441.269442, -38.657369120027624, 192031, 13545426, 252673567404), (1635963537, 40000, -8.712847310958031, 192031, 13545440, 153469442608), (1635963848, 376238.446351, -81.92470274268464, 192024, 13545463, 172624974026), (1635963931, 470771.458376, -102.43771636356963, 192017, 13545469, 181355590637), (1635964704, 29133.747084, -6.336769861983615, 192016, 13545536, 175000000000), (1635964759, 1143466.174505, -248.47185076849928, 191997, 13545540, 148540808234), (1635964801, 479539.783371, -104.06313379097337, 191990, 13545541, 169085602524), (1635964916, -9405.86191, 2.052630507470379, 191990, 13545555, 147874177954), (1635965020, 299999.999999, -65.06071921621, 191985, 13545563, 158715273340), (1635965030, 1009309.78443, -218.65007607602462, 191968, 13545564, 156295427925), (1635965150, 458548.63343, -99.21584892471908, 191960, 13545570, 194670655411), (1635965189, 238441.364649, -51.56154868024476, 191956, 13545575, 206440998394), (1635965189, 52262.754611, -11.298788043531756, 191955, 13545575, 181000000000), (1635965289, 222297.467305, -48.04797946236562, 191952, 13545586, 122472866935), (1635965289, 549146.038324, -118.61797683497615, 191943, 13545586, 120408346638), (1635965381, 1801013.989919, -388.26157875083, 191912, 13545592, 139842388110), (1635965567, 486370.754883, -104.64947942235344, 191904, 13545608, 152358631369), (1635965590, 567988.640809, -122.10219051602864, 191895, 13545609, 150402382582), (1635965976, -8152.349913, 1.762266127566491, 191895, 13545640, 155625313742), (1635965978, 20000, -4.297389017074998, 191894, 13545641, 192500000000), (1635966000, 1266609.451426, -271.8609797821669, 191873, 13545642, 277482950487), (1635966214, 9000, -1.9296534320333252, 191873, 13545659, 161673514064), (1635966234, -7264.074613, 1.5668454386763573, 191873, 13545661, 150829445157), (1635967155, -463124.868729, 100, 191887, 13545731, 141000000000), (1635967155, -369108.266232, 79.64193747257839, 191879, 13545731, 133738644222), (1635967185, -37033.931436, 8, 191888, 13545732, 150449922378), (1635967198, -296740.285997, 64.1198298444829, 191893, 13545734, 164853297363), (1635967309, 59955.943954, -12.8803492477654, 191892, 13545746, 148000000000), (1635967309, -4256.885517, 0.9199752420303059, 191892, 13545746, 138612838275), (1635967548, -11653.100564, 2.51844027, 191892, 13545768, 150587616263), (1635968153, -46727.175278, 10.099066997806993, 191893, 13545812, 119784691160), (1635968183, -8473.103572, 1.8313634023060852, 191893, 13545815, 160000000000), (1635968262, -1869.644889, 0.4041056705208806, 191893, 13545816, 163688423947), (1635968411, -231285.534571, 50, 191897, 13545825, 172841188061), (1635968501, -5889.736044, 1.2735164475058025, 191897, 13545832, 206000000000), (1635968501, -13239.753734, 2.8628500970188644, 191898, 13545832, 172867271717), (1635968501, -4000, 0.864912858975385, 191898, 13545832, 172867271717), (1635968606, 25014.502198, -5.376520942248081, 191897, 13545837, 184665019782), (1635968606, -6474.438144, 1.4, 191898, 13545837, 184665019782), (1635968606, -924.952998, 0.2, 191897, 13545837, 184308161744), (1635968606, -4393.50696, 0.95, 191898, 13545837, 184308161744), (1635968664, -23565.822486, 5.095715447912156, 191898, 13545843, 150196409305), (1635968711, -2857.492912, 0.6178989305477139, 191898, 13545848, 161478787041), (1635968729, -416060.20001, 90, 191905, 13545850, 250000000000), (1635968761, 25014.091501, -5.3802842108463755, 191905, 13545851, 179751286333), (1635969457, 420.985171, -0.09054781069757128, 191905, 13545911, 147027418243), (1635971574, -27931.318475, 6.043971328269115, 191905, 13546073, 269668941999), (1635971590, -255629.525546, 55.328166582657715, 191909, 13546075, 207706104556), (1635971590, -2771.186769, 0.5999238322112451, 191909, 13546075, 207706104555), (1635971656, -304063.013991, 65.84257538782569, 191915, 13546082, 185244540721), (1635971805, -30092.292576, 6.518106303766019, 191915, 13546099, 328806141484), (1635971878, -55394.774914, 12, 191916, 13546104, 144521942863), (1635971878, -20137.531024, 4.362052318057037, 191915, 13546104, 153195656281), (1635971896, -9509.046303, 2.060028797413783, 191917, 13546106, 161984055961), (1635972003, -572737.340571, 124.1384041001586, 191926, 13546112, 165591326685), (1635972137, -33368.161929, 7.236125, 191927, 13546123, 157946284384), (1635972823, 2500.026489, -0.538914751358013, 191927, 13546181, 138185438623), (1635975235, -13833.495503, 3, 191927, 13546329, 224047536437), (1635975362, -214030.23007, 46.42462079317526, 191931, 13546333, 230960615818), (1635975368, -61071.882162, 13.25, 191932, 13546334, 256590184782), (1635975368, -101388.398009, 22, 191933, 13546334, 256590184782), (1635975535, -60400, 13.107834826571482, 191934, 13546344, 242025701974), (1635975759, 10951.7739, -2.3625827924274643, 191934, 13546356, 227700000000), (1635975885, -506638.839256, 110, 191943, 13546366, 194559523502), (1635976765, -4958.377455, 1.0770089137265018, 191943, 13546428, 157300000000), (1635977312, -30070.879469, 6.531883408842357, 191943, 13546472, 130415823867), (1635977530, -761899.487673, 165.6054041648458, 191956, 13546489, 152571740228), (1635977641, -701640.539099, 152.6924130095355, 191968, 13546498, 157030662117), (1635977833, -45922.811529, 10, 191968, 13546514, 136970667308), (1635977981, -1488.002349, 0.3240352050712841, 191968, 13546524, 165147241937), (1635978078, -11480.128922, 2.5, 191969, 13546529, 167619946397), (1635978107, -6915.581501, 1.5060124518506548, 191969, 13546534, 139563223651), (1635978190, -229554.124359, 50, 191972, 13546539, 131517772901), (1635978213, -1909.459911, 0.4159891434714263, 191973, 13546540, 145624665450), (1635978213, -4590.192363, 1, 191973, 13546540, 145624665450), (1635978316, -4590.125496, 1, 191973, 13546545, 166722669735), (1635978316, -2295.075835, 0.5, 191973, 13546545, 166722669735), (1635978658, -20922.294447, 4.5582057728523635, 191973, 13546574, 212276498663), (1635978706, -1851.745155, 0.4034354207027239, 191973, 13546578, 154156209651), (1635978713, -2294.963084, 0.5, 191973, 13546579, 129582261069), (1635978810, -105036.384955, 22.886146536641505, 191975, 13546583, 154804231168), (1635979015, -31141.027934, 6.786015340772538, 191975, 13546595, 316838614907), (1635979080, -2345.344065, 0.5110936703426242, 191975, 13546603, 166944563084), (1635979316, 3037.393699, -0.6579381927290326, 191975, 13546620, 140213860329), (1635979573, -51624.918494, 11.250467117577074, 191976, 13546640, 180000000000), (1635979633, -21059.084249, 4.5896208035945785, 191977, 13546645, 154886499100), (1635979739, -13764.847468, 3, 191977, 13546649, 191676924856), (1635979765, -771.09835, 0.16806019175368866, 191977, 13546651, 209720241125), (1635979776, -2294.107795, 0.5, 191977, 13546653, 162504555580), (1635979803, -161775.092754, 35.263618203719645, 191979, 13546655, 1545627598334), (1635979937, -30031.237662, 6.547227836810734, 191980, 13546667, 137160187063), (1635980013, -15015.670036, 3.2737472613316263, 191980, 13546673, 148592520936), (1635980020, -10996.657838, 2.3975656280475315, 191980, 13546674, 143633684597), (1635980338, -350997.877444, 76.54988724907639, 191986, 13546695, 187052050456), (1635980379, -2170.366837, 0.47347854878432677, 191986, 13546698, 182145949545), (1635980425, -11106.941439, 2.4230725849356953, 191986, 13546703, 174551017622), (1635981049, 1659.78472, -0.3599294829736306, 191986, 13546754, 166464382388), (1635981223, -8566.944901, 1.8689763491912534, 191987, 13546768, 130466787903), (1635981470, -549797.051689, 120, 191996, 13546787, 138107206581), (1635981682, 13641.305383, -2.9608616458990906, 191995, 13546805, 138833586376), (1635982431, -31335.063131, 6.842405784755507, 191996, 13546865, 147554443429), (1635982518, -13246.06501, 2.8925520800380506, 191996, 13546877, 130858569226), (1635982738, 123086.963491, -26.715128193138217, 191994, 13546892, 180501552332), (1635983917, 612370.2, -132.82973304532112, 191984, 13546971, 200200000000), (1635984072, -316.549519, 0.06904193279358509, 191984, 13546978, 223329240998), (1635985160, -4763.939087, 1.0390568521725347, 191984, 13547043, 195808646582), (1635986150, -12422.933376, 2.7095891990207486, 191984, 13547117, 157565581791), (1635986288, -3897.030061, 0.85, 191984, 13547126, 157000000000), (1635986354, 5314.363611, -1.1522285002604538, 191985, 13547133, 159207934011), (1635986354, -17179.203966, 3.7471043809500646, 191985, 13547133, 175228631027), (1635986354, -5064.996425, 1.1047807292303506, 191985, 13547133, 159207934011), (1635986367, -500843.812217, 109.29023882224215, 191993, 13547134, 379050737552), (1635986367, -133098.654589, 29.05901877629629, 191995, 13547134, 355771677981), (1635986367, -15089.678178, 3.2948876954148463, 191995, 13547134, 202000000000), (1635986471, -27319.803528, 5.965591101441514, 191996, 13547139, 316259142466), (1635986489, -423506.15092, 92.51189352063024, 192003, 13547140, 172756940121), (1635986503, -6232.436806, 1.3619122874793825, 192003, 13547143, 131945274239), (1635986571, -724820.001939, 158.4826417496605, 192015, 13547150, 128575811166), (1635986906, -715311.838902, 156.58847835199097, 192027, 13547171, 168505954824), (1635988011, -31957.107475, 7, 192027, 13547255, 129044030649), (1635988062, -2373.889689, 0.52, 192027, 13547259, 139701672042), (1635988069, 10570.821195, -2.301648198384658, 192027, 13547260, 131938919716), (1635988360, -801507.615946, 175.68289686251848, 192040, 13547280, 148978425007), (1635988456, 663.26143, -0.14460467700683524, 192040, 13547288, 202000000000), (1635988700, -2094.768123, 0.4594558106, 192040, 13547303, 159500000000), (1635988700, -30951.110685, 6.788843745356799, 192041, 13547303, 151429615507), (1635988950, -528116.425, 115.89071235748975, 192049, 13547326, 168942069000), (1635988979, -33964.380729, 7.456639056779273, 192050, 13547329, 123776707702), (1635989321, 155208.281085, -33.867385960846335, 192047, 13547352, 139588726964), (1635989353, 6542.656923, -1.4274586916362477, 192047, 13547356, 124446378925), (1635989732, 50088.399251, -10.927642136166975, 192046, 13547383, 130186703208), (1635991642, -12624.470503, 2.770759875945106, 192047, 13547502, 142299987083), (1635991941, 1001.745154, -0.21854326196265397, 192047, 13547522, 173308276424), (1635992156, -1968.798522, 0.43210717167192764, 192047, 13547538, 152945205944), (1635993606, 1321.211353, -0.28823920059447283, 192047, 13547642, 141902701648), (1635994786, 12843.6, -2.8019636359466182, 192046, 13547718, 158547895618), (1635995119, 9047.006863, -1.973662491992661, 192046, 13547743, 135849800980), (1635995400, -1406.407607, 0.3086641265470349, 192046, 13547768, 106685634365), (1635995808, -917.972429, 0.2014676942286251, 192046, 13547798, 145927629607), (1635995894, -354035.778076, 77.72307739826243, 192052, 13547808, 109422860736), (1635995932, -361871.737519, 79.49023834415983, 192058, 13547810, 120042142204), (1635996319, -21564.629461, 4.738473184042021, 192058, 13547840, 140139252940), (1635996566, -40401.494356, 8.878018532514615, 192059, 13547855, 137813409107), (1635996604, -45106.040984, 9.9125, 192060, 13547857, 156186329500), (1635996665, -45501.273125, 10, 192060, 13547861, 170225683618), (1635996811, -47232.574954, 10.381169116332691, 192061, 13547867, 170429914276), (1635996844, 21787.571196, -4.76005048240779, 192061, 13547869, 161826454065), (1635998787, -23854.343743, 5.243008302990278, 192061, 13547999, 115640020460), (1635999145, 1611.034765, -0.3519776479631874, 192061, 13548034, 120026598104), (1635999367, -3471.540136, 0.7630317609722597, 192061, 13548052, 120133087360), (1636000531, 317835.474634, -69.42418690693657, 192056, 13548132, 169780051692), (1636000668, 4508.413423, -0.9845070348637158, 192056, 13548141, 128044441263), (1636000711, 7672.733098, -1.675485994979578, 192056, 13548144, 134377309949), (1636000719, 937465.762967, -204.55330682837112, 192041, 13548145, 819400419791), (1636000755, 353775.953244, -77.11084793142899, 192035, 13548147, 145000000000), (1636002815, 1489.827858, -0.3246352450274403, 192035, 13548299, 107361512576), (1636003973, 9519.695152, -2.074333903913497, 192034, 13548393, 105927089068), (1636004293, -3619.464274, 0.7940882729585824, 192043, 13548418, 113430706390), (1636004293, -501460.356648, 109.97124503371903, 192043, 13548418, 111612404889), (1636004293, -2800, 0.6143061065940243, 192043, 13548418, 113112404889), (1636004406, -13673.777781, 3, 192043, 13548425, 118178622971), (1636004428, -4102.072836, 0.9, 192043, 13548426, 122713573926), (1636004472, -27858.073519, 6.112258854498189, 192044, 13548427, 182213573926), (1636004592, -20000, 4.388316053556598, 192044, 13548438, 117000000000), (1636004665, -9238.82519, 2.027193423401372, 192044, 13548446, 130000000000), (1636004793, -200131.776852, 43.920769550229, 192047, 13548461, 98938080383), (1636004981, -6950.568434, 1.5256286653716025, 192048, 13548471, 116105278348), (1636005202, -668207.123877, 146.75165707600675, 192059, 13548491, 99714134397), (1636005272, 6943.619603, -1.5166541026224192, 192059, 13548499, 92866212475), (1636005287, -4550.829328, 1, 192059, 13548500, 104279508418), (1636005375, -2593.133268, 0.57, 192062, 13548506, 113300000000), (1636005375, -217308.10728, 47.75933357334043, 192062, 13548506, 131381565399), (1636005428, -705973.020067, 155.25806838602796, 192072, 13548510, 111077624015), (1636005680, -4951.219807, 1.0894192810399177, 192072, 13548528, 112000000000), (1636005692, -89668.593116, 19.731135024512856, 192073, 13548529, 124458842260), (1636005767, -54528.750596, 12, 192074, 13548533, 113744038835), (1636005847, -246027.704356, 54.15410801341137, 192077, 13548537, 129795970234), (1636005867, -4115.008424, 0.9059295710446098, 192077, 13548538, 147877041370), (1636008574, 66590.048696, -14.5651692198257, 192072, 13548729, 119704198532), (1636008574, 310399.829481, -67.91134638606725, 192073, 13548729, 118604198532), (1636008875, 208423.877529, -45.57955082050134, 192069, 13548752, 112992120617), (1636008970, 1000, -0.2186547341702764, 192069, 13548756, 127778607661), (1636008985, 51497.900404, -11.25984590755443, 192068, 13548757, 123382277918), (1636009069, 76504.1084, -16.725871951324155, 192067, 13548762, 127814241975), (1636009195, 406778.537362, -88.90273825036864, 192062, 13548773, 116283814515), (1636009250, -5663.306413, 1.2448440064511879, 192062, 13548774, 129462743095), (1636009397, 265533.933317, -58.00615021971655, 192058, 13548782, 143656182108), (1636009397, 6355.271506, -1.3880206699317283, 192058, 13548782, 142729416375), (1636009412, 5571.941516, -1.2169257663956665, 192058, 13548783, 134797866430), (1636009425, 1023549.719872, -223.35553471300102, 192041, 13548784, 127406922135), (1636009761, 399.98517, -0.08720949280178968, 192041, 13548807, 134000000000), (1636009782, -1593571.555935, 350, 192066, 13548809, 100632433137), (1636009866, 1470, -0.32131745798365985, 192066, 13548814, 125390245091), (1636009999, 119051.226553, -26.02041551089128, 192064, 13548819, 120681370422), (1636011892, -86.222075, 0.0189571195667731, 192064, 13548960, 125059097454), (1636011906, -230099.384711, 50.59871815311974, 192067, 13548961, 121134889351), (1636011945, -349353.294112, 76.85384380670362, 192072, 13548967, 99370246780), (1636012126, -489068.468894, 107.6531759535491, 192079, 13548978, 124188403220), (1636012196, -311255.551905, 68.55191760032072, 192084, 13548983, 114484780744), (1636012228, -445039.149678, 98.06919646231032, 192090, 13548987, 104858579948), (1636012228, -22682.565446, 5, 192090, 13548987, 106469812862), (1636012393, -169972.307537, 37.47270936, 192093, 13548998, 112589357392), (1636012544, -745354.43472, 164.42982558181586, 192103, 13549011, 92367280976), (1636012750, -437080.305632, 96.50323140518118, 192109, 13549019, 134942129985), (1636013032, -5000, 1.1042980930407884, 192109, 13549034, 133285883493), (1636013032, -1750, 0.38650617681957644, 192109, 13549034, 133285883493), (1636013084, -5591.005066, 1.2348395468867202, 192110, 13549038, 135856450102), (1636013133, -26129.541693, 5.771147507203223, 192110, 13549041, 128000000000), (1636013730, -40311.691783, 8.903931406603071, 192111, 13549089, 94012649891), (1636014286, -9043.427729, 1.9975561966379216, 192111, 13549130, 107636559574), (1636014327, -7159.192464, 1.5813752825655538, 192111, 13549134, 117998808843), (1636014520, 17179.7815, -3.772035750517906, 192111, 13549152, 130000000000), (1636015197, -488908.556594, 108.02900062057188, 192117, 13549199, 97274402860), (1636015197, -10090.199838, 2.2303125, 192118, 13549199, 97072402859), (1636015362, -225708.487483, 49.89835350675434, 192121, 13549211, 120000000000), (1636015595, -484113.785098, 107.0786522650218, 192128, 13549229, 111225823217), (1636015916, -2178.213725, 0.481952915410943, 192128, 13549254, 129423559068), (1636015976, -894211.624976, 197.9787691734738, 192140, 13549256, 128422772629), (1636016359, -250548.169357, 55.5162, 192144, 13549296, 130155935695), (1636016415, -557, 0.12344131280590824, 192144, 13549301, 95077990747), (1636016417, -6199.057483, 1.3738302279103245, 192144, 13549302, 99733465860), (1636016439, -350506.396359, 77.7561, 192156, 13549306, 116309895676), (1636016439, -525831.939926, 116.57816485532123, 192151, 13549306, 140307393871), (1636016607, -69264.589517, 15.370157447757824, 192157, 13549322, 86384296031), (1636016676, -106035.322394, 23.550624957483357, 192166, 13549328, 96744597533), (1636016676, -540539.48059, 120, 192165, 13549328, 95244597532), (1636016693, -2138.496746, 0.475, 192166, 13549329, 108649276924), (1636016744, -189256.503201, 42.043074751902594, 192169, 13549333, 90457370177), (1636016766, -148513.791185, 33, 192171, 13549334, 103255540186), (1636016797, -498462.511181, 110.80974249012725, 192178, 13549340, 83415079016), (1636016818, -350394.973769, 77.964, 192186, 13549341, 141111342369), (1636016818, -219930.311108, 48.91592370292258, 192181, 13549341, 93828303283), (1636016838, -181378.304982, 40.37205133508802, 192189, 13549345, 84939565405), (1636016838, -1426.559068, 0.3175703751177542, 192189, 13549345, 86439565405), (1636017046, 61535.800061, -13.61602827344488, 192188, 13549361, 104000000000), (1636017416, 483338.44523, -106.90826152532603, 192181, 13549384, 110482647062), (1636017460, 442500.233735, -97.81271074958069, 192175, 13549388, 101079506708), (1636017510, 2500, -0.5524411145080166, 192175, 13549392, 113300000000), (1636017590, 11377.202095, -2.5140691331204854, 192175, 13549399, 100872007807), (1636017810, -12586.301994, 2.7980144678642063, 192175, 13549415, 110857421031), (1636018740, -3585.657516, 0.7971234321034462, 192175, 13549472, 101141609201), (1636018906, -3637.271313, 0.8086017789977954, 192175, 13549489, 87745308291), (1636019021, 13503.509312, -2.983959561134598, 192175, 13549498, 102102126801), (1636019846, 6425.431583, -1.4190962844719917, 192169, 13549549, 119620593941), (1636019846, 375497.974028, -82.95344623713977, 192169, 13549549, 117970593941), (1636019883, 2000, -0.44170973219790305, 192169, 13549551, 136000000000), (1636020009, -2591.372629, 0.5757669170236837, 192169, 13549560, 119300139480);
 update swap_record set pair = '0x8ad599c3A0ff1De082011EFDDc58f1908eb6e6D8';
+
+-- the bundled rows carry no on-chain log index, number them by insertion order inside each block. ingested and
+-- backfilled rows use the real log index, a backfill replaces whole block ranges so it never duplicates these
+CREATE INDEX `idx_swap_record_pair_block` ON `swap_record` (`pair`, `block_number`, `id`);
+update swap_record s set log_index = (select count(*) from swap_record t where t.pair = s.pair and t.block_number = s.block_number and t.id < s.id);
+DROP INDEX `idx_swap_record_pair_block`;
+CREATE UNIQUE INDEX `uk_swap_record_pair_block_log` ON `swap_record` (`pair`, `block_number`, `log_index`);
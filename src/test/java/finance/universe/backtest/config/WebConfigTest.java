@@ -0,0 +1,114 @@
+package finance.universe.backtest.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.util.StreamUtils;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * the frontend bundle as the build leaves it on the classpath: every text asset of 1 KB or more has its .br and .gz
+ * variant, they are served by Accept-Encoding, and Cache-Control follows asset-manifest.json
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@SpringBootTest(properties = {
+        "backtest.warmup.enabled=false",
+        "backtest.reports.enabled=false"
+})
+@AutoConfigureMockMvc
+class WebConfigTest {
+
+    private static final List<String> TEXT_TYPES = Arrays.asList("js", "css", "html", "json", "svg", "txt", "map", "ico", "otf");
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void buildWritesCompressedVariants() throws Exception {
+        Path root = Paths.get(new ClassPathResource("static").getURL().toURI());
+        List<Path> assets;
+        try (Stream<Path> walk = Files.walk(root)) {
+            assets = walk.filter(Files::isRegularFile).filter(WebConfigTest::isText).collect(Collectors.toList());
+        }
+        assertFalse(assets.isEmpty());
+        for (Path asset : assets) {
+            if (Files.size(asset) >= 1024) {
+                assertTrue(Files.exists(Paths.get(asset + ".br")), "no .br for " + root.relativize(asset));
+                assertTrue(Files.exists(Paths.get(asset + ".gz")), "no .gz for " + root.relativize(asset));
+            }
+        }
+    }
+
+    @Test
+    void hashedAssetIsServedEncodedAndImmutable() throws Exception {
+        String path = mainScript();
+        byte[] identity = StreamUtils.copyToByteArray(new ClassPathResource("static" + path).getInputStream());
+        for (String[] encoding : new String[][]{{"br", ".br"}, {"gzip", ".gz"}}) {
+            MvcResult result = mockMvc.perform(get(path).header(HttpHeaders.ACCEPT_ENCODING, encoding[0]))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, encoding[0]))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                    .andReturn();
+            byte[] encoded = StreamUtils.copyToByteArray(new ClassPathResource("static" + path + encoding[1]).getInputStream());
+            assertArrayEquals(encoded, result.getResponse().getContentAsByteArray());
+            assertTrue(encoded.length < identity.length);
+        }
+        MvcResult result = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        assertArrayEquals(identity, result.getResponse().getContentAsByteArray());
+    }
+
+    @Test
+    void indexIsRevalidatedAndOtherFilesExpire() throws Exception {
+        mockMvc.perform(get("/index.html").header(HttpHeaders.ACCEPT_ENCODING, "br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        // not in the manifest, and too small to be compressed
+        mockMvc.perform(get("/manifest.json").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=3600"));
+    }
+
+    private String mainScript() throws Exception {
+        try (InputStream in = new ClassPathResource("static/asset-manifest.json").getInputStream()) {
+            JsonNode files = objectMapper.readTree(in).path("files");
+            String path = files.path("main.js").asText();
+            assertFalse(path.isEmpty(), "main.js missing from asset-manifest.json");
+            return path;
+        }
+    }
+
+    private static boolean isText(Path file) {
+        String name = file.getFileName().toString();
+        return TEXT_TYPES.contains(name.substring(name.lastIndexOf('.') + 1));
+    }
+}
@@ -0,0 +1,90 @@
+package finance.universe.backtest.series;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tick ranges of every run of candles against a plain scan, through the sparse table and past its growth, and
+ * candles published only once they have a tick
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class CandleSeriesTest {
+
+    private static final long HOUR = 3600;
+    // past the initial capacity of 64, so the table is grown and gets another level on the way
+    private static final int CANDLES = 150;
+
+    @Test
+    void tickRangeMatchesAScan() {
+        Random random = new Random(7);
+        CandleSeries indexed = new CandleSeries(HOUR, true);
+        CandleSeries plain = new CandleSeries(HOUR, false);
+        for (int i = 0; i < CANDLES; i++) {
+            // an empty hour now and then, candles only exist for buckets with swaps
+            long bucket = (i + i / 10) * HOUR;
+            int blocks = 1 + random.nextInt(4);
+            int[] ticks = new int[blocks];
+            for (int b = 0; b < blocks; b++) {
+                ticks[b] = 195_000 + random.nextInt(2001) - 1000;
+            }
+            for (CandleSeries candles : new CandleSeries[]{indexed, plain}) {
+                assertTrue(candles.openIfNew(bucket));
+                for (int tick : ticks) {
+                    candles.addSwap(1, 1);
+                    candles.addTick(tick);
+                }
+            }
+        }
+        assertEquals(CANDLES, indexed.size());
+        for (int from = 0; from <= CANDLES; from++) {
+            for (int to = from; to <= CANDLES; to++) {
+                int[] expected = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+                for (int i = from; i < to; i++) {
+                    expected[0] = Math.min(expected[0], indexed.low(i));
+                    expected[1] = Math.max(expected[1], indexed.high(i));
+                }
+                int[] range = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+                indexed.tickRange(from, to, range);
+                assertArrayEquals(expected, range, "candles " + from + "-" + to);
+                int[] scanned = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+                plain.tickRange(from, to, scanned);
+                assertArrayEquals(expected, scanned, "plain candles " + from + "-" + to);
+            }
+        }
+        // the range given in is only ever widened
+        int[] range = {0, 0};
+        indexed.tickRange(3, 40, range);
+        assertEquals(0, range[0]);
+        assertTrue(range[1] > 195_000 - 1000);
+    }
+
+    @Test
+    void candleIsPublishedWithItsFirstTick() {
+        CandleSeries candles = new CandleSeries(HOUR, true);
+        assertTrue(candles.openIfNew(0));
+        candles.addSwap(1, 2);
+        assertEquals(0, candles.size());
+        candles.addTick(100);
+        assertEquals(1, candles.size());
+        assertFalse(candles.openIfNew(0));
+
+        // a new bucket stays hidden until its first block closes, the published one keeps its ticks
+        assertTrue(candles.openIfNew(HOUR));
+        candles.addSwap(1, 2);
+        assertEquals(1, candles.size());
+        assertEquals(100, candles.low(0));
+        assertEquals(100, candles.high(0));
+        candles.addTick(120);
+        assertEquals(2, candles.size());
+        assertEquals(120, candles.open(1));
+        assertEquals(120, candles.low(1));
+        assertEquals(120, candles.high(1));
+        assertEquals(120, candles.close(1));
+        assertEquals(1, candles.lowerBound(1));
+    }
+}
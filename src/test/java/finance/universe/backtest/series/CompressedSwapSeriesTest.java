@@ -0,0 +1,145 @@
+package finance.universe.backtest.series;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * rows encoded into blocks and decoded again: negative deltas of every delta coded field, signed and 128 bit amounts,
+ * trailing zeros, and seeks and searches around the block boundaries
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class CompressedSwapSeriesTest {
+
+    private static final String PAIR = "0x8ad599c3a0ff1de082011efddc58f1908eb6e6d8";
+    private static final int BLOCK = CompressedSwapSeries.BLOCK_ROWS;
+    // two sealed blocks and a part of the open one
+    private static final int ROWS = 2 * BLOCK + 37;
+
+    @Test
+    void roundTrip() {
+        CompressedSwapSeries series = filled();
+        assertEquals(ROWS, series.size());
+        SwapCursor cursor = series.cursor();
+        int i = 0;
+        while (cursor.next()) {
+            assertRow(i, cursor);
+            i++;
+        }
+        assertEquals(ROWS, i);
+    }
+
+    @Test
+    void seekAcrossBlockBoundaries() {
+        CompressedSwapSeries series = filled();
+        for (int target : new int[]{0, 1, BLOCK - 1, BLOCK, BLOCK + 1, 2 * BLOCK - 1, 2 * BLOCK, ROWS - 1}) {
+            SwapCursor cursor = series.cursor();
+            cursor.seek(target);
+            assertTrue(cursor.next());
+            assertEquals(target, cursor.index());
+            assertRow(target, cursor);
+        }
+        SwapCursor cursor = series.cursor();
+        cursor.seek(ROWS);
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void searchAcrossBlockBoundaries() {
+        CompressedSwapSeries series = filled();
+        for (int i : new int[]{0, BLOCK - 1, BLOCK, 2 * BLOCK, ROWS - 1}) {
+            // ts and blocks repeat, the bounds are the first and one past the last equal row
+            int first = i, last = i;
+            while (first > 0 && ts(first - 1) == ts(i)) {
+                first--;
+            }
+            while (last + 1 < ROWS && ts(last + 1) == ts(i)) {
+                last++;
+            }
+            assertEquals(first, series.lowerBoundTs(ts(i)));
+            assertEquals(last + 1, series.upperBoundTs(ts(i)));
+            int firstOfBlock = i;
+            while (firstOfBlock > 0 && block(firstOfBlock - 1) == block(i)) {
+                firstOfBlock--;
+            }
+            assertEquals(firstOfBlock, series.lowerBoundBlock(block(i)));
+        }
+        assertEquals(0, series.lowerBoundTs(Long.MIN_VALUE));
+        assertEquals(ROWS, series.upperBoundTs(Long.MAX_VALUE));
+        assertEquals(ROWS, series.lowerBoundBlock(Long.MAX_VALUE));
+    }
+
+    @Test
+    void memoryBytesCountsTheAllocatedOpenBlock() {
+        CompressedSwapSeries series = new CompressedSwapSeries(PAIR, 6, 18);
+        assertEquals(0, series.memoryBytes());
+        append(series, 0);
+        // one row in an open block allocated for BLOCK rows of 8 bytes, plus its index entry
+        assertEquals(BLOCK * 8L + 16, series.memoryBytes());
+    }
+
+    private static CompressedSwapSeries filled() {
+        CompressedSwapSeries series = new CompressedSwapSeries(PAIR, 6, 18);
+        for (int i = 0; i < ROWS; i++) {
+            append(series, i);
+        }
+        return series;
+    }
+
+    private static void append(CompressedSwapSeries series, int i) {
+        series.append(ts(i), block(i), tick(i), amount0(i), amount1(i), gasPrice(i));
+    }
+
+    private static void assertRow(int i, SwapCursor cursor) {
+        assertEquals(ts(i), cursor.ts(), "ts of row " + i);
+        assertEquals(block(i), cursor.blockNumber(), "block of row " + i);
+        assertEquals(tick(i), cursor.tick(), "tick of row " + i);
+        assertEquals(gasPrice(i), cursor.gasPrice(), "gasPrice of row " + i);
+        assertEquals(0, amount0(i).compareTo(cursor.amount0()), "amount0 of row " + i);
+        assertEquals(0, amount1(i).compareTo(cursor.amount1()), "amount1 of row " + i);
+    }
+
+    private static long ts(int i) {
+        // gaps of 0, 13 and 40 seconds, so the delta of delta goes negative
+        return 1_630_000_000L + (i / 3) * 53L + (i % 3 == 2 ? 13 : 0);
+    }
+
+    private static long block(int i) {
+        // several swaps in one block, then jumps of varying length
+        return 13_000_000L + (i / 3) * 4L + (i % 3 == 2 ? 1 : 0);
+    }
+
+    private static int tick(int i) {
+        // up and down, across zero
+        return (int) ((i * 7919L) % 2001) - 1000;
+    }
+
+    private static long gasPrice(int i) {
+        // whole gwei have nine trailing zeros, others none
+        return i % 4 == 0 ? (i + 1) * 1_000_000_000L : 100_000_000_001L + i;
+    }
+
+    private static BigDecimal amount0(int i) {
+        if (i % 11 == 0) {
+            return BigDecimal.ZERO.setScale(6);
+        }
+        return BigDecimal.valueOf((i % 2 == 0 ? -1L : 1L) * (i % 5 == 0 ? 2_000_000_000L * i : 1_234_567L + i), 6);
+    }
+
+    private static BigDecimal amount1(int i) {
+        // beyond 64 bits every 3rd row, with trailing zeros every 4th
+        BigInteger unscaled = BigInteger.valueOf(987_654_321_987_654_321L + i);
+        if (i % 3 == 0) {
+            unscaled = unscaled.shiftLeft(50);
+        }
+        if (i % 4 == 0) {
+            unscaled = unscaled.multiply(BigInteger.valueOf(1000));
+        }
+        return new BigDecimal(i % 2 == 0 ? unscaled.negate() : unscaled, 18);
+    }
+}
@@ -0,0 +1,158 @@
+package finance.universe.backtest.series;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * rows written to direct and mapped segments read back field by field, across segment growth and the boundary of
+ * two segments, and the mapped files against the 64 byte record layout
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class OffHeapSwapSeriesTest {
+
+    private static final String PAIR = "0x8ad599c3a0ff1de082011efddc58f1908eb6e6d8";
+    // two full segments and a few rows of a third
+    private static final int ROWS = 2 * OffHeapSwapSeries.SEGMENT_RECORDS + 100;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void directRoundTrip() {
+        OffHeapSwapSeries series = new OffHeapSwapSeries(PAIR, 6, 18);
+        fill(series, ROWS);
+        assertRows(series, ROWS);
+        // the third segment holds only its first MIN_SEGMENT_RECORDS
+        long expected = (2L * OffHeapSwapSeries.SEGMENT_RECORDS + OffHeapSwapSeries.MIN_SEGMENT_RECORDS) * OffHeapSwapSeries.RECORD_BYTES;
+        assertEquals(expected, series.memoryBytes());
+    }
+
+    @Test
+    void mappedRoundTripMatchesTheRecordLayout() throws Exception {
+        OffHeapSwapSeries series = new OffHeapSwapSeries(PAIR, 6, 18, dir, 10);
+        // a cursor taken before the first segment grows still reads its rows
+        fill(series, 5);
+        SwapCursor early = series.cursor();
+        fill(series, 5, ROWS);
+        assertRows(series, ROWS);
+        int seen = 0;
+        while (early.next()) {
+            assertEquals(ts(seen), early.ts());
+            seen++;
+        }
+        assertEquals(5, seen);
+
+        List<Path> files = files();
+        assertEquals(3, files.size());
+        ByteBuffer first = ByteBuffer.wrap(Files.readAllBytes(files.get(0))).order(ByteOrder.nativeOrder());
+        assertEquals((long) OffHeapSwapSeries.SEGMENT_RECORDS * OffHeapSwapSeries.RECORD_BYTES, first.capacity());
+        for (int i : new int[]{0, 1, 7, OffHeapSwapSeries.SEGMENT_RECORDS - 1}) {
+            int off = i * OffHeapSwapSeries.RECORD_BYTES;
+            assertEquals(ts(i), first.getLong(off));
+            assertEquals(block(i), first.getLong(off + 8));
+            assertEquals(tick(i), first.getInt(off + 16));
+            assertEquals(gasPrice(i), first.getLong(off + 24));
+            BigInteger amount0 = Int128.unscaled(amount0(i), 6);
+            assertEquals(Int128.hi(amount0), first.getLong(off + 32));
+            assertEquals(Int128.lo(amount0), first.getLong(off + 40));
+            BigInteger amount1 = Int128.unscaled(amount1(i), 18);
+            assertEquals(Int128.hi(amount1), first.getLong(off + 48));
+            assertEquals(Int128.lo(amount1), first.getLong(off + 56));
+        }
+        // sized for the rows, not a whole segment
+        assertEquals((long) OffHeapSwapSeries.MIN_SEGMENT_RECORDS * OffHeapSwapSeries.RECORD_BYTES, Files.size(files.get(2)));
+
+        series.close();
+        assertTrue(files().isEmpty());
+    }
+
+    @Test
+    void searchesAcrossSegments() {
+        OffHeapSwapSeries series = new OffHeapSwapSeries(PAIR, 6, 18);
+        fill(series, ROWS);
+        int boundary = OffHeapSwapSeries.SEGMENT_RECORDS;
+        assertEquals(boundary, series.lowerBoundTs(ts(boundary)));
+        assertEquals(boundary + 1, series.upperBoundTs(ts(boundary)));
+        assertEquals(boundary, series.lowerBoundBlock(block(boundary)));
+        assertEquals(0, series.lowerBoundTs(Long.MIN_VALUE));
+        assertEquals(ROWS, series.upperBoundTs(Long.MAX_VALUE));
+    }
+
+    private List<Path> files() throws Exception {
+        try (Stream<Path> walk = Files.list(dir)) {
+            return walk.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void fill(OffHeapSwapSeries series, int rows) {
+        fill(series, 0, rows);
+    }
+
+    private static void fill(OffHeapSwapSeries series, int from, int to) {
+        for (int i = from; i < to; i++) {
+            series.append(ts(i), block(i), tick(i), amount0(i), amount1(i), gasPrice(i));
+        }
+    }
+
+    private static void assertRows(OffHeapSwapSeries series, int rows) {
+        assertEquals(rows, series.size());
+        SwapCursor cursor = series.cursor();
+        int i = 0;
+        while (cursor.next()) {
+            assertEquals(i, cursor.index());
+            assertEquals(ts(i), cursor.ts());
+            assertEquals(block(i), cursor.blockNumber());
+            assertEquals(tick(i), cursor.tick());
+            assertEquals(gasPrice(i), cursor.gasPrice());
+            assertEquals(0, amount0(i).compareTo(cursor.amount0()), "amount0 of row " + i);
+            assertEquals(0, amount1(i).compareTo(cursor.amount1()), "amount1 of row " + i);
+            i++;
+        }
+        assertEquals(rows, i);
+    }
+
+    private static long ts(int i) {
+        return 1_630_000_000L + i * 13L;
+    }
+
+    private static long block(int i) {
+        // two swaps per block
+        return 13_000_000L + i / 2;
+    }
+
+    private static int tick(int i) {
+        return (i % 3 == 0 ? -1 : 1) * (195_000 + i % 887);
+    }
+
+    private static long gasPrice(int i) {
+        return 100_000_000_000L + i;
+    }
+
+    private static BigDecimal amount0(int i) {
+        // usdc, signs alternate
+        return BigDecimal.valueOf((i % 2 == 0 ? -1L : 1L) * (1_500_000L + i), 6);
+    }
+
+    private static BigDecimal amount1(int i) {
+        // weth, beyond 64 bits every 5th row
+        BigInteger unscaled = BigInteger.valueOf(250_000_000_000_000_000L + i);
+        if (i % 5 == 0) {
+            unscaled = unscaled.shiftLeft(40);
+        }
+        return new BigDecimal(i % 2 == 0 ? unscaled : unscaled.negate(), 18);
+    }
+}
@@ -0,0 +1,294 @@
+package finance.universe.backtest.series;
+
+import finance.universe.backtest.entity.HourKline;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.util.PoolContext;
+import finance.universe.backtest.vo.SegmentStats;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * gas percentiles and candles of a segmented series, built per month, against the same indexes over one whole series;
+ * and the cache keeping the months with their tables under the budget, pinned months included. the swaps cover
+ * august, september and november 2021 with hours and days without swaps in between
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class SegmentCacheTest {
+
+    private static final String PAIR = "0x8ad599c3a0ff1de082011efddc58f1908eb6e6d8";
+    private static final long HOUR = 3600;
+    private static final long AUGUST = 1627776000L;
+    private static final long OCTOBER = 1633046400L;
+    private static final long NOVEMBER = 1635724800L;
+    private static final long DECEMBER = 1638316800L;
+
+    private final OffHeapSwapSeries whole = new OffHeapSwapSeries(PAIR, 6, 18);
+    private int loads;
+
+    SegmentCacheTest() {
+        Random random = new Random(3);
+        long block = 13_000_000;
+        int tick = 195_000;
+        for (long ts = AUGUST + 17; ts < DECEMBER; ts += 60 + random.nextInt(600), block++) {
+            // a quiet hour now and then
+            if (random.nextInt(40) == 0) {
+                ts += HOUR * (1 + random.nextInt(3));
+            }
+            if (ts >= DECEMBER) {
+                break;
+            }
+            if (ts >= OCTOBER && ts < NOVEMBER) {
+                continue;
+            }
+            int swaps = 1 + random.nextInt(3);
+            for (int i = 0; i < swaps; i++) {
+                tick += random.nextInt(41) - 20;
+                BigDecimal amount0 = new BigDecimal(100 + random.nextInt(10000));
+                whole.append(ts, block, tick, amount0.negate(), amount0.movePointLeft(3), (20 + random.nextInt(200)) * 1_000_000_000L);
+            }
+        }
+    }
+
+    @Test
+    void monthlyIndexesAgreeWithTheWholeSeries() {
+        SegmentCache cache = cache(Long.MAX_VALUE);
+        SegmentedSwapSeries segmented = segmented(cache);
+        assertEquals(3, segmented.segments().size());
+        GasIndex wholeGas = new GasIndex(PAIR, whole);
+        GasIndex monthlyGas = new GasIndex(PAIR, segmented);
+        for (long ts = AUGUST - 2 * HOUR; ts < DECEMBER + 3 * HOUR; ts += HOUR / 2) {
+            assertEquals(wholeGas.percentile(ts, 50), monthlyGas.percentile(ts, 50), "p50 at " + ts);
+            assertEquals(wholeGas.percentile(ts, 90), monthlyGas.percentile(ts, 90), "p90 at " + ts);
+        }
+
+        Rollups wholeRollups = new Rollups(PoolContext.of(pool()), whole);
+        Rollups monthlyRollups = new Rollups(PoolContext.of(pool()), segmented);
+        assertEquals(whole.size(), monthlyRollups.rows());
+        for (String resolution : new String[]{"1m", "1h", "1d"}) {
+            CandleSeries expected = wholeRollups.get(resolution, Long.MIN_VALUE, Long.MAX_VALUE).iterator().next();
+            int i = 0;
+            for (CandleSeries candles : monthlyRollups.get(resolution, Long.MIN_VALUE, Long.MAX_VALUE)) {
+                for (int j = 0; j < candles.size(); j++, i++) {
+                    String at = resolution + " candle " + i;
+                    assertEquals(expected.ts(i), candles.ts(j), at);
+                    assertEquals(expected.open(i), candles.open(j), at);
+                    assertEquals(expected.high(i), candles.high(j), at);
+                    assertEquals(expected.low(i), candles.low(j), at);
+                    assertEquals(expected.close(i), candles.close(j), at);
+                    assertEquals(expected.count(i), candles.count(j), at);
+                    assertEquals(expected.volume0(i), candles.volume0(j), at);
+                    assertEquals(expected.medianGas(i), candles.medianGas(j), at);
+                }
+            }
+            assertEquals(expected.size(), i, resolution);
+        }
+
+        Random random = new Random(5);
+        for (int n = 0; n < 300; n++) {
+            long fromTs = AUGUST + (long) (random.nextDouble() * (DECEMBER - AUGUST));
+            long toTs = fromTs + (long) (random.nextDouble() * (n % 3 == 0 ? 90 * 86400 : 3 * HOUR));
+            assertArrayEquals(wholeRollups.closeTickRange(fromTs, toTs), monthlyRollups.closeTickRange(fromTs, toTs), fromTs + "-" + toTs);
+        }
+        // a window spanning the month without swaps only
+        assertNull(monthlyRollups.closeTickRange(OCTOBER, NOVEMBER - 1));
+    }
+
+    @Test
+    void tablesAreCountedAndEvictedWithTheirMonth() {
+        long monthBytes = builtMonthBytes();
+        // room for two built months, not three
+        long budget = monthBytes * 5 / 2;
+        SegmentCache cache = cache(budget);
+        SegmentedSwapSeries segmented = segmented(cache);
+        GasIndex gasIndex = new GasIndex(PAIR, segmented);
+        Rollups rollups = new Rollups(PoolContext.of(pool()), segmented);
+        List<SwapSegment> segments = segmented.segments();
+        for (SwapSegment segment : segments) {
+            build(gasIndex, rollups, segment);
+            SegmentStats stats = stats(cache);
+            assertTrue(stats.getResidentBytes() <= budget, "resident " + stats.getResidentBytes() + " of " + budget);
+            assertTrue(stats.getTableBytes() > 0);
+            assertEquals(residentBytes(segments), stats.getResidentBytes());
+        }
+        SwapSegment august = segments.get(0);
+        assertNull(august.resident);
+        assertNull(august.gasIndex.get());
+        assertNull(august.rollups.get());
+        assertEquals(1, stats(cache).getEvictions());
+        for (SwapSegment segment : segments.subList(1, 3)) {
+            assertNotNull(segment.gasIndex.get());
+            assertNotNull(segment.rollups.get());
+        }
+
+        // a lookup in august loads it again and rebuilds only its tables, september goes
+        int before = loads;
+        assertNotNull(rollups.closeTickRange(AUGUST, AUGUST + 86400));
+        assertEquals(before + 1, loads);
+        assertNotNull(august.rollups.get());
+        assertNull(august.gasIndex.get());
+        assertNull(segments.get(1).resident);
+        assertEquals(residentBytes(segments), stats(cache).getResidentBytes());
+    }
+
+    @Test
+    void pinnedMonthKeepsItsTables() {
+        long monthBytes = builtMonthBytes();
+        // room for one built month and a half
+        SegmentCache cache = cache(monthBytes * 3 / 2);
+        SegmentedSwapSeries segmented = segmented(cache);
+        GasIndex gasIndex = new GasIndex(PAIR, segmented);
+        Rollups rollups = new Rollups(PoolContext.of(pool()), segmented);
+        List<SwapSegment> segments = segmented.segments();
+        SwapSegment august = segments.get(0);
+        List<SwapSegment> pinned = Collections.singletonList(august);
+        cache.pin(pinned);
+        build(gasIndex, rollups, august);
+        AppendableSwapSeries rows = august.resident;
+        GasIndex.Table gas = august.gasIndex.get();
+        Rollups.Table candles = august.rollups.get();
+
+        build(gasIndex, rollups, segments.get(1));
+        build(gasIndex, rollups, segments.get(2));
+        // the least recently used month stays, september makes room for november
+        assertSame(rows, august.resident);
+        assertSame(gas, august.gasIndex.get());
+        assertSame(candles, august.rollups.get());
+        assertNull(segments.get(1).resident);
+        assertNull(segments.get(1).rollups.get());
+        assertEquals(1, stats(cache).getPinnedSegments());
+        assertEquals(residentBytes(segments), stats(cache).getResidentBytes());
+
+        // released and over the budget, it goes first
+        cache.unpin(pinned);
+        assertNull(august.resident);
+        assertNull(august.gasIndex.get());
+        assertNull(august.rollups.get());
+        assertNotNull(segments.get(2).rollups.get());
+        assertTrue(stats(cache).getResidentBytes() <= monthBytes * 3 / 2);
+    }
+
+    /**
+     * the largest month with its rows, gas percentiles and candles
+     */
+    private long builtMonthBytes() {
+        SegmentCache cache = cache(Long.MAX_VALUE);
+        SegmentedSwapSeries segmented = segmented(cache);
+        GasIndex gasIndex = new GasIndex(PAIR, segmented);
+        Rollups rollups = new Rollups(PoolContext.of(pool()), segmented);
+        long bytes = 0;
+        for (SwapSegment segment : segmented.segments()) {
+            build(gasIndex, rollups, segment);
+            assertTrue(segment.tableBytes() > 0);
+            bytes = Math.max(bytes, segment.bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * a gas lookup and a tick range inside the month, so both tables are built from its rows
+     */
+    private static void build(GasIndex gasIndex, Rollups rollups, SwapSegment segment) {
+        gasIndex.percentile(segment.lastTs, 50);
+        rollups.closeTickRange(segment.monthStart, segment.monthEnd - 1);
+    }
+
+    private static long residentBytes(List<SwapSegment> segments) {
+        long bytes = 0;
+        for (SwapSegment segment : segments) {
+            if (segment.resident != null) {
+                bytes += segment.memoryBytes(segment.resident);
+            }
+        }
+        return bytes;
+    }
+
+    private static SegmentStats stats(SegmentCache cache) {
+        SegmentStats stats = new SegmentStats();
+        cache.fill(stats);
+        return stats;
+    }
+
+    /**
+     * the months of the whole series, cataloged like SwapSeriesStore does
+     */
+    private SegmentedSwapSeries segmented(SegmentCache cache) {
+        SegmentedSwapSeries series = new SegmentedSwapSeries(PAIR, 6, 18, cache);
+        SwapCursor cursor = whole.cursor();
+        SwapFingerprint fingerprint = null;
+        long month = -1;
+        int rows = 0;
+        long firstTs = 0, lastTs = 0, firstBlock = 0, lastBlock = 0;
+        while (cursor.next()) {
+            long monthStart = SwapSegment.monthStart(cursor.ts());
+            if (monthStart != month) {
+                if (month >= 0) {
+                    series.addSegment(month, rows, firstTs, lastTs, firstBlock, lastBlock, fingerprint);
+                }
+                month = monthStart;
+                rows = 0;
+                firstTs = cursor.ts();
+                firstBlock = cursor.blockNumber();
+                fingerprint = new SwapFingerprint();
+            }
+            rows++;
+            lastTs = cursor.ts();
+            lastBlock = cursor.blockNumber();
+            fingerprint.add(cursor.ts(), cursor.blockNumber(), cursor.tick(), cursor.amount0(), cursor.amount1(), cursor.gasPrice());
+        }
+        series.addSegment(month, rows, firstTs, lastTs, firstBlock, lastBlock, fingerprint);
+        return series;
+    }
+
+    private SegmentCache cache(long budget) {
+        return new SegmentCache(budget, new SegmentCache.Loader() {
+            @Override
+            public AppendableSwapSeries create(SwapSegment segment) {
+                return new OffHeapSwapSeries(PAIR, 6, 18, null, segment.rows);
+            }
+
+            @Override
+            public AppendableSwapSeries load(SwapSegment segment) {
+                loads++;
+                AppendableSwapSeries rows = create(segment);
+                SwapCursor cursor = whole.cursor();
+                cursor.seek(whole.lowerBoundBlock(segment.firstBlock));
+                while (cursor.next() && cursor.blockNumber() <= segment.lastBlock) {
+                    rows.append(cursor.ts(), cursor.blockNumber(), cursor.tick(), cursor.amount0(), cursor.amount1(), cursor.gasPrice());
+                }
+                return rows;
+            }
+
+            @Override
+            public void unloaded(SwapSegment segment, AppendableSwapSeries rows, Path mapDir, boolean dropped) {
+            }
+
+            @Override
+            public List<HourKline> load(KlineMonth month) {
+                return new ArrayList<>();
+            }
+        });
+    }
+
+    private static Pool pool() {
+        Pool pool = new Pool();
+        pool.setPair(PAIR);
+        pool.setToken0("USDC");
+        pool.setToken1("WETH");
+        pool.setDecimal0(6);
+        pool.setDecimal1(18);
+        pool.setReverse(1);
+        pool.setTickSpacing(60);
+        pool.setSwapFee(new BigDecimal("0.000500"));
+        return pool;
+    }
+}
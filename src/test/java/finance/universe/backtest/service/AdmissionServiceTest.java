@@ -0,0 +1,139 @@
+package finance.universe.backtest.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * admission over a 10 MB budget for 4 requests at a time: waiting requests are admitted in arrival order, a small
+ * one never overtakes a large one ahead of it, and a request above the whole budget is rejected at once
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class AdmissionServiceTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private AdmissionService service;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        service = new AdmissionService();
+        ReflectionTestUtils.setField(service, "budgetMb", 10L);
+        ReflectionTestUtils.setField(service, "maxConcurrent", 4);
+        ReflectionTestUtils.setField(service, "perClient", 4);
+        ReflectionTestUtils.setField(service, "maxQueue", 4);
+        ReflectionTestUtils.setField(service, "maxWaitMs", 10_000L);
+        service.init();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void smallRequestWaitsBehindALargeOne() throws Exception {
+        AdmissionService.Permit first = service.acquire("a", 6 * MB);
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> large = executor.submit(() -> run("large", 6 * MB, order, release));
+        awaitQueueDepth(1);
+        Future<?> small = executor.submit(() -> run("small", MB, order, release));
+        awaitQueueDepth(2);
+
+        // the small one would fit next to the first, but the large one came earlier
+        Thread.sleep(200);
+        assertTrue(order.isEmpty());
+        assertEquals(1, service.getStats().getRunning());
+
+        first.close();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (order.size() < 2) {
+            assertTrue(System.currentTimeMillis() < deadline, "admitted " + order);
+            Thread.sleep(5);
+        }
+        // both fit the budget together, the head admitted the next one on its way in. they record themselves
+        // after admission, so the order of the list is up to the threads
+        assertTrue(order.containsAll(Arrays.asList("large", "small")));
+        assertEquals(2, service.getStats().getRunning());
+        release.countDown();
+        large.get(5, TimeUnit.SECONDS);
+        small.get(5, TimeUnit.SECONDS);
+        assertEquals(0, service.getStats().getRunning());
+    }
+
+    @Test
+    void waitersAreAdmittedInArrivalOrder() throws Exception {
+        ReflectionTestUtils.setField(service, "maxConcurrent", 1);
+        AdmissionService.Permit first = service.acquire("a", MB);
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(0);
+        Future<?>[] waiters = new Future<?>[4];
+        for (int i = 0; i < waiters.length; i++) {
+            String name = "w" + i;
+            waiters[i] = executor.submit(() -> run(name, MB, order, release));
+            awaitQueueDepth(i + 1);
+        }
+        first.close();
+        for (Future<?> waiter : waiters) {
+            waiter.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(Arrays.asList("w0", "w1", "w2", "w3"), order);
+    }
+
+    @Test
+    void requestAboveTheBudgetIsRejectedAtOnce() {
+        AdmissionService.TooLargeException e = assertThrows(AdmissionService.TooLargeException.class, () -> service.acquire("a", 11 * MB));
+        assertEquals(0, e.getRetryAfterSeconds());
+        assertEquals(1, service.getStats().getRejectedTooLarge());
+        assertEquals(0, service.getStats().getQueueDepth());
+    }
+
+    @Test
+    void fullQueueAndTimeoutAreRejected() throws Exception {
+        ReflectionTestUtils.setField(service, "maxQueue", 1);
+        ReflectionTestUtils.setField(service, "maxWaitMs", 100L);
+        AdmissionService.Permit first = service.acquire("a", 10 * MB);
+        CountDownLatch release = new CountDownLatch(0);
+        Future<?> waiter = executor.submit(() -> run("w", MB, new CopyOnWriteArrayList<>(), release));
+        awaitQueueDepth(1);
+        assertThrows(AdmissionService.RejectedException.class, () -> service.acquire("b", MB));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof AdmissionService.RejectedException);
+        assertEquals(1, service.getStats().getRejectedQueueFull());
+        assertEquals(1, service.getStats().getRejectedTimeout());
+        first.close();
+        // nothing left queued, a request that fits is admitted at once
+        service.acquire("b", MB).close();
+    }
+
+    private Void run(String name, long cost, List<String> order, CountDownLatch release) throws Exception {
+        AdmissionService.Permit permit = service.acquire(name, cost);
+        try {
+            order.add(name);
+            release.await();
+        } finally {
+            permit.close();
+        }
+        return null;
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (service.getStats().getQueueDepth() < depth) {
+            assertTrue(System.currentTimeMillis() < deadline, "queue depth " + service.getStats().getQueueDepth());
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package finance.universe.backtest.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.entity.SwapRecord;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.vo.BackfillParams;
+import finance.universe.backtest.vo.BackfillResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * backfill against a stub JSON-RPC node: eth_getLogs over more than MAX_SPAN blocks is refused as too large,
+ * the first eth_getLogs from FLAKY_BLOCK and the first block batch holding the swap block after it fail once.
+ * with brokenFrom set every eth_getLogs starting there fails
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class BackfillServiceTest {
+
+    private static final String PAIR = "0x8ad599c3a0ff1de082011efddc58f1908eb6e6d8";
+    private static final long FROM = 1000;
+    private static final long TO = 1399;
+    private static final long MAX_SPAN = 150;
+    private static final long FLAKY_BLOCK = 1200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // swap blocks of the pool, every one with two swaps at block-wide log indexes 2 * (block % 7) and + 3
+    private final TreeSet<Long> swapBlocks = new TreeSet<>();
+    private final List<long[]> logRanges = new CopyOnWriteArrayList<>();
+    private final Map<Long, Integer> getLogsCalls = new ConcurrentHashMap<>();
+    private final AtomicBoolean logsFailed = new AtomicBoolean();
+    private final AtomicBoolean blocksFailed = new AtomicBoolean();
+    private final List<Object[]> written = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long brokenFrom = Long.MAX_VALUE;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private BackfillService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (long block = FROM; block <= TO; block += 3) {
+            swapBlocks.add(block);
+        }
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            byte[] response;
+            try (InputStream in = exchange.getRequestBody()) {
+                response = objectMapper.writeValueAsBytes(answer(objectMapper.readTree(in)));
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        Pool pool = new Pool();
+        pool.setPair(PAIR);
+        pool.setDecimal0(6);
+        pool.setDecimal1(18);
+        PoolRepository poolRepository = mock(PoolRepository.class);
+        when(poolRepository.findById(PAIR)).thenReturn(Optional.of(pool));
+        IngestService ingestService = mock(IngestService.class);
+        doAnswer(it -> written.add(new Object[]{it.getArgument(1), it.getArgument(2), new ArrayList<>(it.<List<SwapRecord>>getArgument(3))}))
+                .when(ingestService).replaceSwaps(any(), anyLong(), anyLong(), anyList());
+
+        service = new BackfillService();
+        service.poolRepository = poolRepository;
+        service.ingestService = ingestService;
+        ReflectionTestUtils.setField(service, "rpcUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(service, "maxInFlight", 2);
+        ReflectionTestUtils.setField(service, "chunkBlocks", 200);
+        ReflectionTestUtils.setField(service, "maxChunkBlocks", 400);
+        ReflectionTestUtils.setField(service, "targetLogs", 2000);
+        ReflectionTestUtils.setField(service, "blockBatchSize", 10);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "backoffMs", 1L);
+        ReflectionTestUtils.setField(service, "keepJobs", 4);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void backfillSplitsRetriesAndWritesInOrder() throws Exception {
+        BackfillParams params = new BackfillParams();
+        params.setPair(PAIR);
+        params.setFromBlock(FROM);
+        params.setToBlock(TO);
+        BackfillResult result = await(service.submit(params).getId());
+        assertEquals(BackfillService.STATUS_DONE, result.getStatus());
+        assertEquals(TO, result.getWrittenTo());
+
+        // every refused range was split until the node answered
+        assertTrue(result.getSplits() > 0);
+        for (long[] range : logRanges) {
+            assertTrue(range[1] - range[0] + 1 <= MAX_SPAN, "answered range " + range[0] + "-" + range[1]);
+        }
+        // one failed eth_getLogs and one failed block batch, each retried once
+        assertEquals(2, result.getRetries());
+        assertTrue(blocksFailed.get());
+        assertTrue(getLogsCalls.get(FLAKY_BLOCK) >= 2);
+
+        // block ranges handed over in order, without gaps, covering the whole range
+        long next = FROM;
+        for (Object[] write : written) {
+            assertEquals(next, (long) (Long) write[0]);
+            next = (Long) write[1] + 1;
+        }
+        assertEquals(TO + 1, next);
+
+        List<SwapRecord> records = new ArrayList<>();
+        written.forEach(it -> records.addAll(castRecords(it[2])));
+        assertEquals(swapBlocks.size() * 2, records.size());
+        assertEquals(records.size(), result.getRows());
+        Iterator<Long> blocks = swapBlocks.iterator();
+        for (int i = 0; i < records.size(); i += 2) {
+            long block = blocks.next();
+            for (int j = 0; j < 2; j++) {
+                SwapRecord record = records.get(i + j);
+                assertEquals(block, record.getBlockNumber().longValue());
+                // the on-chain log index, not an ordinal within the pool
+                assertEquals(logIndex(block, j), record.getLogIndex().intValue());
+                assertEquals(timestamp(block), record.getTs().longValue());
+                assertEquals(new BigDecimal(gasPrice(block, j)), record.getGasPrice());
+                assertEquals(tick(block, j), record.getTick().longValue());
+                assertEquals(0, new BigDecimal("-1.5").compareTo(record.getAmount0()));
+                assertEquals(0, new BigDecimal("0.25").compareTo(record.getAmount1()));
+            }
+        }
+    }
+
+    @Test
+    void failedChunkFailsTheJobAndCancelsTheOthers() throws Exception {
+        brokenFrom = FLAKY_BLOCK;
+        // long enough for the chunks behind the failed one to still be waiting for a retry
+        ReflectionTestUtils.setField(service, "backoffMs", 100L);
+        BackfillParams params = new BackfillParams();
+        params.setPair(PAIR);
+        params.setFromBlock(FROM);
+        params.setToBlock(TO);
+        BackfillResult result = await(service.submit(params).getId());
+
+        assertEquals(BackfillService.STATUS_FAILED, result.getStatus());
+        assertTrue(result.getError().startsWith("backfill chunk failed"), result.getError());
+        // what was written before the failure stays, in order and below the broken range
+        long next = FROM;
+        for (Object[] write : written) {
+            assertEquals(next, (long) (Long) write[0]);
+            next = (Long) write[1] + 1;
+        }
+        assertTrue(next <= FLAKY_BLOCK);
+        assertEquals(written.isEmpty() ? 0 : next - 1, result.getWrittenTo());
+        // the cancelled chunks never retry
+        int sent = requests.get();
+        Thread.sleep(1000);
+        assertEquals(sent, requests.get());
+    }
+
+    @Test
+    void unknownJob() {
+        assertThrows(IllegalArgumentException.class, () -> service.status("none"));
+    }
+
+    private BackfillResult await(String id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        BackfillResult result = service.status(id);
+        while (!BackfillService.STATUS_DONE.equals(result.getStatus()) && !BackfillService.STATUS_FAILED.equals(result.getStatus())) {
+            assertTrue(System.currentTimeMillis() < deadline, "backfill still " + result.getStatus());
+            Thread.sleep(10);
+            result = service.status(id);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<SwapRecord> castRecords(Object records) {
+        return (List<SwapRecord>) records;
+    }
+
+    private JsonNode answer(JsonNode request) {
+        if (request.isArray()) {
+            ArrayNode responses = objectMapper.createArrayNode();
+            boolean fail = false;
+            for (JsonNode it : request) {
+                long number = Long.decode(it.get("params").get(0).asText());
+                fail |= number == FLAKY_BLOCK + 1 && blocksFailed.compareAndSet(false, true);
+            }
+            for (JsonNode it : request) {
+                responses.add(fail ? error(it, -32000, "header not found") : result(it, block(Long.decode(it.get("params").get(0).asText()))));
+            }
+            return responses;
+        }
+        String method = request.get("method").asText();
+        if ("eth_getLogs".equals(method)) {
+            JsonNode filter = request.get("params").get(0);
+            long from = Long.decode(filter.get("fromBlock").asText());
+            long to = Long.decode(filter.get("toBlock").asText());
+            getLogsCalls.merge(from, 1, Integer::sum);
+            if (from == FLAKY_BLOCK && logsFailed.compareAndSet(false, true)) {
+                return error(request, -32000, "upstream timeout");
+            }
+            if (from >= brokenFrom) {
+                return error(request, -32000, "upstream timeout");
+            }
+            if (to - from + 1 > MAX_SPAN) {
+                return error(request, -32005, "query returned more than 10000 results");
+            }
+            logRanges.add(new long[]{from, to});
+            ArrayNode logs = objectMapper.createArrayNode();
+            // the node lists them out of order, the service sorts by block and log index
+            for (long block : swapBlocks.subSet(from, true, to, true).descendingSet()) {
+                for (int j = 1; j >= 0; j--) {
+                    logs.add(log(block, j));
+                }
+            }
+            return result(request, logs);
+        }
+        return error(request, -32601, "method not found: " + method);
+    }
+
+    private ObjectNode log(long block, int j) {
+        ObjectNode log = objectMapper.createObjectNode();
+        log.put("removed", false);
+        log.put("logIndex", hex(logIndex(block, j)));
+        log.put("transactionIndex", hex(j));
+        log.put("transactionHash", txHash(block, j));
+        log.put("blockHash", "0x" + String.format("%064x", block));
+        log.put("blockNumber", hex(block));
+        log.put("address", PAIR);
+        // amount0, amount1, sqrtPriceX96, liquidity, tick
+        log.put("data", "0x" + word(BigInteger.valueOf(-1_500_000)) + word(BigInteger.valueOf(250_000_000_000_000_000L)) + word(BigInteger.ONE)
+                + word(BigInteger.ONE) + word(BigInteger.valueOf(tick(block, j))));
+        log.putArray("topics").add(BackfillService.SWAP_TOPIC);
+        return log;
+    }
+
+    private ObjectNode block(long number) {
+        ObjectNode block = objectMapper.createObjectNode();
+        block.put("number", hex(number));
+        block.put("hash", "0x" + String.format("%064x", number));
+        block.put("timestamp", hex(timestamp(number)));
+        ArrayNode transactions = block.putArray("transactions");
+        for (int j = 0; j < 2; j++) {
+            ObjectNode tx = transactions.addObject();
+            tx.put("hash", txHash(number, j));
+            tx.put("blockNumber", hex(number));
+            tx.put("gasPrice", hex(gasPrice(number, j)));
+        }
+        return block;
+    }
+
+    private ObjectNode result(JsonNode request, JsonNode result) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", request.get("id"));
+        response.set("result", result);
+        return response;
+    }
+
+    private ObjectNode error(JsonNode request, int code, String message) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", request.get("id"));
+        response.putObject("error").put("code", code).put("message", message);
+        return response;
+    }
+
+    private static int logIndex(long block, int j) {
+        return (int) (block % 7) * 2 + j * 3;
+    }
+
+    private static long timestamp(long block) {
+        return 1_630_000_000L + block * 13;
+    }
+
+    private static long gasPrice(long block, int j) {
+        return 100_000_000_000L + block * 10 + j;
+    }
+
+    private static long tick(long block, int j) {
+        return 195_000 - block % 50 + j;
+    }
+
+    private static String txHash(long block, int j) {
+        return "0x" + String.format("%060x%04x", block, j);
+    }
+
+    private static String hex(long value) {
+        return "0x" + Long.toHexString(value);
+    }
+
+    private static String word(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] padded = new byte[32];
+        Arrays.fill(padded, value.signum() < 0 ? (byte) 0xff : 0);
+        System.arraycopy(bytes, 0, padded, 32 - bytes.length, bytes.length);
+        StringBuilder sb = new StringBuilder();
+        for (byte b : padded) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
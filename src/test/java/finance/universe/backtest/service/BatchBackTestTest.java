@@ -0,0 +1,162 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.HourKline;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.series.OffHeapSwapSeries;
+import finance.universe.backtest.vo.BackTestTickParams;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * a batched pass over a small grid of thresholds against a FastBackTest of every point on its own, over three days of
+ * a random walk that leaves the narrow ranges and stays inside the wide ones. rates and aprs have to agree within the
+ * error_bound of the single run, the rest of the metrics exactly
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class BatchBackTestTest {
+
+    private static final String PAIR = "0x0000000000000000000000000000000000000001";
+    private static final long START_TS = 1630454400L;
+    private static final long HOUR = 3600;
+    private static final int DAYS = 3;
+    private static final int START_TICK = 195_000;
+    private static final long[] BOUNDARY_THRESHOLDS = {60, 180, 300, 600, 1200, 3000};
+    private static final long[] REBALANCE_THRESHOLDS = {30, 120, 600};
+    private static final String[] BOUNDED = {"realRate", "cuRate"};
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchAgreesWithSingleRunsWithinTheErrorBound() throws Exception {
+        Pool pool = pool();
+        int[] ticks = walk();
+        int excursion = 0;
+        for (int tick : ticks) {
+            excursion = Math.max(excursion, Math.abs(tick - START_TICK));
+        }
+        // the walk has to leave some ranges and not others, or the grid compares one case only
+        assertTrue(excursion > BOUNDARY_THRESHOLDS[0] && excursion < BOUNDARY_THRESHOLDS[BOUNDARY_THRESHOLDS.length - 1], "excursion " + excursion);
+        OffHeapSwapSeries series = series(ticks);
+        List<HourKline> klines = klines();
+
+        List<BackTestTickParams> grid = new ArrayList<>();
+        for (long boundaryThreshold : BOUNDARY_THRESHOLDS) {
+            for (long reBalanceThreshold : REBALANCE_THRESHOLDS) {
+                grid.add(params(boundaryThreshold, reBalanceThreshold));
+            }
+        }
+        grid.forEach(it -> assertTrue(SweepService.isBatchable(it)));
+        List<Map<String, Object>> batched = new BatchBackTest(pool, grid).run(series, 0, series.size(), klines, DAYS);
+        assertEquals(grid.size(), batched.size());
+
+        for (int j = 0; j < grid.size(); j++) {
+            BackTestTickParams params = grid.get(j);
+            String point = params.getBoundaryThreshold() + "/" + params.getReBalanceThreshold();
+            Map<String, Object> single = new FastBackTest(pool, params, (gasPrice, ts) -> true, null)
+                    .run(series, 0, series.size(), klines, DAYS, "test");
+            Map<String, Object> batch = batched.get(j);
+
+            Map<String, Object> singleGlobal = (Map<String, Object>) single.get("global_info");
+            Map<String, Object> batchGlobal = (Map<String, Object>) batch.get("global_info");
+            Map<String, Object> errorBound = (Map<String, Object>) single.get("error_bound");
+            List<String> singleRate = (List<String>) singleGlobal.get("rate");
+            List<String> batchRate = (List<String>) batchGlobal.get("rate");
+            List<String> singleApr = (List<String>) singleGlobal.get("apr");
+            List<String> batchApr = (List<String>) batchGlobal.get("apr");
+            for (int i = 0; i < BOUNDED.length; i++) {
+                String name = BOUNDED[i];
+                double rateBound = Double.parseDouble((String) errorBound.get(name));
+                double aprBound = Double.parseDouble((String) errorBound.get(name.replace("Rate", "Apr")));
+                assertEquals(Double.parseDouble(singleRate.get(i)), Double.parseDouble(batchRate.get(i)), rateBound, name + " " + point);
+                assertEquals(Double.parseDouble(singleApr.get(i)), Double.parseDouble(batchApr.get(i)), aprBound, name + " apr " + point);
+            }
+            // hold-only returns do not depend on the strategy
+            assertEquals(singleRate.subList(2, 4), batchRate.subList(2, 4), point);
+            assertEquals(singleApr.subList(2, 4), batchApr.subList(2, 4), point);
+            assertEquals(singleGlobal.get("reBalanceTime"), batchGlobal.get("reBalanceTime"), point);
+            assertEquals(singleGlobal.get("commission"), batchGlobal.get("commission"), point);
+            assertEquals(single.get("market_info"), batch.get("market_info"), point);
+            assertEquals(single.get("risk_info"), batch.get("risk_info"), point);
+            assertEquals(single.get("base_info"), batch.get("base_info"), point);
+            assertFalse(batch.containsKey("trade_info"));
+        }
+    }
+
+    private static Pool pool() {
+        Pool pool = new Pool();
+        pool.setPair(PAIR);
+        pool.setToken0("USDC");
+        pool.setToken1("WETH");
+        pool.setDecimal0(6);
+        pool.setDecimal1(18);
+        pool.setReverse(1);
+        pool.setTickSpacing(60);
+        pool.setSwapFee(new BigDecimal("0.000500"));
+        return pool;
+    }
+
+    /**
+     * the tick of a swap a minute, walking away from START_TICK
+     */
+    private static int[] walk() {
+        Random random = new Random(11);
+        int[] ticks = new int[(int) (DAYS * 24 * HOUR / 60)];
+        int tick = START_TICK;
+        for (int i = 0; i < ticks.length; i++) {
+            tick += random.nextInt(21) - 10;
+            ticks[i] = tick;
+        }
+        return ticks;
+    }
+
+    private static OffHeapSwapSeries series(int[] ticks) {
+        OffHeapSwapSeries series = new OffHeapSwapSeries(PAIR, 6, 18);
+        Random random = new Random(13);
+        for (int i = 0; i < ticks.length; i++) {
+            long ts = START_TS + i * 60L;
+            long block = 13_000_000 + i;
+            int tick = ticks[i];
+            BigDecimal amount0 = new BigDecimal(100 + random.nextInt(5000));
+            BigDecimal amount1 = amount0.divide(new BigDecimal(3000), 18, BigDecimal.ROUND_DOWN);
+            if (random.nextBoolean()) {
+                series.append(ts, block, tick, amount0.negate(), amount1, 50_000_000_000L);
+            } else {
+                series.append(ts, block, tick, amount0, amount1.negate(), 50_000_000_000L);
+            }
+        }
+        return series;
+    }
+
+    private static List<HourKline> klines() {
+        List<HourKline> klines = new ArrayList<>();
+        for (long ts = START_TS; ts < START_TS + DAYS * 24 * HOUR; ts += HOUR) {
+            HourKline kline = new HourKline();
+            kline.setPair(PAIR);
+            kline.setTs(ts);
+            kline.setLiquidity(new BigDecimal("20000000000000000000"));
+            klines.add(kline);
+        }
+        return klines;
+    }
+
+    private static BackTestTickParams params(long boundaryThreshold, long reBalanceThreshold) {
+        BackTestTickParams params = new BackTestTickParams();
+        params.setPair(PAIR);
+        params.setStartTs(START_TS);
+        params.setEndTs(START_TS + DAYS * 24 * HOUR - 1);
+        params.setAmount0(new BigDecimal(10000));
+        params.setAmount1(new BigDecimal(3));
+        params.setBoundaryThreshold(boundaryThreshold);
+        params.setReBalanceThreshold(reBalanceThreshold);
+        params.setMode(BackTestService.MODE_FAST);
+        return params;
+    }
+}
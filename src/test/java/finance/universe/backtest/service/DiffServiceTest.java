@@ -0,0 +1,68 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.DiffResult;
+import finance.universe.backtest.vo.Rebalance;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * the fast engine against the exact one over the bundled pool, within the default tolerances
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "backtest.warmup.enabled=false",
+        "backtest.reports.enabled=false"
+})
+class DiffServiceTest {
+
+    private static final String PAIR = "0x8ad599c3A0ff1De082011EFDDc58f1908eb6e6D8";
+
+    @Autowired
+    DiffService diffService;
+
+    @Test
+    void fastMatchesExact() throws Exception {
+        assertIdentical(params());
+    }
+
+    @Test
+    void fastMatchesExactWithRebalanceAndGasGate() throws Exception {
+        BackTestTickParams params = params();
+        Rebalance rebalance = new Rebalance();
+        rebalance.setBlock(13180923L);
+        rebalance.setLower(194400);
+        rebalance.setUpper(195600);
+        params.setRebalance(Collections.singletonList(rebalance));
+        params.setGasPercentile(90);
+        params.setDeferRebalance(true);
+        assertIdentical(params);
+    }
+
+    private static BackTestTickParams params() {
+        BackTestTickParams params = new BackTestTickParams();
+        params.setPair(PAIR);
+        params.setBoundaryThreshold(600L);
+        params.setReBalanceThreshold(300L);
+        params.setStartTs(1630425600L);
+        params.setEndTs(1631800000L);
+        params.setAmount0(new BigDecimal(10000));
+        params.setAmount1(new BigDecimal(3));
+        return params;
+    }
+
+    private void assertIdentical(BackTestTickParams params) throws Exception {
+        DiffResult result = diffService.diff(params, BackTestService.MODE_FAST, null, null);
+        assertTrue(result.getTradeEvents() > 0);
+        assertTrue(result.getImPoints() > 0);
+        assertTrue(result.isIdentical(), () -> result.getDiverged() + " diverged, first: " + result.getFirstDivergence());
+    }
+}
@@ -0,0 +1,137 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.HourKline;
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.series.GasIndex;
+import finance.universe.backtest.series.OffHeapSwapSeries;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.LadderPosition;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * the gas gate of a ladder over a synthetic pool: the first hour pays 100 gwei, in the second the tick leaves the
+ * position's rebalance threshold on a 300 gwei block and stays there on a 50 gwei block after it. a third hour only
+ * gives the volatility a second return
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class FastBackTestTest {
+
+    private static final String PAIR = "0x0000000000000000000000000000000000000001";
+    private static final long HOUR0 = 1630454400L;
+    private static final long HOUR1 = HOUR0 + 3600;
+    private static final long HOUR2 = HOUR1 + 3600;
+    private static final long GWEI = 1_000_000_000L;
+    private static final long EXPENSIVE_BLOCK = 1011;
+    private static final long CHEAP_BLOCK = 1012;
+
+    @Test
+    void thresholdRebalanceWaitsForABlockUnderThePercentile() throws Exception {
+        List<List<Object>> removes = removes(run(50));
+        assertEquals(1, removes.size());
+        // the expensive block is skipped, the rebalance happens on the cheap one
+        assertEquals(String.valueOf(ts(CHEAP_BLOCK)), removes.get(0).get(0));
+    }
+
+    @Test
+    void thresholdRebalanceHappensAtOnceUnderTheGweiCap() throws Exception {
+        // without a percentile the 400 gwei cap lets the expensive block through
+        List<List<Object>> removes = removes(run(null));
+        assertEquals(1, removes.size());
+        assertEquals(String.valueOf(ts(EXPENSIVE_BLOCK)), removes.get(0).get(0));
+    }
+
+    private static Map<String, Object> run(Integer gasPercentile) throws Exception {
+        Pool pool = new Pool();
+        pool.setPair(PAIR);
+        pool.setToken0("USDC");
+        pool.setToken1("WETH");
+        pool.setDecimal0(6);
+        pool.setDecimal1(18);
+        pool.setReverse(1);
+        pool.setTickSpacing(60);
+        pool.setSwapFee(new BigDecimal("0.000500"));
+
+        OffHeapSwapSeries series = new OffHeapSwapSeries(PAIR, 6, 18);
+        // hour 0: ten blocks at 100 gwei around the start tick
+        for (long block = 1000; block < 1010; block++) {
+            swap(series, block, 195_000, 100);
+        }
+        // hour 1: in range, then 600 ticks up at 300 gwei and at 50 gwei
+        swap(series, 1010, 195_000, 100);
+        swap(series, EXPENSIVE_BLOCK, 195_600, 300);
+        swap(series, CHEAP_BLOCK, 195_600, 50);
+        // hour 2, so there are two hourly returns for the volatility
+        swap(series, 1013, 195_700, 50);
+
+        BackTestService backTestService = new BackTestService();
+        backTestService.swapSeriesStore = mock(SwapSeriesStore.class);
+        GasIndex gasIndex = new GasIndex(PAIR, series);
+        when(backTestService.swapSeriesStore.getGasIndex(pool)).thenReturn(gasIndex);
+        ReflectionTestUtils.setField(backTestService, "maxGasGwei", BigInteger.valueOf(400));
+
+        LadderPosition position = new LadderPosition();
+        position.setBoundaryThreshold(300L);
+        position.setReBalanceThreshold(500L);
+        BackTestTickParams params = new BackTestTickParams();
+        params.setPair(PAIR);
+        params.setStartTs(HOUR0);
+        params.setEndTs(HOUR2 + 3599);
+        params.setAmount0(new BigDecimal(10000));
+        params.setAmount1(new BigDecimal(3));
+        params.setPositions(Collections.singletonList(position));
+        params.setGasPercentile(gasPercentile);
+        params.setMode(BackTestService.MODE_FAST);
+
+        FastBackTest backTest = new FastBackTest(pool, params, backTestService.gasGate(pool, params), null);
+        return backTest.run(series, 0, series.size(), Arrays.asList(kline(HOUR0), kline(HOUR1), kline(HOUR2)), 1, "test");
+    }
+
+    /**
+     * remove rows of the rebalances, without the one closing the position after the last block
+     */
+    @SuppressWarnings("unchecked")
+    private static List<List<Object>> removes(Map<String, Object> result) {
+        List<List<Object>> removes = new ArrayList<>();
+        for (List<Object> row : (List<List<Object>>) result.get("trade_info")) {
+            if (row.contains("remove")) {
+                removes.add(row);
+            }
+        }
+        return removes.subList(0, removes.size() - 1);
+    }
+
+    private static void swap(OffHeapSwapSeries series, long block, int tick, long gwei) {
+        series.append(ts(block), block, tick, new BigDecimal("-100.5"), new BigDecimal("0.03"), gwei * GWEI);
+    }
+
+    private static long ts(long block) {
+        // hour 0 holds blocks 1000 to 1009, hour 1 blocks 1010 to 1012, hour 2 block 1013
+        if (block < 1010) {
+            return HOUR0 + (block - 1000) * 300;
+        }
+        return block < 1013 ? HOUR1 + (block - 1010) * 13 : HOUR2;
+    }
+
+    private static HourKline kline(long ts) {
+        HourKline kline = new HourKline();
+        kline.setPair(PAIR);
+        kline.setTs(ts);
+        kline.setLiquidity(new BigDecimal("20000000000000000000"));
+        return kline;
+    }
+}
@@ -0,0 +1,112 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.vo.IngestParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * a swap file of three chunks on one worker, where writing the second chunk fails: the first stays committed and the
+ * loaded series is told about it, the third is never written
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class IngestServiceTest {
+
+    private static final String PAIR = "0x8ad599c3a0ff1de082011efddc58f1908eb6e6d8";
+    private static final long FAILING_BLOCK = 300;
+
+    @TempDir
+    Path dir;
+
+    private final List<Long> writtenBlocks = new CopyOnWriteArrayList<>();
+    private Pool pool;
+    private IngestService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = new Pool();
+        pool.setPair(PAIR);
+        PoolRepository poolRepository = mock(PoolRepository.class);
+        when(poolRepository.findById(PAIR)).thenReturn(Optional.of(pool));
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), ArgumentMatchers.<Object[]>anyList())).thenAnswer(it -> {
+            List<Object[]> rows = it.getArgument(1);
+            // block_number follows pair and ts
+            if ((Long) rows.get(0)[2] == FAILING_BLOCK) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            rows.forEach(row -> writtenBlocks.add((Long) row[2]));
+            return new int[rows.size()];
+        });
+
+        service = new IngestService();
+        service.poolRepository = poolRepository;
+        service.jdbcTemplate = jdbcTemplate;
+        service.swapSeriesStore = mock(SwapSeriesStore.class);
+        ReflectionTestUtils.setField(service, "threads", 1);
+        ReflectionTestUtils.setField(service, "chunkRows", 2);
+        ReflectionTestUtils.setField(service, "dir", dir.toString());
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void failedChunkStillRefreshesTheCommittedOnes() throws Exception {
+        Files.write(dir.resolve("swaps.csv"), Arrays.asList(
+                "ts,block_number,log_index,tick,amount0,amount1,gas_price",
+                row(500), row(501),
+                row(FAILING_BLOCK), row(FAILING_BLOCK + 1),
+                row(100), row(101)), StandardCharsets.UTF_8);
+        IngestParams params = new IngestParams();
+        params.setPair(PAIR);
+        params.setPath("swaps.csv");
+
+        Exception e = assertThrows(Exception.class, () -> service.ingestSwaps(params));
+        assertTrue(e.getMessage().startsWith("ingest chunk failed"));
+        assertTrue(e.getCause() instanceof DataIntegrityViolationException);
+        // the chunk after the failed one is left out, the one before it is reloaded from its lowest block
+        assertEquals(Arrays.asList(500L, 501L), writtenBlocks);
+        verify(service.swapSeriesStore).onSwapsWritten(pool, 500L);
+    }
+
+    @Test
+    void nothingCommittedNothingRefreshed() throws Exception {
+        Files.write(dir.resolve("swaps.csv"), Arrays.asList(row(FAILING_BLOCK), row(FAILING_BLOCK + 1)), StandardCharsets.UTF_8);
+        IngestParams params = new IngestParams();
+        params.setPair(PAIR);
+        params.setPath("swaps.csv");
+
+        assertThrows(Exception.class, () -> service.ingestSwaps(params));
+        verify(service.swapSeriesStore, never()).onSwapsWritten(any(), anyLong());
+    }
+
+    private static String row(long block) {
+        return (1_630_000_000L + block * 13) + "," + block + ",0,195000,-1.5,0.25,100000000000";
+    }
+}
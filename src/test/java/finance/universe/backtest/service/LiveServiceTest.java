@@ -0,0 +1,136 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.entity.Pool;
+import finance.universe.backtest.repository.HourKlineRepository;
+import finance.universe.backtest.repository.PoolRepository;
+import finance.universe.backtest.series.OffHeapSwapSeries;
+import finance.universe.backtest.series.SwapSeriesStore;
+import finance.universe.backtest.vo.BackTestTickParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * the strategy limit under concurrent registrations whose catch-up runs overlap, and slots given back by failed
+ * registrations and removed strategies
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class LiveServiceTest {
+
+    private static final String PAIR = "0x8ad599c3a0ff1de082011efddc58f1908eb6e6d8";
+    private static final int MAX_STRATEGIES = 2;
+
+    private final AtomicInteger names = new AtomicInteger();
+    private LiveService service;
+    private PoolRepository poolRepository;
+
+    @BeforeEach
+    void setUp() {
+        Pool pool = new Pool();
+        pool.setPair(PAIR);
+        pool.setToken0("USDC");
+        pool.setToken1("WETH");
+        pool.setDecimal0(6);
+        pool.setDecimal1(18);
+        pool.setReverse(1);
+        pool.setTickSpacing(60);
+        pool.setSwapFee(new BigDecimal("0.000500"));
+        poolRepository = mock(PoolRepository.class);
+        when(poolRepository.findById(PAIR)).thenReturn(Optional.of(pool));
+
+        BackTestService backTestService = mock(BackTestService.class);
+        when(backTestService.nextReportName(any())).thenAnswer(it -> "live_" + names.incrementAndGet());
+        SwapSeriesStore swapSeriesStore = mock(SwapSeriesStore.class);
+        when(swapSeriesStore.getSeries(pool)).thenReturn(new OffHeapSwapSeries(PAIR, 6, 18));
+        HourKlineRepository klineRepository = mock(HourKlineRepository.class);
+        // a slow catch-up, so concurrent registrations are all in flight at once
+        when(klineRepository.findByPairAndTsGreaterThanEqualOrderByTs(eq(PAIR), anyLong())).thenAnswer(it -> {
+            Thread.sleep(100);
+            return Collections.emptyList();
+        });
+
+        service = new LiveService();
+        service.backTestService = backTestService;
+        service.poolRepository = poolRepository;
+        service.swapSeriesStore = swapSeriesStore;
+        service.klineRepository = klineRepository;
+        ReflectionTestUtils.setField(service, "maxStrategies", MAX_STRATEGIES);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void concurrentRegistrationsStayWithinTheLimit() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        service.register(params());
+                        return true;
+                    } catch (IllegalStateException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int registered = 0;
+            for (Future<Boolean> result : results) {
+                registered += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(MAX_STRATEGIES, registered);
+            assertEquals(MAX_STRATEGIES, service.list().size());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // a removed strategy frees its slot
+        service.remove(service.list().get(0).getId());
+        service.register(params());
+        assertThrows(IllegalStateException.class, () -> service.register(params()));
+    }
+
+    @Test
+    void failedRegistrationGivesItsSlotBack() throws Exception {
+        when(poolRepository.findById(PAIR)).thenReturn(Optional.empty());
+        for (int i = 0; i <= MAX_STRATEGIES; i++) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> service.register(params()));
+            assertEquals("pool miss", e.getMessage());
+        }
+        assertTrue(service.list().isEmpty());
+    }
+
+    private static BackTestTickParams params() {
+        BackTestTickParams params = new BackTestTickParams();
+        params.setPair(PAIR);
+        params.setStartTs(1_630_454_400L);
+        params.setAmount0(new BigDecimal(10000));
+        params.setAmount1(new BigDecimal(3));
+        params.setBoundaryThreshold(600L);
+        params.setReBalanceThreshold(300L);
+        return params;
+    }
+}
@@ -0,0 +1,168 @@
+package finance.universe.backtest.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.JsonResult;
+import finance.universe.backtest.vo.SweepParams;
+import finance.universe.backtest.vo.SweepResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * a distributed sweep over two embedded workers on random ports. the first worker fails the first shard it is
+ * sent once, the shard has to be retried on the other worker and the results merged into one ranking.
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class SweepServiceTest {
+
+    private static final String PAIR = "0x8ad599c3a0ff1de082011efddc58f1908eb6e6d8";
+    private static final List<Long> BOUNDARIES = Arrays.asList(100L, 200L, 400L, 800L);
+    private static final List<Long> REBALANCES = Arrays.asList(50L, 150L, 300L);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Worker> workers = new ArrayList<>();
+    private SweepService service;
+    private BackTestService backTestService;
+
+    /**
+     * answers /sweep/shard with made up metrics, realApr depends only on the thresholds
+     */
+    private final class Worker {
+        final HttpServer server;
+        final boolean flaky;
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<List<Long>> shards = new CopyOnWriteArrayList<>();
+
+        Worker(boolean flaky) throws Exception {
+            this.flaky = flaky;
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/sweep/shard", exchange -> {
+                List<BackTestTickParams> shard;
+                try (InputStream in = exchange.getRequestBody()) {
+                    shard = objectMapper.readValue(in, new TypeReference<List<BackTestTickParams>>() {
+                    });
+                }
+                // boundary * 1000 + reBalance of every point
+                List<Long> points = new ArrayList<>();
+                shard.forEach(it -> points.add(it.getBoundaryThreshold() * 1000 + it.getReBalanceThreshold()));
+                shards.add(points);
+                int status = 200;
+                JsonResult<List<SweepResult>> result;
+                if (flaky && failed.compareAndSet(false, true)) {
+                    status = 500;
+                    result = new JsonResult<>(500, "Server Error!");
+                } else {
+                    List<SweepResult> results = new ArrayList<>();
+                    shard.forEach(it -> results.add(result(it)));
+                    result = new JsonResult<>(200, null, results);
+                }
+                byte[] response = objectMapper.writeValueAsBytes(result);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, response.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            });
+            server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        workers.add(new Worker(true));
+        workers.add(new Worker(false));
+        List<String> urls = new ArrayList<>();
+        workers.forEach(it -> urls.add(it.url()));
+
+        backTestService = mock(BackTestService.class);
+        service = new SweepService();
+        service.backTestService = backTestService;
+        service.restTemplateBuilder = new RestTemplateBuilder();
+        ReflectionTestUtils.setField(service, "workers", urls);
+        ReflectionTestUtils.setField(service, "threads", 1);
+        ReflectionTestUtils.setField(service, "shardSize", 4);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "shardTimeoutMs", 5000);
+        ReflectionTestUtils.setField(service, "batch", true);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+        workers.forEach(it -> it.server.stop(0));
+    }
+
+    @Test
+    void failedShardIsRetriedOnTheOtherWorkerAndMerged() throws Exception {
+        SweepParams params = new SweepParams();
+        params.setPair(PAIR);
+        params.setStartTs(1630425600L);
+        params.setAmount0(new BigDecimal(10000));
+        params.setAmount1(new BigDecimal(3));
+        params.setBoundaryThresholds(BOUNDARIES);
+        params.setReBalanceThresholds(REBALANCES);
+        params.setMode(BackTestService.MODE_EXACT);
+        List<SweepResult> results = service.sweep(params);
+
+        // 12 points in 3 shards, shard i goes to worker i % 2 first
+        Worker flaky = workers.get(0), other = workers.get(1);
+        assertTrue(flaky.failed.get());
+        List<Long> failedShard = flaky.shards.get(0);
+        assertEquals(2, flaky.shards.size());
+        assertEquals(2, other.shards.size());
+        assertTrue(other.shards.contains(failedShard), "the failed shard was not retried on the other worker");
+        // nothing ran on the coordinator
+        verifyNoInteractions(backTestService);
+
+        // every point once, ranked by real APR
+        assertEquals(BOUNDARIES.size() * REBALANCES.size(), results.size());
+        Set<List<Long>> points = new HashSet<>();
+        for (SweepResult result : results) {
+            assertNull(result.getError());
+            assertTrue(points.add(Arrays.asList(result.getBoundaryThreshold(), result.getReBalanceThreshold())));
+        }
+        List<SweepResult> expected = new ArrayList<>();
+        for (Long boundary : BOUNDARIES) {
+            for (Long reBalance : REBALANCES) {
+                expected.add(result(SweepService.toParams(params, boundary, reBalance, BackTestService.MODE_EXACT)));
+            }
+        }
+        expected.sort(Comparator.comparing(SweepResult::getRealApr).reversed());
+        assertEquals(expected, results);
+    }
+
+    private static SweepResult result(BackTestTickParams params) {
+        // peaks at boundary 400, reBalance 150, no ties
+        long boundary = params.getBoundaryThreshold(), reBalance = params.getReBalanceThreshold();
+        SweepResult result = new SweepResult();
+        result.setBoundaryThreshold(boundary);
+        result.setReBalanceThreshold(reBalance);
+        result.setMode(params.getMode());
+        result.setRealApr(BigDecimal.valueOf(1_000_000 - Math.abs(boundary - 400) * 1000 - Math.abs(reBalance - 150) - boundary));
+        result.setReBalanceTimes((int) (10_000 / boundary));
+        return result;
+    }
+}
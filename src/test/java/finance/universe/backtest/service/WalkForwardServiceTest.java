@@ -0,0 +1,104 @@
+package finance.universe.backtest.service;
+
+import finance.universe.backtest.vo.BackTestTickParams;
+import finance.universe.backtest.vo.SweepParams;
+import finance.universe.backtest.vo.WalkForwardParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * admission cost of a walk-forward over five days, two day training and one day test windows, so three folds of
+ * which two run at once. a screening costs 100, an exact run 10 a day and a fast run 1
+ *
+ * @author universe.finance
+ * @version v1 2021/11/4.
+ */
+class WalkForwardServiceTest {
+
+    private static final long DAY = 3600 * 24;
+    private static final long START_TS = 1630454400L;
+
+    private WalkForwardService service;
+
+    @BeforeEach
+    void setUp() {
+        SweepService sweepService = mock(SweepService.class);
+        when(sweepService.estimateCost(any(SweepParams.class))).thenAnswer(it -> {
+            // verification is charged by the walk-forward itself
+            assertEquals(0, (int) it.getArgument(0, SweepParams.class).getVerifyTop());
+            return 100L;
+        });
+        AdmissionService admissionService = mock(AdmissionService.class);
+        when(admissionService.estimateCost(any(BackTestTickParams.class))).thenAnswer(it -> {
+            BackTestTickParams params = it.getArgument(0);
+            if (BackTestService.MODE_FAST.equals(params.getMode())) {
+                return 1L;
+            }
+            return 10 * (params.getEndTs() - params.getStartTs()) / DAY;
+        });
+
+        service = new WalkForwardService();
+        service.sweepService = sweepService;
+        service.admissionService = admissionService;
+        ReflectionTestUtils.setField(service, "threads", 2);
+        ReflectionTestUtils.setField(service, "maxFolds", 64);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void foldsAtOnceEachHoldTheirSweepVerificationAndTest() {
+        WalkForwardParams params = params();
+        // 100 + 3 exact training runs of 20 + an exact test run of 10
+        assertEquals(2 * 170, service.estimateCost(params));
+
+        params.setTestMode(BackTestService.MODE_FAST);
+        assertEquals(2 * 161, service.estimateCost(params));
+
+        // an exact sweep verifies nothing
+        params.setMode(BackTestService.MODE_EXACT);
+        params.setTestMode(null);
+        assertEquals(2 * 110, service.estimateCost(params));
+
+        // a single fold
+        params.setMode(null);
+        params.setEndTs(START_TS + 3 * DAY);
+        assertEquals(170, service.estimateCost(params));
+    }
+
+    @Test
+    void foldlessRangeIsRejected() {
+        WalkForwardParams params = params();
+        params.setEndTs(START_TS + 2 * DAY);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> service.estimateCost(params));
+        assertEquals("no fold fits between startTs and endTs", e.getMessage());
+    }
+
+    private static WalkForwardParams params() {
+        WalkForwardParams params = new WalkForwardParams();
+        params.setPair("0x0000000000000000000000000000000000000001");
+        params.setStartTs(START_TS);
+        params.setEndTs(START_TS + 5 * DAY);
+        params.setAmount0(new BigDecimal(10000));
+        params.setAmount1(new BigDecimal(3));
+        params.setTrainDays(2);
+        params.setTestDays(1);
+        params.setBoundaryThresholds(Arrays.asList(300L, 600L));
+        params.setReBalanceThresholds(Arrays.asList(100L, 200L));
+        params.setVerifyTop(3);
+        return params;
+    }
+}